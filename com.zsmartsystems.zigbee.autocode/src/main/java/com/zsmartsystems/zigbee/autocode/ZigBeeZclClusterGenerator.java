@@ -47,6 +47,23 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
         }
     }
 
+    private void createCommandFactory(PrintWriter out, ZigBeeXmlCluster cluster, String source, String methodName) {
+        out.println("    @Override");
+        out.println("    protected ZclCommand " + methodName + "(int commandId) {");
+        out.println("        switch (commandId) {");
+        for (final ZigBeeXmlCommand command : cluster.commands) {
+            if (command.source.equalsIgnoreCase(source)) {
+                out.println("            case 0x" + String.format("%04X", command.code) + ":");
+                out.println("                return new " + stringToUpperCamelCase(command.name) + "();");
+            }
+        }
+        out.println("            default:");
+        out.println("                return null;");
+        out.println("        }");
+        out.println("    }");
+        out.println();
+    }
+
     private void generateZclClusterClasses(ZigBeeXmlCluster cluster, String packageRootPrefix, File sourceRootPath)
             throws IOException {
 
@@ -127,8 +144,13 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
         }
         // imports.add(packageRoot + ".ZigBeeEndpoint");
         importsAdd(packageRoot + packageZcl + ".ZclAttribute");
+        importsAdd(packageRoot + packageZcl + ".ZclAttributeDefinition");
+        importsAdd("java.util.Collections");
+        importsAdd("java.util.HashMap");
         importsAdd("java.util.Map");
-        importsAdd("java.util.concurrent.ConcurrentHashMap");
+        if (!cluster.commands.isEmpty()) {
+            importsAdd("java.util.concurrent.ConcurrentHashMap");
+        }
 
         outputImports(out);
 
@@ -190,14 +212,37 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             out.println();
         }
 
+        out.println("    /**");
+        out.println("     * The shared definitions of the client attributes in this cluster");
+        out.println("     */");
+        out.println("    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = "
+                + "initializeClientAttributeDefinitions();");
+        out.println();
+        out.println("    /**");
+        out.println("     * The shared definitions of the server attributes in this cluster");
+        out.println("     */");
+        out.println("    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = "
+                + "initializeServerAttributeDefinitions();");
+        out.println();
+
+        out.println("    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {");
+        createInitializeAttributes(out, cluster.name, attributesClient);
+        out.println();
+
+        out.println("    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {");
+        createInitializeAttributes(out, cluster.name, attributesServer);
+        out.println();
+
         out.println("    @Override");
         out.println("    protected Map<Integer, ZclAttribute> initializeClientAttributes() {");
-        createInitializeAttributes(out, cluster.name, attributesClient);
+        out.println("        return createAttributeMap(clientAttributeDefinitions);");
+        out.println("    }");
         out.println();
 
         out.println("    @Override");
         out.println("    protected Map<Integer, ZclAttribute> initializeServerAttributes() {");
-        createInitializeAttributes(out, cluster.name, attributesServer);
+        out.println("        return createAttributeMap(serverAttributeDefinitions);");
+        out.println("    }");
         out.println();
 
         // TODO: Add client attributes
@@ -240,6 +285,14 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             out.println();
         }
 
+        if (commandsServer != 0) {
+            createCommandFactory(out, cluster, "server", "createServerCommand");
+        }
+
+        if (commandsClient != 0) {
+            createCommandFactory(out, cluster, "client", "createClientCommand");
+        }
+
         out.println("    /**");
         out.println("     * Default constructor to create a " + cluster.name + " cluster.");
         out.println("     *");
@@ -434,8 +487,7 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
     }
 
     private void createInitializeAttributes(PrintWriter out, String clusterName, List<ZigBeeXmlAttribute> attributes) {
-        out.println("        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(" + attributes.size()
-                + ");");
+        out.println("        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(" + attributes.size() + ");");
 
         if (attributes.size() != 0) {
             out.println();
@@ -457,12 +509,12 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             }
         }
         out.println();
-        out.println("        return attributeMap;");
+        out.println("        return Collections.unmodifiableMap(attributeMap);");
         out.println("    }");
     }
 
     private String defineAttribute(ZigBeeXmlAttribute attribute, String clusterName, String attributeName, int count) {
-        return "new ZclAttribute(this, " + getEnum(attributeName) + ", \"" + attributeName + "\", " + "ZclDataType."
+        return "new ZclAttributeDefinition(" + getEnum(attributeName) + ", \"" + attributeName + "\", " + "ZclDataType."
                 + attribute.type + ", " + !attribute.optional + ", " + true + ", " + attribute.writable + ", "
                 + attribute.reportable + ")";
     }
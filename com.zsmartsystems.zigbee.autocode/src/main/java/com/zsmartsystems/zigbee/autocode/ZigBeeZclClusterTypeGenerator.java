@@ -62,6 +62,7 @@ public class ZigBeeZclClusterTypeGenerator extends ZigBeeBaseClassGenerator {
 
         out.println("package " + packageRoot + ";");
         out.println();
+        importsAdd(packageRootPrefix + ".ZigBeeEndpoint");
         importsAdd(packageRootPrefix + packageZcl + ".ZclCluster");
         importsAdd("java.util.Map");
         importsAdd("java.util.concurrent.ConcurrentHashMap");
@@ -123,6 +124,23 @@ public class ZigBeeZclClusterTypeGenerator extends ZigBeeBaseClassGenerator {
         out.println("        return clusterClass;");
         out.println("    }");
         out.println();
+        out.println("    /**");
+        out.println("     * Creates a new instance of the cluster class for this cluster type");
+        out.println("     *");
+        out.println("     * @param endpoint the {@link ZigBeeEndpoint} the cluster is contained within");
+        out.println("     * @return the new {@link ZclCluster}");
+        out.println("     */");
+        out.println("    public ZclCluster instantiateCluster(final ZigBeeEndpoint endpoint) {");
+        out.println("        switch (clusterId) {");
+        for (final ZigBeeXmlCluster cluster : clusterEnum.values()) {
+            out.println("            case " + String.format("0x%04X", cluster.code) + ":");
+            out.println("                return new Zcl" + stringToUpperCamelCase(cluster.name) + "Cluster(endpoint);");
+        }
+        out.println("            default:");
+        out.println("                return null;");
+        out.println("        }");
+        out.println("    }");
+        out.println();
         out.println("    public static ZclClusterType getValueById(final int clusterId) {");
         out.println("        return idValueMap.get(clusterId);");
         out.println("    }");
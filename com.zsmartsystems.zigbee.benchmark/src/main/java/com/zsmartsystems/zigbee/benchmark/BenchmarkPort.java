@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark;
+
+import com.zsmartsystems.zigbee.transport.ZigBeePort;
+
+/**
+ * A {@link ZigBeePort} that discards all data written to it, and never has any data to read. This is used to
+ * benchmark the framing of data sent to a dongle without the cost of a serial port.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class BenchmarkPort implements ZigBeePort {
+    private long bytesWritten;
+
+    @Override
+    public boolean open() {
+        return true;
+    }
+
+    @Override
+    public boolean open(int baudRate) {
+        return true;
+    }
+
+    @Override
+    public boolean open(int baudRate, FlowControl flowControl) {
+        return true;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void write(int value) {
+        bytesWritten++;
+    }
+
+    @Override
+    public int read() {
+        return -1;
+    }
+
+    @Override
+    public int read(int timeout) {
+        return -1;
+    }
+
+    @Override
+    public void purgeRxBuffer() {
+    }
+
+    /**
+     * Gets the number of bytes written to the port
+     *
+     * @return the number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+}
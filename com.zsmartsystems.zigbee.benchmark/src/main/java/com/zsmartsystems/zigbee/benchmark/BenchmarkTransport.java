@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeChannel;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.transport.TransportConfig;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+
+/**
+ * A {@link ZigBeeTransportTransmit} that has no hardware behind it. Frames sent to the transport are counted and
+ * discarded so that benchmarks of the network manager measure only the framework.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class BenchmarkTransport implements ZigBeeTransportTransmit {
+    private final IeeeAddress ieeeAddress = new IeeeAddress("1111111111111111");
+
+    private ZigBeeChannel channel = ZigBeeChannel.CHANNEL_11;
+    private int panId = 0x1234;
+    private ExtendedPanId extendedPanId = new ExtendedPanId("1234567890ABCDEF");
+    private ZigBeeKey networkKey = new ZigBeeKey();
+    private ZigBeeKey linkKey = new ZigBeeKey();
+
+    private long sentFrames;
+
+    @Override
+    public ZigBeeStatus initialize() {
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeStatus startup(boolean reinitialize) {
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public String getVersionString() {
+        return "Benchmark";
+    }
+
+    @Override
+    public IeeeAddress getIeeeAddress() {
+        return ieeeAddress;
+    }
+
+    @Override
+    public Integer getNwkAddress() {
+        return 0;
+    }
+
+    @Override
+    public void sendCommand(int msgTag, ZigBeeApsFrame apsFrame) {
+        sentFrames++;
+    }
+
+    /**
+     * Gets the number of frames sent to the transport
+     *
+     * @return the number of frames sent
+     */
+    public long getSentFrames() {
+        return sentFrames;
+    }
+
+    @Override
+    public void setZigBeeTransportReceive(ZigBeeTransportReceive zigbeeTransportReceive) {
+    }
+
+    @Override
+    public ZigBeeChannel getZigBeeChannel() {
+        return channel;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeChannel(ZigBeeChannel channel) {
+        this.channel = channel;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public int getZigBeePanId() {
+        return panId;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeePanId(int panId) {
+        this.panId = panId;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ExtendedPanId getZigBeeExtendedPanId() {
+        return extendedPanId;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeExtendedPanId(ExtendedPanId panId) {
+        extendedPanId = panId;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeNetworkKey(ZigBeeKey key) {
+        networkKey = key;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeKey getZigBeeNetworkKey() {
+        return networkKey;
+    }
+
+    @Override
+    public ZigBeeStatus setTcLinkKey(ZigBeeKey key) {
+        linkKey = key;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeKey getTcLinkKey() {
+        return linkKey;
+    }
+
+    @Override
+    public void updateTransportConfig(TransportConfig configuration) {
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeListenerOverflowPolicy;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclMeteringCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReportAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReport;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Benchmarks the receive path of the {@link ZigBeeNetworkManager} from the transport interface through to the
+ * cluster. Each operation passes an attribute report from a metering device to
+ * {@link ZigBeeNetworkManager#receiveCommand(ZigBeeApsFrame)}, which runs the APS duplicate check, deserializes the
+ * ZCL frame and notifies the command listeners, including the node which updates the attribute in the cluster. No
+ * receive threads are configured, so the frame is processed in the benchmark thread.
+ * <p>
+ * The listener queues use {@link ZigBeeListenerOverflowPolicy#BLOCK} so that the benchmark is limited by the rate the
+ * listeners can process the reports, rather than dropping them.
+ *
+ * @author Chris Jackson
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReceiveCommandBenchmark {
+    private static final int NODE_ADDRESS = 0x1234;
+    private static final int NODE_ENDPOINT = 1;
+
+    private ZigBeeNetworkManager networkManager;
+
+    private int[] payload;
+
+    private int apsCounter;
+
+    @Setup
+    public void setup() {
+        networkManager = new ZigBeeNetworkManager(new BenchmarkTransport());
+        networkManager.setSerializer(DefaultSerializer.class, DefaultDeserializer.class);
+        networkManager.setCommandListenerQueue(100, ZigBeeListenerOverflowPolicy.BLOCK);
+        if (networkManager.initialize() != ZigBeeStatus.SUCCESS
+                || networkManager.startup(false) != ZigBeeStatus.SUCCESS) {
+            throw new IllegalStateException("Unable to start the network manager");
+        }
+
+        ZigBeeNode node = new ZigBeeNode(networkManager, new IeeeAddress("1234567890ABCDEF"), NODE_ADDRESS);
+        ZigBeeEndpoint endpoint = new ZigBeeEndpoint(node, NODE_ENDPOINT);
+        endpoint.setProfileId(0x0104);
+        endpoint.setInputClusterIds(Arrays.asList(ZclMeteringCluster.CLUSTER_ID));
+        node.addEndpoint(endpoint);
+        networkManager.updateNode(node);
+
+        List<AttributeReport> reports = new ArrayList<>();
+        reports.add(createReport(ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED, ZclDataType.UNSIGNED_48_BIT_INTEGER,
+                Long.valueOf(123456789L)));
+        reports.add(createReport(ZclMeteringCluster.ATTR_STATUS, ZclDataType.BITMAP_8_BIT, 0));
+        reports.add(createReport(ZclMeteringCluster.ATTR_INSTANTANEOUSDEMAND, ZclDataType.SIGNED_24_BIT_INTEGER, 1500));
+        ReportAttributesCommand command = new ReportAttributesCommand();
+        command.setReports(reports);
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+        int[] commandPayload = serializer.getPayload();
+
+        // Global command, server to client, default response disabled
+        payload = new int[commandPayload.length + 3];
+        payload[0] = 0x18;
+        payload[1] = 0x00;
+        payload[2] = command.getCommandId();
+        System.arraycopy(commandPayload, 0, payload, 3, commandPayload.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        networkManager.shutdown();
+    }
+
+    @Benchmark
+    public void receiveCommand() {
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setSourceAddress(NODE_ADDRESS);
+        apsFrame.setSourceEndpoint(NODE_ENDPOINT);
+        apsFrame.setDestinationAddress(0);
+        apsFrame.setDestinationEndpoint(1);
+        apsFrame.setProfile(0x0104);
+        apsFrame.setCluster(ZclMeteringCluster.CLUSTER_ID);
+        // Change the APS counter on each frame so the frames are not removed as duplicates
+        apsFrame.setApsCounter(apsCounter);
+        apsCounter = (apsCounter + 1) & 0xFF;
+        apsFrame.setPayload(payload);
+
+        networkManager.receiveCommand(apsFrame);
+    }
+
+    private static AttributeReport createReport(int attributeId, ZclDataType dataType, Object value) {
+        AttributeReport report = new AttributeReport();
+        report.setAttributeIdentifier(attributeId);
+        report.setAttributeDataType(dataType);
+        report.setAttributeValue(value);
+        return report;
+    }
+}
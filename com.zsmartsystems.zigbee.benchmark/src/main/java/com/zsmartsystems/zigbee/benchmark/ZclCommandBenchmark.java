@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclFieldDeserializer;
+import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReportAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.metering.GetProfileResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnWithTimedOffCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.price.PublishPriceCommand;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReport;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Benchmarks the serialization and deserialization of ZCL commands through the {@link ZclFieldSerializer} and
+ * {@link ZclFieldDeserializer} using the {@link DefaultSerializer} and {@link DefaultDeserializer}. The commands cover
+ * a simple fixed length command, a list of attribute reports, and the larger metering and price commands used in
+ * smart energy networks.
+ *
+ * @author Chris Jackson
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZclCommandBenchmark {
+    /**
+     * The commands that are benchmarked
+     */
+    public enum CommandType {
+        ON_OFF,
+        REPORT_ATTRIBUTES,
+        METERING,
+        PRICE
+    }
+
+    @Param
+    private CommandType commandType;
+
+    private ZclCommand command;
+
+    private int[] payload;
+
+    @Setup
+    public void setup() {
+        command = createCommand(commandType);
+
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+        payload = serializer.getPayload();
+    }
+
+    @Benchmark
+    public int[] serialize() {
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+        return serializer.getPayload();
+    }
+
+    @Benchmark
+    public ZclCommand deserialize() {
+        ZclCommand received = createEmptyCommand(commandType);
+        received.deserialize(new ZclFieldDeserializer(new DefaultDeserializer(payload)));
+        return received;
+    }
+
+    private static ZclCommand createEmptyCommand(CommandType commandType) {
+        switch (commandType) {
+            case ON_OFF:
+                return new OnWithTimedOffCommand();
+            case REPORT_ATTRIBUTES:
+                return new ReportAttributesCommand();
+            case METERING:
+                return new GetProfileResponse();
+            case PRICE:
+                return new PublishPriceCommand();
+            default:
+                throw new IllegalArgumentException("Unknown command type " + commandType);
+        }
+    }
+
+    private static ZclCommand createCommand(CommandType commandType) {
+        switch (commandType) {
+            case ON_OFF:
+                OnWithTimedOffCommand onOffCommand = new OnWithTimedOffCommand();
+                onOffCommand.setOnOffControl(1);
+                onOffCommand.setOnTime(600);
+                onOffCommand.setOffWaitTime(50);
+                return onOffCommand;
+            case REPORT_ATTRIBUTES:
+                List<AttributeReport> reports = new ArrayList<>();
+                reports.add(createReport(0x0000, ZclDataType.UNSIGNED_48_BIT_INTEGER, Long.valueOf(123456789L)));
+                reports.add(createReport(0x0200, ZclDataType.BITMAP_8_BIT, 0));
+                reports.add(createReport(0x0300, ZclDataType.ENUMERATION_8_BIT, 0));
+                reports.add(createReport(0x0400, ZclDataType.SIGNED_24_BIT_INTEGER, 1500));
+                ReportAttributesCommand reportCommand = new ReportAttributesCommand();
+                reportCommand.setReports(reports);
+                return reportCommand;
+            case METERING:
+                GetProfileResponse profileResponse = new GetProfileResponse();
+                profileResponse.setEndTime(Calendar.getInstance());
+                profileResponse.setStatus(0);
+                profileResponse.setProfileIntervalPeriod(3);
+                profileResponse.setNumberOfPeriodsDelivered(24);
+                profileResponse.setIntervals(1234);
+                return profileResponse;
+            case PRICE:
+                PublishPriceCommand priceCommand = new PublishPriceCommand();
+                priceCommand.setProviderId(0x12345678);
+                priceCommand.setRateLabel(new ByteArray(new int[] { 'P', 'E', 'A', 'K' }));
+                priceCommand.setIssuerEventId(0x1000);
+                priceCommand.setCurrentTime(Calendar.getInstance());
+                priceCommand.setUnitOfMeasure(0);
+                priceCommand.setCurrency(826);
+                priceCommand.setPriceTrailingDigitAndTier(0x21);
+                priceCommand.setNumberOfPriceTiers(0x40);
+                priceCommand.setStartTime(Calendar.getInstance());
+                priceCommand.setDuration(0xFFFF);
+                priceCommand.setPrice(1500);
+                priceCommand.setPriceRatio(0xFF);
+                priceCommand.setGenerationPrice(0xFFFFFFFF);
+                priceCommand.setGenerationPriceRatio(0xFF);
+                priceCommand.setAlternateCostDelivered(0xFFFFFFFF);
+                priceCommand.setAlternateCostUnit(0xFF);
+                priceCommand.setAlternateCostTrailingDigit(0xFF);
+                priceCommand.setNumberOfBlockThresholds(0);
+                priceCommand.setPriceControl(0);
+                priceCommand.setNumberOfGenerationTiers(0);
+                priceCommand.setGenerationTier(0);
+                priceCommand.setExtendedNumberOfPriceTiers(0);
+                priceCommand.setExtendedPriceTier(0);
+                priceCommand.setExtendedRegisterTier(0);
+                return priceCommand;
+            default:
+                throw new IllegalArgumentException("Unknown command type " + commandType);
+        }
+    }
+
+    private static AttributeReport createReport(int attributeId, ZclDataType dataType, Object value) {
+        AttributeReport report = new AttributeReport();
+        report.setAttributeIdentifier(attributeId);
+        report.setAttributeDataType(dataType);
+        report.setAttributeValue(value);
+        return report;
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. This accepts the standard JMH command line options (eg a regular expression to select the
+ * benchmarks to run), and always adds the GC profiler so that the allocation rate is published alongside the timing
+ * of each benchmark.
+ * <p>
+ * To run all benchmarks -:
+ *
+ * <pre>
+ * java -jar com.zsmartsystems.zigbee.benchmark-jar-with-dependencies.jar
+ * </pre>
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeBenchmarkRunner {
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build())
+                .run();
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of a set of operations and the number that failed, and calculates the throughput and latency
+ * percentiles. Samples may be recorded from multiple threads.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class LatencyRecorder {
+    private final String name;
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int failures;
+
+    private long startTime;
+    private long endTime;
+
+    /**
+     * Creates the recorder
+     *
+     * @param name the name of the operation used when printing the results
+     */
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Starts the time over which the throughput is calculated
+     */
+    public synchronized void start() {
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Stops the time over which the throughput is calculated
+     */
+    public synchronized void stop() {
+        endTime = System.nanoTime();
+    }
+
+    /**
+     * Records the latency of a successful operation
+     *
+     * @param latency the latency in nanoseconds
+     */
+    public synchronized void record(long latency) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latency;
+    }
+
+    /**
+     * Records an operation that failed
+     */
+    public synchronized void recordFailure() {
+        failures++;
+    }
+
+    /**
+     * Gets the number of successful operations
+     *
+     * @return the number of successful operations
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of failed operations
+     *
+     * @return the number of failed operations
+     */
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the number of successful operations per second between {@link #start()} and {@link #stop()}
+     *
+     * @return the throughput in operations per second
+     */
+    public synchronized double getThroughput() {
+        long elapsed = endTime - startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return count * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /**
+     * Gets a latency percentile
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the latency in nanoseconds, or 0 if no operations were recorded
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%-12s count=%d failed=%d throughput=%.1f/s p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                name, count, failures, getThroughput(), toMillis(getPercentile(50)), toMillis(getPercentile(90)),
+                toMillis(getPercentile(99)), toMillis(getPercentile(100)));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1000000.0;
+    }
+}
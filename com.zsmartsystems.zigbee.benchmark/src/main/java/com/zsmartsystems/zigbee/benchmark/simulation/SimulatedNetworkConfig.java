@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+/**
+ * Defines the size, topology and radio characteristics of the network simulated by the
+ * {@link SimulatedNetworkTransport}. All times are in milliseconds and all probabilities are between 0 and 1.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class SimulatedNetworkConfig {
+    private int routers = 20;
+    private int endDevices = 50;
+    private int sleepyEndDevices = 30;
+    private int maxDepth = 5;
+
+    private int hopLatency = 10;
+    private int hopJitter = 5;
+    private double lossProbability = 0.0;
+    private double duplicateProbability = 0.0;
+    private double reorderProbability = 0.0;
+    private int reorderDelay = 100;
+
+    private int macAckDelay = 5;
+    private int apsAckTimeout = 1500;
+    private int processingDelay = 5;
+    private int pollPeriod = 1000;
+
+    private long seed = 1;
+    private int threads = 4;
+
+    /**
+     * Gets the number of routers in the network, not including the coordinator
+     *
+     * @return the number of routers
+     */
+    public int getRouters() {
+        return routers;
+    }
+
+    /**
+     * Sets the number of routers in the network, not including the coordinator. Defaults to 20.
+     *
+     * @param routers the number of routers
+     */
+    public void setRouters(int routers) {
+        this.routers = routers;
+    }
+
+    /**
+     * Gets the number of end devices that keep their receiver on when idle
+     *
+     * @return the number of end devices
+     */
+    public int getEndDevices() {
+        return endDevices;
+    }
+
+    /**
+     * Sets the number of end devices that keep their receiver on when idle. Defaults to 50.
+     *
+     * @param endDevices the number of end devices
+     */
+    public void setEndDevices(int endDevices) {
+        this.endDevices = endDevices;
+    }
+
+    /**
+     * Gets the number of sleepy end devices that poll their parent for data
+     *
+     * @return the number of sleepy end devices
+     */
+    public int getSleepyEndDevices() {
+        return sleepyEndDevices;
+    }
+
+    /**
+     * Sets the number of sleepy end devices that poll their parent for data. Defaults to 30.
+     *
+     * @param sleepyEndDevices the number of sleepy end devices
+     */
+    public void setSleepyEndDevices(int sleepyEndDevices) {
+        this.sleepyEndDevices = sleepyEndDevices;
+    }
+
+    /**
+     * Gets the maximum depth of a router in the network tree
+     *
+     * @return the maximum router depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximum depth of a router in the network tree. Routers are joined to a random parent below this depth,
+     * and end devices to a random router, so a frame to an end device may take one more hop than this. Defaults to 5.
+     *
+     * @param maxDepth the maximum router depth
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Gets the latency added by each hop
+     *
+     * @return the latency of each hop in milliseconds
+     */
+    public int getHopLatency() {
+        return hopLatency;
+    }
+
+    /**
+     * Sets the latency added by each hop. Defaults to 10ms.
+     *
+     * @param hopLatency the latency of each hop in milliseconds
+     */
+    public void setHopLatency(int hopLatency) {
+        this.hopLatency = hopLatency;
+    }
+
+    /**
+     * Gets the maximum random jitter added to the latency of each hop
+     *
+     * @return the maximum jitter of each hop in milliseconds
+     */
+    public int getHopJitter() {
+        return hopJitter;
+    }
+
+    /**
+     * Sets the maximum random jitter added to the latency of each hop. Defaults to 5ms.
+     *
+     * @param hopJitter the maximum jitter of each hop in milliseconds
+     */
+    public void setHopJitter(int hopJitter) {
+        this.hopJitter = hopJitter;
+    }
+
+    /**
+     * Gets the probability that a frame is lost on each hop
+     *
+     * @return the probability of loss on each hop
+     */
+    public double getLossProbability() {
+        return lossProbability;
+    }
+
+    /**
+     * Sets the probability that a frame is lost on each hop, after any MAC retries. Defaults to 0.
+     *
+     * @param lossProbability the probability of loss on each hop
+     */
+    public void setLossProbability(double lossProbability) {
+        this.lossProbability = lossProbability;
+    }
+
+    /**
+     * Gets the probability that a frame received from a device is delivered twice
+     *
+     * @return the probability of a duplicate frame
+     */
+    public double getDuplicateProbability() {
+        return duplicateProbability;
+    }
+
+    /**
+     * Sets the probability that a frame received from a device is delivered twice, as happens when an APS ack is lost
+     * and the device retransmits the frame. Defaults to 0.
+     *
+     * @param duplicateProbability the probability of a duplicate frame
+     */
+    public void setDuplicateProbability(double duplicateProbability) {
+        this.duplicateProbability = duplicateProbability;
+    }
+
+    /**
+     * Gets the probability that a frame received from a device is delayed so that it arrives out of order
+     *
+     * @return the probability of an out of order frame
+     */
+    public double getReorderProbability() {
+        return reorderProbability;
+    }
+
+    /**
+     * Sets the probability that a frame received from a device is delayed by up to {@link #getReorderDelay()} so that
+     * it may arrive after later frames. Defaults to 0.
+     *
+     * @param reorderProbability the probability of an out of order frame
+     */
+    public void setReorderProbability(double reorderProbability) {
+        this.reorderProbability = reorderProbability;
+    }
+
+    /**
+     * Gets the maximum delay added to frames that are delivered out of order
+     *
+     * @return the maximum reorder delay in milliseconds
+     */
+    public int getReorderDelay() {
+        return reorderDelay;
+    }
+
+    /**
+     * Sets the maximum delay added to frames that are delivered out of order. Defaults to 100ms.
+     *
+     * @param reorderDelay the maximum reorder delay in milliseconds
+     */
+    public void setReorderDelay(int reorderDelay) {
+        this.reorderDelay = reorderDelay;
+    }
+
+    /**
+     * Gets the delay before the transport reports that a frame has been sent to the first hop
+     *
+     * @return the MAC ack delay in milliseconds
+     */
+    public int getMacAckDelay() {
+        return macAckDelay;
+    }
+
+    /**
+     * Sets the delay before the transport reports that a frame has been sent to the first hop. Defaults to 5ms.
+     *
+     * @param macAckDelay the MAC ack delay in milliseconds
+     */
+    public void setMacAckDelay(int macAckDelay) {
+        this.macAckDelay = macAckDelay;
+    }
+
+    /**
+     * Gets the time after which the transport reports that an APS ack was not received
+     *
+     * @return the APS ack timeout in milliseconds
+     */
+    public int getApsAckTimeout() {
+        return apsAckTimeout;
+    }
+
+    /**
+     * Sets the time after which the transport reports that an APS ack was not received. Frames to sleepy end devices
+     * are allowed an additional poll period. Defaults to 1500ms.
+     *
+     * @param apsAckTimeout the APS ack timeout in milliseconds
+     */
+    public void setApsAckTimeout(int apsAckTimeout) {
+        this.apsAckTimeout = apsAckTimeout;
+    }
+
+    /**
+     * Gets the time a device takes to process a request before sending the response
+     *
+     * @return the processing delay in milliseconds
+     */
+    public int getProcessingDelay() {
+        return processingDelay;
+    }
+
+    /**
+     * Sets the time a device takes to process a request before sending the response. Defaults to 5ms.
+     *
+     * @param processingDelay the processing delay in milliseconds
+     */
+    public void setProcessingDelay(int processingDelay) {
+        this.processingDelay = processingDelay;
+    }
+
+    /**
+     * Gets the period at which sleepy end devices poll their parent
+     *
+     * @return the poll period in milliseconds
+     */
+    public int getPollPeriod() {
+        return pollPeriod;
+    }
+
+    /**
+     * Sets the period at which sleepy end devices poll their parent. Frames to a sleepy end device are held by the
+     * parent until the next poll. Defaults to 1000ms.
+     *
+     * @param pollPeriod the poll period in milliseconds
+     */
+    public void setPollPeriod(int pollPeriod) {
+        this.pollPeriod = pollPeriod;
+    }
+
+    /**
+     * Gets the seed used for the random topology and radio behaviour
+     *
+     * @return the random seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed used for the random topology and radio behaviour. The same seed always creates the same topology.
+     * Each node has its own random radio behaviour derived from the seed, which is repeatable as long as the frames for
+     * that node are sent in the same order. Defaults to 1.
+     *
+     * @param seed the random seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the number of threads used to deliver frames
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads used to deliver frames. Defaults to 4.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedNetworkConfig [routers=" + routers + ", endDevices=" + endDevices + ", sleepyEndDevices="
+                + sleepyEndDevices + ", maxDepth=" + maxDepth + ", hopLatency=" + hopLatency + ", hopJitter="
+                + hopJitter + ", lossProbability=" + lossProbability + ", duplicateProbability="
+                + duplicateProbability + ", reorderProbability=" + reorderProbability + ", reorderDelay="
+                + reorderDelay + ", macAckDelay=" + macAckDelay + ", apsAckTimeout=" + apsAckTimeout
+                + ", processingDelay=" + processingDelay + ", pollPeriod=" + pollPeriod + ", seed=" + seed
+                + ", threads=" + threads + "]";
+    }
+}
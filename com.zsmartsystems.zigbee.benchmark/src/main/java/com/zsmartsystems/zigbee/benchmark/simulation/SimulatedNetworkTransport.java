@@ -0,0 +1,534 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeChannel;
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.benchmark.simulation.SimulatedNode.NodeType;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.transport.TransportConfig;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.zcl.ZclFieldDeserializer;
+import com.zsmartsystems.zigbee.zdo.ZdoCommandType;
+import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
+
+/**
+ * A {@link ZigBeeTransportTransmit} that simulates a network of {@link SimulatedNode}s in place of a dongle, so that
+ * the framework can be load tested with thousands of devices without any hardware.
+ * <p>
+ * The network is a tree built from the {@link SimulatedNetworkConfig} - routers join a random router (or the
+ * coordinator) below the maximum depth, and end devices join a random router. Each frame takes one hop per level of
+ * the tree, and each hop adds latency and jitter and may lose the frame. Frames to sleepy end devices are held until
+ * the next poll. Frames from the devices may also be duplicated or delivered out of order.
+ * <p>
+ * The transport reports the progress of each frame in the same way as the dongles -
+ * {@link ZigBeeTransportProgressState#TX_ACK} once the frame is sent to the first hop, followed by
+ * {@link ZigBeeTransportProgressState#RX_ACK} when the APS ack is received from the destination, or
+ * {@link ZigBeeTransportProgressState#RX_NAK} if the frame or ack is lost. Frames to an unknown address are rejected
+ * with {@link ZigBeeTransportProgressState#TX_NAK}.
+ * <p>
+ * The topology is created from the seed in the {@link SimulatedNetworkConfig}. The radio behaviour of each node uses
+ * its own {@link Random}, derived from the seed when the node is created, so the frames to and from one node do not
+ * change the behaviour seen by other nodes. Frames for the same node may still be sent from different threads, so the
+ * behaviour is only repeatable for a node if its frames are sent in the same order.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class SimulatedNetworkTransport implements ZigBeeTransportTransmit {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(SimulatedNetworkTransport.class);
+
+    private static final long IEEE_ADDRESS_BASE = 0x0022A30000000000L;
+
+    private final SimulatedNetworkConfig config;
+
+    /**
+     * The {@link Random} used to create the topology, and the seed of each node's {@link Random}
+     */
+    private final Random random;
+
+    /**
+     * The {@link Random} used for the radio behaviour of each node, keyed by network address
+     */
+    private final Map<Integer, Random> nodeRandoms = new HashMap<>();
+
+    private final IeeeAddress ieeeAddress = new IeeeAddress("1111111111111111");
+    private ZigBeeChannel channel = ZigBeeChannel.CHANNEL_11;
+    private int panId = 0x1234;
+    private ExtendedPanId extendedPanId = new ExtendedPanId("1234567890ABCDEF");
+    private ZigBeeKey networkKey = new ZigBeeKey();
+    private ZigBeeKey linkKey = new ZigBeeKey();
+
+    private final SimulatedNode coordinator;
+    private final Map<Integer, SimulatedNode> nodes = new LinkedHashMap<>();
+    private final Map<IeeeAddress, SimulatedNode> nodesByIeee = new HashMap<>();
+
+    private ZigBeeTransportReceive zigbeeTransportReceive;
+
+    private ScheduledExecutorService executor;
+
+    private final AtomicLong framesSent = new AtomicLong();
+    private final AtomicLong framesReceived = new AtomicLong();
+    private final AtomicLong framesLost = new AtomicLong();
+    private final AtomicLong framesDuplicated = new AtomicLong();
+    private final AtomicLong framesReordered = new AtomicLong();
+
+    /**
+     * Creates the transport and the simulated network
+     *
+     * @param config the {@link SimulatedNetworkConfig} defining the network
+     */
+    public SimulatedNetworkTransport(SimulatedNetworkConfig config) {
+        this.config = config;
+        this.random = new Random(config.getSeed());
+
+        coordinator = new SimulatedNode(ieeeAddress, 0, NodeType.COORDINATOR, null, extendedPanId);
+        nodes.put(coordinator.getNetworkAddress(), coordinator);
+        nodesByIeee.put(ieeeAddress, coordinator);
+        nodeRandoms.put(coordinator.getNetworkAddress(), new Random(random.nextLong()));
+
+        // Routers that can have child routers
+        List<SimulatedNode> parents = new ArrayList<>();
+        parents.add(coordinator);
+        // All nodes that can have children
+        List<SimulatedNode> routers = new ArrayList<>();
+        routers.add(coordinator);
+
+        for (int cnt = 0; cnt < config.getRouters(); cnt++) {
+            SimulatedNode router = createNode(NodeType.ROUTER, parents.get(random.nextInt(parents.size())));
+            routers.add(router);
+            if (router.getDepth() < config.getMaxDepth()) {
+                parents.add(router);
+            }
+        }
+        for (int cnt = 0; cnt < config.getEndDevices(); cnt++) {
+            createNode(NodeType.END_DEVICE, routers.get(random.nextInt(routers.size())));
+        }
+        for (int cnt = 0; cnt < config.getSleepyEndDevices(); cnt++) {
+            createNode(NodeType.SLEEPY_END_DEVICE, routers.get(random.nextInt(routers.size())));
+        }
+    }
+
+    private SimulatedNode createNode(NodeType type, SimulatedNode parent) {
+        int networkAddress;
+        do {
+            networkAddress = 1 + random.nextInt(0xFFF7);
+        } while (nodes.containsKey(networkAddress));
+
+        IeeeAddress nodeIeeeAddress = new IeeeAddress(String.format("%016X", IEEE_ADDRESS_BASE + nodes.size()));
+        SimulatedNode node = new SimulatedNode(nodeIeeeAddress, networkAddress, type, parent, extendedPanId);
+        nodes.put(networkAddress, node);
+        nodesByIeee.put(nodeIeeeAddress, node);
+        nodeRandoms.put(networkAddress, new Random(random.nextLong()));
+        return node;
+    }
+
+    /**
+     * Gets the simulated devices, not including the coordinator
+     *
+     * @return the collection of {@link SimulatedNode}s
+     */
+    public Collection<SimulatedNode> getNodes() {
+        List<SimulatedNode> devices = new ArrayList<>(nodes.values());
+        devices.remove(coordinator);
+        return Collections.unmodifiableList(devices);
+    }
+
+    /**
+     * Gets a simulated node
+     *
+     * @param networkAddress the network address of the node
+     * @return the {@link SimulatedNode}, or null if there is no node with this address
+     */
+    public SimulatedNode getNode(int networkAddress) {
+        return nodes.get(networkAddress);
+    }
+
+    /**
+     * Sends a device announcement from a node, as happens when the node joins the network
+     *
+     * @param node the {@link SimulatedNode} to announce
+     */
+    public void announce(SimulatedNode node) {
+        sendToCoordinator(node, node.createDeviceAnnounce(), 0);
+    }
+
+    /**
+     * Sends an attribute report from a node with the current values of the attributes
+     *
+     * @param node the {@link SimulatedNode} sending the report
+     * @param clusterId the cluster ID
+     * @param attributeIds the list of attribute IDs to report
+     * @return true if the cluster is supported by the node and the report was sent
+     */
+    public boolean sendReport(SimulatedNode node, int clusterId, List<Integer> attributeIds) {
+        ZigBeeApsFrame frame = node.createReport(clusterId, attributeIds);
+        if (frame == null) {
+            return false;
+        }
+        sendToCoordinator(node, frame, 0);
+        return true;
+    }
+
+    /**
+     * Gets the number of frames sent to the transport by the framework
+     *
+     * @return the number of frames sent
+     */
+    public long getFramesSent() {
+        return framesSent.get();
+    }
+
+    /**
+     * Gets the number of frames passed from the simulated network to the framework, including duplicates
+     *
+     * @return the number of frames received
+     */
+    public long getFramesReceived() {
+        return framesReceived.get();
+    }
+
+    /**
+     * Gets the number of frames lost in the simulated network, in either direction
+     *
+     * @return the number of frames lost
+     */
+    public long getFramesLost() {
+        return framesLost.get();
+    }
+
+    /**
+     * Gets the number of duplicate frames passed to the framework
+     *
+     * @return the number of duplicate frames
+     */
+    public long getFramesDuplicated() {
+        return framesDuplicated.get();
+    }
+
+    /**
+     * Gets the number of frames that were delayed so they may be delivered out of order
+     *
+     * @return the number of delayed frames
+     */
+    public long getFramesReordered() {
+        return framesReordered.get();
+    }
+
+    @Override
+    public ZigBeeStatus initialize() {
+        logger.debug("Simulated network: Initialising {} nodes with {}", nodes.size(), config);
+        executor = ZigBeeExecutors.newScheduledThreadPool(config.getThreads(), "SimulatedNetwork");
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeStatus startup(boolean reinitialize) {
+        if (executor == null) {
+            return ZigBeeStatus.INVALID_STATE;
+        }
+        zigbeeTransportReceive.setTransportState(ZigBeeTransportState.ONLINE);
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String getVersionString() {
+        return "Simulated";
+    }
+
+    @Override
+    public IeeeAddress getIeeeAddress() {
+        return ieeeAddress;
+    }
+
+    @Override
+    public Integer getNwkAddress() {
+        return coordinator.getNetworkAddress();
+    }
+
+    @Override
+    public void sendCommand(final int msgTag, final ZigBeeApsFrame apsFrame) {
+        framesSent.incrementAndGet();
+
+        int destination = apsFrame.getDestinationAddress();
+        if (destination >= 0xFFF8) {
+            // Broadcasts are not acknowledged, so the frame is complete once it is sent. The two states are spaced
+            // apart as the notifications are delivered on different threads and would otherwise arrive out of order.
+            sendProgress(msgTag, ZigBeeTransportProgressState.TX_ACK, config.getMacAckDelay());
+            sendProgress(msgTag, ZigBeeTransportProgressState.RX_ACK, config.getMacAckDelay() * 2 + 1);
+
+            for (SimulatedNode node : getBroadcastDestinations(apsFrame)) {
+                long delay = getPathDelay(node);
+                if (delay < 0) {
+                    framesLost.incrementAndGet();
+                    continue;
+                }
+                deliverToNode(node, apsFrame, delay);
+            }
+            return;
+        }
+
+        final SimulatedNode node = nodes.get(destination);
+        if (node == null) {
+            logger.debug("Simulated network: No route to {}", String.format("%04X", destination));
+            sendProgress(msgTag, ZigBeeTransportProgressState.TX_NAK, config.getMacAckDelay());
+            return;
+        }
+        sendProgress(msgTag, ZigBeeTransportProgressState.TX_ACK, config.getMacAckDelay());
+
+        long ackTimeout = config.getApsAckTimeout();
+        if (!node.isReceiverOnWhenIdle()) {
+            ackTimeout += config.getPollPeriod();
+        }
+        long delay = getPathDelay(node);
+        if (delay < 0) {
+            framesLost.incrementAndGet();
+            sendProgress(msgTag, ZigBeeTransportProgressState.RX_NAK, ackTimeout);
+            return;
+        }
+        if (!node.isReceiverOnWhenIdle()) {
+            // The parent holds the frame until the next poll
+            delay += getRandom(node).nextInt(config.getPollPeriod() + 1);
+        }
+        deliverToNode(node, apsFrame, delay);
+
+        // The APS ack is sent by the node as soon as the frame is received
+        long ackDelay = getPathDelay(node);
+        if (ackDelay < 0 || delay + ackDelay > ackTimeout) {
+            framesLost.incrementAndGet();
+            sendProgress(msgTag, ZigBeeTransportProgressState.RX_NAK, ackTimeout);
+        } else {
+            sendProgress(msgTag, ZigBeeTransportProgressState.RX_ACK, delay + ackDelay);
+        }
+    }
+
+    private Collection<SimulatedNode> getBroadcastDestinations(ZigBeeApsFrame apsFrame) {
+        if (apsFrame.getProfile() == 0
+                && apsFrame.getCluster() == ZdoCommandType.NETWORK_ADDRESS_REQUEST.getClusterId()) {
+            // Only the node with the requested address responds, so avoid passing the frame to every node
+            NetworkAddressRequest request = new NetworkAddressRequest();
+            request.deserialize(new ZclFieldDeserializer(new DefaultDeserializer(apsFrame.getPayload())));
+            SimulatedNode node = nodesByIeee.get(request.getIeeeAddr());
+            if (node == null || node == coordinator) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(node);
+        }
+
+        List<SimulatedNode> destinations = new ArrayList<>();
+        for (SimulatedNode node : nodes.values()) {
+            if (node == coordinator) {
+                continue;
+            }
+            switch (apsFrame.getDestinationAddress()) {
+                case 0xFFFC:
+                    if (node.getType() != NodeType.ROUTER) {
+                        continue;
+                    }
+                    break;
+                case 0xFFFD:
+                    if (!node.isReceiverOnWhenIdle()) {
+                        continue;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            destinations.add(node);
+        }
+        return destinations;
+    }
+
+    /**
+     * Gets the time taken by a frame to travel between the coordinator and a node
+     *
+     * @param node the {@link SimulatedNode}
+     * @return the delay in milliseconds, or -1 if the frame is lost
+     */
+    private long getPathDelay(SimulatedNode node) {
+        Random nodeRandom = getRandom(node);
+        long delay = 0;
+        for (int hop = 0; hop < node.getDepth(); hop++) {
+            if (nodeRandom.nextDouble() < config.getLossProbability()) {
+                return -1;
+            }
+            delay += config.getHopLatency() + nodeRandom.nextInt(config.getHopJitter() + 1);
+        }
+        return delay;
+    }
+
+    private Random getRandom(SimulatedNode node) {
+        return nodeRandoms.get(node.getNetworkAddress());
+    }
+
+    private void deliverToNode(final SimulatedNode node, final ZigBeeApsFrame apsFrame, long delay) {
+        schedule(new Runnable() {
+            @Override
+            public void run() {
+                for (ZigBeeApsFrame response : node.processRequest(apsFrame)) {
+                    sendToCoordinator(node, response, config.getProcessingDelay());
+                }
+            }
+        }, delay);
+    }
+
+    private void sendToCoordinator(SimulatedNode node, final ZigBeeApsFrame apsFrame, long processingDelay) {
+        long delay = getPathDelay(node);
+        if (delay < 0) {
+            framesLost.incrementAndGet();
+            return;
+        }
+        delay += processingDelay;
+        Random nodeRandom = getRandom(node);
+        if (nodeRandom.nextDouble() < config.getReorderProbability()) {
+            framesReordered.incrementAndGet();
+            delay += nodeRandom.nextInt(config.getReorderDelay() + 1);
+        }
+
+        Runnable receive = new Runnable() {
+            @Override
+            public void run() {
+                framesReceived.incrementAndGet();
+                zigbeeTransportReceive.receiveCommand(apsFrame);
+            }
+        };
+        schedule(receive, delay);
+        if (nodeRandom.nextDouble() < config.getDuplicateProbability()) {
+            // The device did not receive the APS ack and sends the frame again
+            framesDuplicated.incrementAndGet();
+            schedule(receive, delay + config.getHopLatency());
+        }
+    }
+
+    private void sendProgress(final int msgTag, final ZigBeeTransportProgressState state, long delay) {
+        schedule(new Runnable() {
+            @Override
+            public void run() {
+                zigbeeTransportReceive.receiveCommandState(msgTag, state);
+            }
+        }, delay);
+    }
+
+    private void schedule(final Runnable runnable, long delay) {
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        runnable.run();
+                    } catch (Exception e) {
+                        logger.debug("Simulated network: Exception delivering frame", e);
+                    }
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Simulated network: Frame discarded after shutdown");
+        }
+    }
+
+    @Override
+    public void setZigBeeTransportReceive(ZigBeeTransportReceive zigbeeTransportReceive) {
+        this.zigbeeTransportReceive = zigbeeTransportReceive;
+    }
+
+    @Override
+    public ZigBeeChannel getZigBeeChannel() {
+        return channel;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeChannel(ZigBeeChannel channel) {
+        this.channel = channel;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public int getZigBeePanId() {
+        return panId;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeePanId(int panId) {
+        this.panId = panId;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ExtendedPanId getZigBeeExtendedPanId() {
+        return extendedPanId;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeExtendedPanId(ExtendedPanId panId) {
+        extendedPanId = panId;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeNetworkKey(ZigBeeKey key) {
+        networkKey = key;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeKey getZigBeeNetworkKey() {
+        return networkKey;
+    }
+
+    @Override
+    public ZigBeeStatus setTcLinkKey(ZigBeeKey key) {
+        linkKey = key;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeKey getTcLinkKey() {
+        return linkKey;
+    }
+
+    @Override
+    public void updateTransportConfig(TransportConfig configuration) {
+    }
+}
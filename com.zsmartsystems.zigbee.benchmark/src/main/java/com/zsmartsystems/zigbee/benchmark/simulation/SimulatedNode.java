@@ -0,0 +1,735 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclFieldDeserializer;
+import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclFrameType;
+import com.zsmartsystems.zigbee.zcl.ZclHeader;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclMeteringCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclPowerConfigurationCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclTemperatureMeasurementCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReportAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReport;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclCommandDirection;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoCommand;
+import com.zsmartsystems.zigbee.zdo.ZdoCommandType;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.BindRequest;
+import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
+import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementRoutingRequest;
+import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
+import com.zsmartsystems.zigbee.zdo.command.SimpleDescriptorRequest;
+import com.zsmartsystems.zigbee.zdo.command.UnbindRequest;
+
+/**
+ * A device in the network simulated by the {@link SimulatedNetworkTransport}. The node has a single endpoint using the
+ * home automation profile, with a set of server clusters that depends on the {@link NodeType} -
+ * <ul>
+ * <li>{@link NodeType#COORDINATOR}: Basic
+ * <li>{@link NodeType#ROUTER}: Basic, On/Off and Metering - eg a smart plug
+ * <li>{@link NodeType#END_DEVICE}: Basic and Metering - eg a meter interface
+ * <li>{@link NodeType#SLEEPY_END_DEVICE}: Basic, Power Configuration and Temperature Measurement - eg a sensor
+ * </ul>
+ * The node answers the ZDO requests used to discover and maintain the network (network and IEEE address, node, power
+ * and simple descriptors, active endpoints, bind and unbind, and the management LQI and routing requests) and the
+ * common ZCL requests (read attributes, write attributes, configure reporting and cluster specific commands). It can
+ * also create device announcements and attribute reports.
+ * <p>
+ * Frames are processed in the thread calling {@link #processRequest(ZigBeeApsFrame)}, which may be called
+ * concurrently, and the responses are returned for the transport to deliver.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class SimulatedNode {
+    /**
+     * The type of node
+     */
+    public enum NodeType {
+        COORDINATOR,
+        ROUTER,
+        END_DEVICE,
+        SLEEPY_END_DEVICE
+    }
+
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(SimulatedNode.class);
+
+    private static final int ZDO_PROFILE = 0x0000;
+    private static final int HA_PROFILE = 0x0104;
+    private static final int ENDPOINT = 1;
+    private static final int BROADCAST_ENDPOINT = 0xFF;
+    private static final int MANUFACTURER_CODE = 0x1234;
+    private static final int MAX_BUFFER_SIZE = 82;
+    private static final int NEIGHBORS_PER_RESPONSE = 3;
+
+    private final IeeeAddress ieeeAddress;
+    private final int networkAddress;
+    private final NodeType type;
+    private final SimulatedNode parent;
+    private final int depth;
+    private final ExtendedPanId extendedPanId;
+    private final List<SimulatedNode> children = new ArrayList<>();
+
+    /**
+     * The attributes of each cluster. The clusters and attributes are fixed when the node is created, so only the
+     * attribute values change once the node is in use.
+     */
+    private final Map<Integer, Map<Integer, SimulatedAttribute>> clusters = new LinkedHashMap<>();
+
+    private final Set<Integer> boundClusters = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+
+    private final AtomicInteger apsCounter = new AtomicInteger();
+    private final AtomicInteger zclSequence = new AtomicInteger();
+
+    private static class SimulatedAttribute {
+        private final ZclDataType dataType;
+        private volatile Object value;
+
+        SimulatedAttribute(ZclDataType dataType, Object value) {
+            this.dataType = dataType;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Creates a node and adds it to the children of its parent
+     *
+     * @param ieeeAddress the {@link IeeeAddress} of the node
+     * @param networkAddress the network address of the node
+     * @param type the {@link NodeType}
+     * @param parent the parent {@link SimulatedNode}, or null for the coordinator
+     * @param extendedPanId the {@link ExtendedPanId} of the network
+     */
+    public SimulatedNode(IeeeAddress ieeeAddress, int networkAddress, NodeType type, SimulatedNode parent,
+            ExtendedPanId extendedPanId) {
+        this.ieeeAddress = ieeeAddress;
+        this.networkAddress = networkAddress;
+        this.type = type;
+        this.parent = parent;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.extendedPanId = extendedPanId;
+        if (parent != null) {
+            parent.children.add(this);
+        }
+
+        Map<Integer, SimulatedAttribute> basic = addCluster(ZclBasicCluster.CLUSTER_ID);
+        basic.put(ZclBasicCluster.ATTR_ZCLVERSION, new SimulatedAttribute(ZclDataType.UNSIGNED_8_BIT_INTEGER, 2));
+        basic.put(ZclBasicCluster.ATTR_MANUFACTURERNAME,
+                new SimulatedAttribute(ZclDataType.CHARACTER_STRING, "Simulated"));
+        basic.put(ZclBasicCluster.ATTR_MODELIDENTIFIER,
+                new SimulatedAttribute(ZclDataType.CHARACTER_STRING, type.toString()));
+        basic.put(ZclBasicCluster.ATTR_POWERSOURCE,
+                new SimulatedAttribute(ZclDataType.ENUMERATION_8_BIT, type == NodeType.SLEEPY_END_DEVICE ? 3 : 1));
+
+        switch (type) {
+            case ROUTER:
+                Map<Integer, SimulatedAttribute> onOff = addCluster(ZclOnOffCluster.CLUSTER_ID);
+                onOff.put(ZclOnOffCluster.ATTR_ONOFF, new SimulatedAttribute(ZclDataType.BOOLEAN, Boolean.FALSE));
+                addMeteringCluster();
+                break;
+            case END_DEVICE:
+                addMeteringCluster();
+                break;
+            case SLEEPY_END_DEVICE:
+                Map<Integer, SimulatedAttribute> power = addCluster(ZclPowerConfigurationCluster.CLUSTER_ID);
+                power.put(ZclPowerConfigurationCluster.ATTR_BATTERYVOLTAGE,
+                        new SimulatedAttribute(ZclDataType.UNSIGNED_8_BIT_INTEGER, 30));
+                power.put(ZclPowerConfigurationCluster.ATTR_BATTERYPERCENTAGEREMAINING,
+                        new SimulatedAttribute(ZclDataType.UNSIGNED_8_BIT_INTEGER, 200));
+                Map<Integer, SimulatedAttribute> temperature = addCluster(ZclTemperatureMeasurementCluster.CLUSTER_ID);
+                temperature.put(ZclTemperatureMeasurementCluster.ATTR_MEASUREDVALUE,
+                        new SimulatedAttribute(ZclDataType.SIGNED_16_BIT_INTEGER, 2000));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Map<Integer, SimulatedAttribute> addCluster(int clusterId) {
+        Map<Integer, SimulatedAttribute> attributes = new LinkedHashMap<>();
+        clusters.put(clusterId, attributes);
+        return attributes;
+    }
+
+    private void addMeteringCluster() {
+        Map<Integer, SimulatedAttribute> metering = addCluster(ZclMeteringCluster.CLUSTER_ID);
+        metering.put(ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED,
+                new SimulatedAttribute(ZclDataType.UNSIGNED_48_BIT_INTEGER, Long.valueOf(0)));
+        metering.put(ZclMeteringCluster.ATTR_INSTANTANEOUSDEMAND,
+                new SimulatedAttribute(ZclDataType.SIGNED_24_BIT_INTEGER, 0));
+    }
+
+    public IeeeAddress getIeeeAddress() {
+        return ieeeAddress;
+    }
+
+    public int getNetworkAddress() {
+        return networkAddress;
+    }
+
+    public NodeType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the parent of this node in the network tree
+     *
+     * @return the parent {@link SimulatedNode}, or null for the coordinator
+     */
+    public SimulatedNode getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the depth of the node in the network tree, which is the number of hops between the coordinator and the
+     * node
+     *
+     * @return the depth of the node
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Checks if the node keeps its receiver on when idle. Frames to nodes that do not are held by the parent until
+     * the node polls.
+     *
+     * @return true if the receiver is on when idle
+     */
+    public boolean isReceiverOnWhenIdle() {
+        return type != NodeType.SLEEPY_END_DEVICE;
+    }
+
+    /**
+     * Checks if the node supports a server cluster
+     *
+     * @param clusterId the cluster ID
+     * @return true if the cluster is supported
+     */
+    public boolean hasCluster(int clusterId) {
+        return clusters.containsKey(clusterId);
+    }
+
+    /**
+     * Gets the clusters that have been bound with a bind request and not since unbound
+     *
+     * @return the set of bound cluster IDs
+     */
+    public Set<Integer> getBoundClusters() {
+        return Collections.unmodifiableSet(boundClusters);
+    }
+
+    /**
+     * Gets the value of an attribute
+     *
+     * @param clusterId the cluster ID
+     * @param attributeId the attribute ID
+     * @return the attribute value, or null if the attribute is not supported
+     */
+    public Object getAttributeValue(int clusterId, int attributeId) {
+        SimulatedAttribute attribute = getAttribute(clusterId, attributeId);
+        return attribute == null ? null : attribute.value;
+    }
+
+    /**
+     * Sets the value of an attribute. The value must be of the class used for the attribute data type by the
+     * serializer.
+     *
+     * @param clusterId the cluster ID
+     * @param attributeId the attribute ID
+     * @param value the new value
+     * @return true if the attribute is supported and was updated
+     */
+    public boolean setAttributeValue(int clusterId, int attributeId, Object value) {
+        SimulatedAttribute attribute = getAttribute(clusterId, attributeId);
+        if (attribute == null) {
+            return false;
+        }
+        attribute.value = value;
+        return true;
+    }
+
+    private SimulatedAttribute getAttribute(int clusterId, int attributeId) {
+        Map<Integer, SimulatedAttribute> attributes = clusters.get(clusterId);
+        return attributes == null ? null : attributes.get(attributeId);
+    }
+
+    /**
+     * Processes a frame received by the node
+     *
+     * @param request the received {@link ZigBeeApsFrame}
+     * @return the list of response frames to send to the coordinator, which may be empty
+     */
+    public List<ZigBeeApsFrame> processRequest(ZigBeeApsFrame request) {
+        try {
+            if (request.getProfile() == ZDO_PROFILE) {
+                return processZdoRequest(request);
+            }
+            if (request.getDestinationEndpoint() == ENDPOINT
+                    || request.getDestinationEndpoint() == BROADCAST_ENDPOINT) {
+                return processZclRequest(request);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("{}: Simulated node: Error processing {}", String.format("%04X", networkAddress), request, e);
+        }
+        return Collections.emptyList();
+    }
+
+    private List<ZigBeeApsFrame> processZdoRequest(ZigBeeApsFrame request) {
+        ZdoCommandType commandType = ZdoCommandType.getValueById(request.getCluster());
+        if (commandType == null) {
+            return Collections.emptyList();
+        }
+        ZdoCommand command = commandType.instantiateCommand();
+        command.deserialize(new ZclFieldDeserializer(new DefaultDeserializer(request.getPayload())));
+
+        boolean broadcast = isBroadcast(request.getDestinationAddress());
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        // Echo the ZDO transaction sequence number
+        serializer.serialize(request.getPayload()[0], ZclDataType.UNSIGNED_8_BIT_INTEGER);
+
+        switch (commandType) {
+            case NETWORK_ADDRESS_REQUEST:
+                if (!ieeeAddress.equals(((NetworkAddressRequest) command).getIeeeAddr())) {
+                    return Collections.emptyList();
+                }
+                writeAddressResponse(serializer);
+                break;
+            case IEEE_ADDRESS_REQUEST:
+                if (((IeeeAddressRequest) command).getNwkAddrOfInterest() != networkAddress) {
+                    return Collections.emptyList();
+                }
+                writeAddressResponse(serializer);
+                break;
+            case NODE_DESCRIPTOR_REQUEST:
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                serializer.serialize(networkAddress, ZclDataType.NWK_ADDRESS);
+                writeNodeDescriptor(serializer);
+                break;
+            case POWER_DESCRIPTOR_REQUEST:
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                serializer.serialize(networkAddress, ZclDataType.NWK_ADDRESS);
+                writePowerDescriptor(serializer);
+                break;
+            case ACTIVE_ENDPOINTS_REQUEST:
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                serializer.serialize(networkAddress, ZclDataType.NWK_ADDRESS);
+                serializer.serialize(1, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+                serializer.serialize(ENDPOINT, ZclDataType.ENDPOINT);
+                break;
+            case SIMPLE_DESCRIPTOR_REQUEST:
+                if (((SimpleDescriptorRequest) command).getEndpoint() != ENDPOINT) {
+                    serializer.serialize(ZdoStatus.NOT_ACTIVE, ZclDataType.ZDO_STATUS);
+                    serializer.serialize(networkAddress, ZclDataType.NWK_ADDRESS);
+                    break;
+                }
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                serializer.serialize(networkAddress, ZclDataType.NWK_ADDRESS);
+                // Endpoint, profile, device, version and the two cluster lists
+                serializer.serialize(8 + clusters.size() * 2, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+                writeSimpleDescriptor(serializer);
+                break;
+            case BIND_REQUEST:
+                boundClusters.add(((BindRequest) command).getBindCluster());
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                break;
+            case UNBIND_REQUEST:
+                boundClusters.remove(((UnbindRequest) command).getBindCluster());
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                break;
+            case MANAGEMENT_LQI_REQUEST:
+                if (type == NodeType.SLEEPY_END_DEVICE || type == NodeType.END_DEVICE) {
+                    serializer.serialize(ZdoStatus.NOT_SUPPORTED, ZclDataType.ZDO_STATUS);
+                    break;
+                }
+                writeNeighborTable(serializer, ((ManagementLqiRequest) command).getStartIndex());
+                break;
+            case MANAGEMENT_ROUTING_REQUEST:
+                if (type == NodeType.SLEEPY_END_DEVICE || type == NodeType.END_DEVICE) {
+                    serializer.serialize(ZdoStatus.NOT_SUPPORTED, ZclDataType.ZDO_STATUS);
+                    break;
+                }
+                // Routes are found on demand, so the routing table is empty
+                serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+                serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+                serializer.serialize(((ManagementRoutingRequest) command).getStartIndex(),
+                        ZclDataType.UNSIGNED_8_BIT_INTEGER);
+                serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+                break;
+            default:
+                if (broadcast || (request.getCluster() & 0x8000) != 0) {
+                    return Collections.emptyList();
+                }
+                serializer.serialize(ZdoStatus.NOT_SUPPORTED, ZclDataType.ZDO_STATUS);
+                break;
+        }
+
+        return Collections.singletonList(createFrame(ZDO_PROFILE, request.getCluster() | 0x8000, 0,
+                request.getSourceAddress(), 0, serializer.getPayload()));
+    }
+
+    private void writeAddressResponse(ZclFieldSerializer serializer) {
+        serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+        serializer.serialize(ieeeAddress, ZclDataType.IEEE_ADDRESS);
+        serializer.serialize(networkAddress, ZclDataType.NWK_ADDRESS);
+        serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+    }
+
+    private void writeNodeDescriptor(ZclFieldSerializer serializer) {
+        int logicalType;
+        switch (type) {
+            case COORDINATOR:
+                logicalType = 0;
+                break;
+            case ROUTER:
+                logicalType = 1;
+                break;
+            default:
+                logicalType = 2;
+                break;
+        }
+        serializer.serialize(logicalType, ZclDataType.DATA_8_BIT);
+        // 2.4GHz band
+        serializer.serialize(0x08 << 3, ZclDataType.DATA_8_BIT);
+        serializer.serialize(getMacCapabilities(), ZclDataType.DATA_8_BIT);
+        serializer.serialize(MANUFACTURER_CODE, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(MAX_BUFFER_SIZE, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(MAX_BUFFER_SIZE, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(type == NodeType.COORDINATOR ? 0x0001 : 0x0000, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(MAX_BUFFER_SIZE, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+    }
+
+    private void writePowerDescriptor(ZclFieldSerializer serializer) {
+        if (type == NodeType.SLEEPY_END_DEVICE) {
+            // Receiver comes on periodically, powered by a disposable battery at 100%
+            serializer.serialize(0x01 | 0x04 << 4, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+            serializer.serialize(0x04 | 0x0C << 4, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        } else {
+            // Receiver synchronized with the receiver on when idle, mains powered
+            serializer.serialize(0x00 | 0x01 << 4, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+            serializer.serialize(0x01 | 0x0C << 4, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        }
+    }
+
+    private void writeSimpleDescriptor(ZclFieldSerializer serializer) {
+        int deviceId;
+        switch (type) {
+            case ROUTER:
+                deviceId = 0x0051;
+                break;
+            case END_DEVICE:
+                deviceId = 0x0053;
+                break;
+            case SLEEPY_END_DEVICE:
+                deviceId = 0x0302;
+                break;
+            default:
+                deviceId = 0x0005;
+                break;
+        }
+        serializer.serialize(ENDPOINT, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(HA_PROFILE, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(deviceId, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(new ArrayList<>(clusters.keySet()), ZclDataType.N_X_UNSIGNED_16_BIT_INTEGER);
+        serializer.serialize(new ArrayList<Integer>(), ZclDataType.N_X_UNSIGNED_16_BIT_INTEGER);
+    }
+
+    private void writeNeighborTable(ZclFieldSerializer serializer, int startIndex) {
+        List<SimulatedNode> neighbors = new ArrayList<>();
+        if (parent != null) {
+            neighbors.add(parent);
+        }
+        neighbors.addAll(children);
+
+        int count = Math.max(0, Math.min(NEIGHBORS_PER_RESPONSE, neighbors.size() - startIndex));
+        serializer.serialize(ZdoStatus.SUCCESS, ZclDataType.ZDO_STATUS);
+        serializer.serialize(neighbors.size(), ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(startIndex, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(count, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        for (SimulatedNode neighbor : neighbors.subList(startIndex, startIndex + count)) {
+            int deviceType;
+            switch (neighbor.type) {
+                case COORDINATOR:
+                    deviceType = 0;
+                    break;
+                case ROUTER:
+                    deviceType = 1;
+                    break;
+                default:
+                    deviceType = 2;
+                    break;
+            }
+            int relationship = neighbor == parent ? 0 : 1;
+            serializer.serialize(extendedPanId, ZclDataType.EXTENDED_PANID);
+            serializer.serialize(neighbor.ieeeAddress, ZclDataType.IEEE_ADDRESS);
+            serializer.serialize(neighbor.networkAddress, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+            serializer.serialize(deviceType | (neighbor.isReceiverOnWhenIdle() ? 1 : 0) << 2 | relationship << 4,
+                    ZclDataType.UNSIGNED_8_BIT_INTEGER);
+            serializer.serialize(0, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+            serializer.serialize(neighbor.depth, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+            serializer.serialize(255, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        }
+    }
+
+    private List<ZigBeeApsFrame> processZclRequest(ZigBeeApsFrame request) {
+        ZclFieldDeserializer deserializer = new ZclFieldDeserializer(new DefaultDeserializer(request.getPayload()));
+        ZclHeader header = new ZclHeader(deserializer);
+        if (header.getDirection() != ZclCommandDirection.CLIENT_TO_SERVER) {
+            return Collections.emptyList();
+        }
+
+        boolean broadcast = isBroadcast(request.getDestinationAddress());
+        Map<Integer, SimulatedAttribute> attributes = clusters.get(request.getCluster());
+        if (attributes == null) {
+            if (broadcast) {
+                return Collections.emptyList();
+            }
+            return createDefaultResponse(request, header, ZclStatus.UNSUPPORTED_CLUSTER);
+        }
+
+        if (header.getFrameType() == ZclFrameType.CLUSTER_SPECIFIC_COMMAND) {
+            if (request.getCluster() == ZclOnOffCluster.CLUSTER_ID) {
+                SimulatedAttribute onOff = attributes.get(ZclOnOffCluster.ATTR_ONOFF);
+                switch (header.getCommandId()) {
+                    case 0x00:
+                        onOff.value = Boolean.FALSE;
+                        break;
+                    case 0x01:
+                        onOff.value = Boolean.TRUE;
+                        break;
+                    case 0x02:
+                        onOff.value = !((Boolean) onOff.value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (header.isDisableDefaultResponse() || broadcast) {
+                return Collections.emptyList();
+            }
+            return createDefaultResponse(request, header, ZclStatus.SUCCESS);
+        }
+
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        int responseId;
+        if (header.getCommandId() == ReadAttributesCommand.COMMAND_ID) {
+            ReadAttributesCommand command = new ReadAttributesCommand();
+            command.deserialize(deserializer);
+            for (Integer attributeId : command.getIdentifiers()) {
+                serializer.serialize(attributeId, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+                SimulatedAttribute attribute = attributes.get(attributeId);
+                if (attribute == null) {
+                    serializer.serialize(ZclStatus.UNSUPPORTED_ATTRIBUTE, ZclDataType.ZCL_STATUS);
+                    continue;
+                }
+                serializer.serialize(ZclStatus.SUCCESS, ZclDataType.ZCL_STATUS);
+                serializer.serialize(attribute.dataType.getId(), ZclDataType.UNSIGNED_8_BIT_INTEGER);
+                serializer.serialize(attribute.value, attribute.dataType);
+            }
+            responseId = ReadAttributesResponse.COMMAND_ID;
+        } else if (header.getCommandId() == WriteAttributesCommand.COMMAND_ID) {
+            WriteAttributesCommand command = new WriteAttributesCommand();
+            command.deserialize(deserializer);
+            boolean success = true;
+            for (WriteAttributeRecord record : command.getRecords()) {
+                SimulatedAttribute attribute = attributes.get(record.getAttributeIdentifier());
+                if (attribute == null) {
+                    serializer.serialize(ZclStatus.UNSUPPORTED_ATTRIBUTE, ZclDataType.ZCL_STATUS);
+                    serializer.serialize(record.getAttributeIdentifier(), ZclDataType.UNSIGNED_16_BIT_INTEGER);
+                    success = false;
+                    continue;
+                }
+                attribute.value = record.getAttributeValue();
+            }
+            if (success) {
+                serializer.serialize(ZclStatus.SUCCESS, ZclDataType.ZCL_STATUS);
+            }
+            responseId = WriteAttributesResponse.COMMAND_ID;
+        } else if (header.getCommandId() == ConfigureReportingCommand.COMMAND_ID) {
+            ConfigureReportingCommand command = new ConfigureReportingCommand();
+            command.deserialize(deserializer);
+            boolean success = true;
+            for (AttributeReportingConfigurationRecord record : command.getRecords()) {
+                if (!attributes.containsKey(record.getAttributeIdentifier())) {
+                    serializer.serialize(ZclStatus.UNSUPPORTED_ATTRIBUTE, ZclDataType.ZCL_STATUS);
+                    serializer.serialize(record.getDirection() != 0, ZclDataType.BOOLEAN);
+                    serializer.serialize(record.getAttributeIdentifier(), ZclDataType.UNSIGNED_16_BIT_INTEGER);
+                    success = false;
+                }
+            }
+            if (success) {
+                serializer.serialize(ZclStatus.SUCCESS, ZclDataType.ZCL_STATUS);
+            }
+            responseId = ConfigureReportingResponse.COMMAND_ID;
+        } else {
+            if (broadcast) {
+                return Collections.emptyList();
+            }
+            return createDefaultResponse(request, header, ZclStatus.UNSUP_GENERAL_COMMAND);
+        }
+
+        if (broadcast) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(createZclResponse(request, header.getSequenceNumber(), responseId,
+                serializer.getPayload()));
+    }
+
+    private List<ZigBeeApsFrame> createDefaultResponse(ZigBeeApsFrame request, ZclHeader header, ZclStatus status) {
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        serializer.serialize(header.getCommandId(), ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        serializer.serialize(status, ZclDataType.ZCL_STATUS);
+        return Collections.singletonList(createZclResponse(request, header.getSequenceNumber(),
+                DefaultResponse.COMMAND_ID, serializer.getPayload()));
+    }
+
+    private ZigBeeApsFrame createZclResponse(ZigBeeApsFrame request, int sequenceNumber, int commandId,
+            int[] payload) {
+        int[] zclFrame = createZclHeader(sequenceNumber, commandId).serialize(null, payload);
+        return createFrame(request.getProfile(), request.getCluster(), ENDPOINT, request.getSourceAddress(),
+                request.getSourceEndpoint(), zclFrame);
+    }
+
+    private ZclHeader createZclHeader(int sequenceNumber, int commandId) {
+        ZclHeader header = new ZclHeader();
+        header.setFrameType(ZclFrameType.ENTIRE_PROFILE_COMMAND);
+        header.setDirection(ZclCommandDirection.SERVER_TO_CLIENT);
+        header.setDisableDefaultResponse(true);
+        header.setSequenceNumber(sequenceNumber);
+        header.setCommandId(commandId);
+        return header;
+    }
+
+    /**
+     * Creates an attribute report from the current value of attributes in a cluster
+     *
+     * @param clusterId the cluster ID
+     * @param attributeIds the list of attribute IDs to report
+     * @return the {@link ZigBeeApsFrame} to send to the coordinator, or null if the cluster is not supported
+     */
+    public ZigBeeApsFrame createReport(int clusterId, List<Integer> attributeIds) {
+        Map<Integer, SimulatedAttribute> attributes = clusters.get(clusterId);
+        if (attributes == null) {
+            return null;
+        }
+
+        List<AttributeReport> reports = new ArrayList<>();
+        for (Integer attributeId : attributeIds) {
+            SimulatedAttribute attribute = attributes.get(attributeId);
+            if (attribute == null) {
+                continue;
+            }
+            AttributeReport report = new AttributeReport();
+            report.setAttributeIdentifier(attributeId);
+            report.setAttributeDataType(attribute.dataType);
+            report.setAttributeValue(attribute.value);
+            reports.add(report);
+        }
+        ReportAttributesCommand command = new ReportAttributesCommand();
+        command.setReports(reports);
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+
+        int[] zclFrame = createZclHeader(zclSequence.getAndIncrement() & 0xFF, ReportAttributesCommand.COMMAND_ID)
+                .serialize(serializer, serializer.getPayload());
+        return createFrame(HA_PROFILE, clusterId, ENDPOINT, 0, ENDPOINT, zclFrame);
+    }
+
+    /**
+     * Creates the device announcement sent by the node when it joins the network
+     *
+     * @return the {@link ZigBeeApsFrame} to send to the coordinator
+     */
+    public ZigBeeApsFrame createDeviceAnnounce() {
+        DeviceAnnounce command = new DeviceAnnounce();
+        command.setNwkAddrOfInterest(networkAddress);
+        command.setIeeeAddr(ieeeAddress);
+        command.setCapability(getMacCapabilities());
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+
+        return createFrame(ZDO_PROFILE, ZdoCommandType.DEVICE_ANNOUNCE.getClusterId(), 0, 0xFFFD, 0,
+                serializer.getPayload());
+    }
+
+    private int getMacCapabilities() {
+        switch (type) {
+            case COORDINATOR:
+            case ROUTER:
+                // Full function device, mains powered, receiver on when idle, security capable
+                return 0x4E;
+            case END_DEVICE:
+                return 0x4C;
+            default:
+                return 0x40;
+        }
+    }
+
+    private ZigBeeApsFrame createFrame(int profile, int cluster, int sourceEndpoint, int destinationAddress,
+            int destinationEndpoint, int[] payload) {
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        frame.setSourceAddress(networkAddress);
+        frame.setSourceEndpoint(sourceEndpoint);
+        frame.setDestinationAddress(destinationAddress);
+        frame.setDestinationEndpoint(destinationEndpoint);
+        frame.setProfile(profile);
+        frame.setCluster(cluster);
+        frame.setApsCounter(apsCounter.getAndIncrement() & 0xFF);
+        frame.setPayload(payload);
+        return frame;
+    }
+
+    private static boolean isBroadcast(int address) {
+        return address >= 0xFFF8;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedNode [ieeeAddress=" + ieeeAddress + ", networkAddress="
+                + String.format("%04X", networkAddress) + ", type=" + type + ", depth=" + depth + "]";
+    }
+}
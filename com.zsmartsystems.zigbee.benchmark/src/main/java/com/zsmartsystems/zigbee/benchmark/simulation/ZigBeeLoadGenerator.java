@@ -0,0 +1,369 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.app.discovery.ZigBeeDiscoveryExtension;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+import com.zsmartsystems.zigbee.transport.capture.ZigBeeCaptureWriter;
+import com.zsmartsystems.zigbee.transport.capture.ZigBeeTransportCapture;
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeListener;
+import com.zsmartsystems.zigbee.zcl.ZclCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclMeteringCluster;
+
+/**
+ * Runs the framework against a {@link SimulatedNetworkTransport} and reports the throughput and latency of three
+ * scenarios -
+ * <ul>
+ * <li>Discovery: all nodes announce themselves and are discovered by the {@link ZigBeeDiscoveryExtension}. The latency
+ * is from the announcement until the node descriptor and endpoints are known.
+ * <li>Reads: attributes of the Basic cluster are read from random nodes with a fixed number of reads outstanding.
+ * <li>Reports: attribute reports are sent from the nodes with a Metering cluster at a fixed rate. The latency is from
+ * the report being sent until the attribute listener is notified.
+ * </ul>
+ * Use the --help option for the list of options.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeLoadGenerator {
+    /**
+     * Private constructor to disable constructing main class.
+     */
+    private ZigBeeLoadGenerator() {
+    }
+
+    /**
+     * The main method.
+     *
+     * @param args the command arguments
+     * @throws InterruptedException if interrupted while waiting for a scenario to complete
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        Options options = new Options();
+        options.addOption(createOption("routers", "count", "Set the number of routers"));
+        options.addOption(createOption("enddevices", "count", "Set the number of end devices"));
+        options.addOption(createOption("sleepy", "count", "Set the number of sleepy end devices"));
+        options.addOption(createOption("depth", "hops", "Set the maximum depth of the router tree"));
+        options.addOption(createOption("latency", "ms", "Set the latency of each hop"));
+        options.addOption(createOption("jitter", "ms", "Set the maximum jitter of each hop"));
+        options.addOption(createOption("loss", "probability", "Set the probability of a frame being lost on a hop"));
+        options.addOption(createOption("duplicate", "probability", "Set the probability of a duplicate frame"));
+        options.addOption(createOption("reorder", "probability", "Set the probability of an out of order frame"));
+        options.addOption(createOption("apstimeout", "ms", "Set the APS ack timeout"));
+        options.addOption(createOption("poll", "ms", "Set the sleepy end device poll period"));
+        options.addOption(createOption("seed", "seed", "Set the random seed"));
+        options.addOption(createOption("threads", "count", "Set the number of network simulation threads"));
+        options.addOption(createOption("reads", "count", "Set the number of attribute reads (default 1000)"));
+        options.addOption(createOption("concurrency", "count", "Set the number of outstanding reads (default 16)"));
+        options.addOption(createOption("reports", "count", "Set the number of attribute reports (default 10000)"));
+        options.addOption(createOption("rate", "reports/s", "Set the rate of attribute reports (default 1000)"));
+        options.addOption(createOption("timeout", "seconds", "Set the timeout for each scenario (default 300)"));
+        options.addOption(createOption("capture", "filename", "Record the frames to a capture file"));
+        options.addOption(Option.builder("?").longOpt("help").desc("Print usage information").build());
+
+        SimulatedNetworkConfig config = new SimulatedNetworkConfig();
+        int reads;
+        int concurrency;
+        int reports;
+        int rate;
+        int timeout;
+        String captureFile;
+        try {
+            CommandLineParser parser = new DefaultParser();
+            CommandLine cmdline = parser.parse(options, args);
+
+            if (cmdline.hasOption("help")) {
+                HelpFormatter formatter = new HelpFormatter();
+                formatter.printHelp("zigbeeloadgenerator", options);
+                return;
+            }
+
+            config.setRouters(getInt(cmdline, "routers", config.getRouters()));
+            config.setEndDevices(getInt(cmdline, "enddevices", config.getEndDevices()));
+            config.setSleepyEndDevices(getInt(cmdline, "sleepy", config.getSleepyEndDevices()));
+            config.setMaxDepth(getInt(cmdline, "depth", config.getMaxDepth()));
+            config.setHopLatency(getInt(cmdline, "latency", config.getHopLatency()));
+            config.setHopJitter(getInt(cmdline, "jitter", config.getHopJitter()));
+            config.setLossProbability(getDouble(cmdline, "loss", config.getLossProbability()));
+            config.setDuplicateProbability(getDouble(cmdline, "duplicate", config.getDuplicateProbability()));
+            config.setReorderProbability(getDouble(cmdline, "reorder", config.getReorderProbability()));
+            config.setApsAckTimeout(getInt(cmdline, "apstimeout", config.getApsAckTimeout()));
+            config.setPollPeriod(getInt(cmdline, "poll", config.getPollPeriod()));
+            if (cmdline.hasOption("seed")) {
+                config.setSeed(Long.parseLong(cmdline.getOptionValue("seed")));
+            }
+            config.setThreads(getInt(cmdline, "threads", config.getThreads()));
+            reads = getInt(cmdline, "reads", 1000);
+            concurrency = getInt(cmdline, "concurrency", 16);
+            reports = getInt(cmdline, "reports", 10000);
+            rate = getInt(cmdline, "rate", 1000);
+            timeout = getInt(cmdline, "timeout", 300);
+            captureFile = cmdline.getOptionValue("capture");
+        } catch (ParseException | NumberFormatException e) {
+            System.err.println("Parsing command line failed.  Reason: " + e.getMessage());
+            return;
+        }
+
+        SimulatedNetworkTransport transport = new SimulatedNetworkTransport(config);
+        ZigBeeTransportTransmit networkTransport = transport;
+        if (captureFile != null) {
+            try {
+                networkTransport = new ZigBeeTransportCapture(transport,
+                        new ZigBeeCaptureWriter(new File(captureFile)));
+            } catch (IOException e) {
+                System.err.println("Unable to open capture file " + captureFile + ": " + e.getMessage());
+                return;
+            }
+        }
+        ZigBeeNetworkManager networkManager = new ZigBeeNetworkManager(networkTransport);
+        networkManager.setSerializer(DefaultSerializer.class, DefaultDeserializer.class);
+        networkManager.addExtension(new ZigBeeDiscoveryExtension());
+        if (networkManager.initialize() != ZigBeeStatus.SUCCESS
+                || networkManager.startup(false) != ZigBeeStatus.SUCCESS) {
+            System.err.println("Unable to start the network manager");
+            return;
+        }
+
+        System.out.println("Simulating " + transport.getNodes().size() + " nodes with " + config);
+        System.out.println(runDiscovery(networkManager, transport, timeout));
+        if (reads > 0) {
+            System.out.println(runReads(networkManager, reads, concurrency, timeout));
+        }
+        if (reports > 0) {
+            System.out.println(runReports(networkManager, transport, reports, rate, timeout));
+        }
+        System.out.println(String.format("Frames sent=%d received=%d lost=%d duplicated=%d reordered=%d",
+                transport.getFramesSent(), transport.getFramesReceived(), transport.getFramesLost(),
+                transport.getFramesDuplicated(), transport.getFramesReordered()));
+
+        networkManager.shutdown();
+        System.exit(0);
+    }
+
+    private static Option createOption(String name, String argName, String description) {
+        return Option.builder().longOpt(name).hasArg().argName(argName).desc(description).build();
+    }
+
+    private static int getInt(CommandLine cmdline, String option, int defaultValue) {
+        return cmdline.hasOption(option) ? Integer.parseInt(cmdline.getOptionValue(option)) : defaultValue;
+    }
+
+    private static double getDouble(CommandLine cmdline, String option, double defaultValue) {
+        return cmdline.hasOption(option) ? Double.parseDouble(cmdline.getOptionValue(option)) : defaultValue;
+    }
+
+    /**
+     * Announces all nodes and waits until they are discovered
+     */
+    private static LatencyRecorder runDiscovery(ZigBeeNetworkManager networkManager,
+            SimulatedNetworkTransport transport, int timeout) throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder("Discovery");
+        final Map<IeeeAddress, Long> announceTimes = new ConcurrentHashMap<>();
+        final Set<IeeeAddress> discovered = Collections.newSetFromMap(new ConcurrentHashMap<IeeeAddress, Boolean>());
+        final CountDownLatch latch = new CountDownLatch(transport.getNodes().size());
+
+        networkManager.addNetworkNodeListener(new ZigBeeNetworkNodeListener() {
+            @Override
+            public void nodeAdded(ZigBeeNode node) {
+                nodeUpdated(node);
+            }
+
+            @Override
+            public void nodeUpdated(ZigBeeNode node) {
+                Long announceTime = announceTimes.get(node.getIeeeAddress());
+                if (announceTime != null && node.isDiscovered() && discovered.add(node.getIeeeAddress())) {
+                    recorder.record(System.nanoTime() - announceTime);
+                    recorder.stop();
+                    latch.countDown();
+                }
+            }
+        });
+
+        recorder.start();
+        for (SimulatedNode node : transport.getNodes()) {
+            announceTimes.put(node.getIeeeAddress(), System.nanoTime());
+            transport.announce(node);
+        }
+        latch.await(timeout, TimeUnit.SECONDS);
+
+        for (int cnt = discovered.size(); cnt < transport.getNodes().size(); cnt++) {
+            recorder.recordFailure();
+        }
+        return recorder;
+    }
+
+    /**
+     * Reads an attribute from the Basic cluster of random nodes
+     */
+    private static LatencyRecorder runReads(ZigBeeNetworkManager networkManager, int reads, int concurrency,
+            int timeout) throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder("Reads");
+        final List<ZclCluster> clusters = new ArrayList<>();
+        for (ZigBeeNode node : networkManager.getNodes()) {
+            if (node.getNetworkAddress() == 0) {
+                continue;
+            }
+            for (ZigBeeEndpoint endpoint : node.getEndpoints()) {
+                ZclCluster cluster = endpoint.getInputCluster(ZclBasicCluster.CLUSTER_ID);
+                if (cluster != null) {
+                    clusters.add(cluster);
+                }
+            }
+        }
+        if (clusters.isEmpty()) {
+            return recorder;
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(reads);
+        ExecutorService executor = ZigBeeExecutors.newFixedThreadPool(concurrency, "LoadGeneratorReads");
+        recorder.start();
+        for (int cnt = 0; cnt < concurrency; cnt++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random();
+                    while (remaining.getAndDecrement() > 0) {
+                        ZclCluster cluster = clusters.get(random.nextInt(clusters.size()));
+                        long start = System.nanoTime();
+                        try {
+                            CommandResult result = cluster.readAttribute(ZclBasicCluster.ATTR_ZCLVERSION).get();
+                            if (result.isSuccess()) {
+                                recorder.record(System.nanoTime() - start);
+                            } else {
+                                recorder.recordFailure();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (ExecutionException e) {
+                            recorder.recordFailure();
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(timeout, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        recorder.stop();
+        return recorder;
+    }
+
+    /**
+     * Sends attribute reports from the nodes with a Metering cluster. The value of each report is its index, so that
+     * the listener can find the time the report was sent.
+     */
+    private static LatencyRecorder runReports(ZigBeeNetworkManager networkManager,
+            SimulatedNetworkTransport transport, int reports, int rate, int timeout) throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder("Reports");
+        final AtomicLongArray sendTimes = new AtomicLongArray(reports + 1);
+        final CountDownLatch latch = new CountDownLatch(reports);
+
+        ZclAttributeListener listener = new ZclAttributeListener() {
+            @Override
+            public void attributeUpdated(ZclAttribute attribute, Object value) {
+                if (attribute.getId() != ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED
+                        || !(value instanceof Number)) {
+                    return;
+                }
+                long index = ((Number) value).longValue();
+                if (index < 1 || index > reports) {
+                    return;
+                }
+                // Duplicate reports are ignored as the send time is cleared by the first
+                long sendTime = sendTimes.getAndSet((int) index, 0);
+                if (sendTime != 0) {
+                    recorder.record(System.nanoTime() - sendTime);
+                    recorder.stop();
+                    latch.countDown();
+                }
+            }
+        };
+
+        List<SimulatedNode> reporters = new ArrayList<>();
+        for (ZigBeeNode node : networkManager.getNodes()) {
+            SimulatedNode simulatedNode = transport.getNode(node.getNetworkAddress());
+            if (simulatedNode == null || !simulatedNode.hasCluster(ZclMeteringCluster.CLUSTER_ID)) {
+                continue;
+            }
+            for (ZigBeeEndpoint endpoint : node.getEndpoints()) {
+                ZclCluster cluster = endpoint.getInputCluster(ZclMeteringCluster.CLUSTER_ID);
+                if (cluster != null) {
+                    cluster.addAttributeListener(listener);
+                    reporters.add(simulatedNode);
+                }
+            }
+        }
+        if (reporters.isEmpty()) {
+            return recorder;
+        }
+
+        List<Integer> attributes = Collections.singletonList(ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED);
+        recorder.start();
+        long start = System.nanoTime();
+        for (int index = 1; index <= reports; index++) {
+            if (rate > 0) {
+                long due = start + (index - 1) * TimeUnit.SECONDS.toNanos(1) / rate;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            SimulatedNode node = reporters.get(index % reporters.size());
+            node.setAttributeValue(ZclMeteringCluster.CLUSTER_ID, ZclMeteringCluster.ATTR_CURRENTSUMMATIONDELIVERED,
+                    Long.valueOf(index));
+            sendTimes.set(index, System.nanoTime());
+            transport.sendReport(node, ZclMeteringCluster.CLUSTER_ID, attributes);
+        }
+        // Lost reports are never received, so the throughput is calculated up to the last report received
+        latch.await(timeout, TimeUnit.SECONDS);
+
+        for (int cnt = recorder.getCount(); cnt < reports; cnt++) {
+            recorder.recordFailure();
+        }
+        return recorder;
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.conbee.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.benchmark.BenchmarkPort;
+import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeAddressMode;
+import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeEnqueueSendDataRequest;
+import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrame;
+
+/**
+ * Benchmarks the SLIP framing used by the ConBee. Encoding serializes a send data request and writes it to the port
+ * with the SLIP escaping applied by {@link ConBeeFrameHandler}. Decoding checks the checksum of a received data frame
+ * and creates the response.
+ * <p>
+ * The receive side of the SLIP escaping is part of the frame handler receive thread and is not included.
+ *
+ * @author Chris Jackson
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConBeeFrameBenchmark {
+    private static final int[] DATA = new int[] { 0x18, 0xC0, 0x0A, 0x00, 0x00, 0x25, 0xDB, 0x11, 0x13, 0x00, 0x00,
+            0x00, 0x00, 0x02, 0x18, 0xC0, 0x00, 0x04, 0x2A, 0xDC, 0x05, 0x00, 0x18, 0x11, 0x13, 0xDB };
+
+    private static final int[] RECEIVED_FRAME = new int[] { 0x17, 0x0C, 0x00, 0x32, 0x00, 0x2B, 0x00, 0x26, 0x02,
+            0x00, 0x00, 0x00, 0x03, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00, 0x01, 0x80, 0x0E,
+            0x00, 0x00, 0x00, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xAF, 0x00,
+            0x00, 0x00, 0x02, 0x02, 0x00, 0x4B, 0xF8 };
+
+    private final ZigBeeEndpointAddress destinationAddress = new ZigBeeEndpointAddress(0x1234, 1);
+
+    private BenchmarkPort port;
+
+    @Setup
+    public void setup() {
+        port = new BenchmarkPort();
+        if (ConBeeFrame.create(RECEIVED_FRAME) == null) {
+            throw new IllegalStateException("Unable to decode the ConBee frame");
+        }
+    }
+
+    @Benchmark
+    public BenchmarkPort encode() {
+        ConBeeEnqueueSendDataRequest request = new ConBeeEnqueueSendDataRequest();
+        request.setSequence(0x22);
+        request.setRequestId(0x33);
+        request.setDestinationAddressMode(ConBeeAddressMode.NWK);
+        request.setDestinationAddress(destinationAddress);
+        request.setProfileId(0x0104);
+        request.setClusterId(0x0702);
+        request.setSourceEndpoint(1);
+        request.setRadius(0);
+        request.setTxOptions(0);
+        request.setAdsuData(DATA);
+
+        ConBeeFrameHandler.writeFrame(port, request.getOutputBuffer());
+        return port;
+    }
+
+    @Benchmark
+    public ConBeeFrame decode() {
+        return ConBeeFrame.create(RECEIVED_FRAME);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.ash;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspSendUnicastRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberApsFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberOutgoingMessageType;
+
+/**
+ * Benchmarks the ASH framing used by the Ember NCP. Encoding serializes an EZSP unicast request into an
+ * {@link AshFrameData}, including the data randomisation, CRC and byte stuffing. Decoding removes the byte stuffing and
+ * checks the CRC of the same frame as received from the NCP. The message contains reserved byte values so that the
+ * byte stuffing is exercised.
+ *
+ * @author Chris Jackson
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AshFrameBenchmark {
+    private static final int[] MESSAGE = new int[] { 0x18, 0x7E, 0x0A, 0x00, 0x00, 0x25, 0x7D, 0x11, 0x13, 0x00,
+            0x00, 0x00, 0x00, 0x02, 0x18, 0x7E, 0x00, 0x04, 0x2A, 0xDC, 0x05, 0x00, 0x18, 0x11, 0x13, 0x7D };
+
+    private int[] receivedFrame;
+
+    @Setup
+    public void setup() {
+        int[] outputBuffer = encode();
+        // The frame handler removes the flag byte before the frame is decoded
+        receivedFrame = Arrays.copyOfRange(outputBuffer, 0, outputBuffer.length - 1);
+        if (!(AshFrame.createFromInput(receivedFrame) instanceof AshFrameData)) {
+            throw new IllegalStateException("Unable to decode the ASH frame");
+        }
+    }
+
+    @Benchmark
+    public int[] encode() {
+        EmberApsFrame apsFrame = new EmberApsFrame();
+        apsFrame.setProfileId(0x0104);
+        apsFrame.setClusterId(0x0702);
+        apsFrame.setSourceEndpoint(1);
+        apsFrame.setDestinationEndpoint(1);
+        apsFrame.setSequence(0x42);
+
+        EzspSendUnicastRequest request = new EzspSendUnicastRequest();
+        request.setSequenceNumber(0x55);
+        request.setType(EmberOutgoingMessageType.EMBER_OUTGOING_DIRECT);
+        request.setIndexOrDestination(0x1234);
+        request.setApsFrame(apsFrame);
+        request.setMessageTag(0x7E);
+        request.setMessageContents(MESSAGE);
+
+        AshFrameData frame = new AshFrameData(request);
+        frame.setFrmNum(3);
+        frame.setAckNum(5);
+        return frame.getOutputBuffer();
+    }
+
+    @Benchmark
+    public AshFrame decode() {
+        return AshFrame.createFromInput(receivedFrame);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.xbee.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.benchmark.BenchmarkPort;
+import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeEvent;
+import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeTransmitRequestExplicitCommand;
+
+/**
+ * Benchmarks the XBee API framing. Encoding serializes an explicit transmit request and writes it to the port with
+ * the API escaping applied by {@link XBeeFrameHandler}. Decoding passes a received explicit packet through the event
+ * and response factories in the same way as the frame handler.
+ * <p>
+ * The receive side of the escaping is part of the frame handler receive thread and is not included.
+ *
+ * @author Chris Jackson
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class XBeeFrameBenchmark {
+    private static final int[] DATA = new int[] { 0x18, 0x7E, 0x0A, 0x00, 0x00, 0x25, 0x7D, 0x11, 0x13, 0x00, 0x00,
+            0x00, 0x00, 0x02, 0x18, 0x7E, 0x00, 0x04, 0x2A, 0xDC, 0x05, 0x00, 0x18, 0x11, 0x13, 0x7D };
+
+    private static final int[] RECEIVED_FRAME = new int[] { 0x00, 0x1A, 0x91, 0x00, 0x17, 0x88, 0x01, 0x02, 0x13,
+            0x65, 0x36, 0xF7, 0x7B, 0x02, 0x01, 0x00, 0x01, 0x01, 0x04, 0x41, 0x18, 0x7C, 0x01, 0x21, 0x00, 0x00, 0x20,
+            0xC8, 0xC4 };
+
+    private final IeeeAddress ieeeAddress = new IeeeAddress("0013A2004162F61A");
+
+    private BenchmarkPort port;
+
+    @Setup
+    public void setup() {
+        port = new BenchmarkPort();
+    }
+
+    @Benchmark
+    public BenchmarkPort encode() {
+        XBeeTransmitRequestExplicitCommand command = new XBeeTransmitRequestExplicitCommand();
+        command.setFrameId(0x11);
+        command.setIeeeAddress(ieeeAddress);
+        command.setNetworkAddress(0x7E13);
+        command.setSourceEndpoint(1);
+        command.setDestinationEndpoint(1);
+        command.setCluster(0x0702);
+        command.setProfileId(0x0104);
+        command.setBroadcastRadius(0);
+        command.setData(DATA);
+
+        XBeeFrameHandler.writeFrame(port, command.serialize());
+        return port;
+    }
+
+    @Benchmark
+    public XBeeEvent decode() {
+        XBeeEvent event = XBeeEventFactory.getXBeeFrame(RECEIVED_FRAME);
+        XBeeResponseFactory.getXBeeFrame(RECEIVED_FRAME);
+        return event;
+    }
+}
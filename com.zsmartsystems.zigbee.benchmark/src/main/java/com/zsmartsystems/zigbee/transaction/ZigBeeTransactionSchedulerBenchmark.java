@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
+
+/**
+ * Benchmarks the selection of the next transaction to send by the {@link ZigBeeTransactionScheduler} as the number of
+ * node queues grows. Every queue holds transactions that are ready to send, and each operation takes the next ready
+ * queue, releases a transaction from it, completes the transaction and then queues a new one so that the number of
+ * ready queues stays constant.
+ * <p>
+ * The scheduler is benchmarked directly, rather than through the {@link ZigBeeTransactionManager}, so that the
+ * measurement does not include the transport, timers and futures used to complete each transaction.
+ *
+ * @author Chris Jackson
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZigBeeTransactionSchedulerBenchmark {
+    /**
+     * The number of node queues with transactions waiting to be sent
+     */
+    @Param({ "10", "100", "1000", "5000" })
+    private int queueCount;
+
+    private ZigBeeTransactionScheduler scheduler;
+
+    private ZigBeeCommand command;
+
+    @Setup
+    public void setup() {
+        command = new ZigBeeCommand();
+        command.setDestinationAddress(new ZigBeeEndpointAddress(0x1234, 1));
+
+        scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile(0, 1, 0);
+        for (int cnt = 0; cnt < queueCount; cnt++) {
+            ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("Queue" + cnt);
+            queue.setProfile(profile);
+            queue.addToQueue(new ZigBeeTransaction(null, command, null));
+            queue.addToQueue(new ZigBeeTransaction(null, command, null));
+            scheduler.schedule(queue);
+        }
+    }
+
+    @Benchmark
+    public ZigBeeTransaction sendNextTransaction() {
+        ZigBeeTransactionQueue queue = scheduler.nextReadyQueue();
+        ZigBeeTransaction transaction = queue.getTransaction();
+        queue.transactionComplete(transaction, TransactionState.COMPLETE);
+        queue.addToQueue(new ZigBeeTransaction(null, command, null));
+        scheduler.schedule(queue);
+        return transaction;
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.benchmark.simulation.SimulatedNode.NodeType;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
+import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
+import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class SimulatedNetworkTransportTest {
+    private static final int TIMEOUT = 2000;
+
+    private SimulatedNetworkTransport transport;
+    private ZigBeeTransportReceive receive = Mockito.mock(ZigBeeTransportReceive.class);
+
+    @After
+    public void shutdown() {
+        if (transport != null) {
+            transport.shutdown();
+        }
+    }
+
+    @Test
+    public void topology() {
+        SimulatedNetworkConfig config = createConfig(0.0);
+        config.setRouters(5);
+        config.setEndDevices(5);
+        config.setSleepyEndDevices(5);
+        config.setMaxDepth(2);
+
+        List<Integer> addresses = new ArrayList<>();
+        for (SimulatedNode node : new SimulatedNetworkTransport(config).getNodes()) {
+            addresses.add(node.getNetworkAddress());
+        }
+        assertEquals(15, addresses.size());
+
+        // The same seed creates the same network
+        List<Integer> repeatAddresses = new ArrayList<>();
+        for (SimulatedNode node : new SimulatedNetworkTransport(config).getNodes()) {
+            repeatAddresses.add(node.getNetworkAddress());
+            if (node.getType() == NodeType.ROUTER) {
+                assertTrue(node.getDepth() <= 2);
+            }
+        }
+        assertEquals(addresses, repeatAddresses);
+    }
+
+    @Test
+    public void sendCommandNoLoss() {
+        SimulatedNode node = startTransport(createConfig(0.0));
+        transport.sendCommand(1, createRequest(node));
+
+        ArgumentCaptor<ZigBeeTransportProgressState> states = ArgumentCaptor
+                .forClass(ZigBeeTransportProgressState.class);
+        Mockito.verify(receive, Mockito.timeout(TIMEOUT).times(2)).receiveCommandState(Mockito.eq(1),
+                states.capture());
+        assertEquals(ZigBeeTransportProgressState.TX_ACK, states.getAllValues().get(0));
+        assertEquals(ZigBeeTransportProgressState.RX_ACK, states.getAllValues().get(1));
+
+        // The node responds to the request
+        ArgumentCaptor<ZigBeeApsFrame> frames = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
+        Mockito.verify(receive, Mockito.timeout(TIMEOUT)).receiveCommand(frames.capture());
+        assertEquals(node.getNetworkAddress(), frames.getValue().getSourceAddress());
+        assertEquals(0x8002, frames.getValue().getCluster());
+
+        assertEquals(1, transport.getFramesSent());
+        assertEquals(1, transport.getFramesReceived());
+        assertEquals(0, transport.getFramesLost());
+    }
+
+    @Test
+    public void sendCommandAllLost() throws Exception {
+        SimulatedNode node = startTransport(createConfig(1.0));
+        transport.sendCommand(1, createRequest(node));
+
+        ArgumentCaptor<ZigBeeTransportProgressState> states = ArgumentCaptor
+                .forClass(ZigBeeTransportProgressState.class);
+        Mockito.verify(receive, Mockito.timeout(TIMEOUT).times(2)).receiveCommandState(Mockito.eq(1),
+                states.capture());
+        assertEquals(ZigBeeTransportProgressState.TX_ACK, states.getAllValues().get(0));
+        assertEquals(ZigBeeTransportProgressState.RX_NAK, states.getAllValues().get(1));
+
+        Thread.sleep(100);
+        Mockito.verify(receive, Mockito.never()).receiveCommand(Mockito.any(ZigBeeApsFrame.class));
+        assertEquals(1, transport.getFramesLost());
+    }
+
+    @Test
+    public void sendCommandUnknownAddress() {
+        startTransport(createConfig(0.0));
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        frame.setDestinationAddress(0xFFF0);
+        transport.sendCommand(1, frame);
+
+        Mockito.verify(receive, Mockito.timeout(TIMEOUT)).receiveCommandState(1, ZigBeeTransportProgressState.TX_NAK);
+    }
+
+    private SimulatedNetworkConfig createConfig(double lossProbability) {
+        SimulatedNetworkConfig config = new SimulatedNetworkConfig();
+        config.setRouters(1);
+        config.setEndDevices(0);
+        config.setSleepyEndDevices(0);
+        config.setHopLatency(1);
+        config.setHopJitter(0);
+        config.setMacAckDelay(1);
+        config.setProcessingDelay(1);
+        config.setApsAckTimeout(50);
+        config.setThreads(1);
+        config.setLossProbability(lossProbability);
+        return config;
+    }
+
+    private SimulatedNode startTransport(SimulatedNetworkConfig config) {
+        transport = new SimulatedNetworkTransport(config);
+        transport.setZigBeeTransportReceive(receive);
+        assertEquals(ZigBeeStatus.SUCCESS, transport.initialize());
+        assertEquals(ZigBeeStatus.SUCCESS, transport.startup(false));
+        Mockito.verify(receive).setTransportState(ZigBeeTransportState.ONLINE);
+        return transport.getNodes().iterator().next();
+    }
+
+    private ZigBeeApsFrame createRequest(SimulatedNode node) {
+        NodeDescriptorRequest request = new NodeDescriptorRequest();
+        request.setNwkAddrOfInterest(node.getNetworkAddress());
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        request.serialize(serializer);
+
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        frame.setDestinationAddress(node.getNetworkAddress());
+        frame.setProfile(0);
+        frame.setCluster(request.getClusterId());
+        frame.setPayload(serializer.getPayload());
+        return frame;
+    }
+}
@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.benchmark.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.benchmark.simulation.SimulatedNode.NodeType;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclFieldDeserializer;
+import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
+import com.zsmartsystems.zigbee.zcl.ZclFrameType;
+import com.zsmartsystems.zigbee.zcl.ZclHeader;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclMeteringCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclTemperatureMeasurementCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoCommandType;
+import com.zsmartsystems.zigbee.zdo.ZdoResponse;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.ActiveEndpointsRequest;
+import com.zsmartsystems.zigbee.zdo.command.ActiveEndpointsResponse;
+import com.zsmartsystems.zigbee.zdo.command.BindRequest;
+import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
+import com.zsmartsystems.zigbee.zdo.command.IeeeAddressResponse;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
+import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorResponse;
+import com.zsmartsystems.zigbee.zdo.command.SimpleDescriptorRequest;
+import com.zsmartsystems.zigbee.zdo.command.SimpleDescriptorResponse;
+import com.zsmartsystems.zigbee.zdo.command.UnbindRequest;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable.NeighborTableRelationship;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.LogicalType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class SimulatedNodeTest {
+    private static final ExtendedPanId EPANID = new ExtendedPanId("1234567890ABCDEF");
+
+    private SimulatedNode coordinator = new SimulatedNode(new IeeeAddress("1111111111111111"), 0,
+            NodeType.COORDINATOR, null, EPANID);
+    private SimulatedNode router = new SimulatedNode(new IeeeAddress("2222222222222222"), 0x1234, NodeType.ROUTER,
+            coordinator, EPANID);
+    private SimulatedNode sensor = new SimulatedNode(new IeeeAddress("3333333333333333"), 0x5678,
+            NodeType.SLEEPY_END_DEVICE, router, EPANID);
+
+    @Test
+    public void topology() {
+        assertEquals(0, coordinator.getDepth());
+        assertEquals(coordinator, router.getParent());
+        assertEquals(2, sensor.getDepth());
+        assertTrue(router.isReceiverOnWhenIdle());
+        assertFalse(sensor.isReceiverOnWhenIdle());
+
+        assertTrue(router.hasCluster(ZclOnOffCluster.CLUSTER_ID));
+        assertTrue(router.hasCluster(ZclMeteringCluster.CLUSTER_ID));
+        assertFalse(router.hasCluster(ZclTemperatureMeasurementCluster.CLUSTER_ID));
+        assertTrue(sensor.hasCluster(ZclTemperatureMeasurementCluster.CLUSTER_ID));
+    }
+
+    @Test
+    public void addressRequests() {
+        IeeeAddressRequest request = new IeeeAddressRequest();
+        request.setNwkAddrOfInterest(0x1234);
+        request.setRequestType(0);
+        request.setStartIndex(0);
+
+        IeeeAddressResponse response = processZdoRequest(router, request, 0x1234);
+        assertEquals(ZdoStatus.SUCCESS, response.getStatus());
+        assertEquals(new IeeeAddress("2222222222222222"), response.getIeeeAddrRemoteDev());
+        assertEquals(Integer.valueOf(0x1234), response.getNwkAddrRemoteDev());
+
+        // Only the node with the requested address responds
+        assertTrue(sensor.processRequest(createZdoFrame(request, 0xFFFD)).isEmpty());
+    }
+
+    @Test
+    public void descriptorRequests() {
+        NodeDescriptorRequest nodeRequest = new NodeDescriptorRequest();
+        nodeRequest.setNwkAddrOfInterest(0x1234);
+        NodeDescriptorResponse nodeResponse = processZdoRequest(router, nodeRequest, 0x1234);
+        assertEquals(ZdoStatus.SUCCESS, nodeResponse.getStatus());
+        assertEquals(LogicalType.ROUTER, nodeResponse.getNodeDescriptor().getLogicalType());
+        assertEquals(0x1234, nodeResponse.getNodeDescriptor().getManufacturerCode());
+
+        ActiveEndpointsRequest endpointsRequest = new ActiveEndpointsRequest();
+        endpointsRequest.setNwkAddrOfInterest(0x1234);
+        ActiveEndpointsResponse endpointsResponse = processZdoRequest(router, endpointsRequest, 0x1234);
+        assertEquals(Collections.singletonList(1), endpointsResponse.getActiveEpList());
+
+        SimpleDescriptorRequest simpleRequest = new SimpleDescriptorRequest();
+        simpleRequest.setNwkAddrOfInterest(0x1234);
+        simpleRequest.setEndpoint(1);
+        SimpleDescriptorResponse simpleResponse = processZdoRequest(router, simpleRequest, 0x1234);
+        assertEquals(ZdoStatus.SUCCESS, simpleResponse.getStatus());
+        assertEquals(0x0104, simpleResponse.getSimpleDescriptor().getProfileId());
+        assertEquals(Arrays.asList(ZclBasicCluster.CLUSTER_ID, ZclOnOffCluster.CLUSTER_ID,
+                ZclMeteringCluster.CLUSTER_ID), simpleResponse.getSimpleDescriptor().getInputClusterList());
+
+        simpleRequest.setEndpoint(2);
+        simpleResponse = processZdoRequest(router, simpleRequest, 0x1234);
+        assertEquals(ZdoStatus.NOT_ACTIVE, simpleResponse.getStatus());
+    }
+
+    @Test
+    public void bindRequests() {
+        BindRequest bindRequest = new BindRequest();
+        bindRequest.setSrcAddress(new IeeeAddress("2222222222222222"));
+        bindRequest.setSrcEndpoint(1);
+        bindRequest.setBindCluster(ZclOnOffCluster.CLUSTER_ID);
+        bindRequest.setDstAddrMode(3);
+        bindRequest.setDstAddress(new IeeeAddress("1111111111111111"));
+        bindRequest.setDstEndpoint(1);
+        ZdoResponse response = processZdoRequest(router, bindRequest, 0x1234);
+        assertEquals(ZdoStatus.SUCCESS, response.getStatus());
+        assertEquals(Collections.singleton(ZclOnOffCluster.CLUSTER_ID), router.getBoundClusters());
+
+        UnbindRequest unbindRequest = new UnbindRequest();
+        unbindRequest.setSrcAddress(new IeeeAddress("2222222222222222"));
+        unbindRequest.setSrcEndpoint(1);
+        unbindRequest.setBindCluster(ZclOnOffCluster.CLUSTER_ID);
+        unbindRequest.setDstAddrMode(3);
+        unbindRequest.setDstAddress(new IeeeAddress("1111111111111111"));
+        unbindRequest.setDstEndpoint(1);
+        response = processZdoRequest(router, unbindRequest, 0x1234);
+        assertEquals(ZdoStatus.SUCCESS, response.getStatus());
+        assertTrue(router.getBoundClusters().isEmpty());
+    }
+
+    @Test
+    public void managementLqiRequest() {
+        ManagementLqiRequest request = new ManagementLqiRequest();
+        request.setStartIndex(0);
+        ManagementLqiResponse response = processZdoRequest(router, request, 0x1234);
+        assertEquals(ZdoStatus.SUCCESS, response.getStatus());
+        assertEquals(Integer.valueOf(2), response.getNeighborTableEntries());
+        assertEquals(2, response.getNeighborTableList().size());
+        assertEquals(Integer.valueOf(0), response.getNeighborTableList().get(0).getNetworkAddress());
+        assertEquals(NeighborTableRelationship.PARENT, response.getNeighborTableList().get(0).getRelationship());
+        assertEquals(Integer.valueOf(0x5678), response.getNeighborTableList().get(1).getNetworkAddress());
+        assertEquals(NeighborTableRelationship.CHILD, response.getNeighborTableList().get(1).getRelationship());
+
+        // End devices do not have a neighbor table
+        response = processZdoRequest(sensor, request, 0x5678);
+        assertEquals(ZdoStatus.NOT_SUPPORTED, response.getStatus());
+    }
+
+    @Test
+    public void readAttributes() {
+        ReadAttributesCommand command = new ReadAttributesCommand();
+        command.setClusterId(ZclBasicCluster.CLUSTER_ID);
+        command.setIdentifiers(Arrays.asList(ZclBasicCluster.ATTR_MANUFACTURERNAME, ZclBasicCluster.ATTR_HWVERSION));
+
+        ReadAttributesResponse response = new ReadAttributesResponse();
+        processZclRequest(router, command, 0x1234, response);
+        assertEquals(2, response.getRecords().size());
+        assertEquals(ZclStatus.SUCCESS, response.getRecords().get(0).getStatus());
+        assertEquals("Simulated", response.getRecords().get(0).getAttributeValue());
+        assertEquals(ZclBasicCluster.ATTR_HWVERSION, response.getRecords().get(1).getAttributeIdentifier());
+        assertEquals(ZclStatus.UNSUPPORTED_ATTRIBUTE, response.getRecords().get(1).getStatus());
+
+        // Broadcasts are not answered
+        assertTrue(router.processRequest(createZclFrame(command, 0xFFFF)).isEmpty());
+
+        command.setClusterId(ZclTemperatureMeasurementCluster.CLUSTER_ID);
+        DefaultResponse defaultResponse = new DefaultResponse();
+        processZclRequest(router, command, 0x1234, defaultResponse);
+        assertEquals(ZclStatus.UNSUPPORTED_CLUSTER, defaultResponse.getStatusCode());
+    }
+
+    @Test
+    public void writeAttributes() {
+        WriteAttributeRecord record = new WriteAttributeRecord();
+        record.setAttributeIdentifier(ZclOnOffCluster.ATTR_ONOFF);
+        record.setAttributeDataType(ZclDataType.BOOLEAN);
+        record.setAttributeValue(Boolean.TRUE);
+        WriteAttributesCommand command = new WriteAttributesCommand();
+        command.setClusterId(ZclOnOffCluster.CLUSTER_ID);
+        command.setRecords(Collections.singletonList(record));
+
+        WriteAttributesResponse response = new WriteAttributesResponse();
+        processZclRequest(router, command, 0x1234, response);
+        assertEquals(1, response.getRecords().size());
+        assertEquals(ZclStatus.SUCCESS.getId(), response.getRecords().get(0).getStatus());
+        assertEquals(Boolean.TRUE, router.getAttributeValue(ZclOnOffCluster.CLUSTER_ID, ZclOnOffCluster.ATTR_ONOFF));
+    }
+
+    @Test
+    public void clusterCommand() {
+        assertEquals(Boolean.FALSE, router.getAttributeValue(ZclOnOffCluster.CLUSTER_ID, ZclOnOffCluster.ATTR_ONOFF));
+
+        DefaultResponse response = new DefaultResponse();
+        processZclRequest(router, new OnCommand(), 0x1234, response);
+        assertEquals(ZclStatus.SUCCESS, response.getStatusCode());
+        assertEquals(Boolean.TRUE, router.getAttributeValue(ZclOnOffCluster.CLUSTER_ID, ZclOnOffCluster.ATTR_ONOFF));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ZdoResponse> T processZdoRequest(SimulatedNode node, ZigBeeCommand request, int address) {
+        List<ZigBeeApsFrame> responses = node.processRequest(createZdoFrame(request, address));
+        assertEquals(1, responses.size());
+        ZigBeeApsFrame frame = responses.get(0);
+        assertEquals(0, frame.getProfile());
+        assertEquals(request.getClusterId() | 0x8000, frame.getCluster());
+
+        ZigBeeCommand response = ZdoCommandType.getValueById(frame.getCluster()).instantiateCommand();
+        response.deserialize(new ZclFieldDeserializer(new DefaultDeserializer(frame.getPayload())));
+        return (T) response;
+    }
+
+    private void processZclRequest(SimulatedNode node, ZclCommand request, int address, ZclCommand response) {
+        List<ZigBeeApsFrame> responses = node.processRequest(createZclFrame(request, address));
+        assertEquals(1, responses.size());
+        ZigBeeApsFrame frame = responses.get(0);
+        assertEquals(request.getClusterId().intValue(), frame.getCluster());
+
+        ZclFieldDeserializer deserializer = new ZclFieldDeserializer(new DefaultDeserializer(frame.getPayload()));
+        ZclHeader header = new ZclHeader(deserializer);
+        assertEquals(response.getCommandId().intValue(), header.getCommandId());
+        response.deserialize(deserializer);
+    }
+
+    private ZigBeeApsFrame createZdoFrame(ZigBeeCommand command, int address) {
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        frame.setDestinationAddress(address);
+        frame.setProfile(0);
+        frame.setCluster(command.getClusterId());
+        frame.setPayload(serializer.getPayload());
+        return frame;
+    }
+
+    private ZigBeeApsFrame createZclFrame(ZclCommand command, int address) {
+        ZclFieldSerializer serializer = new ZclFieldSerializer(new DefaultSerializer());
+        command.serialize(serializer);
+
+        ZclHeader header = new ZclHeader();
+        header.setFrameType(command.isGenericCommand() ? ZclFrameType.ENTIRE_PROFILE_COMMAND
+                : ZclFrameType.CLUSTER_SPECIFIC_COMMAND);
+        header.setCommandId(command.getCommandId());
+        header.setSequenceNumber(1);
+        header.setDirection(command.getCommandDirection());
+
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        frame.setDestinationAddress(address);
+        frame.setDestinationEndpoint(1);
+        frame.setSourceEndpoint(1);
+        frame.setProfile(0x0104);
+        frame.setCluster(command.getClusterId());
+        frame.setPayload(header.serialize(serializer, serializer.getPayload()));
+        return frame;
+    }
+}
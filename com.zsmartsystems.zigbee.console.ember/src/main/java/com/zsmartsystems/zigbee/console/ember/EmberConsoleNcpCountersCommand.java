@@ -45,6 +45,10 @@ public class EmberConsoleNcpCountersCommand extends EmberConsoleAbstractCommand
         EmberNcp ncp = getEmberNcp(networkManager);
 
         int[] counters = ncp.getCounters();
+        if (counters == null) {
+            out.println("Error reading Ember NCP counters");
+            return;
+        }
         out.println("Ember NCP counters -: ");
         for (int counter = 0; counter < counters.length; counter++) {
             out.println(String.format("  [%-2d] %-45s: %d", counter, EmberCounterType.getEmberCounterType(counter),
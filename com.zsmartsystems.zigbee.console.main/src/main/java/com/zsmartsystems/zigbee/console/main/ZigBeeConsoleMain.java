@@ -43,12 +43,13 @@ import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
 import com.zsmartsystems.zigbee.dongle.cc2531.ZigBeeDongleTiCc2531;
 import com.zsmartsystems.zigbee.dongle.conbee.ZigBeeDongleConBee;
 import com.zsmartsystems.zigbee.dongle.ember.ZigBeeDongleEzsp;
+import com.zsmartsystems.zigbee.dongle.ember.ZigBeeDongleEzspMonitor;
 import com.zsmartsystems.zigbee.dongle.telegesis.ZigBeeDongleTelegesis;
 import com.zsmartsystems.zigbee.dongle.xbee.ZigBeeDongleXBee;
+import com.zsmartsystems.zigbee.jmx.ZigBeeJmxManager;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.serial.ZigBeeSerialPort;
-import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
-import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializerFactory;
 import com.zsmartsystems.zigbee.transport.ConcentratorConfig;
 import com.zsmartsystems.zigbee.transport.ConcentratorType;
 import com.zsmartsystems.zigbee.transport.TransportConfig;
@@ -110,6 +111,8 @@ public class ZigBeeConsoleMain {
         options.addOption(Option.builder("t").longOpt("linkkeyoutcnt").hasArg().argName("counter")
                 .desc("Set the ZigBee Link key outgoing frame counter").build());
         options.addOption(Option.builder("r").longOpt("reset").desc("Reset the ZigBee dongle").build());
+        options.addOption(
+                Option.builder("j").longOpt("jmx").desc("Register JMX MBeans to monitor the network").build());
         options.addOption(Option.builder("?").longOpt("help").desc("Print usage information").build());
 
         CommandLine cmdline;
@@ -241,7 +244,7 @@ public class ZigBeeConsoleMain {
             // networkStateSerializer.remove();
         }
         networkManager.setNetworkDataStore(dataStore);
-        networkManager.setSerializer(DefaultSerializer.class, DefaultDeserializer.class);
+        networkManager.setSerializerFactory(new DefaultSerializerFactory());
         final ZigBeeConsole console = new ZigBeeConsole(networkManager, dongle, commands);
 
         // Initialise the network
@@ -342,8 +345,20 @@ public class ZigBeeConsoleMain {
             tiDongle.setLedMode(2, false);
         }
 
+        ZigBeeJmxManager jmxManager = null;
+        if (cmdline.hasOption("jmx")) {
+            jmxManager = new ZigBeeJmxManager(networkManager, dongleName);
+            jmxManager.register();
+            if (dongle instanceof ZigBeeDongleEzsp) {
+                jmxManager.register("Dongle", new ZigBeeDongleEzspMonitor((ZigBeeDongleEzsp) dongle));
+            }
+        }
+
         console.start();
 
+        if (jmxManager != null) {
+            jmxManager.unregister();
+        }
         System.out.println("Console closed.");
     }
 
@@ -324,7 +324,7 @@ public class ZigBeeDongleConBee implements ZigBeeTransportTransmit {
 
         request.setAdsuData(apsFrame.getPayload());
 
-        conbeeHandler.queueFrame(request);
+        conbeeHandler.queueFrame(request, apsFrame.getPriority());
     }
 
     @Override
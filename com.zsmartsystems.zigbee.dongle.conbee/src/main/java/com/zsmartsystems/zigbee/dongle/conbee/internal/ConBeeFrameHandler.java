@@ -12,8 +12,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -33,7 +31,9 @@ import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameResponse
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeQuerySendDataRequest;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeReadReceivedDataRequest;
 import com.zsmartsystems.zigbee.dongle.conbee.internal.transaction.ConBeeTransaction;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportFrameQueue;
 
 /**
  * Frame parser for ConBee SLIP protocol.
@@ -66,7 +66,7 @@ public class ConBeeFrameHandler {
     /**
      * The queue of {@link ConBeeFrameRequest} frames waiting to be sent
      */
-    private final BlockingQueue<ConBeeFrameRequest> sendQueue = new ArrayBlockingQueue<ConBeeFrameRequest>(20);
+    private final ZigBeeTransportFrameQueue<ConBeeFrameRequest> sendQueue = new ZigBeeTransportFrameQueue<>(20);
 
     private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("ConBeeDongle");
     private final List<ConBeeListener> transactionListeners = new ArrayList<ConBeeListener>();
@@ -214,15 +214,13 @@ public class ConBeeFrameHandler {
                 outputFrame(readRequest);
             } else if (deviceState.isDataRequest() && !sendQueue.isEmpty()) {
                 // Data can be sent
-                try {
-                    logger.debug("ConBeeDeviceState out before");
-                    ConBeeFrameRequest txFrame = sendQueue.take();
-                    logger.debug("ConBeeDeviceState out {}", txFrame);
+                logger.debug("ConBeeDeviceState out before");
+                ConBeeFrameRequest txFrame = sendQueue.poll();
+                logger.debug("ConBeeDeviceState out {}", txFrame);
+                if (txFrame != null) {
                     outputFrame(txFrame);
-                    logger.debug("ConBeeDeviceState out after");
-                } catch (InterruptedException e) {
-                    logger.debug("Interrupted getting frame to send");
                 }
+                logger.debug("ConBeeDeviceState out after");
             } else if (deviceState.isDataConfirm()) {
                 // Check the state of a sent frame
                 ConBeeQuerySendDataRequest queryRequest = new ConBeeQuerySendDataRequest();
@@ -274,33 +272,42 @@ public class ConBeeFrameHandler {
         StringBuilder result = new StringBuilder();
         // Send the data
         logger.debug("CONBEE TX: {}", frame);
-        serialPort.write(SLIP_END);
-
-        for (int val : frame.getOutputBuffer()) {
+        int[] outputBuffer = frame.getOutputBuffer();
+        for (int val : outputBuffer) {
             result.append(String.format(" %02X", val));
-            // logger.debug("CONBEE TX: {}", String.format("%02X", val));
+        }
+        writeFrame(serialPort, outputBuffer);
+
+        logger.debug("CONBEE TX:{}", result.toString());
+
+        startRetryTimer();
+    }
+
+    /**
+     * Writes a SLIP frame to the port. The frame is delimited with SLIP_END, and any reserved bytes in the frame data
+     * are escaped.
+     *
+     * @param port the {@link ZigBeePort} to write the frame to
+     * @param outputBuffer the frame data to write
+     */
+    static void writeFrame(ZigBeePort port, int[] outputBuffer) {
+        port.write(SLIP_END);
+        for (int val : outputBuffer) {
             switch (val) {
                 case SLIP_END:
-                    // logger.debug("CONBEE TX: [ESC]");
-                    serialPort.write(SLIP_ESC);
-                    serialPort.write(SLIP_ESC_END);
+                    port.write(SLIP_ESC);
+                    port.write(SLIP_ESC_END);
                     break;
                 case SLIP_ESC:
-                    // logger.debug("CONBEE TX: [ESC]");
-                    serialPort.write(SLIP_ESC);
-                    serialPort.write(SLIP_ESC_ESC);
+                    port.write(SLIP_ESC);
+                    port.write(SLIP_ESC_ESC);
                     break;
                 default:
-                    serialPort.write(val);
+                    port.write(val);
                     break;
             }
         }
-
-        logger.debug("CONBEE TX:{}", result.toString());
-
-        serialPort.write(SLIP_END);
-
-        startRetryTimer();
+        port.write(SLIP_END);
     }
 
     private synchronized void startRetryTimer() {
@@ -334,14 +341,27 @@ public class ConBeeFrameHandler {
     }
 
     /**
-     * Add a frame to the send queue. The sendQueue is a FIFO queue.
+     * Add a frame to the send queue with {@link ZigBeeTransactionPriority#NORMAL} priority.
+     * This method queues a {@link ConBeeFrame} frame without waiting for a response and
+     * no transaction management is performed.
+     *
+     * @param request {@link ConBeeFrameRequest}
+     */
+    public void queueFrame(ConBeeFrameRequest request) {
+        queueFrame(request, ZigBeeTransactionPriority.NORMAL);
+    }
+
+    /**
+     * Add a frame to the send queue. Frames are sent in order of their {@link ZigBeeTransactionPriority}, and frames
+     * of the same priority are sent in the order they were queued.
      * This method queues a {@link ConBeeFrame} frame without waiting for a response and
      * no transaction management is performed.
      *
      * @param request {@link ConBeeFrameRequest}
+     * @param priority the {@link ZigBeeTransactionPriority} of the frame
      */
-    public synchronized void queueFrame(ConBeeFrameRequest request) {
-        sendQueue.add(request);
+    public synchronized void queueFrame(ConBeeFrameRequest request, ZigBeeTransactionPriority priority) {
+        sendQueue.add(request, priority);
 
         logger.debug("TX CONBEE queue: {}", sendQueue.size());
 
@@ -322,13 +322,17 @@ public class EmberNcp {
     /**
      * Retrieves Ember counters. See the EmberCounterType enumeration for the counter types.
      *
-     * @return the array of counters
+     * @return the array of counters, or null on error
      */
     public int[] getCounters() {
         EzspReadCountersRequest request = new EzspReadCountersRequest();
         EzspTransaction transaction = protocolHandler
                 .sendEzspTransaction(new EzspSingleResponseTransaction(request, EzspReadCountersResponse.class));
         EzspReadCountersResponse response = (EzspReadCountersResponse) transaction.getResponse();
+        if (response == null) {
+            logger.debug("No response from readCounters command");
+            return null;
+        }
         logger.debug(response.toString());
         lastStatus = null;
         return response.getValues();
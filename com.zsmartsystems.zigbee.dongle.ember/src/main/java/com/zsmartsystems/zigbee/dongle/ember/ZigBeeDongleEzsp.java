@@ -606,6 +606,9 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
             // apsFrame.setGroupId(groupAddress.getGroupId());
             return;
         }
+        if (apsFrame.getPriority() != null) {
+            transaction.getRequest().setPriority(apsFrame.getPriority());
+        }
 
         // The response from the SendXxxcast messages returns the network layer sequence number
         // We need to correlate this with the messageTag
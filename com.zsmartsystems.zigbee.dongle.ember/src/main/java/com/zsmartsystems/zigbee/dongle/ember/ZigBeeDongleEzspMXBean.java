@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember;
+
+import java.util.Map;
+
+/**
+ * JMX management interface for the {@link ZigBeeDongleEzsp} driver. This may be registered with the network MBeans
+ * using {@link com.zsmartsystems.zigbee.jmx.ZigBeeJmxManager#register(String, Object)}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeDongleEzspMXBean {
+    /**
+     * Gets the version of the NCP firmware
+     *
+     * @return the version string
+     */
+    String getVersion();
+
+    /**
+     * Gets the counters maintained by the serial protocol handler, including the number of frames waiting to be sent
+     *
+     * @return a map of the counter name to the counter value
+     */
+    Map<String, Long> getProtocolCounters();
+
+    /**
+     * Gets the counters maintained by the NCP. The counters are read from the NCP each time this is called.
+     *
+     * @return a map of the {@link com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberCounterType} name to the
+     *         counter value. The map is empty if the counters could not be read.
+     */
+    Map<String, Integer> getNcpCounters();
+}
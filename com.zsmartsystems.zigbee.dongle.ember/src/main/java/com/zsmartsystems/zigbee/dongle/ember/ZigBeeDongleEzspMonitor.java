@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberCounterType;
+
+/**
+ * Implementation of the {@link ZigBeeDongleEzspMXBean}
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeDongleEzspMonitor implements ZigBeeDongleEzspMXBean {
+    private final ZigBeeDongleEzsp dongle;
+
+    /**
+     * Creates the monitor
+     *
+     * @param dongle the {@link ZigBeeDongleEzsp} to monitor
+     */
+    public ZigBeeDongleEzspMonitor(ZigBeeDongleEzsp dongle) {
+        this.dongle = dongle;
+    }
+
+    @Override
+    public String getVersion() {
+        return dongle.getVersionString();
+    }
+
+    @Override
+    public Map<String, Long> getProtocolCounters() {
+        return new TreeMap<>(dongle.getCounters());
+    }
+
+    @Override
+    public Map<String, Integer> getNcpCounters() {
+        Map<String, Integer> counters = new TreeMap<>();
+        if (dongle.getProtocolHandler() == null) {
+            return counters;
+        }
+
+        int[] values = dongle.getEmberNcp().getCounters();
+        if (values == null) {
+            return counters;
+        }
+        for (int counter = 0; counter < values.length; counter++) {
+            EmberCounterType type = EmberCounterType.getEmberCounterType(counter);
+            counters.put(type == EmberCounterType.UNKNOWN ? "COUNTER_" + counter : type.toString(), values[counter]);
+        }
+        return counters;
+    }
+}
@@ -10,6 +10,7 @@ package com.zsmartsystems.zigbee.dongle.ember.ezsp;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.zsmartsystems.zigbee.dongle.ember.internal.serializer.EzspSerializer;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 
 /**
  * The EmberZNet Serial Protocol (EZSP) is the protocol used by a host
@@ -42,6 +43,11 @@ import com.zsmartsystems.zigbee.dongle.ember.internal.serializer.EzspSerializer;
 public abstract class EzspFrameRequest extends EzspFrame {
     private final static AtomicLong sequence = new AtomicLong(1);
 
+    /**
+     * The priority used when queueing the frame to be sent to the NCP
+     */
+    private ZigBeeTransactionPriority priority = ZigBeeTransactionPriority.NORMAL;
+
     /**
      * Constructor used to create an outgoing frame
      */
@@ -52,6 +58,25 @@ public abstract class EzspFrameRequest extends EzspFrame {
         }
     }
 
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} used when queueing the frame to be sent to the NCP
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the frame
+     */
+    public ZigBeeTransactionPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the {@link ZigBeeTransactionPriority} used when queueing the frame to be sent to the NCP. Higher priority
+     * frames are sent before lower priority frames that are waiting in the queue.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority} of the frame
+     */
+    public void setPriority(ZigBeeTransactionPriority priority) {
+        this.priority = priority;
+    }
+
     protected void serializeHeader(final EzspSerializer serializer) {
         // Output sequence number
         serializer.serializeUInt8(sequenceNumber);
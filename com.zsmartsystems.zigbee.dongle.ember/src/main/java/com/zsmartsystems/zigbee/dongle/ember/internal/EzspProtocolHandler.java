@@ -50,7 +50,8 @@ public interface EzspProtocolHandler {
     public boolean isAlive();
 
     /**
-     * Add an EZSP frame to the send queue. The sendQueue is a FIFO queue.
+     * Add an EZSP frame to the send queue. The sendQueue is ordered by the priority of the frame (see
+     * {@link EzspFrameRequest#getPriority()}), and frames of the same priority are sent in the order they are queued.
      * This method queues a {@link EzspFrameRequest} frame without waiting for a response and
      * no transaction management is performed.
      *
@@ -35,6 +35,7 @@ import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportFrameQueue;
 
 /**
  * Frame parser for the Silicon Labs Asynchronous Serial Host (ASH) protocol.
@@ -103,7 +104,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
     /**
      * The queue of {@link EzspFrameRequest} frames waiting to be sent
      */
-    private final Queue<EzspFrameRequest> sendQueue = new ConcurrentLinkedQueue<EzspFrameRequest>();
+    private final ZigBeeTransportFrameQueue<EzspFrameRequest> sendQueue = new ZigBeeTransportFrameQueue<>();
 
     /**
      * The queue of {@link AshFrameData} frames that we have sent. These are kept in case a resend is required.
@@ -498,7 +499,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
             logger.debug("ASH: Handler is closed");
             return;
         }
-        sendQueue.add(request);
+        sendQueue.add(request, request.getPriority());
 
         logger.debug("ASH: TX EZSP queue size: {}", sendQueue.size());
 
@@ -840,6 +841,8 @@ public class AshFrameHandler implements EzspProtocolHandler {
         counters.put("ASH_RX_NAK", statsRxNaks);
         counters.put("ASH_RX_ACK", statsRxAcks);
         counters.put("ASH_RX_ERR", statsRxErrs);
+        counters.put("ASH_TX_QUEUE", (long) sendQueue.size());
+        counters.put("ASH_TX_PENDING", (long) sentQueue.size());
 
         return counters;
     }
@@ -12,10 +12,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -40,6 +38,7 @@ import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportFrameQueue;
 
 /**
  * Frame parser for the Silicon Labs SPI protocol.
@@ -115,7 +114,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
     /**
      * The queue of {@link EzspFrameRequest} frames waiting to be sent
      */
-    private final Queue<EzspFrameRequest> sendQueue = new ConcurrentLinkedQueue<EzspFrameRequest>();
+    private final ZigBeeTransportFrameQueue<EzspFrameRequest> sendQueue = new ZigBeeTransportFrameQueue<>();
 
     private boolean stateConnected = false;
 
@@ -574,7 +573,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
 
     @Override
     public void queueFrame(EzspFrameRequest request) {
-        sendQueue.add(request);
+        sendQueue.add(request, request.getPriority());
 
         logger.debug("TX EZSP queue: {}", sendQueue.size());
 
@@ -879,6 +878,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         // counters.put("ASH_RX_NAK", statsRxNaks);
         // counters.put("ASH_RX_ACK", statsRxAcks);
         // counters.put("ASH_RX_ERR", statsRxErrs);
+        counters.put("SPI_TX_QUEUE", (long) sendQueue.size());
 
         return counters;
     }
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.TestUtilities;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspReadCountersResponse;
+import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeDongleEzspMonitorTest {
+    @Test
+    public void counters() throws Exception {
+        ZigBeeDongleEzsp dongle = new ZigBeeDongleEzsp(null);
+        ZigBeeDongleEzspMonitor monitor = new ZigBeeDongleEzspMonitor(dongle);
+
+        // The dongle is not initialised
+        assertTrue(monitor.getProtocolCounters().isEmpty());
+        assertTrue(monitor.getNcpCounters().isEmpty());
+
+        EzspProtocolHandler handler = Mockito.mock(EzspProtocolHandler.class);
+        Mockito.when(handler.getCounters()).thenReturn(Collections.singletonMap("ASH_TX_QUEUE", 3L));
+        EzspReadCountersResponse response = Mockito.mock(EzspReadCountersResponse.class);
+        Mockito.when(response.getValues()).thenReturn(new int[] { 12, 34 });
+        EzspTransaction transaction = Mockito.mock(EzspTransaction.class);
+        Mockito.when(transaction.getResponse()).thenReturn(response);
+        Mockito.when(handler.sendEzspTransaction(ArgumentMatchers.any(EzspTransaction.class))).thenReturn(transaction);
+        TestUtilities.setField(ZigBeeDongleEzsp.class, dongle, "frameHandler", handler);
+
+        assertEquals(Long.valueOf(3), monitor.getProtocolCounters().get("ASH_TX_QUEUE"));
+        Map<String, Integer> counters = monitor.getNcpCounters();
+        assertEquals(2, counters.size());
+        assertEquals(Integer.valueOf(12), counters.get("EMBER_COUNTER_MAC_RX_BROADCAST"));
+        assertEquals(Integer.valueOf(34), counters.get("EMBER_COUNTER_MAC_TX_BROADCAST"));
+
+        // No response from the NCP
+        Mockito.when(transaction.getResponse()).thenReturn(null);
+        assertTrue(monitor.getNcpCounters().isEmpty());
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -699,12 +700,15 @@ public class ZigBeeDongleTelegesis
 
         logger.debug("Telegesis send: {}", command.toString());
 
+        // Queue the frame now so that the frame handler can order it against other waiting frames by priority
+        final Future<TelegesisCommand> future = frameHandler.sendRequestAsync(command, apsFrame.getPriority());
+
         // We need to get the Telegesis SEQ number for the transaction so we can correlate the transaction ID
         // This is done in a separate thread that puts all the responses from the dongle in a pipeline
         commandScheduler.execute(new Runnable() {
             @Override
             public void run() {
-                frameHandler.sendRequest(command);
+                frameHandler.completeRequest(command, future);
 
                 // Let the stack know the frame is sent
                 zigbeeTransportReceive.receiveCommandState(msgTag,
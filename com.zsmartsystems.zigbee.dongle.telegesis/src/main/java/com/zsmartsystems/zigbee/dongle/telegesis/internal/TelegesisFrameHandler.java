@@ -10,9 +10,7 @@ package com.zsmartsystems.zigbee.dongle.telegesis.internal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -30,7 +28,9 @@ import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisComm
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisEvent;
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisFrame;
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisStatusCode;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportFrameQueue;
 
 /**
  * Frame parser for the Telegesis AT command protocol.
@@ -47,7 +47,7 @@ public class TelegesisFrameHandler {
     /**
      * The queue of {@link TelegesisFrame} frames waiting to be sent
      */
-    private final Queue<TelegesisCommand> sendQueue = new ConcurrentLinkedQueue<TelegesisCommand>();
+    private final ZigBeeTransportFrameQueue<TelegesisCommand> sendQueue = new ZigBeeTransportFrameQueue<>();
 
     private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("TelegesisFrameExecutor");
 
@@ -372,13 +372,25 @@ public class TelegesisFrameHandler {
     }
 
     /**
-     * Add a Telegesis command frame to the send queue. The sendQueue is a FIFO queue.
+     * Add a Telegesis command frame to the send queue with {@link ZigBeeTransactionPriority#NORMAL} priority.
      * This method queues a {@link TelegesisCommand} frame without waiting for a response.
      *
      * @param request {@link TelegesisFrame}
      */
     public void queueFrame(TelegesisCommand request) {
-        sendQueue.add(request);
+        queueFrame(request, ZigBeeTransactionPriority.NORMAL);
+    }
+
+    /**
+     * Add a Telegesis command frame to the send queue. Frames are sent in order of their
+     * {@link ZigBeeTransactionPriority}, and frames of the same priority are sent in the order they were queued.
+     * This method queues a {@link TelegesisCommand} frame without waiting for a response.
+     *
+     * @param request {@link TelegesisFrame}
+     * @param priority the {@link ZigBeeTransactionPriority} of the frame
+     */
+    public void queueFrame(TelegesisCommand request, ZigBeeTransactionPriority priority) {
+        sendQueue.add(request, priority);
 
         logger.debug("TX Telegesis queue: {}", sendQueue.size());
 
@@ -497,6 +509,18 @@ public class TelegesisFrameHandler {
      * @return response {@link Future} {@link TelegesisCommand}
      */
     public Future<TelegesisCommand> sendRequestAsync(final TelegesisCommand command) {
+        return sendRequestAsync(command, ZigBeeTransactionPriority.NORMAL);
+    }
+
+    /**
+     * Sends a Telegesis request to the NCP without waiting for the response.
+     *
+     * @param command Request {@link TelegesisCommand} to send
+     * @param priority the {@link ZigBeeTransactionPriority} used when queueing the frame
+     * @return response {@link Future} {@link TelegesisCommand}
+     */
+    public Future<TelegesisCommand> sendRequestAsync(final TelegesisCommand command,
+            final ZigBeeTransactionPriority priority) {
         class TransactionWaiter implements Callable<TelegesisCommand>, TelegesisListener {
             private boolean complete = false;
 
@@ -506,7 +530,7 @@ public class TelegesisFrameHandler {
                 addTransactionListener(this);
 
                 // Send the transaction
-                queueFrame(command);
+                queueFrame(command, priority);
 
                 // Wait for the transaction to complete
                 synchronized (this) {
@@ -554,7 +578,18 @@ public class TelegesisFrameHandler {
      * @return response {@link TelegesisStatusCode} of the response, or null if there was a timeout
      */
     public TelegesisStatusCode sendRequest(final TelegesisCommand command) {
-        Future<TelegesisCommand> future = sendRequestAsync(command);
+        return completeRequest(command, sendRequestAsync(command));
+    }
+
+    /**
+     * Waits for a request started with {@link #sendRequestAsync(TelegesisCommand, ZigBeeTransactionPriority)} to
+     * complete. The response data is available for the caller in the original command class.
+     *
+     * @param command Request {@link TelegesisCommand}
+     * @param future the {@link Future} returned when the request was sent
+     * @return response {@link TelegesisStatusCode} of the response, or null if there was a timeout
+     */
+    public TelegesisStatusCode completeRequest(final TelegesisCommand command, final Future<TelegesisCommand> future) {
         try {
             future.get(transactionTimeout, TimeUnit.MILLISECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
@@ -36,6 +36,7 @@ import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisNetw
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisNetworkLostEvent;
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisSendMulticastCommand;
 import com.zsmartsystems.zigbee.dongle.telegesis.internal.protocol.TelegesisSendUnicastCommand;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
@@ -227,6 +228,7 @@ public class ZigBeeDongleTelegesisTest {
         apsFrame.setApsCounter(1);
         apsFrame.setRadius(30);
         apsFrame.setPayload(new int[] {});
+        apsFrame.setPriority(ZigBeeTransactionPriority.INTERACTIVE);
 
         Mockito.doAnswer(new Answer<Void>() {
             @Override
@@ -238,11 +240,14 @@ public class ZigBeeDongleTelegesisTest {
                 }
                 return null;
             }
-        }).when(handler).sendRequest(ArgumentMatchers.any(TelegesisCommand.class));
+        }).when(handler).completeRequest(ArgumentMatchers.any(TelegesisCommand.class), ArgumentMatchers.any());
 
         dongle.sendCommand(1, apsFrame);
+        Mockito.verify(handler, Mockito.times(1)).sendRequestAsync(
+                ArgumentMatchers.any(TelegesisSendUnicastCommand.class),
+                ArgumentMatchers.eq(ZigBeeTransactionPriority.INTERACTIVE));
         Mockito.verify(handler, Mockito.timeout(TIMEOUT).times(1))
-                .sendRequest(ArgumentMatchers.any(TelegesisSendUnicastCommand.class));
+                .completeRequest(ArgumentMatchers.any(TelegesisSendUnicastCommand.class), ArgumentMatchers.any());
     }
 
     @Test
@@ -264,7 +269,9 @@ public class ZigBeeDongleTelegesisTest {
         apsFrame.setPayload(new int[] {});
 
         dongle.sendCommand(1, apsFrame);
+        Mockito.verify(handler, Mockito.times(1))
+                .sendRequestAsync(ArgumentMatchers.any(TelegesisSendMulticastCommand.class), ArgumentMatchers.any());
         Mockito.verify(handler, Mockito.timeout(TIMEOUT).times(1))
-                .sendRequest(ArgumentMatchers.any(TelegesisSendMulticastCommand.class));
+                .completeRequest(ArgumentMatchers.any(TelegesisSendMulticastCommand.class), ArgumentMatchers.any());
     }
 }
@@ -340,7 +340,7 @@ public class ZigBeeDongleXBee implements ZigBeeTransportTransmit, XBeeEventListe
         command.setData(apsFrame.getPayload());
 
         logger.debug("XBee send: {}", command.toString());
-        frameHandler.sendRequestAsync(command);
+        frameHandler.sendRequestAsync(command, apsFrame.getPriority());
     }
 
     @Override
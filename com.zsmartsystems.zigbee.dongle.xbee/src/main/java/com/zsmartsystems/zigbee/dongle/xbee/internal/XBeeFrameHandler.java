@@ -10,9 +10,7 @@ package com.zsmartsystems.zigbee.dongle.xbee.internal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -30,7 +28,9 @@ import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeCommand;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeEvent;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeFrame;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeResponse;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportFrameQueue;
 
 /**
  * Frame parser for the XBee API command protocol.
@@ -47,7 +47,7 @@ public class XBeeFrameHandler {
     /**
      * The queue of {@link XBeeFrame} frames waiting to be sent
      */
-    private final Queue<XBeeCommand> sendQueue = new ConcurrentLinkedQueue<XBeeCommand>();
+    private final ZigBeeTransportFrameQueue<XBeeCommand> sendQueue = new ZigBeeTransportFrameQueue<>();
 
     private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("XBeeFrameExecutor");
 
@@ -128,13 +128,13 @@ public class XBeeFrameHandler {
         RECEIVE_DATA
     }
 
-    private final int XBEE_FLAG = 0x7E;
-    private final int XBEE_ESCAPE = 0x7D;
-    private final int XBEE_XOR = 0x20;
-    private final int XBEE_XON = 0x11;
-    private final int XBEE_XOFF = 0x13;
+    private static final int XBEE_FLAG = 0x7E;
+    private static final int XBEE_ESCAPE = 0x7D;
+    private static final int XBEE_XOR = 0x20;
+    private static final int XBEE_XON = 0x11;
+    private static final int XBEE_XOFF = 0x13;
 
-    private final List<Integer> escapeCodes = Arrays
+    private static final List<Integer> escapeCodes = Arrays
             .asList(new Integer[] { XBEE_FLAG, XBEE_ESCAPE, XBEE_XON, XBEE_XOFF });
 
     /**
@@ -356,19 +356,13 @@ public class XBeeFrameHandler {
             // Remember the command we're processing
             sentCommand = nextFrame;
 
-            serialPort.write(XBEE_FLAG);
-
             // Send the data
+            int[] frameData = nextFrame.serialize();
             StringBuilder builder = new StringBuilder();
-            for (int sendByte : nextFrame.serialize()) {
+            for (int sendByte : frameData) {
                 builder.append(String.format(" %02X", sendByte));
-                if (escapeCodes.contains(sendByte)) {
-                    serialPort.write(XBEE_ESCAPE);
-                    serialPort.write(sendByte ^ XBEE_XOR);
-                } else {
-                    serialPort.write(sendByte);
-                }
             }
+            writeFrame(serialPort, frameData);
             logger.debug("TX XBEE Data:{}", builder.toString());
 
             // Start the timeout
@@ -377,13 +371,34 @@ public class XBeeFrameHandler {
     }
 
     /**
-     * Add a XBee command frame to the send queue. The sendQueue is a FIFO queue.
+     * Writes a frame to the port. The frame is started with the frame delimiter, and any reserved bytes in the frame
+     * data are escaped.
+     *
+     * @param port the {@link ZigBeePort} to write the frame to
+     * @param frameData the frame data to write
+     */
+    static void writeFrame(ZigBeePort port, int[] frameData) {
+        port.write(XBEE_FLAG);
+        for (int sendByte : frameData) {
+            if (escapeCodes.contains(sendByte)) {
+                port.write(XBEE_ESCAPE);
+                port.write(sendByte ^ XBEE_XOR);
+            } else {
+                port.write(sendByte);
+            }
+        }
+    }
+
+    /**
+     * Add a XBee command frame to the send queue. Frames are sent in order of their {@link ZigBeeTransactionPriority},
+     * and frames of the same priority are sent in the order they were queued.
      * This method queues a {@link XBeeCommand} frame without waiting for a response.
      *
      * @param request {@link XBeeFrame}
+     * @param priority the {@link ZigBeeTransactionPriority} of the frame
      */
-    private void queueFrame(XBeeCommand request) {
-        sendQueue.add(request);
+    private void queueFrame(XBeeCommand request, ZigBeeTransactionPriority priority) {
+        sendQueue.add(request, priority);
 
         logger.debug("TX XBEE queue: {}: {}", sendQueue.size(), request);
 
@@ -494,6 +509,17 @@ public class XBeeFrameHandler {
      * @return response {@link Future} {@link XBeeResponse}
      */
     public Future<XBeeResponse> sendRequestAsync(final XBeeCommand command) {
+        return sendRequestAsync(command, ZigBeeTransactionPriority.NORMAL);
+    }
+
+    /**
+     * Sends a XBee request to the NCP without waiting for the response.
+     *
+     * @param command Request {@link XBeeCommand} to send
+     * @param priority the {@link ZigBeeTransactionPriority} used when queueing the frame
+     * @return response {@link Future} {@link XBeeResponse}
+     */
+    public Future<XBeeResponse> sendRequestAsync(final XBeeCommand command, final ZigBeeTransactionPriority priority) {
         class TransactionWaiter implements Callable<XBeeResponse>, XBeeListener {
             private boolean complete = false;
             private XBeeResponse completionResponse = null;
@@ -514,7 +540,7 @@ public class XBeeFrameHandler {
                 }
 
                 // Send the transaction
-                queueFrame(command);
+                queueFrame(command, priority);
 
                 // Wait for the transaction to complete
                 synchronized (this) {
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
@@ -26,6 +27,7 @@ import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.XBeeFrameHandler;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeCommand;
 import com.zsmartsystems.zigbee.dongle.xbee.internal.protocol.XBeeTransmitRequestExplicitCommand;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zdo.ZdoStatus;
 import com.zsmartsystems.zigbee.zdo.command.MatchDescriptorResponse;
 
@@ -47,7 +49,8 @@ public class ZigBeeDongleXBeeTest {
     public void sendCommand() {
         XBeeFrameHandler frameHandler = Mockito.mock(XBeeFrameHandler.class);
         ArgumentCaptor<XBeeCommand> commandCapture = ArgumentCaptor.forClass(XBeeCommand.class);
-        Mockito.when(frameHandler.sendRequestAsync(commandCapture.capture())).thenReturn(null);
+        Mockito.when(frameHandler.sendRequestAsync(commandCapture.capture(),
+                ArgumentMatchers.eq(ZigBeeTransactionPriority.INTERACTIVE))).thenReturn(null);
 
         ZigBeeDongleXBee dongle = new ZigBeeDongleXBee(null);
 
@@ -78,6 +81,7 @@ public class ZigBeeDongleXBeeTest {
         apsFrame.setRadius(31);
         apsFrame.setApsCounter(42);
         apsFrame.setPayload(new int[] { 0x00, 0x00, 0x2E, 0x5B, 0x01, 0x01 });
+        apsFrame.setPriority(ZigBeeTransactionPriority.INTERACTIVE);
 
         System.out.println(command);
         System.out.println(apsFrame);
@@ -24,6 +24,11 @@ public class CommandResult {
      */
     private final ZigBeeCommand response;
 
+    /**
+     * The status if the command was not sent, or null if the command was sent.
+     */
+    private final ZigBeeStatus status;
+
     /**
      * Constructor which sets the received response command or null if timeout occurs.
      *
@@ -31,6 +36,7 @@ public class CommandResult {
      */
     public CommandResult(final ZigBeeCommand response) {
         this.response = response;
+        this.status = null;
     }
 
     /**
@@ -38,6 +44,17 @@ public class CommandResult {
      */
     public CommandResult() {
         response = null;
+        status = null;
+    }
+
+    /**
+     * Constructor for situations where the command was not sent.
+     *
+     * @param status the {@link ZigBeeStatus} providing the reason the command was not sent
+     */
+    public CommandResult(final ZigBeeStatus status) {
+        this.response = null;
+        this.status = status;
     }
 
     /**
@@ -55,7 +72,7 @@ public class CommandResult {
      * @return TRUE if timeout occurred
      */
     public boolean isTimeout() {
-        return response == null;
+        return response == null && status == null;
     }
 
     /**
@@ -64,7 +81,9 @@ public class CommandResult {
      * @return true if the command resulted in an error
      */
     public boolean isError() {
-        if (hasStatusCode()) {
+        if (status != null) {
+            return status != ZigBeeStatus.SUCCESS;
+        } else if (hasStatusCode()) {
             return getStatusCode() != 0;
         } else {
             return response == null;
@@ -101,6 +120,15 @@ public class CommandResult {
         }
     }
 
+    /**
+     * Gets the reason the command was not sent.
+     *
+     * @return the {@link ZigBeeStatus} if the command was not sent, or null if the command was sent
+     */
+    public ZigBeeStatus getStatus() {
+        return status;
+    }
+
     /**
      * Gets the received response.
      *
@@ -119,6 +147,8 @@ public class CommandResult {
             builder.append(response);
         } else if (isTimeout()) {
             builder.append("TIMEOUT");
+        } else if (status != null) {
+            builder.append(status);
         } else {
             final ZclStatus status = ZclStatus.getStatus((byte) getStatusCode().intValue());
             builder.append("ERROR (");
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+/**
+ * Provides the current time to the timer services in the library. This allows the time to be driven by a virtual clock
+ * in tests, rather than waiting for real time to pass.
+ * <p>
+ * The time is only used to measure intervals, and is not related to the wall clock time. Implementations should be
+ * monotonic, so that timers are not delayed or expired early if the wall clock is changed.
+ *
+ * @author Chris Jackson
+ */
+public interface ZigBeeClock {
+    /**
+     * The {@link ZigBeeClock} using the monotonic system timer from {@link System#nanoTime()}
+     */
+    ZigBeeClock SYSTEM = new ZigBeeClock() {
+        @Override
+        public long currentTimeMillis() {
+            return System.nanoTime() / 1000000;
+        }
+    };
+
+    /**
+     * Gets the current time in milliseconds. This is measured from an arbitrary origin, so only the difference between
+     * two values is meaningful.
+     *
+     * @return the current time in milliseconds
+     */
+    long currentTimeMillis();
+}
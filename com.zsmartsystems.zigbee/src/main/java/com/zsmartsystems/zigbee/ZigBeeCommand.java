@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee;
 
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zcl.ZclFieldDeserializer;
 import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
 
@@ -44,6 +45,11 @@ public class ZigBeeCommand {
      */
     private boolean apsSecurity = false;
 
+    /**
+     * The priority class used when sending the command
+     */
+    private ZigBeeTransactionPriority priority = ZigBeeTransactionPriority.NORMAL;
+
     /**
      * Gets destination address.
      *
@@ -116,6 +122,25 @@ public class ZigBeeCommand {
         return apsSecurity;
     }
 
+    /**
+     * Sets the priority class used when sending the command. Commands with a higher priority are sent before commands
+     * with a lower priority.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority} of the command
+     */
+    public void setPriority(ZigBeeTransactionPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Gets the priority class used when sending the command
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the command
+     */
+    public ZigBeeTransactionPriority getPriority() {
+        return priority;
+    }
+
     /**
      * Sets the transaction ID.
      *
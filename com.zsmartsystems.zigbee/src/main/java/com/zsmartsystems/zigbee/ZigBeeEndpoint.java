@@ -7,19 +7,22 @@
  */
 package com.zsmartsystems.zigbee;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.app.ZigBeeApplication;
+import com.zsmartsystems.zigbee.database.ZclAttributeDao;
 import com.zsmartsystems.zigbee.database.ZclClusterDao;
 import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
@@ -69,12 +72,24 @@ public class ZigBeeEndpoint {
     private int deviceVersion;
 
     /**
-     * List of input clusters supported by the endpoint
+     * Set of input cluster IDs supported by the endpoint
+     */
+    private final Set<Integer> inputClusterIds = ConcurrentHashMap.<Integer> newKeySet();
+
+    /**
+     * Set of output cluster IDs supported by the endpoint
+     */
+    private final Set<Integer> outputClusterIds = ConcurrentHashMap.<Integer> newKeySet();
+
+    /**
+     * Map of input clusters that have been created. Clusters are only created when they are first used, so this may
+     * not contain all clusters listed in {@link #inputClusterIds}.
      */
     private final Map<Integer, ZclCluster> inputClusters = new ConcurrentHashMap<Integer, ZclCluster>();
 
     /**
-     * List of output clusters supported by the endpoint
+     * Map of output clusters that have been created. Clusters are only created when they are first used, so this may
+     * not contain all clusters listed in {@link #outputClusterIds}.
      */
     private final Map<Integer, ZclCluster> outputClusters = new ConcurrentHashMap<Integer, ZclCluster>();
 
@@ -148,7 +163,7 @@ public class ZigBeeEndpoint {
      * @return the {@link Collection} of input cluster IDs
      */
     public Collection<Integer> getInputClusterIds() {
-        return inputClusters.keySet();
+        return Collections.unmodifiableSet(inputClusterIds);
     }
 
     /**
@@ -159,13 +174,7 @@ public class ZigBeeEndpoint {
      *         endpoint)
      */
     public boolean addInputCluster(ZclCluster cluster) {
-        if (inputClusters.containsKey(cluster.getClusterId())
-                && !(inputClusters.get(cluster.getClusterId()) instanceof ZclCustomCluster)) {
-            return false;
-        }
-
-        inputClusters.put(cluster.getClusterId(), cluster);
-        return true;
+        return addCluster(inputClusters, inputClusterIds, cluster, true);
     }
 
     /**
@@ -188,7 +197,7 @@ public class ZigBeeEndpoint {
      * @return the {@link ZclCluster} or null if cluster is not found
      */
     public ZclCluster getInputCluster(int clusterId) {
-        return inputClusters.get(clusterId);
+        return getCluster(inputClusters, inputClusterIds, clusterId, true);
     }
 
     /**
@@ -198,7 +207,7 @@ public class ZigBeeEndpoint {
      * @return the {@link ZclCluster} or null if cluster is not found
      */
     public ZclCluster getOutputCluster(int clusterId) {
-        return outputClusters.get(clusterId);
+        return getCluster(outputClusters, outputClusterIds, clusterId, false);
     }
 
     /**
@@ -208,11 +217,9 @@ public class ZigBeeEndpoint {
      * @param inputClusterIds the input cluster IDs
      */
     public void setInputClusterIds(List<Integer> inputClusterIds) {
-        inputClusters.clear();
-
         logger.debug("{}: Setting input clusters {}", getEndpointAddress(), inputClusterIds);
 
-        updateClusters(inputClusters, inputClusterIds, true);
+        updateClusters(this.inputClusters, this.inputClusterIds, inputClusterIds);
     }
 
     /**
@@ -240,7 +247,7 @@ public class ZigBeeEndpoint {
      * @return the {@link Collection} of output cluster IDs
      */
     public Collection<Integer> getOutputClusterIds() {
-        return outputClusters.keySet();
+        return Collections.unmodifiableSet(outputClusterIds);
     }
 
     /**
@@ -250,11 +257,9 @@ public class ZigBeeEndpoint {
      * @param outputClusterIds the output cluster IDs
      */
     public void setOutputClusterIds(List<Integer> outputClusterIds) {
-        outputClusters.clear();
-
         logger.debug("{}: Setting output clusters {}", getEndpointAddress(), outputClusterIds);
 
-        updateClusters(outputClusters, outputClusterIds, false);
+        updateClusters(this.outputClusters, this.outputClusterIds, outputClusterIds);
     }
 
     /**
@@ -265,13 +270,7 @@ public class ZigBeeEndpoint {
      *         endpoint)
      */
     public boolean addOutputCluster(ZclCluster cluster) {
-        if (outputClusters.containsKey(cluster.getClusterId())
-                && !(outputClusters.get(cluster.getClusterId()) instanceof ZclCustomCluster)) {
-            return false;
-        }
-
-        outputClusters.put(cluster.getClusterId(), cluster);
-        return true;
+        return addCluster(outputClusters, outputClusterIds, cluster, false);
     }
 
     /**
@@ -305,61 +304,89 @@ public class ZigBeeEndpoint {
         }
 
         // Create a cluster class
-        ZclCluster cluster = null;
-        Constructor<? extends ZclCluster> constructor;
-        try {
-            constructor = clusterType.getClusterClass().getConstructor(ZigBeeEndpoint.class);
-            cluster = constructor.newInstance(this);
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
+        ZclCluster cluster = clusterType.instantiateCluster(this);
+        if (cluster == null) {
             logger.debug("{}: Error instantiating cluster {}", getEndpointAddress(), clusterType);
-            return null;
         }
 
         return cluster;
     }
 
-    private void updateClusters(Map<Integer, ZclCluster> clusters, List<Integer> newList, boolean isInput) {
-        // Get a list any clusters that are no longer in the list
-        List<Integer> removeIds = new ArrayList<>();
-        for (ZclCluster cluster : clusters.values()) {
-            if (newList.contains(cluster.getClusterId())) {
-                // The existing cluster is in the new list, so no need to remove it
-                continue;
+    private boolean addCluster(Map<Integer, ZclCluster> clusters, Set<Integer> clusterIds, ZclCluster cluster,
+            boolean isInput) {
+        synchronized (clusters) {
+            ZclCluster existing = getCluster(clusters, clusterIds, cluster.getClusterId(), isInput);
+            if (existing != null && !(existing instanceof ZclCustomCluster)) {
+                return false;
             }
 
-            removeIds.add(cluster.getClusterId());
+            clusters.put(cluster.getClusterId(), cluster);
+            clusterIds.add(cluster.getClusterId());
         }
+        return true;
+    }
 
-        // Remove clusters no longer in use
-        for (int id : removeIds) {
-            logger.debug("{}: Removing cluster {}", getEndpointAddress(), id);
-            clusters.remove(id);
+    /**
+     * Gets a cluster, creating the {@link ZclCluster} if the cluster ID is known but the cluster has not yet been used.
+     *
+     * @param clusters the {@link Map} of created clusters
+     * @param clusterIds the {@link Set} of cluster IDs supported by the endpoint
+     * @param clusterId the cluster ID to get
+     * @param isInput true if this is an input (server) cluster
+     * @return the {@link ZclCluster} or null if the cluster is not known
+     */
+    private ZclCluster getCluster(Map<Integer, ZclCluster> clusters, Set<Integer> clusterIds, int clusterId,
+            boolean isInput) {
+        ZclCluster cluster = clusters.get(clusterId);
+        if (cluster != null || !clusterIds.contains(clusterId)) {
+            return cluster;
         }
 
-        // Add any missing clusters into the list
-        for (int id : newList) {
-            if (!clusters.containsKey(id)) {
-                // Get the cluster type
-                ZclCluster clusterClass = getClusterClass(id);
-                if (clusterClass == null) {
-                    logger.debug("{}: Cluster {} not created", getEndpointAddress(), String.format("%04X", id));
-                    continue;
-                }
+        synchronized (clusters) {
+            cluster = clusters.get(clusterId);
+            if (cluster != null || !clusterIds.contains(clusterId)) {
+                return cluster;
+            }
 
-                if (isInput) {
-                    logger.debug("{}: Setting server cluster {} {}", getEndpointAddress(),
-                            String.format("%04X", clusterClass.getClusterId()), clusterClass.getClusterName());
-                    clusterClass.setServer();
-                } else {
-                    logger.debug("{}: Setting client cluster {} {}", getEndpointAddress(),
-                            String.format("%04X", clusterClass.getClusterId()), clusterClass.getClusterName());
-                    clusterClass.setClient();
+            cluster = getClusterClass(clusterId);
+            if (cluster == null) {
+                logger.debug("{}: Cluster {} not created", getEndpointAddress(), String.format("%04X", clusterId));
+                return null;
+            }
+
+            if (isInput) {
+                logger.debug("{}: Setting server cluster {} {}", getEndpointAddress(),
+                        String.format("%04X", cluster.getClusterId()), cluster.getClusterName());
+                cluster.setServer();
+            } else {
+                logger.debug("{}: Setting client cluster {} {}", getEndpointAddress(),
+                        String.format("%04X", cluster.getClusterId()), cluster.getClusterName());
+                cluster.setClient();
+            }
+
+            // Add to our list of clusters
+            clusters.put(clusterId, cluster);
+        }
+
+        return cluster;
+    }
+
+    private void updateClusters(Map<Integer, ZclCluster> clusters, Set<Integer> clusterIds, List<Integer> newList) {
+        synchronized (clusters) {
+            // Remove clusters no longer in use
+            for (Integer id : new ArrayList<>(clusterIds)) {
+                if (newList.contains(id)) {
+                    // The existing cluster is in the new list, so no need to remove it
+                    continue;
                 }
 
-                // Add to our list of clusters
-                clusters.put(id, clusterClass);
+                logger.debug("{}: Removing cluster {}", getEndpointAddress(), id);
+                clusterIds.remove(id);
+                clusters.remove(id);
             }
+
+            // Add any missing cluster IDs into the list - the clusters will be created when they are first used
+            clusterIds.addAll(newList);
         }
     }
 
@@ -399,9 +426,9 @@ public class ZigBeeEndpoint {
      */
     public void addApplication(ZigBeeApplication application) {
         applications.put(application.getClusterId(), application);
-        ZclCluster cluster = outputClusters.get(application.getClusterId());
+        ZclCluster cluster = getOutputCluster(application.getClusterId());
         if (cluster == null) {
-            cluster = inputClusters.get(application.getClusterId());
+            cluster = getInputCluster(application.getClusterId());
         }
         application.appStartup(cluster);
     }
@@ -460,21 +487,64 @@ public class ZigBeeEndpoint {
         dao.setDeviceId(deviceId);
         dao.setDeviceVersion(deviceVersion);
 
-        List<ZclClusterDao> clusters;
+        dao.setInputClusters(getClusterDaos(inputClusters, inputClusterIds, true));
+        dao.setOutputClusters(getClusterDaos(outputClusters, outputClusterIds, false));
+
+        return dao;
+    }
 
-        clusters = new ArrayList<ZclClusterDao>();
-        for (ZclCluster cluster : inputClusters.values()) {
-            clusters.add(cluster.getDao());
+    private List<ZclClusterDao> getClusterDaos(Map<Integer, ZclCluster> clusters, Set<Integer> clusterIds,
+            boolean isInput) {
+        List<ZclClusterDao> daos = new ArrayList<ZclClusterDao>();
+        for (Integer clusterId : clusterIds) {
+            ZclCluster cluster = clusters.get(clusterId);
+            if (cluster != null) {
+                daos.add(cluster.getDao());
+                continue;
+            }
+
+            // The cluster has not been used, so it has no state other than its ID
+            ZclClusterDao clusterDao = new ZclClusterDao();
+            clusterDao.setClusterId(clusterId);
+            clusterDao.setClient(!isInput);
+            clusterDao.setSupportedCommandsGenerated(Collections.<Integer> emptySet());
+            clusterDao.setSupportedCommandsReceived(Collections.<Integer> emptySet());
+            clusterDao.setAttributes(Collections.<Integer, ZclAttributeDao> emptyMap());
+            daos.add(clusterDao);
         }
-        dao.setInputClusters(clusters);
+        return daos;
+    }
+
+    private void setClusterDaos(Map<Integer, ZclCluster> clusters, Set<Integer> clusterIds,
+            List<ZclClusterDao> clusterDaos) {
+        synchronized (clusters) {
+            for (ZclClusterDao clusterDao : clusterDaos) {
+                clusterIds.add(clusterDao.getClusterId());
+                if (!hasClusterState(clusterDao)) {
+                    // Defer creating the cluster until it is used
+                    clusters.remove(clusterDao.getClusterId());
+                    continue;
+                }
 
-        clusters = new ArrayList<ZclClusterDao>();
-        for (ZclCluster cluster : outputClusters.values()) {
-            clusters.add(cluster.getDao());
+                ZclCluster cluster = getClusterClass(clusterDao.getClusterId());
+                if (cluster != null) {
+                    cluster.setDao(clusterDao);
+                    clusters.put(clusterDao.getClusterId(), cluster);
+                } else {
+                    logger.debug("Unknown cluster found with id={}, will skip it", clusterDao.getClusterId());
+                    clusterIds.remove(clusterDao.getClusterId());
+                }
+            }
         }
-        dao.setOutputClusters(clusters);
+    }
 
-        return dao;
+    private boolean hasClusterState(ZclClusterDao clusterDao) {
+        return clusterDao.getSupportedAttributes() != null
+                || (clusterDao.getAttributes() != null && !clusterDao.getAttributes().isEmpty())
+                || (clusterDao.getSupportedCommandsGenerated() != null
+                        && !clusterDao.getSupportedCommandsGenerated().isEmpty())
+                || (clusterDao.getSupportedCommandsReceived() != null
+                        && !clusterDao.getSupportedCommandsReceived().isEmpty());
     }
 
     public void setDao(ZigBeeEndpointDao dao) {
@@ -490,26 +560,10 @@ public class ZigBeeEndpoint {
         }
 
         if (dao.getInputClusterIds() != null) {
-            for (ZclClusterDao clusterDao : dao.getInputClusters()) {
-                ZclCluster cluster = getClusterClass(clusterDao.getClusterId());
-                if (cluster != null) {
-                    cluster.setDao(clusterDao);
-                    inputClusters.put(clusterDao.getClusterId(), cluster);
-                } else {
-                    logger.debug("Unknown input cluster found with id={}, will skip it", clusterDao.getClusterId());
-                }
-            }
+            setClusterDaos(inputClusters, inputClusterIds, dao.getInputClusters());
         }
         if (dao.getOutputClusterIds() != null) {
-            for (ZclClusterDao clusterDao : dao.getOutputClusters()) {
-                ZclCluster cluster = getClusterClass(clusterDao.getClusterId());
-                if (cluster != null) {
-                    cluster.setDao(clusterDao);
-                    outputClusters.put(clusterDao.getClusterId(), cluster);
-                } else {
-                    logger.debug("Unknown output cluster found with id={}, will skip it", clusterDao.getClusterId());
-                }
-            }
+            setClusterDaos(outputClusters, outputClusterIds, dao.getOutputClusters());
         }
     }
 
@@ -535,6 +589,32 @@ public class ZigBeeEndpoint {
         return node.sendTransaction(command, responseMatcher);
     }
 
+    /**
+     * Sends {@link ZigBeeCommand} command and uses the {@link ZigBeeTransactionMatcher} to match the response. The
+     * result is provided through a {@link CompletionStage} so that it can be processed without blocking a thread.
+     *
+     * @param command the {@link ZigBeeCommand} to send
+     * @param responseMatcher the {@link ZigBeeTransactionMatcher} used to match the response to the request
+     * @return the {@link CommandResult} {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> sendTransactionAsync(ZigBeeCommand command,
+            ZigBeeTransactionMatcher responseMatcher) {
+        command.setDestinationAddress(getEndpointAddress());
+        return node.sendTransactionAsync(command, responseMatcher);
+    }
+
+    /**
+     * Schedules a runnable task for single execution using the network timers, so that the task is cancelled when
+     * the network is shutdown.
+     *
+     * @param runnableTask the {@link Runnable} to execute
+     * @param delay the delay in milliseconds before the task will be executed
+     * @return the {@link ScheduledFuture} for the scheduled task, or null if the network is not online
+     */
+    public ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
+        return node.scheduleTask(runnableTask, delay);
+    }
+
     @Override
     public String toString() {
         return "ZigBeeEndpoint [networkAddress=" + getEndpointAddress().toString() + ", profileId="
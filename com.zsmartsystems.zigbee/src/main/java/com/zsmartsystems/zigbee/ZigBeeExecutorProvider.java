@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Provides the executors used throughout the library. All threads created by the library (other than the receive
+ * threads of some transport implementations) are created through the provider set with
+ * {@link ZigBeeExecutors#setExecutorProvider(ZigBeeExecutorProvider)}, allowing an application to control how
+ * threads are created, or to share a common pool between multiple networks.
+ * <p>
+ * The executor returned from each method is owned by the caller, and the caller will shut it down when it is no longer
+ * required. Implementations that share threads must ensure that shutting down one executor does not affect the others.
+ * Executors requested with a single thread must execute their tasks sequentially.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeExecutorProvider {
+    /**
+     * Creates an executor that executes tasks without a limit on the number of concurrent tasks.
+     *
+     * @param name the thread pool name
+     * @return the {@link ExecutorService}
+     */
+    ExecutorService newCachedThreadPool(String name);
+
+    /**
+     * Creates an executor that can schedule commands to run after a given delay, or to execute periodically.
+     *
+     * @param corePoolSize the number of tasks that may execute concurrently
+     * @param name the thread pool name
+     * @return the {@link ScheduledExecutorService}
+     */
+    ScheduledExecutorService newScheduledThreadPool(int corePoolSize, String name);
+
+    /**
+     * Creates an executor that can schedule commands to run after a given delay, or to execute periodically. Tasks are
+     * guaranteed to execute sequentially.
+     *
+     * @param name the thread pool name
+     * @return the {@link ScheduledExecutorService}
+     */
+    ScheduledExecutorService newSingleThreadScheduledExecutor(String name);
+
+    /**
+     * Creates an executor that executes at most nThreads tasks concurrently.
+     *
+     * @param nThreads the number of tasks that may execute concurrently
+     * @param name the thread pool name
+     * @return the {@link ExecutorService}
+     */
+    ExecutorService newFixedThreadPool(int nThreads, String name);
+}
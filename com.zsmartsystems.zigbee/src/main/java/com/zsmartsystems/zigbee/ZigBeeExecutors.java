@@ -10,17 +10,48 @@ package com.zsmartsystems.zigbee;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Extension of the {@link Executors} class to create threads with custom names. This allows better profiling of the
  * system as the source of all threads can be determined.
+ * <p>
+ * The executors are created by a {@link ZigBeeExecutorProvider}. By default this is a
+ * {@link ZigBeeThreadExecutorProvider} which creates platform threads for each executor. Applications may set a
+ * different provider with {@link #setExecutorProvider(ZigBeeExecutorProvider)} - for example a
+ * {@link ZigBeeSharedExecutorProvider} to share a common pool between all networks, or a
+ * {@link ZigBeeVirtualThreadExecutorProvider} to use virtual threads. The provider must be set before the executors
+ * are created, and so should be set before any other library classes are instantiated.
  *
  * @author Chris Jackson
  *
  */
 public class ZigBeeExecutors {
+    /**
+     * The {@link ZigBeeExecutorProvider} used to create the executors
+     */
+    private static volatile ZigBeeExecutorProvider executorProvider = new ZigBeeThreadExecutorProvider();
+
+    /**
+     * Sets the {@link ZigBeeExecutorProvider} used to create all executors. This only affects executors created after
+     * it is called.
+     *
+     * @param provider the {@link ZigBeeExecutorProvider} to use
+     */
+    public static void setExecutorProvider(ZigBeeExecutorProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("Executor provider must not be null");
+        }
+        executorProvider = provider;
+    }
+
+    /**
+     * Gets the {@link ZigBeeExecutorProvider} used to create all executors
+     *
+     * @return the {@link ZigBeeExecutorProvider}
+     */
+    public static ZigBeeExecutorProvider getExecutorProvider() {
+        return executorProvider;
+    }
 
     /**
      * Creates a thread pool that creates new threads as needed, but will reuse previously constructed threads when they
@@ -30,7 +61,7 @@ public class ZigBeeExecutors {
      * @return the newly created thread pool
      */
     public static ExecutorService newCachedThreadPool(String name) {
-        return Executors.newCachedThreadPool(new ThreadFactoryWithNamePrefix(name));
+        return executorProvider.newCachedThreadPool(name);
     }
 
     /**
@@ -41,7 +72,7 @@ public class ZigBeeExecutors {
      * @return a newly created scheduled thread pool
      */
     public static ScheduledExecutorService newScheduledThreadPool(int corePoolSize, String name) {
-        return Executors.newScheduledThreadPool(corePoolSize, new ThreadFactoryWithNamePrefix(name));
+        return executorProvider.newScheduledThreadPool(corePoolSize, name);
     }
 
     /**
@@ -56,7 +87,7 @@ public class ZigBeeExecutors {
      * @return a newly created scheduled executor
      */
     public static ScheduledExecutorService newSingleThreadScheduledExecutor(String name) {
-        return Executors.newSingleThreadScheduledExecutor(new ThreadFactoryWithNamePrefix(name));
+        return executorProvider.newSingleThreadScheduledExecutor(name);
     }
 
     /**
@@ -72,44 +103,6 @@ public class ZigBeeExecutors {
      * @return the newly created thread pool
      */
     public static ExecutorService newFixedThreadPool(int nThreads, String name) {
-        return Executors.newFixedThreadPool(nThreads, new ThreadFactoryWithNamePrefix(name));
+        return executorProvider.newFixedThreadPool(nThreads, name);
     }
-
-    /**
-     * ThreadFactory with the ability to set the thread name prefix. This class is the same as
-     * {@link java.util.concurrent.Executors#defaultThreadFactory()} from JDK8, except for the thread naming feature.
-     * <p>
-     * The factory creates threads that have names on the form <i>prefix-thread-M</i>, where <i>prefix</i> is a string
-     * provided in the constructor and <i>M</i> is the sequence number of the thread created by this factory.
-     */
-    private static class ThreadFactoryWithNamePrefix implements ThreadFactory {
-        private final ThreadGroup group;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix;
-
-        /**
-         * Creates a new ThreadFactory where threads are created with a name prefix
-         * of <code>prefix</code>.
-         *
-         * @param prefix Thread name prefix.
-         */
-        public ThreadFactoryWithNamePrefix(String prefix) {
-            SecurityManager secMac = System.getSecurityManager();
-            group = (secMac != null) ? secMac.getThreadGroup() : Thread.currentThread().getThreadGroup();
-            namePrefix = prefix + "-thread-";
-        }
-
-        @Override
-        public Thread newThread(Runnable runnable) {
-            Thread thread = new Thread(group, runnable, namePrefix + threadNumber.getAndIncrement(), 0);
-            if (thread.isDaemon()) {
-                thread.setDaemon(false);
-            }
-            if (thread.getPriority() != Thread.NORM_PRIORITY) {
-                thread.setPriority(Thread.NORM_PRIORITY);
-            }
-            return thread;
-        }
-    }
-
 }
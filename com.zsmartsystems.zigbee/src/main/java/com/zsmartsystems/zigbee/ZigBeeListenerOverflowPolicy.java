@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+/**
+ * Defines the action taken when a notification is sent to a listener whose queue of pending notifications is full.
+ *
+ * @author Chris Jackson
+ *
+ */
+public enum ZigBeeListenerOverflowPolicy {
+    /**
+     * The thread sending the notification waits until there is space in the listener queue. This provides
+     * backpressure to the receive path, but a slow listener will delay the processing of received frames.
+     */
+    BLOCK,
+
+    /**
+     * The oldest notification in the listener queue is discarded to make space for the new notification
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new notification is discarded
+     */
+    DROP_NEWEST
+}
@@ -7,8 +7,14 @@
  */
 package com.zsmartsystems.zigbee;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
 
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
 
@@ -35,6 +41,37 @@ public interface ZigBeeNetwork {
      */
     Future<CommandResult> sendTransaction(final ZigBeeCommand command, final ZigBeeTransactionMatcher responseMatcher);
 
+    /**
+     * Sends {@link ZigBeeCommand} command and uses the {@link ZigBeeTransactionMatcher} to match the response. The
+     * returned {@link CompletionStage} is completed when the transaction completes, so the result can be processed
+     * without blocking a thread.
+     * <p>
+     * The default implementation adapts {@link #sendTransaction(ZigBeeCommand, ZigBeeTransactionMatcher)}. If the
+     * returned future is not a {@link ZigBeeTransactionFuture}, a thread from the common pool waits for the result, so
+     * implementations should override this method.
+     *
+     * @param command the {@link ZigBeeCommand} to send
+     * @param responseMatcher the {@link ZigBeeTransactionMatcher} used to match the response to the request
+     * @return the {@link CommandResult} {@link CompletionStage}
+     */
+    default CompletionStage<CommandResult> sendTransactionAsync(final ZigBeeCommand command,
+            final ZigBeeTransactionMatcher responseMatcher) {
+        final Future<CommandResult> future = sendTransaction(command, responseMatcher);
+        if (future instanceof ZigBeeTransactionFuture) {
+            return ((ZigBeeTransactionFuture) future).getCompletionStage();
+        }
+        return CompletableFuture.supplyAsync(new Supplier<CommandResult>() {
+            @Override
+            public CommandResult get() {
+                try {
+                    return future.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    return new CommandResult();
+                }
+            }
+        });
+    }
+
     /**
      * Adds ZigBee library command listener.
      *
@@ -48,4 +85,31 @@ public interface ZigBeeNetwork {
      * @param commandListener the {@link ZigBeeCommandListener}
      */
     void removeCommandListener(final ZigBeeCommandListener commandListener);
+
+    /**
+     * Schedules a runnable task for single execution. Tasks are only scheduled while the network is online, and are
+     * cancelled when the network is shutdown.
+     * <p>
+     * The default implementation does not schedule the task and returns null, for networks that do not provide
+     * timers.
+     *
+     * @param runnableTask the {@link Runnable} to execute
+     * @param delay the delay in milliseconds before the task will be executed
+     * @return the {@link ScheduledFuture} for the scheduled task, or null if the task was not scheduled
+     */
+    default ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
+        return null;
+    }
+
+    /**
+     * Called by a {@link ZigBeeNode} when its network address is changed so that the network can keep its network
+     * address index consistent. Nodes that are not registered with the network are ignored.
+     * <p>
+     * The default implementation does nothing, for networks that do not index their nodes.
+     *
+     * @param node the {@link ZigBeeNode} whose network address changed
+     * @param oldNetworkAddress the previous network address of the node, or null
+     */
+    default void nodeNetworkAddressUpdated(final ZigBeeNode node, final Integer oldNetworkAddress) {
+    }
 }
@@ -7,8 +7,6 @@
  */
 package com.zsmartsystems.zigbee;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -19,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
@@ -34,6 +33,11 @@ import org.slf4j.LoggerFactory;
 import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
 import com.zsmartsystems.zigbee.app.ZigBeeNetworkExtension;
 import com.zsmartsystems.zigbee.app.discovery.ZigBeeDiscoveryExtension;
+import com.zsmartsystems.zigbee.app.reporting.ZigBeeNodeSelector;
+import com.zsmartsystems.zigbee.app.reporting.ZigBeeReportingConfigurator;
+import com.zsmartsystems.zigbee.app.reporting.ZigBeeReportingPolicy;
+import com.zsmartsystems.zigbee.app.reporting.ZigBeeReportingProgressListener;
+import com.zsmartsystems.zigbee.app.reporting.ZigBeeReportingSummary;
 import com.zsmartsystems.zigbee.aps.ApsDataEntity;
 import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
 import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
@@ -41,10 +45,18 @@ import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
 import com.zsmartsystems.zigbee.internal.ClusterMatcher;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.internal.ZigBeeCommandNotifier;
+import com.zsmartsystems.zigbee.internal.ZigBeeShardedExecutor;
+import com.zsmartsystems.zigbee.metrics.ZigBeeMetricsRegistry;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializerFactory;
 import com.zsmartsystems.zigbee.serialization.ZigBeeDeserializer;
 import com.zsmartsystems.zigbee.serialization.ZigBeeSerializer;
+import com.zsmartsystems.zigbee.serialization.ZigBeeSerializerClassFactory;
+import com.zsmartsystems.zigbee.serialization.ZigBeeSerializerFactory;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionOverflowPolicy;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.transport.TransportConfig;
 import com.zsmartsystems.zigbee.transport.TransportConfigOption;
@@ -89,7 +101,8 @@ import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
  * {@link ZigBeeNetworkState#UNINITIALISED}.
  * <li>Instantiate a {@link ZigBeeNetworkManager} class passing the previously created {@link ZigBeeTransportTransmit}
  * class.
- * <li>Set the {@link ZigBeeSerializer} and {@link ZigBeeDeserializer} using the {@link #} method.
+ * <li>Set the {@link ZigBeeSerializerFactory} used to create the {@link ZigBeeSerializer} and
+ * {@link ZigBeeDeserializer} using the {@link #setSerializerFactory(ZigBeeSerializerFactory)} method.
  * <li>Optionally call the {@link #setNetworkDataStore(ZigBeeNetworkDataStore)} method to set the
  * {@link ZigBeeNetworkDataStore} that will be called to serialise network data to a persistent store.
  * <li>Call the {@link #initialize()} method to perform the initial initialization of the ZigBee network. The network
@@ -142,6 +155,13 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      */
     private final Map<IeeeAddress, ZigBeeNode> networkNodes = new ConcurrentHashMap<>();
 
+    /**
+     * Index of the nodes in the ZigBee network - maps the 16 bit network address to {@link ZigBeeNode}. This is updated
+     * along with {@link #networkNodes} (while holding its lock) and whenever the network address of a known node
+     * changes, so that node lookups on the transmit and receive paths do not need to search all nodes.
+     */
+    private final Map<Integer, ZigBeeNode> networkNodeAddresses = new ConcurrentHashMap<>();
+
     /**
      * The groups in the ZigBee network.
      */
@@ -177,6 +197,12 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     private final ScheduledExecutorService executorService = ZigBeeExecutors.newScheduledThreadPool(6,
             "NetworkManager");
 
+    /**
+     * The {@link ZigBeeTimerWheel} used for single shot timers, such as discovery retries. Expired timers are run on
+     * the {@link #executorService}.
+     */
+    private volatile ZigBeeTimerWheel timerWheel = new ZigBeeTimerWheel("NetworkTimer", executorService);
+
     /**
      * The {@link ZigBeeTransportTransmit} implementation. This provides the interface
      * for sending data to the network which is an implementation of a ZigBee
@@ -194,11 +220,22 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      */
     private final ApsDataEntity apsDataEntity;
 
+    /**
+     * The {@link ZigBeeShardedExecutor} used to process received frames, or null if frames are processed on the
+     * transport thread. Frames are sharded by source address so frames from each node are processed in order.
+     */
+    private volatile ZigBeeShardedExecutor receiveExecutor;
+
     /**
      * The {@link ZigBeeCommandNotifier}. This is used for sending notifications asynchronously to listeners.
      */
     private final ZigBeeCommandNotifier commandNotifier = new ZigBeeCommandNotifier();
 
+    /**
+     * The {@link ZigBeeMetricsRegistry} used to record the runtime statistics
+     */
+    private volatile ZigBeeMetricsRegistry metricsRegistry = ZigBeeMetricsRegistry.NONE;
+
     /**
      * The listeners of the ZigBee network state.
      */
@@ -210,14 +247,10 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     private Set<IeeeAddress> nodeDiscoveryComplete = Collections.synchronizedSet(new HashSet<>());
 
     /**
-     * The serializer class used to serialize commands to data packets
-     */
-    private Class<ZigBeeSerializer> serializerClass;
-
-    /**
-     * The deserializer class used to deserialize commands from data packets
+     * The {@link ZigBeeSerializerFactory} used to create the serializers for each transmitted frame, and the
+     * deserializers for each received frame
      */
-    private Class<ZigBeeDeserializer> deserializerClass;
+    private ZigBeeSerializerFactory serializerFactory;
 
     /**
      * List of {@link ZigBeeNetworkExtension}s that are available to this network. Extensions are added
@@ -233,7 +266,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     /**
      * The current {@link ZigBeeNetworkState}
      */
-    private ZigBeeNetworkState networkState = ZigBeeNetworkState.UNINITIALISED;
+    private volatile ZigBeeNetworkState networkState = ZigBeeNetworkState.UNINITIALISED;
 
     /**
      * Map of allowable transport state transitions
@@ -311,14 +344,125 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
     /**
      * Set the serializer class to be used to convert commands and fields into data to be sent to the dongle.
      * The system instantiates a new serializer for each command.
+     * <p>
+     * This is provided for compatibility, and sets a {@link ZigBeeSerializerFactory} that creates the serializers from
+     * the classes. If the {@link DefaultSerializer} and {@link DefaultDeserializer} are requested, the
+     * {@link DefaultSerializerFactory} is used. Applications should prefer
+     * {@link #setSerializerFactory(ZigBeeSerializerFactory)}.
      *
      * @param serializer the {@link ZigBeeSerializer} class
      * @param deserializer the {@link ZigBeeDeerializer} class
+     * @throws IllegalArgumentException if the classes do not provide the required constructors
      */
     @SuppressWarnings("unchecked")
     public void setSerializer(Class<?> serializer, Class<?> deserializer) {
-        this.serializerClass = (Class<ZigBeeSerializer>) serializer;
-        this.deserializerClass = (Class<ZigBeeDeserializer>) deserializer;
+        if (serializer == DefaultSerializer.class && deserializer == DefaultDeserializer.class) {
+            setSerializerFactory(new DefaultSerializerFactory());
+            return;
+        }
+        setSerializerFactory(new ZigBeeSerializerClassFactory((Class<ZigBeeSerializer>) serializer,
+                (Class<ZigBeeDeserializer>) deserializer));
+    }
+
+    /**
+     * Set the {@link ZigBeeSerializerFactory} to be used to create the serializers that convert commands and fields
+     * into data to be sent to the dongle, and the deserializers that convert received data back into commands. The
+     * factory is called for each frame.
+     *
+     * @param serializerFactory the {@link ZigBeeSerializerFactory}
+     */
+    public void setSerializerFactory(ZigBeeSerializerFactory serializerFactory) {
+        this.serializerFactory = serializerFactory;
+    }
+
+    /**
+     * Gets the {@link ZigBeeSerializerFactory} used to create the serializers and deserializers
+     *
+     * @return the {@link ZigBeeSerializerFactory}
+     */
+    public ZigBeeSerializerFactory getSerializerFactory() {
+        return serializerFactory;
+    }
+
+    /**
+     * Sets the number of threads used to process received frames. Received frames are deserialized and dispatched on
+     * these threads rather than the transport thread. Frames are assigned to a thread by their source address, so
+     * frames from the same node are always processed in the order they were received, while frames from different
+     * nodes may be processed in parallel.
+     * <p>
+     * If set to 0 (the default), frames are processed on the thread that calls {@link #receiveCommand(ZigBeeApsFrame)}.
+     * <p>
+     * This should be set before {@link #startup(boolean)} is called.
+     *
+     * @param threads the number of receive threads, or 0 to process frames on the transport thread
+     */
+    public void setReceiveThreads(int threads) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Receive threads must not be negative");
+        }
+        ZigBeeShardedExecutor oldExecutor;
+        synchronized (this) {
+            oldExecutor = receiveExecutor;
+            receiveExecutor = threads == 0 ? null : new ZigBeeShardedExecutor(threads, "NetworkReceive");
+        }
+        if (oldExecutor != null) {
+            oldExecutor.shutdown(1000);
+        }
+    }
+
+    /**
+     * Gets the number of threads used to process received frames
+     *
+     * @return the number of receive threads, or 0 if frames are processed on the transport thread
+     */
+    public int getReceiveThreads() {
+        ZigBeeShardedExecutor executor = receiveExecutor;
+        return executor == null ? 0 : executor.getShardCount();
+    }
+
+    /**
+     * Sets the {@link ZigBeeTimerWheel} used for the timers in the network manager, the transaction manager, and the
+     * APS layer duplicate detection. This allows the timers to be driven by a virtual clock in tests. The timer wheel
+     * is shut down when the network manager is shut down.
+     * <p>
+     * This should be called before {@link #initialize()} - timers that are already pending are not moved to the new
+     * wheel.
+     *
+     * @param timerWheel the {@link ZigBeeTimerWheel} to use for all timers
+     */
+    public void setTimerWheel(ZigBeeTimerWheel timerWheel) {
+        ZigBeeTimerWheel oldWheel = this.timerWheel;
+        this.timerWheel = timerWheel;
+        transactionManager.setTimerWheel(timerWheel);
+        apsDataEntity.setClock(timerWheel.getClock());
+        if (oldWheel != timerWheel) {
+            oldWheel.shutdown();
+        }
+    }
+
+    /**
+     * Sets the {@link ZigBeeMetricsRegistry} used to record runtime statistics such as the transaction latency for each
+     * node, retries and timeouts, queue depths, listener notifications and frame counts. By default no statistics are
+     * recorded. {@link com.zsmartsystems.zigbee.metrics.ZigBeeInMemoryMetricsRegistry} may be used to keep the
+     * statistics in memory.
+     *
+     * @param metricsRegistry the {@link ZigBeeMetricsRegistry} to use, or null to stop recording statistics
+     */
+    public void setMetricsRegistry(ZigBeeMetricsRegistry metricsRegistry) {
+        ZigBeeMetricsRegistry registry = metricsRegistry == null ? ZigBeeMetricsRegistry.NONE : metricsRegistry;
+        this.metricsRegistry = registry;
+        transactionManager.setMetricsRegistry(registry);
+        apsDataEntity.setMetricsRegistry(registry);
+        commandNotifier.setMetricsRegistry(registry);
+    }
+
+    /**
+     * Gets the {@link ZigBeeMetricsRegistry} used to record runtime statistics
+     *
+     * @return the {@link ZigBeeMetricsRegistry} in use
+     */
+    public ZigBeeMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
     }
 
     /**
@@ -589,7 +733,14 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         transport.shutdown();
         transactionManager.shutdown();
 
+        ZigBeeShardedExecutor executor = receiveExecutor;
+        if (executor != null) {
+            executor.shutdown(1000);
+        }
+
+        commandNotifier.shutdown();
         NotificationService.shutdown(5000);
+        timerWheel.shutdown();
         executorService.shutdownNow();
     }
 
@@ -613,12 +764,13 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      * @param delay the delay in milliseconds before the task will be executed
      * @return the {@link ScheduledFuture} for the scheduled task
      */
+    @Override
     public ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
         if (networkState != ZigBeeNetworkState.ONLINE) {
             logger.debug("ZigBeeNetworkManager scheduleTask: not scheduling task while {}", networkState);
             return null;
         }
-        return executorService.schedule(runnableTask, delay, TimeUnit.MILLISECONDS);
+        return timerWheel.schedule(runnableTask, delay);
     }
 
     /**
@@ -637,7 +789,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             return null;
         }
 
-        return executorService.schedule(runnableTask, delay, TimeUnit.MILLISECONDS);
+        return timerWheel.schedule(runnableTask, delay);
     }
 
     /**
@@ -653,7 +805,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      */
     public ScheduledFuture<?> scheduleTask(Runnable runnableTask, long initialDelay, long period) {
         if (period == 0) {
-            return executorService.schedule(runnableTask, initialDelay, TimeUnit.MILLISECONDS);
+            return timerWheel.schedule(runnableTask, initialDelay);
         } else {
             return executorService.scheduleAtFixedRate(runnableTask, initialDelay, period, TimeUnit.MILLISECONDS);
         }
@@ -684,6 +836,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         apsFrame.setCluster(command.getClusterId());
         apsFrame.setApsCounter(apsCounter.getAndIncrement() & 0xff);
         apsFrame.setSecurityEnabled(command.getApsSecurity());
+        apsFrame.setPriority(command.getPriority());
 
         // TODO: Set the source address correctly?
         apsFrame.setSourceAddress(localNwkAddress);
@@ -704,17 +857,12 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             // TODO: Handle multicast
         }
 
-        final ZclFieldSerializer fieldSerializer;
-        try {
-            Constructor<? extends ZigBeeSerializer> constructor;
-            constructor = serializerClass.getConstructor();
-            ZigBeeSerializer serializer = constructor.newInstance();
-            fieldSerializer = new ZclFieldSerializer(serializer);
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
-            logger.debug("Error serializing ZigBee frame {}", e);
+        ZigBeeSerializer serializer = serializerFactory.createSerializer();
+        if (serializer == null) {
+            logger.debug("Error serializing ZigBee frame: no serializer");
             return false;
         }
+        final ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(serializer);
 
         if (command instanceof ZdoCommand) {
             // Source endpoint is (currently) set by the dongle since it registers the clusters into an endpoint
@@ -725,7 +873,8 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             apsFrame.setDestinationEndpoint(0);
             command.serialize(fieldSerializer);
 
-            // Serialise the ZCL header and add the payload
+            // Serialise the ZCL header and add the payload.
+            // The integer payload is used while the transports still send from integer arrays.
             apsFrame.setPayload(fieldSerializer.getPayload());
         }
 
@@ -761,6 +910,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
         logger.debug("TX APS: {}", apsFrame);
 
+        metricsRegistry.increment(ZigBeeMetricsRegistry.FRAME_TX, null, 1);
         transport.sendCommand(command.getTransactionId(), apsFrame);
         return true;
     }
@@ -775,32 +925,171 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         commandNotifier.removeCommandListener(commandListener);
     }
 
+    /**
+     * Configures the queues used to deliver received commands to each {@link ZigBeeCommandListener}. Each listener
+     * receives commands in order from its own queue, and this sets the maximum number of commands that may be waiting
+     * for a listener, and the action to take if a listener falls further behind.
+     * <p>
+     * By default the queues are not limited, and no received command is dropped. Dropping commands should only be
+     * configured with care, since each {@link ZigBeeNode} is a listener and may lose responses or attribute reports.
+     *
+     * @param queueCapacity the maximum number of pending commands for each listener
+     * @param overflowPolicy the {@link ZigBeeListenerOverflowPolicy} to apply when a listener queue is full
+     */
+    public void setCommandListenerQueue(int queueCapacity, ZigBeeListenerOverflowPolicy overflowPolicy) {
+        commandNotifier.setQueueConfiguration(queueCapacity, overflowPolicy);
+    }
+
+    /**
+     * Gets the number of received commands waiting to be delivered to a {@link ZigBeeCommandListener}
+     *
+     * @param commandListener the {@link ZigBeeCommandListener}
+     * @return the number of pending commands, or 0 if the listener is not registered
+     */
+    public int getCommandListenerQueueDepth(ZigBeeCommandListener commandListener) {
+        return commandNotifier.getQueueDepth(commandListener);
+    }
+
+    /**
+     * Gets the largest number of received commands that have been waiting to be delivered to a
+     * {@link ZigBeeCommandListener} at the same time
+     *
+     * @param commandListener the {@link ZigBeeCommandListener}
+     * @return the peak number of pending commands, or 0 if the listener is not registered
+     */
+    public int getCommandListenerPeakQueueDepth(ZigBeeCommandListener commandListener) {
+        return commandNotifier.getPeakQueueDepth(commandListener);
+    }
+
+    /**
+     * Gets the number of received commands that were not delivered to a {@link ZigBeeCommandListener} because its
+     * queue was full
+     *
+     * @param commandListener the {@link ZigBeeCommandListener}
+     * @return the number of dropped commands, or 0 if the listener is not registered
+     */
+    public long getCommandListenerDroppedCount(ZigBeeCommandListener commandListener) {
+        return commandNotifier.getDroppedCount(commandListener);
+    }
+
+    /**
+     * Configures the limits on the number of transactions waiting to be sent. This protects the network from an
+     * application sending an excessive number of commands, which would otherwise delay the commands of all other
+     * applications. By default there are no limits.
+     *
+     * @param maxQueuedTransactions the maximum number of transactions waiting to be sent to all nodes, or 0 for no
+     *            limit
+     * @param maxNodeQueuedTransactions the maximum number of transactions waiting to be sent to each node, or 0 for no
+     *            limit
+     * @param overflowPolicy the {@link ZigBeeTransactionOverflowPolicy} to apply when a limit is reached
+     * @param blockTimeout the maximum time in milliseconds to wait for space when using
+     *            {@link ZigBeeTransactionOverflowPolicy#BLOCK}
+     */
+    public void setTransactionQueueLimits(int maxQueuedTransactions, int maxNodeQueuedTransactions,
+            ZigBeeTransactionOverflowPolicy overflowPolicy, long blockTimeout) {
+        transactionManager.setBlockTimeout(blockTimeout);
+        transactionManager.setQueueLimits(maxQueuedTransactions, maxNodeQueuedTransactions, overflowPolicy);
+    }
+
+    /**
+     * Gets the number of transactions waiting to be sent to all nodes
+     *
+     * @return the number of transactions waiting to be sent
+     */
+    public int getTransactionQueueDepth() {
+        return transactionManager.getQueuedTransactionCount();
+    }
+
+    /**
+     * Gets the number of transactions waiting to be sent to a node
+     *
+     * @param ieeeAddress the {@link IeeeAddress} of the node
+     * @return the number of transactions waiting to be sent to the node
+     */
+    public int getTransactionQueueDepth(IeeeAddress ieeeAddress) {
+        return transactionManager.getQueuedTransactionCount(ieeeAddress);
+    }
+
+    /**
+     * Gets the largest number of transactions that have been waiting to be sent to all nodes at the same time
+     *
+     * @return the peak number of transactions waiting to be sent
+     */
+    public int getTransactionPeakQueueDepth() {
+        return transactionManager.getPeakQueuedTransactionCount();
+    }
+
+    /**
+     * Gets the number of transactions that were not sent because the transaction queues were full
+     *
+     * @return the number of transactions not sent because the queues were full
+     */
+    public long getTransactionRejectedCount() {
+        return transactionManager.getRejectedTransactionCount();
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionManager} used to queue and send commands. This allows the transaction limits
+     * and {@link com.zsmartsystems.zigbee.transaction.ZigBeeTransactionProfile}s to be inspected and tuned.
+     *
+     * @return the {@link ZigBeeTransactionManager}
+     */
+    public ZigBeeTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    /**
+     * Gets the {@link ZigBeeNetworkDatabaseManager} used to persist the network nodes. This allows the deferred write
+     * times to be tuned, and the writes to be monitored.
+     *
+     * @return the {@link ZigBeeNetworkDatabaseManager}
+     */
+    public ZigBeeNetworkDatabaseManager getDatabaseManager() {
+        return databaseManager;
+    }
+
     @Override
     public void receiveCommand(final ZigBeeApsFrame incomingApsFrame) {
-        synchronized (this) {
-            if (networkState != ZigBeeNetworkState.ONLINE) {
-                logger.debug("Dropping APS: state={}, frame={}", networkState, incomingApsFrame);
-                return;
-            }
+        metricsRegistry.increment(ZigBeeMetricsRegistry.FRAME_RX, null, 1);
+        if (networkState != ZigBeeNetworkState.ONLINE) {
+            logger.debug("Dropping APS: state={}, frame={}", networkState, incomingApsFrame);
+            return;
         }
 
         logger.debug("RX APS: {}", incomingApsFrame);
 
+        ZigBeeShardedExecutor executor = receiveExecutor;
+        if (executor == null) {
+            processReceivedFrame(incomingApsFrame);
+            return;
+        }
+
+        executor.execute(incomingApsFrame.getSourceAddress(), new Runnable() {
+            @Override
+            public void run() {
+                processReceivedFrame(incomingApsFrame);
+            }
+        });
+    }
+
+    /**
+     * Processes a received {@link ZigBeeApsFrame} through the APS layer, deserializes it into a {@link ZigBeeCommand}
+     * and dispatches it to the transaction manager and listeners.
+     *
+     * @param incomingApsFrame the received {@link ZigBeeApsFrame}
+     */
+    private void processReceivedFrame(final ZigBeeApsFrame incomingApsFrame) {
         // Process the APS layer - this performs services such as duplicate removal and defragmentation
         ZigBeeApsFrame apsFrame = apsDataEntity.receive(incomingApsFrame);
         if (apsFrame == null) {
             return;
         }
 
-        // Create the deserialiser
-        Constructor<? extends ZigBeeDeserializer> constructor;
-        ZigBeeDeserializer deserializer;
-        try {
-            constructor = deserializerClass.getConstructor(int[].class);
-            deserializer = constructor.newInstance(new Object[] { apsFrame.getPayload() });
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
-            logger.debug("Error creating deserializer", e);
+        // Create the deserialiser. The transports still receive into integer arrays, so the integer payload is used
+        // to avoid converting each frame.
+        ZigBeeDeserializer deserializer = serializerFactory.createDeserializer(apsFrame.getPayload());
+        if (deserializer == null) {
+            logger.debug("Error creating deserializer");
             return;
         }
         ZclFieldDeserializer fieldDeserializer = new ZclFieldDeserializer(deserializer);
@@ -864,15 +1153,9 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             return null;
         }
 
-        ZigBeeCommand command;
-        try {
-            Class<? extends ZdoCommand> commandClass = commandType.getCommandClass();
-            Constructor<? extends ZdoCommand> constructor;
-            constructor = commandClass.getConstructor();
-            command = constructor.newInstance();
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
-            logger.debug("Error instantiating ZDO command", e);
+        ZigBeeCommand command = commandType.instantiateCommand();
+        if (command == null) {
+            logger.debug("Error instantiating ZDO command {}", commandType);
             return null;
         }
 
@@ -1331,14 +1614,10 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
      * @return the {@link ZigBeeNode} or null if the node with the requested network address was not found
      */
     public ZigBeeNode getNode(final Integer networkAddress) {
-        synchronized (networkNodes) {
-            for (ZigBeeNode node : networkNodes.values()) {
-                if (node.getNetworkAddress().equals(networkAddress)) {
-                    return node;
-                }
-            }
+        if (networkAddress == null) {
+            return null;
         }
-        return null;
+        return networkNodeAddresses.get(networkAddress);
     }
 
     /**
@@ -1371,7 +1650,8 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             if (!networkNodes.containsKey(node.getIeeeAddress())) {
                 return;
             }
-            networkNodes.remove(node.getIeeeAddress());
+            ZigBeeNode removedNode = networkNodes.remove(node.getIeeeAddress());
+            updateNodeAddressIndex(removedNode, removedNode.getNetworkAddress(), null);
         }
 
         synchronized (this) {
@@ -1415,6 +1695,7 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
                 return;
             }
             networkNodes.put(node.getIeeeAddress(), node);
+            updateNodeAddressIndex(node, null, node.getNetworkAddress());
         }
 
         synchronized (this) {
@@ -1433,6 +1714,39 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         }
     }
 
+    @Override
+    public void nodeNetworkAddressUpdated(final ZigBeeNode node, final Integer oldNetworkAddress) {
+        synchronized (networkNodes) {
+            if (networkNodes.get(node.getIeeeAddress()) != node) {
+                return;
+            }
+            updateNodeAddressIndex(node, oldNetworkAddress, node.getNetworkAddress());
+        }
+    }
+
+    /**
+     * Updates the network address index. Must be called while holding the {@link #networkNodes} lock.
+     *
+     * @param node the {@link ZigBeeNode} to update
+     * @param oldNetworkAddress the network address to remove from the index, or null
+     * @param newNetworkAddress the network address to add to the index, or null
+     */
+    private void updateNodeAddressIndex(final ZigBeeNode node, final Integer oldNetworkAddress,
+            final Integer newNetworkAddress) {
+        if (oldNetworkAddress != null && networkNodeAddresses.remove(oldNetworkAddress, node)) {
+            // Another node may briefly have shared the old address - if so, it must remain in the index
+            for (ZigBeeNode otherNode : networkNodes.values()) {
+                if (otherNode != node && oldNetworkAddress.equals(otherNode.getNetworkAddress())) {
+                    networkNodeAddresses.put(oldNetworkAddress, otherNode);
+                    break;
+                }
+            }
+        }
+        if (newNetworkAddress != null) {
+            networkNodeAddresses.put(newNetworkAddress, node);
+        }
+    }
+
     /**
      * Update a {@link ZigBeeNode} within the network
      *
@@ -1456,10 +1770,12 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
             }
 
             // Return if there were no updates
+            Integer oldNetworkAddress = currentNode.getNetworkAddress();
             if (!currentNode.updateNode(node)) {
                 logger.debug("{}: Node {} is not updated", node.getIeeeAddress(), node.getNetworkAddress());
                 return;
             }
+            updateNodeAddressIndex(currentNode, oldNetworkAddress, currentNode.getNetworkAddress());
         }
 
         final boolean sendNodeAdded;
@@ -1543,6 +1859,22 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         return null;
     }
 
+    /**
+     * Applies a reporting configuration to a cluster on all endpoints of the selected nodes. The cluster is bound to
+     * the local node if required by the policy, and the reporting of all attributes in the policy is configured.
+     * Commands are sent through the transaction queues, and the number of endpoints configured at the same time is
+     * limited by the policy.
+     *
+     * @param policy the {@link ZigBeeReportingPolicy} to apply
+     * @param selector the {@link ZigBeeNodeSelector} selecting the nodes to configure
+     * @param listener a {@link ZigBeeReportingProgressListener} to be notified as each endpoint completes, or null
+     * @return a {@link Future} that completes with the {@link ZigBeeReportingSummary} once all endpoints are complete
+     */
+    public Future<ZigBeeReportingSummary> configureReporting(ZigBeeReportingPolicy policy, ZigBeeNodeSelector selector,
+            ZigBeeReportingProgressListener listener) {
+        return new ZigBeeReportingConfigurator(this, policy, selector, listener).start();
+    }
+
     /**
      * Gets the current {@link ZigBeeNetworkState}
      *
@@ -1594,9 +1926,17 @@ public class ZigBeeNetworkManager implements ZigBeeNetwork, ZigBeeTransportRecei
         return transactionManager.sendTransaction(command, responseMatcher);
     }
 
+    @Override
+    public CompletionStage<CommandResult> sendTransactionAsync(ZigBeeCommand command,
+            ZigBeeTransactionMatcher responseMatcher) {
+        finaliseOutgoingCommand(command);
+        return transactionManager.sendTransactionAsync(command, responseMatcher);
+    }
+
     @Override
     public void receiveCommandState(int msgTag, ZigBeeTransportProgressState state) {
         logger.debug("RX STA: msgTag={} state={}", String.format("%02X", msgTag), state);
+        metricsRegistry.increment(ZigBeeMetricsRegistry.FRAME_PROGRESS, state, 1);
         transactionManager.receiveCommandState(msgTag, state);
     }
 }
@@ -16,10 +16,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -194,8 +196,12 @@ public class ZigBeeNode implements ZigBeeCommandListener {
      * @return true if the new NWK address is different from the original value
      */
     public boolean setNetworkAddress(Integer networkAddress) {
-        boolean changed = this.networkAddress == null || (!this.networkAddress.equals(networkAddress));
+        Integer oldNetworkAddress = this.networkAddress;
+        boolean changed = oldNetworkAddress == null || (!oldNetworkAddress.equals(networkAddress));
         this.networkAddress = networkAddress;
+        if (changed && network != null) {
+            network.nodeNetworkAddressUpdated(this, oldNetworkAddress);
+        }
         return changed;
     }
 
@@ -848,6 +854,31 @@ public class ZigBeeNode implements ZigBeeCommandListener {
         return network.sendTransaction(command, responseMatcher);
     }
 
+    /**
+     * Sends {@link ZigBeeCommand} command and uses the {@link ZigBeeTransactionMatcher} to match the response. The
+     * result is provided through a {@link CompletionStage} so that it can be processed without blocking a thread.
+     *
+     * @param command the {@link ZigBeeCommand} to send
+     * @param responseMatcher the {@link ZigBeeTransactionMatcher} used to match the response to the request
+     * @return the {@link CommandResult} {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> sendTransactionAsync(ZigBeeCommand command,
+            ZigBeeTransactionMatcher responseMatcher) {
+        return network.sendTransactionAsync(command, responseMatcher);
+    }
+
+    /**
+     * Schedules a runnable task for single execution using the network timers, so that the task is cancelled when
+     * the network is shutdown.
+     *
+     * @param runnableTask the {@link Runnable} to execute
+     * @param delay the delay in milliseconds before the task will be executed
+     * @return the {@link ScheduledFuture} for the scheduled task, or null if the network is not online
+     */
+    public ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
+        return network.scheduleTask(runnableTask, delay);
+    }
+
     /**
      * Set the node {@link ZigBeeNodeState}
      *
@@ -0,0 +1,450 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ZigBeeExecutorProvider} where all executors share a single scheduler and a single worker pool. This allows
+ * an application running multiple networks in the same JVM to bound the number of threads used by the library.
+ * <p>
+ * Each executor returned by this provider is a lightweight view onto the shared pools. Each view has its own
+ * lifecycle, so shutting down one view cancels only the tasks submitted to that view. Each view also limits the
+ * number of its tasks that run concurrently to the number of threads requested, so single threaded executors still
+ * execute their tasks sequentially.
+ * <p>
+ * The scheduler is only used to hand delayed tasks to the worker pool when they are due, and a single thread is
+ * sufficient. Since library tasks may block while waiting for responses from the network, the worker pool should not
+ * be limited to a small number of threads - the default is a cached pool which only holds threads while they are in
+ * use.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeSharedExecutorProvider implements ZigBeeExecutorProvider {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeSharedExecutorProvider.class);
+
+    /**
+     * The shared scheduler used to trigger delayed tasks
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The shared pool used to execute all tasks
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Creates a provider with a single scheduler thread and a cached worker pool using platform threads
+     */
+    public ZigBeeSharedExecutorProvider() {
+        this(new ZigBeeThreadExecutorProvider());
+    }
+
+    /**
+     * Creates a provider with a single scheduler thread and a cached worker pool, using the threads from another
+     * {@link ZigBeeExecutorProvider}. For example, this may be used with the
+     * {@link ZigBeeVirtualThreadExecutorProvider} to run the shared pools on virtual threads.
+     *
+     * @param threadProvider the {@link ZigBeeExecutorProvider} used to create the shared pools
+     */
+    public ZigBeeSharedExecutorProvider(ZigBeeExecutorProvider threadProvider) {
+        this(threadProvider.newSingleThreadScheduledExecutor("ZigBeeScheduler"),
+                threadProvider.newCachedThreadPool("ZigBeeWorker"));
+    }
+
+    /**
+     * Creates a provider using the application's scheduler and worker pool. These are not shut down by the library.
+     *
+     * @param scheduler the {@link ScheduledExecutorService} used to trigger delayed tasks
+     * @param workers the {@link ExecutorService} used to execute all tasks
+     */
+    public ZigBeeSharedExecutorProvider(ScheduledExecutorService scheduler, ExecutorService workers) {
+        this.scheduler = scheduler;
+        this.workers = workers;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(String name) {
+        return new ExecutorView(name, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(int corePoolSize, String name) {
+        return new ExecutorView(name, corePoolSize);
+    }
+
+    @Override
+    public ScheduledExecutorService newSingleThreadScheduledExecutor(String name) {
+        return new ExecutorView(name, 1);
+    }
+
+    @Override
+    public ExecutorService newFixedThreadPool(int nThreads, String name) {
+        return new ExecutorView(name, nThreads);
+    }
+
+    /**
+     * Shuts down the shared scheduler and worker pools. This should only be called once all networks using the
+     * provider have been shut down.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * An executor that runs its tasks on the shared pools, with its own queue and lifecycle
+     */
+    private class ExecutorView extends AbstractExecutorService implements ScheduledExecutorService {
+        private final String name;
+        private final int maxConcurrency;
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private final Set<ViewScheduledFuture<?>> scheduledTasks = new HashSet<>();
+        private int running;
+        private boolean shutdown;
+
+        ExecutorView(String name, int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("Pool size must be greater than 0");
+            }
+            this.name = name;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (command == null) {
+                throw new NullPointerException();
+            }
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException(name + " is shutdown");
+                }
+            }
+            enqueue(command);
+        }
+
+        private void enqueue(Runnable command) {
+            synchronized (this) {
+                queue.add(command);
+                if (running >= maxConcurrency) {
+                    return;
+                }
+                running++;
+            }
+
+            try {
+                startWorker();
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    queue.remove(command);
+                    running--;
+                    notifyAll();
+                }
+                throw e;
+            }
+        }
+
+        private void startWorker() {
+            workers.execute(new Runnable() {
+                @Override
+                public void run() {
+                    drain();
+                }
+            });
+        }
+
+        private void drain() {
+            boolean completed = false;
+            try {
+                while (true) {
+                    Runnable task;
+                    synchronized (this) {
+                        task = queue.poll();
+                        if (task == null) {
+                            running--;
+                            notifyAll();
+                            completed = true;
+                            return;
+                        }
+                    }
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        logger.debug("{}: Exception executing task", name, e);
+                    }
+                }
+            } finally {
+                // If a task throws an Error, hand the worker over to a new drain if tasks remain, otherwise release it
+                // so that the view does not lose its concurrency
+                if (!completed) {
+                    releaseWorker();
+                }
+            }
+        }
+
+        private void releaseWorker() {
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    running--;
+                    notifyAll();
+                    return;
+                }
+            }
+            try {
+                startWorker();
+            } catch (RejectedExecutionException e) {
+                logger.debug("{}: Unable to restart worker", name, e);
+                synchronized (this) {
+                    running--;
+                    notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return schedule(new ViewScheduledFuture<Void>(command, triggerTime(delay, unit), 0));
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return schedule(new ViewScheduledFuture<V>(callable, triggerTime(delay, unit)));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                TimeUnit unit) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("Period must be greater than 0");
+            }
+            return schedule(new ViewScheduledFuture<Void>(command, triggerTime(initialDelay, unit),
+                    unit.toNanos(period)));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                TimeUnit unit) {
+            if (delay <= 0) {
+                throw new IllegalArgumentException("Delay must be greater than 0");
+            }
+            return schedule(new ViewScheduledFuture<Void>(command, triggerTime(initialDelay, unit),
+                    -unit.toNanos(delay)));
+        }
+
+        private long triggerTime(long delay, TimeUnit unit) {
+            return System.nanoTime() + unit.toNanos(Math.max(delay, 0));
+        }
+
+        private <V> ScheduledFuture<V> schedule(ViewScheduledFuture<V> task) {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException(name + " is shutdown");
+                }
+                scheduledTasks.add(task);
+            }
+            trigger(task);
+            return task;
+        }
+
+        private void trigger(final ViewScheduledFuture<?> task) {
+            try {
+                task.trigger = scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            enqueue(task);
+                        } catch (RejectedExecutionException e) {
+                            logger.debug("{}: Shared worker pool is shutdown", name);
+                            task.cancel(false);
+                        }
+                    }
+                }, task.getDelay(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+                throw e;
+            }
+        }
+
+        private synchronized void taskDone(ViewScheduledFuture<?> task) {
+            scheduledTasks.remove(task);
+            notifyAll();
+        }
+
+        @Override
+        public void shutdown() {
+            List<ViewScheduledFuture<?>> periodicTasks = new ArrayList<>();
+            synchronized (this) {
+                shutdown = true;
+                for (ViewScheduledFuture<?> task : scheduledTasks) {
+                    if (task.isPeriodic()) {
+                        periodicTasks.add(task);
+                    }
+                }
+            }
+            for (ViewScheduledFuture<?> task : periodicTasks) {
+                task.cancel(false);
+            }
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            List<Runnable> pending;
+            List<ViewScheduledFuture<?>> tasks;
+            synchronized (this) {
+                shutdown = true;
+                pending = new ArrayList<>(queue);
+                queue.clear();
+                tasks = new ArrayList<>(scheduledTasks);
+            }
+            for (ViewScheduledFuture<?> task : tasks) {
+                task.cancel(false);
+            }
+            return pending;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && running == 0 && queue.isEmpty() && scheduledTasks.isEmpty();
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "ExecutorView [name=" + name + ", maxConcurrency=" + maxConcurrency + "]";
+        }
+
+        /**
+         * A task scheduled on the view. The shared scheduler adds the task to the view queue when it is due, and
+         * periodic tasks are rescheduled once each execution completes.
+         */
+        private class ViewScheduledFuture<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+            /**
+             * The time the task is next due, in {@link System#nanoTime()}
+             */
+            private volatile long time;
+
+            /**
+             * The period in nanoseconds. Positive for fixed rate, negative for fixed delay, and 0 for one-shot tasks.
+             */
+            private final long period;
+
+            /**
+             * The {@link Future} from the shared scheduler that will add the task to the view queue
+             */
+            private volatile Future<?> trigger;
+
+            ViewScheduledFuture(Runnable runnable, long time, long period) {
+                super(runnable, null);
+                this.time = time;
+                this.period = period;
+            }
+
+            ViewScheduledFuture(Callable<V> callable, long time) {
+                super(callable);
+                this.time = time;
+                this.period = 0;
+            }
+
+            @Override
+            public long getDelay(TimeUnit unit) {
+                return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public int compareTo(Delayed other) {
+                if (other == this) {
+                    return 0;
+                }
+                return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+            }
+
+            @Override
+            public boolean isPeriodic() {
+                return period != 0;
+            }
+
+            @Override
+            public void run() {
+                if (!isPeriodic()) {
+                    super.run();
+                    return;
+                }
+                if (!runAndReset()) {
+                    return;
+                }
+
+                if (period > 0) {
+                    time += period;
+                } else {
+                    time = System.nanoTime() - period;
+                }
+                if (isShutdown()) {
+                    cancel(false);
+                    return;
+                }
+                trigger(this);
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                Future<?> scheduled = trigger;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+                return cancelled;
+            }
+
+            @Override
+            protected void done() {
+                taskDone(this);
+            }
+        }
+    }
+}
@@ -58,5 +58,10 @@ public enum ZigBeeStatus {
     /**
      * An unexpected response was received
      */
-    BAD_RESPONSE
+    BAD_RESPONSE,
+
+    /**
+     * The request was not processed as the queue holding requests waiting to be processed was full
+     */
+    QUEUE_FULL
 }
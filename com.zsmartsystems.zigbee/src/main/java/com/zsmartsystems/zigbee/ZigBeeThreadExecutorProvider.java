@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default {@link ZigBeeExecutorProvider}. This creates a separate pool of platform threads for each executor, with
+ * the threads named from the pool name.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeThreadExecutorProvider implements ZigBeeExecutorProvider {
+
+    @Override
+    public ExecutorService newCachedThreadPool(String name) {
+        return Executors.newCachedThreadPool(createThreadFactory(name));
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(int corePoolSize, String name) {
+        return Executors.newScheduledThreadPool(corePoolSize, createThreadFactory(name));
+    }
+
+    @Override
+    public ScheduledExecutorService newSingleThreadScheduledExecutor(String name) {
+        return Executors.newSingleThreadScheduledExecutor(createThreadFactory(name));
+    }
+
+    @Override
+    public ExecutorService newFixedThreadPool(int nThreads, String name) {
+        return Executors.newFixedThreadPool(nThreads, createThreadFactory(name));
+    }
+
+    /**
+     * Creates the {@link ThreadFactory} used to create the threads for an executor
+     *
+     * @param name the thread pool name
+     * @return the {@link ThreadFactory}
+     */
+    protected ThreadFactory createThreadFactory(String name) {
+        return new ThreadFactoryWithNamePrefix(name);
+    }
+
+    /**
+     * ThreadFactory with the ability to set the thread name prefix. This class is the same as
+     * {@link java.util.concurrent.Executors#defaultThreadFactory()} from JDK8, except for the thread naming feature.
+     * <p>
+     * The factory creates threads that have names on the form <i>prefix-thread-M</i>, where <i>prefix</i> is a string
+     * provided in the constructor and <i>M</i> is the sequence number of the thread created by this factory.
+     */
+    private static class ThreadFactoryWithNamePrefix implements ThreadFactory {
+        private final ThreadGroup group;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        /**
+         * Creates a new ThreadFactory where threads are created with a name prefix
+         * of <code>prefix</code>.
+         *
+         * @param prefix Thread name prefix.
+         */
+        public ThreadFactoryWithNamePrefix(String prefix) {
+            SecurityManager secMac = System.getSecurityManager();
+            group = (secMac != null) ? secMac.getThreadGroup() : Thread.currentThread().getThreadGroup();
+            namePrefix = prefix + "-thread-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(group, runnable, namePrefix + threadNumber.getAndIncrement(), 0);
+            if (thread.isDaemon()) {
+                thread.setDaemon(false);
+            }
+            if (thread.getPriority() != Thread.NORM_PRIORITY) {
+                thread.setPriority(Thread.NORM_PRIORITY);
+            }
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,524 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel used for the short lived timers in the library, such as transaction timeouts. Timers are added
+ * to a bucket selected from their expiry tick, so scheduling and cancelling a timer are O(1) operations which do not
+ * contend on the delay queue of a {@link java.util.concurrent.ScheduledExecutorService}. When the wheel is advanced, the
+ * buckets for each elapsed tick are visited, and timers that have expired are passed to an {@link Executor} to be run.
+ * <p>
+ * Timers will never expire before their delay, but may expire up to one tick late.
+ * <p>
+ * The wheel may be advanced in two ways -:
+ * <ul>
+ * <li>When created with a thread pool name, the wheel creates a thread to advance the wheel with the system clock. The
+ * thread only runs while there are timers pending, and sleeps until the next timer is due rather than waking on every
+ * tick.
+ * <li>When created with a {@link ZigBeeClock}, the wheel is only advanced when {@link #expireTimers()} is called. This
+ * allows tests to drive the timers with a virtual clock.
+ * </ul>
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeTimerWheel {
+    /**
+     * The default tick duration in milliseconds
+     */
+    private static final long DEFAULT_TICK_DURATION = 1;
+
+    /**
+     * The default number of buckets in the wheel
+     */
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_EXPIRED = 1;
+    private static final int STATE_RUNNING = 2;
+    private static final int STATE_DONE = 3;
+    private static final int STATE_CANCELLED = 4;
+
+    /**
+     * The logger
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeTimerWheel.class);
+
+    /**
+     * The {@link Executor} used to run the expired timers
+     */
+    private final Executor taskExecutor;
+
+    /**
+     * The {@link ZigBeeClock} providing the time
+     */
+    private final ZigBeeClock clock;
+
+    /**
+     * The thread pool name used for the ticker thread, or null if the wheel is advanced by the application
+     */
+    private final String name;
+
+    /**
+     * The duration of each tick in milliseconds
+     */
+    private final long tickDuration;
+
+    /**
+     * The buckets holding the first timer in each list
+     */
+    private final WheelTimer[] buckets;
+
+    /**
+     * The mask used to get the bucket from the tick
+     */
+    private final int mask;
+
+    /**
+     * The time of tick 0. This is moved if the clock steps backward, so that the wheel continues from the current tick.
+     */
+    private volatile long startTime;
+
+    /**
+     * The last tick that has been processed
+     */
+    private long currentTick;
+
+    /**
+     * The number of timers pending in the wheel
+     */
+    private int timerCount;
+
+    /**
+     * The executor running the ticker thread. This is created on first use.
+     */
+    private ExecutorService tickerExecutor;
+
+    /**
+     * True while the ticker thread is running
+     */
+    private boolean tickerRunning;
+
+    /**
+     * The tick the ticker thread is sleeping until. A timer due before this tick wakes the ticker thread.
+     */
+    private long tickerWakeTick = Long.MAX_VALUE;
+
+    private boolean shutdown;
+
+    /**
+     * Creates a timer wheel using the system clock, with a 1 millisecond tick. The wheel is advanced by its own thread.
+     *
+     * @param name the thread pool name for the ticker thread
+     * @param taskExecutor the {@link Executor} used to run expired timers
+     */
+    public ZigBeeTimerWheel(String name, Executor taskExecutor) {
+        this(name, taskExecutor, ZigBeeClock.SYSTEM, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a timer wheel using the provided clock, with a 1 millisecond tick. The wheel is only advanced when
+     * {@link #expireTimers()} is called.
+     *
+     * @param taskExecutor the {@link Executor} used to run expired timers
+     * @param clock the {@link ZigBeeClock} providing the time
+     */
+    public ZigBeeTimerWheel(Executor taskExecutor, ZigBeeClock clock) {
+        this(null, taskExecutor, clock, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a timer wheel
+     *
+     * @param name the thread pool name for the ticker thread, or null if the wheel is advanced by calling
+     *            {@link #expireTimers()}
+     * @param taskExecutor the {@link Executor} used to run expired timers
+     * @param clock the {@link ZigBeeClock} providing the time
+     * @param tickDuration the duration of each tick in milliseconds. Must be greater than 0.
+     * @param wheelSize the number of buckets in the wheel. This is rounded up to a power of 2.
+     */
+    public ZigBeeTimerWheel(String name, Executor taskExecutor, ZigBeeClock clock, long tickDuration,
+            int wheelSize) {
+        if (tickDuration < 1) {
+            throw new IllegalArgumentException("Tick duration must be greater than 0");
+        }
+        if (wheelSize < 1 || wheelSize > 0x40000000) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.name = name;
+        this.taskExecutor = taskExecutor;
+        this.clock = clock;
+        this.tickDuration = tickDuration;
+        this.buckets = new WheelTimer[size];
+        this.mask = size - 1;
+        this.startTime = clock.currentTimeMillis();
+    }
+
+    /**
+     * Gets the {@link ZigBeeClock} used by the wheel
+     *
+     * @return the {@link ZigBeeClock} used by the wheel
+     */
+    public ZigBeeClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Schedules a task to be run once the delay has expired
+     *
+     * @param task the {@link Runnable} to run
+     * @param delay the delay in milliseconds
+     * @return the {@link ScheduledFuture} for the timer. This may be used to cancel the timer.
+     * @throws RejectedExecutionException if the wheel has been shut down
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Timer wheel is shutdown");
+            }
+            long deadline = getElapsedTime() + Math.max(delay, 0);
+            long deadlineTick = (deadline + tickDuration - 1) / tickDuration;
+            WheelTimer timer = new WheelTimer(task, deadline, Math.max(deadlineTick, currentTick + 1));
+            link(timer);
+            timerCount++;
+
+            if (!tickerRunning) {
+                startTicker();
+            } else if (timer.deadlineTick < tickerWakeTick) {
+                notifyAll();
+            }
+            return timer;
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time, and runs all timers that have expired. This is called by the ticker
+     * thread, or by the application if the wheel was created without a ticker thread.
+     */
+    public void expireTimers() {
+        List<WheelTimer> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = getElapsedTime() / tickDuration;
+            if (targetTick <= currentTick) {
+                return;
+            }
+            if (timerCount != 0) {
+                // If we have missed more than a full revolution, then each bucket only needs to be visited once
+                long ticks = Math.min(targetTick - currentTick, buckets.length);
+                for (long tick = currentTick + 1; tick <= currentTick + ticks; tick++) {
+                    WheelTimer timer = buckets[(int) (tick & mask)];
+                    while (timer != null) {
+                        WheelTimer next = timer.next;
+                        if (timer.deadlineTick <= targetTick) {
+                            unlink(timer);
+                            timerCount--;
+                            timer.state = STATE_EXPIRED;
+                            expired.add(timer);
+                        }
+                        timer = next;
+                    }
+                }
+            }
+            currentTick = targetTick;
+        }
+
+        if (expired.size() > 1) {
+            Collections.sort(expired, new Comparator<WheelTimer>() {
+                @Override
+                public int compare(WheelTimer timer1, WheelTimer timer2) {
+                    return Long.compare(timer1.deadline, timer2.deadline);
+                }
+            });
+        }
+        for (WheelTimer timer : expired) {
+            try {
+                taskExecutor.execute(timer);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Timer wheel executor is shutdown. Not running timer {}", timer);
+                timer.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of timers waiting to expire
+     *
+     * @return the number of pending timers
+     */
+    public synchronized int getTimerCount() {
+        return timerCount;
+    }
+
+    /**
+     * Shuts down the wheel. All pending timers are cancelled, and no further timers will be accepted.
+     */
+    public void shutdown() {
+        List<WheelTimer> pending = new ArrayList<>();
+        synchronized (this) {
+            shutdown = true;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                for (WheelTimer timer = buckets[bucket]; timer != null; timer = timer.next) {
+                    pending.add(timer);
+                }
+            }
+            if (tickerExecutor != null) {
+                tickerExecutor.shutdownNow();
+            }
+            notifyAll();
+        }
+        for (WheelTimer timer : pending) {
+            timer.cancel(false);
+        }
+    }
+
+    /**
+     * Gets the time elapsed since tick 0. If the clock has stepped backward to before the current tick, the start time
+     * is moved so that the wheel continues from the current tick rather than stalling until the clock catches up. Must
+     * be called while holding the wheel lock.
+     *
+     * @return the time elapsed since tick 0 in milliseconds
+     */
+    private long getElapsedTime() {
+        long now = clock.currentTimeMillis();
+        if (now - startTime < currentTick * tickDuration) {
+            logger.debug("Timer wheel clock stepped backward by {}ms", startTime + currentTick * tickDuration - now);
+            startTime = now - currentTick * tickDuration;
+        }
+        return now - startTime;
+    }
+
+    private void link(WheelTimer timer) {
+        int bucket = (int) (timer.deadlineTick & mask);
+        timer.next = buckets[bucket];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        buckets[bucket] = timer;
+    }
+
+    private void unlink(WheelTimer timer) {
+        if (timer.prev == null) {
+            buckets[(int) (timer.deadlineTick & mask)] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * Starts the ticker thread if the wheel has one, and it is not already running. Must be called while holding the
+     * wheel lock.
+     */
+    private void startTicker() {
+        if (name == null || tickerRunning) {
+            return;
+        }
+        if (tickerExecutor == null) {
+            tickerExecutor = ZigBeeExecutors.newFixedThreadPool(1, name);
+        }
+        tickerRunning = true;
+        try {
+            tickerExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    runTicker();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Timer wheel ticker executor is shutdown");
+            tickerRunning = false;
+        }
+    }
+
+    /**
+     * Gets the tick at which the next timer will expire. The buckets are visited in tick order for one revolution of
+     * the wheel, stopping at the first timer that expires during this revolution. If no timer expires during this
+     * revolution, the earliest deadline of all pending timers is returned. Must be called while holding the wheel
+     * lock.
+     *
+     * @return the tick of the next timer to expire, or {@link Long#MAX_VALUE} if there are no timers pending
+     */
+    private long getNextTimerTick() {
+        long nextTick = Long.MAX_VALUE;
+        for (long tick = currentTick + 1; tick <= currentTick + buckets.length; tick++) {
+            for (WheelTimer timer = buckets[(int) (tick & mask)]; timer != null; timer = timer.next) {
+                if (timer.deadlineTick <= tick) {
+                    return tick;
+                }
+                nextTick = Math.min(nextTick, timer.deadlineTick);
+            }
+        }
+        return nextTick;
+    }
+
+    /**
+     * Advances the wheel with the clock while there are timers pending. The thread sleeps until the next timer is
+     * due, and is woken if an earlier timer is scheduled.
+     */
+    private void runTicker() {
+        while (true) {
+            synchronized (this) {
+                if (shutdown || timerCount == 0) {
+                    tickerRunning = false;
+                    tickerWakeTick = Long.MAX_VALUE;
+                    return;
+                }
+                tickerWakeTick = getNextTimerTick();
+                long delay = tickerWakeTick * tickDuration - getElapsedTime();
+                if (delay > 0) {
+                    try {
+                        wait(delay);
+                    } catch (InterruptedException e) {
+                        tickerRunning = false;
+                        tickerWakeTick = Long.MAX_VALUE;
+                        return;
+                    }
+                    continue;
+                }
+            }
+            expireTimers();
+        }
+    }
+
+    /**
+     * A timer in the wheel. The deadline is the time since tick 0 at which the timer expires.
+     */
+    private class WheelTimer implements ScheduledFuture<Object>, Runnable {
+        private final Runnable task;
+        private final long deadline;
+        private final long deadlineTick;
+        private WheelTimer prev;
+        private WheelTimer next;
+        private volatile int state = STATE_PENDING;
+
+        WheelTimer(Runnable task, long deadline, long deadlineTick) {
+            this.task = task;
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public void run() {
+            synchronized (ZigBeeTimerWheel.this) {
+                if (state != STATE_EXPIRED) {
+                    return;
+                }
+                state = STATE_RUNNING;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.debug("Exception running timer", e);
+            } finally {
+                synchronized (this) {
+                    state = STATE_DONE;
+                    notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (clock.currentTimeMillis() - startTime), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (ZigBeeTimerWheel.this) {
+                if (state == STATE_PENDING) {
+                    unlink(this);
+                    timerCount--;
+                } else if (state != STATE_EXPIRED) {
+                    return false;
+                }
+                state = STATE_CANCELLED;
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state == STATE_DONE || state == STATE_CANCELLED;
+        }
+
+        @Override
+        public synchronized Object get() throws InterruptedException {
+            while (!isDone()) {
+                wait();
+            }
+            if (state == STATE_CANCELLED) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public synchronized Object get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            long end = System.nanoTime() + unit.toNanos(timeout);
+            while (!isDone()) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                wait(remaining);
+            }
+            if (state == STATE_CANCELLED) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "WheelTimer [deadline=" + deadline + ", state=" + state + ", task=" + task + "]";
+        }
+    }
+}
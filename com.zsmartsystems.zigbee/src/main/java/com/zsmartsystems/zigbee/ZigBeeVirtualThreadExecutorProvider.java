@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A {@link ZigBeeExecutorProvider} that creates all executors using virtual threads. Virtual threads require Java 21
+ * or later - use {@link #isSupported()} to check if they are available in the running JVM.
+ * <p>
+ * The executors behave the same as those created by the {@link ZigBeeThreadExecutorProvider}, but idle and blocked
+ * threads do not consume a platform thread, so the number of platform threads used by the library no longer scales
+ * with the number of networks.
+ * <p>
+ * The library is built for Java 8, so the virtual thread API is accessed by reflection.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeVirtualThreadExecutorProvider extends ZigBeeThreadExecutorProvider {
+    private final Method ofVirtual;
+    private final Method name;
+    private final Method factory;
+
+    /**
+     * Creates the provider
+     *
+     * @throws UnsupportedOperationException if virtual threads are not supported by the JVM
+     */
+    public ZigBeeVirtualThreadExecutorProvider() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Checks if virtual threads are supported by the JVM
+     *
+     * @return true if the {@link ZigBeeVirtualThreadExecutorProvider} can be used
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected ThreadFactory createThreadFactory(String poolName) {
+        try {
+            Object builder = ofVirtual.invoke(null);
+            builder = name.invoke(builder, poolName + "-vthread-", 1L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Unable to create virtual thread factory", e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zdo.ZdoStatus;
 import com.zsmartsystems.zigbee.zdo.command.ActiveEndpointsRequest;
 import com.zsmartsystems.zigbee.zdo.command.ActiveEndpointsResponse;
@@ -299,6 +300,7 @@ public class ZigBeeNodeServiceDiscoverer {
         networkAddressRequest.setDestinationAddress(
                 new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_ALL_DEVICES.getKey()));
 
+        networkAddressRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
         CommandResult response = networkManager.sendTransaction(networkAddressRequest, networkAddressRequest).get();
         final NetworkAddressResponse networkAddressResponse = (NetworkAddressResponse) response.getResponse();
         logger.debug("{}: Node SVC Discovery: NetworkAddressRequest returned {}", node.getIeeeAddress(),
@@ -337,6 +339,7 @@ public class ZigBeeNodeServiceDiscoverer {
             ieeeAddressRequest.setRequestType(1);
             ieeeAddressRequest.setStartIndex(startIndex);
             ieeeAddressRequest.setNwkAddrOfInterest(node.getNetworkAddress());
+            ieeeAddressRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
             CommandResult response = networkManager.sendTransaction(ieeeAddressRequest, ieeeAddressRequest).get();
 
             final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
@@ -367,6 +370,7 @@ public class ZigBeeNodeServiceDiscoverer {
         nodeDescriptorRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
         nodeDescriptorRequest.setNwkAddrOfInterest(node.getNetworkAddress());
 
+        nodeDescriptorRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
         CommandResult response = networkManager.sendTransaction(nodeDescriptorRequest, nodeDescriptorRequest).get();
         final NodeDescriptorResponse nodeDescriptorResponse = (NodeDescriptorResponse) response.getResponse();
         logger.debug("{}: Node SVC Discovery: NodeDescriptorResponse returned {}", node.getIeeeAddress(),
@@ -396,6 +400,7 @@ public class ZigBeeNodeServiceDiscoverer {
         powerDescriptorRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
         powerDescriptorRequest.setNwkAddrOfInterest(node.getNetworkAddress());
 
+        powerDescriptorRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
         CommandResult response = networkManager.sendTransaction(powerDescriptorRequest, powerDescriptorRequest).get();
         final PowerDescriptorResponse powerDescriptorResponse = (PowerDescriptorResponse) response.getResponse();
         logger.debug("{}: Node SVC Discovery: PowerDescriptorResponse returned {}", node.getIeeeAddress(),
@@ -427,6 +432,7 @@ public class ZigBeeNodeServiceDiscoverer {
         activeEndpointsRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
         activeEndpointsRequest.setNwkAddrOfInterest(node.getNetworkAddress());
 
+        activeEndpointsRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
         CommandResult response = networkManager.sendTransaction(activeEndpointsRequest, activeEndpointsRequest).get();
         final ActiveEndpointsResponse activeEndpointsResponse = (ActiveEndpointsResponse) response.getResponse();
         logger.debug("{}: Node SVC Discovery: ActiveEndpointsResponse returned {}", node.getIeeeAddress(), response);
@@ -470,6 +476,7 @@ public class ZigBeeNodeServiceDiscoverer {
             neighborRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
             neighborRequest.setStartIndex(startIndex);
 
+            neighborRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
             CommandResult response = networkManager.sendTransaction(neighborRequest, neighborRequest).get();
             final ManagementLqiResponse neighborResponse = response.getResponse();
             logger.debug("{}: Node SVC Discovery: ManagementLqiRequest response {}", node.getIeeeAddress(), response);
@@ -524,6 +531,7 @@ public class ZigBeeNodeServiceDiscoverer {
             routeRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
             routeRequest.setStartIndex(startIndex);
 
+            routeRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
             CommandResult response = networkManager.sendTransaction(routeRequest, routeRequest).get();
             final ManagementRoutingResponse routingResponse = response.getResponse();
             logger.debug("{}: Node SVC Discovery: ManagementRoutingRequest returned {}", node.getIeeeAddress(),
@@ -570,6 +578,7 @@ public class ZigBeeNodeServiceDiscoverer {
         simpleDescriptorRequest.setNwkAddrOfInterest(node.getNetworkAddress());
         simpleDescriptorRequest.setEndpoint(endpointId);
 
+        simpleDescriptorRequest.setPriority(ZigBeeTransactionPriority.BACKGROUND);
         CommandResult response = networkManager.sendTransaction(simpleDescriptorRequest, simpleDescriptorRequest).get();
 
         final SimpleDescriptorResponse simpleDescriptorResponse = (SimpleDescriptorResponse) response.getResponse();
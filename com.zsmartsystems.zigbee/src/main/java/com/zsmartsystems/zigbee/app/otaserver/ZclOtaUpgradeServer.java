@@ -25,6 +25,7 @@ import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.app.ZigBeeApplication;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclStatus;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclOtaUpgradeCluster;
@@ -245,6 +246,8 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication {
     @Override
     public ZigBeeStatus appStartup(final ZclCluster cluster) {
         this.cluster = (ZclOtaUpgradeCluster) cluster;
+        // Image transfers are sent at low priority so they don't delay other traffic
+        this.cluster.setPriority(ZigBeeTransactionPriority.BULK);
 
         return ZigBeeStatus.SUCCESS;
     }
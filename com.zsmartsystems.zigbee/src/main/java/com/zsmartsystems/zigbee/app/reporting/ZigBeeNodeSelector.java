@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+import com.zsmartsystems.zigbee.ZigBeeNode;
+
+/**
+ * Selects the nodes to which an operation on many nodes in the network is applied.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeNodeSelector {
+    /**
+     * Checks if the operation should be applied to the node
+     *
+     * @param node the {@link ZigBeeNode} to check
+     * @return true if the node is selected
+     */
+    boolean isSelected(ZigBeeNode node);
+}
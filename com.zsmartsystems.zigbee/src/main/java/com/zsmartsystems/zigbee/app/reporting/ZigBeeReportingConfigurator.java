@@ -0,0 +1,427 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclCluster;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeStatusRecord;
+
+/**
+ * Applies a {@link ZigBeeReportingPolicy} to the server cluster of all endpoints on the nodes selected by a
+ * {@link ZigBeeNodeSelector}.
+ * <p>
+ * For each endpoint, the cluster is first bound to the local node (if required by the policy), and then the reporting
+ * of all attributes in the policy is configured using {@link ZclCluster#setReportingAsync(List)}, which packs the
+ * attributes into as few commands as possible. All commands are sent through the transaction manager, so the node and
+ * network queue limits are respected. Each step is chained on the completion of the previous command, so no thread is
+ * held while waiting for a device to respond.
+ * <p>
+ * A bind that fails is retried. Attributes where the configuration failed without a definitive status from the device
+ * (a timeout, or a status of FAILURE) are retried, while attributes the device rejects (eg UNSUPPORTED_ATTRIBUTE) are
+ * not. Retries are delayed by {@link ZigBeeReportingPolicy#getRetryDelay()}. The number of endpoints configured at the
+ * same time is limited by {@link ZigBeeReportingPolicy#getMaxConcurrentEndpoints()}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeReportingConfigurator {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeReportingConfigurator.class);
+
+    private final ZigBeeNetworkManager networkManager;
+
+    private final ZigBeeReportingPolicy policy;
+
+    private final ZigBeeNodeSelector selector;
+
+    private final ZigBeeReportingProgressListener listener;
+
+    private final List<ZigBeeReportingResult> results = new ArrayList<>();
+
+    private final CompletableFuture<ZigBeeReportingSummary> summary = new CompletableFuture<>();
+
+    /**
+     * The clusters waiting to be configured. This is also used to synchronise the scheduling of the endpoints.
+     */
+    private final Deque<ZclCluster> remaining = new ArrayDeque<>();
+
+    /**
+     * The number of endpoints currently being configured
+     */
+    private int active;
+
+    /**
+     * The maximum number of endpoints configured at the same time
+     */
+    private int maxActive;
+
+    /**
+     * True while a thread is starting endpoints. Endpoints that complete while endpoints are being started leave the
+     * starting thread to fill the free slot, so that endpoints that complete immediately do not recurse.
+     */
+    private boolean starting;
+
+    private int total;
+
+    /**
+     * Creates the configurator
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager}
+     * @param policy the {@link ZigBeeReportingPolicy} to apply
+     * @param selector the {@link ZigBeeNodeSelector} selecting the nodes to configure
+     * @param listener a {@link ZigBeeReportingProgressListener} to be notified as each endpoint completes, or null
+     */
+    public ZigBeeReportingConfigurator(ZigBeeNetworkManager networkManager, ZigBeeReportingPolicy policy,
+            ZigBeeNodeSelector selector, ZigBeeReportingProgressListener listener) {
+        this.networkManager = networkManager;
+        this.policy = policy;
+        this.selector = selector;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts applying the policy. The endpoints are selected when this method is called.
+     *
+     * @return a {@link Future} that completes with the {@link ZigBeeReportingSummary} once all endpoints are complete
+     */
+    public Future<ZigBeeReportingSummary> start() {
+        final List<ZclCluster> clusters = new ArrayList<>();
+        for (ZigBeeNode node : networkManager.getNodes()) {
+            if (!selector.isSelected(node)) {
+                continue;
+            }
+            for (ZigBeeEndpoint endpoint : node.getEndpoints()) {
+                ZclCluster cluster = endpoint.getInputCluster(policy.getClusterId());
+                if (cluster != null) {
+                    clusters.add(cluster);
+                }
+            }
+        }
+
+        logger.debug("Reporting configurator: Applying {} to {} endpoints", policy, clusters.size());
+        total = clusters.size();
+        if (clusters.isEmpty()) {
+            summary.complete(new ZigBeeReportingSummary(results));
+            return summary;
+        }
+
+        synchronized (remaining) {
+            remaining.addAll(clusters);
+            maxActive = Math.max(1, policy.getMaxConcurrentEndpoints());
+        }
+        startEndpoints();
+
+        return summary;
+    }
+
+    /**
+     * Starts configuring endpoints until the maximum number of concurrent endpoints is reached, or there are no more
+     * endpoints to configure
+     */
+    private void startEndpoints() {
+        synchronized (remaining) {
+            if (starting) {
+                return;
+            }
+            starting = true;
+        }
+        while (true) {
+            ZclCluster cluster;
+            synchronized (remaining) {
+                if (active >= maxActive || remaining.isEmpty()) {
+                    starting = false;
+                    return;
+                }
+                cluster = remaining.poll();
+                active++;
+            }
+            new EndpointConfiguration(cluster).start();
+        }
+    }
+
+    private void endpointComplete(ZigBeeReportingResult result) {
+        int completed;
+        synchronized (results) {
+            results.add(result);
+            completed = results.size();
+        }
+        logger.debug("Reporting configurator: Completed {} of {}: {}", completed, total, result);
+
+        if (listener != null) {
+            try {
+                listener.reportingProgress(result, completed, total);
+            } catch (Exception e) {
+                logger.debug("Reporting configurator: Exception in progress listener", e);
+            }
+        }
+
+        if (completed == total) {
+            synchronized (results) {
+                summary.complete(new ZigBeeReportingSummary(results));
+            }
+        }
+    }
+
+    /**
+     * Schedules a retry after the retry delay in the policy
+     *
+     * @param retry the {@link Runnable} performing the retry
+     * @return true if the retry was scheduled, false if the retry can not be scheduled and the caller should treat the
+     *         last attempt as final
+     */
+    private boolean scheduleRetry(Runnable retry) {
+        if (policy.getRetryDelay() <= 0) {
+            retry.run();
+            return true;
+        }
+        ScheduledFuture<?> task = networkManager.scheduleTask(retry, policy.getRetryDelay());
+        if (task == null) {
+            logger.debug("Reporting configurator: Unable to schedule retry");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the status of each attribute from the result of a configure reporting command
+     *
+     * @param cluster the {@link ZclCluster} being configured
+     * @param records the {@link AttributeReportingConfigurationRecord}s that were sent
+     * @param response the {@link CommandResult} of the command, or null if the command completed exceptionally
+     * @param exception the exception if the command completed exceptionally, or null
+     * @return the {@link ZclStatus} of each attribute
+     */
+    private Map<Integer, ZclStatus> getReportingStatus(ZclCluster cluster,
+            List<AttributeReportingConfigurationRecord> records, CommandResult response, Throwable exception) {
+        Map<Integer, ZclStatus> statuses = new LinkedHashMap<>();
+        ZclStatus defaultStatus = ZclStatus.FAILURE;
+        if (exception != null) {
+            logger.debug("{}: Reporting configurator: Configure reporting exception", cluster.getZigBeeAddress(),
+                    exception);
+        } else if (response != null && response.isSuccess()
+                && response.getResponse() instanceof ConfigureReportingResponse) {
+            // Attributes without a status record in the response were configured successfully
+            defaultStatus = ZclStatus.SUCCESS;
+            ConfigureReportingResponse reportingResponse = response.getResponse();
+            if (reportingResponse.getRecords() != null) {
+                for (AttributeStatusRecord record : reportingResponse.getRecords()) {
+                    statuses.put(record.getAttributeIdentifier(), record.getStatus());
+                }
+            }
+        } else if (response == null || response.isTimeout()) {
+            defaultStatus = ZclStatus.TIMEOUT;
+        } else if (response.getResponse() instanceof DefaultResponse) {
+            defaultStatus = ((DefaultResponse) response.getResponse()).getStatusCode();
+        }
+
+        Map<Integer, ZclStatus> orderedStatuses = new LinkedHashMap<>();
+        for (AttributeReportingConfigurationRecord record : records) {
+            ZclStatus status = statuses.get(record.getAttributeIdentifier());
+            orderedStatuses.put(record.getAttributeIdentifier(), status == null ? defaultStatus : status);
+        }
+        return orderedStatuses;
+    }
+
+    private boolean isRetryable(ZclStatus status) {
+        return status == ZclStatus.TIMEOUT || status == ZclStatus.FAILURE;
+    }
+
+    /**
+     * Applies the policy to a single cluster. Each command is sent when the previous command completes, and the
+     * endpoint is completed exactly once - including if an exception is thrown at any step.
+     */
+    private class EndpointConfiguration {
+        private final ZclCluster cluster;
+        private final ZigBeeReportingResult result;
+        private final Map<Integer, AttributeReportingConfigurationRecord> pending = new LinkedHashMap<>();
+        private int bindAttempts;
+        private int reportingAttempts;
+        private boolean complete;
+
+        EndpointConfiguration(ZclCluster cluster) {
+            this.cluster = cluster;
+            this.result = new ZigBeeReportingResult(cluster.getZigBeeAddress());
+        }
+
+        void start() {
+            try {
+                for (AttributeReportingConfigurationRecord policyRecord : policy.getAttributes()) {
+                    ZclAttribute attribute = cluster.getAttribute(policyRecord.getAttributeIdentifier());
+                    if (attribute == null) {
+                        result.setAttributeStatus(policyRecord.getAttributeIdentifier(),
+                                ZclStatus.UNSUPPORTED_ATTRIBUTE);
+                        continue;
+                    }
+                    AttributeReportingConfigurationRecord record = new AttributeReportingConfigurationRecord();
+                    record.setDirection(policyRecord.getDirection());
+                    record.setAttributeIdentifier(policyRecord.getAttributeIdentifier());
+                    record.setAttributeDataType(attribute.getDataType());
+                    record.setMinimumReportingInterval(policyRecord.getMinimumReportingInterval());
+                    record.setMaximumReportingInterval(policyRecord.getMaximumReportingInterval());
+                    record.setReportableChange(policyRecord.getReportableChange());
+                    record.setTimeoutPeriod(policyRecord.getTimeoutPeriod());
+                    pending.put(record.getAttributeIdentifier(), record);
+                }
+
+                if (policy.isBind()) {
+                    bind();
+                } else {
+                    configureReporting();
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void bind() {
+            bindAttempts++;
+            cluster.bindAsync(networkManager.getLocalIeeeAddress(), policy.getBindEndpoint())
+                    .whenComplete(new BiConsumer<CommandResult, Throwable>() {
+                        @Override
+                        public void accept(CommandResult response, Throwable exception) {
+                            try {
+                                if (exception == null && response != null && response.isSuccess()) {
+                                    result.setBindSuccess(true);
+                                    configureReporting();
+                                    return;
+                                }
+                                if (exception != null) {
+                                    logger.debug("{}: Reporting configurator: Bind exception",
+                                            cluster.getZigBeeAddress(), exception);
+                                } else {
+                                    logger.debug("{}: Reporting configurator: Bind failed {}",
+                                            cluster.getZigBeeAddress(), response);
+                                }
+
+                                if (bindAttempts <= policy.getRetries() && scheduleRetry(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        try {
+                                            bind();
+                                        } catch (RuntimeException e) {
+                                            fail(e);
+                                        }
+                                    }
+                                })) {
+                                    return;
+                                }
+                                result.setBindSuccess(false);
+                                complete();
+                            } catch (RuntimeException e) {
+                                fail(e);
+                            }
+                        }
+                    });
+        }
+
+        private void configureReporting() {
+            if (pending.isEmpty()) {
+                complete();
+                return;
+            }
+
+            reportingAttempts++;
+            result.incrementAttempts();
+            final List<AttributeReportingConfigurationRecord> records = new ArrayList<>(pending.values());
+            cluster.setReportingAsync(records).whenComplete(new BiConsumer<CommandResult, Throwable>() {
+                @Override
+                public void accept(CommandResult response, Throwable exception) {
+                    try {
+                        Map<Integer, ZclStatus> statuses = getReportingStatus(cluster, records, response, exception);
+                        for (Map.Entry<Integer, ZclStatus> status : statuses.entrySet()) {
+                            result.setAttributeStatus(status.getKey(), status.getValue());
+                            if (!isRetryable(status.getValue())) {
+                                pending.remove(status.getKey());
+                            }
+                        }
+
+                        if (!pending.isEmpty() && reportingAttempts <= policy.getRetries()
+                                && scheduleRetry(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        try {
+                                            configureReporting();
+                                        } catch (RuntimeException e) {
+                                            fail(e);
+                                        }
+                                    }
+                                })) {
+                            return;
+                        }
+                        complete();
+                    } catch (RuntimeException e) {
+                        fail(e);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Records the endpoint as failed following an exception. The bind, if not complete, and any attribute that
+         * has not been configured are marked as failed.
+         *
+         * @param e the exception
+         */
+        private void fail(RuntimeException e) {
+            logger.debug("{}: Reporting configurator: Exception configuring endpoint", cluster.getZigBeeAddress(), e);
+            synchronized (this) {
+                if (complete) {
+                    return;
+                }
+            }
+            if (policy.isBind() && result.getBindSuccess() == null) {
+                result.setBindSuccess(false);
+            }
+            for (AttributeReportingConfigurationRecord policyRecord : policy.getAttributes()) {
+                int attributeId = policyRecord.getAttributeIdentifier();
+                if (pending.containsKey(attributeId) || !result.getAttributeStatus().containsKey(attributeId)) {
+                    result.setAttributeStatus(attributeId, ZclStatus.FAILURE);
+                }
+            }
+            complete();
+        }
+
+        private void complete() {
+            synchronized (this) {
+                if (complete) {
+                    return;
+                }
+                complete = true;
+            }
+            synchronized (remaining) {
+                active--;
+            }
+            endpointComplete(result);
+            startEndpoints();
+        }
+    }
+}
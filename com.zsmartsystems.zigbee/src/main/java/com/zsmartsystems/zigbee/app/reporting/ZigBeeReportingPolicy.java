@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+
+/**
+ * Defines the reporting configuration applied to a cluster by the {@link ZigBeeReportingConfigurator}. The policy
+ * defines the cluster, the reporting intervals and reportable change for each attribute, and whether the cluster is
+ * bound to the local node so that the reports are received.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeReportingPolicy {
+    /**
+     * Default number of times a failed bind or configuration is retried
+     */
+    private static final int DEFAULT_RETRIES = 2;
+
+    /**
+     * Default maximum number of endpoints configured at the same time
+     */
+    private static final int DEFAULT_MAX_CONCURRENT_ENDPOINTS = 4;
+
+    /**
+     * Default local endpoint to which the cluster is bound
+     */
+    private static final int DEFAULT_BIND_ENDPOINT = 1;
+
+    /**
+     * Default delay in milliseconds before a failed bind or configuration is retried
+     */
+    private static final long DEFAULT_RETRY_DELAY = 2000;
+
+    private final int clusterId;
+
+    private final List<AttributeReportingConfigurationRecord> attributes = new ArrayList<>();
+
+    private boolean bind = true;
+
+    private int bindEndpoint = DEFAULT_BIND_ENDPOINT;
+
+    private int retries = DEFAULT_RETRIES;
+
+    private long retryDelay = DEFAULT_RETRY_DELAY;
+
+    private int maxConcurrentEndpoints = DEFAULT_MAX_CONCURRENT_ENDPOINTS;
+
+    /**
+     * Creates a reporting policy for a cluster. The policy is applied to the server cluster on each selected endpoint.
+     *
+     * @param clusterId the cluster ID
+     */
+    public ZigBeeReportingPolicy(int clusterId) {
+        this.clusterId = clusterId;
+    }
+
+    /**
+     * Gets the cluster ID to which this policy applies
+     *
+     * @return the cluster ID
+     */
+    public int getClusterId() {
+        return clusterId;
+    }
+
+    /**
+     * Adds an attribute to the policy. See {@link com.zsmartsystems.zigbee.zcl.ZclCluster#setReporting(int, int, int,
+     * Object)} for details of the parameters.
+     *
+     * @param attributeId the attribute ID
+     * @param minInterval the minimum reporting interval in seconds
+     * @param maxInterval the maximum reporting interval in seconds
+     * @param reportableChange the minimum change required to report an update, or null for discrete attributes
+     */
+    public void addAttribute(int attributeId, int minInterval, int maxInterval, Object reportableChange) {
+        AttributeReportingConfigurationRecord record = new AttributeReportingConfigurationRecord();
+        record.setDirection(0);
+        record.setAttributeIdentifier(attributeId);
+        record.setMinimumReportingInterval(minInterval);
+        record.setMaximumReportingInterval(maxInterval);
+        record.setReportableChange(reportableChange);
+        record.setTimeoutPeriod(0);
+        attributes.add(record);
+    }
+
+    /**
+     * Gets the reporting configuration of the attributes in this policy. The attribute data type is not set in the
+     * records as this is taken from the cluster when the policy is applied.
+     *
+     * @return the list of {@link AttributeReportingConfigurationRecord}
+     */
+    public List<AttributeReportingConfigurationRecord> getAttributes() {
+        return Collections.unmodifiableList(attributes);
+    }
+
+    /**
+     * Sets whether the cluster is bound to the local node before configuring reporting. Defaults to true.
+     *
+     * @param bind true to bind the cluster to the local node
+     */
+    public void setBind(boolean bind) {
+        this.bind = bind;
+    }
+
+    /**
+     * Gets whether the cluster is bound to the local node before configuring reporting
+     *
+     * @return true if the cluster is bound to the local node
+     */
+    public boolean isBind() {
+        return bind;
+    }
+
+    /**
+     * Sets the local endpoint to which the cluster is bound. Defaults to 1.
+     *
+     * @param bindEndpoint the local endpoint ID
+     */
+    public void setBindEndpoint(int bindEndpoint) {
+        this.bindEndpoint = bindEndpoint;
+    }
+
+    /**
+     * Gets the local endpoint to which the cluster is bound
+     *
+     * @return the local endpoint ID
+     */
+    public int getBindEndpoint() {
+        return bindEndpoint;
+    }
+
+    /**
+     * Sets the number of times a failed bind, or the configuration of an attribute that failed without a definitive
+     * status from the device, is retried. Defaults to 2.
+     *
+     * @param retries the number of retries
+     */
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    /**
+     * Gets the number of times a failed bind or configuration is retried
+     *
+     * @return the number of retries
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * Sets the delay before a failed bind or configuration is retried. This gives a device that is busy, or a route
+     * that is being repaired, time to recover before the next attempt. Defaults to 2000 milliseconds.
+     *
+     * @param retryDelay the delay in milliseconds before each retry
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Gets the delay before a failed bind or configuration is retried
+     *
+     * @return the delay in milliseconds before each retry
+     */
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the maximum number of endpoints that are configured at the same time. The commands for each endpoint are
+     * sent through the transaction manager, which limits the number of outstanding transactions to each node and to
+     * the network as a whole. Defaults to 4.
+     *
+     * @param maxConcurrentEndpoints the maximum number of endpoints configured at the same time
+     */
+    public void setMaxConcurrentEndpoints(int maxConcurrentEndpoints) {
+        this.maxConcurrentEndpoints = maxConcurrentEndpoints;
+    }
+
+    /**
+     * Gets the maximum number of endpoints that are configured at the same time
+     *
+     * @return the maximum number of endpoints configured at the same time
+     */
+    public int getMaxConcurrentEndpoints() {
+        return maxConcurrentEndpoints;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeReportingPolicy [clusterId=" + String.format("%04X", clusterId) + ", attributes="
+                + attributes.size() + ", bind=" + bind + ", bindEndpoint=" + bindEndpoint + ", retries=" + retries
+                + ", retryDelay=" + retryDelay + ", maxConcurrentEndpoints=" + maxConcurrentEndpoints + "]";
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+/**
+ * Listener called as the {@link ZigBeeReportingConfigurator} completes the configuration of each endpoint.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeReportingProgressListener {
+    /**
+     * Called when the configuration of an endpoint is complete. This is called from the thread that configured the
+     * endpoint, so implementations should return quickly.
+     *
+     * @param result the {@link ZigBeeReportingResult} for the endpoint
+     * @param completed the number of endpoints completed so far
+     * @param total the total number of endpoints being configured
+     */
+    void reportingProgress(ZigBeeReportingResult result, int completed, int total);
+}
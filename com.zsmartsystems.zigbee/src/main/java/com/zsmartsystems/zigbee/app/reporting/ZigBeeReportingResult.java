@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+
+/**
+ * The result of applying a {@link ZigBeeReportingPolicy} to a single endpoint.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeReportingResult {
+    private final ZigBeeEndpointAddress endpointAddress;
+
+    private Boolean bindSuccess;
+
+    private final Map<Integer, ZclStatus> attributeStatus = new LinkedHashMap<>();
+
+    private int attempts;
+
+    /**
+     * Creates the result for an endpoint
+     *
+     * @param endpointAddress the {@link ZigBeeEndpointAddress} of the endpoint
+     */
+    public ZigBeeReportingResult(ZigBeeEndpointAddress endpointAddress) {
+        this.endpointAddress = endpointAddress;
+    }
+
+    /**
+     * Gets the address of the endpoint
+     *
+     * @return the {@link ZigBeeEndpointAddress} of the endpoint
+     */
+    public ZigBeeEndpointAddress getEndpointAddress() {
+        return endpointAddress;
+    }
+
+    /**
+     * Gets the result of binding the cluster to the local node
+     *
+     * @return true if the bind was successful, false if it failed, or null if the policy did not require a bind
+     */
+    public Boolean getBindSuccess() {
+        return bindSuccess;
+    }
+
+    void setBindSuccess(Boolean bindSuccess) {
+        this.bindSuccess = bindSuccess;
+    }
+
+    /**
+     * Gets the status of the reporting configuration of each attribute in the policy
+     *
+     * @return a map of the attribute ID to the {@link ZclStatus} of its configuration
+     */
+    public Map<Integer, ZclStatus> getAttributeStatus() {
+        return Collections.unmodifiableMap(attributeStatus);
+    }
+
+    void setAttributeStatus(int attributeId, ZclStatus status) {
+        attributeStatus.put(attributeId, status);
+    }
+
+    /**
+     * Gets the number of configure reporting commands sent to the endpoint, including retries
+     *
+     * @return the number of configure reporting commands sent
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    void incrementAttempts() {
+        attempts++;
+    }
+
+    /**
+     * Checks if the policy was applied successfully - the bind, if required, was successful and the reporting of all
+     * attributes was configured.
+     *
+     * @return true if the policy was applied successfully
+     */
+    public boolean isSuccess() {
+        if (bindSuccess != null && !bindSuccess) {
+            return false;
+        }
+        for (ZclStatus status : attributeStatus.values()) {
+            if (status != ZclStatus.SUCCESS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeReportingResult [endpointAddress=" + endpointAddress + ", bindSuccess=" + bindSuccess
+                + ", attributeStatus=" + attributeStatus + ", attempts=" + attempts + "]";
+    }
+}
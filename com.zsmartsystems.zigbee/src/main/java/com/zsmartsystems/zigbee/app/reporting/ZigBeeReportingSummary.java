@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The summary of applying a {@link ZigBeeReportingPolicy} to all selected endpoints.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeReportingSummary {
+    private final List<ZigBeeReportingResult> results;
+
+    /**
+     * Creates the summary
+     *
+     * @param results the {@link ZigBeeReportingResult} for each endpoint
+     */
+    public ZigBeeReportingSummary(List<ZigBeeReportingResult> results) {
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    }
+
+    /**
+     * Gets the results for all endpoints, in the order they completed
+     *
+     * @return the list of {@link ZigBeeReportingResult}
+     */
+    public List<ZigBeeReportingResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the results for the endpoints where the policy could not be fully applied
+     *
+     * @return the list of failed {@link ZigBeeReportingResult}
+     */
+    public List<ZigBeeReportingResult> getFailures() {
+        List<ZigBeeReportingResult> failures = new ArrayList<>();
+        for (ZigBeeReportingResult result : results) {
+            if (!result.isSuccess()) {
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Gets the number of endpoints where the policy was applied successfully
+     *
+     * @return the number of successful endpoints
+     */
+    public int getSuccessCount() {
+        return results.size() - getFailures().size();
+    }
+
+    /**
+     * Checks if the policy was applied successfully to all endpoints
+     *
+     * @return true if the policy was applied to all endpoints
+     */
+    public boolean isSuccess() {
+        return getFailures().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeReportingSummary [endpoints=" + results.size() + ", success=" + getSuccessCount() + "]";
+    }
+}
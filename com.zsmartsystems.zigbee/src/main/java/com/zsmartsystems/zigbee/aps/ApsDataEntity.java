@@ -13,6 +13,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zigbee.ZigBeeClock;
+import com.zsmartsystems.zigbee.metrics.ZigBeeMetricsRegistry;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
 
 /**
@@ -47,19 +49,25 @@ public class ApsDataEntity {
     private final Logger logger = LoggerFactory.getLogger(ApsDataEntity.class);
 
     /**
-     * APS counter for each node in the network to allow duplicate packet removal
+     * The receive state for each node in the network to allow duplicate packet removal. Each entry is locked while a
+     * frame from that node is processed, so frames from different nodes can be processed concurrently.
      */
-    private final Map<Integer, Integer> apsCounters = new ConcurrentHashMap<>();
+    private final Map<Integer, ApsReceiveState> receiveStates = new ConcurrentHashMap<>();
 
     /**
-     * Last frame received time for each node. This allows us to only remove duplicates received within a specified time
+     * The number of milliseconds within which a frame with the same APS counter will be considered a duplicate
      */
-    private final Map<Integer, Long> lastFrameTimes = new ConcurrentHashMap<>();
+    private volatile Long duplicateTimeWindow = DUPLICATE_TIME_WINDOW;
 
     /**
-     * The number of milliseconds within which a frame with the same APS counter will be considered a duplicate
+     * The {@link ZigBeeClock} used to time the duplicate window
+     */
+    private volatile ZigBeeClock clock = ZigBeeClock.SYSTEM;
+
+    /**
+     * The {@link ZigBeeMetricsRegistry} used to count the duplicate frames
      */
-    private Long duplicateTimeWindow = DUPLICATE_TIME_WINDOW;
+    private volatile ZigBeeMetricsRegistry metricsRegistry = ZigBeeMetricsRegistry.NONE;
 
     /**
      * Sets the number of milliseconds within which an APS frame with the same counter will be considered a duplicate
@@ -71,6 +79,25 @@ public class ApsDataEntity {
         this.duplicateTimeWindow = duplicateTimeWindow;
     }
 
+    /**
+     * Sets the {@link ZigBeeClock} used to time the duplicate window. This allows the duplicate window to be driven by
+     * a virtual clock in tests.
+     *
+     * @param clock the {@link ZigBeeClock} to use
+     */
+    public void setClock(ZigBeeClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the {@link ZigBeeMetricsRegistry} used to count the duplicate frames
+     *
+     * @param metricsRegistry the {@link ZigBeeMetricsRegistry} to use
+     */
+    public void setMetricsRegistry(ZigBeeMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     /**
      * Processes a received {@link ZigBeeApsFrame}, and returns the frame that is to fed up the stack. The APS layer may
      * return null from this command if it should not be processed up the stack, or it may return a different frame if
@@ -82,19 +109,47 @@ public class ApsDataEntity {
      * @return the {@link ZigBeeApsFrame} to be used within the upper layers or null if the frame is not to be fed into
      *         the rest of the system
      */
-    public synchronized ZigBeeApsFrame receive(final ZigBeeApsFrame apsFrame) {
-        Integer apsCounter = apsCounters.get(apsFrame.getSourceAddress());
-        if (apsCounter != null && apsCounter == apsFrame.getApsCounter() && (lastFrameTimes
-                .get(apsFrame.getSourceAddress()) > System.currentTimeMillis() - duplicateTimeWindow)) {
-            logger.debug("{}: APS Data: Duplicate frame from {}ms ago dropped: {}", apsFrame.getSourceAddress(),
-                    System.currentTimeMillis() - lastFrameTimes.get(apsFrame.getSourceAddress()), apsFrame);
-            return null;
+    public ZigBeeApsFrame receive(final ZigBeeApsFrame apsFrame) {
+        ApsReceiveState receiveState = receiveStates.get(apsFrame.getSourceAddress());
+        if (receiveState == null) {
+            ApsReceiveState newState = new ApsReceiveState();
+            receiveState = receiveStates.putIfAbsent(apsFrame.getSourceAddress(), newState);
+            if (receiveState == null) {
+                receiveState = newState;
+            }
         }
 
-        if (apsFrame.getApsCounter() != -1) {
-            apsCounters.put(apsFrame.getSourceAddress(), apsFrame.getApsCounter());
-            lastFrameTimes.put(apsFrame.getSourceAddress(), System.currentTimeMillis());
+        synchronized (receiveState) {
+            long now = clock.currentTimeMillis();
+            if (receiveState.apsCounter != null && receiveState.apsCounter == apsFrame.getApsCounter()
+                    && receiveState.lastFrameTime > now - duplicateTimeWindow) {
+                logger.debug("{}: APS Data: Duplicate frame from {}ms ago dropped: {}", apsFrame.getSourceAddress(),
+                        now - receiveState.lastFrameTime, apsFrame);
+                metricsRegistry.increment(ZigBeeMetricsRegistry.APS_DUPLICATE, apsFrame.getSourceAddress(), 1);
+                return null;
+            }
+
+            if (apsFrame.getApsCounter() != -1) {
+                receiveState.apsCounter = apsFrame.getApsCounter();
+                receiveState.lastFrameTime = now;
+            }
         }
         return apsFrame;
     }
+
+    /**
+     * The duplicate detection state for a single node
+     */
+    private static class ApsReceiveState {
+        /**
+         * The APS counter of the last frame received from the node
+         */
+        private Integer apsCounter;
+
+        /**
+         * The time the last frame was received from the node. This allows us to only remove duplicates received
+         * within a specified time
+         */
+        private long lastFrameTime;
+    }
 }
@@ -7,8 +7,11 @@
  */
 package com.zsmartsystems.zigbee.aps;
 
+import java.nio.ByteBuffer;
+
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeNwkAddressMode;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 
 /**
  * Defines the APS layer frame along with some network layer elements that may be needed by the application.
@@ -136,9 +139,23 @@ public class ZigBeeApsFrame {
      * <p>
      * This is defined as the application payload as defined in the ZigBee standard. This could include a ZCL cluster
      * starting with the ZCL header, or a ZDO frame etc.
+     * <p>
+     * The payload may be held as an int[] (as used by the transport layers) and/or as a {@link ByteBuffer} (as used by
+     * the serializers). If only one is set, the other is created the first time it is requested.
      */
     private int[] payload;
 
+    /**
+     * The APS payload as a {@link ByteBuffer}. See {@link #payload}.
+     */
+    private ByteBuffer payloadBuffer;
+
+    /**
+     * The {@link ZigBeeTransactionPriority} of the frame. This is not part of the frame, but may be used by transports
+     * that queue frames to send higher priority frames first.
+     */
+    private ZigBeeTransactionPriority priority = ZigBeeTransactionPriority.NORMAL;
+
     public int getDestinationAddress() {
         return destinationAddress;
     }
@@ -271,14 +288,82 @@ public class ZigBeeApsFrame {
         this.apsCounter = apsCounter;
     }
 
+    /**
+     * Sets the APS payload from an integer array
+     *
+     * @param payload the payload, with each element holding one byte
+     */
     public void setPayload(int[] payload) {
         this.payload = payload;
+        this.payloadBuffer = null;
     }
 
+    /**
+     * Sets the APS payload from a {@link ByteBuffer}. The payload is the remaining bytes in the buffer. The buffer
+     * content is not copied, so the caller must not modify the content after calling this method.
+     *
+     * @param payload the payload {@link ByteBuffer}
+     */
+    public void setPayload(ByteBuffer payload) {
+        this.payload = null;
+        this.payloadBuffer = payload == null ? null : payload.slice();
+    }
+
+    /**
+     * Gets the APS payload as an integer array. If the payload was set as a {@link ByteBuffer}, it is converted the
+     * first time this is called.
+     *
+     * @return the payload, with each element holding one byte
+     */
     public int[] getPayload() {
+        if (payload == null && payloadBuffer != null) {
+            ByteBuffer buffer = payloadBuffer.duplicate();
+            int[] intPayload = new int[buffer.remaining()];
+            for (int cnt = 0; cnt < intPayload.length; cnt++) {
+                intPayload[cnt] = buffer.get() & 0xFF;
+            }
+            payload = intPayload;
+        }
         return payload;
     }
 
+    /**
+     * Gets the APS payload as a {@link ByteBuffer}. If the payload was set as an integer array, it is converted the
+     * first time this is called. The returned buffer is a view of the payload with its own position and limit, and
+     * must not be modified.
+     *
+     * @return the payload {@link ByteBuffer} or null if no payload is set
+     */
+    public ByteBuffer getPayloadBuffer() {
+        if (payloadBuffer == null && payload != null) {
+            byte[] bytePayload = new byte[payload.length];
+            for (int cnt = 0; cnt < payload.length; cnt++) {
+                bytePayload[cnt] = (byte) payload[cnt];
+            }
+            payloadBuffer = ByteBuffer.wrap(bytePayload);
+        }
+        return payloadBuffer == null ? null : payloadBuffer.duplicate();
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} of the frame
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the frame
+     */
+    public ZigBeeTransactionPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the {@link ZigBeeTransactionPriority} of the frame. Transports that queue frames may use this to send higher
+     * priority frames first.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority} of the frame
+     */
+    public void setPriority(ZigBeeTransactionPriority priority) {
+        this.priority = priority;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder(164);
@@ -312,6 +397,13 @@ public class ZigBeeApsFrame {
                 }
                 builder.append(String.format("%02X", payload[c]));
             }
+        } else if (payloadBuffer != null) {
+            for (int c = 0; c < payloadBuffer.remaining(); c++) {
+                if (c != 0) {
+                    builder.append(' ');
+                }
+                builder.append(String.format("%02X", payloadBuffer.get(payloadBuffer.position() + c) & 0xFF));
+            }
         }
         builder.append(']');
         return builder.toString();
@@ -13,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,12 +79,12 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
     /**
      * The time to defer writes. If the node is not updated for this number of milliseconds, the data will be written.
      */
-    private int deferredWriteTime = DEFERRED_WRITE_DEFAULT;
+    private volatile int deferredWriteTime = DEFERRED_WRITE_DEFAULT;
 
     /**
      * The maximum amount of time we will defer writes (in nanoseconds)
      */
-    private long deferredWriteTimeout = TimeUnit.MILLISECONDS.toNanos(DEFERRED_WRITE_TIMEOUT);
+    private volatile long deferredWriteTimeout = TimeUnit.MILLISECONDS.toNanos(DEFERRED_WRITE_TIMEOUT);
 
     /**
      * Map of deferred write futures for each node
@@ -95,6 +96,21 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
      */
     private final Map<IeeeAddress, Long> deferredWriteTimes = new ConcurrentHashMap<>();
 
+    /**
+     * The number of nodes written to the data store
+     */
+    private final AtomicLong writeCount = new AtomicLong();
+
+    /**
+     * The total time spent writing nodes to the data store in nanoseconds
+     */
+    private final AtomicLong writeTime = new AtomicLong();
+
+    /**
+     * The longest time taken to write a node to the data store in nanoseconds
+     */
+    private final AtomicLong maxWriteTime = new AtomicLong();
+
     /**
      * Single thread scheduler to ensure single writes within the data store
      */
@@ -132,6 +148,15 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
         this.deferredWriteTime = deferredWriteTime;
     }
 
+    /**
+     * Gets the deferred write timer
+     *
+     * @return the number of milliseconds to wait before writing to the store
+     */
+    public int getDeferredWriteTime() {
+        return deferredWriteTime;
+    }
+
     /**
      * Sets the maximum deferred write timer. This will ensure that the data store is updated periodically in the event
      * that continuous updates are received for a node.
@@ -147,6 +172,52 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
         this.deferredWriteTimeout = TimeUnit.MILLISECONDS.toNanos(deferredWriteMax);
     }
 
+    /**
+     * Gets the maximum deferred write timer
+     *
+     * @return the maximum number of milliseconds that writes will be deferred
+     */
+    public int getMaxDeferredWriteTime() {
+        return (int) TimeUnit.NANOSECONDS.toMillis(deferredWriteTimeout);
+    }
+
+    /**
+     * Gets the number of nodes waiting for a deferred write to the data store
+     *
+     * @return the number of pending writes
+     */
+    public int getPendingWriteCount() {
+        return deferredWriteFutures.size();
+    }
+
+    /**
+     * Gets the number of nodes that have been written to the data store
+     *
+     * @return the number of writes
+     */
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * Gets the average time taken by the data store to write a node
+     *
+     * @return the average write time in milliseconds, or 0 if no nodes have been written
+     */
+    public double getAverageWriteTime() {
+        long writes = writeCount.get();
+        return writes == 0 ? 0 : (double) writeTime.get() / writes / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets the longest time taken by the data store to write a node
+     *
+     * @return the longest write time in milliseconds
+     */
+    public double getMaxWriteTime() {
+        return (double) maxWriteTime.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
     /**
      * Starts the database manager. This will call the {@link ZigBeeNetworkDataStore} to retrieve the list of nodes, and
      * then read all the nodes from the store, adding them to the {@link ZigBeeNetworkManager}.
@@ -262,7 +333,16 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
             deferredWriteFutures.remove(node.getIeeeAddress());
         }
 
+        long start = System.nanoTime();
         dataStore.writeNode(node.getDao());
+        long time = System.nanoTime() - start;
+
+        writeCount.incrementAndGet();
+        writeTime.addAndGet(time);
+        long max = maxWriteTime.get();
+        while (time > max && !maxWriteTime.compareAndSet(max, time)) {
+            max = maxWriteTime.get();
+        }
     }
 
 }
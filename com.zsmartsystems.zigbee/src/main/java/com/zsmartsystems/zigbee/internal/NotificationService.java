@@ -29,18 +29,23 @@ public class NotificationService {
      */
     private static Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private static ExecutorService executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
+    /**
+     * The executor used for the notifications. This is created when first used so that it is created by the
+     * {@link ZigBeeExecutors} provider set by the application.
+     */
+    private static ExecutorService executorService;
 
     /**
      * Initializes the notification service
      */
-    public static void initialize() {
-        if (executorService.isShutdown()) {
+    public static synchronized void initialize() {
+        if (executorService == null || executorService.isShutdown()) {
             executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
         }
     }
 
     public static void execute(Runnable command) {
+        ExecutorService executorService = getExecutorService();
         if (executorService.isShutdown()) {
             logger.debug("NotificationService is shutdown. Not scheduling {}", command.getClass().getName());
             return;
@@ -58,6 +63,7 @@ public class NotificationService {
      * @param wait the number of milliseconds to wait for all threads to close before terminating
      */
     public static void shutdown(long wait) {
+        ExecutorService executorService = getExecutorService();
         executorService.shutdown();
         try {
             executorService.awaitTermination(wait, TimeUnit.MILLISECONDS);
@@ -66,4 +72,11 @@ public class NotificationService {
         executorService.shutdownNow();
     }
 
+    private static synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
+        }
+        return executorService;
+    }
+
 }
@@ -7,41 +7,168 @@
  */
 package com.zsmartsystems.zigbee.internal;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
 import com.zsmartsystems.zigbee.ZigBeeCommandListener;
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
+import com.zsmartsystems.zigbee.ZigBeeListenerOverflowPolicy;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.metrics.ZigBeeMetricsRegistry;
 
 /**
  * Class to manage notifications of received commands. The library distributes commands hierarchically so this class
  * provides a centralised function for managing this.
+ * <p>
+ * Each listener has its own queue of pending commands (its mailbox). Mailboxes are drained by a shared, fixed size,
+ * pool of worker threads, and each listener receives commands in the order they were notified, one at a time.
+ * <p>
+ * By default the mailboxes are not limited. If a capacity is configured, the {@link ZigBeeListenerOverflowPolicy}
+ * defines whether the notifying thread waits when a mailbox is full, or a command is dropped. The default policy is
+ * {@link ZigBeeListenerOverflowPolicy#BLOCK}, so commands are only dropped if this is explicitly configured.
  *
  * @author Chris Jackson
  *
  */
 public class ZigBeeCommandNotifier {
     /**
-     * The command listeners.
+     * The default maximum number of pending commands for each listener. By default the queues are not limited, so that
+     * no received command is dropped unless this is configured.
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = Integer.MAX_VALUE;
+
+    /**
+     * The default number of threads used to notify the listeners
+     */
+    private static final int DEFAULT_WORKER_THREADS = 4;
+
+    /**
+     * The maximum number of commands that a worker will deliver to one listener before allowing other listeners to run
+     */
+    private static final int MAX_BATCH = 16;
+
+    /**
+     * The logger
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeCommandNotifier.class);
+
+    /**
+     * The command listeners and their mailboxes
+     */
+    private final Map<ZigBeeCommandListener, ListenerMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * The number of worker threads
+     */
+    private final int workerThreads;
+
+    /**
+     * The worker threads used to notify the listeners. This is created when the first command is notified.
      */
-    private Set<ZigBeeCommandListener> commandListeners = new HashSet<ZigBeeCommandListener>();
+    private ExecutorService executorService;
+
+    /**
+     * Set when the notifier has been shutdown
+     */
+    private boolean shutdown;
+
+    /**
+     * The maximum number of pending commands for each listener
+     */
+    private volatile int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * The {@link ZigBeeListenerOverflowPolicy} applied when a listener mailbox is full
+     */
+    private volatile ZigBeeListenerOverflowPolicy overflowPolicy = ZigBeeListenerOverflowPolicy.BLOCK;
+
+    /**
+     * The {@link ZigBeeMetricsRegistry} used to record the pending and dropped commands
+     */
+    private volatile ZigBeeMetricsRegistry metricsRegistry = ZigBeeMetricsRegistry.NONE;
+
+    /**
+     * Creates the notifier with the default number of worker threads
+     */
+    public ZigBeeCommandNotifier() {
+        this(DEFAULT_WORKER_THREADS);
+    }
+
+    /**
+     * Creates the notifier
+     *
+     * @param workerThreads the number of threads used to notify the listeners
+     */
+    public ZigBeeCommandNotifier(int workerThreads) {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("Worker threads must be greater than 0");
+        }
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Sets the maximum number of pending commands for each listener, and the action to take when a listener has too
+     * many pending commands.
+     *
+     * @param queueCapacity the maximum number of pending commands for each listener
+     * @param overflowPolicy the {@link ZigBeeListenerOverflowPolicy} applied when a listener queue is full
+     */
+    public void setQueueConfiguration(int queueCapacity, ZigBeeListenerOverflowPolicy overflowPolicy) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than 0");
+        }
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+
+        // Release any blocked threads so they apply the new configuration
+        for (ListenerMailbox mailbox : mailboxes.values()) {
+            synchronized (mailbox) {
+                mailbox.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Sets the {@link ZigBeeMetricsRegistry} used to record the number of pending and dropped commands for each
+     * listener
+     *
+     * @param metricsRegistry the {@link ZigBeeMetricsRegistry} to use
+     */
+    public void setMetricsRegistry(ZigBeeMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
 
     /**
      * Adds a command listener
      *
      * @param commandListener the {@link CommandListener} to add
      */
-    public synchronized void addCommandListener(ZigBeeCommandListener commandListener) {
-        commandListeners.add(commandListener);
+    public void addCommandListener(ZigBeeCommandListener commandListener) {
+        if (mailboxes.containsKey(commandListener)) {
+            return;
+        }
+        mailboxes.putIfAbsent(commandListener, new ListenerMailbox(commandListener));
     }
 
     /**
-     * Removes a command listener
+     * Removes a command listener. Any commands that have not yet been delivered to the listener are discarded.
      *
      * @param commandListener the {@link CommandListener} to remove
      */
-    public synchronized void removeCommandListener(ZigBeeCommandListener commandListener) {
-        commandListeners.remove(commandListener);
+    public void removeCommandListener(ZigBeeCommandListener commandListener) {
+        ListenerMailbox mailbox = mailboxes.remove(commandListener);
+        if (mailbox != null) {
+            mailbox.close();
+        }
     }
 
     /**
@@ -49,15 +176,208 @@ public class ZigBeeCommandNotifier {
      *
      * @param command the {@link ZigBeeCommand} to send to the listeners
      */
-    public synchronized void notifyCommandListeners(final ZigBeeCommand command) {
-        // Notify the listeners
-        for (final ZigBeeCommandListener commandListener : commandListeners) {
-            NotificationService.execute(new Runnable() {
-                @Override
-                public void run() {
-                    commandListener.commandReceived(command);
+    public void notifyCommandListeners(final ZigBeeCommand command) {
+        for (ListenerMailbox mailbox : mailboxes.values()) {
+            mailbox.offer(command);
+        }
+    }
+
+    /**
+     * Gets the number of commands waiting to be delivered to a listener
+     *
+     * @param commandListener the {@link ZigBeeCommandListener}
+     * @return the number of pending commands, or 0 if the listener is not registered
+     */
+    public int getQueueDepth(ZigBeeCommandListener commandListener) {
+        ListenerMailbox mailbox = mailboxes.get(commandListener);
+        if (mailbox == null) {
+            return 0;
+        }
+        synchronized (mailbox) {
+            return mailbox.queue.size();
+        }
+    }
+
+    /**
+     * Gets the largest number of commands that have been waiting to be delivered to a listener at the same time
+     *
+     * @param commandListener the {@link ZigBeeCommandListener}
+     * @return the peak number of pending commands, or 0 if the listener is not registered
+     */
+    public int getPeakQueueDepth(ZigBeeCommandListener commandListener) {
+        ListenerMailbox mailbox = mailboxes.get(commandListener);
+        if (mailbox == null) {
+            return 0;
+        }
+        synchronized (mailbox) {
+            return mailbox.peakDepth;
+        }
+    }
+
+    /**
+     * Gets the number of commands that have been dropped for a listener because its queue was full
+     *
+     * @param commandListener the {@link ZigBeeCommandListener}
+     * @return the number of dropped commands, or 0 if the listener is not registered
+     */
+    public long getDroppedCount(ZigBeeCommandListener commandListener) {
+        ListenerMailbox mailbox = mailboxes.get(commandListener);
+        if (mailbox == null) {
+            return 0;
+        }
+        synchronized (mailbox) {
+            return mailbox.droppedCount;
+        }
+    }
+
+    /**
+     * Shuts down the notifier. Pending commands are discarded, and no further commands will be delivered.
+     */
+    public void shutdown() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = executorService;
+            executorService = null;
+            shutdown = true;
+        }
+        for (ListenerMailbox mailbox : mailboxes.values()) {
+            mailbox.close();
+        }
+        mailboxes.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the tag used for the metrics of a listener. Each listener has its own tag, since many listeners may be
+     * instances of the same class. Nodes are identified by their {@link IeeeAddress}, and other listeners by their
+     * identity hash code.
+     *
+     * @param listener the {@link ZigBeeCommandListener}
+     * @return the tag for the metrics of the listener
+     */
+    private static String getMetricsTag(ZigBeeCommandListener listener) {
+        if (listener instanceof ZigBeeNode) {
+            return ZigBeeNode.class.getName() + "@" + ((ZigBeeNode) listener).getIeeeAddress();
+        }
+        return listener.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(listener));
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (shutdown) {
+            throw new RejectedExecutionException("ZigBeeCommandNotifier is shutdown");
+        }
+        if (executorService == null) {
+            executorService = ZigBeeExecutors.newFixedThreadPool(workerThreads, "CommandNotifier");
+        }
+        return executorService;
+    }
+
+    /**
+     * The queue of pending commands for a single listener. At most one worker delivers commands from the mailbox at
+     * any time, so the listener receives commands in order.
+     */
+    private class ListenerMailbox implements Runnable {
+        private final ZigBeeCommandListener listener;
+        private final String metricsTag;
+        private final Queue<ZigBeeCommand> queue = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean closed;
+        private int peakDepth;
+        private long droppedCount;
+
+        ListenerMailbox(ZigBeeCommandListener listener) {
+            this.listener = listener;
+            this.metricsTag = getMetricsTag(listener);
+        }
+
+        private void dropped() {
+            droppedCount++;
+            metricsRegistry.increment(ZigBeeMetricsRegistry.NOTIFICATION_DROPPED, metricsTag, 1);
+        }
+
+        void offer(ZigBeeCommand command) {
+            synchronized (this) {
+                while (!closed && queue.size() >= queueCapacity) {
+                    ZigBeeListenerOverflowPolicy policy = overflowPolicy;
+                    if (policy == ZigBeeListenerOverflowPolicy.DROP_NEWEST) {
+                        dropped();
+                        logger.debug("Listener queue full: dropping {} for {}", command, listener);
+                        return;
+                    }
+                    if (policy == ZigBeeListenerOverflowPolicy.DROP_OLDEST) {
+                        dropped();
+                        logger.debug("Listener queue full: dropping {} for {}", queue.poll(), listener);
+                        continue;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped();
+                        return;
+                    }
                 }
-            });
+                if (closed) {
+                    return;
+                }
+
+                queue.add(command);
+                if (queue.size() > peakDepth) {
+                    peakDepth = queue.size();
+                }
+                metricsRegistry.setGauge(ZigBeeMetricsRegistry.NOTIFICATION_PENDING, metricsTag, queue.size());
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+                metricsRegistry.setGauge(ZigBeeMetricsRegistry.NOTIFICATION_PENDING, metricsTag, 0);
+                notifyAll();
+            }
+        }
+
+        private void schedule() {
+            try {
+                getExecutorService().execute(this);
+            } catch (RejectedExecutionException e) {
+                logger.debug("ZigBeeCommandNotifier is shutdown. Not notifying {}", listener);
+                synchronized (this) {
+                    scheduled = false;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int cnt = 0; cnt < MAX_BATCH; cnt++) {
+                ZigBeeCommand command;
+                synchronized (this) {
+                    command = queue.poll();
+                    if (command == null) {
+                        scheduled = false;
+                        return;
+                    }
+                    metricsRegistry.setGauge(ZigBeeMetricsRegistry.NOTIFICATION_PENDING, metricsTag, queue.size());
+                    notifyAll();
+                }
+                try {
+                    listener.commandReceived(command);
+                } catch (Exception e) {
+                    logger.debug("Exception notifying {} of {}", listener, command, e);
+                }
+            }
+
+            // Allow other listeners to be notified before continuing with this listener
+            schedule();
         }
     }
 }
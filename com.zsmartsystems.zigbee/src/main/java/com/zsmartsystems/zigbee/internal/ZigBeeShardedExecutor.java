@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
+
+/**
+ * Executes tasks across a fixed number of single threaded shards. Tasks are assigned to a shard using a key, so that
+ * all tasks with the same key are executed sequentially in the order they were submitted, while tasks with different
+ * keys may be executed in parallel.
+ * <p>
+ * This is used on the receive path to process frames from different nodes concurrently, while preserving the order of
+ * frames received from each node.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeShardedExecutor {
+    /**
+     * The logger
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeShardedExecutor.class);
+
+    /**
+     * The single threaded executors - one per shard
+     */
+    private final ExecutorService[] shards;
+
+    /**
+     * Creates the executor
+     *
+     * @param shardCount the number of shards (threads). Must be greater than 0.
+     * @param name the thread pool name
+     */
+    public ZigBeeShardedExecutor(int shardCount, String name) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be greater than 0");
+        }
+        shards = new ExecutorService[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards[shard] = ZigBeeExecutors.newFixedThreadPool(1, name + "-" + shard);
+        }
+    }
+
+    /**
+     * Gets the number of shards used by this executor
+     *
+     * @return the number of shards
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Executes a task on the shard assigned to the key. Tasks submitted with the same key are executed in order.
+     *
+     * @param key the key used to select the shard
+     * @param task the {@link Runnable} to execute
+     */
+    public void execute(int key, Runnable task) {
+        ExecutorService shard = shards[(key & 0x7FFFFFFF) % shards.length];
+        try {
+            shard.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.debug("ZigBeeShardedExecutor is shutdown. Not executing task for key {}", key);
+        }
+    }
+
+    /**
+     * Shuts down the executor. This will wait for the specified period for queued tasks to complete before terminating
+     * all threads.
+     *
+     * @param wait the number of milliseconds to wait for all threads to close before terminating
+     */
+    public void shutdown(long wait) {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        try {
+            for (ExecutorService shard : shards) {
+                shard.awaitTermination(wait, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ExecutorService shard : shards) {
+            shard.shutdownNow();
+        }
+    }
+}
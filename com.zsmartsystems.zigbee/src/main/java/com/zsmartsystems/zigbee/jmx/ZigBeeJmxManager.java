@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+
+/**
+ * Registers the JMX MBeans for a {@link ZigBeeNetworkManager}, so that a running network can be inspected and tuned
+ * with standard JMX tools such as JConsole.
+ * <p>
+ * The MBeans are registered in the {@link #DOMAIN} domain with the object name
+ * <code>com.zsmartsystems.zigbee:type=&lt;type&gt;,name=&lt;name&gt;</code>, where the name identifies the network so
+ * that multiple networks may be registered in the same {@link MBeanServer}. The network manager, transaction manager
+ * and database manager MBeans are registered by {@link #register()}. Additional MBeans, such as those provided by the
+ * dongle drivers, may be registered with {@link #register(String, Object)}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeJmxManager {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeJmxManager.class);
+
+    /**
+     * The JMX domain used for all MBeans
+     */
+    public static final String DOMAIN = "com.zsmartsystems.zigbee";
+
+    private final MBeanServer server;
+    private final ZigBeeNetworkManager networkManager;
+    private final String name;
+
+    /**
+     * The {@link ObjectName}s of the registered MBeans
+     */
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    /**
+     * Creates the manager using the platform {@link MBeanServer}
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager} to manage
+     * @param name the name used to identify the network
+     */
+    public ZigBeeJmxManager(ZigBeeNetworkManager networkManager, String name) {
+        this(ManagementFactory.getPlatformMBeanServer(), networkManager, name);
+    }
+
+    /**
+     * Creates the manager
+     *
+     * @param server the {@link MBeanServer} to register the MBeans with
+     * @param networkManager the {@link ZigBeeNetworkManager} to manage
+     * @param name the name used to identify the network
+     */
+    public ZigBeeJmxManager(MBeanServer server, ZigBeeNetworkManager networkManager, String name) {
+        this.server = server;
+        this.networkManager = networkManager;
+        this.name = name;
+    }
+
+    /**
+     * Registers the network manager, transaction manager and database manager MBeans
+     *
+     * @return true if all MBeans were registered
+     */
+    public boolean register() {
+        boolean success = register("NetworkManager", new ZigBeeNetworkManagerMonitor(networkManager));
+        success &= register("TransactionManager",
+                new ZigBeeTransactionManagerMonitor(networkManager.getTransactionManager()));
+        success &= register("DatabaseManager",
+                new ZigBeeNetworkDatabaseManagerMonitor(networkManager.getDatabaseManager()));
+        return success;
+    }
+
+    /**
+     * Registers an additional MBean for the network
+     *
+     * @param type the type used in the {@link ObjectName} of the MBean
+     * @param mbean the MBean to register
+     * @return true if the MBean was registered
+     */
+    public synchronized boolean register(String type, Object mbean) {
+        try {
+            ObjectName objectName = getObjectName(type);
+            server.registerMBean(mbean, objectName);
+            registered.add(objectName);
+            logger.debug("JMX: Registered {}", objectName);
+            return true;
+        } catch (JMException e) {
+            logger.debug("JMX: Error registering {} MBean", type, e);
+            return false;
+        }
+    }
+
+    /**
+     * Unregisters all MBeans registered by this manager. This should be called when the network is shutdown.
+     */
+    public synchronized void unregister() {
+        for (ObjectName objectName : registered) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                logger.debug("JMX: Error unregistering {}", objectName, e);
+            }
+        }
+        registered.clear();
+    }
+
+    /**
+     * Gets the {@link ObjectName} of an MBean for this network
+     *
+     * @param type the type of the MBean
+     * @return the {@link ObjectName}
+     * @throws JMException if the name is not valid
+     */
+    public ObjectName getObjectName(String type) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+}
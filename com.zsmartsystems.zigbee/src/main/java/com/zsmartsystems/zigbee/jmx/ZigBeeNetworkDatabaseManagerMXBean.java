@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+/**
+ * JMX management interface for the {@link com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager}. Provides
+ * the pending and completed writes to the data store, and allows the deferred write times to be tuned while the
+ * network is running.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeNetworkDatabaseManagerMXBean {
+    /**
+     * Gets the number of nodes waiting for a deferred write to the data store
+     *
+     * @return the number of pending writes
+     */
+    int getPendingWriteCount();
+
+    /**
+     * Gets the number of nodes that have been written to the data store
+     *
+     * @return the number of writes
+     */
+    long getWriteCount();
+
+    /**
+     * Gets the average time taken by the data store to write a node
+     *
+     * @return the average write time in milliseconds
+     */
+    double getAverageWriteTime();
+
+    /**
+     * Gets the longest time taken by the data store to write a node
+     *
+     * @return the longest write time in milliseconds
+     */
+    double getMaxWriteTime();
+
+    /**
+     * Gets the time writes are deferred after a node is updated
+     *
+     * @return the deferred write time in milliseconds
+     */
+    int getDeferredWriteTime();
+
+    /**
+     * Sets the time writes are deferred after a node is updated
+     *
+     * @param deferredWriteTime the deferred write time in milliseconds
+     */
+    void setDeferredWriteTime(int deferredWriteTime);
+
+    /**
+     * Gets the maximum time writes are deferred if a node is continually updated
+     *
+     * @return the maximum deferred write time in milliseconds
+     */
+    int getMaxDeferredWriteTime();
+
+    /**
+     * Sets the maximum time writes are deferred if a node is continually updated
+     *
+     * @param maxDeferredWriteTime the maximum deferred write time in milliseconds
+     */
+    void setMaxDeferredWriteTime(int maxDeferredWriteTime);
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
+
+/**
+ * Implementation of the {@link ZigBeeNetworkDatabaseManagerMXBean}
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeNetworkDatabaseManagerMonitor implements ZigBeeNetworkDatabaseManagerMXBean {
+    private final ZigBeeNetworkDatabaseManager databaseManager;
+
+    /**
+     * Creates the monitor
+     *
+     * @param databaseManager the {@link ZigBeeNetworkDatabaseManager} to monitor
+     */
+    public ZigBeeNetworkDatabaseManagerMonitor(ZigBeeNetworkDatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+    }
+
+    @Override
+    public int getPendingWriteCount() {
+        return databaseManager.getPendingWriteCount();
+    }
+
+    @Override
+    public long getWriteCount() {
+        return databaseManager.getWriteCount();
+    }
+
+    @Override
+    public double getAverageWriteTime() {
+        return databaseManager.getAverageWriteTime();
+    }
+
+    @Override
+    public double getMaxWriteTime() {
+        return databaseManager.getMaxWriteTime();
+    }
+
+    @Override
+    public int getDeferredWriteTime() {
+        return databaseManager.getDeferredWriteTime();
+    }
+
+    @Override
+    public void setDeferredWriteTime(int deferredWriteTime) {
+        if (deferredWriteTime < 0) {
+            throw new IllegalArgumentException("Deferred write time must not be negative");
+        }
+        databaseManager.setDeferredWriteTime(deferredWriteTime);
+    }
+
+    @Override
+    public int getMaxDeferredWriteTime() {
+        return databaseManager.getMaxDeferredWriteTime();
+    }
+
+    @Override
+    public void setMaxDeferredWriteTime(int maxDeferredWriteTime) {
+        if (maxDeferredWriteTime < 0) {
+            throw new IllegalArgumentException("Maximum deferred write time must not be negative");
+        }
+        databaseManager.setMaxDeferredWriteTime(maxDeferredWriteTime);
+    }
+}
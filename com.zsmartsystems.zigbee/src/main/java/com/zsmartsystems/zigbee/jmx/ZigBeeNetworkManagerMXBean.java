@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import java.util.Map;
+
+/**
+ * JMX management interface for the {@link com.zsmartsystems.zigbee.ZigBeeNetworkManager}. Provides the state of the
+ * network and the nodes and groups it contains.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeNetworkManagerMXBean {
+    /**
+     * Gets the state of the network
+     *
+     * @return the name of the {@link com.zsmartsystems.zigbee.ZigBeeNetworkState}
+     */
+    String getNetworkState();
+
+    /**
+     * Gets the number of nodes in the network
+     *
+     * @return the number of nodes
+     */
+    int getNodeCount();
+
+    /**
+     * Gets the number of nodes that are online
+     *
+     * @return the number of nodes in the {@link com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState#ONLINE} state
+     */
+    int getOnlineNodeCount();
+
+    /**
+     * Gets the number of nodes that are offline
+     *
+     * @return the number of nodes in the {@link com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState#OFFLINE} state
+     */
+    int getOfflineNodeCount();
+
+    /**
+     * Gets the number of nodes whose state is not known
+     *
+     * @return the number of nodes in the {@link com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState#UNKNOWN} state
+     */
+    int getUnknownNodeCount();
+
+    /**
+     * Gets the number of groups in the network
+     *
+     * @return the number of groups
+     */
+    int getGroupCount();
+
+    /**
+     * Gets the groups in the network
+     *
+     * @return a map of the group ID to the group label
+     */
+    Map<Integer, String> getGroups();
+
+    /**
+     * Gets the IEEE address of the coordinator
+     *
+     * @return the IEEE address of the coordinator, or null if it is not known
+     */
+    String getLocalIeeeAddress();
+
+    /**
+     * Gets the channel the network is using
+     *
+     * @return the channel number
+     */
+    int getChannel();
+
+    /**
+     * Gets the PAN ID of the network
+     *
+     * @return the PAN ID
+     */
+    int getPanId();
+
+    /**
+     * Gets the extended PAN ID of the network
+     *
+     * @return the extended PAN ID, or null if it is not known
+     */
+    String getExtendedPanId();
+
+    /**
+     * Gets the version of the transport
+     *
+     * @return the transport version string
+     */
+    String getTransportVersion();
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeGroupAddress;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
+
+/**
+ * Implementation of the {@link ZigBeeNetworkManagerMXBean}
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeNetworkManagerMonitor implements ZigBeeNetworkManagerMXBean {
+    private final ZigBeeNetworkManager networkManager;
+
+    /**
+     * Creates the monitor
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager} to monitor
+     */
+    public ZigBeeNetworkManagerMonitor(ZigBeeNetworkManager networkManager) {
+        this.networkManager = networkManager;
+    }
+
+    @Override
+    public String getNetworkState() {
+        return networkManager.getNetworkState().toString();
+    }
+
+    @Override
+    public int getNodeCount() {
+        return networkManager.getNodes().size();
+    }
+
+    @Override
+    public int getOnlineNodeCount() {
+        return getNodeCount(ZigBeeNodeState.ONLINE);
+    }
+
+    @Override
+    public int getOfflineNodeCount() {
+        return getNodeCount(ZigBeeNodeState.OFFLINE);
+    }
+
+    @Override
+    public int getUnknownNodeCount() {
+        return getNodeCount(ZigBeeNodeState.UNKNOWN);
+    }
+
+    @Override
+    public int getGroupCount() {
+        return networkManager.getGroups().size();
+    }
+
+    @Override
+    public Map<Integer, String> getGroups() {
+        Map<Integer, String> groups = new TreeMap<>();
+        for (ZigBeeGroupAddress group : networkManager.getGroups()) {
+            groups.put(group.getGroupId(), group.getLabel() == null ? "" : group.getLabel());
+        }
+        return groups;
+    }
+
+    @Override
+    public String getLocalIeeeAddress() {
+        IeeeAddress address = networkManager.getLocalIeeeAddress();
+        return address == null ? null : address.toString();
+    }
+
+    @Override
+    public int getChannel() {
+        return networkManager.getZigBeeChannel().getChannel();
+    }
+
+    @Override
+    public int getPanId() {
+        return networkManager.getZigBeePanId();
+    }
+
+    @Override
+    public String getExtendedPanId() {
+        ExtendedPanId panId = networkManager.getZigBeeExtendedPanId();
+        return panId == null ? null : panId.toString();
+    }
+
+    @Override
+    public String getTransportVersion() {
+        return networkManager.getTransportVersionString();
+    }
+
+    private int getNodeCount(ZigBeeNodeState state) {
+        int count = 0;
+        for (ZigBeeNode node : networkManager.getNodes()) {
+            if (node.getNodeState() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
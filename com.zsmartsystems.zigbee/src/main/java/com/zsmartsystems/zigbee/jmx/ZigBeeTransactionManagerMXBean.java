@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionProfile;
+
+/**
+ * JMX management interface for the {@link com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager}. Provides the
+ * transaction counts, and allows the transaction limits and {@link ZigBeeTransactionProfile}s to be tuned while the
+ * network is running.
+ * <p>
+ * The profiles are updated in place, so changes apply to all queues using the profile from their next transaction.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeTransactionManagerMXBean {
+    /**
+     * Gets the number of transactions that have been sent and are waiting to complete
+     *
+     * @return the number of outstanding transactions
+     */
+    int getOutstandingTransactionCount();
+
+    /**
+     * Gets the number of transactions waiting to be sent in all queues
+     *
+     * @return the number of queued transactions
+     */
+    int getQueuedTransactionCount();
+
+    /**
+     * Gets the highest number of transactions that have been waiting to be sent at the same time
+     *
+     * @return the peak number of queued transactions
+     */
+    int getPeakQueuedTransactionCount();
+
+    /**
+     * Gets the number of transactions that were not sent because the queues were full
+     *
+     * @return the number of rejected transactions
+     */
+    long getRejectedTransactionCount();
+
+    /**
+     * Gets the maximum number of transactions that may be outstanding at once
+     *
+     * @return the maximum number of outstanding transactions
+     */
+    int getMaxOutstandingTransactions();
+
+    /**
+     * Sets the maximum number of transactions that may be outstanding at once
+     *
+     * @param maxOutstandingTransactions the maximum number of outstanding transactions
+     */
+    void setMaxOutstandingTransactions(int maxOutstandingTransactions);
+
+    /**
+     * Gets the maximum number of transactions to sleepy nodes that may be outstanding at once
+     *
+     * @return the maximum number of outstanding sleepy transactions
+     */
+    int getMaxSleepyTransactions();
+
+    /**
+     * Sets the maximum number of transactions to sleepy nodes that may be outstanding at once
+     *
+     * @param maxSleepyTransactions the maximum number of outstanding sleepy transactions
+     */
+    void setMaxSleepyTransactions(int maxSleepyTransactions);
+
+    /**
+     * Gets the maximum number of transactions that may be queued in all queues
+     *
+     * @return the maximum number of queued transactions, or 0 if there is no limit
+     */
+    int getMaxQueuedTransactions();
+
+    /**
+     * Gets the maximum number of transactions that may be queued for a single node
+     *
+     * @return the maximum number of queued transactions for each node, or 0 if there is no limit
+     */
+    int getMaxNodeQueuedTransactions();
+
+    /**
+     * Gets the policy used when the queue limits are reached
+     *
+     * @return the name of the {@link com.zsmartsystems.zigbee.transaction.ZigBeeTransactionOverflowPolicy}
+     */
+    String getOverflowPolicy();
+
+    /**
+     * Gets the {@link ZigBeeTransactionProfile} used by the queues for nodes that are always listening
+     *
+     * @return the default {@link ZigBeeTransactionProfile}
+     */
+    ZigBeeTransactionProfile getDefaultProfile();
+
+    /**
+     * Gets the {@link ZigBeeTransactionProfile} used by the queues for sleepy nodes
+     *
+     * @return the sleepy {@link ZigBeeTransactionProfile}
+     */
+    ZigBeeTransactionProfile getSleepyProfile();
+
+    /**
+     * Gets the {@link ZigBeeTransactionProfile} used by the broadcast queue
+     *
+     * @return the broadcast {@link ZigBeeTransactionProfile}
+     */
+    ZigBeeTransactionProfile getBroadcastProfile();
+
+    /**
+     * Gets the {@link ZigBeeTransactionProfile} used by the multicast queue
+     *
+     * @return the multicast {@link ZigBeeTransactionProfile}
+     */
+    ZigBeeTransactionProfile getMulticastProfile();
+
+    /**
+     * Updates the {@link ZigBeeTransactionProfile} used by the queues for nodes that are always listening
+     *
+     * @param maxRetries the maximum number of retries
+     * @param maxOutstandingTransactions the maximum number of outstanding transactions for each queue
+     * @param interTransactionDelay the minimum delay between transactions in milliseconds
+     */
+    void updateDefaultProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay);
+
+    /**
+     * Updates the {@link ZigBeeTransactionProfile} used by the queues for sleepy nodes
+     *
+     * @param maxRetries the maximum number of retries
+     * @param maxOutstandingTransactions the maximum number of outstanding transactions for each queue
+     * @param interTransactionDelay the minimum delay between transactions in milliseconds
+     */
+    void updateSleepyProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay);
+
+    /**
+     * Updates the {@link ZigBeeTransactionProfile} used by the broadcast queue
+     *
+     * @param maxRetries the maximum number of retries
+     * @param maxOutstandingTransactions the maximum number of outstanding transactions
+     * @param interTransactionDelay the minimum delay between transactions in milliseconds
+     */
+    void updateBroadcastProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay);
+
+    /**
+     * Updates the {@link ZigBeeTransactionProfile} used by the multicast queue
+     *
+     * @param maxRetries the maximum number of retries
+     * @param maxOutstandingTransactions the maximum number of outstanding transactions
+     * @param interTransactionDelay the minimum delay between transactions in milliseconds
+     */
+    void updateMulticastProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay);
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionProfile;
+
+/**
+ * Implementation of the {@link ZigBeeTransactionManagerMXBean}
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionManagerMonitor implements ZigBeeTransactionManagerMXBean {
+    private final ZigBeeTransactionManager transactionManager;
+
+    /**
+     * Creates the monitor
+     *
+     * @param transactionManager the {@link ZigBeeTransactionManager} to monitor
+     */
+    public ZigBeeTransactionManagerMonitor(ZigBeeTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public int getOutstandingTransactionCount() {
+        return transactionManager.getOutstandingTransactionCount();
+    }
+
+    @Override
+    public int getQueuedTransactionCount() {
+        return transactionManager.getQueuedTransactionCount();
+    }
+
+    @Override
+    public int getPeakQueuedTransactionCount() {
+        return transactionManager.getPeakQueuedTransactionCount();
+    }
+
+    @Override
+    public long getRejectedTransactionCount() {
+        return transactionManager.getRejectedTransactionCount();
+    }
+
+    @Override
+    public int getMaxOutstandingTransactions() {
+        return transactionManager.getMaxOutstandingTransactions();
+    }
+
+    @Override
+    public void setMaxOutstandingTransactions(int maxOutstandingTransactions) {
+        if (maxOutstandingTransactions < 0) {
+            throw new IllegalArgumentException("Maximum outstanding transactions must not be negative");
+        }
+        transactionManager.setMaxOutstandingTransactions(maxOutstandingTransactions);
+    }
+
+    @Override
+    public int getMaxSleepyTransactions() {
+        return transactionManager.getMaxSleepyTransactions();
+    }
+
+    @Override
+    public void setMaxSleepyTransactions(int maxSleepyTransactions) {
+        if (maxSleepyTransactions < 0) {
+            throw new IllegalArgumentException("Maximum sleepy transactions must not be negative");
+        }
+        transactionManager.setMaxSleepyTransactions(maxSleepyTransactions);
+    }
+
+    @Override
+    public int getMaxQueuedTransactions() {
+        return transactionManager.getMaxQueuedTransactions();
+    }
+
+    @Override
+    public int getMaxNodeQueuedTransactions() {
+        return transactionManager.getMaxNodeQueuedTransactions();
+    }
+
+    @Override
+    public String getOverflowPolicy() {
+        return transactionManager.getOverflowPolicy().toString();
+    }
+
+    @Override
+    public ZigBeeTransactionProfile getDefaultProfile() {
+        return transactionManager.getDefaultProfile();
+    }
+
+    @Override
+    public ZigBeeTransactionProfile getSleepyProfile() {
+        return transactionManager.getSleepyProfile();
+    }
+
+    @Override
+    public ZigBeeTransactionProfile getBroadcastProfile() {
+        return transactionManager.getBroadcastProfile();
+    }
+
+    @Override
+    public ZigBeeTransactionProfile getMulticastProfile() {
+        return transactionManager.getMulticastProfile();
+    }
+
+    @Override
+    public void updateDefaultProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay) {
+        updateProfile(transactionManager.getDefaultProfile(), maxRetries, maxOutstandingTransactions,
+                interTransactionDelay);
+    }
+
+    @Override
+    public void updateSleepyProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay) {
+        updateProfile(transactionManager.getSleepyProfile(), maxRetries, maxOutstandingTransactions,
+                interTransactionDelay);
+    }
+
+    @Override
+    public void updateBroadcastProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay) {
+        updateProfile(transactionManager.getBroadcastProfile(), maxRetries, maxOutstandingTransactions,
+                interTransactionDelay);
+    }
+
+    @Override
+    public void updateMulticastProfile(int maxRetries, int maxOutstandingTransactions, int interTransactionDelay) {
+        updateProfile(transactionManager.getMulticastProfile(), maxRetries, maxOutstandingTransactions,
+                interTransactionDelay);
+    }
+
+    private void updateProfile(ZigBeeTransactionProfile profile, int maxRetries, int maxOutstandingTransactions,
+            int interTransactionDelay) {
+        if (maxRetries < 0 || maxOutstandingTransactions < 1 || interTransactionDelay < 0) {
+            throw new IllegalArgumentException("Invalid transaction profile: maxRetries=" + maxRetries
+                    + ", maxOutstandingTransactions=" + maxOutstandingTransactions + ", interTransactionDelay="
+                    + interTransactionDelay);
+        }
+        profile.setMaxRetries(maxRetries);
+        profile.setMaxOutstandingTransactions(maxOutstandingTransactions);
+        profile.setInterTransactionDelay(interTransactionDelay);
+    }
+}
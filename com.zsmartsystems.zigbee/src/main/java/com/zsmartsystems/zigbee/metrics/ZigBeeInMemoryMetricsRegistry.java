@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.metrics;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lightweight {@link ZigBeeMetricsRegistry} that keeps the metrics in memory so that they can be read by the
+ * application, for example to find the slowest nodes in the network.
+ * <p>
+ * Tagged counters and histograms are also accumulated into a network wide value, which is read by passing a null tag.
+ * The network wide value of a gauge is the sum of the values of all tags, so that for example the total number of
+ * queued transactions is the sum of the depth of all queues.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeInMemoryMetricsRegistry implements ZigBeeMetricsRegistry {
+    /**
+     * The key used to hold the network wide value, as the maps do not allow null keys
+     */
+    private static final Object GLOBAL = new Object();
+
+    private final ConcurrentMap<String, ConcurrentMap<Object, AtomicLong>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Object, AtomicLong>> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Object, ZigBeeMetricsHistogram>> histograms =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String name, Object tag, long count) {
+        ConcurrentMap<Object, AtomicLong> values = getMetric(counters, name);
+        getValue(values, GLOBAL).addAndGet(count);
+        if (tag != null) {
+            getValue(values, tag).addAndGet(count);
+        }
+    }
+
+    @Override
+    public void record(String name, Object tag, long value) {
+        ConcurrentMap<Object, ZigBeeMetricsHistogram> values = getMetric(histograms, name);
+        getHistogram(values, GLOBAL).record(value);
+        if (tag != null) {
+            getHistogram(values, tag).record(value);
+        }
+    }
+
+    @Override
+    public void setGauge(String name, Object tag, long value) {
+        getValue(getMetric(gauges, name), tag == null ? GLOBAL : tag).set(value);
+    }
+
+    /**
+     * Gets the value of a counter
+     *
+     * @param name the name of the metric
+     * @param tag the tag, or null to get the network wide value
+     * @return the value of the counter, or 0 if it has not been incremented
+     */
+    public long getCounter(String name, Object tag) {
+        Map<Object, AtomicLong> values = counters.get(name);
+        if (values == null) {
+            return 0;
+        }
+        AtomicLong value = values.get(tag == null ? GLOBAL : tag);
+        return value == null ? 0 : value.get();
+    }
+
+    /**
+     * Gets the value of a gauge
+     *
+     * @param name the name of the metric
+     * @param tag the tag, or null to get the sum of all values of the gauge
+     * @return the value of the gauge, or 0 if it has not been set
+     */
+    public long getGauge(String name, Object tag) {
+        Map<Object, AtomicLong> values = gauges.get(name);
+        if (values == null) {
+            return 0;
+        }
+        if (tag != null) {
+            AtomicLong value = values.get(tag);
+            return value == null ? 0 : value.get();
+        }
+        long total = 0;
+        for (AtomicLong value : values.values()) {
+            total += value.get();
+        }
+        return total;
+    }
+
+    /**
+     * Gets a histogram
+     *
+     * @param name the name of the metric
+     * @param tag the tag, or null to get the network wide histogram
+     * @return the {@link ZigBeeMetricsHistogram}, or null if no values have been recorded
+     */
+    public ZigBeeMetricsHistogram getHistogram(String name, Object tag) {
+        Map<Object, ZigBeeMetricsHistogram> values = histograms.get(name);
+        if (values == null) {
+            return null;
+        }
+        return values.get(tag == null ? GLOBAL : tag);
+    }
+
+    /**
+     * Gets the names of all metrics that have been recorded
+     *
+     * @return the {@link Set} of metric names
+     */
+    public Set<String> getNames() {
+        Set<String> names = new TreeSet<>();
+        names.addAll(counters.keySet());
+        names.addAll(gauges.keySet());
+        names.addAll(histograms.keySet());
+        return names;
+    }
+
+    /**
+     * Gets the tags that have been recorded for a metric
+     *
+     * @param name the name of the metric
+     * @return the {@link Set} of tags. The network wide value is not included.
+     */
+    public Set<Object> getTags(String name) {
+        Set<Object> tags = new HashSet<>();
+        addTags(tags, counters.get(name));
+        addTags(tags, gauges.get(name));
+        addTags(tags, histograms.get(name));
+        tags.remove(GLOBAL);
+        return Collections.unmodifiableSet(tags);
+    }
+
+    /**
+     * Removes all metrics
+     */
+    public void reset() {
+        counters.clear();
+        gauges.clear();
+        histograms.clear();
+    }
+
+    private void addTags(Set<Object> tags, Map<Object, ?> values) {
+        if (values != null) {
+            tags.addAll(values.keySet());
+        }
+    }
+
+    private <T> ConcurrentMap<Object, T> getMetric(ConcurrentMap<String, ConcurrentMap<Object, T>> metrics,
+            String name) {
+        ConcurrentMap<Object, T> values = metrics.get(name);
+        if (values == null) {
+            ConcurrentMap<Object, T> newValues = new ConcurrentHashMap<>();
+            values = metrics.putIfAbsent(name, newValues);
+            if (values == null) {
+                values = newValues;
+            }
+        }
+        return values;
+    }
+
+    private AtomicLong getValue(ConcurrentMap<Object, AtomicLong> values, Object tag) {
+        AtomicLong value = values.get(tag);
+        if (value == null) {
+            AtomicLong newValue = new AtomicLong();
+            value = values.putIfAbsent(tag, newValue);
+            if (value == null) {
+                value = newValue;
+            }
+        }
+        return value;
+    }
+
+    private ZigBeeMetricsHistogram getHistogram(ConcurrentMap<Object, ZigBeeMetricsHistogram> values, Object tag) {
+        ZigBeeMetricsHistogram histogram = values.get(tag);
+        if (histogram == null) {
+            ZigBeeMetricsHistogram newHistogram = new ZigBeeMetricsHistogram();
+            histogram = values.putIfAbsent(tag, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        return histogram;
+    }
+}
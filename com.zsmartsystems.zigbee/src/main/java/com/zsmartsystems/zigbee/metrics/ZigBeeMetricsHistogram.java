@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative values with a fixed memory footprint, used by the {@link ZigBeeInMemoryMetricsRegistry}.
+ * <p>
+ * Values are counted in buckets where each power of two is split into 8 buckets, so percentiles are reported with an
+ * error of no more than 12.5%. Values below 8 are counted exactly. The count, sum and maximum are exact. Values may be
+ * recorded from multiple threads without locking.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeMetricsHistogram {
+    /**
+     * The number of buckets each power of two is split into
+     */
+    private static final int SUB_BUCKETS = 8;
+
+    /**
+     * The number of bits used to select the sub bucket
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The largest value that is counted in its own bucket. Larger values are counted in the last bucket.
+     */
+    private static final long MAX_TRACKABLE = 0xFFFFFFFFL;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(getBucketIndex(MAX_TRACKABLE) + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long sample = Math.max(0, value);
+        buckets.incrementAndGet(getBucketIndex(Math.min(sample, MAX_TRACKABLE)));
+        count.incrementAndGet();
+        sum.addAndGet(sample);
+
+        long current = max.get();
+        while (sample > current && !max.compareAndSet(current, sample)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Gets the number of values recorded
+     *
+     * @return the number of values recorded
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the sum of the values recorded
+     *
+     * @return the sum of the values recorded
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * Gets the largest value recorded
+     *
+     * @return the largest value recorded, or 0 if no values were recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the values recorded
+     *
+     * @return the mean of the values recorded, or 0 if no values were recorded
+     */
+    public double getMean() {
+        long samples = count.get();
+        return samples == 0 ? 0 : (double) sum.get() / samples;
+    }
+
+    /**
+     * Gets an estimate of a percentile. The estimate is the upper bound of the bucket holding the percentile, limited
+     * to the largest value recorded.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the estimated value at the percentile, or 0 if no values were recorded
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        for (int index = 0; index < buckets.length(); index++) {
+            total += buckets.get(index);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int index = 0; index < buckets.length(); index++) {
+            seen += buckets.get(index);
+            if (seen >= target) {
+                if (index == buckets.length() - 1) {
+                    // The last bucket also holds all values too large to be counted in their own bucket
+                    return max.get();
+                }
+                return Math.min(getBucketLowerBound(index + 1) - 1, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (msb - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long getBucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int msb = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (msb - SUB_BUCKET_BITS);
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeMetricsHistogram [count=" + getCount() + ", mean=" + String.format("%.1f", getMean()) + ", p50="
+                + getPercentile(50) + ", p90=" + getPercentile(90) + ", p99=" + getPercentile(99) + ", max="
+                + getMax() + "]";
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.metrics;
+
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+
+/**
+ * Interface to be implemented by users wanting to collect runtime statistics from the framework. The registry is set
+ * with {@link ZigBeeNetworkManager#setMetricsRegistry(ZigBeeMetricsRegistry)}, and defaults to {@link #NONE} which
+ * discards all metrics. {@link ZigBeeInMemoryMetricsRegistry} provides a lightweight implementation that keeps the
+ * metrics in memory, or the interface may be implemented to forward the metrics to an external monitoring system.
+ * <p>
+ * Each metric is identified by a name, and an optional tag which identifies the node, queue or listener the value
+ * relates to. The tag is null for metrics that relate to the whole network. Three types of metric are used -:
+ * <ul>
+ * <li>Counters, which are incremented with {@link #increment(String, Object, long)}
+ * <li>Histograms, which record the distribution of values such as latencies with {@link #record(String, Object, long)}
+ * <li>Gauges, which record the current value of a level such as a queue depth with
+ * {@link #setGauge(String, Object, long)}
+ * </ul>
+ * The methods are called from the threads processing the frames, so implementations must be thread safe and should
+ * return quickly.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZigBeeMetricsRegistry {
+    /**
+     * Histogram of the time in milliseconds from a transaction being sent until it completes. Tagged with the queue
+     * name, which is the {@link com.zsmartsystems.zigbee.IeeeAddress} of the node for unicast transactions.
+     */
+    String TRANSACTION_LATENCY = "transaction.latency";
+
+    /**
+     * Counter of transactions that completed successfully. Tagged with the queue name.
+     */
+    String TRANSACTION_COMPLETE = "transaction.complete";
+
+    /**
+     * Counter of transaction attempts that failed. Tagged with the queue name.
+     */
+    String TRANSACTION_FAILED = "transaction.failed";
+
+    /**
+     * Counter of transaction attempts that timed out waiting for the transport or a response. Tagged with the queue
+     * name.
+     */
+    String TRANSACTION_TIMEOUT = "transaction.timeout";
+
+    /**
+     * Counter of transactions that were resent after a failure. Tagged with the queue name.
+     */
+    String TRANSACTION_RETRY = "transaction.retry";
+
+    /**
+     * Counter of transactions that were rejected or dropped because the queues were full. Tagged with the queue name.
+     */
+    String TRANSACTION_REJECTED = "transaction.rejected";
+
+    /**
+     * Gauge of the number of transactions waiting in a queue. Tagged with the queue name.
+     */
+    String TRANSACTION_QUEUE_DEPTH = "transaction.queue.depth";
+
+    /**
+     * Gauge of the number of transactions sent to the transport that have not completed. Not tagged.
+     */
+    String TRANSACTION_OUTSTANDING = "transaction.outstanding";
+
+    /**
+     * Gauge of the number of commands waiting to be delivered to a command listener. Tagged with the listener class
+     * name followed by the node {@link com.zsmartsystems.zigbee.IeeeAddress} for nodes, or the listener identity hash
+     * code for other listeners, so that each listener has its own gauge.
+     */
+    String NOTIFICATION_PENDING = "notification.pending";
+
+    /**
+     * Counter of commands that were not delivered to a command listener because its queue was full. Tagged in the
+     * same way as {@link #NOTIFICATION_PENDING}.
+     */
+    String NOTIFICATION_DROPPED = "notification.dropped";
+
+    /**
+     * Counter of duplicate APS frames that were dropped. Tagged with the network address of the node.
+     */
+    String APS_DUPLICATE = "aps.duplicate";
+
+    /**
+     * Counter of frames sent to the transport. Not tagged.
+     */
+    String FRAME_TX = "frame.tx";
+
+    /**
+     * Counter of frames received from the transport. Not tagged.
+     */
+    String FRAME_RX = "frame.rx";
+
+    /**
+     * Counter of progress states received from the transport. Tagged with the
+     * {@link com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState}.
+     */
+    String FRAME_PROGRESS = "frame.progress";
+
+    /**
+     * The {@link ZigBeeMetricsRegistry} that discards all metrics
+     */
+    ZigBeeMetricsRegistry NONE = new ZigBeeMetricsRegistry() {
+        @Override
+        public void increment(String name, Object tag, long count) {
+            // Discard
+        }
+
+        @Override
+        public void record(String name, Object tag, long value) {
+            // Discard
+        }
+
+        @Override
+        public void setGauge(String name, Object tag, long value) {
+            // Discard
+        }
+    };
+
+    /**
+     * Increments a counter
+     *
+     * @param name the name of the metric
+     * @param tag the tag identifying the node, queue or listener, or null if the metric is not tagged
+     * @param count the amount to add to the counter
+     */
+    void increment(String name, Object tag, long count);
+
+    /**
+     * Records a value in a histogram
+     *
+     * @param name the name of the metric
+     * @param tag the tag identifying the node, queue or listener, or null if the metric is not tagged
+     * @param value the value to record
+     */
+    void record(String name, Object tag, long value);
+
+    /**
+     * Sets the current value of a gauge
+     *
+     * @param name the name of the metric
+     * @param tag the tag identifying the node, queue or listener, or null if the metric is not tagged
+     * @param value the current value
+     */
+    void setGauge(String name, Object tag, long value);
+}
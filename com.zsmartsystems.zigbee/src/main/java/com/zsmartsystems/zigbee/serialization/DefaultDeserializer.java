@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.serialization;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,27 +35,86 @@ import com.zsmartsystems.zigbee.zdo.field.SimpleDescriptor;
  * @author Chris Jackson
  */
 public class DefaultDeserializer implements ZigBeeDeserializer {
-    private int index = 0;
-    private int[] payload;
+    private final byte[] payload;
+    private final int[] intPayload;
+    private final int offset;
+    private final int end;
+    private int index;
 
+    /**
+     * Creates a deserializer reading from an integer array, with each element holding one byte. The array is read in
+     * place without copying.
+     *
+     * @param payload the payload to deserialize
+     */
     public DefaultDeserializer(int[] payload) {
-        this.payload = payload;
+        this.payload = null;
+        this.intPayload = payload;
+        this.offset = 0;
+        this.end = payload.length;
         this.index = 0;
     }
 
+    /**
+     * Creates a deserializer reading the remaining bytes in a {@link ByteBuffer}. If the buffer is backed by an
+     * accessible array, the array is read directly without copying. The position of the buffer is not changed.
+     *
+     * @param payload the payload to deserialize
+     */
+    public DefaultDeserializer(ByteBuffer payload) {
+        if (payload.hasArray()) {
+            this.payload = payload.array();
+            this.offset = payload.arrayOffset() + payload.position();
+        } else {
+            this.payload = new byte[payload.remaining()];
+            payload.duplicate().get(this.payload);
+            this.offset = 0;
+        }
+        this.intPayload = null;
+        this.end = offset + payload.remaining();
+        this.index = offset;
+    }
+
+    /**
+     * Reads a byte from the payload array that this deserializer was created with
+     *
+     * @param position the array index to read
+     * @return the byte at the index
+     */
+    private byte getByte(int position) {
+        if (intPayload != null) {
+            return (byte) intPayload[position];
+        }
+        return payload[position];
+    }
+
+    /**
+     * Creates a {@link ByteArray} from part of the payload array that this deserializer was created with
+     *
+     * @param start the start index (inclusive)
+     * @param finish the end index (exclusive)
+     * @return the {@link ByteArray}
+     */
+    private ByteArray readByteArray(int start, int finish) {
+        if (intPayload != null) {
+            return new ByteArray(intPayload, start, finish);
+        }
+        return new ByteArray(payload, start, finish);
+    }
+
     @Override
     public boolean isEndOfStream() {
-        return index >= payload.length;
+        return index >= end;
     }
 
     @Override
     public int getPosition() {
-        return index;
+        return index - offset;
     }
 
     @Override
     public int getSize() {
-        return payload.length;
+        return end - offset;
     }
 
     @Override
@@ -67,27 +127,27 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
      * {@inheritDoc}
      */
     public Object readZigBeeType(ZclDataType type) {
-        if (index == payload.length) {
+        if (index == end) {
             return null;
         }
 
         Object[] value = new Object[1];
         switch (type) {
             case BOOLEAN:
-                value[0] = payload[index++] == 0 ? false : true;
+                value[0] = getByte(index++) == 0 ? false : true;
                 break;
             case RAW_OCTET:
-                int rawSize = payload.length - index;
-                value[0] = new ByteArray(payload, index, index + rawSize);
+                int rawSize = end - index;
+                value[0] = readByteArray(index, index + rawSize);
                 index += rawSize;
                 break;
             case OCTET_STRING:
-                int octetSize = payload[index++];
-                value[0] = new ByteArray(payload, index, index + octetSize);
+                int octetSize = getByte(index++) & 0xFF;
+                value[0] = readByteArray(index, index + octetSize);
                 index += octetSize;
                 break;
             case CHARACTER_STRING:
-                int stringSize = payload[index++];
+                int stringSize = getByte(index++) & 0xFF;
                 if (stringSize == 255) {
                     value[0] = null;
                     break;
@@ -95,8 +155,8 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 byte[] bytes = new byte[stringSize];
                 int length = stringSize;
                 for (int cnt = 0; cnt < stringSize; cnt++) {
-                    bytes[cnt] = (byte) payload[index + cnt];
-                    if (payload[index + cnt] == 0) {
+                    bytes[cnt] = getByte(index + cnt);
+                    if (getByte(index + cnt) == 0) {
                         length = cnt;
                         break;
                     }
@@ -110,24 +170,28 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 index += stringSize;
                 break;
             case LONG_OCTET_STRING:
-                int longOctetSize = (short) (payload[index++] + (payload[index++] << 8));
-                value[0] = new ByteArray(payload, index, index + longOctetSize);
+                int longOctetSize = (short) ((getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8));
+                value[0] = readByteArray(index, index + longOctetSize);
                 index += longOctetSize;
                 break;
             case SECURITY_KEY:
-                value[0] = new ZigBeeKey(Arrays.copyOfRange(payload, index, index + 16));
+                int[] key = new int[16];
+                for (int keyCnt = 0; keyCnt < 16; keyCnt++) {
+                    key[keyCnt] = getByte(index + keyCnt) & 0xFF;
+                }
+                value[0] = new ZigBeeKey(key);
                 index += 16;
                 break;
             case ENDPOINT:
             case BITMAP_8_BIT:
             case DATA_8_BIT:
             case ENUMERATION_8_BIT:
-                value[0] = Integer.valueOf((byte) payload[index++] & 0xFF);
+                value[0] = Integer.valueOf(getByte(index++) & 0xFF);
                 break;
             case EXTENDED_PANID:
                 int[] panId = new int[8];
                 for (int iCnt = 7; iCnt >= 0; iCnt--) {
-                    panId[iCnt] = payload[index + iCnt];
+                    panId[iCnt] = getByte(index + iCnt) & 0xFF;
                 }
                 index += 8;
                 value[0] = new ExtendedPanId(panId);
@@ -135,7 +199,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case IEEE_ADDRESS:
                 int[] address = new int[8];
                 for (int iCnt = 7; iCnt >= 0; iCnt--) {
-                    address[iCnt] = payload[index + iCnt];
+                    address[iCnt] = getByte(index + iCnt) & 0xFF;
                 }
                 index += 8;
                 value[0] = new IeeeAddress(address);
@@ -159,42 +223,43 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case N_X_READ_ATTRIBUTE_STATUS_RECORD:
                 break;
             case N_X_UNSIGNED_16_BIT_INTEGER:
-                int cntN16 = Integer.valueOf((byte) payload[index++] & 0xFF);
+                int cntN16 = Integer.valueOf(getByte(index++) & 0xFF);
                 List<Integer> arrayN16 = new ArrayList<Integer>(cntN16);
                 for (int arrayIndex = 0; arrayIndex < cntN16; arrayIndex++) {
-                    arrayN16.add(Integer.valueOf(payload[index++] + ((payload[index++] << 8) & 0xffff)));
+                    arrayN16.add(
+                            Integer.valueOf((getByte(index++) & 0xFF) + (((getByte(index++) & 0xFF) << 8) & 0xffff)));
                 }
                 value[0] = arrayN16;
                 break;
             case N_X_UNSIGNED_8_BIT_INTEGER:
-                int cntN8 = Integer.valueOf((byte) payload[index++] & 0xFF);
+                int cntN8 = Integer.valueOf(getByte(index++) & 0xFF);
                 List<Integer> arrayN8 = new ArrayList<Integer>(cntN8);
                 for (int arrayIndex = 0; arrayIndex < cntN8; arrayIndex++) {
-                    arrayN8.add(Integer.valueOf(payload[index++]));
+                    arrayN8.add(Integer.valueOf(getByte(index++) & 0xFF));
                 }
                 value[0] = arrayN8;
                 break;
             case X_UNSIGNED_8_BIT_INTEGER:
-                int cntX8 = payload.length - index;
+                int cntX8 = end - index;
                 List<Integer> arrayX8 = new ArrayList<Integer>(cntX8);
                 for (int arrayIndex = 0; arrayIndex < cntX8; arrayIndex++) {
-                    arrayX8.add(Integer.valueOf(payload[index++]));
+                    arrayX8.add(Integer.valueOf(getByte(index++) & 0xFF));
                 }
                 value[0] = arrayX8;
                 break;
             case N_X_ATTRIBUTE_IDENTIFIER:
-                int cntX16 = (payload.length - index) / 2;
+                int cntX16 = (end - index) / 2;
                 List<Integer> arrayX16 = new ArrayList<Integer>(cntX16);
                 for (int arrayIndex = 0; arrayIndex < cntX16; arrayIndex++) {
-                    arrayX16.add(Integer.valueOf(payload[index++]));
+                    arrayX16.add(Integer.valueOf((getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8)));
                 }
                 value[0] = arrayX16;
                 break;
             case UNSIGNED_8_BIT_INTEGER_ARRAY:
-                int cnt8Array = payload.length - index;
+                int cnt8Array = end - index;
                 int[] intarray8 = new int[cnt8Array];
                 for (int arrayIndex = 0; arrayIndex < cnt8Array; arrayIndex++) {
-                    intarray8[arrayIndex] = payload[index++];
+                    intarray8[arrayIndex] = getByte(index++) & 0xFF;
                 }
                 value[0] = intarray8;
                 break;
@@ -208,7 +273,7 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case ENUMERATION_16_BIT:
             case SIGNED_16_BIT_INTEGER:
             case UNSIGNED_16_BIT_INTEGER:
-                short shortVal = (short) (payload[index++] + (payload[index++] << 8));
+                short shortVal = (short) ((getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8));
                 if (type == ZclDataType.SIGNED_16_BIT_INTEGER) {
                     value[0] = Integer.valueOf(shortVal);
                 } else {
@@ -218,29 +283,31 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
             case BITMAP_24_BIT:
             case SIGNED_24_BIT_INTEGER:
             case UNSIGNED_24_BIT_INTEGER:
-                value[0] = payload[index++] + (payload[index++] << 8) + (payload[index++] << 16);
+                value[0] = (getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8)
+                        + ((getByte(index++) & 0xFF) << 16);
                 break;
             case BITMAP_32_BIT:
             case ENUMERATION_32_BIT:
             case SIGNED_32_BIT_INTEGER:
             case UNSIGNED_32_BIT_INTEGER:
-                value[0] = payload[index++] + (payload[index++] << 8) + (payload[index++] << 16)
-                        + (payload[index++] << 24);
+                value[0] = (getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8)
+                        + ((getByte(index++) & 0xFF) << 16) + ((getByte(index++) & 0xFF) << 24);
                 break;
             case UNSIGNED_40_BIT_INTEGER:
-                value[0] = (payload[index++]) + ((long) (payload[index++]) << 8) + ((long) (payload[index++]) << 16)
-                        + ((long) (payload[index++]) << 24) + ((long) (payload[index++]) << 32);
+                value[0] = (getByte(index++) & 0xFF) + ((long) (getByte(index++) & 0xFF) << 8)
+                        + ((long) (getByte(index++) & 0xFF) << 16) + ((long) (getByte(index++) & 0xFF) << 24)
+                        + ((long) (getByte(index++) & 0xFF) << 32);
                 break;
             case UNSIGNED_48_BIT_INTEGER:
-                value[0] = (payload[index++]) + ((long) (payload[index++]) << 8) + ((long) (payload[index++]) << 16)
-                        + ((long) (payload[index++]) << 24) + ((long) (payload[index++]) << 32)
-                        + ((long) (payload[index++]) << 40);
+                value[0] = (getByte(index++) & 0xFF) + ((long) (getByte(index++) & 0xFF) << 8)
+                        + ((long) (getByte(index++) & 0xFF) << 16) + ((long) (getByte(index++) & 0xFF) << 24)
+                        + ((long) (getByte(index++) & 0xFF) << 32) + ((long) (getByte(index++) & 0xFF) << 40);
                 break;
             case SIGNED_8_BIT_INTEGER:
-                value[0] = Integer.valueOf((byte) payload[index++]);
+                value[0] = Integer.valueOf(getByte(index++));
                 break;
             case UNSIGNED_8_BIT_INTEGER:
-                value[0] = Integer.valueOf((byte) payload[index++] & 0xFF);
+                value[0] = Integer.valueOf(getByte(index++) & 0xFF);
                 break;
             case UTCTIME:
                 break;
@@ -275,36 +342,36 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 value[0] = simpleDescriptor;
                 break;
             case ZCL_STATUS:
-                value[0] = ZclStatus.getStatus(payload[index++]);
+                value[0] = ZclStatus.getStatus(getByte(index++) & 0xFF);
                 break;
             case ZDO_STATUS:
-                value[0] = ZdoStatus.getStatus(payload[index++]);
+                value[0] = ZdoStatus.getStatus(getByte(index++) & 0xFF);
                 break;
             case ZIGBEE_DATA_TYPE:
-                value[0] = ZclDataType.getType(payload[index++]);
+                value[0] = ZclDataType.getType(getByte(index++) & 0xFF);
                 break;
             case BYTE_ARRAY:
-                int cntB8 = Integer.valueOf((byte) payload[index++] & 0xFF);
+                int cntB8 = Integer.valueOf(getByte(index++) & 0xFF);
                 byte[] arrayB8 = new byte[cntB8];
                 for (int arrayIndex = 0; arrayIndex < cntB8; arrayIndex++) {
-                    arrayB8[arrayIndex] = (byte) (payload[index++] & 0xff);
+                    arrayB8[arrayIndex] = getByte(index++);
                 }
                 value[0] = new ByteArray(arrayB8);
                 break;
             case ORDERED_SEQUENCE_STRUCTURE:
-                int structSize = Integer.valueOf((payload[index++] + (payload[index++] << 8)));
+                int structSize = Integer.valueOf(((getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8)));
                 List<ZclDataPair> structure = new ArrayList<>();
                 for (int cnt = 0; cnt < structSize; cnt++) {
-                    ZclDataType structType = ZclDataType.getType(payload[index++]);
+                    ZclDataType structType = ZclDataType.getType(getByte(index++) & 0xFF);
                     Object structValue = readZigBeeType(structType);
                     structure.add(new ZclDataPair(structType, structValue));
                 }
                 value[0] = structure;
                 break;
             case ORDERED_SEQUENCE_ARRAY:
-                ZclDataType arrayType = ZclDataType.getType(payload[index++]);
+                ZclDataType arrayType = ZclDataType.getType(getByte(index++) & 0xFF);
                 ZclArrayList array = new ZclArrayList(arrayType);
-                int arraySize = Integer.valueOf((payload[index++] + (payload[index++] << 8)));
+                int arraySize = Integer.valueOf(((getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8)));
                 for (int cnt = 0; cnt < arraySize; cnt++) {
                     Object arrayValue = readZigBeeType(arrayType);
                     array.add(arrayValue);
@@ -312,8 +379,8 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
                 value[0] = array;
                 break;
             case FLOAT_32_BIT:
-                Float float32 = Float.intBitsToFloat(payload[index++] + (payload[index++] << 8)
-                        + (payload[index++] << 16) + (payload[index++] << 24));
+                Float float32 = Float.intBitsToFloat((getByte(index++) & 0xFF) + ((getByte(index++) & 0xFF) << 8)
+                        + ((getByte(index++) & 0xFF) << 16) + ((getByte(index++) & 0xFF) << 24));
                 value[0] = float32.doubleValue();
                 break;
             default:
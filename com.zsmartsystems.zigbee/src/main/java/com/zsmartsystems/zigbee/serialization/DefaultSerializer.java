@@ -7,7 +7,7 @@
  */
 package com.zsmartsystems.zigbee.serialization;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import com.zsmartsystems.zigbee.ExtendedPanId;
@@ -27,12 +27,27 @@ import com.zsmartsystems.zigbee.zdo.ZdoStatus;
  * @author Chris Jackson
  */
 public class DefaultSerializer implements ZigBeeSerializer {
-    private int[] buffer = new int[131];
+    private byte[] buffer = new byte[131];
     private int length = 0;
 
     @Override
     public int[] getPayload() {
-        return Arrays.copyOfRange(buffer, 0, length);
+        int[] payload = new int[length];
+        for (int cnt = 0; cnt < length; cnt++) {
+            payload[cnt] = buffer[cnt] & 0xFF;
+        }
+        return payload;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned {@link ByteBuffer} is a view of the serializer buffer and is not copied. The serializer must not be
+     * used after calling this method.
+     */
+    @Override
+    public ByteBuffer getPayloadBuffer() {
+        return ByteBuffer.wrap(buffer, 0, length).slice();
     }
 
     @Override
@@ -43,7 +58,7 @@ public class DefaultSerializer implements ZigBeeSerializer {
 
         switch (type) {
             case BOOLEAN:
-                buffer[length++] = (Boolean) data ? 1 : 0;
+                buffer[length++] = (byte) ((Boolean) data ? 1 : 0);
                 break;
             case NWK_ADDRESS:
             case BITMAP_16_BIT:
@@ -52,8 +67,8 @@ public class DefaultSerializer implements ZigBeeSerializer {
             case ENUMERATION_16_BIT:
             case CLUSTERID:
                 final short shortValue = ((Number) data).shortValue();
-                buffer[length++] = shortValue & 0xFF;
-                buffer[length++] = (shortValue >> 8) & 0xFF;
+                buffer[length++] = (byte) (shortValue & 0xFF);
+                buffer[length++] = (byte) ((shortValue >> 8) & 0xFF);
                 break;
             case ENDPOINT:
             case DATA_8_BIT:
@@ -62,29 +77,29 @@ public class DefaultSerializer implements ZigBeeSerializer {
             case UNSIGNED_8_BIT_INTEGER:
             case ENUMERATION_8_BIT:
                 final byte byteValue = ((Number) data).byteValue();
-                buffer[length++] = byteValue & 0xFF;
+                buffer[length++] = (byte) (byteValue & 0xFF);
                 break;
             case EXTENDED_PANID:
                 int[] panId = ((ExtendedPanId) data).getValue();
-                buffer[length++] = panId[0];
-                buffer[length++] = panId[1];
-                buffer[length++] = panId[2];
-                buffer[length++] = panId[3];
-                buffer[length++] = panId[4];
-                buffer[length++] = panId[5];
-                buffer[length++] = panId[6];
-                buffer[length++] = panId[7];
+                buffer[length++] = (byte) panId[0];
+                buffer[length++] = (byte) panId[1];
+                buffer[length++] = (byte) panId[2];
+                buffer[length++] = (byte) panId[3];
+                buffer[length++] = (byte) panId[4];
+                buffer[length++] = (byte) panId[5];
+                buffer[length++] = (byte) panId[6];
+                buffer[length++] = (byte) panId[7];
                 break;
             case IEEE_ADDRESS:
                 int[] address = ((IeeeAddress) data).getValue();
-                buffer[length++] = address[0];
-                buffer[length++] = address[1];
-                buffer[length++] = address[2];
-                buffer[length++] = address[3];
-                buffer[length++] = address[4];
-                buffer[length++] = address[5];
-                buffer[length++] = address[6];
-                buffer[length++] = address[7];
+                buffer[length++] = (byte) address[0];
+                buffer[length++] = (byte) address[1];
+                buffer[length++] = (byte) address[2];
+                buffer[length++] = (byte) address[3];
+                buffer[length++] = (byte) address[4];
+                buffer[length++] = (byte) address[5];
+                buffer[length++] = (byte) address[6];
+                buffer[length++] = (byte) address[7];
                 break;
             case N_X_ATTRIBUTE_INFORMATION:
                 break;
@@ -106,36 +121,36 @@ public class DefaultSerializer implements ZigBeeSerializer {
                 break;
             case N_X_UNSIGNED_16_BIT_INTEGER:
                 List<Integer> intArray16 = (List<Integer>) data;
-                buffer[length++] = intArray16.size();
+                buffer[length++] = (byte) intArray16.size();
                 for (int value : intArray16) {
-                    buffer[length++] = value & 0xFF;
-                    buffer[length++] = (value >> 8) & 0xFF;
+                    buffer[length++] = (byte) (value & 0xFF);
+                    buffer[length++] = (byte) ((value >> 8) & 0xFF);
                 }
                 break;
             case N_X_UNSIGNED_8_BIT_INTEGER:
                 List<Integer> intArrayNX8 = (List<Integer>) data;
-                buffer[length++] = intArrayNX8.size();
+                buffer[length++] = (byte) intArrayNX8.size();
                 for (int value : intArrayNX8) {
-                    buffer[length++] = value & 0xFF;
+                    buffer[length++] = (byte) (value & 0xFF);
                 }
                 break;
             case UNSIGNED_8_BIT_INTEGER_ARRAY:
                 int[] intArrayN8 = (int[]) data;
                 for (int value : intArrayN8) {
-                    buffer[length++] = value & 0xFF;
+                    buffer[length++] = (byte) (value & 0xFF);
                 }
                 break;
             case X_UNSIGNED_8_BIT_INTEGER:
                 List<Integer> intArrayX8 = (List<Integer>) data;
                 for (int value : intArrayX8) {
-                    buffer[length++] = value & 0xFF;
+                    buffer[length++] = (byte) (value & 0xFF);
                 }
                 break;
             case N_X_ATTRIBUTE_IDENTIFIER:
                 List<Integer> intArrayX16 = (List<Integer>) data;
                 for (int value : intArrayX16) {
-                    buffer[length++] = value & 0xFF;
-                    buffer[length++] = (value >> 8) & 0xFF;
+                    buffer[length++] = (byte) (value & 0xFF);
+                    buffer[length++] = (byte) ((value >> 8) & 0xFF);
                 }
                 break;
             case N_X_WRITE_ATTRIBUTE_RECORD:
@@ -145,27 +160,27 @@ public class DefaultSerializer implements ZigBeeSerializer {
             case RAW_OCTET:
                 final ByteArray rawArray = (ByteArray) data;
                 for (byte arrayByte : rawArray.get()) {
-                    buffer[length++] = arrayByte & 0xFF;
+                    buffer[length++] = arrayByte;
                 }
                 break;
             case OCTET_STRING:
                 final ByteArray array = (ByteArray) data;
-                buffer[length++] = ((byte) (array.size() & 0xFF));
+                buffer[length++] = (byte) (array.size() & 0xFF);
                 for (byte arrayByte : array.get()) {
                     buffer[length++] = arrayByte;
                 }
                 break;
             case CHARACTER_STRING:
                 final String str = (String) data;
-                buffer[length++] = ((byte) (str.length() & 0xFF));
+                buffer[length++] = (byte) (str.length() & 0xFF);
                 for (int strByte : str.getBytes()) {
-                    buffer[length++] = strByte;
+                    buffer[length++] = (byte) strByte;
                 }
                 break;
             case LONG_OCTET_STRING:
                 final ByteArray longArray = (ByteArray) data;
-                buffer[length++] = ((byte) (longArray.size() & 0xFF));
-                buffer[length++] = (longArray.size() >> 8) & 0xFF;
+                buffer[length++] = (byte) (longArray.size() & 0xFF);
+                buffer[length++] = (byte) ((longArray.size() >> 8) & 0xFF);
                 for (byte arrayByte : longArray.get()) {
                     buffer[length++] = arrayByte;
                 }
@@ -173,72 +188,72 @@ public class DefaultSerializer implements ZigBeeSerializer {
             case SECURITY_KEY:
                 final ZigBeeKey securityKey = (ZigBeeKey) data;
                 for (int arrayInt : securityKey.getValue()) {
-                    buffer[length++] = arrayInt;
+                    buffer[length++] = (byte) arrayInt;
                 }
                 break;
             case BITMAP_24_BIT:
             case SIGNED_24_BIT_INTEGER:
             case UNSIGNED_24_BIT_INTEGER:
                 final int uint24Value = (Integer) data;
-                buffer[length++] = uint24Value & 0xFF;
-                buffer[length++] = (uint24Value >> 8) & 0xFF;
-                buffer[length++] = (uint24Value >> 16) & 0xFF;
+                buffer[length++] = (byte) (uint24Value & 0xFF);
+                buffer[length++] = (byte) ((uint24Value >> 8) & 0xFF);
+                buffer[length++] = (byte) ((uint24Value >> 16) & 0xFF);
                 break;
             case ENUMERATION_32_BIT:
             case SIGNED_32_BIT_INTEGER:
                 final int intValue = (Integer) data;
-                buffer[length++] = intValue & 0xFF;
-                buffer[length++] = (intValue >> 8) & 0xFF;
-                buffer[length++] = (intValue >> 16) & 0xFF;
-                buffer[length++] = (intValue >> 24) & 0xFF;
+                buffer[length++] = (byte) (intValue & 0xFF);
+                buffer[length++] = (byte) ((intValue >> 8) & 0xFF);
+                buffer[length++] = (byte) ((intValue >> 16) & 0xFF);
+                buffer[length++] = (byte) ((intValue >> 24) & 0xFF);
                 break;
             case BITMAP_32_BIT:
             case UNSIGNED_32_BIT_INTEGER:
                 final int uint32Value = (Integer) data;
-                buffer[length++] = uint32Value & 0xFF;
-                buffer[length++] = (uint32Value >> 8) & 0xFF;
-                buffer[length++] = (uint32Value >> 16) & 0xFF;
-                buffer[length++] = (uint32Value >> 24) & 0xFF;
+                buffer[length++] = (byte) (uint32Value & 0xFF);
+                buffer[length++] = (byte) ((uint32Value >> 8) & 0xFF);
+                buffer[length++] = (byte) ((uint32Value >> 16) & 0xFF);
+                buffer[length++] = (byte) ((uint32Value >> 24) & 0xFF);
                 break;
             case UNSIGNED_48_BIT_INTEGER:
                 final long uint48Value = (Long) data;
-                buffer[length++] = (int) (uint48Value & 0xFF);
-                buffer[length++] = (int) ((uint48Value >> 8) & 0xFF);
-                buffer[length++] = (int) ((uint48Value >> 16) & 0xFF);
-                buffer[length++] = (int) ((uint48Value >> 24) & 0xFF);
-                buffer[length++] = (int) ((uint48Value >> 32) & 0xFF);
-                buffer[length++] = (int) ((uint48Value >> 40) & 0xFF);
+                buffer[length++] = (byte) (uint48Value & 0xFF);
+                buffer[length++] = (byte) ((uint48Value >> 8) & 0xFF);
+                buffer[length++] = (byte) ((uint48Value >> 16) & 0xFF);
+                buffer[length++] = (byte) ((uint48Value >> 24) & 0xFF);
+                buffer[length++] = (byte) ((uint48Value >> 32) & 0xFF);
+                buffer[length++] = (byte) ((uint48Value >> 40) & 0xFF);
                 break;
             case UTCTIME:
                 break;
             case ZDO_STATUS:
-                buffer[length++] = ((ZdoStatus) data).getId();
+                buffer[length++] = (byte) ((ZdoStatus) data).getId();
                 break;
             case ZCL_STATUS:
-                buffer[length++] = ((ZclStatus) data).getId();
+                buffer[length++] = (byte) ((ZclStatus) data).getId();
                 break;
             case BYTE_ARRAY:
                 final ByteArray byteArray = (ByteArray) data;
-                buffer[length++] = byteArray.size();
+                buffer[length++] = (byte) byteArray.size();
                 for (byte valByte : byteArray.get()) {
-                    buffer[length++] = valByte & 0xff;
+                    buffer[length++] = valByte;
                 }
                 break;
             case ZIGBEE_DATA_TYPE:
-                buffer[length++] = ((ZclDataType) data).getId();
+                buffer[length++] = (byte) ((ZclDataType) data).getId();
                 break;
             case FLOAT_32_BIT:
                 final Float float32 = ((Double) data).floatValue();
                 final int float32Value = Float.floatToRawIntBits(float32);
-                buffer[length++] = float32Value & 0xFF;
-                buffer[length++] = (float32Value >> 8) & 0xFF;
-                buffer[length++] = (float32Value >> 16) & 0xFF;
-                buffer[length++] = (float32Value >> 24) & 0xFF;
+                buffer[length++] = (byte) (float32Value & 0xFF);
+                buffer[length++] = (byte) ((float32Value >> 8) & 0xFF);
+                buffer[length++] = (byte) ((float32Value >> 16) & 0xFF);
+                buffer[length++] = (byte) ((float32Value >> 24) & 0xFF);
                 break;
             case ORDERED_SEQUENCE_ARRAY:
                 ZclArrayList zclArray = (ZclArrayList) data;
-                buffer[length++] = zclArray.getDataType().getId();
-                buffer[length++] = zclArray.size();
+                buffer[length++] = (byte) zclArray.getDataType().getId();
+                buffer[length++] = (byte) zclArray.size();
                 buffer[length++] = 0;
                 for (Object value : zclArray) {
                     appendZigBeeType(value, zclArray.getDataType());
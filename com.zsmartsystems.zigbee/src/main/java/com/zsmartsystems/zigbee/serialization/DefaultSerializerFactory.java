@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ZigBeeSerializerFactory} creating the {@link DefaultSerializer} and {@link DefaultDeserializer}.
+ *
+ * @author Chris Jackson
+ */
+public class DefaultSerializerFactory implements ZigBeeSerializerFactory {
+    @Override
+    public ZigBeeSerializer createSerializer() {
+        return new DefaultSerializer();
+    }
+
+    @Override
+    public ZigBeeDeserializer createDeserializer(int[] payload) {
+        return new DefaultDeserializer(payload);
+    }
+
+    @Override
+    public ZigBeeDeserializer createDeserializer(ByteBuffer payload) {
+        return new DefaultDeserializer(payload);
+    }
+}
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.serialization;
 
+import java.nio.ByteBuffer;
+
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
 /**
@@ -26,4 +28,19 @@ public interface ZigBeeSerializer {
      * @return a copy of the payload
      */
     public int[] getPayload();
+
+    /**
+     * Gets the payload as a {@link ByteBuffer}. The default implementation converts the payload from
+     * {@link #getPayload()} - implementations that hold the payload as bytes should override this to avoid the copy.
+     *
+     * @return the payload as a {@link ByteBuffer}
+     */
+    public default ByteBuffer getPayloadBuffer() {
+        int[] payload = getPayload();
+        byte[] bytes = new byte[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            bytes[cnt] = (byte) payload[cnt];
+        }
+        return ByteBuffer.wrap(bytes);
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ZigBeeSerializerFactory} that instantiates a {@link ZigBeeSerializer} and {@link ZigBeeDeserializer} from
+ * their classes. This provides compatibility for applications configuring the serializer classes rather than a factory.
+ * <p>
+ * The constructors are resolved once when the factory is created. The serializer class must provide a public no-arg
+ * constructor, and the deserializer class must provide a public constructor taking the <code>int[]</code> payload.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeSerializerClassFactory implements ZigBeeSerializerFactory {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeSerializerClassFactory.class);
+
+    private final Constructor<? extends ZigBeeSerializer> serializerConstructor;
+    private final Constructor<? extends ZigBeeDeserializer> deserializerConstructor;
+
+    /**
+     * Creates the factory from the serializer and deserializer classes
+     *
+     * @param serializer the {@link ZigBeeSerializer} class
+     * @param deserializer the {@link ZigBeeDeserializer} class
+     * @throws IllegalArgumentException if the classes do not provide the required constructors
+     */
+    public ZigBeeSerializerClassFactory(Class<? extends ZigBeeSerializer> serializer,
+            Class<? extends ZigBeeDeserializer> deserializer) {
+        try {
+            serializerConstructor = serializer.getConstructor();
+            deserializerConstructor = deserializer.getConstructor(int[].class);
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw new IllegalArgumentException("Serializer classes do not provide the required constructors", e);
+        }
+    }
+
+    @Override
+    public ZigBeeSerializer createSerializer() {
+        try {
+            return serializerConstructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            logger.debug("Error creating serializer", e);
+            return null;
+        }
+    }
+
+    @Override
+    public ZigBeeDeserializer createDeserializer(int[] payload) {
+        try {
+            return deserializerConstructor.newInstance(new Object[] { payload });
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            logger.debug("Error creating deserializer", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Factory interface used by the network manager to create a {@link ZigBeeSerializer} for each transmitted frame, and a
+ * {@link ZigBeeDeserializer} for each received frame.
+ * <p>
+ * Implementations are called for every frame, so should avoid reflection or other expensive operations. An
+ * implementation may recycle serializers if it can guarantee that they are not shared between frames.
+ *
+ * @author Chris Jackson
+ */
+public interface ZigBeeSerializerFactory {
+    /**
+     * Creates a {@link ZigBeeSerializer} to serialize a single frame
+     *
+     * @return the {@link ZigBeeSerializer}, or null if the serializer could not be created
+     */
+    ZigBeeSerializer createSerializer();
+
+    /**
+     * Creates a {@link ZigBeeDeserializer} to deserialize a single received frame
+     *
+     * @param payload the frame payload to deserialize
+     * @return the {@link ZigBeeDeserializer}, or null if the deserializer could not be created
+     */
+    ZigBeeDeserializer createDeserializer(int[] payload);
+
+    /**
+     * Creates a {@link ZigBeeDeserializer} to deserialize a single received frame held in a {@link ByteBuffer}. The
+     * payload is the remaining bytes in the buffer.
+     * <p>
+     * The default implementation converts the payload to an integer array and calls
+     * {@link #createDeserializer(int[])}. Implementations that can read bytes directly should override this to avoid
+     * the copy.
+     *
+     * @param payload the frame payload to deserialize
+     * @return the {@link ZigBeeDeserializer}, or null if the deserializer could not be created
+     */
+    default ZigBeeDeserializer createDeserializer(ByteBuffer payload) {
+        ByteBuffer buffer = payload.duplicate();
+        int[] intPayload = new int[buffer.remaining()];
+        for (int cnt = 0; cnt < intPayload.length; cnt++) {
+            intPayload[cnt] = buffer.get() & 0xFF;
+        }
+        return createDeserializer(intPayload);
+    }
+}
@@ -140,6 +140,16 @@ public class ZigBeeTransaction {
      */
     private Long queueTime;
 
+    /**
+     * A {@link Long} that records the time this transaction was last sent in milliseconds
+     */
+    private Long sendTime;
+
+    /**
+     * Set if the last attempt of the transaction failed because a timer expired
+     */
+    private boolean timedOut;
+
     /**
      * Transaction constructor
      *
@@ -173,6 +183,19 @@ public class ZigBeeTransaction {
         return command.getTransactionId();
     }
 
+    /**
+     * Gets the {@link ZigBeeTransactionKey} used to correlate received commands with this transaction. This should only
+     * be called once the transaction ID has been set.
+     *
+     * @return the {@link ZigBeeTransactionKey} or null if the transaction can not be indexed
+     */
+    protected ZigBeeTransactionKey getTransactionKey() {
+        if (responseMatcher == null) {
+            return null;
+        }
+        return responseMatcher.getTransactionKey(command);
+    }
+
     /**
      * Gets the time that the command was added to the queue, or null if the command is not in a queue
      *
@@ -192,6 +215,18 @@ public class ZigBeeTransaction {
         this.queueTime = System.currentTimeMillis();
     }
 
+    /**
+     * Gets the time since the transaction was last sent in milliseconds
+     *
+     * @return the number of milliseconds since the transaction was last sent, or null if it has not been sent
+     */
+    protected Long getSendTime() {
+        if (sendTime == null) {
+            return null;
+        }
+        return System.currentTimeMillis() - sendTime;
+    }
+
     /**
      * Resets the transaction
      */
@@ -206,6 +241,8 @@ public class ZigBeeTransaction {
      */
     protected ZigBeeCommand startTransaction() {
         state = TransactionState.DISPATCHED;
+        timedOut = false;
+        sendTime = System.currentTimeMillis();
         startTimer(timeout1);
         sendCnt++;
         return command;
@@ -220,6 +257,16 @@ public class ZigBeeTransaction {
         return command.getDestinationAddress();
     }
 
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} of this transaction. This is taken from the command.
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the transaction
+     */
+    protected ZigBeeTransactionPriority getPriority() {
+        ZigBeeTransactionPriority priority = command.getPriority();
+        return priority == null ? ZigBeeTransactionPriority.NORMAL : priority;
+    }
+
     /**
      * Gets the number of times this transaction has been sent. The sendCnt is incremented in the
      * {@link #startTransaction()} method.
@@ -230,6 +277,16 @@ public class ZigBeeTransaction {
         return sendCnt;
     }
 
+    /**
+     * Checks if the last attempt of the transaction failed because no response was received from the transport or the
+     * remote device before the timer expired.
+     *
+     * @return true if the last attempt timed out
+     */
+    protected boolean isTimedOut() {
+        return timedOut;
+    }
+
     /**
      * Gets the value of timer 1.
      * <p>
@@ -266,7 +323,7 @@ public class ZigBeeTransaction {
      * @return the current timeout in milliseconds
      */
     public int getTimerPeriod2() {
-        return timeout1;
+        return timeout2;
     }
 
     /**
@@ -277,7 +334,7 @@ public class ZigBeeTransaction {
      * @param timeout the timeout to set in milliseconds
      */
     public void setTimerPeriod2(int timeout) {
-        this.timeout1 = timeout;
+        this.timeout2 = timeout;
     }
 
     /**
@@ -312,10 +369,7 @@ public class ZigBeeTransaction {
         }
         logger.debug("Transaction terminated: {}", this);
         if (transactionFuture != null) {
-            synchronized (transactionFuture) {
-                transactionFuture.cancel(false);
-                transactionFuture.notify();
-            }
+            transactionFuture.cancel(false);
         }
     }
 
@@ -365,6 +419,7 @@ public class ZigBeeTransaction {
                     // we did receive a response that completed the transaction at application level
                     completeTransaction(completionCommand);
                 } else {
+                    timedOut = true;
                     cancelTransaction();
                 }
             }
@@ -377,10 +432,7 @@ public class ZigBeeTransaction {
             timeoutTask.cancel(false);
         }
         if (transactionFuture != null) {
-            synchronized (transactionFuture) {
-                transactionFuture.set(new CommandResult(receivedCommand));
-                transactionFuture.notify();
-            }
+            transactionFuture.set(new CommandResult(receivedCommand));
         }
 
         transactionManager.transactionComplete(this, TransactionState.COMPLETE);
@@ -7,15 +7,22 @@
  */
 package com.zsmartsystems.zigbee.transaction;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import com.zsmartsystems.zigbee.CommandResult;
 
 /**
  * Future implementation for asynchronous transactions. Multiple threads may listen for the completion of the
  * transaction.
+ * <p>
+ * The transaction may also be observed without blocking through the {@link CompletionStage} returned from
+ * {@link #getCompletionStage()}. The stage is completed when the result is set, or with an empty
+ * {@link CommandResult} if the transaction is cancelled.
  *
  * @author Chris Jackson
  */
@@ -27,6 +34,23 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
 
     private boolean cancelled = false;
 
+    /**
+     * The {@link CompletableFuture} completed with the first result, or when the transaction is cancelled
+     */
+    private final CompletableFuture<CommandResult> completion = new CompletableFuture<>();
+
+    /**
+     * The function used to create a dependent stage from {@link #completion}, so that callers can not complete the
+     * shared stage
+     */
+    private static final Function<CommandResult, CommandResult> IDENTITY = new Function<CommandResult,
+            CommandResult>() {
+        @Override
+        public CommandResult apply(CommandResult result) {
+            return result;
+        }
+    };
+
     // Not final for tests
     private static long TIMEOUT_MILLISECONDS = 12000;
 
@@ -35,21 +59,47 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
      *
      * @param result the {@link CommandResult}
      */
-    public synchronized void set(final CommandResult result) {
-        this.result = result;
-        notifyAll();
+    public void set(final CommandResult result) {
+        synchronized (this) {
+            this.result = result;
+            notifyAll();
+        }
+
+        // Complete the stage outside of the lock so that dependent actions do not block other threads using the future
+        completion.complete(result);
     }
 
     @Override
-    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
-        if (result != null || cancelled) {
-            return false;
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (result != null || cancelled) {
+                return false;
+            }
+            cancelled = true;
+            notifyAll();
         }
-        cancelled = true;
-        notifyAll();
+
+        completion.complete(new CommandResult());
         return true;
     }
 
+    /**
+     * Gets a {@link CompletionStage} that is completed with the {@link CommandResult} when the transaction completes.
+     * This allows the transaction result to be processed without blocking a thread.
+     * <p>
+     * Dependent actions that are not executed asynchronously are run in the thread that completes the transaction,
+     * which is normally the thread processing the response. Such actions should not block - actions that may block
+     * should use the asynchronous methods of the {@link CompletionStage}.
+     * <p>
+     * Each call returns a new stage which depends on the transaction, so completing the returned stage does not
+     * complete the transaction for other callers.
+     *
+     * @return the {@link CompletionStage} for the {@link CommandResult}
+     */
+    public CompletionStage<CommandResult> getCompletionStage() {
+        return completion.thenApply(IDENTITY);
+    }
+
     @Override
     public boolean isCancelled() {
         return cancelled;
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.Objects;
+
+import com.zsmartsystems.zigbee.ZigBeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+
+/**
+ * Immutable key used by the {@link ZigBeeTransactionManager} to correlate received commands with outstanding
+ * transactions without offering every received command to every transaction.
+ * <p>
+ * The key is made up of the remote network address, the remote endpoint, and the transaction ID (eg the ZCL sequence
+ * number). A request is keyed on its destination address, and a response is keyed on its source address, so a request
+ * and its response will generate the same key.
+ *
+ * @author Chris Jackson
+ */
+public final class ZigBeeTransactionKey {
+    private final int networkAddress;
+    private final int endpoint;
+    private final int transactionId;
+
+    /**
+     * Creates a transaction key
+     *
+     * @param networkAddress the 16 bit network address of the remote node
+     * @param endpoint the endpoint on the remote node
+     * @param transactionId the transaction ID
+     */
+    public ZigBeeTransactionKey(int networkAddress, int endpoint, int transactionId) {
+        this.networkAddress = networkAddress;
+        this.endpoint = endpoint;
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * Creates a key for an outgoing request. The key is derived from the destination address and transaction ID.
+     *
+     * @param request the request {@link ZigBeeCommand}
+     * @return the {@link ZigBeeTransactionKey} or null if the request can not be keyed
+     */
+    public static ZigBeeTransactionKey forRequest(ZigBeeCommand request) {
+        return create(request.getDestinationAddress(), request.getTransactionId());
+    }
+
+    /**
+     * Creates a key for a received command. The key is derived from the source address and transaction ID.
+     *
+     * @param response the received {@link ZigBeeCommand}
+     * @return the {@link ZigBeeTransactionKey} or null if the command can not be keyed
+     */
+    public static ZigBeeTransactionKey forResponse(ZigBeeCommand response) {
+        return create(response.getSourceAddress(), response.getTransactionId());
+    }
+
+    private static ZigBeeTransactionKey create(ZigBeeAddress address, Integer transactionId) {
+        if (!(address instanceof ZigBeeEndpointAddress) || transactionId == null) {
+            return null;
+        }
+        return new ZigBeeTransactionKey(address.getAddress(), ((ZigBeeEndpointAddress) address).getEndpoint(),
+                transactionId);
+    }
+
+    /**
+     * Gets the network address of the remote node
+     *
+     * @return the network address of the remote node
+     */
+    public int getNetworkAddress() {
+        return networkAddress;
+    }
+
+    /**
+     * Gets the endpoint on the remote node
+     *
+     * @return the endpoint on the remote node
+     */
+    public int getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Gets the transaction ID
+     *
+     * @return the transaction ID
+     */
+    public int getTransactionId() {
+        return transactionId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(networkAddress, endpoint, transactionId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ZigBeeTransactionKey other = (ZigBeeTransactionKey) obj;
+        return networkAddress == other.networkAddress && endpoint == other.endpoint
+                && transactionId == other.transactionId;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeTransactionKey [networkAddress=" + String.format("%04X", networkAddress) + ", endpoint="
+                + endpoint + ", transactionId=" + String.format("%02X", transactionId) + "]";
+    }
+}
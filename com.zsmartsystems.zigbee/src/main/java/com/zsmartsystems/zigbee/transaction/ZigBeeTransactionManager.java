@@ -8,16 +8,17 @@
 package com.zsmartsystems.zigbee.transaction;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -33,7 +34,10 @@ import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.ZigBeeTimerWheel;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.metrics.ZigBeeMetricsRegistry;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
@@ -57,13 +61,17 @@ import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
  * once. This ensures that there is always bandwidth reserved for mains powered devices, thus ensuring that the queue
  * can not be filled with commands to sleepy devices, which would adversely affect the overall performance of the
  * system.
+ * <li>Admission control. The number of transactions waiting in all queues, and in each queue, can be limited so that
+ * an application sending an excessive number of commands can not delay the transactions of all other applications.
+ * The {@link ZigBeeTransactionOverflowPolicy} defines the action taken when a limit is reached.
  * </ul>
  * <p>
  * Each time a transaction is sent to the transaction manager, or a transaction completes, the transaction manager will
  * attempt to send the next transaction in order to keep the transport layer full, while also fulfilling the various
  * constraints in the queues.
  * <p>
- * When sending, queues are polled in random order to ensure that all queues get a fair chance at sending data.
+ * When sending, queues are taken from the {@link ZigBeeTransactionScheduler}, which holds the queues that are ready to
+ * send in a ready set and serves them in round robin order to ensure that all queues get a fair chance at sending data.
  *
  * @author Chris Jackson
  *
@@ -110,6 +118,31 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private Set<ZigBeeTransaction> outstandingTransactions = new HashSet<>();
 
+    /**
+     * Index of outstanding transactions by their {@link ZigBeeTransactionKey}. This allows received commands to be
+     * routed directly to the transactions that may be completed by the command. Guarded by
+     * {@link #outstandingTransactions}.
+     */
+    private final Map<ZigBeeTransactionKey, Set<ZigBeeTransaction>> indexedTransactions = new HashMap<>();
+
+    /**
+     * The keys under which transactions are stored in {@link #indexedTransactions}. Guarded by
+     * {@link #outstandingTransactions}.
+     */
+    private final Map<ZigBeeTransaction, ZigBeeTransactionKey> transactionKeys = new HashMap<>();
+
+    /**
+     * The set of outstanding transactions whose {@link ZigBeeTransactionMatcher} can not be indexed. These transactions
+     * are offered every received command. Guarded by {@link #outstandingTransactions}.
+     */
+    private final Set<ZigBeeTransaction> unindexedTransactions = new HashSet<>();
+
+    /**
+     * Index of outstanding transactions by transaction ID. This is used to route the transport progress updates.
+     * Guarded by {@link #outstandingTransactions}.
+     */
+    private final Map<Integer, Set<ZigBeeTransaction>> transactionIdIndex = new HashMap<>();
+
     /**
      * The maximum number of transactions the manager will allow at any time
      */
@@ -125,6 +158,42 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private int sleepyTransactions = 0;
 
+    /**
+     * The maximum number of transactions waiting to be sent in all queues, or 0 if there is no limit
+     */
+    private int maxQueuedTransactions = 0;
+
+    /**
+     * The maximum number of transactions waiting to be sent in each queue, or 0 if there is no limit
+     */
+    private int maxNodeQueuedTransactions = 0;
+
+    /**
+     * The action taken when a transaction is sent while the queues are full
+     */
+    private ZigBeeTransactionOverflowPolicy overflowPolicy = ZigBeeTransactionOverflowPolicy.FAIL;
+
+    /**
+     * The maximum time in milliseconds to wait for space in the queue when using
+     * {@link ZigBeeTransactionOverflowPolicy#BLOCK}
+     */
+    private long blockTimeout = 5000;
+
+    /**
+     * The number of transactions waiting to be sent in all queues
+     */
+    private int queuedTransactions = 0;
+
+    /**
+     * The largest number of transactions that have been waiting to be sent in all queues at the same time
+     */
+    private int peakQueuedTransactions = 0;
+
+    /**
+     * The number of transactions that were not sent because the queues were full
+     */
+    private long rejectedTransactions = 0;
+
     /**
      * Executor service to execute update threads for discovery or mesh updates etc.
      * We use a {@link ZigBeeExecutors.newScheduledThreadPool} to provide a fixed number of threads as otherwise this
@@ -134,6 +203,12 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final ScheduledExecutorService executorService = ZigBeeExecutors.newScheduledThreadPool(6,
             "TransactionManager");
 
+    /**
+     * The {@link ZigBeeTimerWheel} used for the transaction timeouts and the queue release timer. Expired timers are
+     * run on the {@link #executorService}.
+     */
+    private volatile ZigBeeTimerWheel timerWheel = new ZigBeeTimerWheel("TransactionTimer", executorService);
+
     /**
      * A Map containing the queue for each node. This provides quick access when adding commands to queue, or performing
      * any queue function where we know the node.
@@ -146,9 +221,9 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final AtomicInteger transactionIdCounter = new AtomicInteger();
 
     /**
-     * A List of queues with outstanding commands. This is used for random access when sending transactions.
+     * The scheduler holding the queues with transactions waiting to be sent
      */
-    private final List<ZigBeeTransactionQueue> outstandingQueues = new ArrayList<>();
+    private final ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
 
     private final ZigBeeTransactionQueue defaultQueue;
     private final ZigBeeTransactionQueue broadcastQueue;
@@ -162,6 +237,11 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private ScheduledFuture<?> timeoutTask;
 
+    /**
+     * The {@link ZigBeeMetricsRegistry} used to record the transaction statistics
+     */
+    private volatile ZigBeeMetricsRegistry metricsRegistry = ZigBeeMetricsRegistry.NONE;
+
     public ZigBeeTransactionManager(ZigBeeNetworkManager manager) {
         this.networkManager = manager;
 
@@ -189,6 +269,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
 
         networkManager.removeNetworkNodeListener(this);
 
+        timerWheel.shutdown();
         executorService.shutdownNow();
 
         if (timeoutTask != null) {
@@ -216,6 +297,30 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         }
     }
 
+    /**
+     * Sets the {@link ZigBeeTimerWheel} used for the transaction timeouts and the queue release timer. This allows the
+     * timers to be driven by a virtual clock in tests. Timers that are already pending are not moved to the new wheel.
+     *
+     * @param timerWheel the {@link ZigBeeTimerWheel} to use for all timers
+     */
+    public void setTimerWheel(ZigBeeTimerWheel timerWheel) {
+        ZigBeeTimerWheel oldWheel = this.timerWheel;
+        this.timerWheel = timerWheel;
+        if (oldWheel != timerWheel) {
+            oldWheel.shutdown();
+        }
+    }
+
+    /**
+     * Sets the {@link ZigBeeMetricsRegistry} used to record the transaction latency, retries, timeouts and queue
+     * depths.
+     *
+     * @param metricsRegistry the {@link ZigBeeMetricsRegistry} to use
+     */
+    public void setMetricsRegistry(ZigBeeMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     /**
      * Gets the maximum number of transactions permitted to be outstanding at any time.
      *
@@ -252,6 +357,122 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         this.maxSleepyTransactions = maxSleepyTransactions;
     }
 
+    /**
+     * Sets the limits on the number of transactions waiting to be sent. When a transaction is sent while a limit is
+     * reached, the {@link ZigBeeTransactionOverflowPolicy} defines the action taken. Transactions that are retried
+     * have already been accepted and are not subject to the limits.
+     *
+     * @param maxQueuedTransactions the maximum number of transactions waiting in all queues, or 0 for no limit
+     * @param maxNodeQueuedTransactions the maximum number of transactions waiting in each queue (ie to each node, or
+     *            in the broadcast or multicast queue), or 0 for no limit
+     * @param overflowPolicy the {@link ZigBeeTransactionOverflowPolicy} to apply when a limit is reached
+     */
+    public synchronized void setQueueLimits(int maxQueuedTransactions, int maxNodeQueuedTransactions,
+            ZigBeeTransactionOverflowPolicy overflowPolicy) {
+        this.maxQueuedTransactions = maxQueuedTransactions;
+        this.maxNodeQueuedTransactions = maxNodeQueuedTransactions;
+        this.overflowPolicy = overflowPolicy;
+        notifyAll();
+    }
+
+    /**
+     * Gets the maximum number of transactions waiting to be sent in all queues
+     *
+     * @return the maximum number of transactions waiting in all queues, or 0 if there is no limit
+     */
+    public synchronized int getMaxQueuedTransactions() {
+        return maxQueuedTransactions;
+    }
+
+    /**
+     * Gets the maximum number of transactions waiting to be sent in each queue
+     *
+     * @return the maximum number of transactions waiting in each queue, or 0 if there is no limit
+     */
+    public synchronized int getMaxNodeQueuedTransactions() {
+        return maxNodeQueuedTransactions;
+    }
+
+    /**
+     * Gets the action taken when a transaction is sent while the queues are full
+     *
+     * @return the {@link ZigBeeTransactionOverflowPolicy}
+     */
+    public synchronized ZigBeeTransactionOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets the maximum time to wait for space in the queue when using {@link ZigBeeTransactionOverflowPolicy#BLOCK}.
+     * Defaults to 5000 milliseconds.
+     *
+     * @param blockTimeout the maximum time to wait in milliseconds
+     */
+    public synchronized void setBlockTimeout(long blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    /**
+     * Gets the maximum time to wait for space in the queue when using {@link ZigBeeTransactionOverflowPolicy#BLOCK}.
+     *
+     * @return the maximum time to wait in milliseconds
+     */
+    public synchronized long getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    /**
+     * Gets the number of transactions that have been sent and are waiting to complete
+     *
+     * @return the number of outstanding transactions
+     */
+    public int getOutstandingTransactionCount() {
+        synchronized (outstandingTransactions) {
+            return outstandingTransactions.size();
+        }
+    }
+
+    /**
+     * Gets the number of transactions waiting to be sent in all queues. Transactions that have been sent and are
+     * waiting for a response are not included.
+     *
+     * @return the number of transactions waiting to be sent
+     */
+    public synchronized int getQueuedTransactionCount() {
+        return queuedTransactions;
+    }
+
+    /**
+     * Gets the number of transactions waiting to be sent to a node
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @return the number of transactions waiting to be sent to the node
+     */
+    public synchronized int getQueuedTransactionCount(IeeeAddress address) {
+        ZigBeeTransactionQueue queue = nodeQueue.get(address);
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Gets the largest number of transactions that have been waiting to be sent in all queues at the same time
+     *
+     * @return the peak number of transactions waiting to be sent
+     */
+    public synchronized int getPeakQueuedTransactionCount() {
+        return peakQueuedTransactions;
+    }
+
+    /**
+     * Gets the number of transactions that were not sent because the queues were full. This includes new
+     * transactions that were rejected, and waiting transactions that were dropped to make space for a new
+     * transaction.
+     *
+     * @return the number of transactions not sent because the queues were full
+     */
+    public synchronized long getRejectedTransactionCount() {
+        return rejectedTransactions;
+    }
+
     /**
      * Sets the default {@link ZigBeeTransactionProfile} for the node queues
      *
@@ -336,6 +557,11 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     /**
      * Sends a command, and uses the {@link ZigBeeTransactionMatcher} to match the response which will complete the
      * transaction.
+     * <p>
+     * If the queue limits set with {@link #setQueueLimits(int, int, ZigBeeTransactionOverflowPolicy)} are reached, the
+     * transaction may be completed without being sent, with a {@link CommandResult} with the status
+     * {@link ZigBeeStatus#QUEUE_FULL}. When using {@link ZigBeeTransactionOverflowPolicy#BLOCK}, this method may block
+     * until there is space in the queue.
      *
      * @param command the {@link ZigBeeCommand} to send
      * @param responseMatcher the {@link ZigBeeTransactionMatcher} to match the response which will complete the
@@ -344,6 +570,8 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     public Future<CommandResult> sendTransaction(ZigBeeCommand command, ZigBeeTransactionMatcher responseMatcher) {
         ZigBeeTransaction transaction = new ZigBeeTransaction(this, command, responseMatcher);
+        ZigBeeTransaction droppedTransaction = null;
+        boolean rejected;
 
         synchronized (this) {
             ZigBeeTransactionQueue queue = getTransactionQueue(transaction);
@@ -352,25 +580,152 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                 return null;
             }
 
-            return queueTransaction(queue, transaction);
+            if (isQueueFull(queue)) {
+                switch (overflowPolicy) {
+                    case BLOCK:
+                        waitForQueueSpace(queue);
+                        break;
+                    case DROP_OLDEST:
+                        droppedTransaction = queue.removeOldest(transaction.getPriority());
+                        if (droppedTransaction != null) {
+                            queuedTransactions--;
+                            rejectedTransactions++;
+                            metricsRegistry.increment(ZigBeeMetricsRegistry.TRANSACTION_REJECTED,
+                                    queue.getQueueName(), 1);
+                            updateQueueDepth(queue);
+                            logger.debug("Queue full: Dropped {}", droppedTransaction);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            rejected = isQueueFull(queue);
+            if (rejected) {
+                rejectedTransactions++;
+                metricsRegistry.increment(ZigBeeMetricsRegistry.TRANSACTION_REJECTED, queue.getQueueName(), 1);
+                logger.debug("Queue full: Rejected {}", transaction);
+                transaction.setFuture(new ZigBeeTransactionFuture());
+            } else {
+                addToQueue(queue, transaction);
+            }
         }
+
+        // Complete the transactions that are not sent outside of the lock as this notifies the caller
+        if (droppedTransaction != null) {
+            rejectTransaction(droppedTransaction);
+        }
+        if (rejected) {
+            rejectTransaction(transaction);
+        } else {
+            sendNextTransaction();
+        }
+
+        return transaction.getFuture();
     }
 
     /**
-     * Adds a {@link ZigBeeTransaction} to the respective {@link ZigBeeTransactionQueue}
+     * Sends a command, and uses the {@link ZigBeeTransactionMatcher} to match the response which will complete the
+     * transaction. The returned {@link CompletionStage} is completed when the transaction completes, allowing the
+     * result to be processed without blocking a thread.
+     * <p>
+     * If the transaction can not be queued, or it fails, the stage is completed with an empty {@link CommandResult}.
+     *
+     * @param command the {@link ZigBeeCommand} to send
+     * @param responseMatcher the {@link ZigBeeTransactionMatcher} to match the response which will complete the
+     *            transaction.
+     * @return the {@link CompletionStage} for the {@link CommandResult}
+     */
+    public CompletionStage<CommandResult> sendTransactionAsync(ZigBeeCommand command,
+            ZigBeeTransactionMatcher responseMatcher) {
+        Future<CommandResult> future = sendTransaction(command, responseMatcher);
+        if (future instanceof ZigBeeTransactionFuture) {
+            return ((ZigBeeTransactionFuture) future).getCompletionStage();
+        }
+        return CompletableFuture.completedFuture(new CommandResult());
+    }
+
+    /**
+     * Adds a {@link ZigBeeTransaction} to the respective {@link ZigBeeTransactionQueue}. Must be called while holding
+     * the manager lock.
      *
+     * @param queue the {@link ZigBeeTransactionQueue} to add the transaction to
      * @param transaction the {@link ZigBeeTransaction} to add to the queue. Not null.
-     * @return the future {@link CommandResult}
      */
-    private ZigBeeTransactionFuture queueTransaction(ZigBeeTransactionQueue queue, ZigBeeTransaction transaction) {
+    private void addToQueue(ZigBeeTransactionQueue queue, ZigBeeTransaction transaction) {
+        int size = queue.size();
         queue.addToQueue(transaction);
-        if (!queue.isEmpty() && !outstandingQueues.contains(queue)) {
-            outstandingQueues.add(queue);
+        updateQueuedTransactions(queue.size() - size);
+        updateQueueDepth(queue);
+        scheduler.schedule(queue);
+    }
+
+    /**
+     * Records the number of transactions waiting in a queue in the {@link ZigBeeMetricsRegistry}
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} that has changed
+     */
+    private void updateQueueDepth(ZigBeeTransactionQueue queue) {
+        metricsRegistry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, queue.getQueueName(), queue.size());
+    }
+
+    /**
+     * Updates the number of transactions waiting in all queues. Must be called while holding the manager lock.
+     *
+     * @param change the change in the number of waiting transactions
+     */
+    private void updateQueuedTransactions(int change) {
+        queuedTransactions += change;
+        if (queuedTransactions > peakQueuedTransactions) {
+            peakQueuedTransactions = queuedTransactions;
+        }
+        if (change < 0) {
+            notifyAll();
         }
+    }
 
-        sendNextTransaction();
+    /**
+     * Checks if a transaction can be added to the queue without exceeding the queue limits. Must be called while
+     * holding the manager lock.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} the transaction will be added to
+     * @return true if adding a transaction to the queue would exceed the queue limits
+     */
+    private boolean isQueueFull(ZigBeeTransactionQueue queue) {
+        return (maxQueuedTransactions > 0 && queuedTransactions >= maxQueuedTransactions)
+                || (maxNodeQueuedTransactions > 0 && queue.size() >= maxNodeQueuedTransactions);
+    }
 
-        return transaction.getFuture();
+    /**
+     * Waits until there is space to add a transaction to the queue, or the {@link #blockTimeout} expires. Must be
+     * called while holding the manager lock.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} the transaction will be added to
+     */
+    private void waitForQueueSpace(ZigBeeTransactionQueue queue) {
+        long timeout = System.currentTimeMillis() + blockTimeout;
+        try {
+            while (isQueueFull(queue)) {
+                long delay = timeout - System.currentTimeMillis();
+                if (delay <= 0) {
+                    return;
+                }
+                wait(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Completes a transaction that was not sent because the queues were full
+     *
+     * @param transaction the {@link ZigBeeTransaction} to complete
+     */
+    private void rejectTransaction(ZigBeeTransaction transaction) {
+        transaction.getFuture().set(new CommandResult(ZigBeeStatus.QUEUE_FULL));
+        transaction.cancel();
     }
 
     /**
@@ -474,7 +829,20 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private void addTransactionListener(ZigBeeTransaction transaction) {
         synchronized (outstandingTransactions) {
-            outstandingTransactions.add(transaction);
+            if (!outstandingTransactions.add(transaction)) {
+                return;
+            }
+
+            ZigBeeTransactionKey key = transaction.getTransactionKey();
+            if (key == null) {
+                unindexedTransactions.add(transaction);
+            } else {
+                transactionKeys.put(transaction, key);
+                addToIndex(indexedTransactions, key, transaction);
+            }
+            addToIndex(transactionIdIndex, transaction.getTransactionId(), transaction);
+            metricsRegistry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_OUTSTANDING, null,
+                    outstandingTransactions.size());
         }
         logger.debug("transactionListenerAdded: {} outstanding", outstandingTransactions.size());
     }
@@ -488,11 +856,65 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private void removeTransactionListener(ZigBeeTransaction transaction) {
         synchronized (outstandingTransactions) {
-            outstandingTransactions.remove(transaction);
+            if (!outstandingTransactions.remove(transaction)) {
+                return;
+            }
+
+            ZigBeeTransactionKey key = transactionKeys.remove(transaction);
+            if (key == null) {
+                unindexedTransactions.remove(transaction);
+            } else {
+                removeFromIndex(indexedTransactions, key, transaction);
+            }
+            removeFromIndex(transactionIdIndex, transaction.getTransactionId(), transaction);
+            metricsRegistry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_OUTSTANDING, null,
+                    outstandingTransactions.size());
         }
         logger.debug("transactionListenerRemoved: {} outstanding", outstandingTransactions.size());
     }
 
+    /**
+     * Adds a transaction to one of the transaction indexes. Must be called while holding the
+     * {@link #outstandingTransactions} lock.
+     *
+     * @param index the index to update
+     * @param key the key to add the transaction under. If null, the transaction is not added.
+     * @param transaction the {@link ZigBeeTransaction} to add
+     */
+    private <K> void addToIndex(Map<K, Set<ZigBeeTransaction>> index, K key, ZigBeeTransaction transaction) {
+        if (key == null) {
+            return;
+        }
+        Set<ZigBeeTransaction> transactions = index.get(key);
+        if (transactions == null) {
+            transactions = new HashSet<>();
+            index.put(key, transactions);
+        }
+        transactions.add(transaction);
+    }
+
+    /**
+     * Removes a transaction from one of the transaction indexes. Must be called while holding the
+     * {@link #outstandingTransactions} lock.
+     *
+     * @param index the index to update
+     * @param key the key the transaction was added under
+     * @param transaction the {@link ZigBeeTransaction} to remove
+     */
+    private <K> void removeFromIndex(Map<K, Set<ZigBeeTransaction>> index, K key, ZigBeeTransaction transaction) {
+        if (key == null) {
+            return;
+        }
+        Set<ZigBeeTransaction> transactions = index.get(key);
+        if (transactions == null) {
+            return;
+        }
+        transactions.remove(transaction);
+        if (transactions.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
     /**
      * Schedules a task with a timeout. Used by {@link ZigBeeTransaction}s to time out failed transactions
      *
@@ -501,7 +923,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      * @return the {@link ScheduledFuture} for this task
      */
     protected ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
-        return executorService.schedule(runnableTask, delay, TimeUnit.MILLISECONDS);
+        return timerWheel.schedule(runnableTask, delay);
     }
 
     /**
@@ -519,10 +941,17 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
             if (queue == null) {
                 logger.debug("Transaction complete: No queue found {}", transaction);
             } else {
+                recordTransactionMetrics(queue, transaction, state);
+
+                int size = queue.size();
                 queue.transactionComplete(transaction, state);
+                updateQueuedTransactions(queue.size() - size);
+                updateQueueDepth(queue);
+                scheduler.schedule(queue);
 
                 if (queue.isSleepy()) {
                     sleepyTransactions--;
+                    scheduler.releaseParked();
                 }
             }
         }
@@ -531,24 +960,62 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     }
 
     /**
-     * Notify transactions of the received command
+     * Records the outcome of a transaction attempt in the {@link ZigBeeMetricsRegistry}
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} the transaction was sent from
+     * @param transaction the completed {@link ZigBeeTransaction}
+     * @param state the {@link TransactionState} of the transaction on completion
+     */
+    private void recordTransactionMetrics(ZigBeeTransactionQueue queue, ZigBeeTransaction transaction,
+            TransactionState state) {
+        String tag = queue.getQueueName();
+        if (state == TransactionState.COMPLETE) {
+            metricsRegistry.increment(ZigBeeMetricsRegistry.TRANSACTION_COMPLETE, tag, 1);
+            Long sendTime = transaction.getSendTime();
+            if (sendTime != null) {
+                metricsRegistry.record(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, tag, sendTime);
+            }
+        } else {
+            metricsRegistry.increment(ZigBeeMetricsRegistry.TRANSACTION_FAILED, tag, 1);
+            if (transaction.isTimedOut()) {
+                metricsRegistry.increment(ZigBeeMetricsRegistry.TRANSACTION_TIMEOUT, tag, 1);
+            }
+        }
+    }
+
+    /**
+     * Notify transactions of the received command.
+     * <p>
+     * Only transactions indexed under the same {@link ZigBeeTransactionKey} as the received command, and transactions
+     * whose {@link ZigBeeTransactionMatcher} can not be indexed, are notified.
      *
      * @param command the {@link ZigBeeCommand} to send to the transactions
      */
     private void notifyTransactionCommand(final ZigBeeCommand command) {
         logger.debug("notifyTransactionCommand: {} ", command);
+        final List<ZigBeeTransaction> transactions;
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                logger.debug("notifyTransactionCommand: {} {}", command, transaction);
-                NotificationService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.commandReceived(command);
-                    }
-                });
+            transactions = new ArrayList<>(unindexedTransactions);
+
+            ZigBeeTransactionKey key = ZigBeeTransactionKey.forResponse(command);
+            if (key != null) {
+                Set<ZigBeeTransaction> indexed = indexedTransactions.get(key);
+                if (indexed != null) {
+                    transactions.addAll(indexed);
+                }
             }
         }
+
+        // Notify the listeners
+        for (final ZigBeeTransaction transaction : transactions) {
+            logger.debug("notifyTransactionCommand: {} {}", command, transaction);
+            NotificationService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    transaction.commandReceived(command);
+                }
+            });
+        }
     }
 
     /**
@@ -560,16 +1027,23 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private void notifyTransactionProgress(final int transactionId, ZigBeeTransportProgressState state) {
         logger.debug("notifyTransactionProgress: TID={}, state={}, outstanding={}",
                 String.format("%02X", transactionId), state, outstandingTransactions.size());
+        final List<ZigBeeTransaction> transactions;
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                NotificationService.execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.transactionStatusReceived(state, transactionId);
-                    }
-                });
+            Set<ZigBeeTransaction> indexed = transactionIdIndex.get(transactionId);
+            if (indexed == null) {
+                return;
             }
+            transactions = new ArrayList<>(indexed);
+        }
+
+        // Notify the listeners
+        for (final ZigBeeTransaction transaction : transactions) {
+            NotificationService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    transaction.transactionStatusReceived(state, transactionId);
+                }
+            });
         }
     }
 
@@ -607,16 +1081,22 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
             }
         }
         nodeQueue.remove(address);
-        outstandingQueues.remove(queue);
+        synchronized (this) {
+            scheduler.remove(queue);
+            updateQueuedTransactions(-queue.size());
+        }
+        metricsRegistry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, queue.getQueueName(), 0);
     }
 
     /**
-     * Polls the queues to send outstanding transactions. This will send as many transactions as necessary, or available
+     * Sends outstanding transactions from the queues. This will send as many transactions as necessary, or available
      * within the constraints that have been set (e.g. the maxOutstandingTransactions).
      * <p>
-     * The order of transmission from each queue is randomised to ensure a fair ordering of transactions to each device.
-     * If a queue returns null, then it does not have transactions to send at that time and we let the timer take care
-     * of rescheduling the transmission.
+     * Queues are taken from the {@link ZigBeeTransactionScheduler} which serves the queues that are ready to send in
+     * round robin order, taking one transaction from each queue in turn, to ensure a fair ordering of transactions to
+     * each device. Only queues that can send are visited, so the cost does not depend on the number of queues. Queues
+     * that are waiting for their inter-transaction delay are held by the scheduler, and the timer is started to
+     * reschedule the transmission when the first of these is released.
      */
     private void sendNextTransaction() {
         synchronized (this) {
@@ -624,73 +1104,60 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                 timeoutTask.cancel(false);
             }
 
-            ZigBeeTransaction transaction;
+            // Queues that were ready, but did not release a transaction. These are returned to the scheduler once we
+            // are done so that we don't loop on a queue that can't send.
+            List<ZigBeeTransactionQueue> stalledQueues = new ArrayList<>();
 
-            // Randomly loop through all queues, taking a transaction from each one in turn
-            // If we have more transactions outstanding than we're allowed, then exit
-            // If we get through an iteration of all queues without sending anything, then exit
-            //
-            // Points to note -:
-            // * Queues may have more than one transaction to send
-            // * Queues may have transactions to send, but be unable to send them at this time
-
-            List<ZigBeeTransactionQueue> emptyQueues = new ArrayList<>();
-            boolean sendDone;
-            do {
-                // Exit unless we send at least one transaction
-                sendDone = true;
-
-                // Randomise the lists
-                Collections.shuffle(outstandingQueues);
-
-                // Clear the list of queues that have been emptied
-                emptyQueues.clear();
-
-                for (ZigBeeTransactionQueue queue : outstandingQueues) {
-                    // Check if we've reached the maximum number of commands we can send
-                    if (outstandingTransactions.size() >= maxOutstandingTransactions) {
-                        sendDone = true;
-                        break;
-                    }
-
-                    // If this is a sleepy queue, and we've exceeded the sleepy transmissions, then ignore the queue
-                    if (queue.isSleepy() && sleepyTransactions >= maxSleepyTransactions) {
-                        continue;
-                    }
+            // Stop if we have more transactions outstanding than we're allowed
+            while (outstandingTransactions.size() < maxOutstandingTransactions) {
+                ZigBeeTransactionQueue queue = scheduler.nextReadyQueue();
+                if (queue == null) {
+                    break;
+                }
 
-                    // Queue may return null if it has transactions queued, but it can't release any at this time
-                    transaction = queue.getTransaction();
-                    if (transaction != null) {
-                        if (queue.isSleepy()) {
-                            sleepyTransactions++;
-                        }
+                // If this is a sleepy queue, and we've exceeded the sleepy transmissions, then park the queue until
+                // a sleepy transaction completes
+                if (queue.isSleepy() && sleepyTransactions >= maxSleepyTransactions) {
+                    scheduler.park(queue);
+                    continue;
+                }
 
-                        // Send the transaction.
-                        send(transaction);
-                        sendDone = false;
-                    }
+                // Queue may return null if it has transactions queued, but it can't release any at this time
+                ZigBeeTransaction transaction = queue.getTransaction();
+                if (transaction == null) {
+                    stalledQueues.add(queue);
+                    continue;
+                }
 
-                    // If the queue has no more transactions,
-                    // remove it from the list of queues with outstanding transactions.
-                    if (queue.isEmpty()) {
-                        emptyQueues.add(queue);
-                    }
+                updateQueuedTransactions(-1);
+                updateQueueDepth(queue);
+                if (queue.isSleepy()) {
+                    sleepyTransactions++;
+                }
+                if (transaction.getSendCnt() > 0) {
+                    metricsRegistry.increment(ZigBeeMetricsRegistry.TRANSACTION_RETRY, queue.getQueueName(), 1);
                 }
 
-                outstandingQueues.removeAll(emptyQueues);
-            } while (!sendDone);
+                // Return the queue to the scheduler before sending, so that it goes to the back of the ready set, or
+                // is held until its next release time.
+                scheduler.schedule(queue);
 
-            // Loop through all outstanding queues and find the next release time
-            long timeout = Long.MAX_VALUE;
-            for (ZigBeeTransactionQueue queue : outstandingQueues) {
-                long nextTime = queue.getNextReleaseTime();
-                if (nextTime < timeout) {
-                    timeout = nextTime;
-                }
+                // Send the transaction.
+                send(transaction);
+            }
+
+            for (ZigBeeTransactionQueue queue : stalledQueues) {
+                scheduler.schedule(queue);
             }
 
-            if (timeout > 0) {
-                startRequeueTimer(timeout);
+            // Start the timer for the next queue to be released. If there are still queues ready to send, and we're not
+            // limited by the number of outstanding transactions, then they were stalled and we retry shortly.
+            long timeout = scheduler.getNextReleaseDelay();
+            if (scheduler.hasReadyQueues() && outstandingTransactions.size() < maxOutstandingTransactions) {
+                timeout = 1;
+            }
+            if (timeout >= 0) {
+                startRequeueTimer(Math.max(timeout, 1));
             }
         }
     }
@@ -726,6 +1193,12 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         }
 
         if (setQueueType(node, queue)) {
+            // The profile may have changed - reschedule the queue
+            synchronized (this) {
+                scheduler.remove(queue);
+                scheduler.schedule(queue);
+            }
+
             synchronized (outstandingTransactions) {
                 int sleepyCnt = 0;
                 // The queue type changed - resync the sleepyTransactions counter
@@ -23,4 +23,20 @@ public interface ZigBeeTransactionMatcher {
      * @return true if request matches response
      */
     boolean isTransactionMatch(ZigBeeCommand request, ZigBeeCommand response);
+
+    /**
+     * Gets the {@link ZigBeeTransactionKey} for the request. If a key is returned, the {@link ZigBeeTransactionManager}
+     * will only offer received commands with the same key (as generated by
+     * {@link ZigBeeTransactionKey#forResponse(ZigBeeCommand)}) to this matcher, so the key must not be more restrictive
+     * than {@link #isTransactionMatch(ZigBeeCommand, ZigBeeCommand)}.
+     * <p>
+     * Matchers that can not be indexed return null, in which case every received command will be offered to the
+     * matcher.
+     *
+     * @param request the request {@link ZigBeeCommand}. The transaction ID will be set when this is called.
+     * @return the {@link ZigBeeTransactionKey} used to index the transaction, or null if the matcher is not indexable
+     */
+    default ZigBeeTransactionKey getTransactionKey(ZigBeeCommand request) {
+        return null;
+    }
 }
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+
+/**
+ * Defines the action taken by the {@link ZigBeeTransactionManager} when a transaction is sent while the transaction
+ * queues are full. Transactions that are not sent are completed with a {@link CommandResult} with the status
+ * {@link ZigBeeStatus#QUEUE_FULL}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public enum ZigBeeTransactionOverflowPolicy {
+    /**
+     * The new transaction is completed immediately without being sent
+     */
+    FAIL,
+
+    /**
+     * The thread sending the transaction waits until there is space in the queue. If there is still no space once the
+     * block timeout expires, the new transaction is completed without being sent.
+     */
+    BLOCK,
+
+    /**
+     * The oldest transaction with the same priority waiting in the destination queue is completed without being sent
+     * to make space for the new transaction. If there is no transaction with the same priority waiting in the
+     * destination queue, the new transaction is completed without being sent.
+     */
+    DROP_OLDEST
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * Maintains the adaptive pacing state of a single {@link ZigBeeTransactionQueue} when its
+ * {@link ZigBeeTransactionProfile} is adaptive.
+ * <p>
+ * The pacing is adjusted as each transaction completes, using additive increase and multiplicative decrease -:
+ * <ul>
+ * <li>When a transaction completes successfully, the window of outstanding transactions is increased by one for each
+ * window of successful transactions, and the inter-transaction delay is reduced by {@link #DELAY_STEP}.
+ * <li>When a transaction fails, the window is halved and the inter-transaction delay is doubled.
+ * </ul>
+ * The window is bounded by 1 and {@link ZigBeeTransactionProfile#getMaxAdaptiveTransactions()}, and the delay by
+ * {@link ZigBeeTransactionProfile#getInterTransactionDelay()} and
+ * {@link ZigBeeTransactionProfile#getMaxAdaptiveDelay()}.
+ * <p>
+ * The round trip time of each transaction is measured from when it is sent until it completes, and is used to derive
+ * the transaction timeout in the same way as the TCP retransmission timeout (RFC 6298). Only transactions that
+ * completed on their first attempt are measured, since the response to a retried transaction can not be matched to
+ * the attempt that caused it.
+ * <p>
+ * This class is not thread safe - it is called from the {@link ZigBeeTransactionQueue} while the
+ * {@link ZigBeeTransactionManager} holds its lock.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionPacing {
+    /**
+     * The amount the inter-transaction delay is reduced by after each successful transaction
+     */
+    private static final int DELAY_STEP = 10;
+
+    /**
+     * The minimum transaction timeout in milliseconds
+     */
+    private static final int MIN_TIMEOUT = 1000;
+
+    /**
+     * The maximum transaction timeout in milliseconds
+     */
+    private static final int MAX_TIMEOUT = 10000;
+
+    private final ZigBeeTransactionProfile profile;
+
+    /**
+     * The window of outstanding transactions. This is held as a double so that it can be increased by a fraction of a
+     * transaction after each success.
+     */
+    private double window;
+
+    /**
+     * The current inter-transaction delay in milliseconds
+     */
+    private int delay;
+
+    /**
+     * The smoothed round trip time in milliseconds, or -1 if no round trip time has been measured
+     */
+    private double smoothedRtt = -1;
+
+    /**
+     * The round trip time variation in milliseconds
+     */
+    private double rttVariation;
+
+    /**
+     * The transaction timeout in milliseconds, or -1 if no round trip time has been measured
+     */
+    private int timeout = -1;
+
+    /**
+     * The exponentially weighted failure rate, between 0 and 1
+     */
+    private double failureRate;
+
+    /**
+     * Creates the pacing state, starting with the window and delay configured in the profile
+     *
+     * @param profile the {@link ZigBeeTransactionProfile} providing the limits
+     */
+    ZigBeeTransactionPacing(ZigBeeTransactionProfile profile) {
+        this.profile = profile;
+        window = Math.max(1, Math.min(profile.getMaxOutstandingTransactions(), profile.getMaxAdaptiveTransactions()));
+        delay = profile.getInterTransactionDelay();
+    }
+
+    /**
+     * Updates the pacing when a transaction completes
+     *
+     * @param success true if the transaction completed successfully
+     * @param sendCnt the number of times the transaction was sent
+     * @param roundTripTime the time from when the transaction was last sent until it completed in milliseconds, or
+     *            null if this is not known
+     */
+    void transactionComplete(boolean success, int sendCnt, Long roundTripTime) {
+        int maxWindow = Math.max(1, profile.getMaxAdaptiveTransactions());
+        int minDelay = profile.getInterTransactionDelay();
+        int maxDelay = Math.max(minDelay, profile.getMaxAdaptiveDelay());
+
+        if (success) {
+            failureRate = failureRate * 7 / 8;
+            window = Math.min(maxWindow, window + 1 / window);
+            delay = Math.max(minDelay, delay - DELAY_STEP);
+
+            if (sendCnt == 1 && roundTripTime != null) {
+                updateRoundTripTime(roundTripTime);
+            }
+        } else {
+            failureRate = failureRate * 7 / 8 + 1.0 / 8;
+            window = Math.max(1, Math.min(maxWindow, window / 2));
+            delay = Math.min(maxDelay, Math.max(minDelay + DELAY_STEP, delay * 2));
+
+            // Back off the timeout until we measure a new round trip time
+            if (timeout != -1) {
+                timeout = Math.min(MAX_TIMEOUT, timeout * 2);
+            }
+        }
+    }
+
+    private void updateRoundTripTime(long roundTripTime) {
+        if (smoothedRtt < 0) {
+            smoothedRtt = roundTripTime;
+            rttVariation = roundTripTime / 2.0;
+        } else {
+            rttVariation = rttVariation * 3 / 4 + Math.abs(smoothedRtt - roundTripTime) / 4;
+            smoothedRtt = smoothedRtt * 7 / 8 + roundTripTime / 8.0;
+        }
+        timeout = (int) Math.min(MAX_TIMEOUT, Math.max(MIN_TIMEOUT, smoothedRtt + 4 * rttVariation));
+    }
+
+    /**
+     * Gets the current window - the maximum number of transactions the queue may have outstanding
+     *
+     * @return the maximum number of outstanding transactions
+     */
+    public int getWindow() {
+        return Math.min((int) window, Math.max(1, profile.getMaxAdaptiveTransactions()));
+    }
+
+    /**
+     * Gets the current delay between transactions released from the queue
+     *
+     * @return the inter-transaction delay in milliseconds
+     */
+    public int getInterTransactionDelay() {
+        return Math.max(delay, profile.getInterTransactionDelay());
+    }
+
+    /**
+     * Gets the smoothed round trip time
+     *
+     * @return the smoothed round trip time in milliseconds, or -1 if no round trip time has been measured
+     */
+    public int getRoundTripTime() {
+        return (int) Math.round(smoothedRtt);
+    }
+
+    /**
+     * Gets the transaction timeout derived from the round trip time
+     *
+     * @return the transaction timeout in milliseconds, or -1 if no round trip time has been measured
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Gets the failure rate. This is an exponentially weighted average where each failed transaction counts as 1 and
+     * each successful transaction counts as 0.
+     *
+     * @return the failure rate between 0 and 1
+     */
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeTransactionPacing [window=" + getWindow() + ", delay=" + getInterTransactionDelay() + ", rtt="
+                + getRoundTripTime() + ", timeout=" + timeout + ", failureRate=" + String.format("%.2f", failureRate)
+                + "]";
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * The priority class of a transaction. Transactions with a higher priority are sent before those with a lower
+ * priority - by the node queues in the {@link ZigBeeTransactionManager}, when selecting between the queues of different
+ * nodes, and by transports that support priorities. Transactions within the same priority class are sent in order.
+ * <p>
+ * To avoid lower priority transactions being held indefinitely while there is a continuous stream of higher priority
+ * transactions, the queues periodically release a transaction from the lowest waiting priority class.
+ * <p>
+ * The classes are declared from highest to lowest priority.
+ *
+ * @author Chris Jackson
+ *
+ */
+public enum ZigBeeTransactionPriority {
+    /**
+     * Transactions resulting from user interaction, where the user is waiting for the result
+     */
+    INTERACTIVE,
+
+    /**
+     * The default priority for application transactions
+     */
+    NORMAL,
+
+    /**
+     * Housekeeping transactions such as network discovery and mesh updates
+     */
+    BACKGROUND,
+
+    /**
+     * Large transfers such as OTA upgrade blocks
+     */
+    BULK
+}
@@ -15,6 +15,15 @@ package com.zsmartsystems.zigbee.transaction;
  * <li>Retries
  * <li>Duplicate removal
  * </ul>
+ * <p>
+ * If the profile is adaptive, each queue using the profile adjusts its own window of outstanding transactions and its
+ * inter-transaction delay based on the success of its transactions, and derives the transaction timeout from the
+ * measured round trip time. The window starts at the maximum outstanding transactions, and may grow to the maximum
+ * adaptive transactions. The delay starts at the inter-transaction delay, which is also the minimum, and may grow to
+ * the maximum adaptive delay. See {@link ZigBeeTransactionPacing}.
+ * <p>
+ * A profile is shared by all queues using it, and its settings are read each time a queue is scheduled, so the settings
+ * may be changed while the profile is in use to retune the queues without restarting.
  *
  * @author Chris Jackson
  *
@@ -23,21 +32,38 @@ public class ZigBeeTransactionProfile {
     private static final int RETRIES = 3;
     private static final int TRANSACTIONS = 2;
     private static final int DELAY = 50;
+    private static final int ADAPTIVE_TRANSACTIONS = 8;
+    private static final int ADAPTIVE_DELAY = 2000;
 
     /**
      * The maximum number of outstanding transactions the queue will have outstanding.
      */
-    private int maxOutstandingTransactions;
+    private volatile int maxOutstandingTransactions;
 
     /**
      * The minimum time that will be enforced between sending each packet.
      */
-    private int interTransactionDelay;
+    private volatile int interTransactionDelay;
 
     /**
      * The maximum number of retries that may be attempted
      */
-    private int maxRetries;
+    private volatile int maxRetries;
+
+    /**
+     * True if the queue pacing adapts to the link quality
+     */
+    private volatile boolean adaptive = false;
+
+    /**
+     * The maximum number of outstanding transactions when the profile is adaptive
+     */
+    private volatile int maxAdaptiveTransactions = ADAPTIVE_TRANSACTIONS;
+
+    /**
+     * The maximum inter-transaction delay when the profile is adaptive
+     */
+    private volatile int maxAdaptiveDelay = ADAPTIVE_DELAY;
 
     /**
      * Constructs a {@link ZigBeeTransactionProfile}
@@ -117,9 +143,68 @@ public class ZigBeeTransactionProfile {
         this.maxRetries = maxRetries;
     }
 
+    /**
+     * Returns true if queues using this profile adapt their pacing to the link quality
+     *
+     * @return true if the profile is adaptive
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Sets whether queues using this profile adapt their pacing to the link quality. When adaptive, each queue adjusts
+     * its window of outstanding transactions and its inter-transaction delay, and derives the transaction timeout from
+     * the measured round trip time.
+     *
+     * @param adaptive true if the profile is adaptive
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Gets the maximum number of transactions the queue will release at once when the profile is adaptive.
+     *
+     * @return the maximum adaptive window of outstanding transactions
+     */
+    public int getMaxAdaptiveTransactions() {
+        return maxAdaptiveTransactions;
+    }
+
+    /**
+     * Sets the maximum number of transactions the queue will release at once when the profile is adaptive.
+     *
+     * @param maxAdaptiveTransactions the maximum adaptive window of outstanding transactions
+     */
+    public void setMaxAdaptiveTransactions(int maxAdaptiveTransactions) {
+        this.maxAdaptiveTransactions = maxAdaptiveTransactions;
+    }
+
+    /**
+     * Gets the maximum period between each subsequent command that the queue will release when the profile is
+     * adaptive.
+     *
+     * @return the maximum adaptive inter-transaction delay in milliseconds
+     */
+    public int getMaxAdaptiveDelay() {
+        return maxAdaptiveDelay;
+    }
+
+    /**
+     * Sets the maximum period between each subsequent command that the queue will release when the profile is
+     * adaptive.
+     *
+     * @param maxAdaptiveDelay the maximum adaptive inter-transaction delay in milliseconds
+     */
+    public void setMaxAdaptiveDelay(int maxAdaptiveDelay) {
+        this.maxAdaptiveDelay = maxAdaptiveDelay;
+    }
+
     @Override
     public String toString() {
         return "ZigBeeTransactionProfile [maxOutstandingTransactions=" + maxOutstandingTransactions
-                + ", interTransactionDelay=" + interTransactionDelay + ", maxRetries=" + maxRetries + "]";
+                + ", interTransactionDelay=" + interTransactionDelay + ", maxRetries=" + maxRetries + ", adaptive="
+                + adaptive + "]";
     }
 }
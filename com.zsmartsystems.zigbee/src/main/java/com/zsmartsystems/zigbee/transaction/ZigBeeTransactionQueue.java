@@ -8,7 +8,9 @@
 package com.zsmartsystems.zigbee.transaction;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
@@ -21,8 +23,10 @@ import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
  * This class manages a queue of transactions. The queue provides a number of options when managing the transactions in
  * its queue -:
  * <ul>
- * <li>Priority: Each transaction may have an assigned priority. Higher priority transactions will be sent before lower
- * priority to provide a responsive system.
+ * <li>Priority: Each transaction has a {@link ZigBeeTransactionPriority}. Higher priority transactions will be sent
+ * before lower priority to provide a responsive system. Transactions of the same priority are sent in the order they
+ * were queued. To ensure that the lowest priority transactions are not held indefinitely, a transaction from the lowest
+ * waiting priority is released after {@link #STARVATION_LIMIT} transactions have been sent ahead of it.
  * <li>Maximum number of transactions outstanding: This allows the maximum number of outstanding transactions sent from
  * the queue (and normally therefore, to a single device) to be limited. This may be used to manage broadcasts, where
  * only a limited number of broadcasts should be outstanding within a 7.6 second period, or it may be used to avoid
@@ -30,6 +34,9 @@ import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
  * <li>Duplicates: Duplicate commands may be removed, leaving only the most recent command in the queue.
  * <li>Inter-transaction delay: This may be used to set the minimum delay between any two transactions being sent. This
  * may be required to manage slow devices.
+ * <li>Adaptive pacing: If the profile is adaptive, the maximum number of outstanding transactions and the
+ * inter-transaction delay are adjusted as transactions succeed or fail, and the timeout waiting for the response after
+ * the transmission is confirmed is derived from the measured round trip time.
  * </ul>
  * <p>
  * Normally a queue will be established for each device, or possibly for each type of transaction (eg broadcasts).
@@ -61,7 +68,27 @@ public class ZigBeeTransactionQueue {
 
     private final static int INITIAL_QUEUE_SIZE = 10;
 
-    private final Deque<ZigBeeTransaction> queue = new ArrayDeque<>(INITIAL_QUEUE_SIZE);
+    /**
+     * The number of consecutive transactions that may be released while a lower priority transaction is waiting. Once
+     * this is reached, the next transaction is released from the lowest priority waiting in the queue.
+     */
+    static final int STARVATION_LIMIT = 8;
+
+    /**
+     * The transactions waiting to be sent, with one queue for each {@link ZigBeeTransactionPriority}, indexed by its
+     * ordinal
+     */
+    private final List<Deque<ZigBeeTransaction>> queues = new ArrayList<>();
+
+    /**
+     * The number of transactions waiting in all priorities
+     */
+    private int queueSize = 0;
+
+    /**
+     * The number of consecutive transactions released while a lower priority transaction was waiting
+     */
+    private int starvationCount = 0;
 
     /**
      * The time at which the queue may release the next frame. This is used by the inter-transaction delay pacing
@@ -89,6 +116,11 @@ public class ZigBeeTransactionQueue {
      */
     private ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile();
 
+    /**
+     * The adaptive pacing state if the profile is adaptive. This is created when first used.
+     */
+    private ZigBeeTransactionPacing pacing;
+
     /**
      * Flag to remember if we have shut down this queue
      */
@@ -101,6 +133,18 @@ public class ZigBeeTransactionQueue {
      */
     protected ZigBeeTransactionQueue(String queueName) {
         this.queueName = queueName;
+        for (int cnt = 0; cnt < ZigBeeTransactionPriority.values().length; cnt++) {
+            queues.add(new ArrayDeque<ZigBeeTransaction>(INITIAL_QUEUE_SIZE));
+        }
+    }
+
+    /**
+     * Gets the name of the queue. For node queues this is the {@link com.zsmartsystems.zigbee.IeeeAddress} of the node.
+     *
+     * @return the queue name
+     */
+    public String getQueueName() {
+        return queueName;
     }
 
     /**
@@ -111,8 +155,10 @@ public class ZigBeeTransactionQueue {
         isShutdown = true;
 
         // Cancel any outstanding transactions
-        for (ZigBeeTransaction transaction : queue) {
-            transaction.cancel();
+        for (Deque<ZigBeeTransaction> queue : queues) {
+            for (ZigBeeTransaction transaction : queue) {
+                transaction.cancel();
+            }
         }
     }
 
@@ -122,6 +168,9 @@ public class ZigBeeTransactionQueue {
      * @param profile the {@link ZigBeeTransactionProfile} for this queue
      */
     public void setProfile(ZigBeeTransactionProfile profile) {
+        if (this.profile != profile) {
+            pacing = null;
+        }
         this.profile = profile;
         logger.debug("{}: Set profile to {}", queueName, profile);
     }
@@ -178,18 +227,23 @@ public class ZigBeeTransactionQueue {
             transaction.setFuture(new ZigBeeTransactionFuture());
         }
 
+        ZigBeeTransactionPriority priority = transaction.getPriority();
+        Deque<ZigBeeTransaction> queue = queues
+                .get((priority == null ? ZigBeeTransactionPriority.NORMAL : priority).ordinal());
+        queueSize++;
+
         // Is this the first time this transaction has been added to the queue or is this a retry
         if (transaction.getSendCnt() == 0) {
             // Set the time the transaction is queued - for statistics and monitoring
             transaction.setQueueTime();
-            // First time sending this transaction - add to the end of the queue
+            // First time sending this transaction - add to the end of the queue for its priority
             queue.add(transaction);
         } else {
-            // This is a retry - prioritise this transaction and add to the head of the queue
+            // This is a retry - prioritise this transaction and add to the head of the queue for its priority
             transaction.resetTransaction();
             queue.push(transaction);
         }
-        logger.debug("{}: Added transaction to queue, len={}, transaction={}", queueName, queue.size(), transaction);
+        logger.debug("{}: Added transaction to queue, len={}, transaction={}", queueName, queueSize, transaction);
 
         return transaction.getFuture();
     }
@@ -206,14 +260,99 @@ public class ZigBeeTransactionQueue {
      * @return the {@link ZigBeeTransaction} to send, or null if no transaction is available.
      */
     protected ZigBeeTransaction getTransaction() {
-        if (queue.isEmpty() || nextReleaseTime > System.currentTimeMillis()
-                || outstandingTransactions >= profile.getMaxOutstandingTransactions()) {
+        if (queueSize == 0 || nextReleaseTime > System.currentTimeMillis() || isOutstandingLimitReached()) {
             return null;
         }
+        ZigBeeTransactionPacing currentPacing = getPacing();
         outstandingTransactions++;
-        nextReleaseTime = System.currentTimeMillis() + profile.getInterTransactionDelay();
+        nextReleaseTime = System.currentTimeMillis() + (currentPacing == null ? profile.getInterTransactionDelay()
+                : currentPacing.getInterTransactionDelay());
+
+        int priority = getNextPriorityIndex();
+        starvationCount = isLowerPriorityWaiting(priority) ? starvationCount + 1 : 0;
+        queueSize--;
+        ZigBeeTransaction transaction = queues.get(priority).poll();
+        if (currentPacing != null && currentPacing.getTimeout() != -1) {
+            // Timer 1 runs until the transport confirms the transmission, and includes any queueing in the dongle, so
+            // only timer 2 is set from the measured round trip time
+            transaction.setTimerPeriod2(currentPacing.getTimeout());
+        }
+        return transaction;
+    }
+
+    /**
+     * Removes the oldest transaction waiting to be sent with the specified priority. The transaction is not completed.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority} of the transaction to remove
+     * @return the removed {@link ZigBeeTransaction}, or null if no transaction with the priority is waiting
+     */
+    protected ZigBeeTransaction removeOldest(ZigBeeTransactionPriority priority) {
+        ZigBeeTransaction transaction = queues
+                .get((priority == null ? ZigBeeTransactionPriority.NORMAL : priority).ordinal()).pollFirst();
+        if (transaction != null) {
+            queueSize--;
+            logger.debug("{}: Removed transaction from queue, len={}, transaction={}", queueName, queueSize,
+                    transaction);
+        }
+        return transaction;
+    }
 
-        return queue.poll();
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} of the transaction that will be released next from this queue
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the next transaction, or null if the queue is empty
+     */
+    protected ZigBeeTransactionPriority getNextPriority() {
+        int priority = getNextPriorityIndex();
+        return priority == -1 ? null : ZigBeeTransactionPriority.values()[priority];
+    }
+
+    /**
+     * Gets the index of the priority queue that the next transaction will be taken from. This is the highest priority
+     * with transactions waiting, unless the lowest waiting priority has reached the {@link #STARVATION_LIMIT}.
+     *
+     * @return the index of the priority queue, or -1 if there are no transactions waiting
+     */
+    private int getNextPriorityIndex() {
+        int highest = -1;
+        int lowest = -1;
+        for (int priority = 0; priority < queues.size(); priority++) {
+            if (queues.get(priority).isEmpty()) {
+                continue;
+            }
+            if (highest == -1) {
+                highest = priority;
+            }
+            lowest = priority;
+        }
+        if (highest != lowest && starvationCount >= STARVATION_LIMIT) {
+            return lowest;
+        }
+        return highest;
+    }
+
+    private boolean isLowerPriorityWaiting(int priority) {
+        for (int lower = priority + 1; lower < queues.size(); lower++) {
+            if (!queues.get(lower).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the adaptive pacing state of the queue. This is only available if the {@link ZigBeeTransactionProfile} is
+     * adaptive.
+     *
+     * @return the {@link ZigBeeTransactionPacing} for the queue, or null if the profile is not adaptive
+     */
+    public ZigBeeTransactionPacing getPacing() {
+        if (!profile.isAdaptive()) {
+            pacing = null;
+        } else if (pacing == null) {
+            pacing = new ZigBeeTransactionPacing(profile);
+        }
+        return pacing;
     }
 
     /**
@@ -222,7 +361,7 @@ public class ZigBeeTransactionQueue {
      * @return true if the queue is empty
      */
     protected boolean isEmpty() {
-        return queue.isEmpty();
+        return queueSize == 0;
     }
 
     /**
@@ -230,8 +369,21 @@ public class ZigBeeTransactionQueue {
      *
      * @return the number of transactions currently in the queue
      */
-    protected int size() {
-        return queue.size();
+    public int size() {
+        return queueSize;
+    }
+
+    /**
+     * Returns true if the queue has reached the maximum number of outstanding transactions allowed by its
+     * {@link ZigBeeTransactionProfile}. No further transactions will be released until an outstanding transaction
+     * completes.
+     *
+     * @return true if the queue can not release a transaction until an outstanding transaction completes
+     */
+    protected boolean isOutstandingLimitReached() {
+        ZigBeeTransactionPacing currentPacing = getPacing();
+        return outstandingTransactions >= (currentPacing == null ? profile.getMaxOutstandingTransactions()
+                : currentPacing.getWindow());
     }
 
     /**
@@ -257,6 +409,13 @@ public class ZigBeeTransactionQueue {
         outstandingTransactions--;
         logger.debug("{}: transactionComplete {} {}", queueName, state, outstandingTransactions);
 
+        ZigBeeTransactionPacing currentPacing = getPacing();
+        if (currentPacing != null) {
+            currentPacing.transactionComplete(state == TransactionState.COMPLETE, transaction.getSendCnt(),
+                    transaction.getSendTime());
+            logger.debug("{}: Adaptive pacing updated {}", queueName, currentPacing);
+        }
+
         if (isShutdown) {
             transaction.cancel();
             return;
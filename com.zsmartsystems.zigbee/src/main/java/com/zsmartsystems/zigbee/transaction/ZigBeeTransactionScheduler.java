@@ -0,0 +1,307 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Schedules the {@link ZigBeeTransactionQueue}s that have transactions waiting to be sent. This is used by the
+ * {@link ZigBeeTransactionManager} to select the next queue to send from, without polling every queue.
+ * <p>
+ * Each queue with transactions waiting is held in one of the following states -:
+ * <ul>
+ * <li>Ready: the queue can release a transaction now. Ready queues are grouped by the
+ * {@link ZigBeeTransactionPriority} of the next transaction they will release, and the highest priority group is
+ * served first. Within a group, queues are served in round robin order, with one transaction taken from each queue in
+ * turn, which keeps the transmission fair between queues. To ensure that the lowest priority group is not held
+ * indefinitely, it is served after {@link ZigBeeTransactionQueue#STARVATION_LIMIT} queues have been served ahead of
+ * it.
+ * <li>Waiting: the queue is waiting for its inter-transaction delay to expire. Waiting queues are held in a heap ordered
+ * by the time they can next release a transaction, and are moved to the ready set once this time has passed.
+ * <li>Blocked: the queue has reached its maximum number of outstanding transactions. The queue is not held by the
+ * scheduler and must be added again with {@link #schedule(ZigBeeTransactionQueue)} when one of its transactions
+ * completes.
+ * <li>Parked: the queue is sleepy and the manager has reached its limit of sleepy transactions. Parked queues are
+ * returned to the ready set with {@link #releaseParked()} when a sleepy transaction completes.
+ * </ul>
+ * Queues with no transactions waiting are not held by the scheduler. All costs are O(1) or O(log n) in the number of
+ * queues, so the cost of scheduling does not grow with the number of queues that are waiting to send.
+ * <p>
+ * This class is not thread safe - the {@link ZigBeeTransactionManager} calls it while holding its lock.
+ *
+ * @author Chris Jackson
+ *
+ */
+class ZigBeeTransactionScheduler {
+    private enum QueueState {
+        READY,
+        WAITING,
+        PARKED
+    }
+
+    /**
+     * An entry in the ready set. Entries are invalidated rather than removed from the ready set when a queue is removed
+     * or moves to another priority, so that this does not require a search of the ready set.
+     */
+    private static class ReadyEntry {
+        private final ZigBeeTransactionQueue queue;
+        private final int priority;
+        private boolean valid = true;
+
+        private ReadyEntry(ZigBeeTransactionQueue queue, int priority) {
+            this.queue = queue;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * The queues that can release a transaction now, with one round robin set for each
+     * {@link ZigBeeTransactionPriority}, indexed by its ordinal
+     */
+    private final List<Deque<ReadyEntry>> readyQueues = new ArrayList<>();
+
+    /**
+     * The number of valid entries in each of the {@link #readyQueues}
+     */
+    private final int[] readyCounts = new int[ZigBeeTransactionPriority.values().length];
+
+    /**
+     * The valid ready entry for each queue in the ready set
+     */
+    private final Map<ZigBeeTransactionQueue, ReadyEntry> readyEntries = new HashMap<>();
+
+    /**
+     * The number of consecutive queues served while a lower priority queue was ready
+     */
+    private int starvationCount = 0;
+
+    /**
+     * The queues waiting for their inter-transaction delay, ordered by the time they can next release a transaction
+     */
+    private final PriorityQueue<ZigBeeTransactionQueue> waitingQueues = new PriorityQueue<>(11,
+            new Comparator<ZigBeeTransactionQueue>() {
+                @Override
+                public int compare(ZigBeeTransactionQueue queue1, ZigBeeTransactionQueue queue2) {
+                    return Long.compare(releaseTimes.get(queue1), releaseTimes.get(queue2));
+                }
+            });
+
+    /**
+     * The sleepy queues that can not be served until a sleepy transaction completes
+     */
+    private final List<ZigBeeTransactionQueue> parkedQueues = new ArrayList<>();
+
+    /**
+     * The state of each queue held by the scheduler
+     */
+    private final Map<ZigBeeTransactionQueue, QueueState> queueStates = new HashMap<>();
+
+    /**
+     * The time each waiting queue can next release a transaction. This is recorded when the queue is added to the
+     * heap so the ordering remains stable while it is in the heap.
+     */
+    private final Map<ZigBeeTransactionQueue, Long> releaseTimes = new HashMap<>();
+
+    ZigBeeTransactionScheduler() {
+        for (int cnt = 0; cnt < ZigBeeTransactionPriority.values().length; cnt++) {
+            readyQueues.add(new ArrayDeque<ReadyEntry>());
+        }
+    }
+
+    /**
+     * Adds a queue to the scheduler if it has transactions waiting to be sent. The queue is placed into the ready set
+     * or the waiting heap depending on when it can next release a transaction. If the queue is already in the ready
+     * set, it is moved to the set for the priority of its next transaction if this has changed. Otherwise, if the
+     * queue is already held by the scheduler, this has no effect.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} to schedule
+     */
+    void schedule(ZigBeeTransactionQueue queue) {
+        QueueState state = queueStates.get(queue);
+        if (state == QueueState.READY) {
+            ReadyEntry entry = readyEntries.get(queue);
+            if (entry.priority != getPriority(queue)) {
+                invalidate(entry);
+                addReady(queue);
+            }
+            return;
+        }
+        if (state != null || queue.isEmpty() || queue.isOutstandingLimitReached()) {
+            return;
+        }
+
+        long delay = queue.getNextReleaseTime();
+        if (delay > 0) {
+            queueStates.put(queue, QueueState.WAITING);
+            releaseTimes.put(queue, System.currentTimeMillis() + delay);
+            waitingQueues.add(queue);
+        } else {
+            queueStates.put(queue, QueueState.READY);
+            addReady(queue);
+        }
+    }
+
+    private int getPriority(ZigBeeTransactionQueue queue) {
+        ZigBeeTransactionPriority priority = queue.getNextPriority();
+        return (priority == null ? ZigBeeTransactionPriority.NORMAL : priority).ordinal();
+    }
+
+    private void addReady(ZigBeeTransactionQueue queue) {
+        ReadyEntry entry = new ReadyEntry(queue, getPriority(queue));
+        readyEntries.put(queue, entry);
+        readyQueues.get(entry.priority).addLast(entry);
+        readyCounts[entry.priority]++;
+    }
+
+    private void invalidate(ReadyEntry entry) {
+        entry.valid = false;
+        readyEntries.remove(entry.queue);
+        readyCounts[entry.priority]--;
+        if (readyCounts[entry.priority] == 0) {
+            // Discard any invalid entries once there are no valid entries left
+            readyQueues.get(entry.priority).clear();
+        }
+    }
+
+    /**
+     * Removes a queue from the scheduler
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} to remove
+     */
+    void remove(ZigBeeTransactionQueue queue) {
+        QueueState state = queueStates.remove(queue);
+        if (state == null) {
+            return;
+        }
+        switch (state) {
+            case READY:
+                invalidate(readyEntries.get(queue));
+                break;
+            case WAITING:
+                waitingQueues.remove(queue);
+                releaseTimes.remove(queue);
+                break;
+            case PARKED:
+                parkedQueues.remove(queue);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Gets the next queue that can release a transaction now, removing it from the scheduler. Once the caller has taken
+     * a transaction from the queue, it should call {@link #schedule(ZigBeeTransactionQueue)} to return the queue to
+     * the scheduler.
+     *
+     * @return the next {@link ZigBeeTransactionQueue} to send from, or null if no queues are ready
+     */
+    ZigBeeTransactionQueue nextReadyQueue() {
+        while (!waitingQueues.isEmpty() && waitingQueues.peek().getNextReleaseTime() == 0) {
+            ZigBeeTransactionQueue queue = waitingQueues.poll();
+            releaseTimes.remove(queue);
+            queueStates.put(queue, QueueState.READY);
+            addReady(queue);
+        }
+
+        int highest = -1;
+        int lowest = -1;
+        for (int priority = 0; priority < readyCounts.length; priority++) {
+            if (readyCounts[priority] == 0) {
+                continue;
+            }
+            if (highest == -1) {
+                highest = priority;
+            }
+            lowest = priority;
+        }
+        if (highest == -1) {
+            return null;
+        }
+
+        int priority = highest;
+        if (highest != lowest && starvationCount >= ZigBeeTransactionQueue.STARVATION_LIMIT) {
+            priority = lowest;
+        }
+        starvationCount = priority == lowest ? 0 : starvationCount + 1;
+
+        Deque<ReadyEntry> ready = readyQueues.get(priority);
+        ReadyEntry entry = ready.pollFirst();
+        while (!entry.valid) {
+            entry = ready.pollFirst();
+        }
+        invalidate(entry);
+        queueStates.remove(entry.queue);
+        return entry.queue;
+    }
+
+    /**
+     * Parks a sleepy queue until {@link #releaseParked()} is called
+     *
+     * @param queue the sleepy {@link ZigBeeTransactionQueue} to park
+     */
+    void park(ZigBeeTransactionQueue queue) {
+        if (queueStates.containsKey(queue)) {
+            return;
+        }
+        queueStates.put(queue, QueueState.PARKED);
+        parkedQueues.add(queue);
+    }
+
+    /**
+     * Returns all parked queues to the scheduler
+     */
+    void releaseParked() {
+        if (parkedQueues.isEmpty()) {
+            return;
+        }
+        List<ZigBeeTransactionQueue> queues = new ArrayList<>(parkedQueues);
+        parkedQueues.clear();
+        for (ZigBeeTransactionQueue queue : queues) {
+            queueStates.remove(queue);
+            schedule(queue);
+        }
+    }
+
+    /**
+     * Gets the number of milliseconds until the next waiting queue can release a transaction
+     *
+     * @return the number of milliseconds until a waiting queue is ready, or -1 if no queues are waiting
+     */
+    long getNextReleaseDelay() {
+        if (waitingQueues.isEmpty()) {
+            return -1;
+        }
+        return waitingQueues.peek().getNextReleaseTime();
+    }
+
+    /**
+     * Returns true if there are queues in the ready set
+     *
+     * @return true if at least one queue can release a transaction now
+     */
+    boolean hasReadyQueues() {
+        return !readyEntries.isEmpty();
+    }
+
+    /**
+     * Gets the number of queues held by the scheduler
+     *
+     * @return the number of queues held by the scheduler
+     */
+    int size() {
+        return queueStates.size();
+    }
+}
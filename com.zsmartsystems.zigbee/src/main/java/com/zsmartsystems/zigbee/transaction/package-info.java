@@ -10,7 +10,9 @@
  * The {@link ZigBeeTransactionManager} manages the overall transaction process. It acts as the central configuration
  * interface for configuring the transaction subsystem, and handles sending and receiving of commands. It gets
  * transactions from the different queues, selecting a queue randomly, and enforces an overall maximum number of
- * transactions that can be outstanding.
+ * transactions that can be outstanding. Received commands are correlated with outstanding transactions using the
+ * {@link ZigBeeTransactionKey} provided by the {@link ZigBeeTransactionMatcher}, so that a command is only offered to the
+ * transactions it may complete.
  * <p>
  * The {@link ZigBeeTransactionQueue} handles the transactions for a single queue. A queue is established for each node,
  * along with broadcasts and multicast message queues. The {@link ZigBeeTransactionQueue} enforces the maximum number of
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
+
+/**
+ * The queue of frames waiting to be sent to a dongle by a transport layer. Frames are returned in order of their
+ * {@link ZigBeeTransactionPriority}, and frames of the same priority are returned in the order they were added.
+ * <p>
+ * Priority starvation is handled by the transaction queues in the framework, so this queue strictly orders the frames
+ * by their priority. This class is thread safe.
+ *
+ * @author Chris Jackson
+ *
+ * @param <T> the type of frame held in the queue
+ */
+public class ZigBeeTransportFrameQueue<T> {
+    private static class QueuedFrame<T> {
+        private final T frame;
+        private final int priority;
+        private final long order;
+
+        private QueuedFrame(T frame, ZigBeeTransactionPriority priority, long order) {
+            this.frame = frame;
+            this.priority = (priority == null ? ZigBeeTransactionPriority.NORMAL : priority).ordinal();
+            this.order = order;
+        }
+    }
+
+    private final PriorityQueue<QueuedFrame<T>> queue = new PriorityQueue<>(11, new Comparator<QueuedFrame<T>>() {
+        @Override
+        public int compare(QueuedFrame<T> frame1, QueuedFrame<T> frame2) {
+            if (frame1.priority != frame2.priority) {
+                return Integer.compare(frame1.priority, frame2.priority);
+            }
+            return Long.compare(frame1.order, frame2.order);
+        }
+    });
+
+    /**
+     * The maximum number of frames that can be held in the queue
+     */
+    private final int capacity;
+
+    /**
+     * Counter used to maintain the order of frames of the same priority
+     */
+    private long nextOrder = 0;
+
+    /**
+     * Creates a queue with no limit on the number of frames
+     */
+    public ZigBeeTransportFrameQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a queue holding a limited number of frames
+     *
+     * @param capacity the maximum number of frames that can be held in the queue
+     */
+    public ZigBeeTransportFrameQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a frame to the queue
+     *
+     * @param frame the frame to add
+     * @param priority the {@link ZigBeeTransactionPriority} of the frame. If null, the frame is queued with
+     *            {@link ZigBeeTransactionPriority#NORMAL} priority.
+     * @throws IllegalStateException if the queue is full
+     */
+    public synchronized void add(T frame, ZigBeeTransactionPriority priority) {
+        if (queue.size() >= capacity) {
+            throw new IllegalStateException("Transport frame queue full");
+        }
+        queue.add(new QueuedFrame<T>(frame, priority, nextOrder++));
+    }
+
+    /**
+     * Removes the highest priority frame from the queue
+     *
+     * @return the next frame to send, or null if the queue is empty
+     */
+    public synchronized T poll() {
+        QueuedFrame<T> frame = queue.poll();
+        return frame == null ? null : frame.frame;
+    }
+
+    /**
+     * Gets the number of frames in the queue
+     *
+     * @return the number of frames waiting to be sent
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns true if there are no frames in the queue
+     *
+     * @return true if the queue is empty
+     */
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Removes all frames from the queue
+     */
+    public synchronized void clear() {
+        queue.clear();
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeNwkAddressMode;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+
+/**
+ * Reads the {@link ZigBeeCaptureRecord}s from a capture file written by {@link ZigBeeCaptureWriter}. A record that is
+ * truncated at the end of the file, for example if the system stopped while the capture was being written, is treated
+ * as the end of the capture.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeCaptureReader implements Closeable {
+    private final DataInputStream inputStream;
+
+    /**
+     * Opens a capture file
+     *
+     * @param file the capture {@link File}
+     * @throws IOException if the file can not be opened or is not a capture file
+     */
+    public ZigBeeCaptureReader(File file) throws IOException {
+        this(new FileInputStream(file));
+    }
+
+    /**
+     * Reads a capture from an {@link InputStream}
+     *
+     * @param inputStream the {@link InputStream} to read from
+     * @throws IOException if the stream is not a capture
+     */
+    public ZigBeeCaptureReader(InputStream inputStream) throws IOException {
+        this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        if (this.inputStream.readInt() != ZigBeeCaptureWriter.MAGIC) {
+            this.inputStream.close();
+            throw new IOException("Not a ZigBee capture file");
+        }
+        int version = this.inputStream.readUnsignedByte();
+        if (version != ZigBeeCaptureWriter.VERSION) {
+            this.inputStream.close();
+            throw new IOException("Unsupported ZigBee capture version " + version);
+        }
+    }
+
+    /**
+     * Reads the next record from the capture
+     *
+     * @return the next {@link ZigBeeCaptureRecord} or null at the end of the capture
+     * @throws IOException if the capture can not be read or contains an unknown record
+     */
+    public ZigBeeCaptureRecord read() throws IOException {
+        int typeCode = inputStream.read();
+        if (typeCode == -1) {
+            return null;
+        }
+        ZigBeeCaptureRecordType type = ZigBeeCaptureRecordType.getType(typeCode);
+        if (type == null) {
+            throw new IOException("Unknown ZigBee capture record type " + typeCode);
+        }
+
+        try {
+            long timestamp = inputStream.readLong();
+            switch (type) {
+                case TX_FRAME:
+                    int msgTag = inputStream.readInt();
+                    return new ZigBeeCaptureRecord(type, timestamp, msgTag, readFrame(), null);
+                case RX_FRAME:
+                    return new ZigBeeCaptureRecord(type, timestamp, -1, readFrame(), null);
+                case PROGRESS:
+                    int progressTag = inputStream.readInt();
+                    int state = inputStream.readUnsignedByte();
+                    if (state >= ZigBeeTransportProgressState.values().length) {
+                        throw new IOException("Unknown ZigBee capture progress state " + state);
+                    }
+                    return new ZigBeeCaptureRecord(type, timestamp, progressTag, null,
+                            ZigBeeTransportProgressState.values()[state]);
+                default:
+                    return null;
+            }
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private ZigBeeApsFrame readFrame() throws IOException {
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        int flags = inputStream.readUnsignedByte();
+        if ((flags & ZigBeeCaptureWriter.FLAG_ADDRESS_MODE) != 0) {
+            apsFrame.setAddressMode((flags & ZigBeeCaptureWriter.FLAG_GROUP) != 0 ? ZigBeeNwkAddressMode.GROUP
+                    : ZigBeeNwkAddressMode.DEVICE);
+        }
+        apsFrame.setSecurityEnabled((flags & ZigBeeCaptureWriter.FLAG_SECURITY) != 0);
+        apsFrame.setSourceAddress(inputStream.readUnsignedShort());
+        apsFrame.setDestinationAddress(inputStream.readUnsignedShort());
+        if ((flags & ZigBeeCaptureWriter.FLAG_IEEE_ADDRESS) != 0) {
+            int[] address = new int[8];
+            for (int cnt = 0; cnt < address.length; cnt++) {
+                address[cnt] = inputStream.readUnsignedByte();
+            }
+            apsFrame.setDestinationIeeeAddress(new IeeeAddress(address));
+        }
+        apsFrame.setSourceEndpoint(inputStream.readUnsignedByte());
+        apsFrame.setDestinationEndpoint(inputStream.readUnsignedByte());
+        apsFrame.setProfile(inputStream.readUnsignedShort());
+        apsFrame.setCluster(inputStream.readUnsignedShort());
+        apsFrame.setGroupAddress(inputStream.readUnsignedShort());
+        apsFrame.setRadius(inputStream.readUnsignedByte());
+        apsFrame.setNonMemberRadius(inputStream.readUnsignedByte());
+        apsFrame.setApsCounter(inputStream.readShort());
+
+        byte[] payload = new byte[inputStream.readUnsignedShort()];
+        inputStream.readFully(payload);
+        apsFrame.setPayload(ByteBuffer.wrap(payload));
+        return apsFrame;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
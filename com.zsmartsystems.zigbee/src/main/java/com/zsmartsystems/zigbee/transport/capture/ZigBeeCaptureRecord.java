@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+
+/**
+ * A single entry in a capture file. Frame records hold the {@link ZigBeeApsFrame}, and progress records hold the
+ * {@link ZigBeeTransportProgressState}. Transmitted frames and progress records also hold the message tag used by the
+ * transport to correlate the two.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeCaptureRecord {
+    private final ZigBeeCaptureRecordType type;
+    private final long timestamp;
+    private final int msgTag;
+    private final ZigBeeApsFrame apsFrame;
+    private final ZigBeeTransportProgressState state;
+
+    /**
+     * Creates a record
+     *
+     * @param type the {@link ZigBeeCaptureRecordType}
+     * @param timestamp the time of the record in microseconds since the epoch
+     * @param msgTag the message tag, or -1 if the record has no tag
+     * @param apsFrame the {@link ZigBeeApsFrame} for frame records, or null
+     * @param state the {@link ZigBeeTransportProgressState} for progress records, or null
+     */
+    public ZigBeeCaptureRecord(ZigBeeCaptureRecordType type, long timestamp, int msgTag, ZigBeeApsFrame apsFrame,
+            ZigBeeTransportProgressState state) {
+        this.type = type;
+        this.timestamp = timestamp;
+        this.msgTag = msgTag;
+        this.apsFrame = apsFrame;
+        this.state = state;
+    }
+
+    /**
+     * Gets the type of the record
+     *
+     * @return the {@link ZigBeeCaptureRecordType}
+     */
+    public ZigBeeCaptureRecordType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the time the record was captured
+     *
+     * @return the time in microseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the message tag of a transmitted frame or progress state
+     *
+     * @return the message tag, or -1 if the record has no tag
+     */
+    public int getMsgTag() {
+        return msgTag;
+    }
+
+    /**
+     * Gets the frame of a {@link ZigBeeCaptureRecordType#TX_FRAME} or {@link ZigBeeCaptureRecordType#RX_FRAME} record
+     *
+     * @return the {@link ZigBeeApsFrame} or null if this is not a frame record
+     */
+    public ZigBeeApsFrame getApsFrame() {
+        return apsFrame;
+    }
+
+    /**
+     * Gets the state of a {@link ZigBeeCaptureRecordType#PROGRESS} record
+     *
+     * @return the {@link ZigBeeTransportProgressState} or null if this is not a progress record
+     */
+    public ZigBeeTransportProgressState getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeCaptureRecord [type=" + type + ", timestamp=" + timestamp + ", msgTag=" + msgTag
+                + ", apsFrame=" + apsFrame + ", state=" + state + "]";
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The type of a {@link ZigBeeCaptureRecord}
+ *
+ * @author Chris Jackson
+ *
+ */
+public enum ZigBeeCaptureRecordType {
+    /**
+     * An APS frame sent by the framework to the transport
+     */
+    TX_FRAME(0x01),
+
+    /**
+     * An APS frame received by the framework from the transport
+     */
+    RX_FRAME(0x02),
+
+    /**
+     * A transport progress state received by the framework from the transport
+     */
+    PROGRESS(0x03);
+
+    private static Map<Integer, ZigBeeCaptureRecordType> codeMapping;
+
+    private final int key;
+
+    private ZigBeeCaptureRecordType(int key) {
+        this.key = key;
+    }
+
+    private static void initMapping() {
+        codeMapping = new HashMap<Integer, ZigBeeCaptureRecordType>();
+        for (ZigBeeCaptureRecordType s : values()) {
+            codeMapping.put(s.key, s);
+        }
+    }
+
+    /**
+     * Lookup function based on the type code. Returns null if the code does not exist
+     *
+     * @param code the code to lookup
+     * @return enumeration value or null if the code is not known.
+     */
+    public static ZigBeeCaptureRecordType getType(int code) {
+        if (codeMapping == null) {
+            initMapping();
+        }
+
+        return codeMapping.get(code);
+    }
+
+    /**
+     * Returns the type code used in the capture file
+     *
+     * @return the type code
+     */
+    public int getKey() {
+        return key;
+    }
+}
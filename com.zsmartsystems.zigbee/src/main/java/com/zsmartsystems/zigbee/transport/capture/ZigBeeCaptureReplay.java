@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+
+/**
+ * Replays a capture recorded by {@link ZigBeeTransportCapture} into a {@link ZigBeeTransportReceive}, normally the
+ * {@link ZigBeeNetworkManager}. Received frames are passed to {@link ZigBeeTransportReceive#receiveCommand} and
+ * progress states to {@link ZigBeeTransportReceive#receiveCommandState}. Transmitted frames are skipped as these are
+ * generated by the framework itself.
+ * <p>
+ * The capture may be replayed at the original speed, at a multiple of the original speed, or as fast as possible. Note
+ * that the message tags in the capture will not match transactions sent by the framework during the replay, so
+ * progress states will normally be ignored by the transaction manager unless the replay is to a test harness.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeCaptureReplay {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeCaptureReplay.class);
+
+    private final ZigBeeCaptureReader reader;
+    private final ZigBeeTransportReceive transportReceive;
+
+    private double speed = 1.0;
+    private boolean replayProgress = true;
+
+    /**
+     * Creates the replay driver
+     *
+     * @param reader the {@link ZigBeeCaptureReader} to read the capture
+     * @param transportReceive the {@link ZigBeeTransportReceive} to feed the capture into
+     */
+    public ZigBeeCaptureReplay(ZigBeeCaptureReader reader, ZigBeeTransportReceive transportReceive) {
+        this.reader = reader;
+        this.transportReceive = transportReceive;
+    }
+
+    /**
+     * Sets the replay speed as a multiple of the original speed. A speed of 1 replays at the original speed, and a
+     * speed of 0 replays as fast as possible. Defaults to 1.
+     *
+     * @param speed the replay speed
+     */
+    public void setSpeed(double speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Replay speed must not be negative");
+        }
+        this.speed = speed;
+    }
+
+    /**
+     * Sets if transport progress states are replayed. Defaults to true.
+     *
+     * @param replayProgress true to replay progress states
+     */
+    public void setReplayProgress(boolean replayProgress) {
+        this.replayProgress = replayProgress;
+    }
+
+    /**
+     * Replays the capture. This blocks the calling thread until the end of the capture.
+     *
+     * @return the number of records passed to the {@link ZigBeeTransportReceive}
+     * @throws IOException if the capture can not be read
+     * @throws InterruptedException if the thread is interrupted while waiting for the next record
+     */
+    public int replay() throws IOException, InterruptedException {
+        int count = 0;
+        long firstTimestamp = 0;
+        long startTime = System.nanoTime();
+
+        ZigBeeCaptureRecord record;
+        while ((record = reader.read()) != null) {
+            if (record.getType() == ZigBeeCaptureRecordType.TX_FRAME
+                    || (record.getType() == ZigBeeCaptureRecordType.PROGRESS && !replayProgress)) {
+                continue;
+            }
+
+            if (count == 0) {
+                firstTimestamp = record.getTimestamp();
+            } else if (speed != 0) {
+                long due = startTime
+                        + (long) (TimeUnit.MICROSECONDS.toNanos(record.getTimestamp() - firstTimestamp) / speed);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            }
+
+            switch (record.getType()) {
+                case RX_FRAME:
+                    transportReceive.receiveCommand(record.getApsFrame());
+                    break;
+                case PROGRESS:
+                    transportReceive.receiveCommandState(record.getMsgTag(), record.getState());
+                    break;
+                default:
+                    break;
+            }
+            count++;
+        }
+
+        logger.debug("Replayed {} ZigBee capture records in {}ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return count;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import com.zsmartsystems.zigbee.ZigBeeNwkAddressMode;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+
+/**
+ * Writes {@link ZigBeeCaptureRecord}s to a compact binary capture file. The file is append only, so a capture may be
+ * continued across restarts of the framework.
+ * <p>
+ * The file starts with the 4 byte magic number "ZBCP" and a one byte format version, followed by the records. All
+ * values are big endian. Each record is -:
+ * <ul>
+ * <li>1 byte record type (see {@link ZigBeeCaptureRecordType#getKey()})
+ * <li>8 byte timestamp in microseconds since the epoch
+ * <li>4 byte message tag for {@link ZigBeeCaptureRecordType#TX_FRAME} and {@link ZigBeeCaptureRecordType#PROGRESS}
+ * records
+ * <li>1 byte progress state ordinal for {@link ZigBeeCaptureRecordType#PROGRESS} records
+ * <li>the APS frame for {@link ZigBeeCaptureRecordType#TX_FRAME} and {@link ZigBeeCaptureRecordType#RX_FRAME} records
+ * </ul>
+ * The APS frame is written as a flags byte (address mode present, group address mode, security enabled and destination
+ * IEEE address present), the source and destination addresses (2 bytes each), the optional destination IEEE address
+ * (8 bytes), the source and destination endpoints (1 byte each), the profile, cluster and group address (2 bytes
+ * each), the radius and non member radius (1 byte each), the APS counter (2 bytes, -1 if not set), and the payload
+ * length (2 bytes) and payload.
+ * <p>
+ * Records are buffered - {@link #flush()} or {@link #close()} must be called to ensure they are written to the file.
+ * This class is thread safe.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeCaptureWriter implements Closeable {
+    /**
+     * The magic number at the start of the capture file
+     */
+    static final int MAGIC = 0x5A424350;
+
+    /**
+     * The current file format version
+     */
+    static final int VERSION = 1;
+
+    static final int FLAG_ADDRESS_MODE = 0x01;
+    static final int FLAG_GROUP = 0x02;
+    static final int FLAG_SECURITY = 0x04;
+    static final int FLAG_IEEE_ADDRESS = 0x08;
+
+    private final DataOutputStream outputStream;
+
+    private final long startMicros = System.currentTimeMillis() * 1000;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Creates a writer that appends to a capture file. The file header is written if the file does not exist or is
+     * empty.
+     *
+     * @param file the capture {@link File}
+     * @throws IOException if the file can not be opened
+     */
+    public ZigBeeCaptureWriter(File file) throws IOException {
+        boolean newFile = !file.exists() || file.length() == 0;
+        outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        if (newFile) {
+            writeHeader();
+        }
+    }
+
+    /**
+     * Creates a writer that writes a new capture to an {@link OutputStream}
+     *
+     * @param outputStream the {@link OutputStream} to write to
+     * @throws IOException if the header can not be written
+     */
+    public ZigBeeCaptureWriter(OutputStream outputStream) throws IOException {
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        writeHeader();
+    }
+
+    private void writeHeader() throws IOException {
+        outputStream.writeInt(MAGIC);
+        outputStream.writeByte(VERSION);
+    }
+
+    /**
+     * Gets the current time to use as the record timestamp. This uses the monotonic clock so that the intervals between
+     * records are accurate.
+     *
+     * @return the current time in microseconds since the epoch
+     */
+    public long getTimestamp() {
+        return startMicros + (System.nanoTime() - startNanos) / 1000;
+    }
+
+    /**
+     * Writes a record to the capture
+     *
+     * @param record the {@link ZigBeeCaptureRecord} to write
+     * @throws IOException if the record can not be written
+     */
+    public synchronized void write(ZigBeeCaptureRecord record) throws IOException {
+        outputStream.writeByte(record.getType().getKey());
+        outputStream.writeLong(record.getTimestamp());
+        switch (record.getType()) {
+            case TX_FRAME:
+                outputStream.writeInt(record.getMsgTag());
+                writeFrame(record.getApsFrame());
+                break;
+            case RX_FRAME:
+                writeFrame(record.getApsFrame());
+                break;
+            case PROGRESS:
+                outputStream.writeInt(record.getMsgTag());
+                outputStream.writeByte(record.getState().ordinal());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void writeFrame(ZigBeeApsFrame apsFrame) throws IOException {
+        int flags = 0;
+        if (apsFrame.getAddressMode() != null) {
+            flags |= FLAG_ADDRESS_MODE;
+            if (apsFrame.getAddressMode() == ZigBeeNwkAddressMode.GROUP) {
+                flags |= FLAG_GROUP;
+            }
+        }
+        if (apsFrame.getSecurityEnabled()) {
+            flags |= FLAG_SECURITY;
+        }
+        if (apsFrame.getDestinationIeeeAddress() != null) {
+            flags |= FLAG_IEEE_ADDRESS;
+        }
+        outputStream.writeByte(flags);
+        outputStream.writeShort(apsFrame.getSourceAddress());
+        outputStream.writeShort(apsFrame.getDestinationAddress());
+        if (apsFrame.getDestinationIeeeAddress() != null) {
+            for (int value : apsFrame.getDestinationIeeeAddress().getValue()) {
+                outputStream.writeByte(value);
+            }
+        }
+        outputStream.writeByte(apsFrame.getSourceEndpoint());
+        outputStream.writeByte(apsFrame.getDestinationEndpoint());
+        outputStream.writeShort(apsFrame.getProfile());
+        outputStream.writeShort(apsFrame.getCluster());
+        outputStream.writeShort(apsFrame.getGroupAddress());
+        outputStream.writeByte(apsFrame.getRadius());
+        outputStream.writeByte(apsFrame.getNonMemberRadius());
+        outputStream.writeShort(apsFrame.getApsCounter());
+
+        ByteBuffer payload = apsFrame.getPayloadBuffer();
+        if (payload == null) {
+            outputStream.writeShort(0);
+            return;
+        }
+        outputStream.writeShort(payload.remaining());
+        if (payload.hasArray()) {
+            outputStream.write(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        } else {
+            while (payload.hasRemaining()) {
+                outputStream.writeByte(payload.get());
+            }
+        }
+    }
+
+    /**
+     * Writes any buffered records to the file
+     *
+     * @throws IOException if the records can not be written
+     */
+    public synchronized void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeChannel;
+import com.zsmartsystems.zigbee.ZigBeeNodeStatus;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.transport.TransportConfig;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+
+/**
+ * A capture tap that sits between the {@link ZigBeeTransportTransmit} and the framework. All APS frames sent to and
+ * received from the transport, and the transport progress states, are passed through unchanged and recorded with a
+ * {@link ZigBeeCaptureWriter}. The capture can later be fed back into the framework with {@link ZigBeeCaptureReplay}.
+ * <p>
+ * To use the tap, wrap the transport before it is passed to the network manager -:
+ *
+ * <pre>
+ * ZigBeeCaptureWriter writer = new ZigBeeCaptureWriter(new File("zigbee.cap"));
+ * ZigBeeNetworkManager networkManager = new ZigBeeNetworkManager(new ZigBeeTransportCapture(dongle, writer));
+ * </pre>
+ *
+ * The writer is closed when the transport is shut down. Note that the tap only implements
+ * {@link ZigBeeTransportTransmit}, so other interfaces implemented by the transport (eg firmware update) are not
+ * available through the tap. Errors writing the capture are logged, and do not affect the communication.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransportCapture implements ZigBeeTransportTransmit, ZigBeeTransportReceive {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeTransportCapture.class);
+
+    private final ZigBeeTransportTransmit transport;
+    private final ZigBeeCaptureWriter writer;
+
+    private ZigBeeTransportReceive transportReceive;
+
+    /**
+     * Creates the capture tap
+     *
+     * @param transport the {@link ZigBeeTransportTransmit} to capture
+     * @param writer the {@link ZigBeeCaptureWriter} to record the capture
+     */
+    public ZigBeeTransportCapture(ZigBeeTransportTransmit transport, ZigBeeCaptureWriter writer) {
+        this.transport = transport;
+        this.writer = writer;
+    }
+
+    private void capture(ZigBeeCaptureRecordType type, int msgTag, ZigBeeApsFrame apsFrame,
+            ZigBeeTransportProgressState state) {
+        try {
+            writer.write(new ZigBeeCaptureRecord(type, writer.getTimestamp(), msgTag, apsFrame, state));
+        } catch (IOException e) {
+            logger.debug("Error writing ZigBee capture: ", e);
+        }
+    }
+
+    @Override
+    public ZigBeeStatus initialize() {
+        return transport.initialize();
+    }
+
+    @Override
+    public ZigBeeStatus startup(boolean reinitialize) {
+        return transport.startup(reinitialize);
+    }
+
+    @Override
+    public void shutdown() {
+        transport.shutdown();
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.debug("Error closing ZigBee capture: ", e);
+        }
+    }
+
+    @Override
+    public String getVersionString() {
+        return transport.getVersionString();
+    }
+
+    @Override
+    public IeeeAddress getIeeeAddress() {
+        return transport.getIeeeAddress();
+    }
+
+    @Override
+    public Integer getNwkAddress() {
+        return transport.getNwkAddress();
+    }
+
+    @Override
+    public void sendCommand(int msgTag, ZigBeeApsFrame apsFrame) {
+        capture(ZigBeeCaptureRecordType.TX_FRAME, msgTag, apsFrame, null);
+        transport.sendCommand(msgTag, apsFrame);
+    }
+
+    @Override
+    public void setZigBeeTransportReceive(ZigBeeTransportReceive zigbeeTransportReceive) {
+        transportReceive = zigbeeTransportReceive;
+        transport.setZigBeeTransportReceive(this);
+    }
+
+    @Override
+    public ZigBeeChannel getZigBeeChannel() {
+        return transport.getZigBeeChannel();
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeChannel(ZigBeeChannel channel) {
+        return transport.setZigBeeChannel(channel);
+    }
+
+    @Override
+    public int getZigBeePanId() {
+        return transport.getZigBeePanId();
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeePanId(int panId) {
+        return transport.setZigBeePanId(panId);
+    }
+
+    @Override
+    public ExtendedPanId getZigBeeExtendedPanId() {
+        return transport.getZigBeeExtendedPanId();
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeExtendedPanId(ExtendedPanId panId) {
+        return transport.setZigBeeExtendedPanId(panId);
+    }
+
+    @Override
+    public ZigBeeStatus setZigBeeNetworkKey(ZigBeeKey key) {
+        return transport.setZigBeeNetworkKey(key);
+    }
+
+    @Override
+    public ZigBeeKey getZigBeeNetworkKey() {
+        return transport.getZigBeeNetworkKey();
+    }
+
+    @Override
+    public ZigBeeStatus setTcLinkKey(ZigBeeKey key) {
+        return transport.setTcLinkKey(key);
+    }
+
+    @Override
+    public ZigBeeKey getTcLinkKey() {
+        return transport.getTcLinkKey();
+    }
+
+    @Override
+    public void updateTransportConfig(TransportConfig configuration) {
+        transport.updateTransportConfig(configuration);
+    }
+
+    @Override
+    public void receiveCommand(ZigBeeApsFrame apsFrame) {
+        capture(ZigBeeCaptureRecordType.RX_FRAME, -1, apsFrame, null);
+        transportReceive.receiveCommand(apsFrame);
+    }
+
+    @Override
+    public void setTransportState(ZigBeeTransportState state) {
+        transportReceive.setTransportState(state);
+    }
+
+    @Override
+    public void nodeStatusUpdate(ZigBeeNodeStatus deviceStatus, Integer networkAddress, IeeeAddress ieeeAddress) {
+        transportReceive.nodeStatusUpdate(deviceStatus, networkAddress, ieeeAddress);
+    }
+
+    @Override
+    public void receiveCommandState(int msgTag, ZigBeeTransportProgressState state) {
+        capture(ZigBeeCaptureRecordType.PROGRESS, msgTag, null, state);
+        transportReceive.receiveCommandState(msgTag, state);
+    }
+}
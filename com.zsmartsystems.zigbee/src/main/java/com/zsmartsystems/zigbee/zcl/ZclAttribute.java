@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.zcl;
 
 import java.util.Calendar;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 
 import com.zsmartsystems.zigbee.CommandResult;
@@ -177,21 +179,63 @@ public class ZclAttribute {
         this.manufacturerCode = manufacturerCode;
     }
 
+    /**
+     * Constructor used to set the static information from a shared {@link ZclAttributeDefinition}
+     *
+     * @param cluster the {@link ZclCluster} to which the attribute belongs
+     * @param definition the {@link ZclAttributeDefinition} for the attribute
+     */
+    public ZclAttribute(final ZclCluster cluster, final ZclAttributeDefinition definition) {
+        this.cluster = cluster;
+        this.id = definition.getId();
+        this.name = definition.getName();
+        this.dataType = definition.getDataType();
+        this.mandatory = definition.isMandatory();
+        this.readable = definition.isReadable();
+        this.writable = definition.isWritable();
+        this.reportable = definition.isReportable();
+        this.manufacturerCode = definition.getManufacturerCode();
+    }
+
     /**
      * Returns the value of the attribute. If the current value is newer than refreshPeriod (in milliseconds) then the
      * current value will be returned, otherwise the value will be requested from the remote device.
+     * <p>
+     * If the cluster defines a longer cache time for this attribute (see {@link ZclCluster#setValueCacheTime(long)}),
+     * this is used in place of the refreshPeriod. Concurrent requests for the value from the remote device share a
+     * single read.
      *
      * @param refreshPeriod the number of milliseconds to consider the value current
      * @return an Object with the attribute value, or null on error
      */
     public Object readValue(long refreshPeriod) {
-        if (isLastValueCurrent(refreshPeriod)) {
+        if (isLastValueCurrent(getRefreshPeriod(refreshPeriod))) {
             return getLastValue();
         }
 
         return cluster.readAttributeValue(id);
     }
 
+    /**
+     * Returns the value of the attribute without blocking. If the current value is newer than refreshPeriod (in
+     * milliseconds) then the returned stage is already completed with the current value, otherwise the value will be
+     * requested from the remote device. See {@link #readValue(long)}.
+     *
+     * @param refreshPeriod the number of milliseconds to consider the value current
+     * @return a {@link CompletionStage} completed with the attribute value, or null on error
+     */
+    public CompletionStage<Object> readValueAsync(long refreshPeriod) {
+        if (isLastValueCurrent(getRefreshPeriod(refreshPeriod))) {
+            return CompletableFuture.completedFuture(getLastValue());
+        }
+
+        return cluster.readAttributeValueAsync(id);
+    }
+
+    private long getRefreshPeriod(long refreshPeriod) {
+        return Math.max(refreshPeriod, cluster.getValueCacheTime(id));
+    }
+
     /**
      * Write the attribute value
      *
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Immutable definition of a Cluster Library Attribute. This holds the static information about an attribute as defined
+ * in the ZCL specification, and is shared between all instances of a cluster. The per-instance state (eg the last
+ * value and reporting configuration) is held in the {@link ZclAttribute} which is only created when the attribute is
+ * used.
+ *
+ * @author Chris Jackson
+ *
+ */
+public final class ZclAttributeDefinition {
+    private final int id;
+    private final String name;
+    private final ZclDataType dataType;
+    private final boolean mandatory;
+    private final boolean readable;
+    private final boolean writable;
+    private final boolean reportable;
+    private final Integer manufacturerCode;
+
+    /**
+     * Constructor for a non-manufacturer-specific attribute
+     *
+     * @param id the attribute ID
+     * @param name the human readable name
+     * @param dataType the {@link ZclDataType} for this attribute
+     * @param mandatory true if this is defined as mandatory in the ZCL specification
+     * @param readable true if this is defined as readable in the ZCL specification
+     * @param writable true if this is defined as writable in the ZCL specification
+     * @param reportable true if this is defined as reportable in the ZCL specification
+     */
+    public ZclAttributeDefinition(final int id, final String name, final ZclDataType dataType,
+            final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable) {
+        this(id, name, dataType, mandatory, readable, writable, reportable, null);
+    }
+
+    /**
+     * Constructor for a manufacturer-specific attribute
+     *
+     * @param id the attribute ID
+     * @param name the human readable name
+     * @param dataType the {@link ZclDataType} for this attribute
+     * @param mandatory true if this is defined as mandatory in the ZCL specification
+     * @param readable true if this is defined as readable in the ZCL specification
+     * @param writable true if this is defined as writable in the ZCL specification
+     * @param reportable true if this is defined as reportable in the ZCL specification
+     * @param manufacturerCode the code for the manufacturer specific attribute, or null
+     */
+    public ZclAttributeDefinition(final int id, final String name, final ZclDataType dataType,
+            final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable,
+            final Integer manufacturerCode) {
+        this.id = id;
+        this.name = name;
+        this.dataType = dataType;
+        this.mandatory = mandatory;
+        this.readable = readable;
+        this.writable = writable;
+        this.reportable = reportable;
+        this.manufacturerCode = manufacturerCode;
+    }
+
+    /**
+     * Gets the attribute ID
+     *
+     * @return the attribute ID
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of this attribute
+     *
+     * @return the name as {@link String}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the {@link ZclDataType} of this attribute
+     *
+     * @return the {@link ZclDataType} of this attribute
+     */
+    public ZclDataType getDataType() {
+        return dataType;
+    }
+
+    /**
+     * Returns true if the implementation of this attribute in the cluster is mandatory as required by the ZigBee
+     * standard.
+     *
+     * @return true if the attribute must be implemented
+     */
+    public boolean isMandatory() {
+        return mandatory;
+    }
+
+    /**
+     * Returns true if this attribute is readable
+     *
+     * @return true if the attribute is readable
+     */
+    public boolean isReadable() {
+        return readable;
+    }
+
+    /**
+     * Returns true if this attribute is writable
+     *
+     * @return true if the attribute is writable
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Returns true if this attribute is reportable
+     *
+     * @return true if the attribute is reportable
+     */
+    public boolean isReportable() {
+        return reportable;
+    }
+
+    /**
+     * @return the manufacturer code of this attribute (null for attributes that are not manufacturer-specific)
+     */
+    public Integer getManufacturerCode() {
+        return manufacturerCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ZclAttributeDefinition [id=" + id + ", name=" + name + ", dataType=" + dataType + "]";
+    }
+}
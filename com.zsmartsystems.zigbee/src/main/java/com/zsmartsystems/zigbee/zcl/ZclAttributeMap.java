@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Map} of {@link ZclAttribute}s for a single cluster instance that is backed by a shared map of
+ * {@link ZclAttributeDefinition}s. A {@link ZclAttribute} is only created the first time it is retrieved from the map,
+ * so clusters that define a large number of attributes only allocate state for the attributes that are actually used.
+ * <p>
+ * Iterating over the map does not create any attributes. Attributes that have been created are returned as they are,
+ * while attributes that have not been used are returned as new {@link ZclAttribute}s holding only the definition.
+ * These are not retained by the map, so any state set on them is not seen by the cluster.
+ * <p>
+ * Attributes may also be added with {@link #put(Integer, ZclAttribute)} - these take precedence over the definitions.
+ * Attributes may not be removed.
+ *
+ * @author Chris Jackson
+ *
+ */
+class ZclAttributeMap extends AbstractMap<Integer, ZclAttribute> {
+    /**
+     * The {@link ZclCluster} that the attributes belong to
+     */
+    private final ZclCluster cluster;
+
+    /**
+     * The shared, immutable, attribute definitions
+     */
+    private final Map<Integer, ZclAttributeDefinition> definitions;
+
+    /**
+     * The attributes that have been created for this cluster instance
+     */
+    private final ConcurrentHashMap<Integer, ZclAttribute> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the attribute map
+     *
+     * @param cluster the {@link ZclCluster} that the attributes belong to
+     * @param definitions the shared {@link ZclAttributeDefinition}s for the cluster
+     */
+    ZclAttributeMap(ZclCluster cluster, Map<Integer, ZclAttributeDefinition> definitions) {
+        this.cluster = cluster;
+        this.definitions = definitions;
+    }
+
+    @Override
+    public ZclAttribute get(Object key) {
+        ZclAttribute attribute = attributes.get(key);
+        if (attribute != null) {
+            return attribute;
+        }
+
+        ZclAttributeDefinition definition = definitions.get(key);
+        if (definition == null) {
+            return null;
+        }
+
+        attribute = new ZclAttribute(cluster, definition);
+        ZclAttribute existing = attributes.putIfAbsent(definition.getId(), attribute);
+        return existing == null ? attribute : existing;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return attributes.containsKey(key) || definitions.containsKey(key);
+    }
+
+    @Override
+    public ZclAttribute put(Integer key, ZclAttribute value) {
+        return attributes.put(key, value);
+    }
+
+    @Override
+    public int size() {
+        int size = definitions.size();
+        for (Integer key : attributes.keySet()) {
+            if (!definitions.containsKey(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Integer> keySet() {
+        return new AbstractSet<Integer>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                Set<Integer> keys = new LinkedHashSet<>(definitions.keySet());
+                keys.addAll(attributes.keySet());
+                return Collections.unmodifiableSet(keys).iterator();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return ZclAttributeMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<Integer, ZclAttribute>> entrySet() {
+        return new AbstractSet<Entry<Integer, ZclAttribute>>() {
+            @Override
+            public Iterator<Entry<Integer, ZclAttribute>> iterator() {
+                final Iterator<Integer> keys = keySet().iterator();
+                return new Iterator<Entry<Integer, ZclAttribute>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Integer, ZclAttribute> next() {
+                        Integer key = keys.next();
+                        ZclAttribute attribute = attributes.get(key);
+                        if (attribute == null) {
+                            attribute = new ZclAttribute(cluster, definitions.get(key));
+                        }
+                        return new SimpleImmutableEntry<>(key, attribute);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ZclAttributeMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Gets the attributes that have been created for this cluster instance. This does not create attributes for the
+     * definitions that have not been used.
+     *
+     * @return the {@link Collection} of {@link ZclAttribute}s that are in use
+     */
+    Collection<ZclAttribute> getCreatedAttributes() {
+        return attributes.values();
+    }
+}
@@ -7,21 +7,28 @@
  */
 package com.zsmartsystems.zigbee.zcl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,9 +37,13 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.database.ZclAttributeDao;
 import com.zsmartsystems.zigbee.database.ZclClusterDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
@@ -178,6 +189,54 @@ public abstract class ZclCluster {
      */
     private boolean apsSecurityRequired = false;
 
+    /**
+     * The {@link ZigBeeTransactionPriority} applied to commands sent from this cluster, or null to leave the priority
+     * set in the command.
+     */
+    private ZigBeeTransactionPriority priority;
+
+    /**
+     * The period in milliseconds over which single attribute reads are combined into a single
+     * {@link ReadAttributesCommand}, or 0 if reads are not coalesced
+     */
+    private int readCoalescingWindow = 0;
+
+    /**
+     * The attribute reads waiting to be sent at the end of the current coalescing window. Concurrent reads of the same
+     * attribute share the same future.
+     */
+    private final Map<Integer, ZigBeeTransactionFuture> pendingReads = new LinkedHashMap<>();
+
+    /**
+     * The attribute value reads currently in progress. Concurrent reads of the same attribute value share a single
+     * read of the remote device.
+     */
+    private final ConcurrentHashMap<Integer, CompletableFuture<Object>> inflightValueReads = new ConcurrentHashMap<>();
+
+    /**
+     * The function used to give each caller of {@link #readAttributeValueAsync(int)} its own stage, so that a caller
+     * can not complete a read shared with other callers
+     */
+    private static final Function<Object, Object> VALUE_IDENTITY = new Function<Object, Object>() {
+        @Override
+        public Object apply(Object value) {
+            return value;
+        }
+    };
+
+    /**
+     * The time in milliseconds for which the last value of each attribute is used by
+     * {@link ZclAttribute#readValue(long)} in place of reading the remote device. Attributes not in the map use
+     * {@link #defaultValueCacheTime}.
+     */
+    private final Map<Integer, Long> valueCacheTimes = new ConcurrentHashMap<>();
+
+    /**
+     * The time in milliseconds for which the last value of an attribute is used in place of reading the remote device
+     * if no time is set for the attribute
+     */
+    private long defaultValueCacheTime = 0;
+
     static {
         genericCommands.put(0x0000, ReadAttributesCommand.class);
         genericCommands.put(0x0001, ReadAttributesResponse.class);
@@ -220,6 +279,18 @@ public abstract class ZclCluster {
      */
     protected abstract Map<Integer, ZclAttribute> initializeServerAttributes();
 
+    /**
+     * Creates a {@link Map} of attributes for this cluster instance from a shared map of
+     * {@link ZclAttributeDefinition}s. The {@link ZclAttribute} for each definition is only created when it is first
+     * retrieved from the map, so the cluster only holds state for the attributes that are actually used.
+     *
+     * @param definitions the shared {@link Map} of {@link ZclAttributeDefinition}s, which must not be modified
+     * @return a {@link Map} of attributes for this cluster
+     */
+    protected Map<Integer, ZclAttribute> createAttributeMap(Map<Integer, ZclAttributeDefinition> definitions) {
+        return new ZclAttributeMap(this, definitions);
+    }
+
     /**
      * Abstract method called when the cluster starts to initialise the list of server side commands defined in this
      * cluster by the cluster library
@@ -240,6 +311,87 @@ public abstract class ZclCluster {
         return new ConcurrentHashMap<>(0);
     }
 
+    /**
+     * Creates a new instance of a server side command defined in this cluster by the cluster library. This is used on
+     * the receive path in preference to instantiating the command class from {@link #serverCommands} by reflection.
+     *
+     * @param commandId the command ID
+     * @return the new {@link ZclCommand} or null if the command ID is not known
+     */
+    protected ZclCommand createServerCommand(int commandId) {
+        return null;
+    }
+
+    /**
+     * Creates a new instance of a client side command defined in this cluster by the cluster library. This is used on
+     * the receive path in preference to instantiating the command class from {@link #clientCommands} by reflection.
+     *
+     * @param commandId the command ID
+     * @return the new {@link ZclCommand} or null if the command ID is not known
+     */
+    protected ZclCommand createClientCommand(int commandId) {
+        return null;
+    }
+
+    /**
+     * Creates a new instance of one of the generic commands implemented by all clusters
+     *
+     * @param commandId the command ID
+     * @return the new {@link ZclCommand} or null if the command ID is not known
+     */
+    protected static ZclCommand createGenericCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ReadAttributesCommand();
+            case 0x0001:
+                return new ReadAttributesResponse();
+            case 0x0002:
+                return new WriteAttributesCommand();
+            case 0x0003:
+                return new WriteAttributesUndividedCommand();
+            case 0x0004:
+                return new WriteAttributesResponse();
+            case 0x0005:
+                return new WriteAttributesNoResponse();
+            case 0x0006:
+                return new ConfigureReportingCommand();
+            case 0x0007:
+                return new ConfigureReportingResponse();
+            case 0x0008:
+                return new ReadReportingConfigurationCommand();
+            case 0x0009:
+                return new ReadReportingConfigurationResponse();
+            case 0x000A:
+                return new ReportAttributesCommand();
+            case 0x000B:
+                return new DefaultResponse();
+            case 0x000C:
+                return new DiscoverAttributesCommand();
+            case 0x000D:
+                return new DiscoverAttributesResponse();
+            case 0x000E:
+                return new ReadAttributesStructuredCommand();
+            case 0x000F:
+                return new WriteAttributesStructuredCommand();
+            case 0x0010:
+                return new WriteAttributesStructuredResponse();
+            case 0x0011:
+                return new DiscoverCommandsReceived();
+            case 0x0012:
+                return new DiscoverCommandsReceivedResponse();
+            case 0x0013:
+                return new DiscoverCommandsGenerated();
+            case 0x0014:
+                return new DiscoverCommandsGeneratedResponse();
+            case 0x0015:
+                return new DiscoverAttributesExtended();
+            case 0x0016:
+                return new DiscoverAttributesExtendedResponse();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Creates a cluster
      *
@@ -261,13 +413,31 @@ public abstract class ZclCluster {
      * @return the command result future
      */
     protected Future<CommandResult> send(ZclCommand command) {
+        prepareCommand(command);
+        return zigbeeEndpoint.sendTransaction(command, new ZclTransactionMatcher());
+    }
+
+    /**
+     * Sends a {@link ZclCommand}, returning a {@link CompletionStage} that is completed when the transaction completes
+     * so that the result can be processed without blocking a thread.
+     *
+     * @param command the {@link ZclCommand} to send
+     * @return the command result {@link CompletionStage}
+     */
+    protected CompletionStage<CommandResult> sendAsync(ZclCommand command) {
+        prepareCommand(command);
+        return zigbeeEndpoint.sendTransactionAsync(command, new ZclTransactionMatcher());
+    }
+
+    private void prepareCommand(ZclCommand command) {
         if (isClient()) {
             command.setCommandDirection(ZclCommandDirection.SERVER_TO_CLIENT);
         }
 
         command.setApsSecurity(apsSecurityRequired);
-
-        return zigbeeEndpoint.sendTransaction(command, new ZclTransactionMatcher());
+        if (priority != null) {
+            command.setPriority(priority);
+        }
     }
 
     /**
@@ -279,6 +449,26 @@ public abstract class ZclCluster {
      * @return command future {@link CommandResult}
      */
     public Future<CommandResult> writeAttribute(final int attributeId, final ZclDataType dataType, final Object value) {
+        return send(createWriteAttributesCommand(Collections.singletonList(
+                createWriteAttributeRecord(attributeId, dataType, value))));
+    }
+
+    /**
+     * Write an attribute without blocking
+     *
+     * @param attributeId the attribute ID to write
+     * @param dataType the {@link ZclDataType} of the object
+     * @param value the value to set (as {@link Object})
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> writeAttributeAsync(final int attributeId, final ZclDataType dataType,
+            final Object value) {
+        return sendAsync(createWriteAttributesCommand(Collections.singletonList(
+                createWriteAttributeRecord(attributeId, dataType, value))));
+    }
+
+    private WriteAttributeRecord createWriteAttributeRecord(final int attributeId, final ZclDataType dataType,
+            final Object value) {
         logger.debug("{}: Writing {} cluster {}, attribute {}, value {}, as dataType {}",
                 zigbeeEndpoint.getIeeeAddress(), (isClient ? "Client" : "Server"), clusterId, attributeId, value,
                 dataType);
@@ -286,16 +476,72 @@ public abstract class ZclCluster {
         attributeIdentifier.setAttributeIdentifier(attributeId);
         attributeIdentifier.setAttributeDataType(dataType);
         attributeIdentifier.setAttributeValue(value);
-        return writeAttributes(Collections.singletonList(attributeIdentifier));
+        return attributeIdentifier;
     }
 
     /**
-     * Writes a number of attributes in a single command
+     * Writes a number of attributes. The attributes are packed into as few commands as possible without exceeding the
+     * maximum payload that can be sent to the device in a single frame, and the responses are merged into a single
+     * {@link WriteAttributesResponse}.
      *
      * @param attributes a List of {@link WriteAttributeRecord}s with the attribute ID, type and value
      * @return command future {@link CommandResult}
      */
     public Future<CommandResult> writeAttributes(List<WriteAttributeRecord> attributes) {
+        List<WriteAttributesCommand> commands = createWriteAttributesCommands(attributes);
+        if (commands.size() == 1) {
+            return send(commands.get(0));
+        }
+        return sendWriteAttributesCommands(commands).toCompletableFuture();
+    }
+
+    /**
+     * Writes a number of attributes without blocking. See {@link #writeAttributes(List)}.
+     *
+     * @param attributes a List of {@link WriteAttributeRecord}s with the attribute ID, type and value
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> writeAttributesAsync(List<WriteAttributeRecord> attributes) {
+        List<WriteAttributesCommand> commands = createWriteAttributesCommands(attributes);
+        if (commands.size() == 1) {
+            return sendAsync(commands.get(0));
+        }
+        return sendWriteAttributesCommands(commands);
+    }
+
+    private List<WriteAttributesCommand> createWriteAttributesCommands(List<WriteAttributeRecord> attributes) {
+        List<Integer> attributeIds = new ArrayList<>();
+        for (WriteAttributeRecord attribute : attributes) {
+            attributeIds.add(attribute.getAttributeIdentifier());
+        }
+
+        List<WriteAttributesCommand> commands = new ArrayList<>();
+        for (List<Integer> group : getManufacturerGroups(attributeIds)) {
+            int maxLength = getMaxPayloadLength(attributeIds, group);
+            List<WriteAttributeRecord> records = new ArrayList<>();
+            int[] lengths = new int[group.size()];
+            for (int cnt = 0; cnt < group.size(); cnt++) {
+                WriteAttributeRecord record = attributes.get(group.get(cnt));
+                records.add(record);
+                lengths[cnt] = ZclPayloadPacker.getRecordLength(record, maxLength);
+            }
+            for (List<WriteAttributeRecord> packedRecords : ZclPayloadPacker.pack(records, lengths, maxLength)) {
+                commands.add(createWriteAttributesCommand(packedRecords));
+            }
+        }
+        return commands;
+    }
+
+    private CompletionStage<CommandResult> sendWriteAttributesCommands(final List<WriteAttributesCommand> commands) {
+        return sendCommands(commands).thenApply(new Function<List<CommandResult>, CommandResult>() {
+            @Override
+            public CommandResult apply(List<CommandResult> results) {
+                return ZclPayloadPacker.mergeWriteResults(commands, results);
+            }
+        });
+    }
+
+    private WriteAttributesCommand createWriteAttributesCommand(List<WriteAttributeRecord> attributes) {
         final WriteAttributesCommand command = new WriteAttributesCommand();
         command.setClusterId(clusterId);
         command.setRecords(attributes);
@@ -318,7 +564,7 @@ public abstract class ZclCluster {
             command.setManufacturerCode(manufacturerSpecificAttribute.getManufacturerCode());
         }
 
-        return send(command);
+        return command;
     }
 
     /**
@@ -329,17 +575,265 @@ public abstract class ZclCluster {
      * @return command future
      */
     public Future<CommandResult> readAttribute(final int attributeId) {
+        if (readCoalescingWindow > 0) {
+            return queueCoalescedRead(attributeId);
+        }
         return readAttributes(Collections.singletonList(attributeId));
     }
 
     /**
-     * Read a number of attributes given a list of attribute IDs. Care must be taken not to request too many attributes
-     * so as to exceed the allowable frame length
+     * Read a number of attributes given a list of attribute IDs. The attributes are packed into as few commands as
+     * possible so that the response to each command does not exceed the maximum payload of a single frame, and the
+     * responses are merged into a single {@link ReadAttributesResponse}. The length of variable length attributes,
+     * such as strings, is estimated, so these may not always fit in a single response - in which case the device
+     * returns the attributes that fit.
      *
      * @param attributeIds List of attribute identifiers to read
      * @return command future
      */
     public Future<CommandResult> readAttributes(final List<Integer> attributeIds) {
+        List<ReadAttributesCommand> commands = createReadAttributesCommands(attributeIds);
+        if (commands.size() == 1) {
+            return send(commands.get(0));
+        }
+        return sendReadAttributesCommands(commands).toCompletableFuture();
+    }
+
+    /**
+     * Read an attribute given the attribute ID without blocking. This method will always send a
+     * {@link ReadAttributesCommand} to the remote device.
+     *
+     * @param attributeId the integer attribute ID to read
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> readAttributeAsync(final int attributeId) {
+        if (readCoalescingWindow > 0) {
+            return queueCoalescedRead(attributeId).getCompletionStage();
+        }
+        return readAttributesAsync(Collections.singletonList(attributeId));
+    }
+
+    /**
+     * Sets the read coalescing window. If the window is greater than 0, single attribute reads made with
+     * {@link #readAttribute(int)} or {@link #readAttributeAsync(int)} are not sent immediately, but are combined with
+     * other single attribute reads made within the window and sent in as few {@link ReadAttributesCommand}s as
+     * possible. Each read is completed with a {@link ReadAttributesResponse} containing only the record for the
+     * requested attribute.
+     * <p>
+     * This reduces the number of transactions where an application reads a number of attributes from the same cluster
+     * at around the same time, at the expense of delaying each read by up to the coalescing window.
+     *
+     * @param readCoalescingWindow the coalescing window in milliseconds, or 0 to disable coalescing
+     */
+    public void setReadCoalescingWindow(int readCoalescingWindow) {
+        this.readCoalescingWindow = readCoalescingWindow;
+    }
+
+    /**
+     * Gets the read coalescing window. See {@link #setReadCoalescingWindow(int)}.
+     *
+     * @return the coalescing window in milliseconds, or 0 if reads are not coalesced
+     */
+    public int getReadCoalescingWindow() {
+        return readCoalescingWindow;
+    }
+
+    /**
+     * Sets the time for which the last value of all attributes in this cluster is considered current. Within this
+     * time, {@link ZclAttribute#readValue(long)} returns the last value received from the device (either from a read
+     * or a report) instead of reading the remote device, even if the caller requests a shorter refresh period. This
+     * allows attributes that are kept current by reports to be served without further reads.
+     *
+     * @param milliseconds the time in milliseconds the last value is considered current, or 0 to use the period
+     *            requested by the caller
+     */
+    public void setValueCacheTime(long milliseconds) {
+        defaultValueCacheTime = milliseconds;
+    }
+
+    /**
+     * Sets the time for which the last value of an attribute is considered current. This overrides the time set with
+     * {@link #setValueCacheTime(long)} for this attribute.
+     *
+     * @param attributeId the attribute ID
+     * @param milliseconds the time in milliseconds the last value is considered current, or 0 to use the period
+     *            requested by the caller
+     */
+    public void setValueCacheTime(int attributeId, long milliseconds) {
+        valueCacheTimes.put(attributeId, milliseconds);
+    }
+
+    /**
+     * Gets the time for which the last value of an attribute is considered current. See
+     * {@link #setValueCacheTime(long)}.
+     *
+     * @param attributeId the attribute ID
+     * @return the time in milliseconds the last value of the attribute is considered current
+     */
+    public long getValueCacheTime(int attributeId) {
+        Long cacheTime = valueCacheTimes.get(attributeId);
+        return cacheTime == null ? defaultValueCacheTime : cacheTime;
+    }
+
+    private ZigBeeTransactionFuture queueCoalescedRead(final int attributeId) {
+        ZigBeeTransactionFuture future;
+        synchronized (pendingReads) {
+            future = pendingReads.get(attributeId);
+            if (future != null) {
+                return future;
+            }
+
+            future = new ZigBeeTransactionFuture();
+            pendingReads.put(attributeId, future);
+            if (pendingReads.size() != 1) {
+                return future;
+            }
+        }
+
+        // The window is timed by the network so that the pending reads are not left waiting on a timer that
+        // outlives the network
+        ScheduledFuture<?> task = zigbeeEndpoint.scheduleTask(new Runnable() {
+            @Override
+            public void run() {
+                sendCoalescedReads();
+            }
+        }, readCoalescingWindow);
+        if (task == null) {
+            logger.debug("{}: Unable to schedule coalesced read of cluster {}", zigbeeEndpoint.getIeeeAddress(),
+                    clusterId);
+            failCoalescedReads(takeCoalescedReads());
+        }
+        return future;
+    }
+
+    /**
+     * Removes all reads queued during the coalescing window
+     *
+     * @return the queued reads
+     */
+    private Map<Integer, ZigBeeTransactionFuture> takeCoalescedReads() {
+        synchronized (pendingReads) {
+            Map<Integer, ZigBeeTransactionFuture> reads = new LinkedHashMap<>(pendingReads);
+            pendingReads.clear();
+            return reads;
+        }
+    }
+
+    /**
+     * Completes the reads that could not be sent with a failed {@link CommandResult}
+     *
+     * @param reads the reads to complete
+     */
+    private void failCoalescedReads(Map<Integer, ZigBeeTransactionFuture> reads) {
+        for (ZigBeeTransactionFuture future : reads.values()) {
+            if (!future.isDone()) {
+                future.set(new CommandResult(ZigBeeStatus.FAILURE));
+            }
+        }
+    }
+
+    /**
+     * Sends the reads queued during the coalescing window. The reads are packed into as few commands as possible by
+     * {@link #readAttributesAsync(List)}, and each read is completed with the record for its attribute. If the read
+     * fails, every queued read is completed with a failed {@link CommandResult}.
+     */
+    private void sendCoalescedReads() {
+        final Map<Integer, ZigBeeTransactionFuture> reads = takeCoalescedReads();
+        if (reads.isEmpty()) {
+            return;
+        }
+
+        logger.debug("{}: Sending coalesced read of cluster {}, attributes {}", zigbeeEndpoint.getIeeeAddress(),
+                clusterId, reads.keySet());
+        try {
+            readAttributesAsync(new ArrayList<>(reads.keySet()))
+                    .whenComplete(new BiConsumer<CommandResult, Throwable>() {
+                        @Override
+                        public void accept(CommandResult result, Throwable exception) {
+                            if (exception != null) {
+                                logger.debug("{}: Coalesced read of cluster {} failed",
+                                        zigbeeEndpoint.getIeeeAddress(), clusterId, exception);
+                                failCoalescedReads(reads);
+                                return;
+                            }
+                            try {
+                                for (Map.Entry<Integer, ZigBeeTransactionFuture> read : reads.entrySet()) {
+                                    read.getValue().set(getCoalescedReadResult(result, read.getKey()));
+                                }
+                            } catch (RuntimeException e) {
+                                logger.debug("{}: Error completing coalesced read of cluster {}",
+                                        zigbeeEndpoint.getIeeeAddress(), clusterId, e);
+                                failCoalescedReads(reads);
+                            }
+                        }
+                    });
+        } catch (RuntimeException e) {
+            logger.debug("{}: Error sending coalesced read of cluster {}", zigbeeEndpoint.getIeeeAddress(), clusterId,
+                    e);
+            failCoalescedReads(reads);
+        }
+    }
+
+    /**
+     * Gets the {@link CommandResult} for a single attribute from the result of a coalesced read. If the read was
+     * successful, the response is a copy of the {@link ReadAttributesResponse} containing only the record for the
+     * attribute.
+     *
+     * @param result the {@link CommandResult} of the coalesced read
+     * @param attributeId the attribute ID
+     * @return the {@link CommandResult} for the attribute
+     */
+    private CommandResult getCoalescedReadResult(CommandResult result, int attributeId) {
+        if (result == null || !result.isSuccess() || !(result.getResponse() instanceof ReadAttributesResponse)) {
+            return result == null ? new CommandResult() : result;
+        }
+
+        return ZclPayloadPacker.getReadResult((ReadAttributesResponse) result.getResponse(), attributeId);
+    }
+
+    /**
+     * Read a number of attributes given a list of attribute IDs without blocking. See {@link #readAttributes(List)}.
+     *
+     * @param attributeIds List of attribute identifiers to read
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> readAttributesAsync(final List<Integer> attributeIds) {
+        List<ReadAttributesCommand> commands = createReadAttributesCommands(attributeIds);
+        if (commands.size() == 1) {
+            return sendAsync(commands.get(0));
+        }
+        return sendReadAttributesCommands(commands);
+    }
+
+    private List<ReadAttributesCommand> createReadAttributesCommands(final List<Integer> attributeIds) {
+        List<ReadAttributesCommand> commands = new ArrayList<>();
+        for (List<Integer> group : getManufacturerGroups(attributeIds)) {
+            int maxLength = getMaxPayloadLength(attributeIds, group);
+            List<Integer> ids = new ArrayList<>();
+            int[] lengths = new int[group.size()];
+            for (int cnt = 0; cnt < group.size(); cnt++) {
+                Integer attributeId = attributeIds.get(group.get(cnt));
+                ZclAttribute attribute = getAttribute(attributeId);
+                ids.add(attributeId);
+                lengths[cnt] = ZclPayloadPacker.getReadRecordLength(attribute == null ? null : attribute.getDataType());
+            }
+            for (List<Integer> packedIds : ZclPayloadPacker.pack(ids, lengths, maxLength)) {
+                commands.add(createReadAttributesCommand(packedIds));
+            }
+        }
+        return commands;
+    }
+
+    private CompletionStage<CommandResult> sendReadAttributesCommands(List<ReadAttributesCommand> commands) {
+        return sendCommands(commands).thenApply(new Function<List<CommandResult>, CommandResult>() {
+            @Override
+            public CommandResult apply(List<CommandResult> results) {
+                return ZclPayloadPacker.mergeReadResults(commands, results);
+            }
+        });
+    }
+
+    private ReadAttributesCommand createReadAttributesCommand(final List<Integer> attributeIds) {
         final ReadAttributesCommand command = new ReadAttributesCommand();
 
         command.setClusterId(clusterId);
@@ -352,7 +846,7 @@ public abstract class ZclCluster {
             command.setManufacturerCode(getAttribute(attributeIds.get(0)).getManufacturerCode());
         }
 
-        return send(command);
+        return command;
     }
 
     /**
@@ -363,23 +857,79 @@ public abstract class ZclCluster {
      */
     protected Object readAttributeValue(final int attributeId) {
         logger.debug("readSync request: {}", attributeId);
-        CommandResult result;
+        final CompletableFuture<Object> read = new CompletableFuture<>();
+        CompletableFuture<Object> inflightRead = inflightValueReads.putIfAbsent(attributeId, read);
+        if (inflightRead != null) {
+            // Another read of this attribute is in progress, so use its result
+            try {
+                return inflightRead.get();
+            } catch (InterruptedException e) {
+                logger.debug("readAttributeValue interrupted");
+                return null;
+            } catch (ExecutionException e) {
+                logger.debug("readAttributeValue exception ", e);
+                return null;
+            }
+        }
+
+        Object value = null;
         try {
-            result = readAttribute(attributeId).get();
+            value = getReadAttributeValue(attributeId, readAttribute(attributeId).get());
         } catch (InterruptedException e) {
             logger.debug("readAttributeValue interrupted");
-            return null;
         } catch (ExecutionException e) {
             logger.debug("readAttributeValue exception ", e);
-            return null;
+        } finally {
+            inflightValueReads.remove(attributeId, read);
+            read.complete(value);
         }
+        return value;
+    }
 
-        if (!result.isSuccess()) {
+    /**
+     * Reads the value of an attribute without blocking. Concurrent reads of the same attribute from this method, or
+     * from {@link ZclAttribute#readValue(long)}, share a single read of the remote device.
+     *
+     * @param attributeId the attribute id to read
+     * @return a {@link CompletionStage} that is completed with the attribute value, or null on error
+     */
+    public CompletionStage<Object> readAttributeValueAsync(final int attributeId) {
+        final CompletableFuture<Object> read = new CompletableFuture<>();
+        CompletableFuture<Object> inflightRead = inflightValueReads.putIfAbsent(attributeId, read);
+        if (inflightRead != null) {
+            return inflightRead.thenApply(VALUE_IDENTITY);
+        }
+
+        readAttributeAsync(attributeId).whenComplete(new BiConsumer<CommandResult, Throwable>() {
+            @Override
+            public void accept(CommandResult result, Throwable exception) {
+                inflightValueReads.remove(attributeId, read);
+                if (exception != null) {
+                    logger.debug("readAttributeValueAsync exception ", exception);
+                    read.complete(null);
+                } else {
+                    read.complete(getReadAttributeValue(attributeId, result));
+                }
+            }
+        });
+        return read.thenApply(VALUE_IDENTITY);
+    }
+
+    /**
+     * Gets the normalized attribute value from the result of a read
+     *
+     * @param attributeId the attribute id that was read
+     * @param result the {@link CommandResult} of the read
+     * @return the attribute value, or null on error
+     */
+    private Object getReadAttributeValue(final int attributeId, CommandResult result) {
+        if (result == null || !result.isSuccess() || !(result.getResponse() instanceof ReadAttributesResponse)) {
             return null;
         }
 
         ReadAttributesResponse response = result.getResponse();
-        if (response.getRecords().get(0).getStatus() != ZclStatus.SUCCESS) {
+        if (response.getRecords() == null || response.getRecords().isEmpty()
+                || response.getRecords().get(0).getStatus() != ZclStatus.SUCCESS) {
             return null;
         }
 
@@ -452,6 +1002,170 @@ public abstract class ZclCluster {
         return setReporting(getAttribute(attributeId), minInterval, maxInterval, null);
     }
 
+    /**
+     * Configures the reporting for the specified attribute ID without blocking. See
+     * {@link #setReporting(int, int, int, Object)} for details of the parameters.
+     *
+     * @param attributeId the attribute ID to configure reporting
+     * @param minInterval the minimum reporting interval
+     * @param maxInterval the maximum reporting interval
+     * @param reportableChange the minimum change required to report an update, or null for discrete attributes
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> setReportingAsync(final int attributeId, final int minInterval,
+            final int maxInterval, Object reportableChange) {
+        return sendAsync(
+                createConfigureReportingCommand(getAttribute(attributeId), minInterval, maxInterval, reportableChange));
+    }
+
+    /**
+     * Configures the reporting for a number of attributes. The records are packed into as few commands as possible
+     * without exceeding the maximum payload that can be sent to the device in a single frame, and the responses are
+     * merged into a single {@link ConfigureReportingResponse}.
+     *
+     * @param records a List of {@link AttributeReportingConfigurationRecord}s defining the reporting configuration of
+     *            each attribute
+     * @return command future {@link CommandResult}
+     */
+    public Future<CommandResult> setReporting(final List<AttributeReportingConfigurationRecord> records) {
+        List<ConfigureReportingCommand> commands = createConfigureReportingCommands(records);
+        if (commands.size() == 1) {
+            return send(commands.get(0));
+        }
+        return sendConfigureReportingCommands(commands).toCompletableFuture();
+    }
+
+    /**
+     * Configures the reporting for a number of attributes without blocking. See {@link #setReporting(List)}.
+     *
+     * @param records a List of {@link AttributeReportingConfigurationRecord}s defining the reporting configuration of
+     *            each attribute
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> setReportingAsync(final List<AttributeReportingConfigurationRecord> records) {
+        List<ConfigureReportingCommand> commands = createConfigureReportingCommands(records);
+        if (commands.size() == 1) {
+            return sendAsync(commands.get(0));
+        }
+        return sendConfigureReportingCommands(commands);
+    }
+
+    private List<ConfigureReportingCommand> createConfigureReportingCommands(
+            List<AttributeReportingConfigurationRecord> records) {
+        List<Integer> attributeIds = new ArrayList<>();
+        for (AttributeReportingConfigurationRecord record : records) {
+            attributeIds.add(record.getAttributeIdentifier());
+        }
+
+        List<ConfigureReportingCommand> commands = new ArrayList<>();
+        for (List<Integer> group : getManufacturerGroups(attributeIds)) {
+            int maxLength = getMaxPayloadLength(attributeIds, group);
+            List<AttributeReportingConfigurationRecord> groupRecords = new ArrayList<>();
+            int[] lengths = new int[group.size()];
+            for (int cnt = 0; cnt < group.size(); cnt++) {
+                AttributeReportingConfigurationRecord record = records.get(group.get(cnt));
+                groupRecords.add(record);
+                lengths[cnt] = ZclPayloadPacker.getRecordLength(record, maxLength);
+            }
+            for (List<AttributeReportingConfigurationRecord> packedRecords : ZclPayloadPacker.pack(groupRecords,
+                    lengths, maxLength)) {
+                commands.add(createConfigureReportingCommand(packedRecords));
+            }
+        }
+        return commands;
+    }
+
+    private CompletionStage<CommandResult> sendConfigureReportingCommands(
+            final List<ConfigureReportingCommand> commands) {
+        return sendCommands(commands).thenApply(new Function<List<CommandResult>, CommandResult>() {
+            @Override
+            public CommandResult apply(List<CommandResult> results) {
+                return ZclPayloadPacker.mergeReportingResults(commands, results);
+            }
+        });
+    }
+
+    /**
+     * Sends a number of commands without waiting for each to complete before sending the next. The transaction
+     * manager limits the number of transactions outstanding to the device.
+     *
+     * @param commands the {@link ZclCommand}s to send
+     * @return a {@link CompletionStage} completed with the {@link CommandResult} of each command, in the order the
+     *         commands were provided, once all commands are complete
+     */
+    private CompletionStage<List<CommandResult>> sendCommands(List<? extends ZclCommand> commands) {
+        final List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+        for (ZclCommand command : commands) {
+            futures.add(sendAsync(command).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]))
+                .thenApply(new Function<Void, List<CommandResult>>() {
+                    @Override
+                    public List<CommandResult> apply(Void unused) {
+                        List<CommandResult> results = new ArrayList<>();
+                        for (CompletableFuture<CommandResult> future : futures) {
+                            results.add(future.join());
+                        }
+                        return results;
+                    }
+                });
+    }
+
+    /**
+     * Splits a list of attributes into groups that can be sent in the same command. Manufacturer specific attributes
+     * can only be combined with attributes of the same manufacturer.
+     *
+     * @param attributeIds the list of attribute IDs
+     * @return a list of groups, each containing the indexes in attributeIds of the attributes in the group. An empty
+     *         list of attributes returns a single empty group.
+     */
+    private List<List<Integer>> getManufacturerGroups(List<Integer> attributeIds) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int index = 0; index < attributeIds.size(); index++) {
+            Integer manufacturerCode = getAttributeManufacturerCode(attributeIds.get(index));
+            List<Integer> group = groups.get(manufacturerCode);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(manufacturerCode, group);
+            }
+            group.add(index);
+        }
+        if (groups.isEmpty()) {
+            return Collections.singletonList(Collections.<Integer> emptyList());
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private Integer getAttributeManufacturerCode(int attributeId) {
+        if (isManufacturerSpecific()) {
+            return getManufacturerCode();
+        }
+        ZclAttribute attribute = getAttribute(attributeId);
+        if (attribute != null && attribute.isManufacturerSpecific()) {
+            return attribute.getManufacturerCode();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the maximum ZCL payload that can be sent to the device in a single frame for a group of attributes from
+     * {@link #getManufacturerGroups(List)}
+     *
+     * @param attributeIds the list of attribute IDs
+     * @param group the indexes in attributeIds of the attributes in the group
+     * @return the maximum payload length
+     */
+    private int getMaxPayloadLength(List<Integer> attributeIds, List<Integer> group) {
+        boolean manufacturerSpecific = !group.isEmpty()
+                && getAttributeManufacturerCode(attributeIds.get(group.get(0))) != null;
+        int bufferSize = 0;
+        ZigBeeNode node = zigbeeEndpoint.getParentNode();
+        if (node != null && node.getNodeDescriptor() != null) {
+            bufferSize = node.getNodeDescriptor().getBufferSize();
+        }
+        return ZclPayloadPacker.getMaxPayloadLength(bufferSize, apsSecurityRequired, manufacturerSpecific);
+    }
+
     /**
      * Gets the reporting configuration for an attribute
      *
@@ -459,6 +1173,20 @@ public abstract class ZclCluster {
      * @return command future {@link CommandResult}
      */
     public Future<CommandResult> getReporting(final int attributeId) {
+        return send(createReadReportingConfigurationCommand(attributeId));
+    }
+
+    /**
+     * Gets the reporting configuration for an attribute without blocking
+     *
+     * @param attributeId the attribute on which to get the reporting configuration
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> getReportingAsync(final int attributeId) {
+        return sendAsync(createReadReportingConfigurationCommand(attributeId));
+    }
+
+    private ReadReportingConfigurationCommand createReadReportingConfigurationCommand(final int attributeId) {
         final ReadReportingConfigurationCommand command = new ReadReportingConfigurationCommand();
         command.setClusterId(clusterId);
         AttributeRecord record = new AttributeRecord();
@@ -473,7 +1201,7 @@ public abstract class ZclCluster {
             command.setManufacturerCode(getAttribute(attributeId).getManufacturerCode());
         }
 
-        return send(command);
+        return command;
     }
 
     /**
@@ -481,6 +1209,10 @@ public abstract class ZclCluster {
      * supported by the device. The user should check to see if this is implemented.
      * <p>
      * This will return either the list of client or server attributes, depending on the cluster.
+     * <p>
+     * Attributes that have not yet been used by the cluster are not created by this method, and are returned as
+     * attributes holding only their definition. Use {@link #getAttribute(int)} to get the attribute held by the
+     * cluster.
      *
      * @return {@link Set} containing all {@link ZclAttributes} available in this cluster
      */
@@ -587,6 +1319,27 @@ public abstract class ZclCluster {
         return apsSecurityRequired;
     }
 
+    /**
+     * Sets the {@link ZigBeeTransactionPriority} used for commands sent from this cluster. This may be used to send
+     * bulk transfers at a lower priority than interactive commands. If set to null, the priority set in each command is
+     * used.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority} for commands sent from this cluster, or null
+     */
+    public void setPriority(ZigBeeTransactionPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} used for commands sent from this cluster
+     *
+     * @return the {@link ZigBeeTransactionPriority} for commands sent from this cluster, or null if the priority set in
+     *         each command is used
+     */
+    public ZigBeeTransactionPriority getPriority() {
+        return priority;
+    }
+
     /**
      * Adds a binding from the cluster to the destination {@link ZigBeeEndpoint}.
      *
@@ -595,6 +1348,26 @@ public abstract class ZclCluster {
      * @return Command future
      */
     public Future<CommandResult> bind(IeeeAddress address, int endpointId) {
+        final BindRequest command = createBindRequest(address, endpointId);
+        // The transaction is not sent to the Endpoint of this cluster, but to the ZDO endpoint 0 directly.
+        return zigbeeEndpoint.getParentNode().sendTransaction(command, command);
+    }
+
+    /**
+     * Adds a binding from the cluster to the destination {@link ZigBeeEndpoint} without blocking. See
+     * {@link #bind(IeeeAddress, int)}.
+     *
+     * @param address the destination {@link IeeeAddress}
+     * @param endpointId the destination endpoint ID
+     * @return command result {@link CompletionStage}
+     */
+    public CompletionStage<CommandResult> bindAsync(IeeeAddress address, int endpointId) {
+        final BindRequest command = createBindRequest(address, endpointId);
+        // The transaction is not sent to the Endpoint of this cluster, but to the ZDO endpoint 0 directly.
+        return zigbeeEndpoint.getParentNode().sendTransactionAsync(command, command);
+    }
+
+    private BindRequest createBindRequest(IeeeAddress address, int endpointId) {
         final BindRequest command = new BindRequest();
         command.setDestinationAddress(new ZigBeeEndpointAddress(zigbeeEndpoint.getEndpointAddress().getAddress()));
         command.setSrcAddress(zigbeeEndpoint.getIeeeAddress());
@@ -603,8 +1376,7 @@ public abstract class ZclCluster {
         command.setDstAddrMode(3); // 64 bit addressing
         command.setDstAddress(address);
         command.setDstEndpoint(endpointId);
-        // The transaction is not sent to the Endpoint of this cluster, but to the ZDO endpoint 0 directly.
-        return zigbeeEndpoint.getParentNode().sendTransaction(command, command);
+        return command;
     }
 
     /**
@@ -1183,11 +1955,19 @@ public abstract class ZclCluster {
      * @return the {@link ZclCommand} or null if no command was found.
      */
     public ZclCommand getCommandFromId(ZclFrameType zclFrameType, int commandId) {
+        ZclCommand command;
         if (zclFrameType == ZclFrameType.CLUSTER_SPECIFIC_COMMAND) {
-            return getCommand(commandId, clientCommands);
+            command = createClientCommand(commandId);
+            if (command == null) {
+                command = getCommand(commandId, clientCommands);
+            }
         } else {
-            return getCommand(commandId, genericCommands);
+            command = createGenericCommand(commandId);
+            if (command == null) {
+                command = getCommand(commandId, genericCommands);
+            }
         }
+        return command;
     }
 
     /**
@@ -1199,11 +1979,19 @@ public abstract class ZclCluster {
      * @return the {@link ZclCommand} or null if no command was found.
      */
     public ZclCommand getResponseFromId(ZclFrameType zclFrameType, int commandId) {
+        ZclCommand command;
         if (zclFrameType == ZclFrameType.CLUSTER_SPECIFIC_COMMAND) {
-            return getCommand(commandId, serverCommands);
+            command = createServerCommand(commandId);
+            if (command == null) {
+                command = getCommand(commandId, serverCommands);
+            }
         } else {
-            return getCommand(commandId, genericCommands);
+            command = createGenericCommand(commandId);
+            if (command == null) {
+                command = getCommand(commandId, genericCommands);
+            }
         }
+        return command;
     }
 
     private ZclCommand getCommand(int commandId, Map<Integer, Class<? extends ZclCommand>> commands) {
@@ -1235,11 +2023,13 @@ public abstract class ZclCluster {
         }
         dao.setSupportedCommandsGenerated(Collections.unmodifiableSet(new TreeSet<>(supportedCommandsGenerated)));
         dao.setSupportedCommandsReceived(Collections.unmodifiableSet(new TreeSet<>(supportedCommandsReceived)));
+        Map<Integer, ZclAttribute> attributes = isClient ? clientAttributes : serverAttributes;
         Collection<ZclAttribute> daoZclAttributes;
-        if (isClient) {
-            daoZclAttributes = clientAttributes.values();
+        if (attributes instanceof ZclAttributeMap) {
+            // Attributes that have not been used only contain the static definition, so don't need to be persisted
+            daoZclAttributes = ((ZclAttributeMap) attributes).getCreatedAttributes();
         } else {
-            daoZclAttributes = serverAttributes.values();
+            daoZclAttributes = attributes.values();
         }
 
         Map<Integer, ZclAttributeDao> daoAttributes = new HashMap<>();
@@ -1265,7 +2055,11 @@ public abstract class ZclCluster {
         supportedCommandsGenerated.addAll(dao.getSupportedCommandsGenerated());
         supportedCommandsReceived.addAll(dao.getSupportedCommandsReceived());
 
-        Map<Integer, ZclAttribute> daoZclAttributes = new HashMap<>();
+        Map<Integer, ZclAttribute> daoZclAttributes = isClient ? initializeClientAttributes()
+                : initializeServerAttributes();
+        if (!(daoZclAttributes instanceof ZclAttributeMap)) {
+            daoZclAttributes = new HashMap<>();
+        }
         for (ZclAttributeDao daoAttribute : dao.getAttributes().values()) {
             // Normalize the data to protect against the users serialisation system restoring incorrect data classes
             daoAttribute
@@ -1356,7 +2150,7 @@ public abstract class ZclCluster {
      */
     @Deprecated
     public Future<CommandResult> read(final int attribute) {
-        return read(Collections.singletonList(attribute));
+        return readAttribute(attribute);
     }
 
     /**
@@ -1418,9 +2212,11 @@ public abstract class ZclCluster {
     @Deprecated
     public Future<CommandResult> setReporting(final ZclAttribute attribute, final int minInterval,
             final int maxInterval, final Object reportableChange) {
-        final ConfigureReportingCommand command = new ConfigureReportingCommand();
-        command.setClusterId(clusterId);
+        return send(createConfigureReportingCommand(attribute, minInterval, maxInterval, reportableChange));
+    }
 
+    private ConfigureReportingCommand createConfigureReportingCommand(final ZclAttribute attribute,
+            final int minInterval, final int maxInterval, final Object reportableChange) {
         final AttributeReportingConfigurationRecord record = new AttributeReportingConfigurationRecord();
         record.setDirection(0);
         record.setAttributeIdentifier(attribute.getId());
@@ -1429,16 +2225,24 @@ public abstract class ZclCluster {
         record.setMaximumReportingInterval(maxInterval);
         record.setReportableChange(reportableChange);
         record.setTimeoutPeriod(0);
-        command.setRecords(Collections.singletonList(record));
+        return createConfigureReportingCommand(Collections.singletonList(record));
+    }
+
+    private ConfigureReportingCommand createConfigureReportingCommand(
+            final List<AttributeReportingConfigurationRecord> records) {
+        final ConfigureReportingCommand command = new ConfigureReportingCommand();
+        command.setClusterId(clusterId);
+        command.setRecords(records);
         command.setDestinationAddress(zigbeeEndpoint.getEndpointAddress());
 
-        if (isManufacturerSpecific()) {
-            command.setManufacturerCode(getManufacturerCode());
-        } else if (attribute.isManufacturerSpecific()) {
-            command.setManufacturerCode(attribute.getManufacturerCode());
+        if (!records.isEmpty()) {
+            Integer manufacturerCode = getAttributeManufacturerCode(records.get(0).getAttributeIdentifier());
+            if (manufacturerCode != null) {
+                command.setManufacturerCode(manufacturerCode);
+            }
         }
 
-        return send(command);
+        return command;
     }
 
     /**
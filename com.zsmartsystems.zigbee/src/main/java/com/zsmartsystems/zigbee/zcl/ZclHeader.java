@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl;
 
+import java.nio.ByteBuffer;
+
 import com.zsmartsystems.zigbee.zcl.protocol.ZclCommandDirection;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -324,6 +326,47 @@ public class ZclHeader {
      * @return the ZCL frame as {@link int[]}
      */
     public int[] serialize(ZclFieldSerializer fieldSerializer, int[] payload) {
+        int manufacturerCodeLength = manufacturerSpecific ? 2 : 0;
+
+        int[] zclFrame = new int[payload.length + 3 + manufacturerCodeLength];
+        zclFrame[0] = getFrameControl();
+        if (manufacturerSpecific) {
+            zclFrame[1] = manufacturerCode & 0xFF; // low byte of manufacturer code
+            zclFrame[2] = (manufacturerCode >> 8) & 0xFF; // high byte of manufacturer code
+        }
+        zclFrame[1 + manufacturerCodeLength] = sequenceNumber;
+        zclFrame[2 + manufacturerCodeLength] = commandId;
+
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            zclFrame[cnt + 3 + manufacturerCodeLength] = payload[cnt];
+        }
+        return zclFrame;
+    }
+
+    /**
+     * Serializes the ZCL header and adds the payload, thus producing the final ZCL packet. The header and payload are
+     * written directly into a single byte buffer without any intermediate integer arrays.
+     *
+     * @param fieldSerializer the {@link ZclFieldSerializer}
+     * @param payload the ZCL Payload as {@link ByteBuffer}. The remaining bytes in the buffer are used.
+     * @return the ZCL frame as {@link ByteBuffer}
+     */
+    public ByteBuffer serialize(ZclFieldSerializer fieldSerializer, ByteBuffer payload) {
+        int manufacturerCodeLength = manufacturerSpecific ? 2 : 0;
+
+        byte[] zclFrame = new byte[payload.remaining() + 3 + manufacturerCodeLength];
+        zclFrame[0] = (byte) getFrameControl();
+        if (manufacturerSpecific) {
+            zclFrame[1] = (byte) (manufacturerCode & 0xFF); // low byte of manufacturer code
+            zclFrame[2] = (byte) ((manufacturerCode >> 8) & 0xFF); // high byte of manufacturer code
+        }
+        zclFrame[1 + manufacturerCodeLength] = (byte) sequenceNumber;
+        zclFrame[2 + manufacturerCodeLength] = (byte) commandId;
+        payload.duplicate().get(zclFrame, 3 + manufacturerCodeLength, payload.remaining());
+        return ByteBuffer.wrap(zclFrame);
+    }
+
+    private int getFrameControl() {
         int frameControl = 0;
         switch (frameType) {
             case CLUSTER_SPECIFIC_COMMAND:
@@ -339,22 +382,7 @@ public class ZclHeader {
         frameControl |= manufacturerSpecific ? MASK_MANUFACTURER_SPECIFIC : 0b00000000;
         frameControl |= direction == ZclCommandDirection.SERVER_TO_CLIENT ? MASK_DIRECTION : 0b00000000;
         frameControl |= disableDefaultResponse ? MASK_DEFAULT_RESPONSE : 0b00000000;
-
-        int manufacturerCodeLength = manufacturerSpecific ? 2 : 0;
-
-        int[] zclFrame = new int[payload.length + 3 + manufacturerCodeLength];
-        zclFrame[0] = frameControl;
-        if (manufacturerSpecific) {
-            zclFrame[1] = manufacturerCode & 0xFF; // low byte of manufacturer code
-            zclFrame[2] = (manufacturerCode >> 8) & 0xFF; // high byte of manufacturer code
-        }
-        zclFrame[1 + manufacturerCodeLength] = sequenceNumber;
-        zclFrame[2 + manufacturerCodeLength] = commandId;
-
-        for (int cnt = 0; cnt < payload.length; cnt++) {
-            zclFrame[cnt + 3 + manufacturerCodeLength] = payload[cnt];
-        }
-        return zclFrame;
+        return frameControl;
     }
 
     @Override
@@ -0,0 +1,429 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.field.ReadAttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Packs the records of multi-attribute commands (read attributes, write attributes and configure reporting) into as
+ * few commands as possible without exceeding the maximum payload length of a single unfragmented frame, and merges the
+ * responses to the packed commands into a single result.
+ * <p>
+ * The maximum payload is derived from the maximum APS payload of an unfragmented frame using network layer security,
+ * reduced by the APS security overhead where APS security is used, and by the ZCL header.
+ *
+ * @author Chris Jackson
+ *
+ */
+final class ZclPayloadPacker {
+    private static final Logger logger = LoggerFactory.getLogger(ZclPayloadPacker.class);
+
+    /**
+     * The maximum APS payload of an unfragmented frame when network layer security is used
+     */
+    static final int MAX_APS_PAYLOAD = 82;
+
+    /**
+     * The length of the APS header for a unicast data frame
+     */
+    static final int APS_HEADER_LENGTH = 8;
+
+    /**
+     * The additional overhead of APS layer security - the auxiliary header and the MIC
+     */
+    static final int APS_SECURITY_OVERHEAD = 9;
+
+    /**
+     * The length of the ZCL header without the manufacturer code
+     */
+    static final int ZCL_HEADER_LENGTH = 3;
+
+    /**
+     * The additional length of the ZCL header when the manufacturer code is included
+     */
+    static final int MANUFACTURER_CODE_LENGTH = 2;
+
+    /**
+     * The length of a read attribute status record, excluding the attribute value
+     */
+    private static final int READ_RECORD_LENGTH = 4;
+
+    /**
+     * The length assumed for the value of a variable length attribute such as a string. Most strings defined in the
+     * ZCL are limited to 32 characters, plus the length byte.
+     */
+    private static final int VARIABLE_DATA_LENGTH = 33;
+
+    /**
+     * The length assumed for the value of an attribute where the data type is not known
+     */
+    private static final int UNKNOWN_DATA_LENGTH = 4;
+
+    private ZclPayloadPacker() {
+        // Static methods only
+    }
+
+    /**
+     * Gets the maximum ZCL payload length that can be sent to a node in a single frame.
+     *
+     * @param bufferSize the maximum buffer size from the node descriptor of the remote node, or 0 if not known
+     * @param apsSecurity true if APS security is used
+     * @param manufacturerSpecific true if the ZCL header will include the manufacturer code
+     * @return the maximum ZCL payload length
+     */
+    static int getMaxPayloadLength(int bufferSize, boolean apsSecurity, boolean manufacturerSpecific) {
+        int length = MAX_APS_PAYLOAD;
+        if (bufferSize > APS_HEADER_LENGTH) {
+            length = Math.min(length, bufferSize - APS_HEADER_LENGTH);
+        }
+        if (apsSecurity) {
+            length -= APS_SECURITY_OVERHEAD;
+        }
+        length -= ZCL_HEADER_LENGTH;
+        if (manufacturerSpecific) {
+            length -= MANUFACTURER_CODE_LENGTH;
+        }
+        return length;
+    }
+
+    /**
+     * Gets the length of a fixed length data type
+     *
+     * @param dataType the {@link ZclDataType}
+     * @return the length of the data in bytes, or -1 if the data type is not of fixed length
+     */
+    static int getDataLength(ZclDataType dataType) {
+        if (dataType == null) {
+            return -1;
+        }
+        switch (dataType) {
+            case DATA_8_BIT:
+            case BOOLEAN:
+            case BITMAP_8_BIT:
+            case UNSIGNED_8_BIT_INTEGER:
+            case SIGNED_8_BIT_INTEGER:
+            case ENUMERATION_8_BIT:
+                return 1;
+            case DATA_16_BIT:
+            case BITMAP_16_BIT:
+            case UNSIGNED_16_BIT_INTEGER:
+            case SIGNED_16_BIT_INTEGER:
+            case ENUMERATION_16_BIT:
+            case FLOAT_16_BIT:
+            case CLUSTERID:
+            case ATTRIBUTEID:
+                return 2;
+            case DATA_24_BIT:
+            case BITMAP_24_BIT:
+            case UNSIGNED_24_BIT_INTEGER:
+            case SIGNED_24_BIT_INTEGER:
+                return 3;
+            case DATA_32_BIT:
+            case BITMAP_32_BIT:
+            case UNSIGNED_32_BIT_INTEGER:
+            case SIGNED_32_BIT_INTEGER:
+            case ENUMERATION_32_BIT:
+            case FLOAT_32_BIT:
+            case TIME_OF_DAY:
+            case DATE:
+            case UTCTIME:
+            case BACNET_OID:
+                return 4;
+            case DATA_40_BIT:
+            case BITMAP_40_BIT:
+            case UNSIGNED_40_BIT_INTEGER:
+            case SIGNED_40_BIT_INTEGER:
+                return 5;
+            case DATA_48_BIT:
+            case BITMAP_48_BIT:
+            case UNSIGNED_48_BIT_INTEGER:
+            case SIGNED_48_BIT_INTEGER:
+                return 6;
+            case DATA_56_BIT:
+            case BITMAP_56_BIT:
+            case UNSIGNED_56_BIT_INTEGER:
+            case SIGNED_56_BIT_INTEGER:
+                return 7;
+            case DATA_64_BIT:
+            case BITMAP_64_BIT:
+            case UNSIGNED_64_BIT_INTEGER:
+            case SIGNED_64_BIT_INTEGER:
+            case FLOAT_64_BIT:
+            case IEEE_ADDRESS:
+                return 8;
+            case SECURITY_KEY:
+                return 16;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Gets the length of the record for an attribute in the response to a read attributes command. As the response is
+     * larger than the request, this is used to pack the read.
+     *
+     * @param dataType the {@link ZclDataType} of the attribute, or null if not known
+     * @return the expected length of the record
+     */
+    static int getReadRecordLength(ZclDataType dataType) {
+        if (dataType == null) {
+            return READ_RECORD_LENGTH + UNKNOWN_DATA_LENGTH;
+        }
+        int dataLength = getDataLength(dataType);
+        if (dataLength < 0) {
+            return READ_RECORD_LENGTH + VARIABLE_DATA_LENGTH;
+        }
+        return READ_RECORD_LENGTH + dataLength;
+    }
+
+    /**
+     * Gets the serialized length of a record
+     *
+     * @param record the {@link ZclListItemField} record
+     * @param maxLength the maximum payload length
+     * @return the length of the serialized record, or maxLength if the record can not be serialized
+     */
+    static int getRecordLength(ZclListItemField record, int maxLength) {
+        try {
+            DefaultSerializer serializer = new DefaultSerializer();
+            record.serialize(serializer);
+            return serializer.getPayload().length;
+        } catch (RuntimeException e) {
+            logger.debug("Unable to get length of record {}", record, e);
+            return maxLength;
+        }
+    }
+
+    /**
+     * Packs a list of records into groups where the total length of each group does not exceed the maximum length.
+     * The order of the records is retained, and a record longer than the maximum length is placed in a group on its
+     * own.
+     *
+     * @param records the records to pack
+     * @param lengths the length of each record
+     * @param maxLength the maximum length of each group
+     * @return the list of groups. An empty list of records returns a single empty group.
+     */
+    static <T> List<List<T>> pack(List<T> records, int[] lengths, int maxLength) {
+        List<List<T>> groups = new ArrayList<>();
+        List<T> group = new ArrayList<>();
+        int groupLength = 0;
+        for (int cnt = 0; cnt < records.size(); cnt++) {
+            if (!group.isEmpty() && groupLength + lengths[cnt] > maxLength) {
+                groups.add(group);
+                group = new ArrayList<>();
+                groupLength = 0;
+            }
+            group.add(records.get(cnt));
+            groupLength += lengths[cnt];
+        }
+        groups.add(group);
+        return groups;
+    }
+
+    /**
+     * Merges the results of packed read attributes commands. The records from each successful response are combined
+     * into a single {@link ReadAttributesResponse}. Attributes in a command that failed are given a status of FAILURE.
+     *
+     * @param commands the {@link ReadAttributesCommand}s that were sent
+     * @param results the {@link CommandResult} of each command
+     * @return the merged {@link CommandResult}. If all commands failed, the result of the first command.
+     */
+    static CommandResult mergeReadResults(List<ReadAttributesCommand> commands, List<CommandResult> results) {
+        ReadAttributesResponse merged = null;
+        List<ReadAttributeStatusRecord> records = new ArrayList<>();
+        for (int cnt = 0; cnt < results.size(); cnt++) {
+            CommandResult result = results.get(cnt);
+            if (!isResponse(result, ReadAttributesResponse.class)) {
+                for (Integer attributeId : commands.get(cnt).getIdentifiers()) {
+                    ReadAttributeStatusRecord record = new ReadAttributeStatusRecord();
+                    record.setAttributeIdentifier(attributeId);
+                    record.setStatus(ZclStatus.FAILURE);
+                    records.add(record);
+                }
+                continue;
+            }
+            ReadAttributesResponse response = result.getResponse();
+            if (merged == null) {
+                merged = new ReadAttributesResponse();
+                copyHeader(response, merged);
+            }
+            if (response.getRecords() != null) {
+                records.addAll(response.getRecords());
+            }
+        }
+
+        if (merged == null) {
+            return results.get(0);
+        }
+        merged.setRecords(records);
+        return new CommandResult(merged);
+    }
+
+    /**
+     * Merges the results of packed write attributes commands into a single {@link WriteAttributesResponse}. If all
+     * attributes were written successfully, the response contains a single record with the status set to SUCCESS,
+     * otherwise it contains a record for each attribute that failed. Attributes in a command that failed are given a
+     * status of FAILURE.
+     *
+     * @param commands the {@link WriteAttributesCommand}s that were sent
+     * @param results the {@link CommandResult} of each command
+     * @return the merged {@link CommandResult}. If all commands failed, the result of the first command.
+     */
+    static CommandResult mergeWriteResults(List<WriteAttributesCommand> commands, List<CommandResult> results) {
+        WriteAttributesResponse merged = null;
+        List<WriteAttributeStatusRecord> records = new ArrayList<>();
+        for (int cnt = 0; cnt < results.size(); cnt++) {
+            CommandResult result = results.get(cnt);
+            if (!isResponse(result, WriteAttributesResponse.class)) {
+                for (WriteAttributeRecord attribute : commands.get(cnt).getRecords()) {
+                    WriteAttributeStatusRecord record = new WriteAttributeStatusRecord();
+                    record.setAttributeIdentifier(attribute.getAttributeIdentifier());
+                    record.setStatus(ZclStatus.FAILURE.getId());
+                    records.add(record);
+                }
+                continue;
+            }
+            WriteAttributesResponse response = result.getResponse();
+            if (merged == null) {
+                merged = new WriteAttributesResponse();
+                copyHeader(response, merged);
+            }
+            if (response.getRecords() == null) {
+                continue;
+            }
+            for (WriteAttributeStatusRecord record : response.getRecords()) {
+                if (record.getStatus() != ZclStatus.SUCCESS.getId()) {
+                    records.add(record);
+                }
+            }
+        }
+
+        if (merged == null) {
+            return results.get(0);
+        }
+        if (records.isEmpty()) {
+            WriteAttributeStatusRecord record = new WriteAttributeStatusRecord();
+            record.setStatus(ZclStatus.SUCCESS.getId());
+            records.add(record);
+        }
+        merged.setRecords(records);
+        return new CommandResult(merged);
+    }
+
+    /**
+     * Merges the results of packed configure reporting commands into a single {@link ConfigureReportingResponse}. If
+     * all attributes were configured successfully, the response has the status set to SUCCESS, otherwise it contains
+     * a record for each attribute that failed. Attributes in a command that failed are given a status of FAILURE.
+     *
+     * @param commands the {@link ConfigureReportingCommand}s that were sent
+     * @param results the {@link CommandResult} of each command
+     * @return the merged {@link CommandResult}. If all commands failed, the result of the first command.
+     */
+    static CommandResult mergeReportingResults(List<ConfigureReportingCommand> commands,
+            List<CommandResult> results) {
+        ConfigureReportingResponse merged = null;
+        List<AttributeStatusRecord> records = new ArrayList<>();
+        for (int cnt = 0; cnt < results.size(); cnt++) {
+            CommandResult result = results.get(cnt);
+            if (!isResponse(result, ConfigureReportingResponse.class)) {
+                for (AttributeReportingConfigurationRecord attribute : commands.get(cnt).getRecords()) {
+                    AttributeStatusRecord record = new AttributeStatusRecord();
+                    record.setAttributeIdentifier(attribute.getAttributeIdentifier());
+                    record.setDirection(attribute.getDirection() == 1);
+                    record.setStatus(ZclStatus.FAILURE);
+                    records.add(record);
+                }
+                continue;
+            }
+            ConfigureReportingResponse response = result.getResponse();
+            if (merged == null) {
+                merged = new ConfigureReportingResponse();
+                copyHeader(response, merged);
+            }
+            if (response.getRecords() == null) {
+                continue;
+            }
+            for (AttributeStatusRecord record : response.getRecords()) {
+                if (record.getStatus() != ZclStatus.SUCCESS) {
+                    records.add(record);
+                }
+            }
+        }
+
+        if (merged == null) {
+            return results.get(0);
+        }
+        if (records.isEmpty()) {
+            merged.setStatus(ZclStatus.SUCCESS);
+        } else {
+            merged.setRecords(records);
+        }
+        return new CommandResult(merged);
+    }
+
+    /**
+     * Creates a copy of a {@link ReadAttributesResponse} containing only the record for a single attribute
+     *
+     * @param response the {@link ReadAttributesResponse}
+     * @param attributeId the attribute ID
+     * @return the {@link CommandResult} for the attribute, or an error result if the response does not contain a
+     *         record for the attribute
+     */
+    static CommandResult getReadResult(ReadAttributesResponse response, int attributeId) {
+        if (response.getRecords() == null) {
+            return new CommandResult();
+        }
+        for (ReadAttributeStatusRecord record : response.getRecords()) {
+            if (record.getAttributeIdentifier() == attributeId) {
+                ReadAttributesResponse attributeResponse = new ReadAttributesResponse();
+                copyHeader(response, attributeResponse);
+                attributeResponse.setRecords(Collections.singletonList(record));
+                return new CommandResult(attributeResponse);
+            }
+        }
+
+        // The device did not return a record for this attribute
+        return new CommandResult();
+    }
+
+    private static boolean isResponse(CommandResult result, Class<? extends ZclCommand> responseClass) {
+        return result != null && result.isSuccess() && responseClass.isInstance(result.getResponse());
+    }
+
+    private static void copyHeader(ZclCommand from, ZclCommand to) {
+        to.setClusterId(from.getClusterId());
+        to.setSourceAddress(from.getSourceAddress());
+        to.setDestinationAddress(from.getDestinationAddress());
+        to.setCommandDirection(from.getCommandDirection());
+        to.setApsSecurity(from.getApsSecurity());
+        if (from.getTransactionId() != null) {
+            to.setTransactionId(from.getTransactionId());
+        }
+    }
+}
@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl;
 
 import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionKey;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 
 /**
@@ -16,6 +17,9 @@ import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
  * Implements {@link ZigBeeTransactionMatcher} to check if a ZCL transaction matches a request.
  * The matcher will return true if the request and response transaction IDs match and the request destination address,
  * and response source address match.
+ * <p>
+ * As the match only depends on the address and transaction ID, the matcher provides a {@link ZigBeeTransactionKey} so
+ * that the transaction manager can route responses directly to the transaction.
  *
  * @author Chris Jackson
  */
@@ -34,4 +38,9 @@ public class ZclTransactionMatcher implements ZigBeeTransactionMatcher {
             return false;
         }
     }
+
+    @Override
+    public ZigBeeTransactionKey getTransactionKey(ZigBeeCommand request) {
+        return ZigBeeTransactionKey.forRequest(request);
+    }
 }
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.alarms.AlarmCommand;
@@ -44,7 +47,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-02T20:51:08Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclAlarmsCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -66,20 +69,38 @@ public class ZclAlarmsCluster extends ZclCluster {
      */
     public static final int ATTR_ALARMCOUNT = 0x0000;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(1);
+
+        attributeMap.put(ATTR_ALARMCOUNT, new ZclAttributeDefinition(ATTR_ALARMCOUNT, "Alarm Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(1);
-
-        attributeMap.put(ATTR_ALARMCOUNT, new ZclAttribute(this, ATTR_ALARMCOUNT, "Alarm Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -104,6 +125,34 @@ public class ZclAlarmsCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new AlarmCommand();
+            case 0x0001:
+                return new GetAlarmResponse();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ResetAlarmCommand();
+            case 0x0001:
+                return new ResetAllAlarmsCommand();
+            case 0x0002:
+                return new GetAlarmCommand();
+            case 0x0003:
+                return new ResetAlarmLogCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Alarms cluster.
      *
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.basic.ResetToFactoryDefaultsCommand;
@@ -30,7 +33,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-08-26T11:20:05Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -128,37 +131,55 @@ public class ZclBasicCluster extends ZclCluster {
      */
     public static final int ATTR_SWBUILDID = 0x4000;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(18);
+
+        attributeMap.put(ATTR_ZCLVERSION, new ZclAttributeDefinition(ATTR_ZCLVERSION, "ZCL Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPLICATIONVERSION, new ZclAttributeDefinition(ATTR_APPLICATIONVERSION, "Application Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_STACKVERSION, new ZclAttributeDefinition(ATTR_STACKVERSION, "Stack Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HWVERSION, new ZclAttributeDefinition(ATTR_HWVERSION, "HW Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MANUFACTURERNAME, new ZclAttributeDefinition(ATTR_MANUFACTURERNAME, "Manufacturer Name", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        attributeMap.put(ATTR_MODELIDENTIFIER, new ZclAttributeDefinition(ATTR_MODELIDENTIFIER, "Model Identifier", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DATECODE, new ZclAttributeDefinition(ATTR_DATECODE, "Date Code", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        attributeMap.put(ATTR_POWERSOURCE, new ZclAttributeDefinition(ATTR_POWERSOURCE, "Power Source", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GENERICDEVICECLASS, new ZclAttributeDefinition(ATTR_GENERICDEVICECLASS, "Generic Device Class", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_GENERICDEVICETYPE, new ZclAttributeDefinition(ATTR_GENERICDEVICETYPE, "Generic Device Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_PRODUCTCODE, new ZclAttributeDefinition(ATTR_PRODUCTCODE, "Product Code", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_PRODUCTURL, new ZclAttributeDefinition(ATTR_PRODUCTURL, "Product URL", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_LOCATIONDESCRIPTION, new ZclAttributeDefinition(ATTR_LOCATIONDESCRIPTION, "Location Description", ZclDataType.CHARACTER_STRING, true, true, true, false));
+        attributeMap.put(ATTR_PHYSICALENVIRONMENT, new ZclAttributeDefinition(ATTR_PHYSICALENVIRONMENT, "Physical Environment", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
+        attributeMap.put(ATTR_DEVICEENABLED, new ZclAttributeDefinition(ATTR_DEVICEENABLED, "Device Enabled", ZclDataType.BOOLEAN, true, true, true, false));
+        attributeMap.put(ATTR_ALARMMASK, new ZclAttributeDefinition(ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_8_BIT, true, true, true, false));
+        attributeMap.put(ATTR_DISABLELOCALCONFIG, new ZclAttributeDefinition(ATTR_DISABLELOCALCONFIG, "Disable Local Config", ZclDataType.BITMAP_8_BIT, true, true, true, false));
+        attributeMap.put(ATTR_SWBUILDID, new ZclAttributeDefinition(ATTR_SWBUILDID, "SW Build ID", ZclDataType.CHARACTER_STRING, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(18);
-
-        attributeMap.put(ATTR_ZCLVERSION, new ZclAttribute(this, ATTR_ZCLVERSION, "ZCL Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPLICATIONVERSION, new ZclAttribute(this, ATTR_APPLICATIONVERSION, "Application Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_STACKVERSION, new ZclAttribute(this, ATTR_STACKVERSION, "Stack Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HWVERSION, new ZclAttribute(this, ATTR_HWVERSION, "HW Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MANUFACTURERNAME, new ZclAttribute(this, ATTR_MANUFACTURERNAME, "Manufacturer Name", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_MODELIDENTIFIER, new ZclAttribute(this, ATTR_MODELIDENTIFIER, "Model Identifier", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DATECODE, new ZclAttribute(this, ATTR_DATECODE, "Date Code", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_POWERSOURCE, new ZclAttribute(this, ATTR_POWERSOURCE, "Power Source", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GENERICDEVICECLASS, new ZclAttribute(this, ATTR_GENERICDEVICECLASS, "Generic Device Class", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_GENERICDEVICETYPE, new ZclAttribute(this, ATTR_GENERICDEVICETYPE, "Generic Device Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PRODUCTCODE, new ZclAttribute(this, ATTR_PRODUCTCODE, "Product Code", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_PRODUCTURL, new ZclAttribute(this, ATTR_PRODUCTURL, "Product URL", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_LOCATIONDESCRIPTION, new ZclAttribute(this, ATTR_LOCATIONDESCRIPTION, "Location Description", ZclDataType.CHARACTER_STRING, true, true, true, false));
-        attributeMap.put(ATTR_PHYSICALENVIRONMENT, new ZclAttribute(this, ATTR_PHYSICALENVIRONMENT, "Physical Environment", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_DEVICEENABLED, new ZclAttribute(this, ATTR_DEVICEENABLED, "Device Enabled", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_ALARMMASK, new ZclAttribute(this, ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_DISABLELOCALCONFIG, new ZclAttribute(this, ATTR_DISABLELOCALCONFIG, "Disable Local Config", ZclDataType.BITMAP_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_SWBUILDID, new ZclAttribute(this, ATTR_SWBUILDID, "SW Build ID", ZclDataType.CHARACTER_STRING, false, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -170,6 +191,16 @@ public class ZclBasicCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ResetToFactoryDefaultsCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Basic cluster.
      *
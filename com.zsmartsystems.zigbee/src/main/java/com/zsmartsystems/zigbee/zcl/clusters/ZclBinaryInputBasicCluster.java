@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-02T20:51:08Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclBinaryInputBasicCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -164,28 +166,46 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(9);
+
+        attributeMap.put(ATTR_ACTIVETEXT, new ZclAttributeDefinition(ATTR_ACTIVETEXT, "Active Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_DESCRIPTION, new ZclAttributeDefinition(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_INACTIVETEXT, new ZclAttributeDefinition(ATTR_INACTIVETEXT, "Inactive Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttributeDefinition(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
+        attributeMap.put(ATTR_POLARITY, new ZclAttributeDefinition(ATTR_POLARITY, "Polarity", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttributeDefinition(ATTR_PRESENTVALUE, "Present Value", ZclDataType.BOOLEAN, true, true, true, true));
+        attributeMap.put(ATTR_RELIABILITY, new ZclAttributeDefinition(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttributeDefinition(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, true));
+        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttributeDefinition(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(9);
-
-        attributeMap.put(ATTR_ACTIVETEXT, new ZclAttribute(this, ATTR_ACTIVETEXT, "Active Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_INACTIVETEXT, new ZclAttribute(this, ATTR_INACTIVETEXT, "Inactive Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_POLARITY, new ZclAttribute(this, ATTR_POLARITY, "Polarity", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.BOOLEAN, true, true, true, true));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, true));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     /**
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.commissioning.ResetStartupParametersCommand;
@@ -35,7 +38,7 @@ import com.zsmartsystems.zigbee.zcl.clusters.commissioning.SaveStartupParameters
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-06-15T20:20:47Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclCommissioningCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -47,18 +50,36 @@ public class ZclCommissioningCluster extends ZclCluster {
      */
     public static final String CLUSTER_NAME = "Commissioning";
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -85,6 +106,38 @@ public class ZclCommissioningCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new RestartDeviceResponseResponse();
+            case 0x0001:
+                return new SaveStartupParametersResponse();
+            case 0x0002:
+                return new RestoreStartupParametersResponse();
+            case 0x0003:
+                return new ResetStartupParametersResponse();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new RestartDeviceCommand();
+            case 0x0001:
+                return new SaveStartupParametersCommand();
+            case 0x0002:
+                return new RestoreStartupParametersCommand();
+            case 0x0003:
+                return new ResetStartupParametersCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Commissioning cluster.
      *
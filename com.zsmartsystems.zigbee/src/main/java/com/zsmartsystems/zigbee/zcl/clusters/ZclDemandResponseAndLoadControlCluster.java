@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.demandresponseandloadcontrol.CancelAllLoadControlEvents;
@@ -45,7 +48,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-15T10:07:42Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclDemandResponseAndLoadControlCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -107,23 +110,41 @@ public class ZclDemandResponseAndLoadControlCluster extends ZclCluster {
      */
     public static final int ATTR_DEVICECLASSVALUE = 0x0003;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(4);
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(4);
+
+        attributeMap.put(ATTR_UTILITYENROLLMENTGROUP, new ZclAttributeDefinition(ATTR_UTILITYENROLLMENTGROUP, "Utility Enrollment Group", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_STARTRANDOMIZATIONMINUTES, new ZclAttributeDefinition(ATTR_STARTRANDOMIZATIONMINUTES, "Start Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_ENDRANDOMIZATIONMINUTES, new ZclAttributeDefinition(ATTR_ENDRANDOMIZATIONMINUTES, "End Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_DEVICECLASSVALUE, new ZclAttributeDefinition(ATTR_DEVICECLASSVALUE, "Device Class Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
 
-        attributeMap.put(ATTR_UTILITYENROLLMENTGROUP, new ZclAttribute(this, ATTR_UTILITYENROLLMENTGROUP, "Utility Enrollment Group", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_STARTRANDOMIZATIONMINUTES, new ZclAttribute(this, ATTR_STARTRANDOMIZATIONMINUTES, "Start Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ENDRANDOMIZATIONMINUTES, new ZclAttribute(this, ATTR_ENDRANDOMIZATIONMINUTES, "End Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DEVICECLASSVALUE, new ZclAttribute(this, ATTR_DEVICECLASSVALUE, "Device Class Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
 
-        return attributeMap;
+        return Collections.unmodifiableMap(attributeMap);
     }
 
     @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return createAttributeMap(clientAttributeDefinitions);
+    }
 
-        return attributeMap;
+    @Override
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -147,6 +168,32 @@ public class ZclDemandResponseAndLoadControlCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new LoadControlEventCommand();
+            case 0x0001:
+                return new CancelLoadControlEvent();
+            case 0x0002:
+                return new CancelAllLoadControlEvents();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ReportEventStatus();
+            case 0x0001:
+                return new GetScheduledEvents();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Demand Response And Load Control cluster.
      *
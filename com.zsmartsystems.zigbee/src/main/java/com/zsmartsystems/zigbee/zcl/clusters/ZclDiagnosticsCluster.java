@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,6 +17,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -28,7 +30,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-02T20:51:08Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclDiagnosticsCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -95,51 +97,69 @@ public class ZclDiagnosticsCluster extends ZclCluster {
     public static final int ATTR_LASTMESSAGELQI = 0x011C;
     public static final int ATTR_LASTMESSAGERSSI = 0x011D;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(32);
+
+        attributeMap.put(ATTR_NUMBEROFRESETS, new ZclAttributeDefinition(ATTR_NUMBEROFRESETS, "Number Of Resets", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PERSISTENTMEMORYWRITES, new ZclAttributeDefinition(ATTR_PERSISTENTMEMORYWRITES, "Persistent Memory Writes", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACRXBCAST, new ZclAttributeDefinition(ATTR_MACRXBCAST, "MAC Rx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXBCAST, new ZclAttributeDefinition(ATTR_MACTXBCAST, "MAC Tx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACRXUCAST, new ZclAttributeDefinition(ATTR_MACRXUCAST, "MAC Rx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXUCAST, new ZclAttributeDefinition(ATTR_MACTXUCAST, "MAC Tx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXUCASTRETRY, new ZclAttributeDefinition(ATTR_MACTXUCASTRETRY, "MAC Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MACTXUCASTFAIL, new ZclAttributeDefinition(ATTR_MACTXUCASTFAIL, "MAC Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSRXBCAST, new ZclAttributeDefinition(ATTR_APSRXBCAST, "APS Rx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXBCAST, new ZclAttributeDefinition(ATTR_APSTXBCAST, "APS Tx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSRXUCAST, new ZclAttributeDefinition(ATTR_APSRXUCAST, "APS Rx Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXUCASTSUCCESS, new ZclAttributeDefinition(ATTR_APSTXUCASTSUCCESS, "APS Tx Ucast Success", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXUCASTRETRY, new ZclAttributeDefinition(ATTR_APSTXUCASTRETRY, "APS Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSTXUCASTFAIL, new ZclAttributeDefinition(ATTR_APSTXUCASTFAIL, "APS Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ROUTEDISCINITIATED, new ZclAttributeDefinition(ATTR_ROUTEDISCINITIATED, "Route Disc Initiated", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEIGHBORADDED, new ZclAttributeDefinition(ATTR_NEIGHBORADDED, "Neighbor Added", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEIGHBORREMOVED, new ZclAttributeDefinition(ATTR_NEIGHBORREMOVED, "Neighbor Removed", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEIGHBORSTALE, new ZclAttributeDefinition(ATTR_NEIGHBORSTALE, "Neighbor Stale", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_JOININDICATION, new ZclAttributeDefinition(ATTR_JOININDICATION, "Join Indication", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CHILDMOVED, new ZclAttributeDefinition(ATTR_CHILDMOVED, "Child Moved", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NWKFCFAILURE, new ZclAttributeDefinition(ATTR_NWKFCFAILURE, "NWK FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSFCFAILURE, new ZclAttributeDefinition(ATTR_APSFCFAILURE, "APS FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSUNAUTHORIZEDKEY, new ZclAttributeDefinition(ATTR_APSUNAUTHORIZEDKEY, "APS Unauthorized Key", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NWKDECRYPTFAILURES, new ZclAttributeDefinition(ATTR_NWKDECRYPTFAILURES, "NWK Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APSDECRYPTFAILURES, new ZclAttributeDefinition(ATTR_APSDECRYPTFAILURES, "APS Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PACKETBUFFERALLOCATEFAILURES, new ZclAttributeDefinition(ATTR_PACKETBUFFERALLOCATEFAILURES, "Packet Buffer Allocate Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RELAYEDUCAST, new ZclAttributeDefinition(ATTR_RELAYEDUCAST, "Relayed Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PHYTOMACQUEUELIMITREACHED, new ZclAttributeDefinition(ATTR_PHYTOMACQUEUELIMITREACHED, "Phy To MAC Queue Limit Reached", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PACKETVALIDATEDROPCOUNT, new ZclAttributeDefinition(ATTR_PACKETVALIDATEDROPCOUNT, "Packet Validate Drop Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, new ZclAttributeDefinition(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, "Average MAC Retry Per APS Message Sent", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LASTMESSAGELQI, new ZclAttributeDefinition(ATTR_LASTMESSAGELQI, "Last Message LQI", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LASTMESSAGERSSI, new ZclAttributeDefinition(ATTR_LASTMESSAGERSSI, "Last Message RSSI", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(32);
-
-        attributeMap.put(ATTR_NUMBEROFRESETS, new ZclAttribute(this, ATTR_NUMBEROFRESETS, "Number Of Resets", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PERSISTENTMEMORYWRITES, new ZclAttribute(this, ATTR_PERSISTENTMEMORYWRITES, "Persistent Memory Writes", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACRXBCAST, new ZclAttribute(this, ATTR_MACRXBCAST, "MAC Rx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXBCAST, new ZclAttribute(this, ATTR_MACTXBCAST, "MAC Tx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACRXUCAST, new ZclAttribute(this, ATTR_MACRXUCAST, "MAC Rx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCAST, new ZclAttribute(this, ATTR_MACTXUCAST, "MAC Tx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCASTRETRY, new ZclAttribute(this, ATTR_MACTXUCASTRETRY, "MAC Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCASTFAIL, new ZclAttribute(this, ATTR_MACTXUCASTFAIL, "MAC Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSRXBCAST, new ZclAttribute(this, ATTR_APSRXBCAST, "APS Rx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXBCAST, new ZclAttribute(this, ATTR_APSTXBCAST, "APS Tx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSRXUCAST, new ZclAttribute(this, ATTR_APSRXUCAST, "APS Rx Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTSUCCESS, new ZclAttribute(this, ATTR_APSTXUCASTSUCCESS, "APS Tx Ucast Success", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTRETRY, new ZclAttribute(this, ATTR_APSTXUCASTRETRY, "APS Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTFAIL, new ZclAttribute(this, ATTR_APSTXUCASTFAIL, "APS Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ROUTEDISCINITIATED, new ZclAttribute(this, ATTR_ROUTEDISCINITIATED, "Route Disc Initiated", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORADDED, new ZclAttribute(this, ATTR_NEIGHBORADDED, "Neighbor Added", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORREMOVED, new ZclAttribute(this, ATTR_NEIGHBORREMOVED, "Neighbor Removed", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORSTALE, new ZclAttribute(this, ATTR_NEIGHBORSTALE, "Neighbor Stale", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_JOININDICATION, new ZclAttribute(this, ATTR_JOININDICATION, "Join Indication", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CHILDMOVED, new ZclAttribute(this, ATTR_CHILDMOVED, "Child Moved", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NWKFCFAILURE, new ZclAttribute(this, ATTR_NWKFCFAILURE, "NWK FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSFCFAILURE, new ZclAttribute(this, ATTR_APSFCFAILURE, "APS FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSUNAUTHORIZEDKEY, new ZclAttribute(this, ATTR_APSUNAUTHORIZEDKEY, "APS Unauthorized Key", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NWKDECRYPTFAILURES, new ZclAttribute(this, ATTR_NWKDECRYPTFAILURES, "NWK Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSDECRYPTFAILURES, new ZclAttribute(this, ATTR_APSDECRYPTFAILURES, "APS Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PACKETBUFFERALLOCATEFAILURES, new ZclAttribute(this, ATTR_PACKETBUFFERALLOCATEFAILURES, "Packet Buffer Allocate Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RELAYEDUCAST, new ZclAttribute(this, ATTR_RELAYEDUCAST, "Relayed Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHYTOMACQUEUELIMITREACHED, new ZclAttribute(this, ATTR_PHYTOMACQUEUELIMITREACHED, "Phy To MAC Queue Limit Reached", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PACKETVALIDATEDROPCOUNT, new ZclAttribute(this, ATTR_PACKETVALIDATEDROPCOUNT, "Packet Validate Drop Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, new ZclAttribute(this, ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, "Average MAC Retry Per APS Message Sent", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LASTMESSAGELQI, new ZclAttribute(this, ATTR_LASTMESSAGELQI, "Last Message LQI", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LASTMESSAGERSSI, new ZclAttribute(this, ATTR_LASTMESSAGERSSI, "Last Message RSSI", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     /**
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -16,6 +18,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.electricalmeasurement.GetMeasurementProfileCommand;
@@ -41,7 +44,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-02T20:51:08Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclElectricalMeasurementCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -241,147 +244,165 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
     public static final int ATTR_RMSVOLTAGESAGPERIODPHASEC = 0x0A16;
     public static final int ATTR_RMSVOLTAGESWELLPERIODPHASEC = 0x0A17;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(128);
+
+        attributeMap.put(ATTR_MEASUREMENTTYPE, new ZclAttributeDefinition(ATTR_MEASUREMENTTYPE, "Measurement Type", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGE, new ZclAttributeDefinition(ATTR_DCVOLTAGE, "DC Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEMIN, new ZclAttributeDefinition(ATTR_DCVOLTAGEMIN, "DC Voltage Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEMAX, new ZclAttributeDefinition(ATTR_DCVOLTAGEMAX, "DC Voltage Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENT, new ZclAttributeDefinition(ATTR_DCCURRENT, "DC Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTMIN, new ZclAttributeDefinition(ATTR_DCCURRENTMIN, "DC Current Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTMAX, new ZclAttributeDefinition(ATTR_DCCURRENTMAX, "DC Current Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWER, new ZclAttributeDefinition(ATTR_DCPOWER, "DC Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERMIN, new ZclAttributeDefinition(ATTR_DCPOWERMIN, "DC Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERMAX, new ZclAttributeDefinition(ATTR_DCPOWERMAX, "DC Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEMULTIPLIER, new ZclAttributeDefinition(ATTR_DCVOLTAGEMULTIPLIER, "DC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCVOLTAGEDIVISOR, new ZclAttributeDefinition(ATTR_DCVOLTAGEDIVISOR, "DC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_DCCURRENTMULTIPLIER, "DC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCCURRENTDIVISOR, new ZclAttributeDefinition(ATTR_DCCURRENTDIVISOR, "DC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERMULTIPLIER, new ZclAttributeDefinition(ATTR_DCPOWERMULTIPLIER, "DC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DCPOWERDIVISOR, new ZclAttributeDefinition(ATTR_DCPOWERDIVISOR, "DC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCY, new ZclAttributeDefinition(ATTR_ACFREQUENCY, "AC Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYMIN, new ZclAttributeDefinition(ATTR_ACFREQUENCYMIN, "AC Frequency Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYMAX, new ZclAttributeDefinition(ATTR_ACFREQUENCYMAX, "AC Frequency Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEUTRALCURRENT, new ZclAttributeDefinition(ATTR_NEUTRALCURRENT, "Neutral Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOTALACTIVEPOWER, new ZclAttributeDefinition(ATTR_TOTALACTIVEPOWER, "Total Active Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TOTALREACTIVEPOWER, new ZclAttributeDefinition(ATTR_TOTALREACTIVEPOWER, "Total Reactive Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TOTALAPPARENTPOWER, new ZclAttributeDefinition(ATTR_TOTALAPPARENTPOWER, "Total Apparent Power", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_MEASURED1STHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED1STHARMONICCURRENT, "Measured 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED3RDHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED3RDHARMONICCURRENT, "Measured 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED5THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED5THHARMONICCURRENT, "Measured 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED7THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED7THHARMONICCURRENT, "Measured 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED9THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED9THHARMONICCURRENT, "Measured 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASURED11THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASURED11THHARMONICCURRENT, "Measured 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE1STHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE1STHARMONICCURRENT, "Measured Phase 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, "Measured Phase 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE5THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE5THHARMONICCURRENT, "Measured Phase 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE7THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE7THHARMONICCURRENT, "Measured Phase 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE9THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE9THHARMONICCURRENT, "Measured Phase 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MEASUREDPHASE11THHARMONICCURRENT, new ZclAttributeDefinition(ATTR_MEASUREDPHASE11THHARMONICCURRENT, "Measured Phase 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYMULTIPLIER, new ZclAttributeDefinition(ATTR_ACFREQUENCYMULTIPLIER, "AC Frequency Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACFREQUENCYDIVISOR, new ZclAttributeDefinition(ATTR_ACFREQUENCYDIVISOR, "AC Frequency Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERMULTIPLIER, new ZclAttributeDefinition(ATTR_POWERMULTIPLIER, "Power Multiplier", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERDIVISOR, new ZclAttributeDefinition(ATTR_POWERDIVISOR, "Power Divisor", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HARMONICCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_HARMONICCURRENTMULTIPLIER, "Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PHASEHARMONICCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_PHASEHARMONICCURRENTMULTIPLIER, "Phase Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSVOLTAGE, new ZclAttributeDefinition(ATTR_INSTANTANEOUSVOLTAGE, "Instantaneous Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSLINECURRENT, new ZclAttributeDefinition(ATTR_INSTANTANEOUSLINECURRENT, "Instantaneous Line Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSACTIVECURRENT, new ZclAttributeDefinition(ATTR_INSTANTANEOUSACTIVECURRENT, "Instantaneous Active Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSREACTIVECURRENT, new ZclAttributeDefinition(ATTR_INSTANTANEOUSREACTIVECURRENT, "Instantaneous Reactive Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSPOWER, new ZclAttributeDefinition(ATTR_INSTANTANEOUSPOWER, "Instantaneous Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGE, new ZclAttributeDefinition(ATTR_RMSVOLTAGE, "RMS Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMIN, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMIN, "RMS Voltage Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMAX, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMAX, "RMS Voltage Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENT, new ZclAttributeDefinition(ATTR_RMSCURRENT, "RMS Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMIN, new ZclAttributeDefinition(ATTR_RMSCURRENTMIN, "RMS Current Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMAX, new ZclAttributeDefinition(ATTR_RMSCURRENTMAX, "RMS Current Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWER, new ZclAttributeDefinition(ATTR_ACTIVEPOWER, "Active Power", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMIN, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMIN, "Active Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMAX, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMAX, "Active Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVEPOWER, new ZclAttributeDefinition(ATTR_REACTIVEPOWER, "Reactive Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPARENTPOWER, new ZclAttributeDefinition(ATTR_APPARENTPOWER, "Apparent Power", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERFACTOR, new ZclAttributeDefinition(ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, new ZclAttributeDefinition(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, "Average RMS Voltage Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, "Average RMS Under Voltage Counter", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, "RMS Extreme Over Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, "RMS Extreme Under Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSVOLTAGESAGPERIOD, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAGPERIOD, "RMS Voltage Sag Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIOD, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELLPERIOD, "RMS Voltage Swell Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_ACVOLTAGEMULTIPLIER, new ZclAttributeDefinition(ATTR_ACVOLTAGEMULTIPLIER, "AC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACVOLTAGEDIVISOR, new ZclAttributeDefinition(ATTR_ACVOLTAGEDIVISOR, "AC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACCURRENTMULTIPLIER, new ZclAttributeDefinition(ATTR_ACCURRENTMULTIPLIER, "AC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACCURRENTDIVISOR, new ZclAttributeDefinition(ATTR_ACCURRENTDIVISOR, "AC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACPOWERMULTIPLIER, new ZclAttributeDefinition(ATTR_ACPOWERMULTIPLIER, "AC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACPOWERDIVISOR, new ZclAttributeDefinition(ATTR_ACPOWERDIVISOR, "AC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OVERLOADALARMSMASK, new ZclAttributeDefinition(ATTR_OVERLOADALARMSMASK, "Overload Alarms Mask", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_VOLTAGEOVERLOAD, new ZclAttributeDefinition(ATTR_VOLTAGEOVERLOAD, "Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTOVERLOAD, new ZclAttributeDefinition(ATTR_CURRENTOVERLOAD, "Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACOVERLOADALARMSMASK, new ZclAttributeDefinition(ATTR_ACOVERLOADALARMSMASK, "AC Overload Alarms Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_ACVOLTAGEOVERLOAD, new ZclAttributeDefinition(ATTR_ACVOLTAGEOVERLOAD, "AC Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACCURRENTOVERLOAD, new ZclAttributeDefinition(ATTR_ACCURRENTOVERLOAD, "AC Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACACTIVEPOWEROVERLOAD, new ZclAttributeDefinition(ATTR_ACACTIVEPOWEROVERLOAD, "AC Active Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACREACTIVEPOWEROVERLOAD, new ZclAttributeDefinition(ATTR_ACREACTIVEPOWEROVERLOAD, "AC Reactive Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGE, new ZclAttributeDefinition(ATTR_AVERAGERMSOVERVOLTAGE, "Average RMS Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGE, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGE, "Average RMS Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGE, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGE, "RMS Extreme Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGE, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGE, "RMS Extreme Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESAG, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAG, "RMS Voltage Sag", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESWELL, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELL, "RMS Voltage Swell", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LINECURRENTPHASEB, new ZclAttributeDefinition(ATTR_LINECURRENTPHASEB, "Line Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVECURRENTPHASEB, new ZclAttributeDefinition(ATTR_ACTIVECURRENTPHASEB, "Active Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVECURRENTPHASEB, new ZclAttributeDefinition(ATTR_REACTIVECURRENTPHASEB, "Reactive Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGEPHASEB, "RMS Voltage Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMINPHASEB, "RMS Voltage Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMAXPHASEB, "RMS Voltage Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTPHASEB, new ZclAttributeDefinition(ATTR_RMSCURRENTPHASEB, "RMS Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMINPHASEB, new ZclAttributeDefinition(ATTR_RMSCURRENTMINPHASEB, "RMS Current Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMAXPHASEB, new ZclAttributeDefinition(ATTR_RMSCURRENTMAXPHASEB, "RMS Current Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERPHASEB, new ZclAttributeDefinition(ATTR_ACTIVEPOWERPHASEB, "Active Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEB, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMINPHASEB, "Active Power Min Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEB, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMAXPHASEB, "Active Power Max Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVEPOWERPHASEB, new ZclAttributeDefinition(ATTR_REACTIVEPOWERPHASEB, "Reactive Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPARENTPOWERPHASEB, new ZclAttributeDefinition(ATTR_APPARENTPOWERPHASEB, "Apparent Power Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERFACTORPHASEB, new ZclAttributeDefinition(ATTR_POWERFACTORPHASEB, "Power Factor Phase B", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, new ZclAttributeDefinition(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, "Average RMS Voltage Measurement Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, new ZclAttributeDefinition(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, "Average RMS Over Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, "Average RMS Under Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, "RMS Extreme Over Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, "RMS Extreme Under Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAGPERIODPHASEB, "RMS Voltage Sag Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEB, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELLPERIODPHASEB, "RMS Voltage Swell Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LINECURRENTPHASEC, new ZclAttributeDefinition(ATTR_LINECURRENTPHASEC, "Line Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVECURRENTPHASEC, new ZclAttributeDefinition(ATTR_ACTIVECURRENTPHASEC, "Active Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVECURRENTPHASEC, new ZclAttributeDefinition(ATTR_REACTIVECURRENTPHASEC, "Reactive Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGEPHASEC, "RMS Voltage Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMINPHASEC, "RMS Voltage Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGEMAXPHASEC, "RMS Voltage Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTPHASEC, new ZclAttributeDefinition(ATTR_RMSCURRENTPHASEC, "RMS Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMINPHASEC, new ZclAttributeDefinition(ATTR_RMSCURRENTMINPHASEC, "RMS Current Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSCURRENTMAXPHASEC, new ZclAttributeDefinition(ATTR_RMSCURRENTMAXPHASEC, "RMS Current Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERPHASEC, new ZclAttributeDefinition(ATTR_ACTIVEPOWERPHASEC, "Active Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEC, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMINPHASEC, "Active Power Min Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEC, new ZclAttributeDefinition(ATTR_ACTIVEPOWERMAXPHASEC, "Active Power Max Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REACTIVEPOWERPHASEC, new ZclAttributeDefinition(ATTR_REACTIVEPOWERPHASEC, "Reactive Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_APPARENTPOWERPHASEC, new ZclAttributeDefinition(ATTR_APPARENTPOWERPHASEC, "Apparent Power Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_POWERFACTORPHASEC, new ZclAttributeDefinition(ATTR_POWERFACTORPHASEC, "Power Factor Phase C", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, new ZclAttributeDefinition(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, "Average RMS Voltage Measurement Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, new ZclAttributeDefinition(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, "Average RMS Over Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, new ZclAttributeDefinition(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, "Average RMS Under Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, "RMS Extreme Over Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, "RMS Extreme Under Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGESAGPERIODPHASEC, "RMS Voltage Sag Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEC, new ZclAttributeDefinition(ATTR_RMSVOLTAGESWELLPERIODPHASEC, "RMS Voltage Swell Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(128);
-
-        attributeMap.put(ATTR_MEASUREMENTTYPE, new ZclAttribute(this, ATTR_MEASUREMENTTYPE, "Measurement Type", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGE, new ZclAttribute(this, ATTR_DCVOLTAGE, "DC Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMIN, new ZclAttribute(this, ATTR_DCVOLTAGEMIN, "DC Voltage Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMAX, new ZclAttribute(this, ATTR_DCVOLTAGEMAX, "DC Voltage Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENT, new ZclAttribute(this, ATTR_DCCURRENT, "DC Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMIN, new ZclAttribute(this, ATTR_DCCURRENTMIN, "DC Current Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMAX, new ZclAttribute(this, ATTR_DCCURRENTMAX, "DC Current Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWER, new ZclAttribute(this, ATTR_DCPOWER, "DC Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMIN, new ZclAttribute(this, ATTR_DCPOWERMIN, "DC Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMAX, new ZclAttribute(this, ATTR_DCPOWERMAX, "DC Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMULTIPLIER, new ZclAttribute(this, ATTR_DCVOLTAGEMULTIPLIER, "DC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEDIVISOR, new ZclAttribute(this, ATTR_DCVOLTAGEDIVISOR, "DC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_DCCURRENTMULTIPLIER, "DC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTDIVISOR, new ZclAttribute(this, ATTR_DCCURRENTDIVISOR, "DC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMULTIPLIER, new ZclAttribute(this, ATTR_DCPOWERMULTIPLIER, "DC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERDIVISOR, new ZclAttribute(this, ATTR_DCPOWERDIVISOR, "DC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCY, new ZclAttribute(this, ATTR_ACFREQUENCY, "AC Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMIN, new ZclAttribute(this, ATTR_ACFREQUENCYMIN, "AC Frequency Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMAX, new ZclAttribute(this, ATTR_ACFREQUENCYMAX, "AC Frequency Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEUTRALCURRENT, new ZclAttribute(this, ATTR_NEUTRALCURRENT, "Neutral Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOTALACTIVEPOWER, new ZclAttribute(this, ATTR_TOTALACTIVEPOWER, "Total Active Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TOTALREACTIVEPOWER, new ZclAttribute(this, ATTR_TOTALREACTIVEPOWER, "Total Reactive Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TOTALAPPARENTPOWER, new ZclAttribute(this, ATTR_TOTALAPPARENTPOWER, "Total Apparent Power", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MEASURED1STHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED1STHARMONICCURRENT, "Measured 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED3RDHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED3RDHARMONICCURRENT, "Measured 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED5THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED5THHARMONICCURRENT, "Measured 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED7THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED7THHARMONICCURRENT, "Measured 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED9THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED9THHARMONICCURRENT, "Measured 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED11THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED11THHARMONICCURRENT, "Measured 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE1STHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE1STHARMONICCURRENT, "Measured Phase 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE3RDHARMONICCURRENT, "Measured Phase 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE5THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE5THHARMONICCURRENT, "Measured Phase 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE7THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE7THHARMONICCURRENT, "Measured Phase 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE9THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE9THHARMONICCURRENT, "Measured Phase 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE11THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE11THHARMONICCURRENT, "Measured Phase 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMULTIPLIER, new ZclAttribute(this, ATTR_ACFREQUENCYMULTIPLIER, "AC Frequency Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYDIVISOR, new ZclAttribute(this, ATTR_ACFREQUENCYDIVISOR, "AC Frequency Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERMULTIPLIER, new ZclAttribute(this, ATTR_POWERMULTIPLIER, "Power Multiplier", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERDIVISOR, new ZclAttribute(this, ATTR_POWERDIVISOR, "Power Divisor", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HARMONICCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_HARMONICCURRENTMULTIPLIER, "Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHASEHARMONICCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_PHASEHARMONICCURRENTMULTIPLIER, "Phase Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSVOLTAGE, new ZclAttribute(this, ATTR_INSTANTANEOUSVOLTAGE, "Instantaneous Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSLINECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSLINECURRENT, "Instantaneous Line Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSACTIVECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSACTIVECURRENT, "Instantaneous Active Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSREACTIVECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSREACTIVECURRENT, "Instantaneous Reactive Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSPOWER, new ZclAttribute(this, ATTR_INSTANTANEOUSPOWER, "Instantaneous Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGE, new ZclAttribute(this, ATTR_RMSVOLTAGE, "RMS Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMIN, new ZclAttribute(this, ATTR_RMSVOLTAGEMIN, "RMS Voltage Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAX, new ZclAttribute(this, ATTR_RMSVOLTAGEMAX, "RMS Voltage Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENT, new ZclAttribute(this, ATTR_RMSCURRENT, "RMS Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMIN, new ZclAttribute(this, ATTR_RMSCURRENTMIN, "RMS Current Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAX, new ZclAttribute(this, ATTR_RMSCURRENTMAX, "RMS Current Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWER, new ZclAttribute(this, ATTR_ACTIVEPOWER, "Active Power", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMIN, new ZclAttribute(this, ATTR_ACTIVEPOWERMIN, "Active Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAX, new ZclAttribute(this, ATTR_ACTIVEPOWERMAX, "Active Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWER, new ZclAttribute(this, ATTR_REACTIVEPOWER, "Reactive Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWER, new ZclAttribute(this, ATTR_APPARENTPOWER, "Apparent Power", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTOR, new ZclAttribute(this, ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, "Average RMS Voltage Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, "Average RMS Under Voltage Counter", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, "RMS Extreme Over Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, "RMS Extreme Under Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIOD, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIOD, "RMS Voltage Sag Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIOD, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIOD, "RMS Voltage Swell Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ACVOLTAGEMULTIPLIER, new ZclAttribute(this, ATTR_ACVOLTAGEMULTIPLIER, "AC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACVOLTAGEDIVISOR, new ZclAttribute(this, ATTR_ACVOLTAGEDIVISOR, "AC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_ACCURRENTMULTIPLIER, "AC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTDIVISOR, new ZclAttribute(this, ATTR_ACCURRENTDIVISOR, "AC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACPOWERMULTIPLIER, new ZclAttribute(this, ATTR_ACPOWERMULTIPLIER, "AC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACPOWERDIVISOR, new ZclAttribute(this, ATTR_ACPOWERDIVISOR, "AC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OVERLOADALARMSMASK, new ZclAttribute(this, ATTR_OVERLOADALARMSMASK, "Overload Alarms Mask", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_VOLTAGEOVERLOAD, new ZclAttribute(this, ATTR_VOLTAGEOVERLOAD, "Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTOVERLOAD, new ZclAttribute(this, ATTR_CURRENTOVERLOAD, "Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACOVERLOADALARMSMASK, new ZclAttribute(this, ATTR_ACOVERLOADALARMSMASK, "AC Overload Alarms Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_ACVOLTAGEOVERLOAD, new ZclAttribute(this, ATTR_ACVOLTAGEOVERLOAD, "AC Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTOVERLOAD, new ZclAttribute(this, ATTR_ACCURRENTOVERLOAD, "AC Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACACTIVEPOWEROVERLOAD, new ZclAttribute(this, ATTR_ACACTIVEPOWEROVERLOAD, "AC Active Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACREACTIVEPOWEROVERLOAD, new ZclAttribute(this, ATTR_ACREACTIVEPOWEROVERLOAD, "AC Reactive Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGE, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGE, "Average RMS Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGE, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGE, "Average RMS Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGE, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGE, "RMS Extreme Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGE, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGE, "RMS Extreme Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAG, new ZclAttribute(this, ATTR_RMSVOLTAGESAG, "RMS Voltage Sag", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELL, new ZclAttribute(this, ATTR_RMSVOLTAGESWELL, "RMS Voltage Swell", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LINECURRENTPHASEB, new ZclAttribute(this, ATTR_LINECURRENTPHASEB, "Line Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVECURRENTPHASEB, new ZclAttribute(this, ATTR_ACTIVECURRENTPHASEB, "Active Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVECURRENTPHASEB, new ZclAttribute(this, ATTR_REACTIVECURRENTPHASEB, "Reactive Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEPHASEB, "RMS Voltage Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEMINPHASEB, "RMS Voltage Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEMAXPHASEB, "RMS Voltage Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTPHASEB, "RMS Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMINPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTMINPHASEB, "RMS Current Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAXPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTMAXPHASEB, "RMS Current Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERPHASEB, "Active Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERMINPHASEB, "Active Power Min Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERMAXPHASEB, "Active Power Max Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWERPHASEB, new ZclAttribute(this, ATTR_REACTIVEPOWERPHASEB, "Reactive Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWERPHASEB, new ZclAttribute(this, ATTR_APPARENTPOWERPHASEB, "Apparent Power Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTORPHASEB, new ZclAttribute(this, ATTR_POWERFACTORPHASEB, "Power Factor Phase B", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, "Average RMS Voltage Measurement Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, "Average RMS Over Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, "Average RMS Under Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, "RMS Extreme Over Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, "RMS Extreme Under Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIODPHASEB, "RMS Voltage Sag Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIODPHASEB, "RMS Voltage Swell Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LINECURRENTPHASEC, new ZclAttribute(this, ATTR_LINECURRENTPHASEC, "Line Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVECURRENTPHASEC, new ZclAttribute(this, ATTR_ACTIVECURRENTPHASEC, "Active Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVECURRENTPHASEC, new ZclAttribute(this, ATTR_REACTIVECURRENTPHASEC, "Reactive Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEPHASEC, "RMS Voltage Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEMINPHASEC, "RMS Voltage Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEMAXPHASEC, "RMS Voltage Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTPHASEC, "RMS Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMINPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTMINPHASEC, "RMS Current Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAXPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTMAXPHASEC, "RMS Current Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERPHASEC, "Active Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERMINPHASEC, "Active Power Min Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERMAXPHASEC, "Active Power Max Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWERPHASEC, new ZclAttribute(this, ATTR_REACTIVEPOWERPHASEC, "Reactive Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWERPHASEC, new ZclAttribute(this, ATTR_APPARENTPOWERPHASEC, "Apparent Power Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTORPHASEC, new ZclAttribute(this, ATTR_POWERFACTORPHASEC, "Power Factor Phase C", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, "Average RMS Voltage Measurement Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, "Average RMS Over Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, "Average RMS Under Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, "RMS Extreme Over Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, "RMS Extreme Under Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIODPHASEC, "RMS Voltage Sag Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIODPHASEC, "RMS Voltage Swell Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -404,6 +425,30 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GetProfileInfoResponseCommand();
+            case 0x0001:
+                return new GetMeasurementProfileResponseCommand();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GetProfileInfoCommand();
+            case 0x0001:
+                return new GetMeasurementProfileCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Electrical Measurement cluster.
      *
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -18,6 +20,7 @@ import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.greenpower.GpCommissioningNotification;
@@ -48,7 +51,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-07-04T22:13:40Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclGreenPowerCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -84,42 +87,60 @@ public class ZclGreenPowerCluster extends ZclCluster {
     public static final int ATTR_GPSERVERSHAREDSECURITYKEY = 0x0021;
     public static final int ATTR_GPSERVERLINKKEY = 0x0022;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(11);
+
+        attributeMap.put(ATTR_GPPMAXPROXYTABLEENTRIES, new ZclAttributeDefinition(ATTR_GPPMAXPROXYTABLEENTRIES, "Gpp Max Proxy Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PROXYTABLE, new ZclAttributeDefinition(ATTR_PROXYTABLE, "Proxy Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYNUMBER, new ZclAttributeDefinition(ATTR_GPPNOTIFICATIONRETRYNUMBER, "Gpp Notification Retry Number", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYTIMER, new ZclAttributeDefinition(ATTR_GPPNOTIFICATIONRETRYTIMER, "Gpp Notification Retry Timer", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPPMAXSEARCHCOUNTER, new ZclAttributeDefinition(ATTR_GPPMAXSEARCHCOUNTER, "Gpp Max Search Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPPBLOCKEDGPDID, new ZclAttributeDefinition(ATTR_GPPBLOCKEDGPDID, "Gpp Blocked Gpd ID", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_GPPFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPPFUNCTIONALITY, "Gpp Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPPACTIVEFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPPACTIVEFUNCTIONALITY, "Gpp Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, new ZclAttributeDefinition(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, "Gp Client Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEY, new ZclAttributeDefinition(ATTR_GPCLIENTSHAREDSECURITYKEY, "Gp Client Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+        attributeMap.put(ATTR_GPCLIENTLINKKEY, new ZclAttributeDefinition(ATTR_GPCLIENTLINKKEY, "Gp Client Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(11);
+
+        attributeMap.put(ATTR_GPSMAXSINKTABLEENTRIES, new ZclAttributeDefinition(ATTR_GPSMAXSINKTABLEENTRIES, "Gps Max Sink Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SINKTABLE, new ZclAttributeDefinition(ATTR_SINKTABLE, "Sink Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_GPSCOMMUNICATIONMODE, new ZclAttributeDefinition(ATTR_GPSCOMMUNICATIONMODE, "Gps Communication Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSCOMMISSIONINGEXITMODE, new ZclAttributeDefinition(ATTR_GPSCOMMISSIONINGEXITMODE, "Gps Commissioning Exit Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSCOMMISSIONINGWINDOW, new ZclAttributeDefinition(ATTR_GPSCOMMISSIONINGWINDOW, "Gps Commissioning Window", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_GPSSECURITYLEVEL, new ZclAttributeDefinition(ATTR_GPSSECURITYLEVEL, "Gps Security Level", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPSFUNCTIONALITY, "Gps Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPSACTIVEFUNCTIONALITY, new ZclAttributeDefinition(ATTR_GPSACTIVEFUNCTIONALITY, "Gps Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, new ZclAttributeDefinition(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, "Gp Server Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEY, new ZclAttributeDefinition(ATTR_GPSERVERSHAREDSECURITYKEY, "Gp server Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+        attributeMap.put(ATTR_GPSERVERLINKKEY, new ZclAttributeDefinition(ATTR_GPSERVERLINKKEY, "Gp Server Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(11);
-
-        attributeMap.put(ATTR_GPPMAXPROXYTABLEENTRIES, new ZclAttribute(this, ATTR_GPPMAXPROXYTABLEENTRIES, "Gpp Max Proxy Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROXYTABLE, new ZclAttribute(this, ATTR_PROXYTABLE, "Proxy Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYNUMBER, new ZclAttribute(this, ATTR_GPPNOTIFICATIONRETRYNUMBER, "Gpp Notification Retry Number", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYTIMER, new ZclAttribute(this, ATTR_GPPNOTIFICATIONRETRYTIMER, "Gpp Notification Retry Timer", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPMAXSEARCHCOUNTER, new ZclAttribute(this, ATTR_GPPMAXSEARCHCOUNTER, "Gpp Max Search Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPBLOCKEDGPDID, new ZclAttribute(this, ATTR_GPPBLOCKEDGPDID, "Gpp Blocked Gpd ID", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPPFUNCTIONALITY, new ZclAttribute(this, ATTR_GPPFUNCTIONALITY, "Gpp Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPPACTIVEFUNCTIONALITY, new ZclAttribute(this, ATTR_GPPACTIVEFUNCTIONALITY, "Gpp Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, new ZclAttribute(this, ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, "Gp Client Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEY, new ZclAttribute(this, ATTR_GPCLIENTSHAREDSECURITYKEY, "Gp Client Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-        attributeMap.put(ATTR_GPCLIENTLINKKEY, new ZclAttribute(this, ATTR_GPCLIENTLINKKEY, "Gp Client Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(11);
-
-        attributeMap.put(ATTR_GPSMAXSINKTABLEENTRIES, new ZclAttribute(this, ATTR_GPSMAXSINKTABLEENTRIES, "Gps Max Sink Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SINKTABLE, new ZclAttribute(this, ATTR_SINKTABLE, "Sink Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPSCOMMUNICATIONMODE, new ZclAttribute(this, ATTR_GPSCOMMUNICATIONMODE, "Gps Communication Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSCOMMISSIONINGEXITMODE, new ZclAttribute(this, ATTR_GPSCOMMISSIONINGEXITMODE, "Gps Commissioning Exit Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSCOMMISSIONINGWINDOW, new ZclAttribute(this, ATTR_GPSCOMMISSIONINGWINDOW, "Gps Commissioning Window", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPSSECURITYLEVEL, new ZclAttribute(this, ATTR_GPSSECURITYLEVEL, "Gps Security Level", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSFUNCTIONALITY, new ZclAttribute(this, ATTR_GPSFUNCTIONALITY, "Gps Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPSACTIVEFUNCTIONALITY, new ZclAttribute(this, ATTR_GPSACTIVEFUNCTIONALITY, "Gps Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, new ZclAttribute(this, ATTR_GPSERVERSHAREDSECURITYKEYTYPE, "Gp Server Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEY, new ZclAttribute(this, ATTR_GPSERVERSHAREDSECURITYKEY, "Gp server Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-        attributeMap.put(ATTR_GPSERVERLINKKEY, new ZclAttribute(this, ATTR_GPSERVERLINKKEY, "Gp Server Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -154,6 +175,54 @@ public class ZclGreenPowerCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GpNotificationResponse();
+            case 0x0001:
+                return new GpPairing();
+            case 0x0002:
+                return new GpProxyCommissioningMode();
+            case 0x0006:
+                return new GpResponse();
+            case 0x000A:
+                return new GpSinkTableResponse();
+            case 0x000B:
+                return new GpProxyTableRequest();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GpNotification();
+            case 0x0001:
+                return new GpPairingSearch();
+            case 0x0003:
+                return new GpTunnelingStop();
+            case 0x0004:
+                return new GpCommissioningNotification();
+            case 0x0005:
+                return new GpSinkCommissioningMode();
+            case 0x0007:
+                return new GpTranslationTableUpdate();
+            case 0x0008:
+                return new GpTranslationTableRequest();
+            case 0x0009:
+                return new GpPairingConfiguration();
+            case 0x000A:
+                return new GpSinkTableRequest();
+            case 0x000B:
+                return new GpProxyTableResponse();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Green Power cluster.
      *
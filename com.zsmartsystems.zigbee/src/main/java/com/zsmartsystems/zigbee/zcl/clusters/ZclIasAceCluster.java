@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,6 +20,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.iasace.ArmCommand;
@@ -49,7 +52,7 @@ import com.zsmartsystems.zigbee.zcl.clusters.iasace.ZoneStatusChangedCommand;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-04-13T14:56:52Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclIasAceCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -61,18 +64,36 @@ public class ZclIasAceCluster extends ZclCluster {
      */
     public static final String CLUSTER_NAME = "IAS ACE";
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -110,6 +131,60 @@ public class ZclIasAceCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ArmResponse();
+            case 0x0001:
+                return new GetZoneIdMapResponse();
+            case 0x0002:
+                return new GetZoneInformationResponse();
+            case 0x0003:
+                return new ZoneStatusChangedCommand();
+            case 0x0004:
+                return new PanelStatusChangedCommand();
+            case 0x0005:
+                return new GetPanelStatusResponse();
+            case 0x0006:
+                return new SetBypassedZoneListCommand();
+            case 0x0007:
+                return new BypassResponse();
+            case 0x0008:
+                return new GetZoneStatusResponse();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ArmCommand();
+            case 0x0001:
+                return new BypassCommand();
+            case 0x0002:
+                return new EmergencyCommand();
+            case 0x0003:
+                return new FireCommand();
+            case 0x0004:
+                return new PanicCommand();
+            case 0x0005:
+                return new GetZoneIdMapCommand();
+            case 0x0006:
+                return new GetZoneInformationCommand();
+            case 0x0007:
+                return new GetPanelStatusCommand();
+            case 0x0008:
+                return new GetBypassedZoneListCommand();
+            case 0x0009:
+                return new GetZoneStatusCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a IAS ACE cluster.
      *
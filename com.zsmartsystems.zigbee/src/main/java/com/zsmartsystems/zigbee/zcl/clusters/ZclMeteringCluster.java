@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.metering.ChangeSupply;
@@ -66,7 +69,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-15T10:07:42Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclMeteringCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -2647,888 +2650,906 @@ public class ZclMeteringCluster extends ZclCluster {
     public static final int ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED = 0x0C5A;
     public static final int ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED = 0x0C5C;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(2);
+
+        attributeMap.put(ATTR_FUNCTIONALNOTIFICATIONFLAGS, new ZclAttributeDefinition(ATTR_FUNCTIONALNOTIFICATIONFLAGS, "Functional Notification Flags", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS2, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS2, "Notification Flags 2", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS3, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS3, "Notification Flags 3", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS4, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS4, "Notification Flags 4", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS5, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS5, "Notification Flags 5", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS6, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS6, "Notification Flags 6", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS7, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS7, "Notification Flags 7", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        attributeMap.put(ATTR_NOTIFICATIONFLAGS8, new ZclAttributeDefinition(ATTR_NOTIFICATIONFLAGS8, "Notification Flags 8", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(198);
+
+        attributeMap.put(ATTR_CURRENTSUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTSUMMATIONDELIVERED, "Current Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTSUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTSUMMATIONRECEIVED, "Current Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDDELIVERED, "Current Max Demand Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDRECEIVED, "Current Max Demand Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_DFTSUMMATION, new ZclAttributeDefinition(ATTR_DFTSUMMATION, "Dft Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_DAILYFREEZETIME, new ZclAttributeDefinition(ATTR_DAILYFREEZETIME, "Daily Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_POWERFACTOR, new ZclAttributeDefinition(ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_READINGSNAPSHOTTIME, new ZclAttributeDefinition(ATTR_READINGSNAPSHOTTIME, "Reading Snapshot Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, "Current Max Demand Delivered Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, new ZclAttributeDefinition(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, "Current Max Demand Received Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEFAULTUPDATEPERIOD, new ZclAttributeDefinition(ATTR_DEFAULTUPDATEPERIOD, "Default Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_FASTPOLLUPDATEPERIOD, new ZclAttributeDefinition(ATTR_FASTPOLLUPDATEPERIOD, "Fast Poll Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, "Current Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_DAILYCONSUMPTIONTARGET, new ZclAttributeDefinition(ATTR_DAILYCONSUMPTIONTARGET, "Daily Consumption Target", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCK, new ZclAttributeDefinition(ATTR_CURRENTBLOCK, "Current Block", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_PROFILEINTERVALPERIOD, new ZclAttributeDefinition(ATTR_PROFILEINTERVALPERIOD, "Profile Interval Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_INTERVALREADREPORTINGPERIOD, new ZclAttributeDefinition(ATTR_INTERVALREADREPORTINGPERIOD, "Interval Read Reporting Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRESETREADINGTIME, new ZclAttributeDefinition(ATTR_PRESETREADINGTIME, "Preset Reading Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_VOLUMEPERREPORT, new ZclAttributeDefinition(ATTR_VOLUMEPERREPORT, "Volume Per Report", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_FLOWRESTRICTION, new ZclAttributeDefinition(ATTR_FLOWRESTRICTION, "Flow Restriction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_SUPPLYSTATUS, new ZclAttributeDefinition(ATTR_SUPPLYSTATUS, "Supply Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, new ZclAttributeDefinition(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, "Current Inlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, new ZclAttributeDefinition(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, "Current Outlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_INLETTEMPERATURE, new ZclAttributeDefinition(ATTR_INLETTEMPERATURE, "Inlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_OUTLETTEMPERATURE, new ZclAttributeDefinition(ATTR_OUTLETTEMPERATURE, "Outlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CONTROLTEMPERATURE, new ZclAttributeDefinition(ATTR_CONTROLTEMPERATURE, "Control Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTINLETENERGYCARRIERDEMAND, "Current Inlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, "Current Outlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, "Previous Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, "Current Block Period Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBLOCKRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTBLOCKRECEIVED, "Current Block Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_DFTSUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_DFTSUMMATIONRECEIVED, "Dft Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_ACTIVEREGISTERTIERDELIVERED, new ZclAttributeDefinition(ATTR_ACTIVEREGISTERTIERDELIVERED, "Active Register Tier Delivered", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_ACTIVEREGISTERTIERRECEIVED, new ZclAttributeDefinition(ATTR_ACTIVEREGISTERTIERRECEIVED, "Active Register Tier Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_LASTBLOCKSWITCHTIME, new ZclAttributeDefinition(ATTR_LASTBLOCKSWITCHTIME, "Last Block Switch Time", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1SUMMATIONDELIVERED, "Current Tier 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3SUMMATIONDELIVERED, "Current Tier 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5SUMMATIONDELIVERED, "Current Tier 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7SUMMATIONDELIVERED, "Current Tier 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9SUMMATIONDELIVERED, "Current Tier 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11SUMMATIONDELIVERED, "Current Tier 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13SUMMATIONDELIVERED, "Current Tier 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15SUMMATIONDELIVERED, "Current Tier 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER17SUMMATIONDELIVERED, "Current Tier 17 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER19SUMMATIONDELIVERED, "Current Tier 19 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER21SUMMATIONDELIVERED, "Current Tier 21 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER23SUMMATIONDELIVERED, "Current Tier 23 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER25SUMMATIONDELIVERED, "Current Tier 25 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER27SUMMATIONDELIVERED, "Current Tier 27 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER29SUMMATIONDELIVERED, "Current Tier 29 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER31SUMMATIONDELIVERED, "Current Tier 31 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER33SUMMATIONDELIVERED, "Current Tier 33 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER35SUMMATIONDELIVERED, "Current Tier 35 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER37SUMMATIONDELIVERED, "Current Tier 37 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER39SUMMATIONDELIVERED, "Current Tier 39 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER41SUMMATIONDELIVERED, "Current Tier 41 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER43SUMMATIONDELIVERED, "Current Tier 43 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER45SUMMATIONDELIVERED, "Current Tier 45 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER47SUMMATIONDELIVERED, "Current Tier 47 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER49SUMMATIONDELIVERED, "Current Tier 49 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER51SUMMATIONDELIVERED, "Current Tier 51 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER53SUMMATIONDELIVERED, "Current Tier 53 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER55SUMMATIONDELIVERED, "Current Tier 55 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER57SUMMATIONDELIVERED, "Current Tier 57 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER59SUMMATIONDELIVERED, "Current Tier 59 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER61SUMMATIONDELIVERED, "Current Tier 61 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER63SUMMATIONDELIVERED, "Current Tier 63 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER65SUMMATIONDELIVERED, "Current Tier 65 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER67SUMMATIONDELIVERED, "Current Tier 67 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER69SUMMATIONDELIVERED, "Current Tier 69 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER71SUMMATIONDELIVERED, "Current Tier 71 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER73SUMMATIONDELIVERED, "Current Tier 73 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER75SUMMATIONDELIVERED, "Current Tier 75 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER77SUMMATIONDELIVERED, "Current Tier 77 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER79SUMMATIONDELIVERED, "Current Tier 79 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER81SUMMATIONDELIVERED, "Current Tier 81 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER83SUMMATIONDELIVERED, "Current Tier 83 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER85SUMMATIONDELIVERED, "Current Tier 85 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER87SUMMATIONDELIVERED, "Current Tier 87 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER89SUMMATIONDELIVERED, "Current Tier 89 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER91SUMMATIONDELIVERED, "Current Tier 91 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER93SUMMATIONDELIVERED, "Current Tier 93 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER95SUMMATIONDELIVERED, "Current Tier 95 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1SUMMATIONRECEIVED, "Current Tier 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3SUMMATIONRECEIVED, "Current Tier 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5SUMMATIONRECEIVED, "Current Tier 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7SUMMATIONRECEIVED, "Current Tier 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9SUMMATIONRECEIVED, "Current Tier 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11SUMMATIONRECEIVED, "Current Tier 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13SUMMATIONRECEIVED, "Current Tier 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15SUMMATIONRECEIVED, "Current Tier 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER17SUMMATIONRECEIVED, "Current Tier 17 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER19SUMMATIONRECEIVED, "Current Tier 19 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER21SUMMATIONRECEIVED, "Current Tier 21 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER23SUMMATIONRECEIVED, "Current Tier 23 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER25SUMMATIONRECEIVED, "Current Tier 25 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER27SUMMATIONRECEIVED, "Current Tier 27 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER29SUMMATIONRECEIVED, "Current Tier 29 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER31SUMMATIONRECEIVED, "Current Tier 31 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER33SUMMATIONRECEIVED, "Current Tier 33 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER35SUMMATIONRECEIVED, "Current Tier 35 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER37SUMMATIONRECEIVED, "Current Tier 37 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER39SUMMATIONRECEIVED, "Current Tier 39 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER41SUMMATIONRECEIVED, "Current Tier 41 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER43SUMMATIONRECEIVED, "Current Tier 43 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER45SUMMATIONRECEIVED, "Current Tier 45 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER47SUMMATIONRECEIVED, "Current Tier 47 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER49SUMMATIONRECEIVED, "Current Tier 49 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER51SUMMATIONRECEIVED, "Current Tier 51 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER53SUMMATIONRECEIVED, "Current Tier 53 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER55SUMMATIONRECEIVED, "Current Tier 55 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER57SUMMATIONRECEIVED, "Current Tier 57 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER59SUMMATIONRECEIVED, "Current Tier 59 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER61SUMMATIONRECEIVED, "Current Tier 61 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER63SUMMATIONRECEIVED, "Current Tier 63 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER65SUMMATIONRECEIVED, "Current Tier 65 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER67SUMMATIONRECEIVED, "Current Tier 67 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER69SUMMATIONRECEIVED, "Current Tier 69 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER71SUMMATIONRECEIVED, "Current Tier 71 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER73SUMMATIONRECEIVED, "Current Tier 73 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER75SUMMATIONRECEIVED, "Current Tier 75 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER77SUMMATIONRECEIVED, "Current Tier 77 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER79SUMMATIONRECEIVED, "Current Tier 79 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER81SUMMATIONRECEIVED, "Current Tier 81 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER83SUMMATIONRECEIVED, "Current Tier 83 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER85SUMMATIONRECEIVED, "Current Tier 85 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER87SUMMATIONRECEIVED, "Current Tier 87 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER89SUMMATIONRECEIVED, "Current Tier 89 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER91SUMMATIONRECEIVED, "Current Tier 91 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER93SUMMATIONRECEIVED, "Current Tier 93 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER95SUMMATIONRECEIVED, "Current Tier 95 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CPP1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CPP1SUMMATIONDELIVERED, "CPP 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CPP2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CPP2SUMMATIONDELIVERED, "CPP 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_STATUS, new ZclAttributeDefinition(ATTR_STATUS, "Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_REMAININGBATTERYLIFE, new ZclAttributeDefinition(ATTR_REMAININGBATTERYLIFE, "Remaining Battery Life", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HOURSINOPERATION, new ZclAttributeDefinition(ATTR_HOURSINOPERATION, "Hours In Operation", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HOURSINFAULT, new ZclAttributeDefinition(ATTR_HOURSINFAULT, "Hours In Fault", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EXTENDEDSTATUS, new ZclAttributeDefinition(ATTR_EXTENDEDSTATUS, "Extended Status", ZclDataType.BITMAP_64_BIT, true, true, false, false));
+        attributeMap.put(ATTR_REMAININGBATTERYLIFEINDAYS, new ZclAttributeDefinition(ATTR_REMAININGBATTERYLIFEINDAYS, "Remaining Battery Life In Days", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMETERID, new ZclAttributeDefinition(ATTR_CURRENTMETERID, "Current Meter ID", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_AMBIENTCONSUMPTIONINDICATOR, new ZclAttributeDefinition(ATTR_AMBIENTCONSUMPTIONINDICATOR, "Ambient Consumption Indicator", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttributeDefinition(ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_MULTIPLIER, new ZclAttributeDefinition(ATTR_MULTIPLIER, "Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DIVISOR, new ZclAttributeDefinition(ATTR_DIVISOR, "Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SUMMATIONFORMATTING, new ZclAttributeDefinition(ATTR_SUMMATIONFORMATTING, "Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDFORMATTING, new ZclAttributeDefinition(ATTR_DEMANDFORMATTING, "Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_HISTORICALCONSUMPTIONFORMATTING, new ZclAttributeDefinition(ATTR_HISTORICALCONSUMPTIONFORMATTING, "Historical Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_METERINGDEVICETYPE, new ZclAttributeDefinition(ATTR_METERINGDEVICETYPE, "Metering Device Type", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SITEID, new ZclAttributeDefinition(ATTR_SITEID, "Site ID", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_METERSERIALNUMBER, new ZclAttributeDefinition(ATTR_METERSERIALNUMBER, "Meter Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_ENERGYCARRIERUNITOFMEASURE, new ZclAttributeDefinition(ATTR_ENERGYCARRIERUNITOFMEASURE, "Energy Carrier Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, new ZclAttributeDefinition(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, "Energy Carrier Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ENERGYCARRIERDEMANDFORMATTING, new ZclAttributeDefinition(ATTR_ENERGYCARRIERDEMANDFORMATTING, "Energy Carrier Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TEMPERATUREUNITOFMEASURE, new ZclAttributeDefinition(ATTR_TEMPERATUREUNITOFMEASURE, "Temperature Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TEMPERATUREFORMATTING, new ZclAttributeDefinition(ATTR_TEMPERATUREFORMATTING, "Temperature Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_MODULESERIALNUMBER, new ZclAttributeDefinition(ATTR_MODULESERIALNUMBER, "Module Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_OPERATINGTARIFFLABELDELIVERED, new ZclAttributeDefinition(ATTR_OPERATINGTARIFFLABELDELIVERED, "Operating Tariff Label Delivered", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_OPERATINGTARIFFLABELRECEIVED, new ZclAttributeDefinition(ATTR_OPERATINGTARIFFLABELRECEIVED, "Operating Tariff Label Received", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_CUSTOMERIDNUMBER, new ZclAttributeDefinition(ATTR_CUSTOMERIDNUMBER, "Customer ID Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVEUNITOFMEASURE, new ZclAttributeDefinition(ATTR_ALTERNATIVEUNITOFMEASURE, "Alternative Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVEDEMANDFORMATTING, new ZclAttributeDefinition(ATTR_ALTERNATIVEDEMANDFORMATTING, "Alternative Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, new ZclAttributeDefinition(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, "Alternative Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_INSTANTANEOUSDEMAND, new ZclAttributeDefinition(ATTR_INSTANTANEOUSDEMAND, "Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, "Current Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, "Current Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, "Previous Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, "Previous Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, "Current Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMAXPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYMAXPRESSURE, "Current Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMINPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYMINPRESSURE, "Current Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMAXPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMAXPRESSURE, "Previous Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMINPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMINPRESSURE, "Previous Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTDAYMAXDEMAND, "Current Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMAXDEMAND, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMAXDEMAND, "Previous Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHMAXDEMAND, "Current Month Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARMAXDEMAND, "Current Year Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, "Current Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, "Previous Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, "Current Month Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, "Current Month Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, "Current Year Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, "Current Year Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, "Previous Day 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, "Previous Day 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, "Previous Day 6 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, "Previous Day 8 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, "Previous Day 10 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, "Previous Day 12 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, "Previous Day 14 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, "Previous Day 16 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, "Previous Day 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, "Previous Day 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, "Previous Day 6 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, "Previous Day 8 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, "Previous Day 10 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, "Previous Day 12 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, "Previous Day 14 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, "Previous Day 16 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, "Current Week Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, "Current Week Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, "Previous Week 1 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, "Previous Week 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, "Previous Week 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, "Previous Week 7 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, "Previous Week 9 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, "Previous Week 1 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, "Previous Week 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, "Previous Week 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, "Previous Week 7 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, "Previous Week 9 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, "Current Month Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, "Current Month Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, "Previous Month 1 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, "Previous Month 3 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, "Previous Month 5 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, "Previous Month 7 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, "Previous Month 9 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, "Previous Month 11 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, "Previous Month 13 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, "Previous Month 15 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, "Previous Month 17 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, "Previous Month 19 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, "Previous Month 21 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, "Previous Month 23 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, "Previous Month 25 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, "Previous Month 1 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, "Previous Month 3 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, "Previous Month 5 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, "Previous Month 7 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, "Previous Month 9 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, "Previous Month 11 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, "Previous Month 13 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, "Previous Month 15 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, "Previous Month 17 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, "Previous Month 19 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, "Previous Month 21 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, "Previous Month 23 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, "Previous Month 25 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttributeDefinition(ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXNUMBEROFPERIODSDELIVERED, new ZclAttributeDefinition(ATTR_MAXNUMBEROFPERIODSDELIVERED, "Max Number Of Periods Delivered", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDEMANDDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDEMANDDELIVERED, "Current Demand Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDLIMIT, new ZclAttributeDefinition(ATTR_DEMANDLIMIT, "Demand Limit", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDINTEGRATIONPERIOD, new ZclAttributeDefinition(ATTR_DEMANDINTEGRATIONPERIOD, "Demand Integration Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFDEMANDSUBINTERVALS, new ZclAttributeDefinition(ATTR_NUMBEROFDEMANDSUBINTERVALS, "Number Of Demand Subintervals", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEMANDLIMITARMDURATION, new ZclAttributeDefinition(ATTR_DEMANDLIMITARMDURATION, "Demand Limit Arm Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LOADLIMITSUPPLYSTATE, new ZclAttributeDefinition(ATTR_LOADLIMITSUPPLYSTATE, "Load Limit Supply State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_LOADLIMITCOUNTER, new ZclAttributeDefinition(ATTR_LOADLIMITCOUNTER, "Load Limit Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_SUPPLYTAMPERSTATE, new ZclAttributeDefinition(ATTR_SUPPLYTAMPERSTATE, "Supply Tamper State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SUPPLYDEPLETIONSTATE, new ZclAttributeDefinition(ATTR_SUPPLYDEPLETIONSTATE, "Supply Depletion State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, new ZclAttributeDefinition(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, "Supply Uncontrolled Flow State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, "Current No Tier Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, "Current No Tier Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, "Current No Tier Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, "Current No Tier Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, "Current No Tier Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, "Current No Tier Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, "Current No Tier Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, "Current No Tier Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, "Current No Tier Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, "Current No Tier Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, "Current No Tier Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, "Current No Tier Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, "Current No Tier Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, "Current No Tier Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, "Current No Tier Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, "Current No Tier Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, "Current Tier 1 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, "Current Tier 1 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, "Current Tier 1 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, "Current Tier 1 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, "Current Tier 1 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, "Current Tier 1 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, "Current Tier 1 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, "Current Tier 1 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, "Current Tier 1 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, "Current Tier 1 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, "Current Tier 1 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, "Current Tier 1 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, "Current Tier 1 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, "Current Tier 1 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, "Current Tier 1 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, "Current Tier 1 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, "Current Tier 2 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, "Current Tier 2 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, "Current Tier 2 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, "Current Tier 2 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, "Current Tier 2 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, "Current Tier 2 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, "Current Tier 2 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, "Current Tier 2 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, "Current Tier 2 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, "Current Tier 2 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, "Current Tier 2 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, "Current Tier 2 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, "Current Tier 2 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, "Current Tier 2 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, "Current Tier 2 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, "Current Tier 2 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, "Current Tier 3 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, "Current Tier 3 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, "Current Tier 3 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, "Current Tier 3 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, "Current Tier 3 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, "Current Tier 3 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, "Current Tier 3 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, "Current Tier 3 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, "Current Tier 3 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, "Current Tier 3 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, "Current Tier 3 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, "Current Tier 3 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, "Current Tier 3 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, "Current Tier 3 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, "Current Tier 3 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, "Current Tier 3 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, "Current Tier 4 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, "Current Tier 4 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, "Current Tier 4 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, "Current Tier 4 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, "Current Tier 4 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, "Current Tier 4 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, "Current Tier 4 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, "Current Tier 4 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, "Current Tier 4 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, "Current Tier 4 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, "Current Tier 4 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, "Current Tier 4 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, "Current Tier 4 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, "Current Tier 4 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, "Current Tier 4 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, "Current Tier 4 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, "Current Tier 5 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, "Current Tier 5 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, "Current Tier 5 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, "Current Tier 5 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, "Current Tier 5 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, "Current Tier 5 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, "Current Tier 5 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, "Current Tier 5 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, "Current Tier 5 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, "Current Tier 5 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, "Current Tier 5 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, "Current Tier 5 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, "Current Tier 5 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, "Current Tier 5 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, "Current Tier 5 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, "Current Tier 5 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, "Current Tier 6 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, "Current Tier 6 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, "Current Tier 6 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, "Current Tier 6 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, "Current Tier 6 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, "Current Tier 6 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, "Current Tier 6 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, "Current Tier 6 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, "Current Tier 6 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, "Current Tier 6 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, "Current Tier 6 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, "Current Tier 6 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, "Current Tier 6 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, "Current Tier 6 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, "Current Tier 6 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, "Current Tier 6 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, "Current Tier 7 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, "Current Tier 7 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, "Current Tier 7 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, "Current Tier 7 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, "Current Tier 7 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, "Current Tier 7 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, "Current Tier 7 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, "Current Tier 7 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, "Current Tier 7 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, "Current Tier 7 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, "Current Tier 7 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, "Current Tier 7 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, "Current Tier 7 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, "Current Tier 7 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, "Current Tier 7 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, "Current Tier 7 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, "Current Tier 8 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, "Current Tier 8 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, "Current Tier 8 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, "Current Tier 8 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, "Current Tier 8 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, "Current Tier 8 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, "Current Tier 8 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, "Current Tier 8 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, "Current Tier 8 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, "Current Tier 8 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, "Current Tier 8 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, "Current Tier 8 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, "Current Tier 8 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, "Current Tier 8 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, "Current Tier 8 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, "Current Tier 8 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, "Current Tier 9 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, "Current Tier 9 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, "Current Tier 9 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, "Current Tier 9 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, "Current Tier 9 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, "Current Tier 9 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, "Current Tier 9 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, "Current Tier 9 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, "Current Tier 9 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, "Current Tier 9 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, "Current Tier 9 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, "Current Tier 9 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, "Current Tier 9 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, "Current Tier 9 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, "Current Tier 9 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, "Current Tier 9 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, "Current Tier 10 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, "Current Tier 10 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, "Current Tier 10 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, "Current Tier 10 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, "Current Tier 10 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, "Current Tier 10 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, "Current Tier 10 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, "Current Tier 10 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, "Current Tier 10 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, "Current Tier 10 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, "Current Tier 10 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, "Current Tier 10 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, "Current Tier 10 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, "Current Tier 10 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, "Current Tier 10 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, "Current Tier 10 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, "Current Tier 11 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, "Current Tier 11 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, "Current Tier 11 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, "Current Tier 11 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, "Current Tier 11 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, "Current Tier 11 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, "Current Tier 11 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, "Current Tier 11 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, "Current Tier 11 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, "Current Tier 11 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, "Current Tier 11 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, "Current Tier 11 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, "Current Tier 11 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, "Current Tier 11 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, "Current Tier 11 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, "Current Tier 11 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, "Current Tier 12 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, "Current Tier 12 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, "Current Tier 12 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, "Current Tier 12 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, "Current Tier 12 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, "Current Tier 12 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, "Current Tier 12 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, "Current Tier 12 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, "Current Tier 12 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, "Current Tier 12 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, "Current Tier 12 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, "Current Tier 12 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, "Current Tier 12 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, "Current Tier 12 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, "Current Tier 12 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, "Current Tier 12 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, "Current Tier 13 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, "Current Tier 13 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, "Current Tier 13 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, "Current Tier 13 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, "Current Tier 13 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, "Current Tier 13 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, "Current Tier 13 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, "Current Tier 13 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, "Current Tier 13 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, "Current Tier 13 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, "Current Tier 13 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, "Current Tier 13 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, "Current Tier 13 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, "Current Tier 13 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, "Current Tier 13 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, "Current Tier 13 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, "Current Tier 14 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, "Current Tier 14 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, "Current Tier 14 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, "Current Tier 14 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, "Current Tier 14 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, "Current Tier 14 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, "Current Tier 14 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, "Current Tier 14 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, "Current Tier 14 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, "Current Tier 14 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, "Current Tier 14 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, "Current Tier 14 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, "Current Tier 14 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, "Current Tier 14 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, "Current Tier 14 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, "Current Tier 14 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, "Current Tier 15 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, "Current Tier 15 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, "Current Tier 15 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, "Current Tier 15 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, "Current Tier 15 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, "Current Tier 15 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, "Current Tier 15 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, "Current Tier 15 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, "Current Tier 15 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, "Current Tier 15 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, "Current Tier 15 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, "Current Tier 15 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, "Current Tier 15 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, "Current Tier 15 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, "Current Tier 15 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, "Current Tier 15 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_GENERICALARMMASK, new ZclAttributeDefinition(ATTR_GENERICALARMMASK, "Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_ELECTRICITYALARMMASK, new ZclAttributeDefinition(ATTR_ELECTRICITYALARMMASK, "Electricity Alarm Mask", ZclDataType.BITMAP_32_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GENERICFLOWPRESSUREALARMMASK, new ZclAttributeDefinition(ATTR_GENERICFLOWPRESSUREALARMMASK, "Generic Flow /pressure Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_WATERSPECIFICALARMMASK, new ZclAttributeDefinition(ATTR_WATERSPECIFICALARMMASK, "Water Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, new ZclAttributeDefinition(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, "Heat And Cooling Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_GASSPECIFICALARMMASK, new ZclAttributeDefinition(ATTR_GASSPECIFICALARMMASK, "Gas Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_EXTENDEDGENERICALARMMASK, new ZclAttributeDefinition(ATTR_EXTENDEDGENERICALARMMASK, "Extended Generic Alarm Mask", ZclDataType.BITMAP_48_BIT, false, true, true, true));
+        attributeMap.put(ATTR_MANUFACTUREALARMMASK, new ZclAttributeDefinition(ATTR_MANUFACTUREALARMMASK, "Manufacture Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, "Current No Tier Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, "Current No Tier Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, "Current No Tier Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, "Current No Tier Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, "Current No Tier Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, "Current No Tier Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, "Current No Tier Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, "Current No Tier Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, "Current No Tier Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, "Current No Tier Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, "Current No Tier Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, "Current No Tier Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, "Current No Tier Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, "Current No Tier Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, "Current No Tier Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, "Current No Tier Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, "Current Tier 1 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, "Current Tier 1 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, "Current Tier 1 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, "Current Tier 1 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, "Current Tier 1 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, "Current Tier 1 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, "Current Tier 1 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, "Current Tier 1 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, "Current Tier 1 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, "Current Tier 1 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, "Current Tier 1 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, "Current Tier 1 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, "Current Tier 1 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, "Current Tier 1 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, "Current Tier 1 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, "Current Tier 1 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, "Current Tier 2 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, "Current Tier 2 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, "Current Tier 2 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, "Current Tier 2 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, "Current Tier 2 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, "Current Tier 2 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, "Current Tier 2 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, "Current Tier 2 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, "Current Tier 2 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, "Current Tier 2 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, "Current Tier 2 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, "Current Tier 2 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, "Current Tier 2 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, "Current Tier 2 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, "Current Tier 2 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, "Current Tier 2 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, "Current Tier 3 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, "Current Tier 3 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, "Current Tier 3 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, "Current Tier 3 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, "Current Tier 3 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, "Current Tier 3 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, "Current Tier 3 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, "Current Tier 3 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, "Current Tier 3 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, "Current Tier 3 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, "Current Tier 3 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, "Current Tier 3 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, "Current Tier 3 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, "Current Tier 3 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, "Current Tier 3 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, "Current Tier 3 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, "Current Tier 4 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, "Current Tier 4 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, "Current Tier 4 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, "Current Tier 4 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, "Current Tier 4 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, "Current Tier 4 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, "Current Tier 4 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, "Current Tier 4 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, "Current Tier 4 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, "Current Tier 4 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, "Current Tier 4 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, "Current Tier 4 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, "Current Tier 4 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, "Current Tier 4 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, "Current Tier 4 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, "Current Tier 4 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, "Current Tier 5 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, "Current Tier 5 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, "Current Tier 5 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, "Current Tier 5 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, "Current Tier 5 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, "Current Tier 5 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, "Current Tier 5 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, "Current Tier 5 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, "Current Tier 5 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, "Current Tier 5 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, "Current Tier 5 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, "Current Tier 5 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, "Current Tier 5 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, "Current Tier 5 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, "Current Tier 5 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, "Current Tier 5 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, "Current Tier 6 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, "Current Tier 6 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, "Current Tier 6 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, "Current Tier 6 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, "Current Tier 6 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, "Current Tier 6 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, "Current Tier 6 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, "Current Tier 6 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, "Current Tier 6 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, "Current Tier 6 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, "Current Tier 6 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, "Current Tier 6 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, "Current Tier 6 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, "Current Tier 6 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, "Current Tier 6 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, "Current Tier 6 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, "Current Tier 7 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, "Current Tier 7 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, "Current Tier 7 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, "Current Tier 7 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, "Current Tier 7 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, "Current Tier 7 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, "Current Tier 7 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, "Current Tier 7 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, "Current Tier 7 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, "Current Tier 7 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, "Current Tier 7 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, "Current Tier 7 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, "Current Tier 7 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, "Current Tier 7 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, "Current Tier 7 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, "Current Tier 7 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, "Current Tier 8 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, "Current Tier 8 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, "Current Tier 8 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, "Current Tier 8 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, "Current Tier 8 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, "Current Tier 8 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, "Current Tier 8 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, "Current Tier 8 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, "Current Tier 8 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, "Current Tier 8 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, "Current Tier 8 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, "Current Tier 8 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, "Current Tier 8 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, "Current Tier 8 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, "Current Tier 8 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, "Current Tier 8 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, "Current Tier 9 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, "Current Tier 9 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, "Current Tier 9 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, "Current Tier 9 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, "Current Tier 9 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, "Current Tier 9 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, "Current Tier 9 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, "Current Tier 9 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, "Current Tier 9 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, "Current Tier 9 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, "Current Tier 9 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, "Current Tier 9 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, "Current Tier 9 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, "Current Tier 9 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, "Current Tier 9 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, "Current Tier 9 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, "Current Tier 10 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, "Current Tier 10 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, "Current Tier 10 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, "Current Tier 10 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, "Current Tier 10 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, "Current Tier 10 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, "Current Tier 10 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, "Current Tier 10 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, "Current Tier 10 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, "Current Tier 10 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, "Current Tier 10 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, "Current Tier 10 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, "Current Tier 10 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, "Current Tier 10 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, "Current Tier 10 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, "Current Tier 10 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, "Current Tier 11 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, "Current Tier 11 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, "Current Tier 11 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, "Current Tier 11 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, "Current Tier 11 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, "Current Tier 11 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, "Current Tier 11 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, "Current Tier 11 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, "Current Tier 11 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, "Current Tier 11 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, "Current Tier 11 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, "Current Tier 11 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, "Current Tier 11 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, "Current Tier 11 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, "Current Tier 11 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, "Current Tier 11 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, "Current Tier 12 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, "Current Tier 12 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, "Current Tier 12 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, "Current Tier 12 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, "Current Tier 12 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, "Current Tier 12 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, "Current Tier 12 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, "Current Tier 12 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, "Current Tier 12 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, "Current Tier 12 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, "Current Tier 12 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, "Current Tier 12 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, "Current Tier 12 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, "Current Tier 12 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, "Current Tier 12 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, "Current Tier 12 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, "Current Tier 13 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, "Current Tier 13 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, "Current Tier 13 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, "Current Tier 13 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, "Current Tier 13 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, "Current Tier 13 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, "Current Tier 13 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, "Current Tier 13 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, "Current Tier 13 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, "Current Tier 13 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, "Current Tier 13 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, "Current Tier 13 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, "Current Tier 13 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, "Current Tier 13 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, "Current Tier 13 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, "Current Tier 13 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, "Current Tier 14 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, "Current Tier 14 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, "Current Tier 14 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, "Current Tier 14 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, "Current Tier 14 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, "Current Tier 14 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, "Current Tier 14 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, "Current Tier 14 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, "Current Tier 14 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, "Current Tier 14 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, "Current Tier 14 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, "Current Tier 14 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, "Current Tier 14 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, "Current Tier 14 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, "Current Tier 14 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, "Current Tier 14 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, "Current Tier 15 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, "Current Tier 15 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, "Current Tier 15 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, "Current Tier 15 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, "Current Tier 15 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, "Current Tier 15 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, "Current Tier 15 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, "Current Tier 15 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, "Current Tier 15 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, "Current Tier 15 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, "Current Tier 15 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, "Current Tier 15 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, "Current Tier 15 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, "Current Tier 15 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, "Current Tier 15 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, "Current Tier 15 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATEDELIVERED, new ZclAttributeDefinition(ATTR_BILLTODATEDELIVERED, "Bill To Date Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATETIMESTAMPDELIVERED, new ZclAttributeDefinition(ATTR_BILLTODATETIMESTAMPDELIVERED, "Bill To Date Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLDELIVERED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLDELIVERED, "Projected Bill Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, "Projected Bill Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_BILLDELIVEREDTRAILINGDIGIT, new ZclAttributeDefinition(ATTR_BILLDELIVEREDTRAILINGDIGIT, "Bill Delivered Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATERECEIVED, new ZclAttributeDefinition(ATTR_BILLTODATERECEIVED, "Bill To Date Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_BILLTODATETIMESTAMPRECEIVED, new ZclAttributeDefinition(ATTR_BILLTODATETIMESTAMPRECEIVED, "Bill To Date Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLRECEIVED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLRECEIVED, "Projected Bill Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, new ZclAttributeDefinition(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, "Projected Bill Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_BILLRECEIVEDTRAILINGDIGIT, new ZclAttributeDefinition(ATTR_BILLRECEIVEDTRAILINGDIGIT, "Bill Received Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, new ZclAttributeDefinition(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, "Proposed Change Supply Implementation Time", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYSTATUS, new ZclAttributeDefinition(ATTR_PROPOSEDCHANGESUPPLYSTATUS, "Proposed Change Supply Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLD, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLD, "Uncontrolled Flow Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, "Uncontrolled Flow Threshold Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, "Uncontrolled Flow Threshold Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, new ZclAttributeDefinition(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, "Uncontrolled Flow Threshold Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FLOWSTABILIZATIONPERIOD, new ZclAttributeDefinition(ATTR_FLOWSTABILIZATIONPERIOD, "Flow Stabilization Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FLOWMEASUREMENTPERIOD, new ZclAttributeDefinition(ATTR_FLOWMEASUREMENTPERIOD, "Flow Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, new ZclAttributeDefinition(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, "Alternative Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, "Current Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, "Current Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, "Previous Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, "Previous Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Alternative Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Alternative Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Alternative Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttributeDefinition(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, "Current Alternative Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, "Current Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, "Current Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, "Previous Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, "Previous Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, "Current Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, "Previous Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, "Current Month Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, new ZclAttributeDefinition(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, "Current Year Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 8 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 10 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 12 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 6 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 8 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 10 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 12 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, "Current Week Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, "Current Week Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 1 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 7 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 9 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, "Current Month Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, "Current Month Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 11 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 13 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 15 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 17 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 19 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 21 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 23 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 25 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 1 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 3 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 5 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 7 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 9 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 11 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 13 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 15 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 17 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 19 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 21 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 23 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 25 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(2);
-
-        attributeMap.put(ATTR_FUNCTIONALNOTIFICATIONFLAGS, new ZclAttribute(this, ATTR_FUNCTIONALNOTIFICATIONFLAGS, "Functional Notification Flags", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS2, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS2, "Notification Flags 2", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS3, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS3, "Notification Flags 3", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS4, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS4, "Notification Flags 4", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS5, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS5, "Notification Flags 5", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS6, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS6, "Notification Flags 6", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS7, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS7, "Notification Flags 7", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS8, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS8, "Notification Flags 8", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(198);
-
-        attributeMap.put(ATTR_CURRENTSUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTSUMMATIONDELIVERED, "Current Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTSUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTSUMMATIONRECEIVED, "Current Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVERED, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDDELIVERED, "Current Max Demand Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVED, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDRECEIVED, "Current Max Demand Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DFTSUMMATION, new ZclAttribute(this, ATTR_DFTSUMMATION, "Dft Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DAILYFREEZETIME, new ZclAttribute(this, ATTR_DAILYFREEZETIME, "Daily Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_POWERFACTOR, new ZclAttribute(this, ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_READINGSNAPSHOTTIME, new ZclAttribute(this, ATTR_READINGSNAPSHOTTIME, "Reading Snapshot Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDDELIVEREDTIME, "Current Max Demand Delivered Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDRECEIVEDTIME, "Current Max Demand Received Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEFAULTUPDATEPERIOD, new ZclAttribute(this, ATTR_DEFAULTUPDATEPERIOD, "Default Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_FASTPOLLUPDATEPERIOD, new ZclAttribute(this, ATTR_FASTPOLLUPDATEPERIOD, "Fast Poll Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, "Current Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DAILYCONSUMPTIONTARGET, new ZclAttribute(this, ATTR_DAILYCONSUMPTIONTARGET, "Daily Consumption Target", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCK, new ZclAttribute(this, ATTR_CURRENTBLOCK, "Current Block", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PROFILEINTERVALPERIOD, new ZclAttribute(this, ATTR_PROFILEINTERVALPERIOD, "Profile Interval Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_INTERVALREADREPORTINGPERIOD, new ZclAttribute(this, ATTR_INTERVALREADREPORTINGPERIOD, "Interval Read Reporting Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRESETREADINGTIME, new ZclAttribute(this, ATTR_PRESETREADINGTIME, "Preset Reading Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_VOLUMEPERREPORT, new ZclAttribute(this, ATTR_VOLUMEPERREPORT, "Volume Per Report", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_FLOWRESTRICTION, new ZclAttribute(this, ATTR_FLOWRESTRICTION, "Flow Restriction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_SUPPLYSTATUS, new ZclAttribute(this, ATTR_SUPPLYSTATUS, "Supply Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, new ZclAttribute(this, ATTR_CURRENTINLETENERGYCARRIERSUMMATION, "Current Inlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, new ZclAttribute(this, ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, "Current Outlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_INLETTEMPERATURE, new ZclAttribute(this, ATTR_INLETTEMPERATURE, "Inlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OUTLETTEMPERATURE, new ZclAttribute(this, ATTR_OUTLETTEMPERATURE, "Outlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONTROLTEMPERATURE, new ZclAttribute(this, ATTR_CONTROLTEMPERATURE, "Control Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTINLETENERGYCARRIERDEMAND, "Current Inlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, "Current Outlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, "Previous Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, "Current Block Period Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKRECEIVED, new ZclAttribute(this, ATTR_CURRENTBLOCKRECEIVED, "Current Block Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_DFTSUMMATIONRECEIVED, new ZclAttribute(this, ATTR_DFTSUMMATIONRECEIVED, "Dft Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEREGISTERTIERDELIVERED, new ZclAttribute(this, ATTR_ACTIVEREGISTERTIERDELIVERED, "Active Register Tier Delivered", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEREGISTERTIERRECEIVED, new ZclAttribute(this, ATTR_ACTIVEREGISTERTIERRECEIVED, "Active Register Tier Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_LASTBLOCKSWITCHTIME, new ZclAttribute(this, ATTR_LASTBLOCKSWITCHTIME, "Last Block Switch Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1SUMMATIONDELIVERED, "Current Tier 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3SUMMATIONDELIVERED, "Current Tier 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5SUMMATIONDELIVERED, "Current Tier 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7SUMMATIONDELIVERED, "Current Tier 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9SUMMATIONDELIVERED, "Current Tier 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11SUMMATIONDELIVERED, "Current Tier 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13SUMMATIONDELIVERED, "Current Tier 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15SUMMATIONDELIVERED, "Current Tier 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER17SUMMATIONDELIVERED, "Current Tier 17 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER19SUMMATIONDELIVERED, "Current Tier 19 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER21SUMMATIONDELIVERED, "Current Tier 21 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER23SUMMATIONDELIVERED, "Current Tier 23 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER25SUMMATIONDELIVERED, "Current Tier 25 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER27SUMMATIONDELIVERED, "Current Tier 27 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER29SUMMATIONDELIVERED, "Current Tier 29 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER31SUMMATIONDELIVERED, "Current Tier 31 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER33SUMMATIONDELIVERED, "Current Tier 33 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER35SUMMATIONDELIVERED, "Current Tier 35 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER37SUMMATIONDELIVERED, "Current Tier 37 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER39SUMMATIONDELIVERED, "Current Tier 39 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER41SUMMATIONDELIVERED, "Current Tier 41 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER43SUMMATIONDELIVERED, "Current Tier 43 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER45SUMMATIONDELIVERED, "Current Tier 45 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER47SUMMATIONDELIVERED, "Current Tier 47 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER49SUMMATIONDELIVERED, "Current Tier 49 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER51SUMMATIONDELIVERED, "Current Tier 51 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER53SUMMATIONDELIVERED, "Current Tier 53 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER55SUMMATIONDELIVERED, "Current Tier 55 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER57SUMMATIONDELIVERED, "Current Tier 57 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER59SUMMATIONDELIVERED, "Current Tier 59 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER61SUMMATIONDELIVERED, "Current Tier 61 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER63SUMMATIONDELIVERED, "Current Tier 63 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER65SUMMATIONDELIVERED, "Current Tier 65 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER67SUMMATIONDELIVERED, "Current Tier 67 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER69SUMMATIONDELIVERED, "Current Tier 69 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER71SUMMATIONDELIVERED, "Current Tier 71 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER73SUMMATIONDELIVERED, "Current Tier 73 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER75SUMMATIONDELIVERED, "Current Tier 75 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER77SUMMATIONDELIVERED, "Current Tier 77 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER79SUMMATIONDELIVERED, "Current Tier 79 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER81SUMMATIONDELIVERED, "Current Tier 81 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER83SUMMATIONDELIVERED, "Current Tier 83 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER85SUMMATIONDELIVERED, "Current Tier 85 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER87SUMMATIONDELIVERED, "Current Tier 87 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER89SUMMATIONDELIVERED, "Current Tier 89 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER91SUMMATIONDELIVERED, "Current Tier 91 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER93SUMMATIONDELIVERED, "Current Tier 93 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER95SUMMATIONDELIVERED, "Current Tier 95 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1SUMMATIONRECEIVED, "Current Tier 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3SUMMATIONRECEIVED, "Current Tier 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5SUMMATIONRECEIVED, "Current Tier 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7SUMMATIONRECEIVED, "Current Tier 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9SUMMATIONRECEIVED, "Current Tier 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11SUMMATIONRECEIVED, "Current Tier 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13SUMMATIONRECEIVED, "Current Tier 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15SUMMATIONRECEIVED, "Current Tier 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER17SUMMATIONRECEIVED, "Current Tier 17 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER19SUMMATIONRECEIVED, "Current Tier 19 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER21SUMMATIONRECEIVED, "Current Tier 21 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER23SUMMATIONRECEIVED, "Current Tier 23 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER25SUMMATIONRECEIVED, "Current Tier 25 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER27SUMMATIONRECEIVED, "Current Tier 27 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER29SUMMATIONRECEIVED, "Current Tier 29 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER31SUMMATIONRECEIVED, "Current Tier 31 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER33SUMMATIONRECEIVED, "Current Tier 33 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER35SUMMATIONRECEIVED, "Current Tier 35 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER37SUMMATIONRECEIVED, "Current Tier 37 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER39SUMMATIONRECEIVED, "Current Tier 39 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER41SUMMATIONRECEIVED, "Current Tier 41 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER43SUMMATIONRECEIVED, "Current Tier 43 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER45SUMMATIONRECEIVED, "Current Tier 45 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER47SUMMATIONRECEIVED, "Current Tier 47 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER49SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER49SUMMATIONRECEIVED, "Current Tier 49 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER51SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER51SUMMATIONRECEIVED, "Current Tier 51 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER53SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER53SUMMATIONRECEIVED, "Current Tier 53 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER55SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER55SUMMATIONRECEIVED, "Current Tier 55 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER57SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER57SUMMATIONRECEIVED, "Current Tier 57 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER59SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER59SUMMATIONRECEIVED, "Current Tier 59 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER61SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER61SUMMATIONRECEIVED, "Current Tier 61 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER63SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER63SUMMATIONRECEIVED, "Current Tier 63 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER65SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER65SUMMATIONRECEIVED, "Current Tier 65 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER67SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER67SUMMATIONRECEIVED, "Current Tier 67 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER69SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER69SUMMATIONRECEIVED, "Current Tier 69 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER71SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER71SUMMATIONRECEIVED, "Current Tier 71 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER73SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER73SUMMATIONRECEIVED, "Current Tier 73 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER75SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER75SUMMATIONRECEIVED, "Current Tier 75 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER77SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER77SUMMATIONRECEIVED, "Current Tier 77 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER79SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER79SUMMATIONRECEIVED, "Current Tier 79 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER81SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER81SUMMATIONRECEIVED, "Current Tier 81 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER83SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER83SUMMATIONRECEIVED, "Current Tier 83 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER85SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER85SUMMATIONRECEIVED, "Current Tier 85 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER87SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER87SUMMATIONRECEIVED, "Current Tier 87 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER89SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER89SUMMATIONRECEIVED, "Current Tier 89 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER91SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER91SUMMATIONRECEIVED, "Current Tier 91 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER93SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER93SUMMATIONRECEIVED, "Current Tier 93 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER95SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER95SUMMATIONRECEIVED, "Current Tier 95 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CPP1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CPP1SUMMATIONDELIVERED, "CPP 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CPP2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CPP2SUMMATIONDELIVERED, "CPP 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_STATUS, new ZclAttribute(this, ATTR_STATUS, "Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGBATTERYLIFE, new ZclAttribute(this, ATTR_REMAININGBATTERYLIFE, "Remaining Battery Life", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HOURSINOPERATION, new ZclAttribute(this, ATTR_HOURSINOPERATION, "Hours In Operation", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HOURSINFAULT, new ZclAttribute(this, ATTR_HOURSINFAULT, "Hours In Fault", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EXTENDEDSTATUS, new ZclAttribute(this, ATTR_EXTENDEDSTATUS, "Extended Status", ZclDataType.BITMAP_64_BIT, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGBATTERYLIFEINDAYS, new ZclAttribute(this, ATTR_REMAININGBATTERYLIFEINDAYS, "Remaining Battery Life In Days", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMETERID, new ZclAttribute(this, ATTR_CURRENTMETERID, "Current Meter ID", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_AMBIENTCONSUMPTIONINDICATOR, new ZclAttribute(this, ATTR_AMBIENTCONSUMPTIONINDICATOR, "Ambient Consumption Indicator", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttribute(this, ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MULTIPLIER, new ZclAttribute(this, ATTR_MULTIPLIER, "Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DIVISOR, new ZclAttribute(this, ATTR_DIVISOR, "Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SUMMATIONFORMATTING, new ZclAttribute(this, ATTR_SUMMATIONFORMATTING, "Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDFORMATTING, new ZclAttribute(this, ATTR_DEMANDFORMATTING, "Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALCONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_HISTORICALCONSUMPTIONFORMATTING, "Historical Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_METERINGDEVICETYPE, new ZclAttribute(this, ATTR_METERINGDEVICETYPE, "Metering Device Type", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SITEID, new ZclAttribute(this, ATTR_SITEID, "Site ID", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_METERSERIALNUMBER, new ZclAttribute(this, ATTR_METERSERIALNUMBER, "Meter Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERUNITOFMEASURE, new ZclAttribute(this, ATTR_ENERGYCARRIERUNITOFMEASURE, "Energy Carrier Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, new ZclAttribute(this, ATTR_ENERGYCARRIERSUMMATIONFORMATTING, "Energy Carrier Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERDEMANDFORMATTING, new ZclAttribute(this, ATTR_ENERGYCARRIERDEMANDFORMATTING, "Energy Carrier Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TEMPERATUREUNITOFMEASURE, new ZclAttribute(this, ATTR_TEMPERATUREUNITOFMEASURE, "Temperature Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TEMPERATUREFORMATTING, new ZclAttribute(this, ATTR_TEMPERATUREFORMATTING, "Temperature Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MODULESERIALNUMBER, new ZclAttribute(this, ATTR_MODULESERIALNUMBER, "Module Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_OPERATINGTARIFFLABELDELIVERED, new ZclAttribute(this, ATTR_OPERATINGTARIFFLABELDELIVERED, "Operating Tariff Label Delivered", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_OPERATINGTARIFFLABELRECEIVED, new ZclAttribute(this, ATTR_OPERATINGTARIFFLABELRECEIVED, "Operating Tariff Label Received", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_CUSTOMERIDNUMBER, new ZclAttribute(this, ATTR_CUSTOMERIDNUMBER, "Customer ID Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEUNITOFMEASURE, new ZclAttribute(this, ATTR_ALTERNATIVEUNITOFMEASURE, "Alternative Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEDEMANDFORMATTING, new ZclAttribute(this, ATTR_ALTERNATIVEDEMANDFORMATTING, "Alternative Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_ALTERNATIVECONSUMPTIONFORMATTING, "Alternative Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSDEMAND, new ZclAttribute(this, ATTR_INSTANTANEOUSDEMAND, "Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYCONSUMPTIONDELIVERED, "Current Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYCONSUMPTIONRECEIVED, "Current Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, "Previous Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, "Previous Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, "Current Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYMAXPRESSURE, "Current Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMINPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYMINPRESSURE, "Current Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXPRESSURE, "Previous Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMINPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYMINPRESSURE, "Previous Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYMAXDEMAND, "Current Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXDEMAND, "Previous Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMAXDEMAND, "Current Month Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMAXDEMAND, "Current Year Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, "Current Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, "Previous Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, "Current Month Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, "Current Month Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, "Current Year Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, "Current Year Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, "Previous Day 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, "Previous Day 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, "Previous Day 6 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, "Previous Day 8 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY10CONSUMPTIONDELIVERED, "Previous Day 10 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY12CONSUMPTIONDELIVERED, "Previous Day 12 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY14CONSUMPTIONDELIVERED, "Previous Day 14 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY16CONSUMPTIONDELIVERED, "Previous Day 16 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, "Previous Day 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, "Previous Day 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, "Previous Day 6 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, "Previous Day 8 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY10CONSUMPTIONRECEIVED, "Previous Day 10 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY12CONSUMPTIONRECEIVED, "Previous Day 12 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY14CONSUMPTIONRECEIVED, "Previous Day 14 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY16CONSUMPTIONRECEIVED, "Previous Day 16 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, "Current Week Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, "Current Week Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, "Previous Week 1 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, "Previous Week 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, "Previous Week 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7CONSUMPTIONDELIVERED, "Previous Week 7 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9CONSUMPTIONDELIVERED, "Previous Week 9 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, "Previous Week 1 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, "Previous Week 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, "Previous Week 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7CONSUMPTIONRECEIVED, "Previous Week 7 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9CONSUMPTIONRECEIVED, "Previous Week 9 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, "Current Month Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, "Current Month Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, "Previous Month 1 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, "Previous Month 3 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, "Previous Month 5 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, "Previous Month 7 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, "Previous Month 9 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, "Previous Month 11 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, "Previous Month 13 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15CONSUMPTIONDELIVERED, "Previous Month 15 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17CONSUMPTIONDELIVERED, "Previous Month 17 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19CONSUMPTIONDELIVERED, "Previous Month 19 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21CONSUMPTIONDELIVERED, "Previous Month 21 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23CONSUMPTIONDELIVERED, "Previous Month 23 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25CONSUMPTIONDELIVERED, "Previous Month 25 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, "Previous Month 1 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, "Previous Month 3 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, "Previous Month 5 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, "Previous Month 7 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, "Previous Month 9 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, "Previous Month 11 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, "Previous Month 13 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15CONSUMPTIONRECEIVED, "Previous Month 15 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17CONSUMPTIONRECEIVED, "Previous Month 17 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19CONSUMPTIONRECEIVED, "Previous Month 19 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21CONSUMPTIONRECEIVED, "Previous Month 21 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23CONSUMPTIONRECEIVED, "Previous Month 23 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25CONSUMPTIONRECEIVED, "Previous Month 25 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttribute(this, ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXNUMBEROFPERIODSDELIVERED, new ZclAttribute(this, ATTR_MAXNUMBEROFPERIODSDELIVERED, "Max Number Of Periods Delivered", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDEMANDDELIVERED, new ZclAttribute(this, ATTR_CURRENTDEMANDDELIVERED, "Current Demand Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDLIMIT, new ZclAttribute(this, ATTR_DEMANDLIMIT, "Demand Limit", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDINTEGRATIONPERIOD, new ZclAttribute(this, ATTR_DEMANDINTEGRATIONPERIOD, "Demand Integration Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFDEMANDSUBINTERVALS, new ZclAttribute(this, ATTR_NUMBEROFDEMANDSUBINTERVALS, "Number Of Demand Subintervals", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDLIMITARMDURATION, new ZclAttribute(this, ATTR_DEMANDLIMITARMDURATION, "Demand Limit Arm Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LOADLIMITSUPPLYSTATE, new ZclAttribute(this, ATTR_LOADLIMITSUPPLYSTATE, "Load Limit Supply State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOADLIMITCOUNTER, new ZclAttribute(this, ATTR_LOADLIMITCOUNTER, "Load Limit Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYTAMPERSTATE, new ZclAttribute(this, ATTR_SUPPLYTAMPERSTATE, "Supply Tamper State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYDEPLETIONSTATE, new ZclAttribute(this, ATTR_SUPPLYDEPLETIONSTATE, "Supply Depletion State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, new ZclAttribute(this, ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, "Supply Uncontrolled Flow State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, "Current No Tier Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, "Current No Tier Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, "Current No Tier Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, "Current No Tier Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, "Current No Tier Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, "Current No Tier Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, "Current No Tier Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, "Current No Tier Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, "Current No Tier Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, "Current No Tier Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, "Current No Tier Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, "Current No Tier Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, "Current No Tier Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, "Current No Tier Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, "Current No Tier Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, "Current No Tier Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, "Current Tier 1 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, "Current Tier 1 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, "Current Tier 1 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, "Current Tier 1 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, "Current Tier 1 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, "Current Tier 1 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, "Current Tier 1 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, "Current Tier 1 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, "Current Tier 1 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, "Current Tier 1 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, "Current Tier 1 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, "Current Tier 1 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, "Current Tier 1 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, "Current Tier 1 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, "Current Tier 1 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, "Current Tier 1 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, "Current Tier 2 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, "Current Tier 2 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, "Current Tier 2 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, "Current Tier 2 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, "Current Tier 2 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, "Current Tier 2 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, "Current Tier 2 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, "Current Tier 2 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, "Current Tier 2 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, "Current Tier 2 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, "Current Tier 2 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, "Current Tier 2 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, "Current Tier 2 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, "Current Tier 2 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, "Current Tier 2 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, "Current Tier 2 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, "Current Tier 3 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, "Current Tier 3 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, "Current Tier 3 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, "Current Tier 3 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, "Current Tier 3 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, "Current Tier 3 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, "Current Tier 3 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, "Current Tier 3 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, "Current Tier 3 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, "Current Tier 3 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, "Current Tier 3 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, "Current Tier 3 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, "Current Tier 3 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, "Current Tier 3 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, "Current Tier 3 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, "Current Tier 3 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, "Current Tier 4 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, "Current Tier 4 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, "Current Tier 4 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, "Current Tier 4 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, "Current Tier 4 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, "Current Tier 4 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, "Current Tier 4 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, "Current Tier 4 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, "Current Tier 4 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, "Current Tier 4 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, "Current Tier 4 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, "Current Tier 4 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, "Current Tier 4 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, "Current Tier 4 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, "Current Tier 4 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, "Current Tier 4 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, "Current Tier 5 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, "Current Tier 5 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, "Current Tier 5 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, "Current Tier 5 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, "Current Tier 5 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, "Current Tier 5 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, "Current Tier 5 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, "Current Tier 5 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, "Current Tier 5 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, "Current Tier 5 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, "Current Tier 5 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, "Current Tier 5 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, "Current Tier 5 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, "Current Tier 5 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, "Current Tier 5 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, "Current Tier 5 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, "Current Tier 6 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, "Current Tier 6 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, "Current Tier 6 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, "Current Tier 6 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, "Current Tier 6 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, "Current Tier 6 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, "Current Tier 6 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, "Current Tier 6 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, "Current Tier 6 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, "Current Tier 6 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, "Current Tier 6 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, "Current Tier 6 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, "Current Tier 6 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, "Current Tier 6 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, "Current Tier 6 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, "Current Tier 6 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, "Current Tier 7 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, "Current Tier 7 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, "Current Tier 7 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, "Current Tier 7 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, "Current Tier 7 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, "Current Tier 7 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, "Current Tier 7 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, "Current Tier 7 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, "Current Tier 7 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, "Current Tier 7 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, "Current Tier 7 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, "Current Tier 7 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, "Current Tier 7 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, "Current Tier 7 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, "Current Tier 7 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, "Current Tier 7 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, "Current Tier 8 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, "Current Tier 8 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, "Current Tier 8 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, "Current Tier 8 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, "Current Tier 8 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, "Current Tier 8 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, "Current Tier 8 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, "Current Tier 8 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, "Current Tier 8 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, "Current Tier 8 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, "Current Tier 8 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, "Current Tier 8 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, "Current Tier 8 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, "Current Tier 8 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, "Current Tier 8 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, "Current Tier 8 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, "Current Tier 9 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, "Current Tier 9 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, "Current Tier 9 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, "Current Tier 9 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, "Current Tier 9 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, "Current Tier 9 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, "Current Tier 9 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, "Current Tier 9 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, "Current Tier 9 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, "Current Tier 9 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, "Current Tier 9 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, "Current Tier 9 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, "Current Tier 9 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, "Current Tier 9 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, "Current Tier 9 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, "Current Tier 9 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, "Current Tier 10 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, "Current Tier 10 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, "Current Tier 10 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, "Current Tier 10 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, "Current Tier 10 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, "Current Tier 10 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, "Current Tier 10 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, "Current Tier 10 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, "Current Tier 10 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, "Current Tier 10 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, "Current Tier 10 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, "Current Tier 10 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, "Current Tier 10 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, "Current Tier 10 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, "Current Tier 10 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, "Current Tier 10 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, "Current Tier 11 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, "Current Tier 11 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, "Current Tier 11 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, "Current Tier 11 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, "Current Tier 11 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, "Current Tier 11 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, "Current Tier 11 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, "Current Tier 11 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, "Current Tier 11 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, "Current Tier 11 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, "Current Tier 11 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, "Current Tier 11 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, "Current Tier 11 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, "Current Tier 11 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, "Current Tier 11 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, "Current Tier 11 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, "Current Tier 12 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, "Current Tier 12 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, "Current Tier 12 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, "Current Tier 12 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, "Current Tier 12 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, "Current Tier 12 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, "Current Tier 12 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, "Current Tier 12 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, "Current Tier 12 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, "Current Tier 12 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, "Current Tier 12 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, "Current Tier 12 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, "Current Tier 12 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, "Current Tier 12 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, "Current Tier 12 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, "Current Tier 12 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, "Current Tier 13 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, "Current Tier 13 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, "Current Tier 13 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, "Current Tier 13 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, "Current Tier 13 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, "Current Tier 13 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, "Current Tier 13 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, "Current Tier 13 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, "Current Tier 13 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, "Current Tier 13 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, "Current Tier 13 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, "Current Tier 13 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, "Current Tier 13 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, "Current Tier 13 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, "Current Tier 13 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, "Current Tier 13 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, "Current Tier 14 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, "Current Tier 14 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, "Current Tier 14 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, "Current Tier 14 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, "Current Tier 14 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, "Current Tier 14 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, "Current Tier 14 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, "Current Tier 14 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, "Current Tier 14 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, "Current Tier 14 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, "Current Tier 14 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, "Current Tier 14 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, "Current Tier 14 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, "Current Tier 14 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, "Current Tier 14 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, "Current Tier 14 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, "Current Tier 15 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, "Current Tier 15 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, "Current Tier 15 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, "Current Tier 15 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, "Current Tier 15 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, "Current Tier 15 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, "Current Tier 15 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, "Current Tier 15 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, "Current Tier 15 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, "Current Tier 15 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, "Current Tier 15 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, "Current Tier 15 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, "Current Tier 15 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, "Current Tier 15 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, "Current Tier 15 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, "Current Tier 15 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_GENERICALARMMASK, new ZclAttribute(this, ATTR_GENERICALARMMASK, "Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_ELECTRICITYALARMMASK, new ZclAttribute(this, ATTR_ELECTRICITYALARMMASK, "Electricity Alarm Mask", ZclDataType.BITMAP_32_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GENERICFLOWPRESSUREALARMMASK, new ZclAttribute(this, ATTR_GENERICFLOWPRESSUREALARMMASK, "Generic Flow /pressure Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_WATERSPECIFICALARMMASK, new ZclAttribute(this, ATTR_WATERSPECIFICALARMMASK, "Water Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, new ZclAttribute(this, ATTR_HEATANDCOOLINGSPECIFICALARMMASK, "Heat And Cooling Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GASSPECIFICALARMMASK, new ZclAttribute(this, ATTR_GASSPECIFICALARMMASK, "Gas Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_EXTENDEDGENERICALARMMASK, new ZclAttribute(this, ATTR_EXTENDEDGENERICALARMMASK, "Extended Generic Alarm Mask", ZclDataType.BITMAP_48_BIT, false, true, true, true));
-        attributeMap.put(ATTR_MANUFACTUREALARMMASK, new ZclAttribute(this, ATTR_MANUFACTUREALARMMASK, "Manufacture Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, "Current No Tier Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, "Current No Tier Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, "Current No Tier Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, "Current No Tier Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, "Current No Tier Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, "Current No Tier Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, "Current No Tier Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, "Current No Tier Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, "Current No Tier Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, "Current No Tier Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, "Current No Tier Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, "Current No Tier Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, "Current No Tier Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, "Current No Tier Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, "Current No Tier Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, "Current No Tier Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, "Current Tier 1 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, "Current Tier 1 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, "Current Tier 1 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, "Current Tier 1 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, "Current Tier 1 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, "Current Tier 1 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, "Current Tier 1 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, "Current Tier 1 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, "Current Tier 1 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, "Current Tier 1 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, "Current Tier 1 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, "Current Tier 1 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, "Current Tier 1 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, "Current Tier 1 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, "Current Tier 1 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, "Current Tier 1 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, "Current Tier 2 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, "Current Tier 2 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, "Current Tier 2 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, "Current Tier 2 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, "Current Tier 2 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, "Current Tier 2 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, "Current Tier 2 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, "Current Tier 2 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, "Current Tier 2 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, "Current Tier 2 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, "Current Tier 2 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, "Current Tier 2 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, "Current Tier 2 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, "Current Tier 2 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, "Current Tier 2 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, "Current Tier 2 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, "Current Tier 3 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, "Current Tier 3 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, "Current Tier 3 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, "Current Tier 3 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, "Current Tier 3 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, "Current Tier 3 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, "Current Tier 3 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, "Current Tier 3 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, "Current Tier 3 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, "Current Tier 3 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, "Current Tier 3 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, "Current Tier 3 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, "Current Tier 3 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, "Current Tier 3 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, "Current Tier 3 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, "Current Tier 3 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, "Current Tier 4 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, "Current Tier 4 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, "Current Tier 4 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, "Current Tier 4 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, "Current Tier 4 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, "Current Tier 4 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, "Current Tier 4 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, "Current Tier 4 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, "Current Tier 4 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, "Current Tier 4 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, "Current Tier 4 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, "Current Tier 4 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, "Current Tier 4 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, "Current Tier 4 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, "Current Tier 4 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, "Current Tier 4 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, "Current Tier 5 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, "Current Tier 5 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, "Current Tier 5 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, "Current Tier 5 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, "Current Tier 5 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, "Current Tier 5 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, "Current Tier 5 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, "Current Tier 5 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, "Current Tier 5 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, "Current Tier 5 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, "Current Tier 5 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, "Current Tier 5 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, "Current Tier 5 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, "Current Tier 5 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, "Current Tier 5 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, "Current Tier 5 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, "Current Tier 6 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, "Current Tier 6 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, "Current Tier 6 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, "Current Tier 6 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, "Current Tier 6 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, "Current Tier 6 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, "Current Tier 6 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, "Current Tier 6 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, "Current Tier 6 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, "Current Tier 6 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, "Current Tier 6 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, "Current Tier 6 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, "Current Tier 6 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, "Current Tier 6 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, "Current Tier 6 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, "Current Tier 6 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, "Current Tier 7 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, "Current Tier 7 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, "Current Tier 7 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, "Current Tier 7 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, "Current Tier 7 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, "Current Tier 7 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, "Current Tier 7 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, "Current Tier 7 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, "Current Tier 7 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, "Current Tier 7 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, "Current Tier 7 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, "Current Tier 7 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, "Current Tier 7 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, "Current Tier 7 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, "Current Tier 7 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, "Current Tier 7 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, "Current Tier 8 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, "Current Tier 8 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, "Current Tier 8 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, "Current Tier 8 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, "Current Tier 8 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, "Current Tier 8 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, "Current Tier 8 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, "Current Tier 8 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, "Current Tier 8 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, "Current Tier 8 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, "Current Tier 8 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, "Current Tier 8 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, "Current Tier 8 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, "Current Tier 8 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, "Current Tier 8 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, "Current Tier 8 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, "Current Tier 9 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, "Current Tier 9 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, "Current Tier 9 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, "Current Tier 9 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, "Current Tier 9 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, "Current Tier 9 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, "Current Tier 9 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, "Current Tier 9 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, "Current Tier 9 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, "Current Tier 9 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, "Current Tier 9 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, "Current Tier 9 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, "Current Tier 9 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, "Current Tier 9 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, "Current Tier 9 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, "Current Tier 9 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, "Current Tier 10 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, "Current Tier 10 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, "Current Tier 10 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, "Current Tier 10 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, "Current Tier 10 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, "Current Tier 10 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, "Current Tier 10 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, "Current Tier 10 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, "Current Tier 10 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, "Current Tier 10 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, "Current Tier 10 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, "Current Tier 10 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, "Current Tier 10 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, "Current Tier 10 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, "Current Tier 10 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, "Current Tier 10 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, "Current Tier 11 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, "Current Tier 11 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, "Current Tier 11 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, "Current Tier 11 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, "Current Tier 11 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, "Current Tier 11 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, "Current Tier 11 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, "Current Tier 11 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, "Current Tier 11 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, "Current Tier 11 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, "Current Tier 11 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, "Current Tier 11 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, "Current Tier 11 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, "Current Tier 11 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, "Current Tier 11 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, "Current Tier 11 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, "Current Tier 12 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, "Current Tier 12 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, "Current Tier 12 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, "Current Tier 12 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, "Current Tier 12 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, "Current Tier 12 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, "Current Tier 12 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, "Current Tier 12 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, "Current Tier 12 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, "Current Tier 12 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, "Current Tier 12 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, "Current Tier 12 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, "Current Tier 12 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, "Current Tier 12 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, "Current Tier 12 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, "Current Tier 12 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, "Current Tier 13 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, "Current Tier 13 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, "Current Tier 13 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, "Current Tier 13 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, "Current Tier 13 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, "Current Tier 13 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, "Current Tier 13 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, "Current Tier 13 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, "Current Tier 13 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, "Current Tier 13 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, "Current Tier 13 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, "Current Tier 13 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, "Current Tier 13 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, "Current Tier 13 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, "Current Tier 13 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, "Current Tier 13 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, "Current Tier 14 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, "Current Tier 14 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, "Current Tier 14 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, "Current Tier 14 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, "Current Tier 14 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, "Current Tier 14 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, "Current Tier 14 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, "Current Tier 14 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, "Current Tier 14 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, "Current Tier 14 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, "Current Tier 14 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, "Current Tier 14 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, "Current Tier 14 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, "Current Tier 14 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, "Current Tier 14 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, "Current Tier 14 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, "Current Tier 15 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, "Current Tier 15 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, "Current Tier 15 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, "Current Tier 15 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, "Current Tier 15 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, "Current Tier 15 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, "Current Tier 15 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, "Current Tier 15 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, "Current Tier 15 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, "Current Tier 15 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, "Current Tier 15 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, "Current Tier 15 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, "Current Tier 15 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, "Current Tier 15 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, "Current Tier 15 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, "Current Tier 15 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATEDELIVERED, new ZclAttribute(this, ATTR_BILLTODATEDELIVERED, "Bill To Date Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATETIMESTAMPDELIVERED, new ZclAttribute(this, ATTR_BILLTODATETIMESTAMPDELIVERED, "Bill To Date Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLDELIVERED, new ZclAttribute(this, ATTR_PROJECTEDBILLDELIVERED, "Projected Bill Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, new ZclAttribute(this, ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, "Projected Bill Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_BILLDELIVEREDTRAILINGDIGIT, new ZclAttribute(this, ATTR_BILLDELIVEREDTRAILINGDIGIT, "Bill Delivered Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATERECEIVED, new ZclAttribute(this, ATTR_BILLTODATERECEIVED, "Bill To Date Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATETIMESTAMPRECEIVED, new ZclAttribute(this, ATTR_BILLTODATETIMESTAMPRECEIVED, "Bill To Date Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLRECEIVED, new ZclAttribute(this, ATTR_PROJECTEDBILLRECEIVED, "Projected Bill Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, new ZclAttribute(this, ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, "Projected Bill Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_BILLRECEIVEDTRAILINGDIGIT, new ZclAttribute(this, ATTR_BILLRECEIVEDTRAILINGDIGIT, "Bill Received Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, new ZclAttribute(this, ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, "Proposed Change Supply Implementation Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYSTATUS, new ZclAttribute(this, ATTR_PROPOSEDCHANGESUPPLYSTATUS, "Proposed Change Supply Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLD, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLD, "Uncontrolled Flow Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, "Uncontrolled Flow Threshold Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, "Uncontrolled Flow Threshold Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, "Uncontrolled Flow Threshold Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FLOWSTABILIZATIONPERIOD, new ZclAttribute(this, ATTR_FLOWSTABILIZATIONPERIOD, "Flow Stabilization Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FLOWMEASUREMENTPERIOD, new ZclAttribute(this, ATTR_FLOWMEASUREMENTPERIOD, "Flow Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, new ZclAttribute(this, ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, "Alternative Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, "Current Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, "Current Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, "Previous Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, "Previous Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Alternative Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Alternative Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Alternative Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, "Current Alternative Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, "Current Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, "Current Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, "Previous Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, "Previous Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, "Current Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, "Previous Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, "Current Month Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, "Current Year Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 8 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 10 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 12 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 6 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 8 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY10ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 10 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY12ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 12 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, "Current Week Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, "Current Week Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 1 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 7 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 9 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, "Current Month Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, "Current Month Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 11 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 13 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 15 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 17 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 19 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 21 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 23 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 25 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 1 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 3 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 5 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 7 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 9 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 11 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 13 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH15ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 15 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH17ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 17 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH19ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 19 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH21ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 21 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH23ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 23 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH25ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 25 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -3576,6 +3597,80 @@ public class ZclMeteringCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GetProfileResponse();
+            case 0x0001:
+                return new RequestMirror();
+            case 0x0002:
+                return new RemoveMirror();
+            case 0x0003:
+                return new RequestFastPollModeResponse();
+            case 0x0004:
+                return new ScheduleSnapshotResponse();
+            case 0x0005:
+                return new TakeSnapshotResponse();
+            case 0x0006:
+                return new PublishSnapshot();
+            case 0x0007:
+                return new GetSampledDataResponse();
+            case 0x0008:
+                return new ConfigureMirror();
+            case 0x0009:
+                return new ConfigureNotificationScheme();
+            case 0x000A:
+                return new ConfigureNotificationFlags();
+            case 0x000B:
+                return new GetNotifiedMessage();
+            case 0x000C:
+                return new SupplyStatusResponse();
+            case 0x000D:
+                return new StartSamplingResponse();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GetProfile();
+            case 0x0001:
+                return new RequestMirrorResponse();
+            case 0x0002:
+                return new MirrorRemoved();
+            case 0x0003:
+                return new RequestFastPollMode();
+            case 0x0004:
+                return new ScheduleSnapshot();
+            case 0x0005:
+                return new TakeSnapshot();
+            case 0x0006:
+                return new GetSnapshot();
+            case 0x0007:
+                return new StartSampling();
+            case 0x0008:
+                return new GetSampledData();
+            case 0x0009:
+                return new MirrorReportAttributeResponse();
+            case 0x000A:
+                return new ResetLoadLimitCounter();
+            case 0x000B:
+                return new ChangeSupply();
+            case 0x000C:
+                return new LocalChangeSupply();
+            case 0x000D:
+                return new SetSupplyStatus();
+            case 0x000E:
+                return new SetUncontrolledFlowThreshold();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Metering cluster.
      *
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -17,6 +19,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.ZclStatus;
@@ -63,7 +66,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-15T10:07:42Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclOtaUpgradeCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -159,30 +162,48 @@ public class ZclOtaUpgradeCluster extends ZclCluster {
      */
     public static final int ATTR_IMAGESTAMP = 0x000A;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(11);
+
+        attributeMap.put(ATTR_UPGRADESERVERID, new ZclAttributeDefinition(ATTR_UPGRADESERVERID, "Upgrade Server ID", ZclDataType.IEEE_ADDRESS, true, true, false, false));
+        attributeMap.put(ATTR_FILEOFFSET, new ZclAttributeDefinition(ATTR_FILEOFFSET, "File Offset", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTFILEVERSION, new ZclAttributeDefinition(ATTR_CURRENTFILEVERSION, "Current File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTZIGBEESTACKVERSION, new ZclAttributeDefinition(ATTR_CURRENTZIGBEESTACKVERSION, "Current ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DOWNLOADEDFILEVERSION, new ZclAttributeDefinition(ATTR_DOWNLOADEDFILEVERSION, "Downloaded File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DOWNLOADEDZIGBEESTACKVERSION, new ZclAttributeDefinition(ATTR_DOWNLOADEDZIGBEESTACKVERSION, "Downloaded ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_IMAGEUPGRADESTATUS, new ZclAttributeDefinition(ATTR_IMAGEUPGRADESTATUS, "Image Upgrade Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_MANUFACTURERID, new ZclAttributeDefinition(ATTR_MANUFACTURERID, "Manufacturer ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_IMAGETYPEID, new ZclAttributeDefinition(ATTR_IMAGETYPEID, "Image Type ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MINIMUMBLOCKREQUESTPERIOD, new ZclAttributeDefinition(ATTR_MINIMUMBLOCKREQUESTPERIOD, "Minimum Block Request Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_IMAGESTAMP, new ZclAttributeDefinition(ATTR_IMAGESTAMP, "Image Stamp", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(11);
-
-        attributeMap.put(ATTR_UPGRADESERVERID, new ZclAttribute(this, ATTR_UPGRADESERVERID, "Upgrade Server ID", ZclDataType.IEEE_ADDRESS, true, true, false, false));
-        attributeMap.put(ATTR_FILEOFFSET, new ZclAttribute(this, ATTR_FILEOFFSET, "File Offset", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTFILEVERSION, new ZclAttribute(this, ATTR_CURRENTFILEVERSION, "Current File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTZIGBEESTACKVERSION, new ZclAttribute(this, ATTR_CURRENTZIGBEESTACKVERSION, "Current ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DOWNLOADEDFILEVERSION, new ZclAttribute(this, ATTR_DOWNLOADEDFILEVERSION, "Downloaded File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DOWNLOADEDZIGBEESTACKVERSION, new ZclAttribute(this, ATTR_DOWNLOADEDZIGBEESTACKVERSION, "Downloaded ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IMAGEUPGRADESTATUS, new ZclAttribute(this, ATTR_IMAGEUPGRADESTATUS, "Image Upgrade Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MANUFACTURERID, new ZclAttribute(this, ATTR_MANUFACTURERID, "Manufacturer ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IMAGETYPEID, new ZclAttribute(this, ATTR_IMAGETYPEID, "Image Type ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MINIMUMBLOCKREQUESTPERIOD, new ZclAttribute(this, ATTR_MINIMUMBLOCKREQUESTPERIOD, "Minimum Block Request Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IMAGESTAMP, new ZclAttribute(this, ATTR_IMAGESTAMP, "Image Stamp", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -211,6 +232,42 @@ public class ZclOtaUpgradeCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new ImageNotifyCommand();
+            case 0x0002:
+                return new QueryNextImageResponse();
+            case 0x0005:
+                return new ImageBlockResponse();
+            case 0x0007:
+                return new UpgradeEndResponse();
+            case 0x0009:
+                return new QuerySpecificFileResponse();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0001:
+                return new QueryNextImageCommand();
+            case 0x0003:
+                return new ImageBlockCommand();
+            case 0x0004:
+                return new ImagePageCommand();
+            case 0x0006:
+                return new UpgradeEndCommand();
+            case 0x0008:
+                return new QuerySpecificFileCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Ota Upgrade cluster.
      *
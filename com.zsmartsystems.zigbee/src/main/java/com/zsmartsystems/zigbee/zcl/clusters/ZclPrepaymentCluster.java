@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.prepayment.ChangeDebt;
@@ -64,7 +67,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-02T20:51:08Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclPrepaymentCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -602,150 +605,168 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     public static final int ATTR_HISTORICALFREEZETIME = 0x055C;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(0);
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(131);
+
+        attributeMap.put(ATTR_PAYMENTCONTROLCONFIGURATION, new ZclAttributeDefinition(ATTR_PAYMENTCONTROLCONFIGURATION, "Payment Control Configuration", ZclDataType.BITMAP_16_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CREDITREMAINING, new ZclAttributeDefinition(ATTR_CREDITREMAINING, "Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EMERGENCYCREDITREMAINING, new ZclAttributeDefinition(ATTR_EMERGENCYCREDITREMAINING, "Emergency Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CREDITSTATUS, new ZclAttributeDefinition(ATTR_CREDITSTATUS, "Credit Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CREDITREMAININGTIMESTAMP, new ZclAttributeDefinition(ATTR_CREDITREMAININGTIMESTAMP, "Credit Remaining Timestamp", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_ACCUMULATEDDEBT, new ZclAttributeDefinition(ATTR_ACCUMULATEDDEBT, "Accumulated Debt", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_OVERALLDEBTCAP, new ZclAttributeDefinition(ATTR_OVERALLDEBTCAP, "Overall Debt Cap", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EMERGENCYCREDITLIMITALLOWANCE, new ZclAttributeDefinition(ATTR_EMERGENCYCREDITLIMITALLOWANCE, "Emergency Credit Limit Allowance", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_EMERGENCYCREDITTHRESHOLD, new ZclAttributeDefinition(ATTR_EMERGENCYCREDITTHRESHOLD, "Emergency Credit Threshold", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOTALCREDITADDED, new ZclAttributeDefinition(ATTR_TOTALCREDITADDED, "Total Credit Added", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXCREDITLIMIT, new ZclAttributeDefinition(ATTR_MAXCREDITLIMIT, "Max Credit Limit", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_MAXCREDITPERTOPUP, new ZclAttributeDefinition(ATTR_MAXCREDITPERTOPUP, "Max Credit Per Top Up", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_FRIENDLYCREDITWARNING, new ZclAttributeDefinition(ATTR_FRIENDLYCREDITWARNING, "Friendly Credit Warning", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_LOWCREDITWARNINGLEVEL, new ZclAttributeDefinition(ATTR_LOWCREDITWARNINGLEVEL, "Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_IHDLOWCREDITWARNINGLEVEL, new ZclAttributeDefinition(ATTR_IHDLOWCREDITWARNINGLEVEL, "Ihd Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
+        attributeMap.put(ATTR_INTERRUPTSUSPENDTIME, new ZclAttributeDefinition(ATTR_INTERRUPTSUSPENDTIME, "Interrupt Suspend Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_REMAININGFRIENDLYCREDITTIME, new ZclAttributeDefinition(ATTR_REMAININGFRIENDLYCREDITTIME, "Remaining Friendly Credit Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_NEXTFRIENDLYCREDITPERIOD, new ZclAttributeDefinition(ATTR_NEXTFRIENDLYCREDITPERIOD, "Next Friendly Credit Period", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_CUTOFFVALUE, new ZclAttributeDefinition(ATTR_CUTOFFVALUE, "Cut Off Value", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOKENCARRIERID, new ZclAttributeDefinition(ATTR_TOKENCARRIERID, "Token Carrier ID", ZclDataType.OCTET_STRING, false, true, true, true));
+        attributeMap.put(ATTR_TOPUPDATETIME1, new ZclAttributeDefinition(ATTR_TOPUPDATETIME1, "Top Up Date / time #1", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT1, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT1, "Top Up Amount #1", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE1, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE1, "Top Up Originating Device #1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE1, new ZclAttributeDefinition(ATTR_TOPUPCODE1, "Top Up Code #1", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME2, new ZclAttributeDefinition(ATTR_TOPUPDATETIME2, "Top Up Date /time #2", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT2, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT2, "Top Up Amount #2", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE2, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE2, "Top Up Originating Device #2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE2, new ZclAttributeDefinition(ATTR_TOPUPCODE2, "Top Up Code #2", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME3, new ZclAttributeDefinition(ATTR_TOPUPDATETIME3, "Top Up Date /time #3", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT3, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT3, "Top Up Amount #3", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE3, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE3, "Top Up Originating Device #3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE3, new ZclAttributeDefinition(ATTR_TOPUPCODE3, "Top Up Code #3", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME4, new ZclAttributeDefinition(ATTR_TOPUPDATETIME4, "Top Up Date /time #4", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT4, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT4, "Top Up Amount #4", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE4, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE4, "Top Up Originating Device #4", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE4, new ZclAttributeDefinition(ATTR_TOPUPCODE4, "Top Up Code #4", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPDATETIME5, new ZclAttributeDefinition(ATTR_TOPUPDATETIME5, "Top Up Date /time #5", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPAMOUNT5, new ZclAttributeDefinition(ATTR_TOPUPAMOUNT5, "Top Up Amount #5", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE5, new ZclAttributeDefinition(ATTR_TOPUPORIGINATINGDEVICE5, "Top Up Originating Device #5", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_TOPUPCODE5, new ZclAttributeDefinition(ATTR_TOPUPCODE5, "Top Up Code #5", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTLABEL1, new ZclAttributeDefinition(ATTR_DEBTLABEL1, "Debt Label 1", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTAMOUNT1, new ZclAttributeDefinition(ATTR_DEBTAMOUNT1, "Debt Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYMETHOD1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYMETHOD1, "Debt Recovery Method 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYSTARTTIME1, "Debt Recovery Start Time 1", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYCOLLECTIONTIME1, "Debt Recovery Collection Time 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYFREQUENCY1, "Debt Recovery Frequency 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYAMOUNT1, "Debt Recovery Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, new ZclAttributeDefinition(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, "Debt Recovery Top Up Percentage 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTLABEL2, new ZclAttributeDefinition(ATTR_DEBTLABEL2, "Debt Label 2", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTAMOUNT2, new ZclAttributeDefinition(ATTR_DEBTAMOUNT2, "Debt Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYMETHOD2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYMETHOD2, "Debt Recovery Method 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYSTARTTIME2, "Debt Recovery Start Time 2", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYCOLLECTIONTIME2, "Debt Recovery Collection Time 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYFREQUENCY2, "Debt Recovery Frequency 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYAMOUNT2, "Debt Recovery Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, new ZclAttributeDefinition(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, "Debt Recovery Top Up Percentage 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTLABEL3, new ZclAttributeDefinition(ATTR_DEBTLABEL3, "Debt Label 3", ZclDataType.OCTET_STRING, true, true, false, false));
+        attributeMap.put(ATTR_DEBTAMOUNT3, new ZclAttributeDefinition(ATTR_DEBTAMOUNT3, "Debt Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYMETHOD3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYMETHOD3, "Debt Recovery Method 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYSTARTTIME3, "Debt Recovery Start Time 3", ZclDataType.UTCTIME, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYCOLLECTIONTIME3, "Debt Recovery Collection Time 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYFREQUENCY3, "Debt Recovery Frequency 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYAMOUNT3, "Debt Recovery Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, new ZclAttributeDefinition(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, "Debt Recovery Top Up Percentage 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREPAYMENTALARMSTATUS, new ZclAttributeDefinition(ATTR_PREPAYMENTALARMSTATUS, "Prepayment Alarm Status", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_PREPAYGENERICALARMMASK, new ZclAttributeDefinition(ATTR_PREPAYGENERICALARMMASK, "Prepay Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_PREPAYSWITCHALARMMASK, new ZclAttributeDefinition(ATTR_PREPAYSWITCHALARMMASK, "Prepay Switch Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_PREPAYEVENTALARMMASK, new ZclAttributeDefinition(ATTR_PREPAYEVENTALARMMASK, "Prepay Event Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        attributeMap.put(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, new ZclAttributeDefinition(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, "Historical Cost Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CONSUMPTIONUNITOFMEASUREMENT, new ZclAttributeDefinition(ATTR_CONSUMPTIONUNITOFMEASUREMENT, "Consumption Unit Of Measurement", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENCYSCALINGFACTOR, new ZclAttributeDefinition(ATTR_CURRENCYSCALINGFACTOR, "Currency Scaling Factor", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        attributeMap.put(ATTR_CURRENCY, new ZclAttributeDefinition(ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, "Current Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, "Current Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, "Previous Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, "Previous Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, "Previous Day 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, "Previous Day 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, "Previous Day 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, "Previous Day 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, "Previous Day 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, "Previous Day 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, "Previous Day 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, "Previous Day 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, "Previous Day 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, "Previous Day 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, "Previous Day 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, "Previous Day 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, "Previous Day 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, "Previous Day 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, "Current Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, "Current Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, "Previous Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, "Previous Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, "Previous Week 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, "Previous Week 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, "Previous Week 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, "Previous Week 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, "Previous Week 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, "Previous Week 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, "Previous Week 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, "Previous Week 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, "Current Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, "Current Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, "Previous Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, "Previous Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, "Previous Month 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, "Previous Month 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, "Previous Month 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, "Previous Month 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, "Previous Month 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, "Previous Month 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, "Previous Month 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, "Previous Month 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, "Previous Month 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, "Previous Month 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, "Previous Month 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, "Previous Month 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, "Previous Month 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, "Previous Month 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, "Previous Month 9 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, "Previous Month 9 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, "Previous Month 10 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, "Previous Month 10 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, "Previous Month 11 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, "Previous Month 11 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, "Previous Month 12 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, "Previous Month 12 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, "Previous Month 13 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, new ZclAttributeDefinition(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, "Previous Month 13 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttributeDefinition(ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(0);
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(131);
-
-        attributeMap.put(ATTR_PAYMENTCONTROLCONFIGURATION, new ZclAttribute(this, ATTR_PAYMENTCONTROLCONFIGURATION, "Payment Control Configuration", ZclDataType.BITMAP_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CREDITREMAINING, new ZclAttribute(this, ATTR_CREDITREMAINING, "Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITREMAINING, new ZclAttribute(this, ATTR_EMERGENCYCREDITREMAINING, "Emergency Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CREDITSTATUS, new ZclAttribute(this, ATTR_CREDITSTATUS, "Credit Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CREDITREMAININGTIMESTAMP, new ZclAttribute(this, ATTR_CREDITREMAININGTIMESTAMP, "Credit Remaining Timestamp", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_ACCUMULATEDDEBT, new ZclAttribute(this, ATTR_ACCUMULATEDDEBT, "Accumulated Debt", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_OVERALLDEBTCAP, new ZclAttribute(this, ATTR_OVERALLDEBTCAP, "Overall Debt Cap", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITLIMITALLOWANCE, new ZclAttribute(this, ATTR_EMERGENCYCREDITLIMITALLOWANCE, "Emergency Credit Limit Allowance", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITTHRESHOLD, new ZclAttribute(this, ATTR_EMERGENCYCREDITTHRESHOLD, "Emergency Credit Threshold", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOTALCREDITADDED, new ZclAttribute(this, ATTR_TOTALCREDITADDED, "Total Credit Added", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXCREDITLIMIT, new ZclAttribute(this, ATTR_MAXCREDITLIMIT, "Max Credit Limit", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXCREDITPERTOPUP, new ZclAttribute(this, ATTR_MAXCREDITPERTOPUP, "Max Credit Per Top Up", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FRIENDLYCREDITWARNING, new ZclAttribute(this, ATTR_FRIENDLYCREDITWARNING, "Friendly Credit Warning", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LOWCREDITWARNINGLEVEL, new ZclAttribute(this, ATTR_LOWCREDITWARNINGLEVEL, "Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IHDLOWCREDITWARNINGLEVEL, new ZclAttribute(this, ATTR_IHDLOWCREDITWARNINGLEVEL, "Ihd Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_INTERRUPTSUSPENDTIME, new ZclAttribute(this, ATTR_INTERRUPTSUSPENDTIME, "Interrupt Suspend Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGFRIENDLYCREDITTIME, new ZclAttribute(this, ATTR_REMAININGFRIENDLYCREDITTIME, "Remaining Friendly Credit Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEXTFRIENDLYCREDITPERIOD, new ZclAttribute(this, ATTR_NEXTFRIENDLYCREDITPERIOD, "Next Friendly Credit Period", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CUTOFFVALUE, new ZclAttribute(this, ATTR_CUTOFFVALUE, "Cut Off Value", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOKENCARRIERID, new ZclAttribute(this, ATTR_TOKENCARRIERID, "Token Carrier ID", ZclDataType.OCTET_STRING, false, true, true, true));
-        attributeMap.put(ATTR_TOPUPDATETIME1, new ZclAttribute(this, ATTR_TOPUPDATETIME1, "Top Up Date / time #1", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT1, new ZclAttribute(this, ATTR_TOPUPAMOUNT1, "Top Up Amount #1", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE1, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE1, "Top Up Originating Device #1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE1, new ZclAttribute(this, ATTR_TOPUPCODE1, "Top Up Code #1", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME2, new ZclAttribute(this, ATTR_TOPUPDATETIME2, "Top Up Date /time #2", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT2, new ZclAttribute(this, ATTR_TOPUPAMOUNT2, "Top Up Amount #2", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE2, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE2, "Top Up Originating Device #2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE2, new ZclAttribute(this, ATTR_TOPUPCODE2, "Top Up Code #2", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME3, new ZclAttribute(this, ATTR_TOPUPDATETIME3, "Top Up Date /time #3", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT3, new ZclAttribute(this, ATTR_TOPUPAMOUNT3, "Top Up Amount #3", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE3, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE3, "Top Up Originating Device #3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE3, new ZclAttribute(this, ATTR_TOPUPCODE3, "Top Up Code #3", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME4, new ZclAttribute(this, ATTR_TOPUPDATETIME4, "Top Up Date /time #4", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT4, new ZclAttribute(this, ATTR_TOPUPAMOUNT4, "Top Up Amount #4", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE4, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE4, "Top Up Originating Device #4", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE4, new ZclAttribute(this, ATTR_TOPUPCODE4, "Top Up Code #4", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME5, new ZclAttribute(this, ATTR_TOPUPDATETIME5, "Top Up Date /time #5", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT5, new ZclAttribute(this, ATTR_TOPUPAMOUNT5, "Top Up Amount #5", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE5, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE5, "Top Up Originating Device #5", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE5, new ZclAttribute(this, ATTR_TOPUPCODE5, "Top Up Code #5", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL1, new ZclAttribute(this, ATTR_DEBTLABEL1, "Debt Label 1", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT1, new ZclAttribute(this, ATTR_DEBTAMOUNT1, "Debt Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD1, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD1, "Debt Recovery Method 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME1, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME1, "Debt Recovery Start Time 1", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME1, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME1, "Debt Recovery Collection Time 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY1, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY1, "Debt Recovery Frequency 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT1, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT1, "Debt Recovery Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, "Debt Recovery Top Up Percentage 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL2, new ZclAttribute(this, ATTR_DEBTLABEL2, "Debt Label 2", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT2, new ZclAttribute(this, ATTR_DEBTAMOUNT2, "Debt Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD2, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD2, "Debt Recovery Method 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME2, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME2, "Debt Recovery Start Time 2", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME2, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME2, "Debt Recovery Collection Time 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY2, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY2, "Debt Recovery Frequency 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT2, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT2, "Debt Recovery Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, "Debt Recovery Top Up Percentage 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL3, new ZclAttribute(this, ATTR_DEBTLABEL3, "Debt Label 3", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT3, new ZclAttribute(this, ATTR_DEBTAMOUNT3, "Debt Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD3, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD3, "Debt Recovery Method 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME3, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME3, "Debt Recovery Start Time 3", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME3, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME3, "Debt Recovery Collection Time 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY3, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY3, "Debt Recovery Frequency 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT3, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT3, "Debt Recovery Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, "Debt Recovery Top Up Percentage 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREPAYMENTALARMSTATUS, new ZclAttribute(this, ATTR_PREPAYMENTALARMSTATUS, "Prepayment Alarm Status", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYGENERICALARMMASK, new ZclAttribute(this, ATTR_PREPAYGENERICALARMMASK, "Prepay Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYSWITCHALARMMASK, new ZclAttribute(this, ATTR_PREPAYSWITCHALARMMASK, "Prepay Switch Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYEVENTALARMMASK, new ZclAttribute(this, ATTR_PREPAYEVENTALARMMASK, "Prepay Event Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, "Historical Cost Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CONSUMPTIONUNITOFMEASUREMENT, new ZclAttribute(this, ATTR_CONSUMPTIONUNITOFMEASUREMENT, "Consumption Unit Of Measurement", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENCYSCALINGFACTOR, new ZclAttribute(this, ATTR_CURRENCYSCALINGFACTOR, "Currency Scaling Factor", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENCY, new ZclAttribute(this, ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, "Current Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, "Current Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, "Previous Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, "Previous Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, "Previous Day 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, "Previous Day 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, "Previous Day 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, "Previous Day 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, "Previous Day 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, "Previous Day 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, "Previous Day 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, "Previous Day 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, "Previous Day 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, "Previous Day 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, "Previous Day 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, "Previous Day 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, "Previous Day 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, "Previous Day 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, "Current Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, "Current Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, "Previous Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, "Previous Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, "Previous Week 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, "Previous Week 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, "Previous Week 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, "Previous Week 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, "Previous Week 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, "Previous Week 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, "Previous Week 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, "Previous Week 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, "Current Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, "Current Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, "Previous Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, "Previous Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, "Previous Month 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, "Previous Month 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, "Previous Month 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, "Previous Month 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, "Previous Month 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, "Previous Month 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, "Previous Month 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, "Previous Month 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, "Previous Month 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, "Previous Month 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, "Previous Month 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, "Previous Month 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, "Previous Month 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, "Previous Month 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, "Previous Month 9 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, "Previous Month 9 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, "Previous Month 10 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, "Previous Month 10 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, "Previous Month 11 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, "Previous Month 11 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, "Previous Month 12 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, "Previous Month 12 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, "Previous Month 13 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, "Previous Month 13 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttribute(this, ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -781,6 +802,56 @@ public class ZclPrepaymentCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0001:
+                return new PublishPrepaySnapshot();
+            case 0x0002:
+                return new ChangePaymentModeResponse();
+            case 0x0003:
+                return new ConsumerTopUpResponse();
+            case 0x0005:
+                return new PublishTopUpLog();
+            case 0x0006:
+                return new PublishDebtLog();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new SelectAvailableEmergencyCredit();
+            case 0x0002:
+                return new ChangeDebt();
+            case 0x0003:
+                return new EmergencyCreditSetup();
+            case 0x0004:
+                return new ConsumerTopUp();
+            case 0x0005:
+                return new CreditAdjustment();
+            case 0x0006:
+                return new ChangePaymentMode();
+            case 0x0007:
+                return new GetPrepaySnapshot();
+            case 0x0008:
+                return new GetTopUpLog();
+            case 0x0009:
+                return new SetLowCreditWarningLevel();
+            case 0x000A:
+                return new GetDebtRepaymentLog();
+            case 0x000B:
+                return new SetMaximumCreditLimit();
+            case 0x000C:
+                return new SetOverallDebtCap();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Prepayment cluster.
      *
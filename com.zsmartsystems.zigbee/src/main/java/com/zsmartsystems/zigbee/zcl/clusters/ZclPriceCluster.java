@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -17,6 +19,7 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDefinition;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.price.BlockThresholdSubPayload;
@@ -71,7 +74,7 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
  * <p>
  * Code is auto-generated. Modifications may be overwritten!
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-05-15T10:07:42Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:23:30Z")
 public class ZclPriceCluster extends ZclCluster {
     /**
      * The ZigBee Cluster Library Cluster ID
@@ -3678,1049 +3681,1067 @@ public class ZclPriceCluster extends ZclCluster {
     public static final int ATTR_RECEIVEDLASTBILLINGPERIODDURATION = 0x8703;
     public static final int ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL = 0x8704;
 
+    /**
+     * The shared definitions of the client attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> clientAttributeDefinitions = initializeClientAttributeDefinitions();
+
+    /**
+     * The shared definitions of the server attributes in this cluster
+     */
+    private static final Map<Integer, ZclAttributeDefinition> serverAttributeDefinitions = initializeServerAttributeDefinitions();
+
+    private static Map<Integer, ZclAttributeDefinition> initializeClientAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(3);
+
+        attributeMap.put(ATTR_PRICEINCREASERANDOMIZEMINUTES, new ZclAttributeDefinition(ATTR_PRICEINCREASERANDOMIZEMINUTES, "Price Increase Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_PRICEDECREASERANDOMIZEMINUTES, new ZclAttributeDefinition(ATTR_PRICEDECREASERANDOMIZEMINUTES, "Price Decrease Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        attributeMap.put(ATTR_COMMODITYTYPECLIENT, new ZclAttributeDefinition(ATTR_COMMODITYTYPECLIENT, "Commodity Type Client", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
+    private static Map<Integer, ZclAttributeDefinition> initializeServerAttributeDefinitions() {
+        Map<Integer, ZclAttributeDefinition> attributeMap = new HashMap<>(135);
+
+        attributeMap.put(ATTR_TIER1PRICELABEL, new ZclAttributeDefinition(ATTR_TIER1PRICELABEL, "Tier 1 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER2PRICELABEL, new ZclAttributeDefinition(ATTR_TIER2PRICELABEL, "Tier 2 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER3PRICELABEL, new ZclAttributeDefinition(ATTR_TIER3PRICELABEL, "Tier 3 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER4PRICELABEL, new ZclAttributeDefinition(ATTR_TIER4PRICELABEL, "Tier 4 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER5PRICELABEL, new ZclAttributeDefinition(ATTR_TIER5PRICELABEL, "Tier 5 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER6PRICELABEL, new ZclAttributeDefinition(ATTR_TIER6PRICELABEL, "Tier 6 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER7PRICELABEL, new ZclAttributeDefinition(ATTR_TIER7PRICELABEL, "Tier 7 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER8PRICELABEL, new ZclAttributeDefinition(ATTR_TIER8PRICELABEL, "Tier 8 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER9PRICELABEL, new ZclAttributeDefinition(ATTR_TIER9PRICELABEL, "Tier 9 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER10PRICELABEL, new ZclAttributeDefinition(ATTR_TIER10PRICELABEL, "Tier 10 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER11PRICELABEL, new ZclAttributeDefinition(ATTR_TIER11PRICELABEL, "Tier 11 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER12PRICELABEL, new ZclAttributeDefinition(ATTR_TIER12PRICELABEL, "Tier 12 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER13PRICELABEL, new ZclAttributeDefinition(ATTR_TIER13PRICELABEL, "Tier 13 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER14PRICELABEL, new ZclAttributeDefinition(ATTR_TIER14PRICELABEL, "Tier 14 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER15PRICELABEL, new ZclAttributeDefinition(ATTR_TIER15PRICELABEL, "Tier 15 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER16PRICELABEL, new ZclAttributeDefinition(ATTR_TIER16PRICELABEL, "Tier 16 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER17PRICELABEL, new ZclAttributeDefinition(ATTR_TIER17PRICELABEL, "Tier 17 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER18PRICELABEL, new ZclAttributeDefinition(ATTR_TIER18PRICELABEL, "Tier 18 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER19PRICELABEL, new ZclAttributeDefinition(ATTR_TIER19PRICELABEL, "Tier 19 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER20PRICELABEL, new ZclAttributeDefinition(ATTR_TIER20PRICELABEL, "Tier 20 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER21PRICELABEL, new ZclAttributeDefinition(ATTR_TIER21PRICELABEL, "Tier 21 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER22PRICELABEL, new ZclAttributeDefinition(ATTR_TIER22PRICELABEL, "Tier 22 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER23PRICELABEL, new ZclAttributeDefinition(ATTR_TIER23PRICELABEL, "Tier 23 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER24PRICELABEL, new ZclAttributeDefinition(ATTR_TIER24PRICELABEL, "Tier 24 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER25PRICELABEL, new ZclAttributeDefinition(ATTR_TIER25PRICELABEL, "Tier 25 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER26PRICELABEL, new ZclAttributeDefinition(ATTR_TIER26PRICELABEL, "Tier 26 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER27PRICELABEL, new ZclAttributeDefinition(ATTR_TIER27PRICELABEL, "Tier 27 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER28PRICELABEL, new ZclAttributeDefinition(ATTR_TIER28PRICELABEL, "Tier 28 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER29PRICELABEL, new ZclAttributeDefinition(ATTR_TIER29PRICELABEL, "Tier 29 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER30PRICELABEL, new ZclAttributeDefinition(ATTR_TIER30PRICELABEL, "Tier 30 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER31PRICELABEL, new ZclAttributeDefinition(ATTR_TIER31PRICELABEL, "Tier 31 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER32PRICELABEL, new ZclAttributeDefinition(ATTR_TIER32PRICELABEL, "Tier 32 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER33PRICELABEL, new ZclAttributeDefinition(ATTR_TIER33PRICELABEL, "Tier 33 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER34PRICELABEL, new ZclAttributeDefinition(ATTR_TIER34PRICELABEL, "Tier 34 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER35PRICELABEL, new ZclAttributeDefinition(ATTR_TIER35PRICELABEL, "Tier 35 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER36PRICELABEL, new ZclAttributeDefinition(ATTR_TIER36PRICELABEL, "Tier 36 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER37PRICELABEL, new ZclAttributeDefinition(ATTR_TIER37PRICELABEL, "Tier 37 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER38PRICELABEL, new ZclAttributeDefinition(ATTR_TIER38PRICELABEL, "Tier 38 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER39PRICELABEL, new ZclAttributeDefinition(ATTR_TIER39PRICELABEL, "Tier 39 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER40PRICELABEL, new ZclAttributeDefinition(ATTR_TIER40PRICELABEL, "Tier 40 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER41PRICELABEL, new ZclAttributeDefinition(ATTR_TIER41PRICELABEL, "Tier 41 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER42PRICELABEL, new ZclAttributeDefinition(ATTR_TIER42PRICELABEL, "Tier 42 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER43PRICELABEL, new ZclAttributeDefinition(ATTR_TIER43PRICELABEL, "Tier 43 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER44PRICELABEL, new ZclAttributeDefinition(ATTR_TIER44PRICELABEL, "Tier 44 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER45PRICELABEL, new ZclAttributeDefinition(ATTR_TIER45PRICELABEL, "Tier 45 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER46PRICELABEL, new ZclAttributeDefinition(ATTR_TIER46PRICELABEL, "Tier 46 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER47PRICELABEL, new ZclAttributeDefinition(ATTR_TIER47PRICELABEL, "Tier 47 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_TIER48PRICELABEL, new ZclAttributeDefinition(ATTR_TIER48PRICELABEL, "Tier 48 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        attributeMap.put(ATTR_BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK1THRESHOLD, "Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK2THRESHOLD, "Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK3THRESHOLD, "Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK4THRESHOLD, "Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK5THRESHOLD, "Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK6THRESHOLD, "Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK7THRESHOLD, "Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK8THRESHOLD, "Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK9THRESHOLD, "Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK10THRESHOLD, "Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK11THRESHOLD, "Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK12THRESHOLD, "Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK13THRESHOLD, "Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK14THRESHOLD, "Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_BLOCK15THRESHOLD, "Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_BLOCKTHRESHOLDCOUNT, "Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK1THRESHOLD, "Tier 1 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK2THRESHOLD, "Tier 1 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK3THRESHOLD, "Tier 1 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK4THRESHOLD, "Tier 1 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK5THRESHOLD, "Tier 1 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK6THRESHOLD, "Tier 1 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK7THRESHOLD, "Tier 1 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK8THRESHOLD, "Tier 1 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK9THRESHOLD, "Tier 1 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK10THRESHOLD, "Tier 1 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK11THRESHOLD, "Tier 1 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK12THRESHOLD, "Tier 1 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK13THRESHOLD, "Tier 1 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK14THRESHOLD, "Tier 1 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER1BLOCK15THRESHOLD, "Tier 1 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER1BLOCKTHRESHOLDCOUNT, "Tier 1 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK1THRESHOLD, "Tier 2 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK2THRESHOLD, "Tier 2 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK3THRESHOLD, "Tier 2 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK4THRESHOLD, "Tier 2 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK5THRESHOLD, "Tier 2 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK6THRESHOLD, "Tier 2 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK7THRESHOLD, "Tier 2 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK8THRESHOLD, "Tier 2 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK9THRESHOLD, "Tier 2 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK10THRESHOLD, "Tier 2 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK11THRESHOLD, "Tier 2 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK12THRESHOLD, "Tier 2 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK13THRESHOLD, "Tier 2 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK14THRESHOLD, "Tier 2 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER2BLOCK15THRESHOLD, "Tier 2 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER2BLOCKTHRESHOLDCOUNT, "Tier 2 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK1THRESHOLD, "Tier 3 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK2THRESHOLD, "Tier 3 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK3THRESHOLD, "Tier 3 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK4THRESHOLD, "Tier 3 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK5THRESHOLD, "Tier 3 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK6THRESHOLD, "Tier 3 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK7THRESHOLD, "Tier 3 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK8THRESHOLD, "Tier 3 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK9THRESHOLD, "Tier 3 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK10THRESHOLD, "Tier 3 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK11THRESHOLD, "Tier 3 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK12THRESHOLD, "Tier 3 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK13THRESHOLD, "Tier 3 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK14THRESHOLD, "Tier 3 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER3BLOCK15THRESHOLD, "Tier 3 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER3BLOCKTHRESHOLDCOUNT, "Tier 3 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK1THRESHOLD, "Tier 4 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK2THRESHOLD, "Tier 4 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK3THRESHOLD, "Tier 4 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK4THRESHOLD, "Tier 4 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK5THRESHOLD, "Tier 4 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK6THRESHOLD, "Tier 4 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK7THRESHOLD, "Tier 4 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK8THRESHOLD, "Tier 4 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK9THRESHOLD, "Tier 4 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK10THRESHOLD, "Tier 4 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK11THRESHOLD, "Tier 4 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK12THRESHOLD, "Tier 4 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK13THRESHOLD, "Tier 4 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK14THRESHOLD, "Tier 4 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER4BLOCK15THRESHOLD, "Tier 4 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER4BLOCKTHRESHOLDCOUNT, "Tier 4 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK1THRESHOLD, "Tier 5 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK2THRESHOLD, "Tier 5 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK3THRESHOLD, "Tier 5 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK4THRESHOLD, "Tier 5 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK5THRESHOLD, "Tier 5 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK6THRESHOLD, "Tier 5 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK7THRESHOLD, "Tier 5 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK8THRESHOLD, "Tier 5 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK9THRESHOLD, "Tier 5 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK10THRESHOLD, "Tier 5 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK11THRESHOLD, "Tier 5 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK12THRESHOLD, "Tier 5 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK13THRESHOLD, "Tier 5 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK14THRESHOLD, "Tier 5 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER5BLOCK15THRESHOLD, "Tier 5 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER5BLOCKTHRESHOLDCOUNT, "Tier 5 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK1THRESHOLD, "Tier 6 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK2THRESHOLD, "Tier 6 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK3THRESHOLD, "Tier 6 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK4THRESHOLD, "Tier 6 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK5THRESHOLD, "Tier 6 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK6THRESHOLD, "Tier 6 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK7THRESHOLD, "Tier 6 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK8THRESHOLD, "Tier 6 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK9THRESHOLD, "Tier 6 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK10THRESHOLD, "Tier 6 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK11THRESHOLD, "Tier 6 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK12THRESHOLD, "Tier 6 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK13THRESHOLD, "Tier 6 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK14THRESHOLD, "Tier 6 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER6BLOCK15THRESHOLD, "Tier 6 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER6BLOCKTHRESHOLDCOUNT, "Tier 6 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK1THRESHOLD, "Tier 7 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK2THRESHOLD, "Tier 7 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK3THRESHOLD, "Tier 7 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK4THRESHOLD, "Tier 7 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK5THRESHOLD, "Tier 7 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK6THRESHOLD, "Tier 7 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK7THRESHOLD, "Tier 7 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK8THRESHOLD, "Tier 7 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK9THRESHOLD, "Tier 7 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK10THRESHOLD, "Tier 7 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK11THRESHOLD, "Tier 7 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK12THRESHOLD, "Tier 7 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK13THRESHOLD, "Tier 7 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK14THRESHOLD, "Tier 7 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER7BLOCK15THRESHOLD, "Tier 7 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER7BLOCKTHRESHOLDCOUNT, "Tier 7 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK1THRESHOLD, "Tier 8 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK2THRESHOLD, "Tier 8 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK3THRESHOLD, "Tier 8 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK4THRESHOLD, "Tier 8 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK5THRESHOLD, "Tier 8 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK6THRESHOLD, "Tier 8 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK7THRESHOLD, "Tier 8 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK8THRESHOLD, "Tier 8 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK9THRESHOLD, "Tier 8 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK10THRESHOLD, "Tier 8 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK11THRESHOLD, "Tier 8 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK12THRESHOLD, "Tier 8 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK13THRESHOLD, "Tier 8 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK14THRESHOLD, "Tier 8 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER8BLOCK15THRESHOLD, "Tier 8 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER8BLOCKTHRESHOLDCOUNT, "Tier 8 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK1THRESHOLD, "Tier 9 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK2THRESHOLD, "Tier 9 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK3THRESHOLD, "Tier 9 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK4THRESHOLD, "Tier 9 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK5THRESHOLD, "Tier 9 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK6THRESHOLD, "Tier 9 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK7THRESHOLD, "Tier 9 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK8THRESHOLD, "Tier 9 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK9THRESHOLD, "Tier 9 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK10THRESHOLD, "Tier 9 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK11THRESHOLD, "Tier 9 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK12THRESHOLD, "Tier 9 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK13THRESHOLD, "Tier 9 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK14THRESHOLD, "Tier 9 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER9BLOCK15THRESHOLD, "Tier 9 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER9BLOCKTHRESHOLDCOUNT, "Tier 9 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK1THRESHOLD, "Tier 10 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK2THRESHOLD, "Tier 10 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK3THRESHOLD, "Tier 10 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK4THRESHOLD, "Tier 10 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK5THRESHOLD, "Tier 10 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK6THRESHOLD, "Tier 10 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK7THRESHOLD, "Tier 10 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK8THRESHOLD, "Tier 10 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK9THRESHOLD, "Tier 10 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK10THRESHOLD, "Tier 10 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK11THRESHOLD, "Tier 10 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK12THRESHOLD, "Tier 10 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK13THRESHOLD, "Tier 10 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK14THRESHOLD, "Tier 10 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER10BLOCK15THRESHOLD, "Tier 10 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER10BLOCKTHRESHOLDCOUNT, "Tier 10 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK1THRESHOLD, "Tier 11 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK2THRESHOLD, "Tier 11 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK3THRESHOLD, "Tier 11 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK4THRESHOLD, "Tier 11 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK5THRESHOLD, "Tier 11 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK6THRESHOLD, "Tier 11 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK7THRESHOLD, "Tier 11 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK8THRESHOLD, "Tier 11 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK9THRESHOLD, "Tier 11 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK10THRESHOLD, "Tier 11 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK11THRESHOLD, "Tier 11 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK12THRESHOLD, "Tier 11 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK13THRESHOLD, "Tier 11 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK14THRESHOLD, "Tier 11 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER11BLOCK15THRESHOLD, "Tier 11 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER11BLOCKTHRESHOLDCOUNT, "Tier 11 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK1THRESHOLD, "Tier 12 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK2THRESHOLD, "Tier 12 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK3THRESHOLD, "Tier 12 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK4THRESHOLD, "Tier 12 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK5THRESHOLD, "Tier 12 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK6THRESHOLD, "Tier 12 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK7THRESHOLD, "Tier 12 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK8THRESHOLD, "Tier 12 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK9THRESHOLD, "Tier 12 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK10THRESHOLD, "Tier 12 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK11THRESHOLD, "Tier 12 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK12THRESHOLD, "Tier 12 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK13THRESHOLD, "Tier 12 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK14THRESHOLD, "Tier 12 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER12BLOCK15THRESHOLD, "Tier 12 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER12BLOCKTHRESHOLDCOUNT, "Tier 12 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK1THRESHOLD, "Tier 13 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK2THRESHOLD, "Tier 13 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK3THRESHOLD, "Tier 13 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK4THRESHOLD, "Tier 13 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK5THRESHOLD, "Tier 13 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK6THRESHOLD, "Tier 13 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK7THRESHOLD, "Tier 13 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK8THRESHOLD, "Tier 13 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK9THRESHOLD, "Tier 13 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK10THRESHOLD, "Tier 13 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK11THRESHOLD, "Tier 13 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK12THRESHOLD, "Tier 13 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK13THRESHOLD, "Tier 13 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK14THRESHOLD, "Tier 13 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER13BLOCK15THRESHOLD, "Tier 13 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER13BLOCKTHRESHOLDCOUNT, "Tier 13 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK1THRESHOLD, "Tier 14 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK2THRESHOLD, "Tier 14 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK3THRESHOLD, "Tier 14 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK4THRESHOLD, "Tier 14 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK5THRESHOLD, "Tier 14 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK6THRESHOLD, "Tier 14 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK7THRESHOLD, "Tier 14 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK8THRESHOLD, "Tier 14 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK9THRESHOLD, "Tier 14 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK10THRESHOLD, "Tier 14 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK11THRESHOLD, "Tier 14 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK12THRESHOLD, "Tier 14 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK13THRESHOLD, "Tier 14 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK14THRESHOLD, "Tier 14 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER14BLOCK15THRESHOLD, "Tier 14 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER14BLOCKTHRESHOLDCOUNT, "Tier 14 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK1THRESHOLD, "Tier 15 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK2THRESHOLD, "Tier 15 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK3THRESHOLD, "Tier 15 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK4THRESHOLD, "Tier 15 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK5THRESHOLD, "Tier 15 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK6THRESHOLD, "Tier 15 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK7THRESHOLD, "Tier 15 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK8THRESHOLD, "Tier 15 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK9THRESHOLD, "Tier 15 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK10THRESHOLD, "Tier 15 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK11THRESHOLD, "Tier 15 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK12THRESHOLD, "Tier 15 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK13THRESHOLD, "Tier 15 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK14THRESHOLD, "Tier 15 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_TIER15BLOCK15THRESHOLD, "Tier 15 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCKTHRESHOLDCOUNT, new ZclAttributeDefinition(ATTR_TIER15BLOCKTHRESHOLDCOUNT, "Tier 15 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_STARTOFBLOCKPERIOD, new ZclAttributeDefinition(ATTR_STARTOFBLOCKPERIOD, "Start of Block Period", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_BLOCKPERIODDURATION, new ZclAttributeDefinition(ATTR_BLOCKPERIODDURATION, "Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_THRESHOLDMULTIPLIER, new ZclAttributeDefinition(ATTR_THRESHOLDMULTIPLIER, "Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_THRESHOLDDIVISOR, new ZclAttributeDefinition(ATTR_THRESHOLDDIVISOR, "Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_BLOCKPERIODDURATIONTYPE, new ZclAttributeDefinition(ATTR_BLOCKPERIODDURATIONTYPE, "Block Period Duration Type", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_COMMODITYTYPESERVER, new ZclAttributeDefinition(ATTR_COMMODITYTYPESERVER, "Commodity Type Server", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_STANDINGCHARGE, new ZclAttributeDefinition(ATTR_STANDINGCHARGE, "Standing Charge", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CONVERSIONFACTOR, new ZclAttributeDefinition(ATTR_CONVERSIONFACTOR, "Conversion Factor", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CONVERSIONFACTORTRAILINGDIGIT, new ZclAttributeDefinition(ATTR_CONVERSIONFACTORTRAILINGDIGIT, "Conversion Factor Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CALORIFICVALUE, new ZclAttributeDefinition(ATTR_CALORIFICVALUE, "Calorific Value", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CALORIFICVALUEUNIT, new ZclAttributeDefinition(ATTR_CALORIFICVALUEUNIT, "Calorific Value Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CALORIFICVALUETRAILINGDIGIT, new ZclAttributeDefinition(ATTR_CALORIFICVALUETRAILINGDIGIT, "Calorific Value Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK1PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK1PRICE, "No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK2PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK2PRICE, "No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK3PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK3PRICE, "No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK4PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK4PRICE, "No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK5PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK5PRICE, "No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK6PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK6PRICE, "No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK7PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK7PRICE, "No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK8PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK8PRICE, "No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK9PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK9PRICE, "No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK10PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK10PRICE, "No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK11PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK11PRICE, "No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK12PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK12PRICE, "No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK13PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK13PRICE, "No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK14PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK14PRICE, "No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK15PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK15PRICE, "No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NOTIERBLOCK16PRICE, new ZclAttributeDefinition(ATTR_NOTIERBLOCK16PRICE, "No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK1PRICE, "Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK2PRICE, "Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK3PRICE, "Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK4PRICE, "Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK5PRICE, "Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK6PRICE, "Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK7PRICE, "Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK8PRICE, "Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK9PRICE, "Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK10PRICE, "Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK11PRICE, "Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK12PRICE, "Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK13PRICE, "Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK14PRICE, "Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK15PRICE, "Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER1BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER1BLOCK16PRICE, "Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK1PRICE, "Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK2PRICE, "Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK3PRICE, "Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK4PRICE, "Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK5PRICE, "Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK6PRICE, "Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK7PRICE, "Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK8PRICE, "Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK9PRICE, "Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK10PRICE, "Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK11PRICE, "Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK12PRICE, "Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK13PRICE, "Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK14PRICE, "Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK15PRICE, "Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER2BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER2BLOCK16PRICE, "Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK1PRICE, "Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK2PRICE, "Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK3PRICE, "Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK4PRICE, "Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK5PRICE, "Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK6PRICE, "Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK7PRICE, "Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK8PRICE, "Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK9PRICE, "Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK10PRICE, "Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK11PRICE, "Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK12PRICE, "Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK13PRICE, "Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK14PRICE, "Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK15PRICE, "Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER3BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER3BLOCK16PRICE, "Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK1PRICE, "Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK2PRICE, "Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK3PRICE, "Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK4PRICE, "Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK5PRICE, "Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK6PRICE, "Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK7PRICE, "Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK8PRICE, "Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK9PRICE, "Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK10PRICE, "Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK11PRICE, "Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK12PRICE, "Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK13PRICE, "Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK14PRICE, "Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK15PRICE, "Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER4BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER4BLOCK16PRICE, "Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK1PRICE, "Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK2PRICE, "Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK3PRICE, "Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK4PRICE, "Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK5PRICE, "Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK6PRICE, "Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK7PRICE, "Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK8PRICE, "Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK9PRICE, "Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK10PRICE, "Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK11PRICE, "Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK12PRICE, "Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK13PRICE, "Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK14PRICE, "Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK15PRICE, "Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER5BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER5BLOCK16PRICE, "Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK1PRICE, "Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK2PRICE, "Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK3PRICE, "Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK4PRICE, "Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK5PRICE, "Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK6PRICE, "Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK7PRICE, "Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK8PRICE, "Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK9PRICE, "Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK10PRICE, "Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK11PRICE, "Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK12PRICE, "Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK13PRICE, "Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK14PRICE, "Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK15PRICE, "Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER6BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER6BLOCK16PRICE, "Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK1PRICE, "Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK2PRICE, "Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK3PRICE, "Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK4PRICE, "Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK5PRICE, "Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK6PRICE, "Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK7PRICE, "Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK8PRICE, "Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK9PRICE, "Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK10PRICE, "Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK11PRICE, "Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK12PRICE, "Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK13PRICE, "Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK14PRICE, "Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK15PRICE, "Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER7BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER7BLOCK16PRICE, "Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK1PRICE, "Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK2PRICE, "Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK3PRICE, "Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK4PRICE, "Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK5PRICE, "Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK6PRICE, "Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK7PRICE, "Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK8PRICE, "Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK9PRICE, "Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK10PRICE, "Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK11PRICE, "Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK12PRICE, "Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK13PRICE, "Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK14PRICE, "Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK15PRICE, "Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER8BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER8BLOCK16PRICE, "Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK1PRICE, "Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK2PRICE, "Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK3PRICE, "Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK4PRICE, "Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK5PRICE, "Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK6PRICE, "Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK7PRICE, "Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK8PRICE, "Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK9PRICE, "Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK10PRICE, "Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK11PRICE, "Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK12PRICE, "Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK13PRICE, "Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK14PRICE, "Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK15PRICE, "Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER9BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER9BLOCK16PRICE, "Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK1PRICE, "Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK2PRICE, "Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK3PRICE, "Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK4PRICE, "Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK5PRICE, "Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK6PRICE, "Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK7PRICE, "Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK8PRICE, "Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK9PRICE, "Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK10PRICE, "Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK11PRICE, "Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK12PRICE, "Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK13PRICE, "Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK14PRICE, "Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK15PRICE, "Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER10BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER10BLOCK16PRICE, "Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK1PRICE, "Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK2PRICE, "Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK3PRICE, "Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK4PRICE, "Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK5PRICE, "Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK6PRICE, "Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK7PRICE, "Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK8PRICE, "Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK9PRICE, "Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK10PRICE, "Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK11PRICE, "Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK12PRICE, "Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK13PRICE, "Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK14PRICE, "Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK15PRICE, "Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER11BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER11BLOCK16PRICE, "Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK1PRICE, "Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK2PRICE, "Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK3PRICE, "Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK4PRICE, "Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK5PRICE, "Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK6PRICE, "Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK7PRICE, "Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK8PRICE, "Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK9PRICE, "Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK10PRICE, "Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK11PRICE, "Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK12PRICE, "Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK13PRICE, "Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK14PRICE, "Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK15PRICE, "Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER12BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER12BLOCK16PRICE, "Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK1PRICE, "Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK2PRICE, "Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK3PRICE, "Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK4PRICE, "Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK5PRICE, "Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK6PRICE, "Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK7PRICE, "Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK8PRICE, "Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK9PRICE, "Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK10PRICE, "Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK11PRICE, "Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK12PRICE, "Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK13PRICE, "Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK14PRICE, "Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK15PRICE, "Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER13BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER13BLOCK16PRICE, "Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK1PRICE, "Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK2PRICE, "Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK3PRICE, "Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK4PRICE, "Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK5PRICE, "Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK6PRICE, "Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK7PRICE, "Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK8PRICE, "Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK9PRICE, "Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK10PRICE, "Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK11PRICE, "Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK12PRICE, "Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK13PRICE, "Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK14PRICE, "Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK15PRICE, "Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER14BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER14BLOCK16PRICE, "Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK1PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK1PRICE, "Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK2PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK2PRICE, "Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK3PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK3PRICE, "Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK4PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK4PRICE, "Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK5PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK5PRICE, "Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK6PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK6PRICE, "Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK7PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK7PRICE, "Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK8PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK8PRICE, "Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK9PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK9PRICE, "Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK10PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK10PRICE, "Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK11PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK11PRICE, "Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK12PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK12PRICE, "Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK13PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK13PRICE, "Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK14PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK14PRICE, "Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK15PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK15PRICE, "Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIER15BLOCK16PRICE, new ZclAttributeDefinition(ATTR_TIER15BLOCK16PRICE, "Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER16, new ZclAttributeDefinition(ATTR_PRICETIER16, "Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER17, new ZclAttributeDefinition(ATTR_PRICETIER17, "Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER18, new ZclAttributeDefinition(ATTR_PRICETIER18, "Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER19, new ZclAttributeDefinition(ATTR_PRICETIER19, "Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER20, new ZclAttributeDefinition(ATTR_PRICETIER20, "Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER21, new ZclAttributeDefinition(ATTR_PRICETIER21, "Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER22, new ZclAttributeDefinition(ATTR_PRICETIER22, "Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER23, new ZclAttributeDefinition(ATTR_PRICETIER23, "Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER24, new ZclAttributeDefinition(ATTR_PRICETIER24, "Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER25, new ZclAttributeDefinition(ATTR_PRICETIER25, "Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER26, new ZclAttributeDefinition(ATTR_PRICETIER26, "Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER27, new ZclAttributeDefinition(ATTR_PRICETIER27, "Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER28, new ZclAttributeDefinition(ATTR_PRICETIER28, "Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER29, new ZclAttributeDefinition(ATTR_PRICETIER29, "Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER30, new ZclAttributeDefinition(ATTR_PRICETIER30, "Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER31, new ZclAttributeDefinition(ATTR_PRICETIER31, "Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER32, new ZclAttributeDefinition(ATTR_PRICETIER32, "Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER33, new ZclAttributeDefinition(ATTR_PRICETIER33, "Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER34, new ZclAttributeDefinition(ATTR_PRICETIER34, "Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER35, new ZclAttributeDefinition(ATTR_PRICETIER35, "Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER36, new ZclAttributeDefinition(ATTR_PRICETIER36, "Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER37, new ZclAttributeDefinition(ATTR_PRICETIER37, "Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER38, new ZclAttributeDefinition(ATTR_PRICETIER38, "Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER39, new ZclAttributeDefinition(ATTR_PRICETIER39, "Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER40, new ZclAttributeDefinition(ATTR_PRICETIER40, "Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER41, new ZclAttributeDefinition(ATTR_PRICETIER41, "Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER42, new ZclAttributeDefinition(ATTR_PRICETIER42, "Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER43, new ZclAttributeDefinition(ATTR_PRICETIER43, "Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER44, new ZclAttributeDefinition(ATTR_PRICETIER44, "Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER45, new ZclAttributeDefinition(ATTR_PRICETIER45, "Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER46, new ZclAttributeDefinition(ATTR_PRICETIER46, "Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETIER47, new ZclAttributeDefinition(ATTR_PRICETIER47, "Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CPP1PRICE, new ZclAttributeDefinition(ATTR_CPP1PRICE, "Cpp 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CPP2PRICE, new ZclAttributeDefinition(ATTR_CPP2PRICE, "Cpp 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TARIFFLABEL, new ZclAttributeDefinition(ATTR_TARIFFLABEL, "Tariff Label", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFPRICETIERSINUSE, new ZclAttributeDefinition(ATTR_NUMBEROFPRICETIERSINUSE, "Numberof Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttributeDefinition(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, "Numberof Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_TIERBLOCKMODE, new ZclAttributeDefinition(ATTR_TIERBLOCKMODE, "Tier Block Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttributeDefinition(ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CURRENCY, new ZclAttributeDefinition(ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PRICETRAILINGDIGIT, new ZclAttributeDefinition(ATTR_PRICETRAILINGDIGIT, "Price Trailing Digit", ZclDataType.BITMAP_16_BIT, false, true, false, false));
+        attributeMap.put(ATTR_TARIFFRESOLUTIONPERIOD, new ZclAttributeDefinition(ATTR_TARIFFRESOLUTIONPERIOD, "Tariff Resolution Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CO2, new ZclAttributeDefinition(ATTR_CO2, "CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CO2UNIT, new ZclAttributeDefinition(ATTR_CO2UNIT, "CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CO2TRAILINGDIGIT, new ZclAttributeDefinition(ATTR_CO2TRAILINGDIGIT, "CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_CURRENTBILLINGPERIODSTART, "Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CURRENTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_CURRENTBILLINGPERIODDURATION, "Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_LASTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_LASTBILLINGPERIODSTART, "Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_LASTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_LASTBILLINGPERIODDURATION, "Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttributeDefinition(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, "Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITPAYMENTDUEDATE, new ZclAttributeDefinition(ATTR_CREDITPAYMENTDUEDATE, "Credit Payment Due Date", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITPAYMENTSTATUS, new ZclAttributeDefinition(ATTR_CREDITPAYMENTSTATUS, "Credit Payment Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CREDITPAYMENTOVERDUEAMOUNT, new ZclAttributeDefinition(ATTR_CREDITPAYMENTOVERDUEAMOUNT, "Credit Payment Over Due Amount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PAYMENTDISCOUNT, new ZclAttributeDefinition(ATTR_PAYMENTDISCOUNT, "Payment Discount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_PAYMENTDISCOUNTPERIOD, new ZclAttributeDefinition(ATTR_PAYMENTDISCOUNTPERIOD, "Payment Discount Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT1, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT1, "Credit Card Payment 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE1, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE1, "Credit Card Payment Date 1", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF1, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF1, "Credit Card Payment Ref 1", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT2, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT2, "Credit Card Payment 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE2, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE2, "Credit Card Payment Date 2", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF2, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF2, "Credit Card Payment Ref 2", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT3, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT3, "Credit Card Payment 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE3, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE3, "Credit Card Payment Date 3", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF3, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF3, "Credit Card Payment Ref 3", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT4, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT4, "Credit Card Payment 4", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE4, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE4, "Credit Card Payment Date 4", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF4, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF4, "Credit Card Payment Ref 4", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENT5, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENT5, "Credit Card Payment 5", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE5, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTDATE5, "Credit Card Payment Date 5", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_CREDITCARDPAYMENTREF5, new ZclAttributeDefinition(ATTR_CREDITCARDPAYMENTREF5, "Credit Card Payment Ref 5", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTIER1PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER1PRICELABEL, "Received Tier 1 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER2PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER2PRICELABEL, "Received Tier 2 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER3PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER3PRICELABEL, "Received Tier 3 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER4PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER4PRICELABEL, "Received Tier 4 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER5PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER5PRICELABEL, "Received Tier 5 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER6PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER6PRICELABEL, "Received Tier 6 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER7PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER7PRICELABEL, "Received Tier 7 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER8PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER8PRICELABEL, "Received Tier 8 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER9PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER9PRICELABEL, "Received Tier 9 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER10PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER10PRICELABEL, "Received Tier 10 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER11PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER11PRICELABEL, "Received Tier 11 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER12PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER12PRICELABEL, "Received Tier 12 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER13PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER13PRICELABEL, "Received Tier 13 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER14PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER14PRICELABEL, "Received Tier 14 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER15PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER15PRICELABEL, "Received Tier 15 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER16PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER16PRICELABEL, "Received Tier 16 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER17PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER17PRICELABEL, "Received Tier 17 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER18PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER18PRICELABEL, "Received Tier 18 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER19PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER19PRICELABEL, "Received Tier 19 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER20PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER20PRICELABEL, "Received Tier 20 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER21PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER21PRICELABEL, "Received Tier 21 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER22PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER22PRICELABEL, "Received Tier 22 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER23PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER23PRICELABEL, "Received Tier 23 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER24PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER24PRICELABEL, "Received Tier 24 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER25PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER25PRICELABEL, "Received Tier 25 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER26PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER26PRICELABEL, "Received Tier 26 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER27PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER27PRICELABEL, "Received Tier 27 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER28PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER28PRICELABEL, "Received Tier 28 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER29PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER29PRICELABEL, "Received Tier 29 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER30PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER30PRICELABEL, "Received Tier 30 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER31PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER31PRICELABEL, "Received Tier 31 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER32PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER32PRICELABEL, "Received Tier 32 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER33PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER33PRICELABEL, "Received Tier 33 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER34PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER34PRICELABEL, "Received Tier 34 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER35PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER35PRICELABEL, "Received Tier 35 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER36PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER36PRICELABEL, "Received Tier 36 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER37PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER37PRICELABEL, "Received Tier 37 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER38PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER38PRICELABEL, "Received Tier 38 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER39PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER39PRICELABEL, "Received Tier 39 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER40PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER40PRICELABEL, "Received Tier 40 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER41PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER41PRICELABEL, "Received Tier 41 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER42PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER42PRICELABEL, "Received Tier 42 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER43PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER43PRICELABEL, "Received Tier 43 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER44PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER44PRICELABEL, "Received Tier 44 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER45PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER45PRICELABEL, "Received Tier 45 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER46PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER46PRICELABEL, "Received Tier 46 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER47PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER47PRICELABEL, "Received Tier 47 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDTIER48PRICELABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTIER48PRICELABEL, "Received Tier 48 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK1THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK1THRESHOLD, "Received Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK2THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK2THRESHOLD, "Received Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK3THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK3THRESHOLD, "Received Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK4THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK4THRESHOLD, "Received Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK5THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK5THRESHOLD, "Received Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK6THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK6THRESHOLD, "Received Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK7THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK7THRESHOLD, "Received Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK8THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK8THRESHOLD, "Received Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK9THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK9THRESHOLD, "Received Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK10THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK10THRESHOLD, "Received Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK11THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK11THRESHOLD, "Received Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK12THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK12THRESHOLD, "Received Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK13THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK13THRESHOLD, "Received Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK14THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK14THRESHOLD, "Received Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK15THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK15THRESHOLD, "Received Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCK16THRESHOLD, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCK16THRESHOLD, "Received Block 16 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDSTARTOFBLOCKPERIOD, new ZclAttributeDefinition(ATTR_RECEIVEDSTARTOFBLOCKPERIOD, "Received Start Of Block Period", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDBLOCKPERIODDURATION, new ZclAttributeDefinition(ATTR_RECEIVEDBLOCKPERIODDURATION, "Received Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTHRESHOLDMULTIPLIER, new ZclAttributeDefinition(ATTR_RECEIVEDTHRESHOLDMULTIPLIER, "Received Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTHRESHOLDDIVISOR, new ZclAttributeDefinition(ATTR_RECEIVEDTHRESHOLDDIVISOR, "Received Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK1PRICE, "Rx No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK2PRICE, "Rx No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK3PRICE, "Rx No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK4PRICE, "Rx No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK5PRICE, "Rx No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK6PRICE, "Rx No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK7PRICE, "Rx No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK8PRICE, "Rx No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK9PRICE, "Rx No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK10PRICE, "Rx No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK11PRICE, "Rx No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK12PRICE, "Rx No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK13PRICE, "Rx No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK14PRICE, "Rx No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK15PRICE, "Rx No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXNOTIERBLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXNOTIERBLOCK16PRICE, "Rx No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK1PRICE, "Rx Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK2PRICE, "Rx Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK3PRICE, "Rx Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK4PRICE, "Rx Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK5PRICE, "Rx Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK6PRICE, "Rx Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK7PRICE, "Rx Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK8PRICE, "Rx Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK9PRICE, "Rx Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK10PRICE, "Rx Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK11PRICE, "Rx Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK12PRICE, "Rx Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK13PRICE, "Rx Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK14PRICE, "Rx Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK15PRICE, "Rx Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER1BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER1BLOCK16PRICE, "Rx Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK1PRICE, "Rx Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK2PRICE, "Rx Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK3PRICE, "Rx Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK4PRICE, "Rx Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK5PRICE, "Rx Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK6PRICE, "Rx Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK7PRICE, "Rx Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK8PRICE, "Rx Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK9PRICE, "Rx Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK10PRICE, "Rx Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK11PRICE, "Rx Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK12PRICE, "Rx Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK13PRICE, "Rx Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK14PRICE, "Rx Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK15PRICE, "Rx Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER2BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER2BLOCK16PRICE, "Rx Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK1PRICE, "Rx Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK2PRICE, "Rx Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK3PRICE, "Rx Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK4PRICE, "Rx Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK5PRICE, "Rx Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK6PRICE, "Rx Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK7PRICE, "Rx Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK8PRICE, "Rx Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK9PRICE, "Rx Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK10PRICE, "Rx Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK11PRICE, "Rx Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK12PRICE, "Rx Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK13PRICE, "Rx Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK14PRICE, "Rx Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK15PRICE, "Rx Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER3BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER3BLOCK16PRICE, "Rx Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK1PRICE, "Rx Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK2PRICE, "Rx Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK3PRICE, "Rx Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK4PRICE, "Rx Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK5PRICE, "Rx Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK6PRICE, "Rx Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK7PRICE, "Rx Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK8PRICE, "Rx Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK9PRICE, "Rx Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK10PRICE, "Rx Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK11PRICE, "Rx Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK12PRICE, "Rx Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK13PRICE, "Rx Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK14PRICE, "Rx Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK15PRICE, "Rx Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER4BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER4BLOCK16PRICE, "Rx Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK1PRICE, "Rx Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK2PRICE, "Rx Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK3PRICE, "Rx Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK4PRICE, "Rx Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK5PRICE, "Rx Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK6PRICE, "Rx Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK7PRICE, "Rx Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK8PRICE, "Rx Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK9PRICE, "Rx Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK10PRICE, "Rx Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK11PRICE, "Rx Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK12PRICE, "Rx Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK13PRICE, "Rx Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK14PRICE, "Rx Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK15PRICE, "Rx Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER5BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER5BLOCK16PRICE, "Rx Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK1PRICE, "Rx Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK2PRICE, "Rx Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK3PRICE, "Rx Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK4PRICE, "Rx Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK5PRICE, "Rx Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK6PRICE, "Rx Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK7PRICE, "Rx Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK8PRICE, "Rx Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK9PRICE, "Rx Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK10PRICE, "Rx Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK11PRICE, "Rx Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK12PRICE, "Rx Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK13PRICE, "Rx Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK14PRICE, "Rx Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK15PRICE, "Rx Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER6BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER6BLOCK16PRICE, "Rx Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK1PRICE, "Rx Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK2PRICE, "Rx Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK3PRICE, "Rx Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK4PRICE, "Rx Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK5PRICE, "Rx Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK6PRICE, "Rx Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK7PRICE, "Rx Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK8PRICE, "Rx Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK9PRICE, "Rx Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK10PRICE, "Rx Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK11PRICE, "Rx Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK12PRICE, "Rx Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK13PRICE, "Rx Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK14PRICE, "Rx Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK15PRICE, "Rx Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER7BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER7BLOCK16PRICE, "Rx Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK1PRICE, "Rx Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK2PRICE, "Rx Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK3PRICE, "Rx Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK4PRICE, "Rx Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK5PRICE, "Rx Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK6PRICE, "Rx Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK7PRICE, "Rx Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK8PRICE, "Rx Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK9PRICE, "Rx Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK10PRICE, "Rx Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK11PRICE, "Rx Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK12PRICE, "Rx Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK13PRICE, "Rx Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK14PRICE, "Rx Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK15PRICE, "Rx Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER8BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER8BLOCK16PRICE, "Rx Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK1PRICE, "Rx Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK2PRICE, "Rx Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK3PRICE, "Rx Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK4PRICE, "Rx Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK5PRICE, "Rx Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK6PRICE, "Rx Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK7PRICE, "Rx Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK8PRICE, "Rx Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK9PRICE, "Rx Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK10PRICE, "Rx Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK11PRICE, "Rx Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK12PRICE, "Rx Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK13PRICE, "Rx Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK14PRICE, "Rx Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK15PRICE, "Rx Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER9BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER9BLOCK16PRICE, "Rx Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK1PRICE, "Rx Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK2PRICE, "Rx Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK3PRICE, "Rx Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK4PRICE, "Rx Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK5PRICE, "Rx Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK6PRICE, "Rx Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK7PRICE, "Rx Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK8PRICE, "Rx Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK9PRICE, "Rx Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK10PRICE, "Rx Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK11PRICE, "Rx Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK12PRICE, "Rx Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK13PRICE, "Rx Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK14PRICE, "Rx Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK15PRICE, "Rx Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER10BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER10BLOCK16PRICE, "Rx Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK1PRICE, "Rx Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK2PRICE, "Rx Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK3PRICE, "Rx Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK4PRICE, "Rx Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK5PRICE, "Rx Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK6PRICE, "Rx Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK7PRICE, "Rx Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK8PRICE, "Rx Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK9PRICE, "Rx Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK10PRICE, "Rx Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK11PRICE, "Rx Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK12PRICE, "Rx Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK13PRICE, "Rx Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK14PRICE, "Rx Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK15PRICE, "Rx Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER11BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER11BLOCK16PRICE, "Rx Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK1PRICE, "Rx Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK2PRICE, "Rx Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK3PRICE, "Rx Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK4PRICE, "Rx Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK5PRICE, "Rx Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK6PRICE, "Rx Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK7PRICE, "Rx Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK8PRICE, "Rx Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK9PRICE, "Rx Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK10PRICE, "Rx Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK11PRICE, "Rx Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK12PRICE, "Rx Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK13PRICE, "Rx Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK14PRICE, "Rx Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK15PRICE, "Rx Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER12BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER12BLOCK16PRICE, "Rx Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK1PRICE, "Rx Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK2PRICE, "Rx Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK3PRICE, "Rx Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK4PRICE, "Rx Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK5PRICE, "Rx Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK6PRICE, "Rx Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK7PRICE, "Rx Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK8PRICE, "Rx Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK9PRICE, "Rx Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK10PRICE, "Rx Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK11PRICE, "Rx Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK12PRICE, "Rx Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK13PRICE, "Rx Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK14PRICE, "Rx Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK15PRICE, "Rx Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER13BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER13BLOCK16PRICE, "Rx Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK1PRICE, "Rx Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK2PRICE, "Rx Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK3PRICE, "Rx Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK4PRICE, "Rx Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK5PRICE, "Rx Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK6PRICE, "Rx Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK7PRICE, "Rx Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK8PRICE, "Rx Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK9PRICE, "Rx Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK10PRICE, "Rx Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK11PRICE, "Rx Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK12PRICE, "Rx Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK13PRICE, "Rx Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK14PRICE, "Rx Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK15PRICE, "Rx Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER14BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER14BLOCK16PRICE, "Rx Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK1PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK1PRICE, "Rx Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK2PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK2PRICE, "Rx Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK3PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK3PRICE, "Rx Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK4PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK4PRICE, "Rx Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK5PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK5PRICE, "Rx Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK6PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK6PRICE, "Rx Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK7PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK7PRICE, "Rx Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK8PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK8PRICE, "Rx Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK9PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK9PRICE, "Rx Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK10PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK10PRICE, "Rx Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK11PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK11PRICE, "Rx Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK12PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK12PRICE, "Rx Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK13PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK13PRICE, "Rx Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK14PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK14PRICE, "Rx Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK15PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK15PRICE, "Rx Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RXTIER15BLOCK16PRICE, new ZclAttributeDefinition(ATTR_RXTIER15BLOCK16PRICE, "Rx Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER16, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER16, "Received Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER17, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER17, "Received Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER18, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER18, "Received Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER19, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER19, "Received Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER20, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER20, "Received Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER21, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER21, "Received Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER22, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER22, "Received Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER23, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER23, "Received Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER24, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER24, "Received Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER25, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER25, "Received Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER26, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER26, "Received Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER27, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER27, "Received Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER28, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER28, "Received Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER29, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER29, "Received Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER30, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER30, "Received Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER31, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER31, "Received Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER32, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER32, "Received Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER33, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER33, "Received Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER34, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER34, "Received Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER35, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER35, "Received Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER36, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER36, "Received Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER37, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER37, "Received Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER38, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER38, "Received Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER39, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER39, "Received Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER40, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER40, "Received Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER41, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER41, "Received Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER42, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER42, "Received Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER43, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER43, "Received Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER44, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER44, "Received Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER45, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER45, "Received Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER46, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER46, "Received Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER47, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER47, "Received Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER48, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER48, "Received Price Tier 48", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER49, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER49, "Received Price Tier 49", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER50, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER50, "Received Price Tier 50", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER51, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER51, "Received Price Tier 51", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER52, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER52, "Received Price Tier 52", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER53, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER53, "Received Price Tier 53", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER54, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER54, "Received Price Tier 54", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER55, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER55, "Received Price Tier 55", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER56, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER56, "Received Price Tier 56", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER57, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER57, "Received Price Tier 57", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER58, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER58, "Received Price Tier 58", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER59, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER59, "Received Price Tier 59", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER60, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER60, "Received Price Tier 60", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER61, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER61, "Received Price Tier 61", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER62, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER62, "Received Price Tier 62", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDPRICETIER63, new ZclAttributeDefinition(ATTR_RECEIVEDPRICETIER63, "Received Price Tier 63", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTARIFFLABEL, new ZclAttributeDefinition(ATTR_RECEIVEDTARIFFLABEL, "Received Tariff Label", ZclDataType.OCTET_STRING, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, new ZclAttributeDefinition(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, "Received Number Of Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttributeDefinition(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, "Received Number Of Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDTIERBLOCKMODE, new ZclAttributeDefinition(ATTR_RECEIVEDTIERBLOCKMODE, "Received Tier Block Mode", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCO2, new ZclAttributeDefinition(ATTR_RECEIVEDCO2, "Received CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCO2UNIT, new ZclAttributeDefinition(ATTR_RECEIVEDCO2UNIT, "Received CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCO2TRAILINGDIGIT, new ZclAttributeDefinition(ATTR_RECEIVEDCO2TRAILINGDIGIT, "Received CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, "Received Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, "Received Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODSTART, new ZclAttributeDefinition(ATTR_RECEIVEDLASTBILLINGPERIODSTART, "Received Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODDURATION, new ZclAttributeDefinition(ATTR_RECEIVEDLASTBILLINGPERIODDURATION, "Received Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttributeDefinition(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, "Received Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+
+        return Collections.unmodifiableMap(attributeMap);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(3);
-
-        attributeMap.put(ATTR_PRICEINCREASERANDOMIZEMINUTES, new ZclAttribute(this, ATTR_PRICEINCREASERANDOMIZEMINUTES, "Price Increase Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_PRICEDECREASERANDOMIZEMINUTES, new ZclAttribute(this, ATTR_PRICEDECREASERANDOMIZEMINUTES, "Price Decrease Randomize Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_COMMODITYTYPECLIENT, new ZclAttribute(this, ATTR_COMMODITYTYPECLIENT, "Commodity Type Client", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-
-        return attributeMap;
+        return createAttributeMap(clientAttributeDefinitions);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentHashMap<>(135);
-
-        attributeMap.put(ATTR_TIER1PRICELABEL, new ZclAttribute(this, ATTR_TIER1PRICELABEL, "Tier 1 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER2PRICELABEL, new ZclAttribute(this, ATTR_TIER2PRICELABEL, "Tier 2 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER3PRICELABEL, new ZclAttribute(this, ATTR_TIER3PRICELABEL, "Tier 3 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER4PRICELABEL, new ZclAttribute(this, ATTR_TIER4PRICELABEL, "Tier 4 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER5PRICELABEL, new ZclAttribute(this, ATTR_TIER5PRICELABEL, "Tier 5 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER6PRICELABEL, new ZclAttribute(this, ATTR_TIER6PRICELABEL, "Tier 6 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER7PRICELABEL, new ZclAttribute(this, ATTR_TIER7PRICELABEL, "Tier 7 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER8PRICELABEL, new ZclAttribute(this, ATTR_TIER8PRICELABEL, "Tier 8 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER9PRICELABEL, new ZclAttribute(this, ATTR_TIER9PRICELABEL, "Tier 9 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER10PRICELABEL, new ZclAttribute(this, ATTR_TIER10PRICELABEL, "Tier 10 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER11PRICELABEL, new ZclAttribute(this, ATTR_TIER11PRICELABEL, "Tier 11 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER12PRICELABEL, new ZclAttribute(this, ATTR_TIER12PRICELABEL, "Tier 12 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER13PRICELABEL, new ZclAttribute(this, ATTR_TIER13PRICELABEL, "Tier 13 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER14PRICELABEL, new ZclAttribute(this, ATTR_TIER14PRICELABEL, "Tier 14 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER15PRICELABEL, new ZclAttribute(this, ATTR_TIER15PRICELABEL, "Tier 15 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER16PRICELABEL, new ZclAttribute(this, ATTR_TIER16PRICELABEL, "Tier 16 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER17PRICELABEL, new ZclAttribute(this, ATTR_TIER17PRICELABEL, "Tier 17 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER18PRICELABEL, new ZclAttribute(this, ATTR_TIER18PRICELABEL, "Tier 18 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER19PRICELABEL, new ZclAttribute(this, ATTR_TIER19PRICELABEL, "Tier 19 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER20PRICELABEL, new ZclAttribute(this, ATTR_TIER20PRICELABEL, "Tier 20 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER21PRICELABEL, new ZclAttribute(this, ATTR_TIER21PRICELABEL, "Tier 21 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER22PRICELABEL, new ZclAttribute(this, ATTR_TIER22PRICELABEL, "Tier 22 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER23PRICELABEL, new ZclAttribute(this, ATTR_TIER23PRICELABEL, "Tier 23 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER24PRICELABEL, new ZclAttribute(this, ATTR_TIER24PRICELABEL, "Tier 24 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER25PRICELABEL, new ZclAttribute(this, ATTR_TIER25PRICELABEL, "Tier 25 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER26PRICELABEL, new ZclAttribute(this, ATTR_TIER26PRICELABEL, "Tier 26 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER27PRICELABEL, new ZclAttribute(this, ATTR_TIER27PRICELABEL, "Tier 27 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER28PRICELABEL, new ZclAttribute(this, ATTR_TIER28PRICELABEL, "Tier 28 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER29PRICELABEL, new ZclAttribute(this, ATTR_TIER29PRICELABEL, "Tier 29 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER30PRICELABEL, new ZclAttribute(this, ATTR_TIER30PRICELABEL, "Tier 30 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER31PRICELABEL, new ZclAttribute(this, ATTR_TIER31PRICELABEL, "Tier 31 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER32PRICELABEL, new ZclAttribute(this, ATTR_TIER32PRICELABEL, "Tier 32 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER33PRICELABEL, new ZclAttribute(this, ATTR_TIER33PRICELABEL, "Tier 33 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER34PRICELABEL, new ZclAttribute(this, ATTR_TIER34PRICELABEL, "Tier 34 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER35PRICELABEL, new ZclAttribute(this, ATTR_TIER35PRICELABEL, "Tier 35 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER36PRICELABEL, new ZclAttribute(this, ATTR_TIER36PRICELABEL, "Tier 36 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER37PRICELABEL, new ZclAttribute(this, ATTR_TIER37PRICELABEL, "Tier 37 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER38PRICELABEL, new ZclAttribute(this, ATTR_TIER38PRICELABEL, "Tier 38 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER39PRICELABEL, new ZclAttribute(this, ATTR_TIER39PRICELABEL, "Tier 39 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER40PRICELABEL, new ZclAttribute(this, ATTR_TIER40PRICELABEL, "Tier 40 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER41PRICELABEL, new ZclAttribute(this, ATTR_TIER41PRICELABEL, "Tier 41 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER42PRICELABEL, new ZclAttribute(this, ATTR_TIER42PRICELABEL, "Tier 42 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER43PRICELABEL, new ZclAttribute(this, ATTR_TIER43PRICELABEL, "Tier 43 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER44PRICELABEL, new ZclAttribute(this, ATTR_TIER44PRICELABEL, "Tier 44 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER45PRICELABEL, new ZclAttribute(this, ATTR_TIER45PRICELABEL, "Tier 45 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER46PRICELABEL, new ZclAttribute(this, ATTR_TIER46PRICELABEL, "Tier 46 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER47PRICELABEL, new ZclAttribute(this, ATTR_TIER47PRICELABEL, "Tier 47 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_TIER48PRICELABEL, new ZclAttribute(this, ATTR_TIER48PRICELABEL, "Tier 48 Price Label", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_BLOCK1THRESHOLD, "Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_BLOCK2THRESHOLD, "Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_BLOCK3THRESHOLD, "Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_BLOCK4THRESHOLD, "Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_BLOCK5THRESHOLD, "Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_BLOCK6THRESHOLD, "Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_BLOCK7THRESHOLD, "Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_BLOCK8THRESHOLD, "Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_BLOCK9THRESHOLD, "Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_BLOCK10THRESHOLD, "Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_BLOCK11THRESHOLD, "Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_BLOCK12THRESHOLD, "Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_BLOCK13THRESHOLD, "Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_BLOCK14THRESHOLD, "Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_BLOCK15THRESHOLD, "Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_BLOCKTHRESHOLDCOUNT, "Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK1THRESHOLD, "Tier 1 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK2THRESHOLD, "Tier 1 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK3THRESHOLD, "Tier 1 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK4THRESHOLD, "Tier 1 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK5THRESHOLD, "Tier 1 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK6THRESHOLD, "Tier 1 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK7THRESHOLD, "Tier 1 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK8THRESHOLD, "Tier 1 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK9THRESHOLD, "Tier 1 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK10THRESHOLD, "Tier 1 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK11THRESHOLD, "Tier 1 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK12THRESHOLD, "Tier 1 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK13THRESHOLD, "Tier 1 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK14THRESHOLD, "Tier 1 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER1BLOCK15THRESHOLD, "Tier 1 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER1BLOCKTHRESHOLDCOUNT, "Tier 1 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK1THRESHOLD, "Tier 2 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK2THRESHOLD, "Tier 2 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK3THRESHOLD, "Tier 2 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK4THRESHOLD, "Tier 2 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK5THRESHOLD, "Tier 2 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK6THRESHOLD, "Tier 2 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK7THRESHOLD, "Tier 2 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK8THRESHOLD, "Tier 2 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK9THRESHOLD, "Tier 2 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK10THRESHOLD, "Tier 2 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK11THRESHOLD, "Tier 2 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK12THRESHOLD, "Tier 2 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK13THRESHOLD, "Tier 2 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK14THRESHOLD, "Tier 2 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER2BLOCK15THRESHOLD, "Tier 2 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER2BLOCKTHRESHOLDCOUNT, "Tier 2 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK1THRESHOLD, "Tier 3 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK2THRESHOLD, "Tier 3 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK3THRESHOLD, "Tier 3 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK4THRESHOLD, "Tier 3 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK5THRESHOLD, "Tier 3 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK6THRESHOLD, "Tier 3 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK7THRESHOLD, "Tier 3 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK8THRESHOLD, "Tier 3 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK9THRESHOLD, "Tier 3 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK10THRESHOLD, "Tier 3 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK11THRESHOLD, "Tier 3 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK12THRESHOLD, "Tier 3 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK13THRESHOLD, "Tier 3 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK14THRESHOLD, "Tier 3 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER3BLOCK15THRESHOLD, "Tier 3 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER3BLOCKTHRESHOLDCOUNT, "Tier 3 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK1THRESHOLD, "Tier 4 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK2THRESHOLD, "Tier 4 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK3THRESHOLD, "Tier 4 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK4THRESHOLD, "Tier 4 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK5THRESHOLD, "Tier 4 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK6THRESHOLD, "Tier 4 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK7THRESHOLD, "Tier 4 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK8THRESHOLD, "Tier 4 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK9THRESHOLD, "Tier 4 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK10THRESHOLD, "Tier 4 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK11THRESHOLD, "Tier 4 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK12THRESHOLD, "Tier 4 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK13THRESHOLD, "Tier 4 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK14THRESHOLD, "Tier 4 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER4BLOCK15THRESHOLD, "Tier 4 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER4BLOCKTHRESHOLDCOUNT, "Tier 4 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK1THRESHOLD, "Tier 5 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK2THRESHOLD, "Tier 5 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK3THRESHOLD, "Tier 5 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK4THRESHOLD, "Tier 5 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK5THRESHOLD, "Tier 5 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK6THRESHOLD, "Tier 5 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK7THRESHOLD, "Tier 5 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK8THRESHOLD, "Tier 5 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK9THRESHOLD, "Tier 5 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK10THRESHOLD, "Tier 5 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK11THRESHOLD, "Tier 5 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK12THRESHOLD, "Tier 5 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK13THRESHOLD, "Tier 5 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK14THRESHOLD, "Tier 5 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER5BLOCK15THRESHOLD, "Tier 5 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER5BLOCKTHRESHOLDCOUNT, "Tier 5 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK1THRESHOLD, "Tier 6 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK2THRESHOLD, "Tier 6 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK3THRESHOLD, "Tier 6 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK4THRESHOLD, "Tier 6 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK5THRESHOLD, "Tier 6 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK6THRESHOLD, "Tier 6 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK7THRESHOLD, "Tier 6 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK8THRESHOLD, "Tier 6 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK9THRESHOLD, "Tier 6 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK10THRESHOLD, "Tier 6 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK11THRESHOLD, "Tier 6 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK12THRESHOLD, "Tier 6 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK13THRESHOLD, "Tier 6 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK14THRESHOLD, "Tier 6 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER6BLOCK15THRESHOLD, "Tier 6 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER6BLOCKTHRESHOLDCOUNT, "Tier 6 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK1THRESHOLD, "Tier 7 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK2THRESHOLD, "Tier 7 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK3THRESHOLD, "Tier 7 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK4THRESHOLD, "Tier 7 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK5THRESHOLD, "Tier 7 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK6THRESHOLD, "Tier 7 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK7THRESHOLD, "Tier 7 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK8THRESHOLD, "Tier 7 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK9THRESHOLD, "Tier 7 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK10THRESHOLD, "Tier 7 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK11THRESHOLD, "Tier 7 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK12THRESHOLD, "Tier 7 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK13THRESHOLD, "Tier 7 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK14THRESHOLD, "Tier 7 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER7BLOCK15THRESHOLD, "Tier 7 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER7BLOCKTHRESHOLDCOUNT, "Tier 7 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK1THRESHOLD, "Tier 8 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK2THRESHOLD, "Tier 8 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK3THRESHOLD, "Tier 8 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK4THRESHOLD, "Tier 8 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK5THRESHOLD, "Tier 8 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK6THRESHOLD, "Tier 8 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK7THRESHOLD, "Tier 8 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK8THRESHOLD, "Tier 8 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK9THRESHOLD, "Tier 8 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK10THRESHOLD, "Tier 8 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK11THRESHOLD, "Tier 8 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK12THRESHOLD, "Tier 8 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK13THRESHOLD, "Tier 8 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK14THRESHOLD, "Tier 8 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER8BLOCK15THRESHOLD, "Tier 8 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER8BLOCKTHRESHOLDCOUNT, "Tier 8 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK1THRESHOLD, "Tier 9 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK2THRESHOLD, "Tier 9 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK3THRESHOLD, "Tier 9 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK4THRESHOLD, "Tier 9 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK5THRESHOLD, "Tier 9 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK6THRESHOLD, "Tier 9 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK7THRESHOLD, "Tier 9 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK8THRESHOLD, "Tier 9 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK9THRESHOLD, "Tier 9 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK10THRESHOLD, "Tier 9 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK11THRESHOLD, "Tier 9 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK12THRESHOLD, "Tier 9 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK13THRESHOLD, "Tier 9 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK14THRESHOLD, "Tier 9 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER9BLOCK15THRESHOLD, "Tier 9 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER9BLOCKTHRESHOLDCOUNT, "Tier 9 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK1THRESHOLD, "Tier 10 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK2THRESHOLD, "Tier 10 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK3THRESHOLD, "Tier 10 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK4THRESHOLD, "Tier 10 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK5THRESHOLD, "Tier 10 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK6THRESHOLD, "Tier 10 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK7THRESHOLD, "Tier 10 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK8THRESHOLD, "Tier 10 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK9THRESHOLD, "Tier 10 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK10THRESHOLD, "Tier 10 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK11THRESHOLD, "Tier 10 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK12THRESHOLD, "Tier 10 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK13THRESHOLD, "Tier 10 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK14THRESHOLD, "Tier 10 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER10BLOCK15THRESHOLD, "Tier 10 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER10BLOCKTHRESHOLDCOUNT, "Tier 10 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK1THRESHOLD, "Tier 11 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK2THRESHOLD, "Tier 11 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK3THRESHOLD, "Tier 11 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK4THRESHOLD, "Tier 11 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK5THRESHOLD, "Tier 11 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK6THRESHOLD, "Tier 11 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK7THRESHOLD, "Tier 11 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK8THRESHOLD, "Tier 11 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK9THRESHOLD, "Tier 11 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK10THRESHOLD, "Tier 11 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK11THRESHOLD, "Tier 11 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK12THRESHOLD, "Tier 11 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK13THRESHOLD, "Tier 11 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK14THRESHOLD, "Tier 11 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER11BLOCK15THRESHOLD, "Tier 11 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER11BLOCKTHRESHOLDCOUNT, "Tier 11 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK1THRESHOLD, "Tier 12 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK2THRESHOLD, "Tier 12 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK3THRESHOLD, "Tier 12 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK4THRESHOLD, "Tier 12 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK5THRESHOLD, "Tier 12 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK6THRESHOLD, "Tier 12 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK7THRESHOLD, "Tier 12 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK8THRESHOLD, "Tier 12 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK9THRESHOLD, "Tier 12 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK10THRESHOLD, "Tier 12 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK11THRESHOLD, "Tier 12 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK12THRESHOLD, "Tier 12 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK13THRESHOLD, "Tier 12 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK14THRESHOLD, "Tier 12 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER12BLOCK15THRESHOLD, "Tier 12 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER12BLOCKTHRESHOLDCOUNT, "Tier 12 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK1THRESHOLD, "Tier 13 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK2THRESHOLD, "Tier 13 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK3THRESHOLD, "Tier 13 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK4THRESHOLD, "Tier 13 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK5THRESHOLD, "Tier 13 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK6THRESHOLD, "Tier 13 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK7THRESHOLD, "Tier 13 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK8THRESHOLD, "Tier 13 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK9THRESHOLD, "Tier 13 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK10THRESHOLD, "Tier 13 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK11THRESHOLD, "Tier 13 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK12THRESHOLD, "Tier 13 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK13THRESHOLD, "Tier 13 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK14THRESHOLD, "Tier 13 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER13BLOCK15THRESHOLD, "Tier 13 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER13BLOCKTHRESHOLDCOUNT, "Tier 13 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK1THRESHOLD, "Tier 14 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK2THRESHOLD, "Tier 14 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK3THRESHOLD, "Tier 14 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK4THRESHOLD, "Tier 14 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK5THRESHOLD, "Tier 14 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK6THRESHOLD, "Tier 14 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK7THRESHOLD, "Tier 14 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK8THRESHOLD, "Tier 14 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK9THRESHOLD, "Tier 14 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK10THRESHOLD, "Tier 14 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK11THRESHOLD, "Tier 14 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK12THRESHOLD, "Tier 14 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK13THRESHOLD, "Tier 14 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK14THRESHOLD, "Tier 14 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER14BLOCK15THRESHOLD, "Tier 14 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER14BLOCKTHRESHOLDCOUNT, "Tier 14 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK1THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK1THRESHOLD, "Tier 15 Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK2THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK2THRESHOLD, "Tier 15 Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK3THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK3THRESHOLD, "Tier 15 Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK4THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK4THRESHOLD, "Tier 15 Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK5THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK5THRESHOLD, "Tier 15 Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK6THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK6THRESHOLD, "Tier 15 Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK7THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK7THRESHOLD, "Tier 15 Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK8THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK8THRESHOLD, "Tier 15 Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK9THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK9THRESHOLD, "Tier 15 Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK10THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK10THRESHOLD, "Tier 15 Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK11THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK11THRESHOLD, "Tier 15 Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK12THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK12THRESHOLD, "Tier 15 Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK13THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK13THRESHOLD, "Tier 15 Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK14THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK14THRESHOLD, "Tier 15 Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK15THRESHOLD, new ZclAttribute(this, ATTR_TIER15BLOCK15THRESHOLD, "Tier 15 Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCKTHRESHOLDCOUNT, new ZclAttribute(this, ATTR_TIER15BLOCKTHRESHOLDCOUNT, "Tier 15 Block Threshold Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_STARTOFBLOCKPERIOD, new ZclAttribute(this, ATTR_STARTOFBLOCKPERIOD, "Start of Block Period", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_BLOCKPERIODDURATION, new ZclAttribute(this, ATTR_BLOCKPERIODDURATION, "Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_THRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_THRESHOLDMULTIPLIER, "Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_THRESHOLDDIVISOR, new ZclAttribute(this, ATTR_THRESHOLDDIVISOR, "Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BLOCKPERIODDURATIONTYPE, new ZclAttribute(this, ATTR_BLOCKPERIODDURATIONTYPE, "Block Period Duration Type", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COMMODITYTYPESERVER, new ZclAttribute(this, ATTR_COMMODITYTYPESERVER, "Commodity Type Server", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_STANDINGCHARGE, new ZclAttribute(this, ATTR_STANDINGCHARGE, "Standing Charge", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONVERSIONFACTOR, new ZclAttribute(this, ATTR_CONVERSIONFACTOR, "Conversion Factor", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONVERSIONFACTORTRAILINGDIGIT, new ZclAttribute(this, ATTR_CONVERSIONFACTORTRAILINGDIGIT, "Conversion Factor Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CALORIFICVALUE, new ZclAttribute(this, ATTR_CALORIFICVALUE, "Calorific Value", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CALORIFICVALUEUNIT, new ZclAttribute(this, ATTR_CALORIFICVALUEUNIT, "Calorific Value Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CALORIFICVALUETRAILINGDIGIT, new ZclAttribute(this, ATTR_CALORIFICVALUETRAILINGDIGIT, "Calorific Value Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK1PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK1PRICE, "No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK2PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK2PRICE, "No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK3PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK3PRICE, "No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK4PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK4PRICE, "No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK5PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK5PRICE, "No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK6PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK6PRICE, "No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK7PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK7PRICE, "No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK8PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK8PRICE, "No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK9PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK9PRICE, "No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK10PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK10PRICE, "No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK11PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK11PRICE, "No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK12PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK12PRICE, "No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK13PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK13PRICE, "No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK14PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK14PRICE, "No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK15PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK15PRICE, "No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NOTIERBLOCK16PRICE, new ZclAttribute(this, ATTR_NOTIERBLOCK16PRICE, "No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK1PRICE, "Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK2PRICE, "Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK3PRICE, "Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK4PRICE, "Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK5PRICE, "Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK6PRICE, "Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK7PRICE, "Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK8PRICE, "Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK9PRICE, "Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK10PRICE, "Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK11PRICE, "Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK12PRICE, "Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK13PRICE, "Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK14PRICE, "Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK15PRICE, "Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER1BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER1BLOCK16PRICE, "Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK1PRICE, "Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK2PRICE, "Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK3PRICE, "Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK4PRICE, "Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK5PRICE, "Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK6PRICE, "Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK7PRICE, "Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK8PRICE, "Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK9PRICE, "Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK10PRICE, "Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK11PRICE, "Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK12PRICE, "Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK13PRICE, "Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK14PRICE, "Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK15PRICE, "Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER2BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER2BLOCK16PRICE, "Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK1PRICE, "Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK2PRICE, "Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK3PRICE, "Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK4PRICE, "Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK5PRICE, "Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK6PRICE, "Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK7PRICE, "Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK8PRICE, "Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK9PRICE, "Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK10PRICE, "Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK11PRICE, "Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK12PRICE, "Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK13PRICE, "Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK14PRICE, "Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK15PRICE, "Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER3BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER3BLOCK16PRICE, "Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK1PRICE, "Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK2PRICE, "Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK3PRICE, "Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK4PRICE, "Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK5PRICE, "Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK6PRICE, "Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK7PRICE, "Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK8PRICE, "Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK9PRICE, "Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK10PRICE, "Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK11PRICE, "Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK12PRICE, "Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK13PRICE, "Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK14PRICE, "Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK15PRICE, "Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER4BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER4BLOCK16PRICE, "Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK1PRICE, "Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK2PRICE, "Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK3PRICE, "Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK4PRICE, "Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK5PRICE, "Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK6PRICE, "Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK7PRICE, "Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK8PRICE, "Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK9PRICE, "Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK10PRICE, "Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK11PRICE, "Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK12PRICE, "Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK13PRICE, "Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK14PRICE, "Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK15PRICE, "Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER5BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER5BLOCK16PRICE, "Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK1PRICE, "Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK2PRICE, "Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK3PRICE, "Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK4PRICE, "Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK5PRICE, "Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK6PRICE, "Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK7PRICE, "Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK8PRICE, "Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK9PRICE, "Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK10PRICE, "Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK11PRICE, "Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK12PRICE, "Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK13PRICE, "Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK14PRICE, "Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK15PRICE, "Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER6BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER6BLOCK16PRICE, "Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK1PRICE, "Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK2PRICE, "Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK3PRICE, "Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK4PRICE, "Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK5PRICE, "Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK6PRICE, "Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK7PRICE, "Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK8PRICE, "Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK9PRICE, "Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK10PRICE, "Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK11PRICE, "Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK12PRICE, "Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK13PRICE, "Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK14PRICE, "Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK15PRICE, "Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER7BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER7BLOCK16PRICE, "Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK1PRICE, "Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK2PRICE, "Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK3PRICE, "Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK4PRICE, "Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK5PRICE, "Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK6PRICE, "Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK7PRICE, "Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK8PRICE, "Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK9PRICE, "Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK10PRICE, "Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK11PRICE, "Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK12PRICE, "Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK13PRICE, "Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK14PRICE, "Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK15PRICE, "Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER8BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER8BLOCK16PRICE, "Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK1PRICE, "Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK2PRICE, "Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK3PRICE, "Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK4PRICE, "Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK5PRICE, "Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK6PRICE, "Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK7PRICE, "Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK8PRICE, "Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK9PRICE, "Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK10PRICE, "Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK11PRICE, "Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK12PRICE, "Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK13PRICE, "Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK14PRICE, "Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK15PRICE, "Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER9BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER9BLOCK16PRICE, "Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK1PRICE, "Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK2PRICE, "Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK3PRICE, "Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK4PRICE, "Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK5PRICE, "Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK6PRICE, "Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK7PRICE, "Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK8PRICE, "Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK9PRICE, "Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK10PRICE, "Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK11PRICE, "Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK12PRICE, "Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK13PRICE, "Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK14PRICE, "Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK15PRICE, "Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER10BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER10BLOCK16PRICE, "Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK1PRICE, "Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK2PRICE, "Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK3PRICE, "Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK4PRICE, "Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK5PRICE, "Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK6PRICE, "Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK7PRICE, "Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK8PRICE, "Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK9PRICE, "Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK10PRICE, "Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK11PRICE, "Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK12PRICE, "Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK13PRICE, "Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK14PRICE, "Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK15PRICE, "Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER11BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER11BLOCK16PRICE, "Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK1PRICE, "Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK2PRICE, "Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK3PRICE, "Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK4PRICE, "Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK5PRICE, "Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK6PRICE, "Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK7PRICE, "Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK8PRICE, "Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK9PRICE, "Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK10PRICE, "Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK11PRICE, "Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK12PRICE, "Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK13PRICE, "Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK14PRICE, "Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK15PRICE, "Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER12BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER12BLOCK16PRICE, "Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK1PRICE, "Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK2PRICE, "Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK3PRICE, "Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK4PRICE, "Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK5PRICE, "Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK6PRICE, "Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK7PRICE, "Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK8PRICE, "Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK9PRICE, "Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK10PRICE, "Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK11PRICE, "Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK12PRICE, "Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK13PRICE, "Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK14PRICE, "Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK15PRICE, "Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER13BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER13BLOCK16PRICE, "Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK1PRICE, "Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK2PRICE, "Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK3PRICE, "Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK4PRICE, "Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK5PRICE, "Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK6PRICE, "Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK7PRICE, "Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK8PRICE, "Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK9PRICE, "Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK10PRICE, "Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK11PRICE, "Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK12PRICE, "Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK13PRICE, "Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK14PRICE, "Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK15PRICE, "Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER14BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER14BLOCK16PRICE, "Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK1PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK1PRICE, "Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK2PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK2PRICE, "Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK3PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK3PRICE, "Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK4PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK4PRICE, "Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK5PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK5PRICE, "Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK6PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK6PRICE, "Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK7PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK7PRICE, "Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK8PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK8PRICE, "Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK9PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK9PRICE, "Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK10PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK10PRICE, "Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK11PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK11PRICE, "Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK12PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK12PRICE, "Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK13PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK13PRICE, "Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK14PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK14PRICE, "Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK15PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK15PRICE, "Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIER15BLOCK16PRICE, new ZclAttribute(this, ATTR_TIER15BLOCK16PRICE, "Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER16, new ZclAttribute(this, ATTR_PRICETIER16, "Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER17, new ZclAttribute(this, ATTR_PRICETIER17, "Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER18, new ZclAttribute(this, ATTR_PRICETIER18, "Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER19, new ZclAttribute(this, ATTR_PRICETIER19, "Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER20, new ZclAttribute(this, ATTR_PRICETIER20, "Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER21, new ZclAttribute(this, ATTR_PRICETIER21, "Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER22, new ZclAttribute(this, ATTR_PRICETIER22, "Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER23, new ZclAttribute(this, ATTR_PRICETIER23, "Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER24, new ZclAttribute(this, ATTR_PRICETIER24, "Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER25, new ZclAttribute(this, ATTR_PRICETIER25, "Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER26, new ZclAttribute(this, ATTR_PRICETIER26, "Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER27, new ZclAttribute(this, ATTR_PRICETIER27, "Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER28, new ZclAttribute(this, ATTR_PRICETIER28, "Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER29, new ZclAttribute(this, ATTR_PRICETIER29, "Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER30, new ZclAttribute(this, ATTR_PRICETIER30, "Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER31, new ZclAttribute(this, ATTR_PRICETIER31, "Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER32, new ZclAttribute(this, ATTR_PRICETIER32, "Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER33, new ZclAttribute(this, ATTR_PRICETIER33, "Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER34, new ZclAttribute(this, ATTR_PRICETIER34, "Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER35, new ZclAttribute(this, ATTR_PRICETIER35, "Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER36, new ZclAttribute(this, ATTR_PRICETIER36, "Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER37, new ZclAttribute(this, ATTR_PRICETIER37, "Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER38, new ZclAttribute(this, ATTR_PRICETIER38, "Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER39, new ZclAttribute(this, ATTR_PRICETIER39, "Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER40, new ZclAttribute(this, ATTR_PRICETIER40, "Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER41, new ZclAttribute(this, ATTR_PRICETIER41, "Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER42, new ZclAttribute(this, ATTR_PRICETIER42, "Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER43, new ZclAttribute(this, ATTR_PRICETIER43, "Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER44, new ZclAttribute(this, ATTR_PRICETIER44, "Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER45, new ZclAttribute(this, ATTR_PRICETIER45, "Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER46, new ZclAttribute(this, ATTR_PRICETIER46, "Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETIER47, new ZclAttribute(this, ATTR_PRICETIER47, "Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CPP1PRICE, new ZclAttribute(this, ATTR_CPP1PRICE, "Cpp 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CPP2PRICE, new ZclAttribute(this, ATTR_CPP2PRICE, "Cpp 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TARIFFLABEL, new ZclAttribute(this, ATTR_TARIFFLABEL, "Tariff Label", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFPRICETIERSINUSE, new ZclAttribute(this, ATTR_NUMBEROFPRICETIERSINUSE, "Numberof Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttribute(this, ATTR_NUMBEROFBLOCKTHRESHOLDSINUSE, "Numberof Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TIERBLOCKMODE, new ZclAttribute(this, ATTR_TIERBLOCKMODE, "Tier Block Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttribute(this, ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENCY, new ZclAttribute(this, ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRICETRAILINGDIGIT, new ZclAttribute(this, ATTR_PRICETRAILINGDIGIT, "Price Trailing Digit", ZclDataType.BITMAP_16_BIT, false, true, false, false));
-        attributeMap.put(ATTR_TARIFFRESOLUTIONPERIOD, new ZclAttribute(this, ATTR_TARIFFRESOLUTIONPERIOD, "Tariff Resolution Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CO2, new ZclAttribute(this, ATTR_CO2, "CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CO2UNIT, new ZclAttribute(this, ATTR_CO2UNIT, "CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CO2TRAILINGDIGIT, new ZclAttribute(this, ATTR_CO2TRAILINGDIGIT, "CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_CURRENTBILLINGPERIODSTART, "Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_CURRENTBILLINGPERIODDURATION, "Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_LASTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_LASTBILLINGPERIODSTART, "Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_LASTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_LASTBILLINGPERIODDURATION, "Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttribute(this, ATTR_LASTBILLINGPERIODCONSOLIDATEDBILL, "Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITPAYMENTDUEDATE, new ZclAttribute(this, ATTR_CREDITPAYMENTDUEDATE, "Credit Payment Due Date", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITPAYMENTSTATUS, new ZclAttribute(this, ATTR_CREDITPAYMENTSTATUS, "Credit Payment Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CREDITPAYMENTOVERDUEAMOUNT, new ZclAttribute(this, ATTR_CREDITPAYMENTOVERDUEAMOUNT, "Credit Payment Over Due Amount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PAYMENTDISCOUNT, new ZclAttribute(this, ATTR_PAYMENTDISCOUNT, "Payment Discount", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PAYMENTDISCOUNTPERIOD, new ZclAttribute(this, ATTR_PAYMENTDISCOUNTPERIOD, "Payment Discount Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT1, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT1, "Credit Card Payment 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE1, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE1, "Credit Card Payment Date 1", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF1, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF1, "Credit Card Payment Ref 1", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT2, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT2, "Credit Card Payment 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE2, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE2, "Credit Card Payment Date 2", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF2, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF2, "Credit Card Payment Ref 2", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT3, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT3, "Credit Card Payment 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE3, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE3, "Credit Card Payment Date 3", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF3, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF3, "Credit Card Payment Ref 3", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT4, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT4, "Credit Card Payment 4", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE4, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE4, "Credit Card Payment Date 4", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF4, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF4, "Credit Card Payment Ref 4", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENT5, new ZclAttribute(this, ATTR_CREDITCARDPAYMENT5, "Credit Card Payment 5", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTDATE5, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTDATE5, "Credit Card Payment Date 5", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CREDITCARDPAYMENTREF5, new ZclAttribute(this, ATTR_CREDITCARDPAYMENTREF5, "Credit Card Payment Ref 5", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTIER1PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER1PRICELABEL, "Received Tier 1 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER2PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER2PRICELABEL, "Received Tier 2 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER3PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER3PRICELABEL, "Received Tier 3 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER4PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER4PRICELABEL, "Received Tier 4 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER5PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER5PRICELABEL, "Received Tier 5 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER6PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER6PRICELABEL, "Received Tier 6 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER7PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER7PRICELABEL, "Received Tier 7 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER8PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER8PRICELABEL, "Received Tier 8 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER9PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER9PRICELABEL, "Received Tier 9 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER10PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER10PRICELABEL, "Received Tier 10 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER11PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER11PRICELABEL, "Received Tier 11 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER12PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER12PRICELABEL, "Received Tier 12 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER13PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER13PRICELABEL, "Received Tier 13 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER14PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER14PRICELABEL, "Received Tier 14 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER15PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER15PRICELABEL, "Received Tier 15 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER16PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER16PRICELABEL, "Received Tier 16 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER17PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER17PRICELABEL, "Received Tier 17 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER18PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER18PRICELABEL, "Received Tier 18 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER19PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER19PRICELABEL, "Received Tier 19 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER20PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER20PRICELABEL, "Received Tier 20 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER21PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER21PRICELABEL, "Received Tier 21 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER22PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER22PRICELABEL, "Received Tier 22 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER23PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER23PRICELABEL, "Received Tier 23 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER24PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER24PRICELABEL, "Received Tier 24 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER25PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER25PRICELABEL, "Received Tier 25 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER26PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER26PRICELABEL, "Received Tier 26 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER27PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER27PRICELABEL, "Received Tier 27 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER28PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER28PRICELABEL, "Received Tier 28 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER29PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER29PRICELABEL, "Received Tier 29 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER30PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER30PRICELABEL, "Received Tier 30 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER31PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER31PRICELABEL, "Received Tier 31 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER32PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER32PRICELABEL, "Received Tier 32 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER33PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER33PRICELABEL, "Received Tier 33 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER34PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER34PRICELABEL, "Received Tier 34 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER35PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER35PRICELABEL, "Received Tier 35 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER36PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER36PRICELABEL, "Received Tier 36 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER37PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER37PRICELABEL, "Received Tier 37 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER38PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER38PRICELABEL, "Received Tier 38 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER39PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER39PRICELABEL, "Received Tier 39 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER40PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER40PRICELABEL, "Received Tier 40 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER41PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER41PRICELABEL, "Received Tier 41 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER42PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER42PRICELABEL, "Received Tier 42 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER43PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER43PRICELABEL, "Received Tier 43 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER44PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER44PRICELABEL, "Received Tier 44 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER45PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER45PRICELABEL, "Received Tier 45 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER46PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER46PRICELABEL, "Received Tier 46 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER47PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER47PRICELABEL, "Received Tier 47 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDTIER48PRICELABEL, new ZclAttribute(this, ATTR_RECEIVEDTIER48PRICELABEL, "Received Tier 48 Price Label", ZclDataType.OCTET_STRING, false, true, true, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK1THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK1THRESHOLD, "Received Block 1 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK2THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK2THRESHOLD, "Received Block 2 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK3THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK3THRESHOLD, "Received Block 3 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK4THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK4THRESHOLD, "Received Block 4 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK5THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK5THRESHOLD, "Received Block 5 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK6THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK6THRESHOLD, "Received Block 6 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK7THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK7THRESHOLD, "Received Block 7 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK8THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK8THRESHOLD, "Received Block 8 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK9THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK9THRESHOLD, "Received Block 9 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK10THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK10THRESHOLD, "Received Block 10 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK11THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK11THRESHOLD, "Received Block 11 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK12THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK12THRESHOLD, "Received Block 12 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK13THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK13THRESHOLD, "Received Block 13 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK14THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK14THRESHOLD, "Received Block 14 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK15THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK15THRESHOLD, "Received Block 15 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCK16THRESHOLD, new ZclAttribute(this, ATTR_RECEIVEDBLOCK16THRESHOLD, "Received Block 16 Threshold", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDSTARTOFBLOCKPERIOD, new ZclAttribute(this, ATTR_RECEIVEDSTARTOFBLOCKPERIOD, "Received Start Of Block Period", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDBLOCKPERIODDURATION, new ZclAttribute(this, ATTR_RECEIVEDBLOCKPERIODDURATION, "Received Block Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTHRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_RECEIVEDTHRESHOLDMULTIPLIER, "Received Threshold Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTHRESHOLDDIVISOR, new ZclAttribute(this, ATTR_RECEIVEDTHRESHOLDDIVISOR, "Received Threshold Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK1PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK1PRICE, "Rx No Tier Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK2PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK2PRICE, "Rx No Tier Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK3PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK3PRICE, "Rx No Tier Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK4PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK4PRICE, "Rx No Tier Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK5PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK5PRICE, "Rx No Tier Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK6PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK6PRICE, "Rx No Tier Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK7PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK7PRICE, "Rx No Tier Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK8PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK8PRICE, "Rx No Tier Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK9PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK9PRICE, "Rx No Tier Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK10PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK10PRICE, "Rx No Tier Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK11PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK11PRICE, "Rx No Tier Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK12PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK12PRICE, "Rx No Tier Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK13PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK13PRICE, "Rx No Tier Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK14PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK14PRICE, "Rx No Tier Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK15PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK15PRICE, "Rx No Tier Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXNOTIERBLOCK16PRICE, new ZclAttribute(this, ATTR_RXNOTIERBLOCK16PRICE, "Rx No Tier Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK1PRICE, "Rx Tier 1 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK2PRICE, "Rx Tier 1 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK3PRICE, "Rx Tier 1 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK4PRICE, "Rx Tier 1 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK5PRICE, "Rx Tier 1 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK6PRICE, "Rx Tier 1 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK7PRICE, "Rx Tier 1 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK8PRICE, "Rx Tier 1 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK9PRICE, "Rx Tier 1 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK10PRICE, "Rx Tier 1 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK11PRICE, "Rx Tier 1 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK12PRICE, "Rx Tier 1 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK13PRICE, "Rx Tier 1 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK14PRICE, "Rx Tier 1 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK15PRICE, "Rx Tier 1 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER1BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER1BLOCK16PRICE, "Rx Tier 1 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK1PRICE, "Rx Tier 2 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK2PRICE, "Rx Tier 2 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK3PRICE, "Rx Tier 2 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK4PRICE, "Rx Tier 2 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK5PRICE, "Rx Tier 2 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK6PRICE, "Rx Tier 2 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK7PRICE, "Rx Tier 2 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK8PRICE, "Rx Tier 2 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK9PRICE, "Rx Tier 2 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK10PRICE, "Rx Tier 2 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK11PRICE, "Rx Tier 2 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK12PRICE, "Rx Tier 2 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK13PRICE, "Rx Tier 2 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK14PRICE, "Rx Tier 2 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK15PRICE, "Rx Tier 2 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER2BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER2BLOCK16PRICE, "Rx Tier 2 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK1PRICE, "Rx Tier 3 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK2PRICE, "Rx Tier 3 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK3PRICE, "Rx Tier 3 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK4PRICE, "Rx Tier 3 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK5PRICE, "Rx Tier 3 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK6PRICE, "Rx Tier 3 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK7PRICE, "Rx Tier 3 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK8PRICE, "Rx Tier 3 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK9PRICE, "Rx Tier 3 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK10PRICE, "Rx Tier 3 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK11PRICE, "Rx Tier 3 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK12PRICE, "Rx Tier 3 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK13PRICE, "Rx Tier 3 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK14PRICE, "Rx Tier 3 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK15PRICE, "Rx Tier 3 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER3BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER3BLOCK16PRICE, "Rx Tier 3 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK1PRICE, "Rx Tier 4 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK2PRICE, "Rx Tier 4 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK3PRICE, "Rx Tier 4 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK4PRICE, "Rx Tier 4 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK5PRICE, "Rx Tier 4 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK6PRICE, "Rx Tier 4 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK7PRICE, "Rx Tier 4 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK8PRICE, "Rx Tier 4 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK9PRICE, "Rx Tier 4 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK10PRICE, "Rx Tier 4 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK11PRICE, "Rx Tier 4 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK12PRICE, "Rx Tier 4 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK13PRICE, "Rx Tier 4 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK14PRICE, "Rx Tier 4 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK15PRICE, "Rx Tier 4 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER4BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER4BLOCK16PRICE, "Rx Tier 4 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK1PRICE, "Rx Tier 5 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK2PRICE, "Rx Tier 5 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK3PRICE, "Rx Tier 5 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK4PRICE, "Rx Tier 5 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK5PRICE, "Rx Tier 5 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK6PRICE, "Rx Tier 5 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK7PRICE, "Rx Tier 5 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK8PRICE, "Rx Tier 5 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK9PRICE, "Rx Tier 5 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK10PRICE, "Rx Tier 5 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK11PRICE, "Rx Tier 5 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK12PRICE, "Rx Tier 5 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK13PRICE, "Rx Tier 5 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK14PRICE, "Rx Tier 5 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK15PRICE, "Rx Tier 5 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER5BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER5BLOCK16PRICE, "Rx Tier 5 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK1PRICE, "Rx Tier 6 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK2PRICE, "Rx Tier 6 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK3PRICE, "Rx Tier 6 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK4PRICE, "Rx Tier 6 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK5PRICE, "Rx Tier 6 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK6PRICE, "Rx Tier 6 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK7PRICE, "Rx Tier 6 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK8PRICE, "Rx Tier 6 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK9PRICE, "Rx Tier 6 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK10PRICE, "Rx Tier 6 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK11PRICE, "Rx Tier 6 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK12PRICE, "Rx Tier 6 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK13PRICE, "Rx Tier 6 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK14PRICE, "Rx Tier 6 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK15PRICE, "Rx Tier 6 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER6BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER6BLOCK16PRICE, "Rx Tier 6 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK1PRICE, "Rx Tier 7 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK2PRICE, "Rx Tier 7 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK3PRICE, "Rx Tier 7 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK4PRICE, "Rx Tier 7 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK5PRICE, "Rx Tier 7 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK6PRICE, "Rx Tier 7 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK7PRICE, "Rx Tier 7 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK8PRICE, "Rx Tier 7 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK9PRICE, "Rx Tier 7 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK10PRICE, "Rx Tier 7 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK11PRICE, "Rx Tier 7 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK12PRICE, "Rx Tier 7 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK13PRICE, "Rx Tier 7 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK14PRICE, "Rx Tier 7 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK15PRICE, "Rx Tier 7 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER7BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER7BLOCK16PRICE, "Rx Tier 7 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK1PRICE, "Rx Tier 8 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK2PRICE, "Rx Tier 8 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK3PRICE, "Rx Tier 8 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK4PRICE, "Rx Tier 8 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK5PRICE, "Rx Tier 8 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK6PRICE, "Rx Tier 8 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK7PRICE, "Rx Tier 8 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK8PRICE, "Rx Tier 8 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK9PRICE, "Rx Tier 8 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK10PRICE, "Rx Tier 8 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK11PRICE, "Rx Tier 8 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK12PRICE, "Rx Tier 8 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK13PRICE, "Rx Tier 8 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK14PRICE, "Rx Tier 8 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK15PRICE, "Rx Tier 8 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER8BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER8BLOCK16PRICE, "Rx Tier 8 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK1PRICE, "Rx Tier 9 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK2PRICE, "Rx Tier 9 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK3PRICE, "Rx Tier 9 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK4PRICE, "Rx Tier 9 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK5PRICE, "Rx Tier 9 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK6PRICE, "Rx Tier 9 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK7PRICE, "Rx Tier 9 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK8PRICE, "Rx Tier 9 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK9PRICE, "Rx Tier 9 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK10PRICE, "Rx Tier 9 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK11PRICE, "Rx Tier 9 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK12PRICE, "Rx Tier 9 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK13PRICE, "Rx Tier 9 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK14PRICE, "Rx Tier 9 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK15PRICE, "Rx Tier 9 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER9BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER9BLOCK16PRICE, "Rx Tier 9 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK1PRICE, "Rx Tier 10 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK2PRICE, "Rx Tier 10 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK3PRICE, "Rx Tier 10 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK4PRICE, "Rx Tier 10 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK5PRICE, "Rx Tier 10 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK6PRICE, "Rx Tier 10 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK7PRICE, "Rx Tier 10 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK8PRICE, "Rx Tier 10 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK9PRICE, "Rx Tier 10 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK10PRICE, "Rx Tier 10 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK11PRICE, "Rx Tier 10 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK12PRICE, "Rx Tier 10 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK13PRICE, "Rx Tier 10 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK14PRICE, "Rx Tier 10 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK15PRICE, "Rx Tier 10 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER10BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER10BLOCK16PRICE, "Rx Tier 10 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK1PRICE, "Rx Tier 11 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK2PRICE, "Rx Tier 11 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK3PRICE, "Rx Tier 11 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK4PRICE, "Rx Tier 11 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK5PRICE, "Rx Tier 11 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK6PRICE, "Rx Tier 11 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK7PRICE, "Rx Tier 11 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK8PRICE, "Rx Tier 11 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK9PRICE, "Rx Tier 11 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK10PRICE, "Rx Tier 11 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK11PRICE, "Rx Tier 11 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK12PRICE, "Rx Tier 11 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK13PRICE, "Rx Tier 11 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK14PRICE, "Rx Tier 11 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK15PRICE, "Rx Tier 11 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER11BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER11BLOCK16PRICE, "Rx Tier 11 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK1PRICE, "Rx Tier 12 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK2PRICE, "Rx Tier 12 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK3PRICE, "Rx Tier 12 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK4PRICE, "Rx Tier 12 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK5PRICE, "Rx Tier 12 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK6PRICE, "Rx Tier 12 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK7PRICE, "Rx Tier 12 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK8PRICE, "Rx Tier 12 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK9PRICE, "Rx Tier 12 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK10PRICE, "Rx Tier 12 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK11PRICE, "Rx Tier 12 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK12PRICE, "Rx Tier 12 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK13PRICE, "Rx Tier 12 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK14PRICE, "Rx Tier 12 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK15PRICE, "Rx Tier 12 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER12BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER12BLOCK16PRICE, "Rx Tier 12 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK1PRICE, "Rx Tier 13 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK2PRICE, "Rx Tier 13 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK3PRICE, "Rx Tier 13 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK4PRICE, "Rx Tier 13 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK5PRICE, "Rx Tier 13 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK6PRICE, "Rx Tier 13 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK7PRICE, "Rx Tier 13 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK8PRICE, "Rx Tier 13 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK9PRICE, "Rx Tier 13 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK10PRICE, "Rx Tier 13 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK11PRICE, "Rx Tier 13 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK12PRICE, "Rx Tier 13 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK13PRICE, "Rx Tier 13 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK14PRICE, "Rx Tier 13 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK15PRICE, "Rx Tier 13 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER13BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER13BLOCK16PRICE, "Rx Tier 13 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK1PRICE, "Rx Tier 14 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK2PRICE, "Rx Tier 14 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK3PRICE, "Rx Tier 14 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK4PRICE, "Rx Tier 14 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK5PRICE, "Rx Tier 14 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK6PRICE, "Rx Tier 14 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK7PRICE, "Rx Tier 14 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK8PRICE, "Rx Tier 14 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK9PRICE, "Rx Tier 14 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK10PRICE, "Rx Tier 14 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK11PRICE, "Rx Tier 14 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK12PRICE, "Rx Tier 14 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK13PRICE, "Rx Tier 14 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK14PRICE, "Rx Tier 14 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK15PRICE, "Rx Tier 14 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER14BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER14BLOCK16PRICE, "Rx Tier 14 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK1PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK1PRICE, "Rx Tier 15 Block 1 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK2PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK2PRICE, "Rx Tier 15 Block 2 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK3PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK3PRICE, "Rx Tier 15 Block 3 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK4PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK4PRICE, "Rx Tier 15 Block 4 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK5PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK5PRICE, "Rx Tier 15 Block 5 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK6PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK6PRICE, "Rx Tier 15 Block 6 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK7PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK7PRICE, "Rx Tier 15 Block 7 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK8PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK8PRICE, "Rx Tier 15 Block 8 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK9PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK9PRICE, "Rx Tier 15 Block 9 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK10PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK10PRICE, "Rx Tier 15 Block 10 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK11PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK11PRICE, "Rx Tier 15 Block 11 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK12PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK12PRICE, "Rx Tier 15 Block 12 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK13PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK13PRICE, "Rx Tier 15 Block 13 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK14PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK14PRICE, "Rx Tier 15 Block 14 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK15PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK15PRICE, "Rx Tier 15 Block 15 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RXTIER15BLOCK16PRICE, new ZclAttribute(this, ATTR_RXTIER15BLOCK16PRICE, "Rx Tier 15 Block 16 Price", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER16, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER16, "Received Price Tier 16", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER17, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER17, "Received Price Tier 17", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER18, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER18, "Received Price Tier 18", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER19, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER19, "Received Price Tier 19", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER20, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER20, "Received Price Tier 20", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER21, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER21, "Received Price Tier 21", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER22, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER22, "Received Price Tier 22", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER23, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER23, "Received Price Tier 23", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER24, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER24, "Received Price Tier 24", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER25, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER25, "Received Price Tier 25", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER26, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER26, "Received Price Tier 26", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER27, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER27, "Received Price Tier 27", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER28, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER28, "Received Price Tier 28", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER29, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER29, "Received Price Tier 29", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER30, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER30, "Received Price Tier 30", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER31, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER31, "Received Price Tier 31", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER32, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER32, "Received Price Tier 32", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER33, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER33, "Received Price Tier 33", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER34, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER34, "Received Price Tier 34", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER35, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER35, "Received Price Tier 35", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER36, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER36, "Received Price Tier 36", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER37, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER37, "Received Price Tier 37", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER38, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER38, "Received Price Tier 38", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER39, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER39, "Received Price Tier 39", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER40, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER40, "Received Price Tier 40", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER41, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER41, "Received Price Tier 41", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER42, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER42, "Received Price Tier 42", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER43, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER43, "Received Price Tier 43", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER44, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER44, "Received Price Tier 44", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER45, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER45, "Received Price Tier 45", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER46, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER46, "Received Price Tier 46", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER47, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER47, "Received Price Tier 47", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER48, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER48, "Received Price Tier 48", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER49, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER49, "Received Price Tier 49", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER50, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER50, "Received Price Tier 50", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER51, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER51, "Received Price Tier 51", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER52, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER52, "Received Price Tier 52", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER53, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER53, "Received Price Tier 53", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER54, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER54, "Received Price Tier 54", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER55, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER55, "Received Price Tier 55", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER56, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER56, "Received Price Tier 56", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER57, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER57, "Received Price Tier 57", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER58, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER58, "Received Price Tier 58", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER59, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER59, "Received Price Tier 59", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER60, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER60, "Received Price Tier 60", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER61, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER61, "Received Price Tier 61", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER62, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER62, "Received Price Tier 62", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDPRICETIER63, new ZclAttribute(this, ATTR_RECEIVEDPRICETIER63, "Received Price Tier 63", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTARIFFLABEL, new ZclAttribute(this, ATTR_RECEIVEDTARIFFLABEL, "Received Tariff Label", ZclDataType.OCTET_STRING, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, new ZclAttribute(this, ATTR_RECEIVEDNUMBEROFPRICETIERSINUSE, "Received Number Of Price Tiers In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, new ZclAttribute(this, ATTR_RECEIVEDNUMBEROFBLOCKTHRESHOLDSINUSE, "Received Number Of Block Thresholds In Use", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDTIERBLOCKMODE, new ZclAttribute(this, ATTR_RECEIVEDTIERBLOCKMODE, "Received Tier Block Mode", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCO2, new ZclAttribute(this, ATTR_RECEIVEDCO2, "Received CO2", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCO2UNIT, new ZclAttribute(this, ATTR_RECEIVEDCO2UNIT, "Received CO2 Unit", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCO2TRAILINGDIGIT, new ZclAttribute(this, ATTR_RECEIVEDCO2TRAILINGDIGIT, "Received CO2 Trailing Digit", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_RECEIVEDCURRENTBILLINGPERIODSTART, "Received Current Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_RECEIVEDCURRENTBILLINGPERIODDURATION, "Received Current Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODSTART, new ZclAttribute(this, ATTR_RECEIVEDLASTBILLINGPERIODSTART, "Received Last Billing Period Start", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODDURATION, new ZclAttribute(this, ATTR_RECEIVEDLASTBILLINGPERIODDURATION, "Received Last Billing Period Duration", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, new ZclAttribute(this, ATTR_RECEIVEDLASTBILLINGPERIODCONSOLIDATEDBILL, "Received Last Billing Period Consolidated Bill", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+        return createAttributeMap(serverAttributeDefinitions);
     }
 
     @Override
@@ -4771,6 +4792,86 @@ public class ZclPriceCluster extends ZclCluster {
         return commandMap;
     }
 
+    @Override
+    protected ZclCommand createServerCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new PublishPriceCommand();
+            case 0x0001:
+                return new PublishBlockPeriodCommand();
+            case 0x0002:
+                return new PublishConversionFactorCommand();
+            case 0x0003:
+                return new PublishCalorificValueCommand();
+            case 0x0004:
+                return new PublishTariffInformationCommand();
+            case 0x0005:
+                return new PublishPriceMatrixCommand();
+            case 0x0006:
+                return new PublishBlockThresholdsCommand();
+            case 0x0007:
+                return new PublishCo2ValueCommand();
+            case 0x0008:
+                return new PublishTierLabelsCommand();
+            case 0x0009:
+                return new PublishBillingPeriodCommand();
+            case 0x000A:
+                return new PublishConsolidatedBillCommand();
+            case 0x000B:
+                return new PublishCppEventCommand();
+            case 0x000C:
+                return new PublishCreditPaymentCommand();
+            case 0x000D:
+                return new PublishCurrencyConversionCommand();
+            case 0x000E:
+                return new CancelTariffCommand();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected ZclCommand createClientCommand(int commandId) {
+        switch (commandId) {
+            case 0x0000:
+                return new GetCurrentPriceCommand();
+            case 0x0001:
+                return new GetScheduledPricesCommand();
+            case 0x0002:
+                return new PriceAcknowledgementCommand();
+            case 0x0003:
+                return new GetBlockPeriodCommand();
+            case 0x0004:
+                return new GetConversionFactorCommand();
+            case 0x0005:
+                return new GetCalorificValueCommand();
+            case 0x0006:
+                return new GetTariffInformationCommand();
+            case 0x0007:
+                return new GetPriceMatrixCommand();
+            case 0x0008:
+                return new GetBlockThresholdsCommand();
+            case 0x0009:
+                return new GetCo2ValueCommand();
+            case 0x000A:
+                return new GetTierLabelsCommand();
+            case 0x000B:
+                return new GetBillingPeriodCommand();
+            case 0x000C:
+                return new GetConsolidatedBillCommand();
+            case 0x000D:
+                return new CppEventResponse();
+            case 0x000E:
+                return new GetCreditPaymentCommand();
+            case 0x000F:
+                return new GetCurrencyConversionCommand();
+            case 0x0010:
+                return new GetTariffCancellationCommand();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Default constructor to create a Price cluster.
      *
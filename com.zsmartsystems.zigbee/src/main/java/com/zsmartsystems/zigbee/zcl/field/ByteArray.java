@@ -27,6 +27,17 @@ public class ByteArray {
         value = array;
     }
 
+    /**
+     * Constructor taking part of an existing byte array. The data is copied.
+     *
+     * @param payload the existing byte array
+     * @param start the start offset of the array (inclusive)
+     * @param finish the end offset of the array (exclusive)
+     */
+    public ByteArray(byte[] payload, int start, int finish) {
+        value = Arrays.copyOfRange(payload, start, finish);
+    }
+
     /**
      * Constructor taking part of an existing integer array
      *
@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Generated;
 
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclAlarmsCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclAnalogInputBasicCluster;
@@ -67,7 +68,7 @@ import com.zsmartsystems.zigbee.zcl.clusters.ZclWindowCoveringCluster;
  *
  * @author Chris Jackson
  */
-@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2019-07-04T21:54:11Z")
+@Generated(value = "com.zsmartsystems.zigbee.autocode.ZigBeeCodeGenerator", date = "2026-10-18T19:17:55Z")
 public enum ZclClusterType {
     BASIC(0x0000, ZclBasicCluster.class, "Basic"),
     POWER_CONFIGURATION(0x0001, ZclPowerConfigurationCluster.class, "Power Configuration"),
@@ -146,6 +147,111 @@ public enum ZclClusterType {
         return clusterClass;
     }
 
+    /**
+     * Creates a new instance of the cluster class for this cluster type
+     *
+     * @param endpoint the {@link ZigBeeEndpoint} the cluster is contained within
+     * @return the new {@link ZclCluster}
+     */
+    public ZclCluster instantiateCluster(final ZigBeeEndpoint endpoint) {
+        switch (clusterId) {
+            case 0x0000:
+                return new ZclBasicCluster(endpoint);
+            case 0x0001:
+                return new ZclPowerConfigurationCluster(endpoint);
+            case 0x0003:
+                return new ZclIdentifyCluster(endpoint);
+            case 0x0004:
+                return new ZclGroupsCluster(endpoint);
+            case 0x0005:
+                return new ZclScenesCluster(endpoint);
+            case 0x0006:
+                return new ZclOnOffCluster(endpoint);
+            case 0x0007:
+                return new ZclOnOffSwitchConfigurationCluster(endpoint);
+            case 0x0008:
+                return new ZclLevelControlCluster(endpoint);
+            case 0x0009:
+                return new ZclAlarmsCluster(endpoint);
+            case 0x000A:
+                return new ZclTimeCluster(endpoint);
+            case 0x000B:
+                return new ZclRssiLocationCluster(endpoint);
+            case 0x000C:
+                return new ZclAnalogInputBasicCluster(endpoint);
+            case 0x000F:
+                return new ZclBinaryInputBasicCluster(endpoint);
+            case 0x0012:
+                return new ZclMultistateInputBasicCluster(endpoint);
+            case 0x0013:
+                return new ZclMultistateOutputBasicCluster(endpoint);
+            case 0x0014:
+                return new ZclMultistateValueBasicCluster(endpoint);
+            case 0x0015:
+                return new ZclCommissioningCluster(endpoint);
+            case 0x0019:
+                return new ZclOtaUpgradeCluster(endpoint);
+            case 0x0020:
+                return new ZclPollControlCluster(endpoint);
+            case 0x0021:
+                return new ZclGreenPowerCluster(endpoint);
+            case 0x0101:
+                return new ZclDoorLockCluster(endpoint);
+            case 0x0102:
+                return new ZclWindowCoveringCluster(endpoint);
+            case 0x0201:
+                return new ZclThermostatCluster(endpoint);
+            case 0x0202:
+                return new ZclFanControlCluster(endpoint);
+            case 0x0203:
+                return new ZclDehumidificationControlCluster(endpoint);
+            case 0x0204:
+                return new ZclThermostatUserInterfaceConfigurationCluster(endpoint);
+            case 0x0300:
+                return new ZclColorControlCluster(endpoint);
+            case 0x0400:
+                return new ZclIlluminanceMeasurementCluster(endpoint);
+            case 0x0401:
+                return new ZclIlluminanceLevelSensingCluster(endpoint);
+            case 0x0402:
+                return new ZclTemperatureMeasurementCluster(endpoint);
+            case 0x0403:
+                return new ZclPressureMeasurementCluster(endpoint);
+            case 0x0404:
+                return new ZclFlowMeasurementCluster(endpoint);
+            case 0x0405:
+                return new ZclRelativeHumidityMeasurementCluster(endpoint);
+            case 0x0406:
+                return new ZclOccupancySensingCluster(endpoint);
+            case 0x0500:
+                return new ZclIasZoneCluster(endpoint);
+            case 0x0501:
+                return new ZclIasAceCluster(endpoint);
+            case 0x0502:
+                return new ZclIasWdCluster(endpoint);
+            case 0x0700:
+                return new ZclPriceCluster(endpoint);
+            case 0x0701:
+                return new ZclDemandResponseAndLoadControlCluster(endpoint);
+            case 0x0702:
+                return new ZclMeteringCluster(endpoint);
+            case 0x0703:
+                return new ZclMessagingCluster(endpoint);
+            case 0x0704:
+                return new ZclSmartEnergyTunnelingCluster(endpoint);
+            case 0x0705:
+                return new ZclPrepaymentCluster(endpoint);
+            case 0x0800:
+                return new ZclKeyEstablishmentCluster(endpoint);
+            case 0x0B04:
+                return new ZclElectricalMeasurementCluster(endpoint);
+            case 0x0B05:
+                return new ZclDiagnosticsCluster(endpoint);
+            default:
+                return null;
+        }
+    }
+
     public static ZclClusterType getValueById(final int clusterId) {
         return idValueMap.get(clusterId);
     }
@@ -7,6 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zdo;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
 import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
 import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
@@ -585,6 +588,8 @@ public enum ZdoCommandType {
      */
     USER_DESCRIPTOR_SET_REQUEST(0x0014, UserDescriptorSetRequest.class);
 
+    private static final Map<Integer, ZdoCommandType> idValueMap = new HashMap<>();
+
     private final int clusterId;
     private final Class<? extends ZdoCommand> commandClass;
 
@@ -593,6 +598,12 @@ public enum ZdoCommandType {
         this.commandClass = commandClass;
     }
 
+    static {
+        for (final ZdoCommandType value : values()) {
+            idValueMap.put(value.clusterId, value);
+        }
+    }
+
     public int getClusterId() {
         return clusterId;
     }
@@ -601,12 +612,181 @@ public enum ZdoCommandType {
         return commandClass;
     }
 
-    public static ZdoCommandType getValueById(final int clusterId) {
-        for (final ZdoCommandType value : values()) {
-            if(value.clusterId == clusterId) {
-                return value;
-            }
+    /**
+     * Creates a new instance of the command class for this command type
+     *
+     * @return the new {@link ZdoCommand}
+     */
+    public ZdoCommand instantiateCommand() {
+        switch (clusterId) {
+            case 0x0000:
+                return new NetworkAddressRequest();
+            case 0x0001:
+                return new IeeeAddressRequest();
+            case 0x0002:
+                return new NodeDescriptorRequest();
+            case 0x0003:
+                return new PowerDescriptorRequest();
+            case 0x0004:
+                return new SimpleDescriptorRequest();
+            case 0x0005:
+                return new ActiveEndpointsRequest();
+            case 0x0006:
+                return new MatchDescriptorRequest();
+            case 0x0010:
+                return new ComplexDescriptorRequest();
+            case 0x0011:
+                return new UserDescriptorRequest();
+            case 0x0012:
+                return new DiscoveryCacheRequest();
+            case 0x0013:
+                return new DeviceAnnounce();
+            case 0x0014:
+                return new UserDescriptorSetRequest();
+            case 0x0015:
+                return new SystemServerDiscoveryRequest();
+            case 0x0016:
+                return new DiscoveryStoreRequestRequest();
+            case 0x0017:
+                return new NodeDescriptorStoreRequest();
+            case 0x0018:
+                return new PowerDescriptorStoreRequest();
+            case 0x0019:
+                return new ActiveEndpointStoreRequest();
+            case 0x001A:
+                return new SimpleDescriptorStore();
+            case 0x001B:
+                return new RemoveNodeCacheRequest();
+            case 0x001C:
+                return new FindNodeCacheRequest();
+            case 0x001D:
+                return new ExtendedSimpleDescriptorRequest();
+            case 0x001E:
+                return new ExtendedActiveEndpointRequest();
+            case 0x0020:
+                return new EndDeviceBindRequest();
+            case 0x0021:
+                return new BindRequest();
+            case 0x0022:
+                return new UnbindRequest();
+            case 0x0023:
+                return new BindRegister();
+            case 0x0024:
+                return new ReplaceDeviceRequest();
+            case 0x0025:
+                return new StoreBackupBindEntryRequest();
+            case 0x0026:
+                return new RemoveBackupBindTableRequest();
+            case 0x0027:
+                return new BackupBindTableRequest();
+            case 0x0028:
+                return new RecoverBindTableRequest();
+            case 0x0029:
+                return new BackupSourceBindRequest();
+            case 0x002A:
+                return new RecoverSourceBindRequest();
+            case 0x0030:
+                return new ManagementNetworkDiscovery();
+            case 0x0031:
+                return new ManagementLqiRequest();
+            case 0x0032:
+                return new ManagementRoutingRequest();
+            case 0x0033:
+                return new ManagementBindRequest();
+            case 0x0034:
+                return new ManagementLeaveRequest();
+            case 0x0035:
+                return new ManagementDirectJoinRequest();
+            case 0x0036:
+                return new ManagementPermitJoiningRequest();
+            case 0x0037:
+                return new CacheRequest();
+            case 0x0038:
+                return new NetworkUpdateRequest();
+            case 0x8000:
+                return new NetworkAddressResponse();
+            case 0x8001:
+                return new IeeeAddressResponse();
+            case 0x8002:
+                return new NodeDescriptorResponse();
+            case 0x8003:
+                return new PowerDescriptorResponse();
+            case 0x8004:
+                return new SimpleDescriptorResponse();
+            case 0x8005:
+                return new ActiveEndpointsResponse();
+            case 0x8006:
+                return new MatchDescriptorResponse();
+            case 0x8010:
+                return new ComplexDescriptorResponse();
+            case 0x8011:
+                return new UserDescriptorResponse();
+            case 0x8012:
+                return new DiscoveryCacheResponse();
+            case 0x8014:
+                return new UserDescriptorConf();
+            case 0x8016:
+                return new DiscoveryStoreResponse();
+            case 0x8017:
+                return new NodeDescriptorStoreResponse();
+            case 0x8018:
+                return new PowerDescriptorStoreResponse();
+            case 0x8019:
+                return new ActiveEndpointStoreResponse();
+            case 0x801A:
+                return new SimpleDescriptorStoreResponse();
+            case 0x801B:
+                return new RemoveNodeCache();
+            case 0x801C:
+                return new FindNodeCacheResponse();
+            case 0x801D:
+                return new ExtendedSimpleDescriptorResponse();
+            case 0x801E:
+                return new ExtendedActiveEndpointResponse();
+            case 0x8020:
+                return new EndDeviceBindResponse();
+            case 0x8021:
+                return new BindResponse();
+            case 0x8022:
+                return new UnbindResponse();
+            case 0x8023:
+                return new BindRegisterResponse();
+            case 0x8024:
+                return new ReplaceDeviceResponse();
+            case 0x8025:
+                return new StoreBackupBindEntryResponse();
+            case 0x8026:
+                return new RemoveBackupBindEntryResponse();
+            case 0x8027:
+                return new BackupBindTableResponse();
+            case 0x8028:
+                return new RecoverBindTableResponse();
+            case 0x8029:
+                return new RecoverSourceBindResponse();
+            case 0x8030:
+                return new ManagementNetworkDiscoveryResponse();
+            case 0x8031:
+                return new ManagementLqiResponse();
+            case 0x8032:
+                return new ManagementRoutingResponse();
+            case 0x8033:
+                return new ManagementBindResponse();
+            case 0x8034:
+                return new ManagementLeaveResponse();
+            case 0x8035:
+                return new ManagementDirectJoinResponse();
+            case 0x8036:
+                return new ManagementPermitJoiningResponse();
+            case 0x8037:
+                return new ManagementCacheResponse();
+            case 0x8038:
+                return new ManagementNetworkUpdateNotify();
+            default:
+                return null;
         }
-        return null;
+    }
+
+    public static ZdoCommandType getValueById(final int clusterId) {
+        return idValueMap.get(clusterId);
     }
 }
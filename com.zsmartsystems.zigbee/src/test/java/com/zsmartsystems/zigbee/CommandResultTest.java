@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -44,4 +46,17 @@ public class CommandResultTest {
         assertFalse(result.isSuccess());
     }
 
+    @Test
+    public void testStatus() {
+        CommandResult result = new CommandResult();
+        assertNull(result.getStatus());
+
+        result = new CommandResult(ZigBeeStatus.QUEUE_FULL);
+        assertEquals(ZigBeeStatus.QUEUE_FULL, result.getStatus());
+        assertTrue(result.isError());
+        assertFalse(result.isTimeout());
+        assertFalse(result.isSuccess());
+        assertNull(result.getResponse());
+        assertEquals("CommandResult [QUEUE_FULL]", result.toString());
+    }
 }
@@ -10,10 +10,12 @@ package com.zsmartsystems.zigbee;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
@@ -208,6 +210,50 @@ public class ZigBeeEndpointTest {
         assertEquals(4, endpoint.getProfileId());
     }
 
+    @Test
+    public void lazyClusters() throws Exception {
+        ZigBeeEndpoint endpoint = getEndpoint();
+
+        List<Integer> clusterIdList = new ArrayList<Integer>();
+        clusterIdList.add(ZclBasicCluster.CLUSTER_ID);
+        clusterIdList.add(ZclLevelControlCluster.CLUSTER_ID);
+        endpoint.setInputClusterIds(clusterIdList);
+
+        Map<Integer, ZclCluster> inputClusters = (Map<Integer, ZclCluster>) TestUtilities
+                .getField(ZigBeeEndpoint.class, endpoint, "inputClusters");
+        assertEquals(2, endpoint.getInputClusterIds().size());
+        assertTrue(inputClusters.isEmpty());
+
+        ZclCluster cluster = endpoint.getInputCluster(ZclLevelControlCluster.CLUSTER_ID);
+        assertTrue(cluster instanceof ZclLevelControlCluster);
+        assertTrue(cluster.isServer());
+        assertEquals(cluster, endpoint.getInputCluster(ZclLevelControlCluster.CLUSTER_ID));
+        assertEquals(1, inputClusters.size());
+
+        // Unused clusters are persisted, and are not created on restore
+        ZigBeeEndpointDao dao = endpoint.getDao();
+        assertEquals(2, dao.getInputClusters().size());
+
+        ZigBeeEndpoint restoredEndpoint = getEndpoint();
+        restoredEndpoint.setDao(dao);
+        inputClusters = (Map<Integer, ZclCluster>) TestUtilities.getField(ZigBeeEndpoint.class, restoredEndpoint,
+                "inputClusters");
+        assertEquals(2, restoredEndpoint.getInputClusterIds().size());
+        assertTrue(inputClusters.isEmpty());
+        assertTrue(restoredEndpoint.getInputCluster(ZclBasicCluster.CLUSTER_ID) instanceof ZclBasicCluster);
+        assertNull(restoredEndpoint.getInputCluster(ZclScenesCluster.CLUSTER_ID));
+
+        // Clusters with state are created on restore
+        cluster.getAttribute(ZclLevelControlCluster.ATTR_CURRENTLEVEL).updateValue(Integer.valueOf(1));
+        restoredEndpoint = getEndpoint();
+        restoredEndpoint.setDao(endpoint.getDao());
+        inputClusters = (Map<Integer, ZclCluster>) TestUtilities.getField(ZigBeeEndpoint.class, restoredEndpoint,
+                "inputClusters");
+        assertEquals(1, inputClusters.size());
+        assertEquals(Integer.valueOf(1), restoredEndpoint.getInputCluster(ZclLevelControlCluster.CLUSTER_ID)
+                .getAttribute(ZclLevelControlCluster.ATTR_CURRENTLEVEL).getLastValue());
+    }
+
     private ZigBeeEndpoint getEndpoint() {
         ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
         Mockito.when(node.getNetworkAddress()).thenReturn(1234);
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeExecutorsTest {
+    private static int TIMEOUT = 5000;
+
+    @Test
+    public void executorProvider() {
+        ZigBeeExecutorProvider defaultProvider = ZigBeeExecutors.getExecutorProvider();
+        assertTrue(defaultProvider instanceof ZigBeeThreadExecutorProvider);
+
+        ZigBeeExecutorProvider provider = Mockito.mock(ZigBeeExecutorProvider.class);
+        ZigBeeExecutors.setExecutorProvider(provider);
+        try {
+            ZigBeeExecutors.newCachedThreadPool("Cached");
+            ZigBeeExecutors.newFixedThreadPool(2, "Fixed");
+            ZigBeeExecutors.newScheduledThreadPool(3, "Scheduled");
+            ZigBeeExecutors.newSingleThreadScheduledExecutor("Single");
+
+            Mockito.verify(provider, Mockito.times(1)).newCachedThreadPool("Cached");
+            Mockito.verify(provider, Mockito.times(1)).newFixedThreadPool(2, "Fixed");
+            Mockito.verify(provider, Mockito.times(1)).newScheduledThreadPool(3, "Scheduled");
+            Mockito.verify(provider, Mockito.times(1)).newSingleThreadScheduledExecutor("Single");
+        } finally {
+            ZigBeeExecutors.setExecutorProvider(defaultProvider);
+        }
+    }
+
+    @Test
+    public void threadNames() throws Exception {
+        ExecutorService executor = new ZigBeeThreadExecutorProvider().newFixedThreadPool(1, "TestPool");
+        assertTrue(executor.submit(() -> Thread.currentThread().getName()).get().startsWith("TestPool-thread-"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        Assume.assumeTrue(ZigBeeVirtualThreadExecutorProvider.isSupported());
+
+        ExecutorService executor = new ZigBeeVirtualThreadExecutorProvider().newCachedThreadPool("Virtual");
+        assertTrue(executor.submit(() -> Thread.currentThread().getName()).get().startsWith("Virtual-vthread-"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void sharedSequential() throws Exception {
+        ZigBeeSharedExecutorProvider provider = new ZigBeeSharedExecutorProvider();
+        ExecutorService executor = provider.newFixedThreadPool(1, "Sequential");
+
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        for (int cnt = 0; cnt < 50; cnt++) {
+            final int task = cnt;
+            executor.execute(() -> {
+                maxActive.set(Math.max(maxActive.get(), active.incrementAndGet()));
+                order.add(task);
+                active.decrementAndGet();
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(1, maxActive.get());
+        for (int cnt = 0; cnt < 50; cnt++) {
+            assertEquals(Integer.valueOf(cnt), order.get(cnt));
+        }
+
+        provider.shutdown();
+    }
+
+    @Test
+    public void sharedTaskError() throws Exception {
+        ZigBeeSharedExecutorProvider provider = new ZigBeeSharedExecutorProvider();
+        ExecutorService executor = provider.newFixedThreadPool(1, "Error");
+
+        // An Error thrown by a task must not leave the executor without a worker
+        executor.execute(() -> {
+            throw new Error("Task error");
+        });
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> latch.countDown());
+        assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+        provider.shutdown();
+    }
+
+    @Test
+    public void sharedIndependentLifecycle() throws Exception {
+        ZigBeeSharedExecutorProvider provider = new ZigBeeSharedExecutorProvider();
+        ScheduledExecutorService executor1 = provider.newScheduledThreadPool(2, "Executor1");
+        ScheduledExecutorService executor2 = provider.newSingleThreadScheduledExecutor("Executor2");
+
+        final CountDownLatch periodic = new CountDownLatch(3);
+        ScheduledFuture<?> periodicFuture = executor1.scheduleAtFixedRate(() -> periodic.countDown(), 0, 10,
+                TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> delayedFuture = executor1.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        assertTrue(periodic.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // Shutting down one executor cancels its tasks, but does not affect the other executors
+        assertEquals(0, executor1.shutdownNow().size());
+        assertTrue(periodicFuture.isCancelled());
+        assertTrue(delayedFuture.isCancelled());
+        assertTrue(executor1.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        assertEquals("Done", executor2.schedule(() -> "Done", 10, TimeUnit.MILLISECONDS).get());
+        assertFalse(executor2.isShutdown());
+
+        boolean rejected = false;
+        try {
+            executor1.execute(() -> {
+            });
+        } catch (Exception e) {
+            rejected = true;
+        }
+        assertTrue(rejected);
+
+        executor2.shutdown();
+        assertTrue(executor2.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS));
+        provider.shutdown();
+    }
+}
@@ -49,6 +49,9 @@ import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
 import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.serialization.DefaultSerializerFactory;
+import com.zsmartsystems.zigbee.serialization.ZigBeeSerializerClassFactory;
+import com.zsmartsystems.zigbee.serialization.ZigBeeSerializerFactory;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
@@ -239,6 +242,56 @@ public class ZigBeeNetworkManagerTest
         networkManager.updateNode(node2);
         assertEquals(1, networkManager.getNodes().size());
         assertEquals(Integer.valueOf(5678), nodeWeGot.getNetworkAddress());
+        assertNull(networkManager.getNode(1234));
+        assertEquals(nodeWeGot, networkManager.getNode(5678));
+    }
+
+    @Test
+    public void testNodeNetworkAddressIndex() throws Exception {
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        ZigBeeNode node = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF0"), 1234);
+        assertNull(networkManager.getNode(1234));
+        networkManager.updateNode(node);
+        assertEquals(node, networkManager.getNode(1234));
+        assertNull(networkManager.getNode((Integer) null));
+
+        // Changing the address of a node known to the network updates the index
+        node.setNetworkAddress(4321);
+        assertNull(networkManager.getNode(1234));
+        assertEquals(node, networkManager.getNode(4321));
+
+        // Changing the address of a node that is not known to the network is ignored
+        ZigBeeNode unknownNode = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF1"), 5678);
+        unknownNode.setNetworkAddress(4321);
+        assertEquals(node, networkManager.getNode(4321));
+
+        networkManager.removeNode(node);
+        assertNull(networkManager.getNode(4321));
+    }
+
+    @Test
+    public void testNodeNetworkAddressIndexSharedAddress() throws Exception {
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        ZigBeeNode node1 = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF0"), 1234);
+        ZigBeeNode node2 = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF1"), 5678);
+        networkManager.updateNode(node1);
+        networkManager.updateNode(node2);
+
+        // Both nodes briefly share the same address
+        node2.setNetworkAddress(1234);
+        assertEquals(node2, networkManager.getNode(1234));
+
+        // When node2 moves away, node1 must remain in the index
+        node2.setNetworkAddress(4321);
+        assertEquals(node1, networkManager.getNode(1234));
+        assertEquals(node2, networkManager.getNode(4321));
+
+        // Removing a node also keeps the surviving node in the index
+        node2.setNetworkAddress(1234);
+        networkManager.removeNode(node2);
+        assertEquals(node1, networkManager.getNode(1234));
     }
 
     @Test
@@ -293,6 +346,38 @@ public class ZigBeeNetworkManagerTest
         assertEquals(56, apsFrame.getDestinationEndpoint());
     }
 
+    @Test
+    public void testSerializerFactory() throws Exception {
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+        assertTrue(networkManager.getSerializerFactory() instanceof DefaultSerializerFactory);
+
+        networkManager.setSerializer(TestSerializer.class, DefaultDeserializer.class);
+        ZigBeeSerializerFactory factory = networkManager.getSerializerFactory();
+        assertTrue(factory instanceof ZigBeeSerializerClassFactory);
+        assertTrue(factory.createSerializer() instanceof TestSerializer);
+        assertTrue(factory.createDeserializer(new int[] { 1, 2 }) instanceof DefaultDeserializer);
+
+        ZigBeeSerializerFactory mockedFactory = Mockito.mock(ZigBeeSerializerFactory.class);
+        Mockito.when(mockedFactory.createSerializer()).thenReturn(new DefaultSerializer());
+        networkManager.setSerializerFactory(mockedFactory);
+        assertEquals(mockedFactory, networkManager.getSerializerFactory());
+
+        OnCommand cmd = new OnCommand();
+        cmd.setClusterId(6);
+        cmd.setDestinationAddress(new ZigBeeEndpointAddress(1234, 56));
+        cmd.setTransactionId(22);
+        assertTrue(networkManager.sendCommand(cmd));
+        Mockito.verify(mockedFactory, Mockito.times(1)).createSerializer();
+
+        // Frames are dropped if the factory fails to create the serializer
+        Mockito.when(mockedFactory.createSerializer()).thenReturn(null);
+        assertFalse(networkManager.sendCommand(cmd));
+        assertEquals(1, mockedApsFrameListener.getAllValues().size());
+    }
+
+    public static class TestSerializer extends DefaultSerializer {
+    }
+
     @Test
     public void testReceiveZclCommand() throws Exception {
         ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
@@ -348,6 +433,36 @@ public class ZigBeeNetworkManagerTest
         Mockito.verify(announceListener, Mockito.timeout(TIMEOUT).times(1)).announceUnknownDevice(4321);
     }
 
+    @Test
+    public void testReceiveThreads() throws Exception {
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+        networkManager.setSerializer(DefaultSerializer.class, DefaultDeserializer.class);
+        assertEquals(0, networkManager.getReceiveThreads());
+
+        networkManager.setReceiveThreads(2);
+        assertEquals(2, networkManager.getReceiveThreads());
+
+        ZigBeeAnnounceListener announceListener = Mockito.mock(ZigBeeAnnounceListener.class);
+        networkManager.addAnnounceListener(announceListener);
+        TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "networkState", ZigBeeNetworkState.ONLINE);
+
+        for (int address = 1000; address < 1010; address++) {
+            ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+            apsFrame.setSourceAddress(address);
+            apsFrame.setApsCounter(1);
+            apsFrame.setCluster(6);
+            apsFrame.setProfile(0x104);
+            apsFrame.setPayload(new int[] { 0x00, 0x01, 0x00 });
+            networkManager.receiveCommand(apsFrame);
+        }
+        for (int address = 1000; address < 1010; address++) {
+            Mockito.verify(announceListener, Mockito.timeout(TIMEOUT).times(1)).announceUnknownDevice(address);
+        }
+
+        networkManager.setReceiveThreads(0);
+        assertEquals(0, networkManager.getReceiveThreads());
+    }
+
     @Test
     public void testNetworkStateListener() throws Exception {
         ZigBeeNetworkManager manager = mockZigBeeNetworkManager();
@@ -1023,32 +1138,37 @@ public class ZigBeeNetworkManagerTest
         ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
         ScheduledExecutorService scheduler = Mockito.mock(ScheduledExecutorService.class);
         TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "executorService", scheduler);
+        ZigBeeTimerWheel timerWheel = new ZigBeeTimerWheel(scheduler, Mockito.mock(ZigBeeClock.class));
+        TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "timerWheel", timerWheel);
 
-        assertNull(networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 0));
+        networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 0);
+        assertEquals(1, timerWheel.getTimerCount());
         assertNull(networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 1));
         assertNull(networkManager.scheduleTask(Mockito.mock(Runnable.class), 0));
         networkManager.executeTask(Mockito.mock(Runnable.class));
         assertNull(networkManager.rescheduleTask(Mockito.mock(ScheduledFuture.class), Mockito.mock(Runnable.class), 0));
+        assertEquals(1, timerWheel.getTimerCount());
 
         TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "networkState", ZigBeeNetworkState.ONLINE);
 
-        networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 0);
-        Mockito.verify(scheduler, Mockito.times(2)).schedule(ArgumentMatchers.any(Runnable.class),
-                ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
+        // Single shot tasks are scheduled on the timer wheel
+        assertNotNull(networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 0));
+        assertEquals(2, timerWheel.getTimerCount());
 
         networkManager.scheduleTask(Mockito.mock(Runnable.class), 0, 1);
         Mockito.verify(scheduler, Mockito.times(2)).scheduleAtFixedRate(ArgumentMatchers.any(Runnable.class),
                 ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
 
-        networkManager.scheduleTask(Mockito.mock(Runnable.class), 0);
-        Mockito.verify(scheduler, Mockito.times(3)).schedule(ArgumentMatchers.any(Runnable.class),
-                ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
+        ScheduledFuture<?> future = networkManager.scheduleTask(Mockito.mock(Runnable.class), 0);
+        assertEquals(3, timerWheel.getTimerCount());
 
         networkManager.executeTask(Mockito.mock(Runnable.class));
         Mockito.verify(scheduler, Mockito.times(1)).execute(ArgumentMatchers.any(Runnable.class));
 
-        networkManager.rescheduleTask(Mockito.mock(ScheduledFuture.class), Mockito.mock(Runnable.class), 0);
-        Mockito.verify(scheduler, Mockito.times(4)).schedule(ArgumentMatchers.any(Runnable.class),
+        networkManager.rescheduleTask(future, Mockito.mock(Runnable.class), 0);
+        assertTrue(future.isCancelled());
+        assertEquals(3, timerWheel.getTimerCount());
+        Mockito.verify(scheduler, Mockito.never()).schedule(ArgumentMatchers.any(Runnable.class),
                 ArgumentMatchers.anyLong(), ArgumentMatchers.any(TimeUnit.class));
     }
 
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
+
+/**
+ * Tests the default methods of {@link ZigBeeNetwork}
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeNetworkTest {
+    private class TestNetwork implements ZigBeeNetwork {
+        private Future<CommandResult> future;
+
+        @Override
+        public void sendTransaction(ZigBeeCommand command) {
+        }
+
+        @Override
+        public Future<CommandResult> sendTransaction(ZigBeeCommand command, ZigBeeTransactionMatcher responseMatcher) {
+            return future;
+        }
+
+        @Override
+        public void addCommandListener(ZigBeeCommandListener commandListener) {
+        }
+
+        @Override
+        public void removeCommandListener(ZigBeeCommandListener commandListener) {
+        }
+    }
+
+    @Test
+    public void defaultMethods() throws Exception {
+        TestNetwork network = new TestNetwork();
+        ZigBeeCommand command = Mockito.mock(ZigBeeCommand.class);
+        CommandResult result = new CommandResult(command);
+
+        assertNull(network.scheduleTask(Mockito.mock(Runnable.class), 100));
+        network.nodeNetworkAddressUpdated(Mockito.mock(ZigBeeNode.class), 1234);
+
+        ZigBeeTransactionFuture transactionFuture = new ZigBeeTransactionFuture();
+        network.future = transactionFuture;
+        CompletableFuture<CommandResult> stage = network.sendTransactionAsync(command, null).toCompletableFuture();
+        transactionFuture.set(result);
+        assertEquals(result, stage.get(1, TimeUnit.SECONDS));
+
+        network.future = CompletableFuture.completedFuture(result);
+        stage = network.sendTransactionAsync(command, null).toCompletableFuture();
+        assertEquals(result, stage.get(1, TimeUnit.SECONDS));
+    }
+}
@@ -475,6 +475,19 @@ public class ZigBeeNodeTest {
         node.removeNetworkEndpointListener(listener);
     }
 
+    @Test
+    public void setNetworkAddressUpdatesNetwork() {
+        ZigBeeNetwork network = Mockito.mock(ZigBeeNetwork.class);
+        ZigBeeNode node = new ZigBeeNode(network, new IeeeAddress("1234567890"), 1234);
+
+        assertTrue(node.setNetworkAddress(5678));
+        Mockito.verify(network, Mockito.times(1)).nodeNetworkAddressUpdated(node, 1234);
+
+        assertFalse(node.setNetworkAddress(5678));
+        Mockito.verify(network, Mockito.times(1)).nodeNetworkAddressUpdated(ArgumentMatchers.any(ZigBeeNode.class),
+                ArgumentMatchers.anyInt());
+    }
+
     @Test
     public void commandReceived() {
         ZigBeeNode node = new ZigBeeNode(Mockito.mock(ZigBeeNetworkManager.class), new IeeeAddress("1234567890"));
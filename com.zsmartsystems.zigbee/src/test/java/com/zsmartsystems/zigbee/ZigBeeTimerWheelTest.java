@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTimerWheelTest {
+    private final Executor directExecutor = Runnable::run;
+
+    private class VirtualClock implements ZigBeeClock {
+        private long time = 100000;
+
+        @Override
+        public long currentTimeMillis() {
+            return time;
+        }
+    }
+
+    @Test
+    public void virtualClock() {
+        VirtualClock clock = new VirtualClock();
+        ZigBeeTimerWheel wheel = new ZigBeeTimerWheel(directExecutor, clock);
+        assertEquals(clock, wheel.getClock());
+
+        final List<Integer> expired = new ArrayList<>();
+        wheel.schedule(() -> expired.add(3), 300);
+        wheel.schedule(() -> expired.add(1), 100);
+        ScheduledFuture<?> cancelled = wheel.schedule(() -> expired.add(2), 200);
+        assertEquals(3, wheel.getTimerCount());
+        assertEquals(200, cancelled.getDelay(TimeUnit.MILLISECONDS));
+
+        clock.time += 99;
+        wheel.expireTimers();
+        assertTrue(expired.isEmpty());
+
+        clock.time += 1;
+        wheel.expireTimers();
+        assertEquals(1, expired.size());
+
+        assertTrue(cancelled.cancel(false));
+        assertTrue(cancelled.isCancelled());
+        assertTrue(cancelled.isDone());
+        assertFalse(cancelled.cancel(false));
+        assertEquals(1, wheel.getTimerCount());
+
+        clock.time += 500;
+        wheel.expireTimers();
+        assertEquals(2, expired.size());
+        assertEquals(Integer.valueOf(1), expired.get(0));
+        assertEquals(Integer.valueOf(3), expired.get(1));
+        assertEquals(0, wheel.getTimerCount());
+    }
+
+    @Test
+    public void longDelays() {
+        VirtualClock clock = new VirtualClock();
+        ZigBeeTimerWheel wheel = new ZigBeeTimerWheel(null, directExecutor, clock, 1, 16);
+
+        // Timers more than one revolution apart share buckets
+        final List<Integer> expired = new ArrayList<>();
+        wheel.schedule(() -> expired.add(3), 1000);
+        wheel.schedule(() -> expired.add(2), 40);
+        wheel.schedule(() -> expired.add(1), 8);
+
+        clock.time += 20;
+        wheel.expireTimers();
+        assertEquals(1, expired.size());
+
+        // Jumping forward many revolutions expires all timers in deadline order
+        clock.time += 5000;
+        wheel.expireTimers();
+        assertEquals(3, expired.size());
+        assertEquals(Integer.valueOf(1), expired.get(0));
+        assertEquals(Integer.valueOf(2), expired.get(1));
+        assertEquals(Integer.valueOf(3), expired.get(2));
+    }
+
+    @Test
+    public void clockStepsBackward() {
+        VirtualClock clock = new VirtualClock();
+        ZigBeeTimerWheel wheel = new ZigBeeTimerWheel(directExecutor, clock);
+
+        final List<Integer> expired = new ArrayList<>();
+        ScheduledFuture<?> future = wheel.schedule(() -> expired.add(1), 100);
+        clock.time += 50;
+        wheel.expireTimers();
+
+        // Stepping the clock backward does not hold the timers until the clock catches up
+        clock.time -= 60000;
+        wheel.expireTimers();
+        assertTrue(expired.isEmpty());
+        assertEquals(50, future.getDelay(TimeUnit.MILLISECONDS));
+
+        clock.time += 49;
+        wheel.expireTimers();
+        assertTrue(expired.isEmpty());
+
+        clock.time += 1;
+        wheel.expireTimers();
+        assertEquals(1, expired.size());
+
+        // Timers scheduled after the step use the new time
+        wheel.schedule(() -> expired.add(2), 10);
+        clock.time += 10;
+        wheel.expireTimers();
+        assertEquals(2, expired.size());
+    }
+
+    @Test
+    public void shutdown() {
+        VirtualClock clock = new VirtualClock();
+        ZigBeeTimerWheel wheel = new ZigBeeTimerWheel(directExecutor, clock);
+
+        ScheduledFuture<?> future = wheel.schedule(() -> {
+        }, 100);
+        wheel.shutdown();
+        assertTrue(future.isCancelled());
+        assertEquals(0, wheel.getTimerCount());
+    }
+
+    @Test
+    public void systemClock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ZigBeeTimerWheel wheel = new ZigBeeTimerWheel("TimerTest", executor);
+
+        final CountDownLatch latch = new CountDownLatch(2);
+        long start = ZigBeeClock.SYSTEM.currentTimeMillis();
+        ScheduledFuture<?> future = wheel.schedule(() -> latch.countDown(), 50);
+        wheel.schedule(() -> latch.countDown(), 20);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(ZigBeeClock.SYSTEM.currentTimeMillis() - start >= 50);
+        future.get(1, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+
+        // The ticker thread is restarted when a timer is added after the wheel has been empty
+        final CountDownLatch latch2 = new CountDownLatch(1);
+        wheel.schedule(() -> latch2.countDown(), 10);
+        assertTrue(latch2.await(5, TimeUnit.SECONDS));
+
+        wheel.shutdown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void tickerSleepsUntilNextTimer() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicInteger clockReads = new AtomicInteger();
+        ZigBeeClock clock = new ZigBeeClock() {
+            @Override
+            public long currentTimeMillis() {
+                clockReads.incrementAndGet();
+                return System.currentTimeMillis();
+            }
+        };
+        // The delay is longer than one revolution of the wheel
+        ZigBeeTimerWheel wheel = new ZigBeeTimerWheel("TimerTest", executor, clock, 1, 16);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+        wheel.schedule(() -> latch.countDown(), 200);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - start >= 200);
+        // Waking on every tick would read the clock at least 200 times
+        assertTrue(clockReads.get() < 50);
+
+        wheel.shutdown();
+        executor.shutdown();
+    }
+}
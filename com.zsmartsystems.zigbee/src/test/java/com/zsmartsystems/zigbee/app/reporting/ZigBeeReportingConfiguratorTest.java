@@ -0,0 +1,291 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.reporting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclCluster;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclMeteringCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.BindResponse;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeReportingConfiguratorTest {
+    private static final int TIMEOUT = 5000;
+
+    private final IeeeAddress localAddress = new IeeeAddress("1111111111111111");
+
+    private ZclCluster createCluster(int address, boolean bindSuccess, List<CommandResult> reportingResults) {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        Mockito.when(cluster.getZigBeeAddress()).thenReturn(new ZigBeeEndpointAddress(address, 1));
+
+        ZclAttribute attribute = Mockito.mock(ZclAttribute.class);
+        Mockito.when(attribute.getDataType()).thenReturn(ZclDataType.UNSIGNED_48_BIT_INTEGER);
+        Mockito.when(cluster.getAttribute(0)).thenReturn(attribute);
+        Mockito.when(cluster.getAttribute(1)).thenReturn(attribute);
+        if (address != 1) {
+            Mockito.when(cluster.getAttribute(2)).thenReturn(attribute);
+        }
+
+        BindResponse bindResponse = new BindResponse();
+        bindResponse.setStatus(bindSuccess ? ZdoStatus.SUCCESS : ZdoStatus.NOT_SUPPORTED);
+        Mockito.when(cluster.bindAsync(localAddress, 1))
+                .thenReturn(CompletableFuture.completedFuture(new CommandResult(bindResponse)));
+
+        List<CompletionStage<CommandResult>> futures = new ArrayList<>();
+        for (CommandResult result : reportingResults) {
+            futures.add(CompletableFuture.completedFuture(result));
+        }
+        if (futures.size() == 1) {
+            Mockito.when(cluster.setReportingAsync(Mockito.anyList())).thenReturn(futures.get(0));
+        } else if (!futures.isEmpty()) {
+            Mockito.when(cluster.setReportingAsync(Mockito.anyList())).thenReturn(futures.get(0),
+                    futures.subList(1, futures.size()).toArray(new CompletionStage[futures.size() - 1]));
+        }
+        return cluster;
+    }
+
+    private ZigBeeNode createNode(int address, ZclCluster cluster) {
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getNetworkAddress()).thenReturn(address);
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getInputCluster(ZclMeteringCluster.CLUSTER_ID)).thenReturn(cluster);
+        Mockito.when(node.getEndpoints()).thenReturn(Collections.singletonList(endpoint));
+        return node;
+    }
+
+    private ZigBeeNetworkManager createNetworkManager(Set<ZigBeeNode> nodes) {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNodes()).thenReturn(nodes);
+        Mockito.when(networkManager.getLocalIeeeAddress()).thenReturn(localAddress);
+        // Retries are run as soon as they are scheduled
+        Mockito.when(networkManager.scheduleTask(ArgumentMatchers.any(Runnable.class), ArgumentMatchers.anyLong()))
+                .thenAnswer(invocation -> {
+                    ((Runnable) invocation.getArgument(0)).run();
+                    return Mockito.mock(ScheduledFuture.class);
+                });
+        return networkManager;
+    }
+
+    @Test
+    public void configure() throws Exception {
+        ConfigureReportingResponse success = new ConfigureReportingResponse();
+        success.setStatus(ZclStatus.SUCCESS);
+
+        ConfigureReportingResponse partial = new ConfigureReportingResponse();
+        AttributeStatusRecord record = new AttributeStatusRecord();
+        record.setAttributeIdentifier(1);
+        record.setStatus(ZclStatus.UNREPORTABLE_ATTRIBUTE);
+        partial.setRecords(Collections.singletonList(record));
+
+        // Node 1 does not support an attribute, node 2 times out and then succeeds, node 3 rejects an attribute, node 4 fails the bind and
+        // node 5 is not selected
+        ZclCluster cluster1 = createCluster(1, true, Collections.singletonList(new CommandResult(success)));
+        List<CommandResult> results2 = new ArrayList<>();
+        results2.add(new CommandResult());
+        results2.add(new CommandResult(success));
+        ZclCluster cluster2 = createCluster(2, true, results2);
+        ZclCluster cluster3 = createCluster(3, true, Collections.singletonList(new CommandResult(partial)));
+        ZclCluster cluster4 = createCluster(4, false, Collections.<CommandResult> emptyList());
+        ZclCluster cluster5 = createCluster(5, true, Collections.singletonList(new CommandResult(success)));
+
+        Set<ZigBeeNode> nodes = new HashSet<>();
+        nodes.add(createNode(1, cluster1));
+        nodes.add(createNode(2, cluster2));
+        nodes.add(createNode(3, cluster3));
+        nodes.add(createNode(4, cluster4));
+        nodes.add(createNode(5, cluster5));
+        ZigBeeNode otherNode = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(otherNode.getNetworkAddress()).thenReturn(6);
+        Mockito.when(otherNode.getEndpoints()).thenReturn(Collections.singletonList(Mockito.mock(ZigBeeEndpoint.class)));
+        nodes.add(otherNode);
+
+        ZigBeeNetworkManager networkManager = createNetworkManager(nodes);
+
+        ZigBeeReportingPolicy policy = new ZigBeeReportingPolicy(ZclMeteringCluster.CLUSTER_ID);
+        policy.addAttribute(0, 10, 300, 1L);
+        policy.addAttribute(1, 10, 300, 1L);
+        policy.addAttribute(2, 10, 300, 1L);
+        policy.setMaxConcurrentEndpoints(2);
+        policy.setRetries(1);
+        policy.setRetryDelay(100);
+
+        final List<Integer> progress = new ArrayList<>();
+        ZigBeeReportingConfigurator configurator = new ZigBeeReportingConfigurator(networkManager, policy,
+                node -> node.getNetworkAddress() != 5,
+                (result, completed, total) -> {
+                    synchronized (progress) {
+                        progress.add(completed);
+                        assertEquals(4, total);
+                    }
+                });
+
+        ZigBeeReportingSummary summary = configurator.start().get(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertEquals(4, summary.getResults().size());
+        assertEquals(1, summary.getSuccessCount());
+        assertFalse(summary.isSuccess());
+        assertEquals(4, progress.size());
+
+        Mockito.verify(cluster5, Mockito.never()).bindAsync(localAddress, 1);
+        Mockito.verify(cluster4, Mockito.times(2)).bindAsync(localAddress, 1);
+        Mockito.verify(cluster4, Mockito.never()).setReportingAsync(Mockito.anyList());
+        // The bind retry of node 4 and the configuration retry of node 2 are delayed
+        Mockito.verify(networkManager, Mockito.times(2)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.eq(100L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AttributeReportingConfigurationRecord>> recordsCapture = ArgumentCaptor
+                .forClass(List.class);
+        Mockito.verify(cluster1, Mockito.times(1)).setReportingAsync(recordsCapture.capture());
+        List<AttributeReportingConfigurationRecord> records = recordsCapture.getValue();
+        // Attribute 2 is not known to the cluster so is not sent
+        assertEquals(2, records.size());
+        assertEquals(ZclDataType.UNSIGNED_48_BIT_INTEGER, records.get(0).getAttributeDataType());
+        assertEquals(300, records.get(1).getMaximumReportingInterval());
+
+        Mockito.verify(cluster2, Mockito.times(2)).setReportingAsync(Mockito.anyList());
+
+        for (ZigBeeReportingResult result : summary.getResults()) {
+            switch (result.getEndpointAddress().getAddress()) {
+                case 1:
+                    assertTrue(result.getBindSuccess());
+                    assertEquals(ZclStatus.SUCCESS, result.getAttributeStatus().get(0));
+                    assertEquals(ZclStatus.UNSUPPORTED_ATTRIBUTE, result.getAttributeStatus().get(2));
+                    assertEquals(1, result.getAttempts());
+                    assertFalse(result.isSuccess());
+                    break;
+                case 2:
+                    assertEquals(ZclStatus.SUCCESS, result.getAttributeStatus().get(1));
+                    assertEquals(2, result.getAttempts());
+                    assertTrue(result.isSuccess());
+                    break;
+                case 3:
+                    assertEquals(ZclStatus.SUCCESS, result.getAttributeStatus().get(0));
+                    assertEquals(ZclStatus.UNREPORTABLE_ATTRIBUTE, result.getAttributeStatus().get(1));
+                    assertFalse(result.isSuccess());
+                    break;
+                case 4:
+                    assertFalse(result.getBindSuccess());
+                    assertTrue(result.getAttributeStatus().isEmpty());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Test
+    public void configureFailures() throws Exception {
+        ConfigureReportingResponse success = new ConfigureReportingResponse();
+        success.setStatus(ZclStatus.SUCCESS);
+
+        // Node 1 throws when configuring, node 2 fails the bind with an exception, node 3 throws when reading the
+        // attributes, and node 4 succeeds
+        ZclCluster cluster1 = createCluster(1, true, Collections.<CommandResult> emptyList());
+        Mockito.when(cluster1.setReportingAsync(Mockito.anyList())).thenThrow(new IllegalStateException());
+        ZclCluster cluster2 = createCluster(2, true, Collections.singletonList(new CommandResult(success)));
+        CompletableFuture<CommandResult> bindException = new CompletableFuture<>();
+        bindException.completeExceptionally(new IllegalStateException());
+        Mockito.when(cluster2.bindAsync(localAddress, 1)).thenReturn(bindException);
+        ZclCluster cluster3 = createCluster(3, true, Collections.singletonList(new CommandResult(success)));
+        Mockito.when(cluster3.getAttribute(0)).thenThrow(new IllegalStateException());
+        ZclCluster cluster4 = createCluster(4, true, Collections.singletonList(new CommandResult(success)));
+
+        Set<ZigBeeNode> nodes = new HashSet<>();
+        nodes.add(createNode(1, cluster1));
+        nodes.add(createNode(2, cluster2));
+        nodes.add(createNode(3, cluster3));
+        nodes.add(createNode(4, cluster4));
+        ZigBeeNetworkManager networkManager = createNetworkManager(nodes);
+
+        ZigBeeReportingPolicy policy = new ZigBeeReportingPolicy(ZclMeteringCluster.CLUSTER_ID);
+        policy.addAttribute(0, 10, 300, 1L);
+        policy.setMaxConcurrentEndpoints(1);
+        policy.setRetries(1);
+        policy.setRetryDelay(0);
+        ZigBeeReportingConfigurator configurator = new ZigBeeReportingConfigurator(networkManager, policy,
+                node -> true, null);
+
+        ZigBeeReportingSummary summary = configurator.start().get(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertEquals(4, summary.getResults().size());
+        assertEquals(1, summary.getSuccessCount());
+        Mockito.verify(cluster2, Mockito.times(2)).bindAsync(localAddress, 1);
+        Mockito.verify(networkManager, Mockito.never()).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong());
+
+        for (ZigBeeReportingResult result : summary.getResults()) {
+            switch (result.getEndpointAddress().getAddress()) {
+                case 1:
+                    assertTrue(result.getBindSuccess());
+                    assertEquals(ZclStatus.FAILURE, result.getAttributeStatus().get(0));
+                    break;
+                case 2:
+                    assertFalse(result.getBindSuccess());
+                    break;
+                case 3:
+                    assertFalse(result.getBindSuccess());
+                    assertEquals(ZclStatus.FAILURE, result.getAttributeStatus().get(0));
+                    break;
+                case 4:
+                    assertTrue(result.isSuccess());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Test
+    public void noEndpoints() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNodes()).thenReturn(Collections.<ZigBeeNode> emptySet());
+
+        ZigBeeReportingPolicy policy = new ZigBeeReportingPolicy(ZclMeteringCluster.CLUSTER_ID);
+        policy.setBind(false);
+        ZigBeeReportingConfigurator configurator = new ZigBeeReportingConfigurator(networkManager, policy,
+                node -> true, null);
+        ZigBeeReportingSummary summary = configurator.start().get(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertTrue(summary.isSuccess());
+        assertTrue(summary.getResults().isEmpty());
+        assertNull(new ZigBeeReportingResult(new ZigBeeEndpointAddress(1, 1)).getBindSuccess());
+    }
+}
@@ -12,6 +12,8 @@ import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
+import com.zsmartsystems.zigbee.ZigBeeClock;
+
 /**
  *
  * @author Chris Jackson
@@ -47,4 +49,29 @@ public class ApsDataEntityTest {
         response = aps.receive(apsFrame);
         assertEquals(apsFrame, response);
     }
+
+    @Test
+    public void duplicateWindow() {
+        final long[] time = new long[] { 1000 };
+        ApsDataEntity aps = new ApsDataEntity();
+        aps.setDuplicateTimeWindow(500L);
+        aps.setClock(new ZigBeeClock() {
+            @Override
+            public long currentTimeMillis() {
+                return time[0];
+            }
+        });
+
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setApsCounter(1);
+        apsFrame.setSourceAddress(1);
+        assertEquals(apsFrame, aps.receive(apsFrame));
+
+        time[0] += 499;
+        assertNull(aps.receive(apsFrame));
+
+        // The window is not extended by the dropped duplicate
+        time[0] += 2;
+        assertEquals(apsFrame, aps.receive(apsFrame));
+    }
 }
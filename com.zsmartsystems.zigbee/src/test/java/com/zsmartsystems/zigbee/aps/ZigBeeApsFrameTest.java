@@ -10,8 +10,12 @@ package com.zsmartsystems.zigbee.aps;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import org.junit.Test;
 
 /**
@@ -67,4 +71,26 @@ public class ZigBeeApsFrameTest {
         assertEquals(1, frame.getGroupAddress());
     }
 
+    @Test
+    public void testPayload() {
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        assertNull(frame.getPayload());
+        assertNull(frame.getPayloadBuffer());
+
+        frame.setPayload(new int[] { 0x00, 0x7F, 0x80, 0xFF });
+        ByteBuffer buffer = frame.getPayloadBuffer();
+        assertEquals(4, buffer.remaining());
+        assertEquals(0x00, buffer.get());
+        assertEquals(0x7F, buffer.get());
+        assertEquals((byte) 0x80, buffer.get());
+        assertEquals((byte) 0xFF, buffer.get());
+        assertEquals(4, frame.getPayloadBuffer().remaining());
+
+        buffer = ByteBuffer.wrap(new byte[] { 0x11, 0x22, (byte) 0xEE, 0x33 });
+        buffer.position(1);
+        frame.setPayload(buffer);
+        assertTrue(Arrays.equals(new int[] { 0x22, 0xEE, 0x33 }, frame.getPayload()));
+        assertTrue(frame.toString().contains("22 EE 33"));
+    }
+
 }
@@ -7,6 +7,11 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -129,4 +134,34 @@ public class ZigBeeNetworkDatabaseManagerTest {
         databaseManager.shutdown();
         Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(1)).removeNetworkNodeListener(databaseManager);
     }
+
+    @Test
+    public void writeStatistics() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        final ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        databaseManager.setDataStore(dataStore);
+
+        databaseManager.setDeferredWriteTime(20000);
+        assertEquals(10000, databaseManager.getDeferredWriteTime());
+        databaseManager.setMaxDeferredWriteTime(Integer.MAX_VALUE);
+        assertEquals(10000, databaseManager.getMaxDeferredWriteTime());
+        databaseManager.setMaxDeferredWriteTime(2000);
+        assertEquals(2000, databaseManager.getMaxDeferredWriteTime());
+
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        databaseManager.nodeUpdated(node);
+        assertEquals(1, databaseManager.getPendingWriteCount());
+        assertEquals(0, databaseManager.getWriteCount());
+        assertEquals(0, databaseManager.getAverageWriteTime(), 0);
+
+        databaseManager.setDeferredWriteTime(0);
+        databaseManager.nodeUpdated(node);
+        await().atMost(TIMEOUT, MILLISECONDS).until(() -> databaseManager.getWriteCount() == 1);
+        assertEquals(0, databaseManager.getPendingWriteCount());
+        assertTrue(databaseManager.getMaxWriteTime() >= databaseManager.getAverageWriteTime());
+
+        databaseManager.shutdown();
+    }
 }
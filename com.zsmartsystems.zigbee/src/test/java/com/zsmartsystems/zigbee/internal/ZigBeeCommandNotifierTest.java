@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandListener;
+import com.zsmartsystems.zigbee.ZigBeeListenerOverflowPolicy;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.metrics.ZigBeeInMemoryMetricsRegistry;
+import com.zsmartsystems.zigbee.metrics.ZigBeeMetricsRegistry;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeCommandNotifierTest {
+    private static int TIMEOUT = 5000;
+
+    @Test
+    public void notifyInOrder() {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier(2);
+
+        final List<ZigBeeCommand> received1 = Collections.synchronizedList(new ArrayList<ZigBeeCommand>());
+        final List<ZigBeeCommand> received2 = Collections.synchronizedList(new ArrayList<ZigBeeCommand>());
+        ZigBeeCommandListener listener1 = command -> received1.add(command);
+        ZigBeeCommandListener listener2 = command -> received2.add(command);
+        notifier.addCommandListener(listener1);
+        notifier.addCommandListener(listener1);
+        notifier.addCommandListener(listener2);
+
+        List<ZigBeeCommand> commands = new ArrayList<>();
+        for (int cnt = 0; cnt < 100; cnt++) {
+            ZigBeeCommand command = new ZigBeeCommand();
+            command.setTransactionId(cnt);
+            commands.add(command);
+            notifier.notifyCommandListeners(command);
+        }
+
+        long timeout = System.currentTimeMillis() + TIMEOUT;
+        while ((received1.size() < 100 || received2.size() < 100) && System.currentTimeMillis() < timeout) {
+            Thread.yield();
+        }
+        assertEquals(commands, received1);
+        assertEquals(commands, received2);
+
+        notifier.removeCommandListener(listener2);
+        notifier.notifyCommandListeners(new ZigBeeCommand());
+        notifier.shutdown();
+        assertEquals(100, received2.size());
+    }
+
+    @Test
+    public void metricsTags() {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier(2);
+        ZigBeeInMemoryMetricsRegistry metricsRegistry = new ZigBeeInMemoryMetricsRegistry();
+        notifier.setMetricsRegistry(metricsRegistry);
+
+        // Listeners of the same class, including nodes, each have their own metrics
+        ZigBeeNode node1 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node1.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        ZigBeeNode node2 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node2.getIeeeAddress()).thenReturn(new IeeeAddress("FEDCBA0987654321"));
+        ZigBeeCommandListener listener1 = Mockito.mock(ZigBeeCommandListener.class);
+        ZigBeeCommandListener listener2 = Mockito.mock(ZigBeeCommandListener.class);
+        notifier.addCommandListener(node1);
+        notifier.addCommandListener(node2);
+        notifier.addCommandListener(listener1);
+        notifier.addCommandListener(listener2);
+
+        ZigBeeCommand command = new ZigBeeCommand();
+        notifier.notifyCommandListeners(command);
+        Mockito.verify(node1, Mockito.timeout(TIMEOUT)).commandReceived(command);
+        Mockito.verify(node2, Mockito.timeout(TIMEOUT)).commandReceived(command);
+        Mockito.verify(listener1, Mockito.timeout(TIMEOUT)).commandReceived(command);
+        Mockito.verify(listener2, Mockito.timeout(TIMEOUT)).commandReceived(command);
+
+        Set<Object> tags = metricsRegistry.getTags(ZigBeeMetricsRegistry.NOTIFICATION_PENDING);
+        assertEquals(4, tags.size());
+        assertTrue(tags.contains(ZigBeeNode.class.getName() + "@1234567890ABCDEF"));
+        assertTrue(tags.contains(ZigBeeNode.class.getName() + "@FEDCBA0987654321"));
+
+        notifier.shutdown();
+    }
+
+    @Test
+    public void defaultNoDrop() throws Exception {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier(1);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        ZigBeeCommandListener listener = Mockito.mock(ZigBeeCommandListener.class);
+        Mockito.doAnswer(invocation -> {
+            blocked.countDown();
+            release.await();
+            return null;
+        }).when(listener).commandReceived(Mockito.any(ZigBeeCommand.class));
+        notifier.addCommandListener(listener);
+
+        notifier.notifyCommandListeners(new ZigBeeCommand());
+        assertTrue(blocked.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // By default the queue is not limited, so a slow listener does not lose commands
+        for (int cnt = 0; cnt < 2000; cnt++) {
+            notifier.notifyCommandListeners(new ZigBeeCommand());
+        }
+        assertEquals(2000, notifier.getQueueDepth(listener));
+        assertEquals(0, notifier.getDroppedCount(listener));
+
+        release.countDown();
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(2001))
+                .commandReceived(Mockito.any(ZigBeeCommand.class));
+
+        notifier.shutdown();
+    }
+
+    @Test
+    public void overflowDropOldest() throws Exception {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier(1);
+        notifier.setQueueConfiguration(2, ZigBeeListenerOverflowPolicy.DROP_OLDEST);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<ZigBeeCommand> received = Collections.synchronizedList(new ArrayList<ZigBeeCommand>());
+        ZigBeeCommandListener listener = new ZigBeeCommandListener() {
+            @Override
+            public void commandReceived(ZigBeeCommand command) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                }
+                received.add(command);
+            }
+        };
+        notifier.addCommandListener(listener);
+
+        ZigBeeCommand command1 = new ZigBeeCommand();
+        notifier.notifyCommandListeners(command1);
+        assertTrue(blocked.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        ZigBeeCommand command2 = new ZigBeeCommand();
+        ZigBeeCommand command3 = new ZigBeeCommand();
+        ZigBeeCommand command4 = new ZigBeeCommand();
+        notifier.notifyCommandListeners(command2);
+        notifier.notifyCommandListeners(command3);
+        notifier.notifyCommandListeners(command4);
+
+        assertEquals(2, notifier.getQueueDepth(listener));
+        assertEquals(2, notifier.getPeakQueueDepth(listener));
+        assertEquals(1, notifier.getDroppedCount(listener));
+
+        release.countDown();
+        long timeout = System.currentTimeMillis() + TIMEOUT;
+        while (received.size() < 3 && System.currentTimeMillis() < timeout) {
+            Thread.yield();
+        }
+        assertEquals(3, received.size());
+        assertEquals(command1, received.get(0));
+        assertEquals(command3, received.get(1));
+        assertEquals(command4, received.get(2));
+        assertEquals(0, notifier.getQueueDepth(listener));
+
+        notifier.shutdown();
+    }
+
+    @Test
+    public void overflowDropNewest() throws Exception {
+        ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier(1);
+        notifier.setQueueConfiguration(1, ZigBeeListenerOverflowPolicy.DROP_NEWEST);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        ZigBeeCommandListener listener = Mockito.mock(ZigBeeCommandListener.class);
+        Mockito.doAnswer(invocation -> {
+            blocked.countDown();
+            release.await();
+            return null;
+        }).when(listener).commandReceived(Mockito.any(ZigBeeCommand.class));
+        notifier.addCommandListener(listener);
+
+        ZigBeeCommand command1 = new ZigBeeCommand();
+        notifier.notifyCommandListeners(command1);
+        assertTrue(blocked.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        ZigBeeCommand command2 = new ZigBeeCommand();
+        ZigBeeCommand command3 = new ZigBeeCommand();
+        notifier.notifyCommandListeners(command2);
+        notifier.notifyCommandListeners(command3);
+        assertEquals(1, notifier.getQueueDepth(listener));
+        assertEquals(1, notifier.getDroppedCount(listener));
+
+        release.countDown();
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT)).commandReceived(command2);
+        Mockito.verify(listener, Mockito.never()).commandReceived(command3);
+
+        notifier.shutdown();
+    }
+
+    @Test
+    public void overflowBlock() throws Exception {
+        final ZigBeeCommandNotifier notifier = new ZigBeeCommandNotifier(1);
+        notifier.setQueueConfiguration(1, ZigBeeListenerOverflowPolicy.BLOCK);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        ZigBeeCommandListener listener = Mockito.mock(ZigBeeCommandListener.class);
+        Mockito.doAnswer(invocation -> {
+            blocked.countDown();
+            release.await();
+            return null;
+        }).when(listener).commandReceived(Mockito.any(ZigBeeCommand.class));
+        notifier.addCommandListener(listener);
+
+        notifier.notifyCommandListeners(new ZigBeeCommand());
+        assertTrue(blocked.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        notifier.notifyCommandListeners(new ZigBeeCommand());
+
+        final CountDownLatch sent = new CountDownLatch(1);
+        Thread sender = new Thread(() -> {
+            notifier.notifyCommandListeners(new ZigBeeCommand());
+            sent.countDown();
+        });
+        sender.start();
+
+        // The sender blocks until the listener has taken a command from the queue
+        assertEquals(false, sent.await(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(sent.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(3)).commandReceived(Mockito.any(ZigBeeCommand.class));
+        assertEquals(0, notifier.getDroppedCount(listener));
+
+        notifier.shutdown();
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeShardedExecutorTest {
+    @Test
+    public void orderedPerKey() throws Exception {
+        ZigBeeShardedExecutor executor = new ZigBeeShardedExecutor(4, "Test");
+        assertEquals(4, executor.getShardCount());
+
+        final int keys = 10;
+        final int tasks = 100;
+        final List<List<Integer>> results = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            results.add(Collections.synchronizedList(new ArrayList<Integer>()));
+        }
+        final CountDownLatch latch = new CountDownLatch(keys * tasks);
+
+        for (int task = 0; task < tasks; task++) {
+            for (int key = 0; key < keys; key++) {
+                final int taskKey = key;
+                final int taskNumber = task;
+                executor.execute(key, () -> {
+                    results.get(taskKey).add(taskNumber);
+                    latch.countDown();
+                });
+            }
+        }
+
+        latch.await(10, TimeUnit.SECONDS);
+        for (List<Integer> result : results) {
+            assertEquals(tasks, result.size());
+            for (int task = 0; task < tasks; task++) {
+                assertEquals(Integer.valueOf(task), result.get(task));
+            }
+        }
+
+        executor.shutdown(1000);
+
+        // Tasks submitted after shutdown are ignored
+        executor.execute(-1, () -> {
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidShardCount() {
+        new ZigBeeShardedExecutor(0, "Test");
+    }
+}
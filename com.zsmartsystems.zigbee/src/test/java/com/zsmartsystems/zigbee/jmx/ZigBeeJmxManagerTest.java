@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.jmx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeChannel;
+import com.zsmartsystems.zigbee.ZigBeeGroupAddress;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNetworkState;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
+import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionProfile;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeJmxManagerTest {
+    private ZigBeeNode getNode(ZigBeeNodeState state) {
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getNodeState()).thenReturn(state);
+        return node;
+    }
+
+    @Test
+    public void register() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        Mockito.when(networkManager.getTransactionManager()).thenReturn(transactionManager);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        Mockito.when(networkManager.getDatabaseManager()).thenReturn(databaseManager);
+
+        Mockito.when(networkManager.getNetworkState()).thenReturn(ZigBeeNetworkState.ONLINE);
+        Set<ZigBeeNode> nodes = new HashSet<>(Arrays.asList(getNode(ZigBeeNodeState.ONLINE),
+                getNode(ZigBeeNodeState.ONLINE), getNode(ZigBeeNodeState.OFFLINE)));
+        Mockito.when(networkManager.getNodes()).thenReturn(nodes);
+        ZigBeeGroupAddress group = new ZigBeeGroupAddress(1);
+        group.setLabel("Lights");
+        Mockito.when(networkManager.getGroups()).thenReturn(Arrays.asList(group, new ZigBeeGroupAddress(2)));
+        Mockito.when(networkManager.getLocalIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(networkManager.getZigBeeChannel()).thenReturn(ZigBeeChannel.CHANNEL_15);
+
+        ZigBeeJmxManager jmxManager = new ZigBeeJmxManager(server, networkManager, "Test");
+        assertTrue(jmxManager.register());
+
+        ObjectName networkName = jmxManager.getObjectName("NetworkManager");
+        assertEquals(new ObjectName("com.zsmartsystems.zigbee:type=NetworkManager,name=\"Test\""), networkName);
+        assertEquals("ONLINE", server.getAttribute(networkName, "NetworkState"));
+        assertEquals(3, server.getAttribute(networkName, "NodeCount"));
+        assertEquals(2, server.getAttribute(networkName, "OnlineNodeCount"));
+        assertEquals(1, server.getAttribute(networkName, "OfflineNodeCount"));
+        assertEquals(0, server.getAttribute(networkName, "UnknownNodeCount"));
+        assertEquals(2, server.getAttribute(networkName, "GroupCount"));
+        TabularData groups = (TabularData) server.getAttribute(networkName, "Groups");
+        assertEquals("Lights", groups.get(new Object[] { 1 }).get("value"));
+        assertEquals("", groups.get(new Object[] { 2 }).get("value"));
+        assertEquals("1234567890ABCDEF", server.getAttribute(networkName, "LocalIeeeAddress"));
+        assertEquals(15, server.getAttribute(networkName, "Channel"));
+
+        ObjectName transactionName = jmxManager.getObjectName("TransactionManager");
+        assertEquals(0, server.getAttribute(transactionName, "OutstandingTransactionCount"));
+        server.setAttribute(transactionName, new Attribute("MaxOutstandingTransactions", 7));
+        assertEquals(7, transactionManager.getMaxOutstandingTransactions());
+        CompositeData profile = (CompositeData) server.getAttribute(transactionName, "DefaultProfile");
+        assertEquals(transactionManager.getDefaultProfile().getMaxRetries(), profile.get("maxRetries"));
+
+        // Profiles are updated in place so that existing queues use the new settings
+        ZigBeeTransactionProfile defaultProfile = transactionManager.getDefaultProfile();
+        server.invoke(transactionName, "updateDefaultProfile", new Object[] { 5, 3, 100 },
+                new String[] { "int", "int", "int" });
+        assertEquals(5, defaultProfile.getMaxRetries());
+        assertEquals(3, defaultProfile.getMaxOutstandingTransactions());
+        assertEquals(100, defaultProfile.getInterTransactionDelay());
+
+        ObjectName databaseName = jmxManager.getObjectName("DatabaseManager");
+        server.setAttribute(databaseName, new Attribute("DeferredWriteTime", 500));
+        assertEquals(500, databaseManager.getDeferredWriteTime());
+        assertEquals(0, server.getAttribute(databaseName, "PendingWriteCount"));
+
+        // Registering the same network again fails
+        assertFalse(new ZigBeeJmxManager(server, networkManager, "Test").register());
+
+        jmxManager.unregister();
+        assertFalse(server.isRegistered(networkName));
+        assertFalse(server.isRegistered(transactionName));
+        assertFalse(server.isRegistered(databaseName));
+
+        transactionManager.shutdown();
+        databaseManager.shutdown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidProfile() {
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(
+                Mockito.mock(ZigBeeNetworkManager.class));
+        try {
+            new ZigBeeTransactionManagerMonitor(transactionManager).updateBroadcastProfile(1, 0, 0);
+        } finally {
+            transactionManager.shutdown();
+        }
+    }
+}
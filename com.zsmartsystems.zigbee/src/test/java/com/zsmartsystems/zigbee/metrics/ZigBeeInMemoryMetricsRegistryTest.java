@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeInMemoryMetricsRegistryTest {
+    @Test
+    public void counters() {
+        ZigBeeInMemoryMetricsRegistry registry = new ZigBeeInMemoryMetricsRegistry();
+        assertEquals(0, registry.getCounter(ZigBeeMetricsRegistry.FRAME_TX, null));
+
+        registry.increment(ZigBeeMetricsRegistry.FRAME_TX, null, 1);
+        registry.increment(ZigBeeMetricsRegistry.TRANSACTION_RETRY, "A", 2);
+        registry.increment(ZigBeeMetricsRegistry.TRANSACTION_RETRY, "B", 3);
+
+        assertEquals(1, registry.getCounter(ZigBeeMetricsRegistry.FRAME_TX, null));
+        assertEquals(2, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_RETRY, "A"));
+        assertEquals(3, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_RETRY, "B"));
+        assertEquals(0, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_RETRY, "C"));
+        assertEquals(5, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_RETRY, null));
+        assertEquals(new HashSet<>(Arrays.asList("A", "B")),
+                registry.getTags(ZigBeeMetricsRegistry.TRANSACTION_RETRY));
+        assertTrue(registry.getTags(ZigBeeMetricsRegistry.FRAME_TX).isEmpty());
+    }
+
+    @Test
+    public void gauges() {
+        ZigBeeInMemoryMetricsRegistry registry = new ZigBeeInMemoryMetricsRegistry();
+        registry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "A", 4);
+        registry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "B", 2);
+        registry.setGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "A", 3);
+
+        assertEquals(3, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "A"));
+        assertEquals(2, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "B"));
+        assertEquals(5, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, null));
+        assertEquals(0, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_OUTSTANDING, null));
+    }
+
+    @Test
+    public void histograms() {
+        ZigBeeInMemoryMetricsRegistry registry = new ZigBeeInMemoryMetricsRegistry();
+        assertNull(registry.getHistogram(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, null));
+
+        registry.record(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, "A", 100);
+        registry.record(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, "B", 300);
+
+        assertEquals(1, registry.getHistogram(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, "A").getCount());
+        assertEquals(300, registry.getHistogram(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, "B").getMax());
+        assertEquals(2, registry.getHistogram(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, null).getCount());
+        assertEquals(200, registry.getHistogram(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, null).getMean(), 0);
+    }
+
+    @Test
+    public void reset() {
+        ZigBeeInMemoryMetricsRegistry registry = new ZigBeeInMemoryMetricsRegistry();
+        registry.increment(ZigBeeMetricsRegistry.FRAME_RX, null, 1);
+        registry.setGauge(ZigBeeMetricsRegistry.NOTIFICATION_PENDING, "Listener", 1);
+        registry.record(ZigBeeMetricsRegistry.TRANSACTION_LATENCY, null, 1);
+        assertEquals(new HashSet<>(Arrays.asList(ZigBeeMetricsRegistry.FRAME_RX,
+                ZigBeeMetricsRegistry.NOTIFICATION_PENDING, ZigBeeMetricsRegistry.TRANSACTION_LATENCY)),
+                registry.getNames());
+
+        registry.reset();
+        assertTrue(registry.getNames().isEmpty());
+        assertEquals(0, registry.getCounter(ZigBeeMetricsRegistry.FRAME_RX, null));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeMetricsHistogramTest {
+    @Test
+    public void empty() {
+        ZigBeeMetricsHistogram histogram = new ZigBeeMetricsHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean(), 0);
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void smallValues() {
+        ZigBeeMetricsHistogram histogram = new ZigBeeMetricsHistogram();
+        for (int value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        assertEquals(9, histogram.getCount());
+        assertEquals(28, histogram.getSum());
+        assertEquals(7, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void percentiles() {
+        ZigBeeMetricsHistogram histogram = new ZigBeeMetricsHistogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500500, histogram.getSum());
+        assertEquals(500.5, histogram.getMean(), 0.01);
+        assertEquals(1000, histogram.getMax());
+        checkPercentile(500, histogram.getPercentile(50));
+        checkPercentile(900, histogram.getPercentile(90));
+        checkPercentile(990, histogram.getPercentile(99));
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void largeValues() {
+        ZigBeeMetricsHistogram histogram = new ZigBeeMetricsHistogram();
+        histogram.record(Long.MAX_VALUE / 2);
+        histogram.record(1);
+
+        assertEquals(Long.MAX_VALUE / 2, histogram.getMax());
+        assertEquals(1, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE / 2, histogram.getPercentile(100));
+    }
+
+    private void checkPercentile(long expected, long actual) {
+        // Estimates are the upper bound of the bucket, so are never low and are within 12.5%
+        assertTrue("Percentile " + actual + " expected " + expected, actual >= expected);
+        assertTrue("Percentile " + actual + " expected " + expected, actual <= expected * 1.125);
+    }
+}
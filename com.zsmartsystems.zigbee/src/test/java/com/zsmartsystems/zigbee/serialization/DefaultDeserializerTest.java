@@ -8,6 +8,11 @@
 package com.zsmartsystems.zigbee.serialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 
 import org.junit.Test;
 
@@ -80,9 +85,56 @@ public class DefaultDeserializerTest {
                 0x00 }, "MaestroStat", ZclDataType.CHARACTER_STRING);
     }
 
+    @Test
+    public void testDeserializeIntArrayInPlace() {
+        int[] payload = new int[] { 0x97, 0x03, 0xFF, 0x80 };
+        DefaultDeserializer deserializer = new DefaultDeserializer(payload);
+
+        // The integer array is read in place, so it is not copied when the deserializer is created
+        payload[0] = 0x98;
+        assertEquals(0x398, deserializer.readZigBeeType(ZclDataType.SIGNED_16_BIT_INTEGER));
+        assertEquals(-1, deserializer.readZigBeeType(ZclDataType.SIGNED_8_BIT_INTEGER));
+        assertEquals(new ByteArray(new int[] { 0x80 }), deserializer.readZigBeeType(ZclDataType.RAW_OCTET));
+        assertTrue(deserializer.isEndOfStream());
+    }
+
+    @Test
+    public void testDeserializeByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xAA, (byte) 0x97, 0x03, (byte) 0xFF, 0x55 });
+        buffer.position(1);
+        buffer.limit(4);
+        DefaultDeserializer deserializer = new DefaultDeserializer(buffer.slice());
+
+        assertEquals(3, deserializer.getSize());
+        assertEquals(0, deserializer.getPosition());
+        assertEquals(0x397, deserializer.readZigBeeType(ZclDataType.UNSIGNED_16_BIT_INTEGER));
+        assertEquals(2, deserializer.getPosition());
+        assertFalse(deserializer.isEndOfStream());
+        assertEquals(0xFF, deserializer.readZigBeeType(ZclDataType.UNSIGNED_8_BIT_INTEGER));
+        assertTrue(deserializer.isEndOfStream());
+
+        // Direct buffers are copied
+        buffer = ByteBuffer.allocateDirect(2);
+        buffer.put((byte) 0xFE);
+        buffer.put((byte) 0x80);
+        // Cast so that the Java 8 Buffer.flip() is linked when built with a later JDK
+        ((Buffer) buffer).flip();
+        deserializer = new DefaultDeserializer(buffer);
+        assertEquals(-2, deserializer.readZigBeeType(ZclDataType.SIGNED_8_BIT_INTEGER));
+        assertEquals(new ByteArray(new int[] { 0x80 }), deserializer.readZigBeeType(ZclDataType.RAW_OCTET));
+        assertEquals(0, buffer.position());
+    }
+
     private void testDeserialize(int[] input, Object objectIn, ZclDataType type) {
         DefaultDeserializer deserializer = new DefaultDeserializer(input);
         Object objectOut = deserializer.readZigBeeType(type);
         assertEquals(objectIn, objectOut);
+
+        byte[] bytes = new byte[input.length];
+        for (int cnt = 0; cnt < input.length; cnt++) {
+            bytes[cnt] = (byte) input[cnt];
+        }
+        deserializer = new DefaultDeserializer(ByteBuffer.wrap(bytes));
+        assertEquals(objectIn, deserializer.readZigBeeType(type));
     }
 }
@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.serialization;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -92,6 +94,12 @@ public class DefaultSerializerTest {
         System.out.println("Serialize: " + type + " >> " + object + " = " + arrayToString(data) + ", expect "
                 + arrayToString(output));
         assertTrue(Arrays.equals(output, data));
+
+        ByteBuffer buffer = serializer.getPayloadBuffer();
+        assertEquals(output.length, buffer.remaining());
+        for (int value : output) {
+            assertEquals(value, buffer.get() & 0xFF);
+        }
     }
 
     private String arrayToString(int[] value) {
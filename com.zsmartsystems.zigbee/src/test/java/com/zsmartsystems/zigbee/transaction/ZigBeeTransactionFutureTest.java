@@ -13,6 +13,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +79,50 @@ public class ZigBeeTransactionFutureTest {
         assertTrue(future.isCancelled());
     }
 
+    @Test
+    public void testCompletionStage() throws Exception {
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        CompletionStage<CommandResult> stage = future.getCompletionStage();
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        final CommandResult[] received = new CommandResult[1];
+        stage.thenAccept(result -> received[0] = result);
+
+        // The dependent action is run directly when the result is set
+        CommandResult result = new CommandResult();
+        future.set(result);
+        assertEquals(result, received[0]);
+        assertEquals(result, stage.toCompletableFuture().get(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testCompletionStageReadOnly() throws Exception {
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        CompletionStage<CommandResult> stage1 = future.getCompletionStage();
+        CompletionStage<CommandResult> stage2 = future.getCompletionStage();
+
+        // Completing a returned stage does not complete the transaction for other callers
+        assertTrue(stage1.toCompletableFuture().complete(new CommandResult()));
+        stage1.toCompletableFuture().obtrudeValue(new CommandResult());
+        assertFalse(stage2.toCompletableFuture().isDone());
+        assertFalse(future.isDone());
+
+        CommandResult result = new CommandResult();
+        future.set(result);
+        assertEquals(result, stage2.toCompletableFuture().get(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testCompletionStageCancel() throws Exception {
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        assertTrue(future.cancel(false));
+
+        // A cancelled transaction completes the stage with an empty result
+        CommandResult result = future.getCompletionStage().toCompletableFuture().get(0, TimeUnit.MILLISECONDS);
+        assertNotNull(result);
+        assertTrue(result.isError());
+    }
+
     @Test
     public void testMultipleThreadIsDone() throws InterruptedException, ExecutionException, TimeoutException {
         // Tests that multiple threads waiting on the same future will be notified when it completes
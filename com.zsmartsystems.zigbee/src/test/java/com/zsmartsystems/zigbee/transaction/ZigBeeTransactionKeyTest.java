@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeGroupAddress;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclTransactionMatcher;
+import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionKeyTest {
+    @Test
+    public void testRequestResponse() {
+        ZclCommand request = new OnCommand();
+        request.setDestinationAddress(new ZigBeeEndpointAddress(1234, 5));
+        assertNull(ZigBeeTransactionKey.forRequest(request));
+
+        request.setTransactionId(22);
+        ZclCommand response = new DefaultResponse();
+        response.setSourceAddress(new ZigBeeEndpointAddress(1234, 5));
+        response.setTransactionId(22);
+
+        ZigBeeTransactionKey key = ZigBeeTransactionKey.forRequest(request);
+        assertEquals(key, ZigBeeTransactionKey.forResponse(response));
+        assertEquals(key.hashCode(), ZigBeeTransactionKey.forResponse(response).hashCode());
+        assertEquals(key, new ZclTransactionMatcher().getTransactionKey(request));
+        assertEquals(1234, key.getNetworkAddress());
+        assertEquals(5, key.getEndpoint());
+        assertEquals(22, key.getTransactionId());
+
+        response.setSourceAddress(new ZigBeeEndpointAddress(1234, 6));
+        assertNotEquals(key, ZigBeeTransactionKey.forResponse(response));
+
+        response.setSourceAddress(new ZigBeeEndpointAddress(1234, 5));
+        response.setTransactionId(23);
+        assertNotEquals(key, ZigBeeTransactionKey.forResponse(response));
+
+        request.setDestinationAddress(new ZigBeeGroupAddress(1));
+        assertNull(ZigBeeTransactionKey.forRequest(request));
+    }
+}
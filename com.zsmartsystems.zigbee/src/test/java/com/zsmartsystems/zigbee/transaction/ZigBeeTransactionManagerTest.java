@@ -22,10 +22,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,11 +38,16 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.TestUtilities;
 import com.zsmartsystems.zigbee.ZigBeeBroadcastDestination;
+import com.zsmartsystems.zigbee.ZigBeeClock;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.ZigBeeTimerWheel;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.metrics.ZigBeeInMemoryMetricsRegistry;
+import com.zsmartsystems.zigbee.metrics.ZigBeeMetricsRegistry;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
@@ -206,6 +213,7 @@ public class ZigBeeTransactionManagerTest {
         ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
 
         ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
 
         IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
         ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
@@ -247,6 +255,7 @@ public class ZigBeeTransactionManagerTest {
         ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
 
         ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
 
         IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
         ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
@@ -319,20 +328,92 @@ public class ZigBeeTransactionManagerTest {
         nodeQueue.put(new IeeeAddress("2222222222222222"), queue2);
         nodeQueue.put(new IeeeAddress("3333333333333333"), queue3);
 
-        List<ZigBeeTransactionQueue> outstandingQueues = new ArrayList<>();
-        outstandingQueues.add(queue1);
-        outstandingQueues.add(queue2);
-        outstandingQueues.add(queue3);
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        scheduler.schedule(queue3);
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
 
         TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "nodeQueue", nodeQueue);
-        TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "outstandingQueues",
-                outstandingQueues);
+        TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "scheduler", scheduler);
         TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "sendNextTransaction");
 
         assertFalse(delayCapture.isEmpty());
         assertEquals(Long.valueOf(111), delayCapture.get(0));
     }
 
+    @Test
+    public void transactionTimeoutVirtualClock() {
+        final long[] time = new long[] { 0 };
+        ZigBeeClock clock = new ZigBeeClock() {
+            @Override
+            public long currentTimeMillis() {
+                return time[0];
+            }
+        };
+        ZigBeeTimerWheel timerWheel = new ZigBeeTimerWheel(Runnable::run, clock);
+
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(networkManager.getNode(123)).thenReturn(node);
+
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        transactionManager.setTimerWheel(timerWheel);
+        transactionManager.setDefaultProfile(new ZigBeeTransactionProfile(0, 12, 0));
+
+        ZigBeeCommand command = getCommand(123);
+        Future<CommandResult> cmdResult = transactionManager.sendTransaction(command,
+                Mockito.mock(ZigBeeTransactionMatcher.class));
+        Mockito.verify(networkManager, Mockito.times(1)).sendCommand(command);
+        assertEquals(1, timerWheel.getTimerCount());
+        assertFalse(cmdResult.isDone());
+
+        // The transaction times out once the virtual clock passes the timeout
+        time[0] += 60000;
+        timerWheel.expireTimers();
+        assertTrue(cmdResult.isDone());
+        assertEquals(0, timerWheel.getTimerCount());
+
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void sendTransactionAsync() {
+        final long[] time = new long[] { 0 };
+        ZigBeeClock clock = new ZigBeeClock() {
+            @Override
+            public long currentTimeMillis() {
+                return time[0];
+            }
+        };
+        ZigBeeTimerWheel timerWheel = new ZigBeeTimerWheel(Runnable::run, clock);
+
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(networkManager.getNode(123)).thenReturn(node);
+
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        transactionManager.setTimerWheel(timerWheel);
+        transactionManager.setDefaultProfile(new ZigBeeTransactionProfile(0, 12, 0));
+
+        ZigBeeCommand command = getCommand(123);
+        CompletionStage<CommandResult> stage = transactionManager.sendTransactionAsync(command,
+                Mockito.mock(ZigBeeTransactionMatcher.class));
+        Mockito.verify(networkManager, Mockito.times(1)).sendCommand(command);
+        final List<CommandResult> results = new ArrayList<>();
+        stage.thenAccept(result -> results.add(result));
+        assertTrue(results.isEmpty());
+
+        // The stage is completed from the thread that completes the transaction
+        time[0] += 60000;
+        timerWheel.expireTimers();
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isError());
+
+        transactionManager.shutdown();
+    }
+
     @Test
     public void testSleepyManagement() throws Exception {
         // This test sets the max sleepy transactions to 2, then fills the queue with 3 frames and makes sure only 2 are
@@ -412,6 +493,223 @@ public class ZigBeeTransactionManagerTest {
         assertNull(transactionManager.getQueue(address));
     }
 
+    @Test
+    public void receiveIndexed() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+
+        ZigBeeTransaction indexedTransaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(indexedTransaction.getTransactionId()).thenReturn(22);
+        Mockito.when(indexedTransaction.getTransactionKey()).thenReturn(new ZigBeeTransactionKey(1234, 5, 22));
+
+        ZigBeeTransaction otherTransaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(otherTransaction.getTransactionId()).thenReturn(33);
+        Mockito.when(otherTransaction.getTransactionKey()).thenReturn(new ZigBeeTransactionKey(1234, 5, 33));
+
+        ZigBeeTransaction unindexedTransaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(unindexedTransaction.getTransactionId()).thenReturn(44);
+
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, indexedTransaction);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, otherTransaction);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, unindexedTransaction);
+
+        ZigBeeCommand command = Mockito.mock(ZigBeeCommand.class);
+        Mockito.when(command.getSourceAddress()).thenReturn(new ZigBeeEndpointAddress(1234, 5));
+        Mockito.when(command.getTransactionId()).thenReturn(22);
+
+        // Only the transaction with the matching key, and the unindexed transaction, should see the command
+        transactionManager.receive(command);
+        Mockito.verify(indexedTransaction, Mockito.timeout(TIMEOUT)).commandReceived(command);
+        Mockito.verify(unindexedTransaction, Mockito.timeout(TIMEOUT)).commandReceived(command);
+        Mockito.verify(otherTransaction, Mockito.after(100).never()).commandReceived(command);
+
+        // Progress updates are routed on the transaction ID
+        transactionManager.receiveCommandState(33, ZigBeeTransportProgressState.TX_ACK);
+        Mockito.verify(otherTransaction, Mockito.timeout(TIMEOUT))
+                .transactionStatusReceived(ZigBeeTransportProgressState.TX_ACK, 33);
+        Mockito.verify(indexedTransaction, Mockito.after(100).never())
+                .transactionStatusReceived(ZigBeeTransportProgressState.TX_ACK, 33);
+
+        // Once complete, the transaction is removed from the index
+        transactionManager.transactionComplete(indexedTransaction, TransactionState.COMPLETE);
+        transactionManager.receive(command);
+        Mockito.verify(unindexedTransaction, Mockito.timeout(TIMEOUT).times(2)).commandReceived(command);
+        Mockito.verify(indexedTransaction, Mockito.after(100).times(1)).commandReceived(command);
+
+        transactionManager.shutdown();
+    }
+
+    private ZigBeeTransactionManager getQueueLimitManager(ZigBeeNetworkManager networkManager) {
+        ZigBeeNode node1 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node1.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(networkManager.getNode(123)).thenReturn(node1);
+        ZigBeeNode node2 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node2.getIeeeAddress()).thenReturn(new IeeeAddress("FEDCBA0987654321"));
+        Mockito.when(networkManager.getNode(456)).thenReturn(node2);
+
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager) {
+            @Override
+            protected ScheduledFuture<?> scheduleTask(Runnable runnableTask, long delay) {
+                return Mockito.mock(ScheduledFuture.class);
+            }
+        };
+        transactionManager.setDefaultProfile(new ZigBeeTransactionProfile(0, 12, 0));
+        // Hold all transactions in the queues
+        transactionManager.setMaxOutstandingTransactions(0);
+        return transactionManager;
+    }
+
+    @Test
+    public void queueLimitsFail() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = getQueueLimitManager(networkManager);
+        assertEquals(0, transactionManager.getMaxQueuedTransactions());
+        assertEquals(ZigBeeTransactionOverflowPolicy.FAIL, transactionManager.getOverflowPolicy());
+
+        transactionManager.setQueueLimits(3, 2, ZigBeeTransactionOverflowPolicy.FAIL);
+        assertEquals(3, transactionManager.getMaxQueuedTransactions());
+        assertEquals(2, transactionManager.getMaxNodeQueuedTransactions());
+
+        ZigBeeTransactionMatcher matcher = Mockito.mock(ZigBeeTransactionMatcher.class);
+        Future<CommandResult> future1 = transactionManager.sendTransaction(getCommand(123), matcher);
+        Future<CommandResult> future2 = transactionManager.sendTransaction(getCommand(123), matcher);
+        assertFalse(future1.isDone());
+        assertFalse(future2.isDone());
+
+        // The node queue is full
+        Future<CommandResult> future3 = transactionManager.sendTransaction(getCommand(123), matcher);
+        assertTrue(future3.isDone());
+        assertEquals(ZigBeeStatus.QUEUE_FULL, future3.get().getStatus());
+        assertEquals(2, transactionManager.getQueuedTransactionCount(new IeeeAddress("1234567890ABCDEF")));
+
+        // The global limit is reached
+        Future<CommandResult> future4 = transactionManager.sendTransaction(getCommand(456), matcher);
+        assertFalse(future4.isDone());
+        CompletionStage<CommandResult> stage = transactionManager.sendTransactionAsync(getCommand(456), matcher);
+        assertEquals(ZigBeeStatus.QUEUE_FULL, stage.toCompletableFuture().get().getStatus());
+
+        assertEquals(3, transactionManager.getQueuedTransactionCount());
+        assertEquals(3, transactionManager.getPeakQueuedTransactionCount());
+        assertEquals(2, transactionManager.getRejectedTransactionCount());
+        Mockito.verify(networkManager, Mockito.never()).sendCommand(ArgumentMatchers.any(ZigBeeCommand.class));
+
+        // Once the limit is increased the new transaction is accepted, and all transactions are released
+        transactionManager.setQueueLimits(4, 2, ZigBeeTransactionOverflowPolicy.FAIL);
+        transactionManager.setMaxOutstandingTransactions(9);
+        transactionManager.sendTransaction(getCommand(456), matcher);
+        assertEquals(0, transactionManager.getQueuedTransactionCount());
+        assertEquals(4, transactionManager.getPeakQueuedTransactionCount());
+        Mockito.verify(networkManager, Mockito.times(4)).sendCommand(ArgumentMatchers.any(ZigBeeCommand.class));
+
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void queueLimitsDropOldest() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = getQueueLimitManager(networkManager);
+        transactionManager.setQueueLimits(0, 2, ZigBeeTransactionOverflowPolicy.DROP_OLDEST);
+
+        ZigBeeTransactionMatcher matcher = Mockito.mock(ZigBeeTransactionMatcher.class);
+        ZigBeeCommand bulkCommand = getCommand(123);
+        Mockito.when(bulkCommand.getPriority()).thenReturn(ZigBeeTransactionPriority.BULK);
+        Future<CommandResult> future1 = transactionManager.sendTransaction(bulkCommand, matcher);
+        Future<CommandResult> future2 = transactionManager.sendTransaction(getCommand(123), matcher);
+
+        // The oldest transaction with the same priority is dropped
+        Future<CommandResult> future3 = transactionManager.sendTransaction(getCommand(123), matcher);
+        assertFalse(future1.isDone());
+        assertTrue(future2.isDone());
+        assertEquals(ZigBeeStatus.QUEUE_FULL, future2.get().getStatus());
+        assertFalse(future3.isDone());
+
+        // There is no waiting transaction with the same priority, so the new transaction is rejected
+        ZigBeeCommand interactiveCommand = getCommand(123);
+        Mockito.when(interactiveCommand.getPriority()).thenReturn(ZigBeeTransactionPriority.INTERACTIVE);
+        Future<CommandResult> future4 = transactionManager.sendTransaction(interactiveCommand, matcher);
+        assertTrue(future4.isDone());
+        assertEquals(ZigBeeStatus.QUEUE_FULL, future4.get().getStatus());
+
+        assertEquals(2, transactionManager.getQueuedTransactionCount());
+        assertEquals(2, transactionManager.getRejectedTransactionCount());
+
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void queueLimitsBlock() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = getQueueLimitManager(networkManager);
+        transactionManager.setQueueLimits(1, 0, ZigBeeTransactionOverflowPolicy.BLOCK);
+        transactionManager.setBlockTimeout(50);
+        assertEquals(50, transactionManager.getBlockTimeout());
+
+        ZigBeeTransactionMatcher matcher = Mockito.mock(ZigBeeTransactionMatcher.class);
+        Future<CommandResult> future1 = transactionManager.sendTransaction(getCommand(123), matcher);
+        assertFalse(future1.isDone());
+
+        // The queue does not empty before the timeout
+        Future<CommandResult> future2 = transactionManager.sendTransaction(getCommand(456), matcher);
+        assertTrue(future2.isDone());
+        assertEquals(ZigBeeStatus.QUEUE_FULL, future2.get().getStatus());
+
+        // The blocked sender continues once the queued transaction is released
+        transactionManager.setBlockTimeout(TIMEOUT);
+        final List<Future<CommandResult>> futures = new ArrayList<>();
+        Thread sender = new Thread(() -> futures.add(transactionManager.sendTransaction(getCommand(456), matcher)));
+        sender.start();
+        await().atMost(TIMEOUT, TimeUnit.MILLISECONDS)
+                .until(() -> sender.getState() == Thread.State.TIMED_WAITING);
+        assertTrue(futures.isEmpty());
+
+        transactionManager.removeNode(new IeeeAddress("1234567890ABCDEF"));
+        sender.join(TIMEOUT);
+        assertEquals(1, futures.size());
+        assertFalse(futures.get(0).isDone());
+        assertTrue(future1.isDone());
+        assertEquals(1, transactionManager.getQueuedTransactionCount());
+        assertEquals(1, transactionManager.getRejectedTransactionCount());
+
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void metrics() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = getQueueLimitManager(networkManager);
+        ZigBeeInMemoryMetricsRegistry registry = new ZigBeeInMemoryMetricsRegistry();
+        transactionManager.setMetricsRegistry(registry);
+        transactionManager.setQueueLimits(0, 1, ZigBeeTransactionOverflowPolicy.FAIL);
+
+        ZigBeeTransactionMatcher matcher = Mockito.mock(ZigBeeTransactionMatcher.class);
+        transactionManager.sendTransaction(getCommand(123), matcher);
+        transactionManager.sendTransaction(getCommand(123), matcher);
+        transactionManager.sendTransaction(getCommand(456), matcher);
+
+        assertEquals(1, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "1234567890ABCDEF"));
+        assertEquals(1, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "FEDCBA0987654321"));
+        assertEquals(2, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, null));
+        assertEquals(1, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_REJECTED, "1234567890ABCDEF"));
+        assertEquals(0, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_REJECTED, "FEDCBA0987654321"));
+
+        transactionManager.removeNode(new IeeeAddress("1234567890ABCDEF"));
+        assertEquals(0, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, "1234567890ABCDEF"));
+
+        // Release the queued transactions
+        transactionManager.setQueueLimits(0, 0, ZigBeeTransactionOverflowPolicy.FAIL);
+        transactionManager.setMaxOutstandingTransactions(9);
+        transactionManager.sendTransaction(getCommand(456), matcher);
+        assertEquals(0, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_QUEUE_DEPTH, null));
+        assertEquals(2, registry.getGauge(ZigBeeMetricsRegistry.TRANSACTION_OUTSTANDING, null));
+
+        assertEquals(0, registry.getCounter(ZigBeeMetricsRegistry.TRANSACTION_RETRY, null));
+
+        transactionManager.shutdown();
+    }
+
     private ZigBeeCommand getCommand(int address) {
         ZigBeeCommand command = Mockito.mock(ZigBeeCommand.class);
         Mockito.when(command.getDestinationAddress()).thenReturn(new ZigBeeEndpointAddress(address));
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ZigBeeTransactionPacing}
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionPacingTest {
+    private ZigBeeTransactionProfile getProfile() {
+        ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile(2, 2, 50);
+        profile.setAdaptive(true);
+        profile.setMaxAdaptiveTransactions(6);
+        profile.setMaxAdaptiveDelay(1000);
+        return profile;
+    }
+
+    @Test
+    public void additiveIncrease() {
+        ZigBeeTransactionPacing pacing = new ZigBeeTransactionPacing(getProfile());
+        assertEquals(2, pacing.getWindow());
+        assertEquals(50, pacing.getInterTransactionDelay());
+        assertEquals(-1, pacing.getTimeout());
+        assertEquals(-1, pacing.getRoundTripTime());
+
+        // The window grows by one for each window of successful transactions
+        pacing.transactionComplete(true, 1, null);
+        pacing.transactionComplete(true, 1, null);
+        assertEquals(2, pacing.getWindow());
+        pacing.transactionComplete(true, 1, null);
+        assertEquals(3, pacing.getWindow());
+
+        // The window is limited by the profile
+        for (int cnt = 0; cnt < 100; cnt++) {
+            pacing.transactionComplete(true, 1, null);
+        }
+        assertEquals(6, pacing.getWindow());
+        assertEquals(50, pacing.getInterTransactionDelay());
+        assertEquals(0.0, pacing.getFailureRate(), 0.0);
+    }
+
+    @Test
+    public void multiplicativeDecrease() {
+        ZigBeeTransactionPacing pacing = new ZigBeeTransactionPacing(getProfile());
+        for (int cnt = 0; cnt < 100; cnt++) {
+            pacing.transactionComplete(true, 1, null);
+        }
+        assertEquals(6, pacing.getWindow());
+
+        pacing.transactionComplete(false, 1, null);
+        assertEquals(3, pacing.getWindow());
+        assertEquals(100, pacing.getInterTransactionDelay());
+        assertEquals(0.125, pacing.getFailureRate(), 0.001);
+
+        pacing.transactionComplete(false, 1, null);
+        assertEquals(1, pacing.getWindow());
+        assertEquals(200, pacing.getInterTransactionDelay());
+
+        for (int cnt = 0; cnt < 10; cnt++) {
+            pacing.transactionComplete(false, 1, null);
+        }
+        assertEquals(1, pacing.getWindow());
+        assertEquals(1000, pacing.getInterTransactionDelay());
+        assertTrue(pacing.getFailureRate() > 0.5);
+
+        // The delay reduces by a fixed step with each success
+        pacing.transactionComplete(true, 1, null);
+        assertEquals(990, pacing.getInterTransactionDelay());
+    }
+
+    @Test
+    public void retransmissionTimeout() {
+        ZigBeeTransactionPacing pacing = new ZigBeeTransactionPacing(getProfile());
+
+        pacing.transactionComplete(true, 1, 400L);
+        assertEquals(400, pacing.getRoundTripTime());
+        // SRTT + 4 * RTTVAR = 400 + 4 * 200
+        assertEquals(1200, pacing.getTimeout());
+
+        pacing.transactionComplete(true, 1, 400L);
+        assertEquals(400, pacing.getRoundTripTime());
+        // RTTVAR = 3/4 * 200
+        assertEquals(1000, pacing.getTimeout());
+
+        // Retried transactions are not measured
+        pacing.transactionComplete(true, 2, 5000L);
+        assertEquals(400, pacing.getRoundTripTime());
+
+        // The timeout is backed off on failure
+        pacing.transactionComplete(false, 1, null);
+        assertEquals(2000, pacing.getTimeout());
+
+        // Timeouts are limited
+        for (int cnt = 0; cnt < 10; cnt++) {
+            pacing.transactionComplete(false, 1, null);
+        }
+        assertEquals(10000, pacing.getTimeout());
+        for (int cnt = 0; cnt < 50; cnt++) {
+            pacing.transactionComplete(true, 1, 10L);
+        }
+        assertEquals(1000, pacing.getTimeout());
+    }
+}
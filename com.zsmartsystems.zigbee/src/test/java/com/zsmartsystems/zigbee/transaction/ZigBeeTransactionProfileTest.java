@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.transaction;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -30,6 +32,16 @@ public class ZigBeeTransactionProfileTest {
         profile.setMaxRetries(11);
         assertEquals(11, profile.getMaxRetries());
 
+        assertFalse(profile.isAdaptive());
+        profile.setAdaptive(true);
+        assertTrue(profile.isAdaptive());
+
+        profile.setMaxAdaptiveTransactions(7);
+        assertEquals(7, profile.getMaxAdaptiveTransactions());
+
+        profile.setMaxAdaptiveDelay(1234);
+        assertEquals(1234, profile.getMaxAdaptiveDelay());
+
         System.out.println(profile.toString());
 
         profile = new ZigBeeTransactionProfile(1, 2, 3);
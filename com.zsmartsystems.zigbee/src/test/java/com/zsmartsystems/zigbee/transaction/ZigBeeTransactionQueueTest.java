@@ -114,4 +114,137 @@ public class ZigBeeTransactionQueueTest {
 
         assertTrue(queue.isEmpty());
     }
+
+    @Test
+    public void testAdaptivePacing() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        ZigBeeTransactionProfile profile = new ZigBeeTransactionProfile(0, 1, 0);
+        queue.setProfile(profile);
+        assertNull(queue.getPacing());
+
+        profile.setAdaptive(true);
+        profile.setMaxAdaptiveTransactions(2);
+        ZigBeeTransactionPacing pacing = queue.getPacing();
+        assertNotNull(pacing);
+
+        // Setting the same profile keeps the pacing state
+        queue.setProfile(profile);
+        assertEquals(pacing, queue.getPacing());
+
+        ZigBeeTransaction transaction1 = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction1.getSendCnt()).thenReturn(1);
+        Mockito.when(transaction1.getSendTime()).thenReturn(500L);
+        ZigBeeTransaction transaction2 = Mockito.mock(ZigBeeTransaction.class);
+        ZigBeeTransaction transaction3 = Mockito.mock(ZigBeeTransaction.class);
+        queue.addToQueue(transaction1);
+        queue.addToQueue(transaction2);
+        queue.addToQueue(transaction3);
+
+        // Window starts at the maximum outstanding transactions
+        assertEquals(transaction1, queue.getTransaction());
+        assertTrue(queue.isOutstandingLimitReached());
+        assertNull(queue.getTransaction());
+
+        // The window grows after successful transactions, and the timeout is set from the round trip time
+        queue.transactionComplete(transaction1, TransactionState.COMPLETE);
+        assertEquals(2, pacing.getWindow());
+        assertEquals(500, pacing.getRoundTripTime());
+        assertEquals(transaction2, queue.getTransaction());
+        Mockito.verify(transaction2, Mockito.never()).setTimerPeriod1(Mockito.anyInt());
+        Mockito.verify(transaction2, Mockito.times(1)).setTimerPeriod2(pacing.getTimeout());
+        assertFalse(queue.isOutstandingLimitReached());
+        assertEquals(transaction3, queue.getTransaction());
+        assertTrue(queue.isOutstandingLimitReached());
+
+        // A failure halves the window and increases the delay
+        queue.transactionComplete(transaction2, TransactionState.FAILED);
+        assertEquals(1, pacing.getWindow());
+        assertTrue(pacing.getInterTransactionDelay() > 0);
+        assertTrue(queue.isOutstandingLimitReached());
+
+        // Setting a new profile resets the pacing
+        queue.setProfile(new ZigBeeTransactionProfile(0, 1, 0));
+        assertNull(queue.getPacing());
+    }
+
+    private ZigBeeTransaction createTransaction(ZigBeeTransactionPriority priority) {
+        ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getPriority()).thenReturn(priority);
+        return transaction;
+    }
+
+    @Test
+    public void testPriority() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        queue.setProfile(new ZigBeeTransactionProfile(2, 100, 0));
+        assertNull(queue.getNextPriority());
+
+        ZigBeeTransaction bulk = createTransaction(ZigBeeTransactionPriority.BULK);
+        ZigBeeTransaction normal1 = createTransaction(ZigBeeTransactionPriority.NORMAL);
+        ZigBeeTransaction interactive = createTransaction(ZigBeeTransactionPriority.INTERACTIVE);
+        ZigBeeTransaction normal2 = createTransaction(ZigBeeTransactionPriority.NORMAL);
+        queue.addToQueue(bulk);
+        queue.addToQueue(normal1);
+        queue.addToQueue(interactive);
+        queue.addToQueue(normal2);
+        assertEquals(4, queue.size());
+
+        assertEquals(ZigBeeTransactionPriority.INTERACTIVE, queue.getNextPriority());
+        assertEquals(interactive, queue.getTransaction());
+        assertEquals(ZigBeeTransactionPriority.NORMAL, queue.getNextPriority());
+        assertEquals(normal1, queue.getTransaction());
+
+        // A retry is sent before other transactions of the same priority
+        Mockito.when(normal1.getSendCnt()).thenReturn(1);
+        queue.transactionComplete(normal1, TransactionState.FAILED);
+        assertEquals(normal1, queue.getTransaction());
+        assertEquals(normal2, queue.getTransaction());
+        assertEquals(ZigBeeTransactionPriority.BULK, queue.getNextPriority());
+        assertEquals(bulk, queue.getTransaction());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.getNextPriority());
+    }
+
+    @Test
+    public void testPriorityStarvation() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        queue.setProfile(new ZigBeeTransactionProfile(0, 100, 0));
+
+        ZigBeeTransaction bulk = createTransaction(ZigBeeTransactionPriority.BULK);
+        queue.addToQueue(bulk);
+        for (int cnt = 0; cnt < ZigBeeTransactionQueue.STARVATION_LIMIT * 2; cnt++) {
+            queue.addToQueue(createTransaction(ZigBeeTransactionPriority.NORMAL));
+        }
+
+        // The bulk transaction is released once the starvation limit is reached
+        for (int cnt = 0; cnt < ZigBeeTransactionQueue.STARVATION_LIMIT; cnt++) {
+            assertEquals(ZigBeeTransactionPriority.NORMAL, queue.getNextPriority());
+            assertEquals(ZigBeeTransactionPriority.NORMAL, queue.getTransaction().getPriority());
+        }
+        assertEquals(ZigBeeTransactionPriority.BULK, queue.getNextPriority());
+        assertEquals(bulk, queue.getTransaction());
+        assertEquals(ZigBeeTransactionQueue.STARVATION_LIMIT, queue.size());
+    }
+
+    @Test
+    public void testRemoveOldest() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        queue.setProfile(new ZigBeeTransactionProfile(2, 100, 0));
+
+        ZigBeeTransaction bulk = createTransaction(ZigBeeTransactionPriority.BULK);
+        ZigBeeTransaction normal1 = createTransaction(ZigBeeTransactionPriority.NORMAL);
+        ZigBeeTransaction normal2 = createTransaction(ZigBeeTransactionPriority.NORMAL);
+        queue.addToQueue(bulk);
+        queue.addToQueue(normal1);
+        queue.addToQueue(normal2);
+
+        assertNull(queue.removeOldest(ZigBeeTransactionPriority.INTERACTIVE));
+        assertEquals(3, queue.size());
+        assertEquals(normal1, queue.removeOldest(ZigBeeTransactionPriority.NORMAL));
+        assertEquals(2, queue.size());
+        assertEquals(normal2, queue.getTransaction());
+        assertEquals(bulk, queue.removeOldest(ZigBeeTransactionPriority.BULK));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.getTransaction());
+    }
 }
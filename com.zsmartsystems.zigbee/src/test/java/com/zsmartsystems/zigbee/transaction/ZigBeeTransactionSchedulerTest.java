@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link ZigBeeTransactionScheduler}
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionSchedulerTest {
+    private ZigBeeTransactionQueue createQueue(String name, int outstanding, int delay, int transactions) {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue(name);
+        queue.setProfile(new ZigBeeTransactionProfile(0, outstanding, delay));
+        for (int cnt = 0; cnt < transactions; cnt++) {
+            queue.addToQueue(Mockito.mock(ZigBeeTransaction.class));
+        }
+        return queue;
+    }
+
+    @Test
+    public void testRoundRobin() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue queue1 = createQueue("Q1", 10, 0, 3);
+        ZigBeeTransactionQueue queue2 = createQueue("Q2", 10, 0, 1);
+        ZigBeeTransactionQueue queue3 = createQueue("Q3", 10, 0, 2);
+
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+        scheduler.schedule(queue3);
+        scheduler.schedule(queue1);
+        assertEquals(3, scheduler.size());
+
+        List<ZigBeeTransactionQueue> order = new ArrayList<>();
+        ZigBeeTransactionQueue queue;
+        while ((queue = scheduler.nextReadyQueue()) != null) {
+            order.add(queue);
+            queue.getTransaction();
+            scheduler.schedule(queue);
+        }
+
+        assertEquals(6, order.size());
+        assertEquals(queue1, order.get(0));
+        assertEquals(queue2, order.get(1));
+        assertEquals(queue3, order.get(2));
+        assertEquals(queue1, order.get(3));
+        assertEquals(queue3, order.get(4));
+        assertEquals(queue1, order.get(5));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testEmptyAndBlocked() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+
+        scheduler.schedule(createQueue("Empty", 1, 0, 0));
+        assertEquals(0, scheduler.size());
+
+        ZigBeeTransactionQueue queue = createQueue("Blocked", 1, 0, 2);
+        queue.getTransaction();
+        scheduler.schedule(queue);
+        assertEquals(0, scheduler.size());
+        assertNull(scheduler.nextReadyQueue());
+
+        queue.transactionComplete(Mockito.mock(ZigBeeTransaction.class), ZigBeeTransaction.TransactionState.COMPLETE);
+        scheduler.schedule(queue);
+        assertEquals(queue, scheduler.nextReadyQueue());
+    }
+
+    @Test
+    public void testReleaseDelay() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        assertEquals(-1, scheduler.getNextReleaseDelay());
+
+        ZigBeeTransactionQueue queue1 = Mockito.mock(ZigBeeTransactionQueue.class);
+        Mockito.when(queue1.getNextReleaseTime()).thenReturn(300L);
+        ZigBeeTransactionQueue queue2 = Mockito.mock(ZigBeeTransactionQueue.class);
+        Mockito.when(queue2.getNextReleaseTime()).thenReturn(100L);
+        ZigBeeTransactionQueue queue3 = Mockito.mock(ZigBeeTransactionQueue.class);
+        Mockito.when(queue3.getNextReleaseTime()).thenReturn(200L);
+
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+        scheduler.schedule(queue3);
+
+        assertFalse(scheduler.hasReadyQueues());
+        assertNull(scheduler.nextReadyQueue());
+        assertEquals(100, scheduler.getNextReleaseDelay());
+
+        // Queue 2 is now released and moves to the ready set
+        Mockito.when(queue2.getNextReleaseTime()).thenReturn(0L);
+        assertEquals(queue2, scheduler.nextReadyQueue());
+        assertEquals(200, scheduler.getNextReleaseDelay());
+
+        scheduler.remove(queue3);
+        assertEquals(300, scheduler.getNextReleaseDelay());
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    public void testPark() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue queue1 = createQueue("Q1", 10, 0, 1);
+        ZigBeeTransactionQueue queue2 = createQueue("Q2", 10, 0, 1);
+
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+
+        ZigBeeTransactionQueue queue = scheduler.nextReadyQueue();
+        assertEquals(queue1, queue);
+        scheduler.park(queue);
+        assertEquals(2, scheduler.size());
+
+        // Parked queues are not served, and are not added again by schedule
+        scheduler.schedule(queue1);
+        assertEquals(queue2, scheduler.nextReadyQueue());
+        assertNull(scheduler.nextReadyQueue());
+
+        scheduler.releaseParked();
+        assertTrue(scheduler.hasReadyQueues());
+        assertEquals(queue1, scheduler.nextReadyQueue());
+        assertEquals(0, scheduler.size());
+    }
+
+    /**
+     * Checks that the work done to select each queue does not grow with the number of queues. The queue methods called
+     * by the scheduler are counted while all queues send one transaction each, with a long inter-transaction delay so
+     * that every queue passes through the release time heap.
+     */
+    @Test
+    public void testSchedulingCostIsFlat() {
+        long costSmall = getSchedulingCost(5);
+        long costLarge = getSchedulingCost(5000);
+
+        // Each send takes a fixed number of queue calls, independent of the number of queues
+        assertEquals(costSmall, costLarge);
+    }
+
+    private long getSchedulingCost(int queueCount) {
+        final long[] calls = new long[1];
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        for (int cnt = 0; cnt < queueCount; cnt++) {
+            ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("Q" + cnt) {
+                @Override
+                protected boolean isEmpty() {
+                    calls[0]++;
+                    return super.isEmpty();
+                }
+
+                @Override
+                protected boolean isOutstandingLimitReached() {
+                    calls[0]++;
+                    return super.isOutstandingLimitReached();
+                }
+
+                @Override
+                protected long getNextReleaseTime() {
+                    calls[0]++;
+                    return super.getNextReleaseTime();
+                }
+            };
+            queue.setProfile(new ZigBeeTransactionProfile(0, 10, 60000));
+            queue.addToQueue(Mockito.mock(ZigBeeTransaction.class));
+            queue.addToQueue(Mockito.mock(ZigBeeTransaction.class));
+            scheduler.schedule(queue);
+        }
+
+        calls[0] = 0;
+        int sent = 0;
+        ZigBeeTransactionQueue queue;
+        while ((queue = scheduler.nextReadyQueue()) != null) {
+            queue.getTransaction();
+            scheduler.schedule(queue);
+            sent++;
+        }
+        assertEquals(queueCount, sent);
+        assertEquals(queueCount, scheduler.size());
+
+        return calls[0] / queueCount;
+    }
+
+    private ZigBeeTransaction createTransaction(ZigBeeTransactionPriority priority) {
+        ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getPriority()).thenReturn(priority);
+        return transaction;
+    }
+
+    @Test
+    public void testPriority() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue background = createQueue("Background", 10, 0, 0);
+        background.addToQueue(createTransaction(ZigBeeTransactionPriority.BACKGROUND));
+        background.addToQueue(createTransaction(ZigBeeTransactionPriority.BACKGROUND));
+        ZigBeeTransactionQueue normal = createQueue("Normal", 10, 0, 1);
+
+        scheduler.schedule(background);
+        scheduler.schedule(normal);
+        assertTrue(scheduler.hasReadyQueues());
+
+        // A queue is moved to a higher priority when a higher priority transaction is added
+        background.addToQueue(createTransaction(ZigBeeTransactionPriority.INTERACTIVE));
+        scheduler.schedule(background);
+        assertEquals(2, scheduler.size());
+
+        assertEquals(background, scheduler.nextReadyQueue());
+        assertEquals(ZigBeeTransactionPriority.INTERACTIVE, background.getTransaction().getPriority());
+        scheduler.schedule(background);
+        assertEquals(normal, scheduler.nextReadyQueue());
+        normal.getTransaction();
+        scheduler.schedule(normal);
+        assertEquals(background, scheduler.nextReadyQueue());
+        background.getTransaction();
+        scheduler.schedule(background);
+        assertEquals(background, scheduler.nextReadyQueue());
+        background.getTransaction();
+        scheduler.schedule(background);
+        assertNull(scheduler.nextReadyQueue());
+        assertFalse(scheduler.hasReadyQueues());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void testPriorityStarvation() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue bulk = createQueue("Bulk", 10, 0, 0);
+        bulk.addToQueue(createTransaction(ZigBeeTransactionPriority.BULK));
+        scheduler.schedule(bulk);
+
+        List<ZigBeeTransactionQueue> normalQueues = new ArrayList<>();
+        for (int cnt = 0; cnt < ZigBeeTransactionQueue.STARVATION_LIMIT * 2; cnt++) {
+            ZigBeeTransactionQueue queue = createQueue("Normal" + cnt, 10, 0, 1);
+            normalQueues.add(queue);
+            scheduler.schedule(queue);
+        }
+
+        for (int cnt = 0; cnt < ZigBeeTransactionQueue.STARVATION_LIMIT; cnt++) {
+            assertEquals(normalQueues.get(cnt), scheduler.nextReadyQueue());
+        }
+        assertEquals(bulk, scheduler.nextReadyQueue());
+        assertEquals(normalQueues.get(ZigBeeTransactionQueue.STARVATION_LIMIT), scheduler.nextReadyQueue());
+    }
+
+    @Test
+    public void testRemoveReady() {
+        ZigBeeTransactionScheduler scheduler = new ZigBeeTransactionScheduler();
+        ZigBeeTransactionQueue queue1 = createQueue("Q1", 10, 0, 1);
+        ZigBeeTransactionQueue queue2 = createQueue("Q2", 10, 0, 1);
+        scheduler.schedule(queue1);
+        scheduler.schedule(queue2);
+
+        scheduler.remove(queue1);
+        assertEquals(1, scheduler.size());
+        assertEquals(queue2, scheduler.nextReadyQueue());
+        assertNull(scheduler.nextReadyQueue());
+    }
+}
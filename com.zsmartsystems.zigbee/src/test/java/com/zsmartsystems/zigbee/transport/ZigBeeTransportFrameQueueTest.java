@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransportFrameQueueTest {
+    @Test
+    public void testPriorityOrder() {
+        ZigBeeTransportFrameQueue<String> queue = new ZigBeeTransportFrameQueue<>();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        queue.add("Bulk", ZigBeeTransactionPriority.BULK);
+        queue.add("Normal1", ZigBeeTransactionPriority.NORMAL);
+        queue.add("Interactive", ZigBeeTransactionPriority.INTERACTIVE);
+        queue.add("Normal2", ZigBeeTransactionPriority.NORMAL);
+        queue.add("Unset", null);
+        assertFalse(queue.isEmpty());
+        assertEquals(5, queue.size());
+
+        assertEquals("Interactive", queue.poll());
+        assertEquals("Normal1", queue.poll());
+        assertEquals("Normal2", queue.poll());
+        assertEquals("Unset", queue.poll());
+        assertEquals("Bulk", queue.poll());
+        assertTrue(queue.isEmpty());
+
+        queue.add("Bulk", ZigBeeTransactionPriority.BULK);
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testCapacity() {
+        ZigBeeTransportFrameQueue<String> queue = new ZigBeeTransportFrameQueue<>(2);
+        queue.add("Frame1", ZigBeeTransactionPriority.NORMAL);
+        queue.add("Frame2", ZigBeeTransactionPriority.NORMAL);
+
+        boolean full = false;
+        try {
+            queue.add("Frame3", ZigBeeTransactionPriority.INTERACTIVE);
+        } catch (IllegalStateException e) {
+            full = true;
+        }
+        assertTrue(full);
+        assertEquals(2, queue.size());
+
+        assertEquals("Frame1", queue.poll());
+        queue.add("Frame3", ZigBeeTransactionPriority.INTERACTIVE);
+        assertEquals("Frame3", queue.poll());
+        assertEquals("Frame2", queue.poll());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new ZigBeeTransportFrameQueue<String>(0);
+    }
+}
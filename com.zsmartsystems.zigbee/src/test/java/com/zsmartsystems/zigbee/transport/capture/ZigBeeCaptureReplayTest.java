@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeCaptureReplayTest {
+    private ZigBeeCaptureReader createCapture() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ZigBeeCaptureWriter writer = new ZigBeeCaptureWriter(outputStream);
+
+        ZigBeeApsFrame txFrame = new ZigBeeApsFrame();
+        txFrame.setDestinationAddress(0x1234);
+        writer.write(new ZigBeeCaptureRecord(ZigBeeCaptureRecordType.TX_FRAME, 1000000, 5, txFrame, null));
+        writer.write(new ZigBeeCaptureRecord(ZigBeeCaptureRecordType.PROGRESS, 1010000, 5, null,
+                ZigBeeTransportProgressState.TX_ACK));
+
+        ZigBeeApsFrame rxFrame = new ZigBeeApsFrame();
+        rxFrame.setSourceAddress(0x1234);
+        rxFrame.setPayload(new int[] { 0x08, 0x01 });
+        writer.write(new ZigBeeCaptureRecord(ZigBeeCaptureRecordType.RX_FRAME, 1200000, -1, rxFrame, null));
+        writer.close();
+
+        return new ZigBeeCaptureReader(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @Test
+    public void replay() throws Exception {
+        ZigBeeTransportReceive transportReceive = Mockito.mock(ZigBeeTransportReceive.class);
+        ZigBeeCaptureReplay replay = new ZigBeeCaptureReplay(createCapture(), transportReceive);
+
+        long start = System.nanoTime();
+        assertEquals(2, replay.replay());
+        // The received frame was 190ms after the progress state
+        assertTrue(System.nanoTime() - start >= 180000000);
+
+        Mockito.verify(transportReceive, Mockito.times(1)).receiveCommandState(5,
+                ZigBeeTransportProgressState.TX_ACK);
+        ArgumentCaptor<ZigBeeApsFrame> frameCapture = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
+        Mockito.verify(transportReceive, Mockito.times(1)).receiveCommand(frameCapture.capture());
+        assertEquals(0x1234, frameCapture.getValue().getSourceAddress());
+        assertEquals(2, frameCapture.getValue().getPayload().length);
+    }
+
+    @Test
+    public void replayFast() throws Exception {
+        ZigBeeTransportReceive transportReceive = Mockito.mock(ZigBeeTransportReceive.class);
+        ZigBeeCaptureReplay replay = new ZigBeeCaptureReplay(createCapture(), transportReceive);
+        replay.setSpeed(0);
+        replay.setReplayProgress(false);
+
+        assertEquals(1, replay.replay());
+        Mockito.verify(transportReceive, Mockito.never()).receiveCommandState(Mockito.anyInt(),
+                Mockito.any(ZigBeeTransportProgressState.class));
+        Mockito.verify(transportReceive, Mockito.times(1)).receiveCommand(Mockito.any(ZigBeeApsFrame.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSpeed() throws Exception {
+        new ZigBeeCaptureReplay(createCapture(), Mockito.mock(ZigBeeTransportReceive.class)).setSpeed(-1);
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport.capture;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeNwkAddressMode;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransportCaptureTest {
+    private ZigBeeApsFrame createFrame() {
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setAddressMode(ZigBeeNwkAddressMode.DEVICE);
+        apsFrame.setSourceAddress(0);
+        apsFrame.setDestinationAddress(0xFFFD);
+        apsFrame.setDestinationIeeeAddress(new IeeeAddress("1234567890ABCDEF"));
+        apsFrame.setSourceEndpoint(1);
+        apsFrame.setDestinationEndpoint(0xF2);
+        apsFrame.setProfile(0x104);
+        apsFrame.setCluster(0x0702);
+        apsFrame.setRadius(31);
+        apsFrame.setNonMemberRadius(7);
+        apsFrame.setSecurityEnabled(true);
+        apsFrame.setApsCounter(0xAB);
+        apsFrame.setPayload(new int[] { 0x18, 0x01, 0x0A, 0xFF });
+        return apsFrame;
+    }
+
+    @Test
+    public void capture() throws IOException {
+        ZigBeeTransportTransmit transport = Mockito.mock(ZigBeeTransportTransmit.class);
+        ZigBeeTransportReceive transportReceive = Mockito.mock(ZigBeeTransportReceive.class);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ZigBeeCaptureWriter writer = new ZigBeeCaptureWriter(outputStream);
+
+        ZigBeeTransportCapture capture = new ZigBeeTransportCapture(transport, writer);
+        capture.setZigBeeTransportReceive(transportReceive);
+        Mockito.verify(transport, Mockito.times(1)).setZigBeeTransportReceive(capture);
+
+        ZigBeeApsFrame txFrame = createFrame();
+        capture.sendCommand(12, txFrame);
+        Mockito.verify(transport, Mockito.times(1)).sendCommand(12, txFrame);
+
+        capture.receiveCommandState(12, ZigBeeTransportProgressState.RX_NAK);
+        Mockito.verify(transportReceive, Mockito.times(1)).receiveCommandState(12,
+                ZigBeeTransportProgressState.RX_NAK);
+
+        ZigBeeApsFrame rxFrame = new ZigBeeApsFrame();
+        rxFrame.setSourceAddress(0x1234);
+        rxFrame.setCluster(0x8000);
+        rxFrame.setApsCounter(-1);
+        capture.receiveCommand(rxFrame);
+        Mockito.verify(transportReceive, Mockito.times(1)).receiveCommand(rxFrame);
+
+        capture.shutdown();
+        Mockito.verify(transport, Mockito.times(1)).shutdown();
+
+        ZigBeeCaptureReader reader = new ZigBeeCaptureReader(new ByteArrayInputStream(outputStream.toByteArray()));
+        ZigBeeCaptureRecord record = reader.read();
+        assertEquals(ZigBeeCaptureRecordType.TX_FRAME, record.getType());
+        assertEquals(12, record.getMsgTag());
+        ZigBeeApsFrame apsFrame = record.getApsFrame();
+        assertEquals(ZigBeeNwkAddressMode.DEVICE, apsFrame.getAddressMode());
+        assertEquals(0, apsFrame.getSourceAddress());
+        assertEquals(0xFFFD, apsFrame.getDestinationAddress());
+        assertEquals(new IeeeAddress("1234567890ABCDEF"), apsFrame.getDestinationIeeeAddress());
+        assertEquals(1, apsFrame.getSourceEndpoint());
+        assertEquals(0xF2, apsFrame.getDestinationEndpoint());
+        assertEquals(0x104, apsFrame.getProfile());
+        assertEquals(0x0702, apsFrame.getCluster());
+        assertEquals(31, apsFrame.getRadius());
+        assertEquals(7, apsFrame.getNonMemberRadius());
+        assertTrue(apsFrame.getSecurityEnabled());
+        assertEquals(0xAB, apsFrame.getApsCounter());
+        assertArrayEquals(new int[] { 0x18, 0x01, 0x0A, 0xFF }, apsFrame.getPayload());
+        long timestamp = record.getTimestamp();
+
+        record = reader.read();
+        assertEquals(ZigBeeCaptureRecordType.PROGRESS, record.getType());
+        assertEquals(12, record.getMsgTag());
+        assertEquals(ZigBeeTransportProgressState.RX_NAK, record.getState());
+        assertTrue(record.getTimestamp() >= timestamp);
+
+        record = reader.read();
+        assertEquals(ZigBeeCaptureRecordType.RX_FRAME, record.getType());
+        apsFrame = record.getApsFrame();
+        assertNull(apsFrame.getAddressMode());
+        assertNull(apsFrame.getDestinationIeeeAddress());
+        assertFalse(apsFrame.getSecurityEnabled());
+        assertEquals(0x1234, apsFrame.getSourceAddress());
+        assertEquals(0x8000, apsFrame.getCluster());
+        assertEquals(-1, apsFrame.getApsCounter());
+        assertEquals(0, apsFrame.getPayload().length);
+
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test
+    public void truncated() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ZigBeeCaptureWriter writer = new ZigBeeCaptureWriter(outputStream);
+        writer.write(new ZigBeeCaptureRecord(ZigBeeCaptureRecordType.PROGRESS, 1000, 1,
+                null, ZigBeeTransportProgressState.TX_ACK));
+        writer.write(new ZigBeeCaptureRecord(ZigBeeCaptureRecordType.TX_FRAME, 2000, 2, createFrame(), null));
+        writer.close();
+
+        byte[] bytes = outputStream.toByteArray();
+        ZigBeeCaptureReader reader = new ZigBeeCaptureReader(
+                new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 3)));
+        ZigBeeCaptureRecord record = reader.read();
+        assertEquals(1000, record.getTimestamp());
+        assertEquals(ZigBeeTransportProgressState.TX_ACK, record.getState());
+        assertNull(reader.read());
+        reader.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidFile() throws IOException {
+        new ZigBeeCaptureReader(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 }));
+    }
+}
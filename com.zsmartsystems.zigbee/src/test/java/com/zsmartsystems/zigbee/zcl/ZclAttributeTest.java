@@ -12,6 +12,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Calendar;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -103,6 +104,42 @@ public class ZclAttributeTest {
         Mockito.verify(cluster, Mockito.times(1)).readAttributeValue(123);
     }
 
+    @Test
+    public void readValueAsync() throws Exception {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        CompletableFuture<Object> read = new CompletableFuture<>();
+        Mockito.when(cluster.readAttributeValueAsync(123)).thenReturn(read);
+        ZclAttribute attribute = new ZclAttribute(cluster, 123, "Test Name", ZclDataType.UNSIGNED_8_BIT_INTEGER, false,
+                false, false, false);
+
+        assertEquals(read, attribute.readValueAsync(Long.MAX_VALUE));
+        Mockito.verify(cluster, Mockito.times(1)).readAttributeValueAsync(123);
+
+        TestUtilities.setField(ZclAttribute.class, attribute, "lastReportTime", Calendar.getInstance());
+        TestUtilities.setField(ZclAttribute.class, attribute, "lastValue", Integer.valueOf(8888));
+        assertEquals(Integer.valueOf(8888), attribute.readValueAsync(Long.MAX_VALUE).toCompletableFuture().get());
+        Mockito.verify(cluster, Mockito.times(1)).readAttributeValueAsync(123);
+    }
+
+    @Test
+    public void readValueCacheTime() throws Exception {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttribute attribute = new ZclAttribute(cluster, 123, "Test Name", ZclDataType.UNSIGNED_8_BIT_INTEGER, false,
+                false, false, false);
+        TestUtilities.setField(ZclAttribute.class, attribute, "lastReportTime", Calendar.getInstance());
+        TestUtilities.setField(ZclAttribute.class, attribute, "lastValue", Integer.valueOf(8888));
+        Thread.sleep(20);
+
+        // Without a cache time the value is read when older than the refresh period
+        attribute.readValue(0);
+        Mockito.verify(cluster, Mockito.times(1)).readAttributeValue(123);
+
+        // The cluster cache time overrides a shorter refresh period
+        Mockito.when(cluster.getValueCacheTime(123)).thenReturn(60000L);
+        assertEquals(Integer.valueOf(8888), attribute.readValue(0));
+        Mockito.verify(cluster, Mockito.times(1)).readAttributeValue(123);
+    }
+
     @Test
     public void setReporting() {
         ZclCluster cluster = Mockito.mock(ZclCluster.class);
@@ -20,11 +20,17 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.CommandResult;
@@ -46,12 +52,15 @@ import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReportAttributesCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
 import com.zsmartsystems.zigbee.zcl.field.AttributeRecord;
 import com.zsmartsystems.zigbee.zcl.field.AttributeReport;
 import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
 import com.zsmartsystems.zigbee.zcl.field.ReadAttributeStatusRecord;
 import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclClusterType;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclCommandDirection;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 import com.zsmartsystems.zigbee.zdo.command.BindRequest;
@@ -63,6 +72,8 @@ import com.zsmartsystems.zigbee.zdo.command.UnbindRequest;
  *
  */
 public class ZclClusterTest {
+    private static int TIMEOUT = 5000;
+
     private ZigBeeNode node;
     ZigBeeEndpoint endpoint;
     private ArgumentCaptor<ZigBeeCommand> commandCapture;
@@ -142,6 +153,267 @@ public class ZclClusterTest {
         assertEquals(0, record.getDirection());
     }
 
+    @Test
+    public void asyncCommands() throws Exception {
+        createEndpoint();
+        CompletableFuture<CommandResult> response = new CompletableFuture<>();
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenReturn(response);
+
+        ZclCluster cluster = new ZclOnOffCluster(endpoint);
+
+        CompletionStage<CommandResult> stage = cluster.readAttributesAsync(Collections.singletonList(0));
+        assertEquals(response, stage);
+        assertTrue(commandCapture.getValue() instanceof ReadAttributesCommand);
+        assertEquals(Collections.singletonList(0),
+                ((ReadAttributesCommand) commandCapture.getValue()).getIdentifiers());
+
+        cluster.readAttributeAsync(0);
+        assertTrue(commandCapture.getValue() instanceof ReadAttributesCommand);
+
+        cluster.writeAttributeAsync(0, ZclDataType.BOOLEAN, true);
+        assertTrue(commandCapture.getValue() instanceof WriteAttributesCommand);
+        assertEquals(1, ((WriteAttributesCommand) commandCapture.getValue()).getRecords().size());
+
+        cluster.setReportingAsync(0, 22, 33, null);
+        assertTrue(commandCapture.getValue() instanceof ConfigureReportingCommand);
+        AttributeReportingConfigurationRecord record = ((ConfigureReportingCommand) commandCapture.getValue())
+                .getRecords().get(0);
+        assertEquals(22, record.getMinimumReportingInterval());
+        assertEquals(33, record.getMaximumReportingInterval());
+
+        cluster.getReportingAsync(0);
+        assertTrue(commandCapture.getValue() instanceof ReadReportingConfigurationCommand);
+
+        assertEquals(5, commandCapture.getAllValues().size());
+        Mockito.verify(endpoint, Mockito.never()).sendTransaction(ArgumentCaptor.forClass(ZigBeeCommand.class).capture(),
+                ArgumentCaptor.forClass(ZigBeeTransactionMatcher.class).capture());
+    }
+
+    @Test
+    public void readCoalescing() throws Exception {
+        createEndpoint();
+        final List<CompletableFuture<CommandResult>> responses = new ArrayList<>();
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenAnswer(invocation -> {
+                    CompletableFuture<CommandResult> response = new CompletableFuture<>();
+                    responses.add(response);
+                    return response;
+                });
+
+        ArgumentCaptor<Runnable> taskCapture = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.when(endpoint.scheduleTask(taskCapture.capture(), ArgumentMatchers.eq(50L)))
+                .thenReturn(Mockito.mock(ScheduledFuture.class));
+
+        ZclCluster cluster = new ZclLevelControlCluster(endpoint);
+        assertEquals(0, cluster.getReadCoalescingWindow());
+        cluster.setReadCoalescingWindow(50);
+        assertEquals(50, cluster.getReadCoalescingWindow());
+
+        Future<CommandResult> future0 = cluster.readAttribute(0);
+        Future<CommandResult> future1 = cluster.readAttribute(1);
+        CompletionStage<CommandResult> stage2 = cluster.readAttributeAsync(2);
+        // Concurrent reads of the same attribute share the read
+        assertEquals(future0, cluster.readAttribute(0));
+        List<Future<CommandResult>> futures = new ArrayList<>();
+        for (int attributeId = 0x10; attributeId < 0x18; attributeId++) {
+            futures.add(cluster.readAttribute(attributeId));
+        }
+
+        // The window is only scheduled once, and the reads are sent when it expires
+        assertEquals(1, taskCapture.getAllValues().size());
+        taskCapture.getValue().run();
+
+        // 11 attributes are read in a single command
+        Mockito.verify(endpoint, Mockito.timeout(TIMEOUT).times(1)).sendTransactionAsync(
+                ArgumentCaptor.forClass(ZigBeeCommand.class).capture(),
+                ArgumentCaptor.forClass(ZigBeeTransactionMatcher.class).capture());
+        Mockito.verify(endpoint, Mockito.never()).sendTransaction(ArgumentCaptor.forClass(ZigBeeCommand.class).capture(),
+                ArgumentCaptor.forClass(ZigBeeTransactionMatcher.class).capture());
+        ReadAttributesCommand command = (ReadAttributesCommand) commandCapture.getAllValues().get(0);
+        assertEquals(11, command.getIdentifiers().size());
+        assertEquals(Integer.valueOf(0), command.getIdentifiers().get(0));
+        assertEquals(Integer.valueOf(1), command.getIdentifiers().get(1));
+        assertEquals(Integer.valueOf(2), command.getIdentifiers().get(2));
+        assertFalse(future0.isDone());
+
+        // Each read is completed with its own record from the shared response
+        List<ReadAttributeStatusRecord> records = new ArrayList<>();
+        for (int attributeId = 0; attributeId < 3; attributeId++) {
+            ReadAttributeStatusRecord record = new ReadAttributeStatusRecord();
+            record.setAttributeIdentifier(attributeId);
+            record.setStatus(ZclStatus.SUCCESS);
+            record.setAttributeDataType(ZclDataType.UNSIGNED_8_BIT_INTEGER);
+            record.setAttributeValue(attributeId + 100);
+            records.add(record);
+        }
+        ReadAttributesResponse response = new ReadAttributesResponse();
+        response.setRecords(records);
+        responses.get(0).complete(new CommandResult(response));
+
+        ReadAttributesResponse response0 = future0.get(TIMEOUT, TimeUnit.MILLISECONDS).getResponse();
+        assertEquals(1, response0.getRecords().size());
+        assertEquals(100, response0.getRecords().get(0).getAttributeValue());
+        ReadAttributesResponse response1 = future1.get().getResponse();
+        assertEquals(1, response1.getRecords().size());
+        assertEquals(101, response1.getRecords().get(0).getAttributeValue());
+        ReadAttributesResponse response2 = stage2.toCompletableFuture().get().getResponse();
+        assertEquals(102, response2.getRecords().get(0).getAttributeValue());
+
+        // Attributes missing from the response complete with an error
+        assertTrue(futures.get(7).get().isError());
+    }
+
+    @Test
+    public void readCoalescingFailure() throws Exception {
+        createEndpoint();
+        final CompletableFuture<CommandResult> response = new CompletableFuture<>();
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenReturn(response);
+        ArgumentCaptor<Runnable> taskCapture = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.when(endpoint.scheduleTask(taskCapture.capture(), ArgumentMatchers.anyLong()))
+                .thenReturn(Mockito.mock(ScheduledFuture.class));
+
+        ZclCluster cluster = new ZclLevelControlCluster(endpoint);
+        cluster.setReadCoalescingWindow(50);
+
+        // Reads complete with a failure if the transaction completes exceptionally
+        Future<CommandResult> future0 = cluster.readAttribute(0);
+        CompletionStage<CommandResult> stage1 = cluster.readAttributeAsync(1);
+        taskCapture.getValue().run();
+        assertFalse(future0.isDone());
+        response.completeExceptionally(new IllegalStateException());
+        assertTrue(future0.get(TIMEOUT, TimeUnit.MILLISECONDS).isError());
+        assertTrue(stage1.toCompletableFuture().get(TIMEOUT, TimeUnit.MILLISECONDS).isError());
+
+        // Reads complete with a failure if the command can not be sent
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenThrow(new IllegalStateException());
+        Future<CommandResult> future2 = cluster.readAttribute(2);
+        taskCapture.getValue().run();
+        assertTrue(future2.get(TIMEOUT, TimeUnit.MILLISECONDS).isError());
+
+        // Reads complete with a failure if the window can not be scheduled
+        Mockito.when(endpoint.scheduleTask(ArgumentMatchers.any(Runnable.class), ArgumentMatchers.anyLong()))
+                .thenReturn(null);
+        Future<CommandResult> future3 = cluster.readAttribute(3);
+        assertTrue(future3.get(TIMEOUT, TimeUnit.MILLISECONDS).isError());
+    }
+
+    @Test
+    public void writeAttributesPacked() throws Exception {
+        createEndpoint();
+        final List<CompletableFuture<CommandResult>> responses = new ArrayList<>();
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenAnswer(invocation -> {
+                    CompletableFuture<CommandResult> response = new CompletableFuture<>();
+                    responses.add(response);
+                    return response;
+                });
+
+        ZclCluster cluster = new ZclLevelControlCluster(endpoint);
+
+        // Each record is 7 bytes, so 11 fit in a single frame
+        List<WriteAttributeRecord> records = new ArrayList<>();
+        for (int attributeId = 0; attributeId < 15; attributeId++) {
+            WriteAttributeRecord record = new WriteAttributeRecord();
+            record.setAttributeIdentifier(attributeId);
+            record.setAttributeDataType(ZclDataType.UNSIGNED_32_BIT_INTEGER);
+            record.setAttributeValue(attributeId);
+            records.add(record);
+        }
+        CompletionStage<CommandResult> stage = cluster.writeAttributesAsync(records);
+        assertEquals(2, commandCapture.getAllValues().size());
+        assertEquals(11, ((WriteAttributesCommand) commandCapture.getAllValues().get(0)).getRecords().size());
+        assertEquals(4, ((WriteAttributesCommand) commandCapture.getAllValues().get(1)).getRecords().size());
+
+        // The responses are merged once all commands complete
+        WriteAttributeStatusRecord statusRecord = new WriteAttributeStatusRecord();
+        statusRecord.setStatus(ZclStatus.SUCCESS.getId());
+        WriteAttributesResponse success = new WriteAttributesResponse();
+        success.setRecords(Collections.singletonList(statusRecord));
+        responses.get(0).complete(new CommandResult(success));
+        assertFalse(stage.toCompletableFuture().isDone());
+        statusRecord = new WriteAttributeStatusRecord();
+        statusRecord.setAttributeIdentifier(12);
+        statusRecord.setStatus(ZclStatus.READ_ONLY.getId());
+        WriteAttributesResponse failure = new WriteAttributesResponse();
+        failure.setRecords(Collections.singletonList(statusRecord));
+        responses.get(1).complete(new CommandResult(failure));
+
+        WriteAttributesResponse response = stage.toCompletableFuture().get().getResponse();
+        assertEquals(1, response.getRecords().size());
+        assertEquals(12, response.getRecords().get(0).getAttributeIdentifier());
+
+        // A single frame is sent through the existing synchronous path
+        cluster.writeAttributes(records.subList(0, 2));
+        Mockito.verify(endpoint, Mockito.times(1)).sendTransaction(ArgumentCaptor.forClass(ZigBeeCommand.class).capture(),
+                ArgumentCaptor.forClass(ZigBeeTransactionMatcher.class).capture());
+    }
+
+    @Test
+    public void readAttributeValueAsync() throws Exception {
+        createEndpoint();
+        CompletableFuture<CommandResult> response = new CompletableFuture<>();
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenReturn(response);
+
+        ZclCluster cluster = new ZclLevelControlCluster(endpoint);
+
+        // Concurrent reads of the same value share a single read
+        CompletionStage<Object> stage1 = cluster.readAttributeValueAsync(0);
+        CompletionStage<Object> stage2 = cluster.readAttributeValueAsync(0);
+        CompletionStage<Object> stage3 = cluster.readAttributeValueAsync(0);
+        Mockito.verify(endpoint, Mockito.times(1)).sendTransactionAsync(
+                ArgumentCaptor.forClass(ZigBeeCommand.class).capture(),
+                ArgumentCaptor.forClass(ZigBeeTransactionMatcher.class).capture());
+
+        ReadAttributeStatusRecord record = new ReadAttributeStatusRecord();
+        record.setAttributeIdentifier(0);
+        record.setStatus(ZclStatus.SUCCESS);
+        record.setAttributeDataType(ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        record.setAttributeValue(123);
+        ReadAttributesResponse readResponse = new ReadAttributesResponse();
+        readResponse.setRecords(Collections.singletonList(record));
+
+        // Completing the stage returned to one caller does not complete the shared read
+        assertTrue(stage3.toCompletableFuture().complete(456));
+        assertFalse(stage1.toCompletableFuture().isDone());
+        assertFalse(stage2.toCompletableFuture().isDone());
+
+        response.complete(new CommandResult(readResponse));
+
+        assertEquals(123, stage1.toCompletableFuture().get());
+        assertEquals(123, stage2.toCompletableFuture().get());
+        assertEquals(456, stage3.toCompletableFuture().get());
+
+        // Once complete, a new read is started
+        cluster.readAttributeValueAsync(0);
+        Mockito.verify(endpoint, Mockito.times(2)).sendTransactionAsync(
+                ArgumentCaptor.forClass(ZigBeeCommand.class).capture(),
+                ArgumentCaptor.forClass(ZigBeeTransactionMatcher.class).capture());
+
+        // Errors complete with null
+        CompletableFuture<CommandResult> errorResponse = new CompletableFuture<>();
+        Mockito.when(endpoint.sendTransactionAsync(commandCapture.capture(), matcherCapture.capture()))
+                .thenReturn(errorResponse);
+        CompletionStage<Object> stage4 = cluster.readAttributeValueAsync(1);
+        errorResponse.complete(new CommandResult());
+        assertNull(stage4.toCompletableFuture().get());
+    }
+
+    @Test
+    public void valueCacheTime() {
+        createEndpoint();
+        ZclCluster cluster = new ZclLevelControlCluster(endpoint);
+        assertEquals(0, cluster.getValueCacheTime(0));
+
+        cluster.setValueCacheTime(1000);
+        cluster.setValueCacheTime(1, 5000);
+        assertEquals(1000, cluster.getValueCacheTime(0));
+        assertEquals(5000, cluster.getValueCacheTime(1));
+    }
+
     @Test
     public void setReporting() {
         createEndpoint();
@@ -500,7 +772,76 @@ public class ZclClusterTest {
         clusterDao.setAttributes(attributes);
 
         cluster.setDao(clusterDao);
-        assertEquals(1, cluster.getAttributes().size());
-        assertEquals(Integer.class, cluster.getAttributes().iterator().next().getLastValue().getClass());
+        // The restored attribute is added to the attributes defined in the cluster
+        assertEquals(6, cluster.getAttributes().size());
+        assertEquals(Integer.class, cluster.getAttribute(1).getLastValue().getClass());
+        assertNotNull(cluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF));
+    }
+
+    @Test
+    public void attributesCreatedOnUse() {
+        createEndpoint();
+
+        ZclOnOffCluster cluster = new ZclOnOffCluster(endpoint);
+        assertEquals(0, cluster.getDao().getAttributes().size());
+        assertEquals(5, cluster.getSupportedAttributes().size());
+        assertTrue(cluster.getSupportedAttributes().contains(ZclOnOffCluster.ATTR_ONOFF));
+
+        ZclAttribute attribute = cluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
+        assertEquals("On Off", attribute.getName());
+        assertEquals(ZclDataType.BOOLEAN, attribute.getDataType());
+        assertTrue(attribute == cluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF));
+        attribute.updateValue(Boolean.TRUE);
+
+        Map<Integer, ZclAttributeDao> attributes = cluster.getDao().getAttributes();
+        assertEquals(1, attributes.size());
+        assertEquals(Boolean.TRUE, attributes.get(ZclOnOffCluster.ATTR_ONOFF).getLastValue());
+
+        // Clusters have their own state, but share the definitions
+        ZclOnOffCluster otherCluster = new ZclOnOffCluster(endpoint);
+        assertNull(otherCluster.getAttribute(ZclOnOffCluster.ATTR_ONOFF).getLastValue());
+        assertNull(otherCluster.getAttribute(0x1234));
+        assertEquals(5, otherCluster.getAttributes().size());
+
+        // Iterating the attributes does not create them
+        for (ZclAttribute definedAttribute : cluster.getAttributes()) {
+            if (definedAttribute.getId() == ZclOnOffCluster.ATTR_ONOFF) {
+                assertTrue(attribute == definedAttribute);
+            } else {
+                assertNull(definedAttribute.getLastValue());
+            }
+        }
+        assertEquals(1, cluster.getDao().getAttributes().size());
+    }
+
+    @Test
+    public void commandFactories() {
+        createEndpoint();
+
+        for (ZclClusterType clusterType : ZclClusterType.values()) {
+            ZclCluster cluster = clusterType.instantiateCluster(endpoint);
+            assertNotNull(cluster);
+            assertEquals(clusterType.getClusterClass(), cluster.getClass());
+            assertEquals(clusterType.getId(), (int) cluster.getClusterId());
+
+            for (Entry<Integer, Class<? extends ZclCommand>> entry : cluster.serverCommands.entrySet()) {
+                assertEquals(entry.getValue(),
+                        cluster.getResponseFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, entry.getKey()).getClass());
+            }
+            for (Entry<Integer, Class<? extends ZclCommand>> entry : cluster.clientCommands.entrySet()) {
+                assertEquals(entry.getValue(),
+                        cluster.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, entry.getKey()).getClass());
+            }
+        }
+
+        ZclCluster cluster = new ZclOnOffCluster(endpoint);
+        for (Entry<Integer, Class<? extends ZclCommand>> entry : ZclCluster.genericCommands.entrySet()) {
+            assertEquals(entry.getValue(),
+                    cluster.getCommandFromId(ZclFrameType.ENTIRE_PROFILE_COMMAND, entry.getKey()).getClass());
+            assertEquals(entry.getValue(),
+                    cluster.getResponseFromId(ZclFrameType.ENTIRE_PROFILE_COMMAND, entry.getKey()).getClass());
+        }
+        assertNull(cluster.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 0x00FF));
+        assertNull(cluster.getCommandFromId(ZclFrameType.ENTIRE_PROFILE_COMMAND, 0x00FF));
     }
 }
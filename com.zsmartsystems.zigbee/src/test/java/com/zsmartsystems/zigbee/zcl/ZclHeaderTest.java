@@ -10,6 +10,7 @@ package com.zsmartsystems.zigbee.zcl;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -83,5 +84,13 @@ public class ZclHeaderTest extends CommandTest {
         DefaultSerializer serializer = new DefaultSerializer();
         ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(serializer);
         assertTrue(Arrays.equals(packet, zclHeader.serialize(fieldSerializer, new int[] {})));
+
+        ByteBuffer frame = zclHeader.serialize(fieldSerializer, ByteBuffer.wrap(new byte[] { 0x01, (byte) 0xF0 }));
+        assertEquals(7, frame.remaining());
+        for (int value : packet) {
+            assertEquals(value, frame.get() & 0xFF);
+        }
+        assertEquals(0x01, frame.get());
+        assertEquals((byte) 0xF0, frame.get());
     }
 }
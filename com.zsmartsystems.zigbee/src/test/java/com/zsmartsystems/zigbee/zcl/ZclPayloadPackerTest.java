@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2016-2019 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesResponse;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.field.ReadAttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
+import com.zsmartsystems.zigbee.zcl.field.WriteAttributeStatusRecord;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZclPayloadPackerTest {
+    @Test
+    public void getMaxPayloadLength() {
+        assertEquals(79, ZclPayloadPacker.getMaxPayloadLength(0, false, false));
+        assertEquals(70, ZclPayloadPacker.getMaxPayloadLength(0, true, false));
+        assertEquals(77, ZclPayloadPacker.getMaxPayloadLength(0, false, true));
+        assertEquals(71, ZclPayloadPacker.getMaxPayloadLength(82, false, false));
+        assertEquals(79, ZclPayloadPacker.getMaxPayloadLength(127, false, false));
+    }
+
+    @Test
+    public void getLengths() {
+        assertEquals(1, ZclPayloadPacker.getDataLength(ZclDataType.BOOLEAN));
+        assertEquals(4, ZclPayloadPacker.getDataLength(ZclDataType.UTCTIME));
+        assertEquals(8, ZclPayloadPacker.getDataLength(ZclDataType.IEEE_ADDRESS));
+        assertEquals(-1, ZclPayloadPacker.getDataLength(ZclDataType.CHARACTER_STRING));
+
+        assertEquals(6, ZclPayloadPacker.getReadRecordLength(ZclDataType.UNSIGNED_16_BIT_INTEGER));
+        assertEquals(37, ZclPayloadPacker.getReadRecordLength(ZclDataType.CHARACTER_STRING));
+
+        WriteAttributeRecord write = new WriteAttributeRecord();
+        write.setAttributeIdentifier(1);
+        write.setAttributeDataType(ZclDataType.UNSIGNED_32_BIT_INTEGER);
+        write.setAttributeValue(1234);
+        assertEquals(7, ZclPayloadPacker.getRecordLength(write, 79));
+    }
+
+    @Test
+    public void pack() {
+        List<Integer> records = Arrays.asList(1, 2, 3, 4, 5);
+        List<List<Integer>> groups = ZclPayloadPacker.pack(records, new int[] { 30, 30, 30, 100, 10 }, 79);
+        assertEquals(4, groups.size());
+        assertEquals(Arrays.asList(1, 2), groups.get(0));
+        assertEquals(Arrays.asList(3), groups.get(1));
+        // A record longer than the maximum is sent on its own
+        assertEquals(Arrays.asList(4), groups.get(2));
+        assertEquals(Arrays.asList(5), groups.get(3));
+
+        groups = ZclPayloadPacker.pack(Collections.<Integer> emptyList(), new int[] {}, 79);
+        assertEquals(1, groups.size());
+        assertTrue(groups.get(0).isEmpty());
+    }
+
+    @Test
+    public void mergeReadResults() {
+        List<ReadAttributesCommand> commands = new ArrayList<>();
+        commands.add(createReadCommand(1));
+        commands.add(createReadCommand(2));
+        commands.add(createReadCommand(3));
+
+        List<CommandResult> results = new ArrayList<>();
+        results.add(new CommandResult(createReadResponse(1)));
+        results.add(new CommandResult(createReadResponse(2)));
+        results.add(new CommandResult(createReadResponse(3)));
+
+        CommandResult result = ZclPayloadPacker.mergeReadResults(commands, results);
+        assertTrue(result.isSuccess());
+        ReadAttributesResponse response = result.getResponse();
+        assertEquals(3, response.getRecords().size());
+        assertEquals(3, ((ReadAttributesResponse) ZclPayloadPacker.getReadResult(response, 3).getResponse())
+                .getRecords().get(0).getAttributeIdentifier());
+
+        // If all commands fail, the first result is returned
+        results.clear();
+        CommandResult timeout = new CommandResult();
+        results.add(timeout);
+        results.add(new CommandResult());
+        assertEquals(timeout, ZclPayloadPacker.mergeReadResults(commands, results));
+    }
+
+    @Test
+    public void mergeReadResultsPartialFailure() {
+        List<ReadAttributesCommand> commands = new ArrayList<>();
+        commands.add(createReadCommand(1));
+        commands.add(createReadCommand(2, 4));
+        commands.add(createReadCommand(3));
+
+        List<CommandResult> results = new ArrayList<>();
+        results.add(new CommandResult(createReadResponse(1)));
+        results.add(new CommandResult());
+        results.add(new CommandResult(createReadResponse(3)));
+
+        // Attributes in a failed command are reported as failed
+        CommandResult result = ZclPayloadPacker.mergeReadResults(commands, results);
+        assertTrue(result.isSuccess());
+        ReadAttributesResponse response = result.getResponse();
+        assertEquals(4, response.getRecords().size());
+        assertEquals(1, response.getRecords().get(0).getAttributeIdentifier());
+        assertEquals(ZclStatus.SUCCESS, response.getRecords().get(0).getStatus());
+        assertEquals(2, response.getRecords().get(1).getAttributeIdentifier());
+        assertEquals(ZclStatus.FAILURE, response.getRecords().get(1).getStatus());
+        assertEquals(4, response.getRecords().get(2).getAttributeIdentifier());
+        assertEquals(ZclStatus.FAILURE, response.getRecords().get(2).getStatus());
+        assertEquals(3, response.getRecords().get(3).getAttributeIdentifier());
+        assertEquals(ZclStatus.SUCCESS, response.getRecords().get(3).getStatus());
+
+        ReadAttributesResponse single = ZclPayloadPacker.getReadResult(response, 4).getResponse();
+        assertEquals(1, single.getRecords().size());
+        assertEquals(ZclStatus.FAILURE, single.getRecords().get(0).getStatus());
+    }
+
+    @Test
+    public void mergeWriteResults() {
+        List<WriteAttributesCommand> commands = new ArrayList<>();
+        commands.add(createWriteCommand(1));
+        commands.add(createWriteCommand(2));
+
+        List<CommandResult> results = new ArrayList<>();
+        results.add(new CommandResult(createWriteResponse()));
+        results.add(new CommandResult(createWriteResponse()));
+
+        // All successful writes result in a single success record
+        WriteAttributesResponse response = ZclPayloadPacker.mergeWriteResults(commands, results).getResponse();
+        assertEquals(1, response.getRecords().size());
+        assertEquals(ZclStatus.SUCCESS.getId(), response.getRecords().get(0).getStatus());
+
+        // Attributes in a failed command are reported as failed
+        results.set(1, new CommandResult());
+        response = ZclPayloadPacker.mergeWriteResults(commands, results).getResponse();
+        assertEquals(1, response.getRecords().size());
+        assertEquals(2, response.getRecords().get(0).getAttributeIdentifier());
+        assertEquals(ZclStatus.FAILURE.getId(), response.getRecords().get(0).getStatus());
+    }
+
+    @Test
+    public void mergeReportingResults() {
+        List<ConfigureReportingCommand> commands = new ArrayList<>();
+        commands.add(createReportingCommand(1));
+        commands.add(createReportingCommand(2));
+
+        ConfigureReportingResponse success = new ConfigureReportingResponse();
+        success.setStatus(ZclStatus.SUCCESS);
+        ConfigureReportingResponse failure = new ConfigureReportingResponse();
+        AttributeStatusRecord record = new AttributeStatusRecord();
+        record.setAttributeIdentifier(2);
+        record.setStatus(ZclStatus.UNREPORTABLE_ATTRIBUTE);
+        failure.setRecords(Collections.singletonList(record));
+
+        List<CommandResult> results = new ArrayList<>();
+        results.add(new CommandResult(success));
+        results.add(new CommandResult(success));
+        ConfigureReportingResponse response = ZclPayloadPacker.mergeReportingResults(commands, results).getResponse();
+        assertEquals(ZclStatus.SUCCESS, response.getStatus());
+        assertNull(response.getRecords());
+
+        results.set(1, new CommandResult(failure));
+        response = ZclPayloadPacker.mergeReportingResults(commands, results).getResponse();
+        assertNull(response.getStatus());
+        assertEquals(1, response.getRecords().size());
+        assertEquals(ZclStatus.UNREPORTABLE_ATTRIBUTE, response.getRecords().get(0).getStatus());
+    }
+
+    private ReadAttributesResponse createReadResponse(int attributeId) {
+        ReadAttributeStatusRecord record = new ReadAttributeStatusRecord();
+        record.setAttributeIdentifier(attributeId);
+        record.setStatus(ZclStatus.SUCCESS);
+        record.setAttributeDataType(ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        record.setAttributeValue(attributeId);
+        ReadAttributesResponse response = new ReadAttributesResponse();
+        response.setRecords(Collections.singletonList(record));
+        return response;
+    }
+
+    private ReadAttributesCommand createReadCommand(Integer... attributeIds) {
+        ReadAttributesCommand command = new ReadAttributesCommand();
+        command.setIdentifiers(Arrays.asList(attributeIds));
+        return command;
+    }
+
+    private WriteAttributesCommand createWriteCommand(int attributeId) {
+        WriteAttributeRecord record = new WriteAttributeRecord();
+        record.setAttributeIdentifier(attributeId);
+        record.setAttributeDataType(ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        record.setAttributeValue(1);
+        WriteAttributesCommand command = new WriteAttributesCommand();
+        command.setRecords(Collections.singletonList(record));
+        return command;
+    }
+
+    private WriteAttributesResponse createWriteResponse() {
+        WriteAttributeStatusRecord record = new WriteAttributeStatusRecord();
+        record.setStatus(ZclStatus.SUCCESS.getId());
+        WriteAttributesResponse response = new WriteAttributesResponse();
+        response.setRecords(Collections.singletonList(record));
+        return response;
+    }
+
+    private ConfigureReportingCommand createReportingCommand(int attributeId) {
+        AttributeReportingConfigurationRecord record = new AttributeReportingConfigurationRecord();
+        record.setAttributeIdentifier(attributeId);
+        record.setAttributeDataType(ZclDataType.BOOLEAN);
+        ConfigureReportingCommand command = new ConfigureReportingCommand();
+        command.setRecords(Collections.singletonList(record));
+        return command;
+    }
+}